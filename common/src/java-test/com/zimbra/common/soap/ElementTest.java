@@ -103,6 +103,51 @@ public class ElementTest {
         Assert.assertFalse("Sensitive values have not been masked\n" + elementStr, elementStr.contains("secret"));
     }
 
+    @Test
+    public void streamingElementXml() throws Exception {
+        streamingElement(Element.XMLElement.mFactory);
+    }
+
+    @Test
+    public void streamingElementJson() throws Exception {
+        streamingElement(Element.JSONElement.mFactory);
+    }
+
+    private void streamingElement(ElementFactory factory) throws Exception {
+        Element expected = factory.createElement("SearchResponse").addAttribute("sortBy", "dateDesc");
+        for (int i = 1; i <= 3; i++) {
+            expected.addNonUniqueElement("m").addAttribute("id", i).addNonUniqueElement("su").setText("subject " + i);
+        }
+        expected.addAttribute("more", false);
+
+        final int[] closed = new int[1];
+        Element streamed = factory.createElement("SearchResponse").addAttribute("sortBy", "dateDesc");
+        streamed.addNonUniqueElement(new Element.StreamingElement(factory, "m", new Element.StreamingElement.Producer() {
+            @Override
+            public void produce(Element.StreamingElement.Sink sink) throws IOException {
+                for (int i = 1; i <= 3; i++) {
+                    sink.getParent().addNonUniqueElement("m").addAttribute("id", i)
+                        .addNonUniqueElement("su").setText("subject " + i);
+                    sink.flush();
+                }
+            }
+
+            @Override
+            public void close() {
+                closed[0]++;
+            }
+        }));
+        streamed.addAttribute("more", false);
+
+        Assert.assertFalse("pretty-printing must not run the producer",
+                streamed.prettyPrint().contains("subject"));
+        Assert.assertEquals(0, closed[0]);
+        Assert.assertEquals(expected.toString(), streamed.toString());
+        Assert.assertEquals(1, closed[0]);
+        streamed.destroy();
+        Assert.assertEquals(1, closed[0]);
+    }
+
     @Test
     public void jsonNamespace() throws Exception {
         Element json = Element.parseJSON("{ \"purge\": [{}] }");
@@ -0,0 +1,64 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.common.stats;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void buckets() {
+        Histogram h = new Histogram("test", 1, 10, 100);
+        Assert.assertEquals(Arrays.asList("test_le_1", "test_le_10", "test_le_100", "test_gt_100"), h.getNames());
+
+        h.add(0);
+        h.add(1);
+        h.add(5);
+        h.add(10);
+        h.add(100);
+        h.add(101);
+        h.add(100000);
+        Assert.assertEquals(2, h.getCount(0));
+        Assert.assertEquals(2, h.getCount(1));
+        Assert.assertEquals(1, h.getCount(2));
+        Assert.assertEquals(2, h.getCount(3));
+        Assert.assertEquals(7, h.getCount());
+    }
+
+    @Test
+    public void reset() {
+        Histogram h = new Histogram("test", 10);
+        h.add(1);
+        h.add(20);
+        Assert.assertEquals(Arrays.<Object>asList(1L, 1L), h.getData());
+
+        h.reset();
+        Assert.assertEquals(Arrays.<Object>asList(0L, 0L), h.getData());
+
+        h.add(5);
+        Assert.assertEquals(Arrays.<Object>asList(1L, 0L), h.getData());
+        Assert.assertEquals(2, h.getCount(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unorderedBounds() {
+        new Histogram("test", 10, 5);
+    }
+}
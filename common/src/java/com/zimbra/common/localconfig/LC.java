@@ -151,6 +151,17 @@ public final class LC {
     public static final KnownKey zimbra_store_copy_buffer_size_kb = KnownKey.newKey(16); // KB
     public static final KnownKey zimbra_nio_file_copy_chunk_size_kb = KnownKey.newKey(512); // KB
     public static final KnownKey zimbra_blob_input_stream_buffer_size_kb = KnownKey.newKey(1); // KB
+    // send untransformed blob content straight from the volume file when the output allows it;
+    // blobs smaller than the minimum are cheaper to copy through the read buffer
+    public static final KnownKey zimbra_blob_zero_copy_enabled = KnownKey.newKey(true);
+    public static final KnownKey zimbra_blob_zero_copy_min_size_kb = KnownKey.newKey(16); // KB
+    // content per frame of blobs written with the "frame" codec; reads inflate whole frames
+    public static final KnownKey zimbra_blob_frame_size_kb = KnownKey.newKey(64); // KB
+    // defaults for MigrateBlobsRequest; a bandwidth of 0 means unlimited
+    public static final KnownKey zimbra_blob_migrate_min_age = KnownKey.newKey("30d");
+    public static final KnownKey zimbra_blob_migrate_threads = KnownKey.newKey(2);
+    public static final KnownKey zimbra_blob_migrate_bandwidth_kb = KnownKey.newKey(0); // KB/s
+    public static final KnownKey zimbra_blob_migrate_batch_size = KnownKey.newKey(100);
 
     @Supported
     public static final KnownKey zimbra_mailbox_manager_hardref_cache = KnownKey.newKey(2500);
@@ -175,6 +186,11 @@ public final class LC {
 
     public static final KnownKey zimbra_mailbox_lock_readwrite = KnownKey.newKey(true);
 
+    // write item metadata in the compact encoding; set to false to keep writing BEncoding, e.g. while servers that
+    // can't read the compact encoding still share the database or memcached
+    @Reloadable
+    public static final KnownKey metadata_compact_encoding = KnownKey.newKey(true);
+
     @Supported
     public static final KnownKey zimbra_index_threads = KnownKey.newKey(10);
 
@@ -196,6 +212,11 @@ public final class LC {
     @Supported
     public static final KnownKey zimbra_index_reader_cache_ttl = KnownKey.newKey(300);
 
+    // refresh cached index searchers from the open index writer instead of reopening the index directory
+    public static final KnownKey zimbra_index_nrt_enabled = KnownKey.newKey(false);
+    // upper bound (ms) on how long uncommitted index changes may stay invisible to searches in NRT mode
+    public static final KnownKey zimbra_index_nrt_refresh_millis = KnownKey.newKey(1000);
+
     @Supported
     public static final KnownKey zimbra_index_deferred_items_failure_delay = KnownKey.newKey(300);
 
@@ -301,6 +322,17 @@ public final class LC {
     public static final KnownKey soap_response_chunked_transfer_encoding_enabled = KnownKey.newKey(true);
     public static final KnownKey zimbra_servlet_output_stream_buffer_size = KnownKey.newKey(5120);
 
+    // let handlers such as Search write large result sets to the response as they are encoded instead of building
+    // the whole response first; requires chunked transfer encoding
+    @Reloadable
+    public static final KnownKey soap_response_streaming_enabled = KnownKey.newKey(false);
+    // minimum number of hits for Search to stream its response
+    @Reloadable
+    public static final KnownKey soap_response_streaming_min_hits = KnownKey.newKey(200);
+    // gzip chunked SOAP responses for clients that send "Accept-Encoding: gzip"
+    @Reloadable
+    public static final KnownKey soap_response_gzip_enabled = KnownKey.newKey(false);
+
     public static final KnownKey rest_response_cache_control_value = KnownKey.newKey("no-store, no-cache");
 
     @Reloadable
@@ -696,6 +728,12 @@ public final class LC {
     public static final KnownKey imap_throttle_acct_limit = KnownKey.newKey(5000);
     public static final KnownKey imap_throttle_command_limit = KnownKey.newKey(25);
     public static final KnownKey imap_throttle_fetch = KnownKey.newKey(true);
+    // DEFLATE level (1-9) used once a client issues COMPRESS
+    public static final KnownKey imap_compress_level = KnownKey.newKey(6);
+    // BODY/BODYSTRUCTURE/ENVELOPE responses remembered per blob digest so FETCH need not re-parse the message
+    public static final KnownKey imap_structure_cache_enabled = KnownKey.newKey(true);
+    public static final KnownKey imap_structure_cache_heap_size = KnownKey.newKey(32 * 1024 * 1024);
+    public static final KnownKey imap_structure_cache_max_disk_size = KnownKey.newKey(2L * 1024 * 1024 * 1024);
     public static final KnownKey data_source_imap_reuse_connections = KnownKey.newKey(false);
 
     @Supported
@@ -814,6 +852,12 @@ public final class LC {
     public static final KnownKey search_disable_database_hints = KnownKey.newKey(false);
     public static final KnownKey search_dbfirst_term_percentage_cutoff = KnownKey.newKey(0.8F);
     public static final KnownKey search_tagged_item_count_join_query_cutoff = KnownKey.newKey(1000); //beyond this limit server will not use join in the query while fetching unread items
+    // threads fetching search results from other servers in the background, 0 fetches them on the request thread
+    public static final KnownKey search_remote_query_threads = KnownKey.newKey(20);
+    // how long a search waits for a page of results from another server before going on without them, 0 waits forever
+    public static final KnownKey search_remote_query_timeout_ms = KnownKey.newKey(30 * 1000);
+    // hits a re-sorted (task, read or localized name) search keeps in memory, deeper pages are sorted on disk
+    public static final KnownKey search_resort_max_buffered_hits = KnownKey.newKey(10000);
 
     public static final KnownKey zmstat_interval = KnownKey.newKey(30);
     public static final KnownKey zmstat_disk_interval = KnownKey.newKey(600);
@@ -832,6 +876,8 @@ public final class LC {
     public static final KnownKey zimbra_active_waitset_timeout_minutes = KnownKey.newKey(20);
 
     public static final KnownKey zimbra_waitset_max_per_account = KnownKey.newKey(5);
+    // commits an all-accounts waitset buffers for its consumer before it falls back to the redo log
+    public static final KnownKey zimbra_waitset_all_accounts_commit_buffer = KnownKey.newKey(4096);
     public static final KnownKey zmdisklog_warn_threshold = KnownKey.newKey(85);
     public static final KnownKey zmdisklog_critical_threshold = KnownKey.newKey(95);
 
@@ -912,8 +958,17 @@ public final class LC {
     public static final KnownKey yauth_baseuri = KnownKey.newKey("https://login.yahoo.com/WSLogin/V1");
 
     public static final KnownKey purge_initial_sleep_ms = KnownKey.newKey(30 * Constants.MILLIS_PER_MINUTE);
+    // number of mailboxes purged at the same time
+    public static final KnownKey purge_threads = KnownKey.newKey(1);
+    // limit on items purged per second across all purge threads; 0 means no limit
+    public static final KnownKey purge_max_items_per_second = KnownKey.newKey(0);
+    // how long the oldest Trash/Junk dates used to order mailboxes are reused before they're queried again
+    public static final KnownKey purge_priority_refresh_ms = KnownKey.newKey(6 * Constants.MILLIS_PER_HOUR);
 
     public static final KnownKey conversation_max_age_ms = KnownKey.newKey(31 * Constants.MILLIS_PER_DAY);
+    // let the threader skip open_conversation lookups for hashes a per-mailbox Bloom filter has never seen;
+    // always off for always-on clusters, where other servers write to the same mailbox
+    public static final KnownKey conversation_hash_filter_enabled = KnownKey.newKey(true);
     public static final KnownKey tombstone_max_age_ms = KnownKey.newKey(3 * Constants.MILLIS_PER_MONTH);
 
     public static final KnownKey autoprov_initial_sleep_ms = KnownKey.newKey(5 * Constants.MILLIS_PER_MINUTE);
@@ -1057,6 +1112,10 @@ public final class LC {
     @Supported
     public static final KnownKey contact_ranking_enabled = KnownKey.newKey(true);
 
+    // mailboxes with more contacts than this are auto-completed with index searches only, 0 disables the
+    // in-memory auto-complete index
+    public static final KnownKey contact_autocomplete_index_max_contacts = KnownKey.newKey(10000);
+
 
     public static final KnownKey jdbc_results_streaming_enabled = KnownKey.newKey(true);
 
@@ -1065,11 +1124,16 @@ public final class LC {
     public static final KnownKey freebusy_exchange_cn2 = KnownKey.newKey(null);
     public static final KnownKey freebusy_exchange_cn3 = KnownKey.newKey(null);
     public static final KnownKey freebusy_disable_nodata_status = KnownKey.newKey(false);
+    // number of threads used to compute free/busy of local mailboxes in a multi-user query; 0 computes them in turn
+    public static final KnownKey freebusy_local_query_threads = KnownKey.newKey(4);
 
     public static final KnownKey notes_enabled = KnownKey.newKey(false);
 
     public static final KnownKey zimbra_lmtp_validate_messages = KnownKey.newKey(true);
     public static final KnownKey zimbra_lmtp_max_line_length = KnownKey.newKey(10240);
+    // number of threads used to deliver a message to many local mailboxes at once; 0 delivers sequentially
+    public static final KnownKey zimbra_lmtp_parallel_delivery_threads = KnownKey.newKey(0);
+    public static final KnownKey zimbra_lmtp_parallel_delivery_min_recipients = KnownKey.newKey(10);
 
     public static final KnownKey data_source_scheduling_enabled = KnownKey.newKey(true);
     public static final KnownKey data_source_eas_sync_email = KnownKey.newKey(true);
@@ -1102,6 +1166,11 @@ public final class LC {
     public static final KnownKey zimbra_slow_logging_threshold = KnownKey.newKey(5000);
 
     public static final KnownKey smtp_host_retry_millis = KnownKey.newKey(60000);
+    // reuse connected SMTP transports across sends to the same MTA
+    public static final KnownKey smtp_transport_pool_enabled = KnownKey.newKey(true);
+    public static final KnownKey smtp_transport_pool_max_per_host = KnownKey.newKey(8);
+    public static final KnownKey smtp_transport_pool_idle_timeout_millis = KnownKey.newKey(30000);
+    public static final KnownKey smtp_transport_pool_borrow_timeout_millis = KnownKey.newKey(5000);
     public static final KnownKey smtp_to_lmtp_enabled = KnownKey.newKey(false);
     public static final KnownKey smtp_to_lmtp_port = KnownKey.newKey(7024);
 
@@ -1463,6 +1532,16 @@ public final class LC {
     @Supported
     public static final KnownKey delivery_report_enabled = KnownKey.newKey(true);
 
+    // maximum heap retained by the message cache; 0 means 5% of the maximum heap size
+    public static final KnownKey zimbra_message_cache_max_bytes = KnownKey.newKey(0);
+
+    // fsync the redo log as soon as the previous fsync completes instead of every zimbraRedoLogFsyncIntervalMS
+    public static final KnownKey redolog_group_commit_enabled = KnownKey.newKey(false);
+
+    // threads redoing uncommitted ops during startup crash recovery; 0 means one per processor
+    public static final KnownKey redolog_crash_recovery_threads = KnownKey.newKey(0);
+    public static final KnownKey redolog_crash_recovery_queue_capacity = KnownKey.newKey(100);
+
     static {
         // Automatically set the key name with the variable name.
         for (Field field : LC.class.getFields()) {
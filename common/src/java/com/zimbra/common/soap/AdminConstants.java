@@ -208,6 +208,8 @@ public final class AdminConstants {
     public static final String E_EXPORT_AND_DELETE_ITEMS_RESPONSE = "ExportAndDeleteItemsResponse";
     public static final String E_DEDUPE_BLOBS_REQUEST = "DedupeBlobsRequest";
     public static final String E_DEDUPE_BLOBS_RESPONSE = "DedupeBlobsResponse";
+    public static final String E_MIGRATE_BLOBS_REQUEST = "MigrateBlobsRequest";
+    public static final String E_MIGRATE_BLOBS_RESPONSE = "MigrateBlobsResponse";
     public static final String E_GET_ALL_ACTIVE_SERVERS_REQUEST = "GetAllActiveServersRequest";
     public static final String E_GET_ALL_ACTIVE_SERVERS_RESPONSE = "GetAllActiveServersResponse";
     public static final String E_SET_SERVER_OFFLINE_REQUEST = "SetServerOfflineRequest";
@@ -720,6 +722,8 @@ public final class AdminConstants {
     public static final QName EXPORT_AND_DELETE_ITEMS_RESPONSE = QName.get(E_EXPORT_AND_DELETE_ITEMS_RESPONSE, NAMESPACE);
     public static final QName DEDUPE_BLOBS_REQUEST = QName.get(E_DEDUPE_BLOBS_REQUEST, NAMESPACE);
     public static final QName DEDUPE_BLOBS_RESPONSE = QName.get(E_DEDUPE_BLOBS_RESPONSE, NAMESPACE);
+    public static final QName MIGRATE_BLOBS_REQUEST = QName.get(E_MIGRATE_BLOBS_REQUEST, NAMESPACE);
+    public static final QName MIGRATE_BLOBS_RESPONSE = QName.get(E_MIGRATE_BLOBS_RESPONSE, NAMESPACE);
     public static final QName GET_ALL_ACTIVE_SERVERS_REQUEST = QName.get(E_GET_ALL_ACTIVE_SERVERS_REQUEST, NAMESPACE);
     public static final QName GET_ALL_ACTIVE_SERVERS_RESPONSE = QName.get(E_GET_ALL_ACTIVE_SERVERS_RESPONSE, NAMESPACE);
 
@@ -1293,6 +1297,7 @@ public final class AdminConstants {
     public static final String A_VOLUME_FBITS = "fbits";
     public static final String A_VOLUME_COMPRESS_BLOBS = "compressBlobs";
     public static final String A_VOLUME_COMPRESSION_THRESHOLD = "compressionThreshold";
+    public static final String A_VOLUME_BLOB_CODEC = "blobCodec";
     public static final String A_VOLUME_IS_CURRENT = "isCurrent";
 
     // Blob consistency check
@@ -1376,6 +1381,13 @@ public final class AdminConstants {
     public static final String A_PROGRESS = "progress";
     public static final String E_VOLUME_BLOBS_PROGRESS = "volumeBlobsProgress";
     public static final String E_BLOB_DIGESTS_PROGRESS = "blobDigestsProgress";
+    public static final String E_MIGRATE_PROGRESS = "migrateProgress";
+    public static final String A_SOURCE_VOLUME_ID = "sourceVolumeId";
+    public static final String A_DEST_VOLUME_ID = "destVolumeId";
+    public static final String A_MIN_AGE = "minAge";
+    public static final String A_NUM_THREADS = "numThreads";
+    public static final String A_BANDWIDTH = "bandwidth";
+    public static final String A_SKIPPED_COUNT = "skippedCount";
     // index stats
     public static final String A_MAX_DOCS = "maxDocs";
     public static final String A_DELETED_DOCS = "deletedDocs";
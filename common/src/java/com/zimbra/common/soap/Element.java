@@ -16,6 +16,7 @@
  */
 package com.zimbra.common.soap;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -823,8 +824,18 @@ public abstract class Element implements Cloneable {
 
         @Override
         public void destroy() {
-            // Assumption - Only FileBackedElement children of XMLElement
-            // need special action from destroy(), so, we're done here.
+            // Only StreamingElement descendants need special action from destroy()
+            for (Object value : mAttributes.values()) {
+                if (value instanceof Element) {
+                    ((Element) value).destroy();
+                } else if (value instanceof List<?>) {
+                    for (Object child : (List<?>) value) {
+                        if (child instanceof Element) {
+                            ((Element) child).destroy();
+                        }
+                    }
+                }
+            }
         }
 
         public JSONElement(QName qname) {
@@ -944,9 +955,18 @@ public abstract class Element implements Cloneable {
             } else if (elt.mParent != null) {
                 throw new ContainerException("element already has a parent");
             }
-            assert(elt instanceof JSONElement);
             String name = elt.getName();
             Object obj = mAttributes.get(name);
+            if (elt instanceof StreamingElement) {
+                // streamed children are serialized as the whole array for their name
+                if (obj != null) {
+                    throw new ContainerException("already stored element or attribute with name: " + name);
+                }
+                mAttributes.put(name, elt);
+                elt.mParent = this;
+                return elt;
+            }
+            assert(elt instanceof JSONElement);
             if (obj instanceof Element) {
                 throw new ContainerException("already stored element as unique: " + name);
             } else if (obj != null && !(obj instanceof List)) {
@@ -1484,6 +1504,8 @@ public abstract class Element implements Cloneable {
                         ((JSONElement) value).marshal(out, indent, safe);
                     } else if (value instanceof FileBackedElement) {
                         ((FileBackedElement) value).marshal(out);
+                    } else if (value instanceof StreamingElement) {
+                        ((StreamingElement) value).marshal(out, indent, safe);
                     } else if (value instanceof Element) {
                         out.append('"').append(StringUtil.jsEncode(value)).append('"');
                     } else if (!(value instanceof List<?>)) {
@@ -1655,7 +1677,7 @@ public abstract class Element implements Cloneable {
                         "cannot add children to element containing text - <" +
                         this.getName() + ">, trying to add <" + elt.getName() + ">");
             }
-            assert(elt instanceof XMLElement || elt instanceof FileBackedElement);
+            assert(elt instanceof XMLElement || elt instanceof FileBackedElement || elt instanceof StreamingElement);
             if (mChildren == null) {
                 mChildren = new ArrayList<Element>();
             }
@@ -1996,6 +2018,8 @@ public abstract class Element implements Cloneable {
                             ((XMLElement) child).marshal(out, indent < 0 ? -1 : indent + INDENT_SIZE, safe);
                         } else if (child instanceof FileBackedElement) {
                             child.marshal(out);
+                        } else if (child instanceof StreamingElement) {
+                            ((StreamingElement) child).marshal(out, indent < 0 ? -1 : indent + INDENT_SIZE, safe);
                         } else {
                             out.append(xmlEncode(child.toString(), false));
                         }
@@ -2176,6 +2200,288 @@ public abstract class Element implements Cloneable {
         }
     }
 
+    /**
+     * Write-only {@link Element} whose children are generated while the enclosing document is being serialized,
+     * rather than being built up front.  Use this for responses with a very large number of homogeneous children
+     * (e.g. search hits) so that only one child needs to be held in memory at a time.
+     * <p>
+     * The {@link Producer} adds children named {@link #getName()} to the parent returned by
+     * {@link Sink#getParent()} and calls {@link Sink#flush()} to write them out and release them.  The producer is
+     * run at most once, the first time the element is marshalled in compact form; pretty-printing (as done for
+     * logging) emits a placeholder instead.  {@link #destroy()} closes the producer.
+     * <p>
+     * Errors raised by the producer surface as an {@link IOException} from {@link #marshal(Appendable)}; by then
+     * part of the response has usually been sent, so a SOAP fault can no longer be returned.
+     */
+    public static final class StreamingElement extends Element {
+        public interface Producer extends Closeable {
+            void produce(Sink sink) throws IOException, ServiceException;
+        }
+
+        public interface Sink {
+            /** Returns the element the producer should add children to. */
+            Element getParent();
+
+            /** Writes out the children added to {@link #getParent()} since the last flush and discards them. */
+            void flush() throws IOException;
+        }
+
+        private final ElementFactory factory;
+        private final Producer producer;
+        private boolean produced = false;
+        private boolean closed = false;
+
+        public StreamingElement(ElementFactory factory, String name, Producer producer) {
+            this.factory = factory;
+            this.mName = name;
+            this.producer = producer;
+        }
+
+        @Override
+        public synchronized void destroy() {
+            if (!closed) {
+                closed = true;
+                try {
+                    producer.close();
+                } catch (IOException e) {
+                    ZimbraLog.soap.warn("error closing streaming element producer <%s>", mName, e);
+                }
+            }
+        }
+
+        @Override
+        public ElementFactory getFactory() {
+            return factory;
+        }
+
+        @Override
+        public Element addNonUniqueElement(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Element addNonUniqueElement(QName qname) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Element addNonUniqueElement(Element elt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Element setText(String content) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Element addAttribute(String key, String value, Disposition disp) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public KeyValuePair addKeyValuePair(String key, String value, String eltname, String attrname) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Element clone() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Element getOptionalElement(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<Attribute> listAttributes() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Element> listElements(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean hasChildren() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<KeyValuePair> listKeyValuePairs(String eltname, String attrname) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getText() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        String getRawText() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getAttribute(String key, String defaultValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String prettyPrint() {
+            return prettyPrint(false);
+        }
+
+        @Override
+        public String prettyPrint(boolean safe) {
+            StringBuilder sb = new StringBuilder();
+            try {
+                marshal(sb, 0, safe);
+            } catch (IOException e) {
+                // should really not happen with the StringBuilder impl of Appendable, just log it
+                ZimbraLog.soap.error("Caught IOException: ", e);
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public void marshal(Appendable out) throws IOException {
+            marshal(out, -1, false);
+        }
+
+        void marshal(Appendable out, int indent, boolean safe) throws IOException {
+            boolean json = factory == JSONElement.mFactory;
+            if (indent >= 0) {
+                // pretty-printing is only done for logging; don't run the producer for it
+                if (json) {
+                    out.append("\"(streamed)\"");
+                } else {
+                    indent(out, indent, indent > 0);
+                    out.append("<!-- streamed <").append(mName).append("> elements -->");
+                }
+                return;
+            }
+            synchronized (this) {
+                if (produced || closed) {
+                    throw new IOException("streaming element <" + mName + "> has already been serialized");
+                }
+                produced = true;
+            }
+            try {
+                if (json) {
+                    JSONSink sink = new JSONSink(out, safe);
+                    out.append('[');
+                    producer.produce(sink);
+                    sink.flush();
+                    out.append(']');
+                    sink.finish();
+                } else {
+                    XMLSink sink = new XMLSink(out, safe);
+                    producer.produce(sink);
+                    sink.flush();
+                }
+            } catch (ServiceException e) {
+                throw new IOException("error producing streaming element <" + mName + ">", e);
+            } finally {
+                destroy();
+            }
+        }
+
+        private final class XMLSink implements Sink {
+            private final Appendable out;
+            private final boolean safe;
+            private final XMLElement parent;
+
+            XMLSink(Appendable out, boolean safe) {
+                this.out = out;
+                this.safe = safe;
+                this.parent = new XMLElement(mName);
+                // resolve namespace declarations against the real parent
+                this.parent.mParent = StreamingElement.this.mParent;
+            }
+
+            @Override
+            public Element getParent() {
+                return parent;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (parent.mChildren == null) {
+                    return;
+                }
+                for (Element child : parent.mChildren) {
+                    if (child instanceof XMLElement) {
+                        ((XMLElement) child).marshal(out, -1, safe);
+                    } else if (child instanceof FileBackedElement) {
+                        child.marshal(out);
+                    } else {
+                        out.append(parent.xmlEncode(child.toString(), false));
+                    }
+                    child.destroy();
+                }
+                parent.mChildren = null;
+            }
+        }
+
+        private final class JSONSink implements Sink {
+            private final Appendable out;
+            private final boolean safe;
+            private final JSONElement parent;
+            private boolean first = true;
+
+            JSONSink(Appendable out, boolean safe) {
+                this.out = out;
+                this.safe = safe;
+                this.parent = new JSONElement(mName);
+                this.parent.mParent = StreamingElement.this.mParent;
+            }
+
+            @Override
+            public Element getParent() {
+                return parent;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                Object value = parent.mAttributes.get(mName);
+                if (!(value instanceof List<?>)) {
+                    return;
+                }
+                for (Object child : (List<?>) value) {
+                    if (!first) {
+                        out.append(',');
+                    }
+                    first = false;
+                    ((JSONElement) child).marshal(out, -1, safe);
+                }
+                ((List<?>) value).clear();
+            }
+
+            /** JSON groups children by name, so any children with a different name than the streaming element
+             *  have been held back; write them out as sibling arrays after the streamed one. */
+            void finish() throws IOException {
+                for (Map.Entry<String, Object> entry : parent.mAttributes.entrySet()) {
+                    if (entry.getKey().equals(mName) || !(entry.getValue() instanceof List<?>)) {
+                        continue;
+                    }
+                    out.append(",\"").append(StringUtil.jsEncode(entry.getKey())).append("\":[");
+                    boolean firstChild = true;
+                    for (Object child : (List<?>) entry.getValue()) {
+                        if (!firstChild) {
+                            out.append(',');
+                        }
+                        firstChild = false;
+                        ((JSONElement) child).marshal(out, -1, safe);
+                    }
+                    out.append(']');
+                }
+            }
+        }
+    }
+
     public static void main(String[] args) throws ContainerException, SoapParseException {
         System.out.println(Element.parseJSON("{ 'a':'b'}").getAttribute("a", null));
         System.out.println(Element.parseJSON("{ '_attrs' : {'a':'b'}}").getAttribute("a", null));
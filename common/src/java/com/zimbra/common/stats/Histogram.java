@@ -0,0 +1,118 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.common.stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts recorded values in fixed buckets.  Each bucket is identified by its
+ * inclusive upper bound; values larger than the last bound fall into an
+ * overflow bucket.  As an {@link Accumulator}, it reports the number of values
+ * that landed in each bucket since the last call to {@link #reset}.
+ */
+public class Histogram implements Accumulator {
+
+    private final long[] mBounds;
+    private final AtomicLongArray mCounts;
+    private final long[] mLastCounts;
+    private final List<String> mNames;
+
+    /**
+     * @param name prefix of the stat names, e.g. <tt>redo_fsync_us</tt> yields
+     * <tt>redo_fsync_us_le_100</tt>, ..., <tt>redo_fsync_us_gt_1000</tt>
+     * @param bounds inclusive bucket upper bounds, in ascending order
+     */
+    public Histogram(String name, long... bounds) {
+        if (bounds == null || bounds.length == 0) {
+            throw new IllegalArgumentException("bounds cannot be null or empty");
+        }
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1]) {
+                throw new IllegalArgumentException("bounds must be in ascending order");
+            }
+        }
+        mBounds = bounds.clone();
+        mCounts = new AtomicLongArray(bounds.length + 1);
+        mLastCounts = new long[bounds.length + 1];
+        List<String> names = new ArrayList<String>(bounds.length + 1);
+        for (long bound : bounds) {
+            names.add(name + "_le_" + bound);
+        }
+        names.add(name + "_gt_" + bounds[bounds.length - 1]);
+        mNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Records a single value.
+     */
+    public void add(long value) {
+        int idx = Arrays.binarySearch(mBounds, value);
+        mCounts.incrementAndGet(idx >= 0 ? idx : -idx - 1);
+    }
+
+    /**
+     * Returns the number of buckets, including the overflow bucket.
+     */
+    public int getBucketCount() {
+        return mCounts.length();
+    }
+
+    /**
+     * Returns the total number of values recorded in the given bucket.
+     */
+    public long getCount(int bucket) {
+        return mCounts.get(bucket);
+    }
+
+    /**
+     * Returns the total number of values recorded in all buckets.
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < mCounts.length(); i++) {
+            total += mCounts.get(i);
+        }
+        return total;
+    }
+
+    ////////////// Accumulator implementation ///////////////////
+
+    @Override
+    public List<String> getNames() {
+        return mNames;
+    }
+
+    @Override
+    public synchronized List<Object> getData() {
+        List<Object> data = new ArrayList<Object>(mLastCounts.length);
+        for (int i = 0; i < mLastCounts.length; i++) {
+            data.add(mCounts.get(i) - mLastCounts[i]);
+        }
+        return data;
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (int i = 0; i < mLastCounts.length; i++) {
+            mLastCounts[i] = mCounts.get(i);
+        }
+    }
+}
@@ -809,6 +809,32 @@ public final class ZimbraLog {
         sContextString.remove();
     }
 
+    /**
+     * Returns a copy of the current thread's logging context, which can be handed to
+     * {@link #setContext} to restore it later or to carry it over to another thread.
+     */
+    public static Map<String, String> getContext() {
+        Map<String, String> contextMap = sContextMap.get();
+        if (contextMap == null) {
+            return new LinkedHashMap<String, String>();
+        }
+        return new LinkedHashMap<String, String>(contextMap);
+    }
+
+    /**
+     * Replaces the current thread's logging context with a copy of <tt>context</tt>.
+     */
+    public static void setContext(Map<String, String> context) {
+        Map<String, String> contextMap = sContextMap.get();
+        if (contextMap == null) {
+            contextMap = new LinkedHashMap<String, String>();
+            sContextMap.set(contextMap);
+        }
+        contextMap.clear();
+        contextMap.putAll(context);
+        updateContextString();
+    }
+
     public static String getStackTrace(int maxDepth) {
         // Thread.currentThread().getStackTrace() would seem cleaner but bizarrely is slower.
         StackTraceElement[] stElems = new Throwable().getStackTrace();
@@ -17,6 +17,7 @@
 package com.zimbra.common.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 import javax.servlet.ServletOutputStream;
 
@@ -62,7 +63,7 @@ import com.zimbra.common.localconfig.LC;
 public class ZimbraServletOutputStream implements Appendable {
 
     private static final int BUFFER_SIZE = LC.zimbra_servlet_output_stream_buffer_size.intValueWithinRange(512, 20480);
-    ServletOutputStream mOut;
+    OutputStream mOut;
     
     // buffer to avoid frequent toString().getBytes()
     StringBuilder mBuffer = new StringBuilder(BUFFER_SIZE);
@@ -70,6 +71,11 @@ public class ZimbraServletOutputStream implements Appendable {
     public ZimbraServletOutputStream(ServletOutputStream out) {
         mOut = out;
     }
+
+    /** Wraps an arbitrary stream layered over the servlet output stream, e.g. a gzip stream. */
+    public ZimbraServletOutputStream(OutputStream out) {
+        mOut = out;
+    }
     
     public Appendable append(CharSequence csq) throws IOException {
         append(csq, 0, csq.length());
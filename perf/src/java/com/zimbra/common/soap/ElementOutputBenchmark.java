@@ -0,0 +1,103 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.common.soap;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.common.soap.Element.Disposition;
+
+/**
+ * Serializing and parsing a {@code SearchResponse} sized like a page of the web client's message list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ElementOutputBenchmark {
+
+    public enum Format {
+        XML(SoapProtocol.Soap12), JSON(SoapProtocol.SoapJS);
+
+        final SoapProtocol proto;
+
+        Format(SoapProtocol proto) {
+            this.proto = proto;
+        }
+    }
+
+    @Param({"XML", "JSON"})
+    public Format format;
+
+    @Param({"100", "1000"})
+    public int hits;
+
+    private Element response;
+    private String serialized;
+
+    @Setup
+    public void setUp() throws ServiceException {
+        response = Element.create(format.proto, MailConstants.SEARCH_RESPONSE);
+        response.addAttribute(MailConstants.A_SORTBY, "dateDesc");
+        response.addAttribute(MailConstants.A_QUERY_OFFSET, 0);
+        response.addAttribute(MailConstants.A_QUERY_MORE, true);
+        for (int i = 0; i < hits; i++) {
+            Element m = response.addNonUniqueElement(MailConstants.E_MSG);
+            m.addAttribute(MailConstants.A_ID, 1000 + i);
+            m.addAttribute(MailConstants.A_CONV_ID, -(1000 + i));
+            m.addAttribute(MailConstants.A_FOLDER, "2");
+            m.addAttribute(MailConstants.A_FLAGS, i % 3 == 0 ? "ua" : "");
+            m.addAttribute(MailConstants.A_SIZE, 4096 + i);
+            m.addAttribute(MailConstants.A_DATE, 1602692120000L + i * 60000L);
+            Element e = m.addNonUniqueElement(MailConstants.E_EMAIL);
+            e.addAttribute(MailConstants.A_ADDRESS, "sender" + i + "@example.com");
+            e.addAttribute(MailConstants.A_DISPLAY, "Sender");
+            e.addAttribute(MailConstants.A_PERSONAL, "Sender " + i + " \"Quoted\" & <Co>");
+            e.addAttribute(MailConstants.A_ADDRESS_TYPE, "f");
+            m.addAttribute(MailConstants.E_SUBJECT, "Re: meeting notes #" + i, Disposition.CONTENT);
+            m.addAttribute(MailConstants.E_FRAG, "Here are the notes from this morning's meeting, along with", Disposition.CONTENT);
+        }
+        serialized = response.toString();
+    }
+
+    @Benchmark
+    public String toStringOutput() {
+        return response.toString();
+    }
+
+    @Benchmark
+    public int output() throws IOException {
+        StringBuilder sb = new StringBuilder(serialized.length());
+        response.output(sb);
+        return sb.length();
+    }
+
+    @Benchmark
+    public Element parse() throws ServiceException, IOException {
+        return format == Format.XML ? Element.parseXML(serialized) : Element.parseJSON(serialized);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.common.zmime;
+
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.util.SharedByteArrayInputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.zimbra.perf.MessageFixtures;
+
+/**
+ * Parsing raw messages into a {@link ZMimeMessage} tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ZMimeParserBenchmark {
+
+    @Param({"PLAIN", "MULTIPART"})
+    public MessageFixtures.Shape shape;
+
+    @Param({"200", "20000"})
+    public int bodyWords;
+
+    private Session session;
+    private byte[] raw;
+
+    @Setup
+    public void setUp() {
+        session = Session.getInstance(new Properties());
+        raw = MessageFixtures.message(shape, bodyWords);
+    }
+
+    @Benchmark
+    public ZMimeMessage parse() throws IOException {
+        return ZMimeParser.parse(session, new SharedByteArrayInputStream(raw));
+    }
+
+    /** Parse, then walk the part tree the way indexing and BODYSTRUCTURE generation do. */
+    @Benchmark
+    public int parseAndWalk() throws IOException, MessagingException {
+        ZMimeMessage mm = ZMimeParser.parse(session, new SharedByteArrayInputStream(raw));
+        return count(mm.getContent());
+    }
+
+    private static int count(Object content) throws IOException, MessagingException {
+        if (!(content instanceof ZMimeMultipart)) {
+            return 1;
+        }
+        ZMimeMultipart multi = (ZMimeMultipart) content;
+        int parts = 1;
+        for (int i = 0; i < multi.getCount(); i++) {
+            ZMimeBodyPart part = (ZMimeBodyPart) multi.getBodyPart(i);
+            parts += part.isMimeType("multipart/*") ? count(part.getContent()) : 1;
+        }
+        return parts;
+    }
+}
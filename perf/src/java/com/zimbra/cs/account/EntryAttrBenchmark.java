@@ -0,0 +1,105 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.account;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+
+/**
+ * Generated attribute getters on an account, such as the quota check on every delivery, against the by-name
+ * {@link Entry} getters they used to call.  The value is either set on the account or inherited from its COS.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntryAttrBenchmark {
+
+    @Param({"ACCOUNT", "COS"})
+    public String source;
+
+    private Account account;
+
+    @Setup
+    public void setUp() throws Exception {
+        MailboxTestUtil.initProvisioning();
+        Map<String, Object> values = new HashMap<String, Object>();
+        values.put(Provisioning.A_zimbraMailQuota, "10G");
+        values.put(Provisioning.A_zimbraFeatureCalendarEnabled, "TRUE");
+        values.put(Provisioning.A_zimbraMailTrashLifetime, "30d");
+        values.put(Provisioning.A_zimbraContactMaxNumEntries, "10000");
+
+        Map<String, Object> cosAttrs = new HashMap<String, Object>();
+        Map<String, Object> accountAttrs = new HashMap<String, Object>();
+        (source.equals("COS") ? cosAttrs : accountAttrs).putAll(values);
+        Cos cos = Provisioning.getInstance().createCos("perf", cosAttrs);
+        account = new Account("perf@zimbra.com", "perf@zimbra.com", accountAttrs, cos.getAccountDefaults(),
+                Provisioning.getInstance());
+    }
+
+    @Benchmark
+    public long longAttr() {
+        return account.getMailQuota();
+    }
+
+    @Benchmark
+    public long longAttrByName() {
+        return account.getLongAttr(Provisioning.A_zimbraMailQuota, 0L, true);
+    }
+
+    @Benchmark
+    public boolean booleanAttr() {
+        return account.isFeatureCalendarEnabled();
+    }
+
+    @Benchmark
+    public boolean booleanAttrByName() {
+        return account.getBooleanAttr(Provisioning.A_zimbraFeatureCalendarEnabled, false, true);
+    }
+
+    @Benchmark
+    public long timeInterval() {
+        return account.getMailTrashLifetime();
+    }
+
+    @Benchmark
+    public long timeIntervalByName() {
+        return account.getTimeInterval(Provisioning.A_zimbraMailTrashLifetime, 2592000000L, true);
+    }
+
+    @Benchmark
+    public int intAttr() {
+        return account.getContactMaxNumEntries();
+    }
+
+    @Benchmark
+    public int intAttrByName() {
+        return account.getIntAttr(Provisioning.A_zimbraContactMaxNumEntries, 10000, true);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.imap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.cs.account.Account;
+import com.zimbra.cs.account.Provisioning;
+import com.zimbra.cs.mailbox.DeliveryOptions;
+import com.zimbra.cs.mailbox.Flag;
+import com.zimbra.cs.mailbox.Mailbox;
+import com.zimbra.cs.mailbox.MailboxManager;
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+import com.zimbra.cs.mime.ParsedMessage;
+import com.zimbra.cs.server.ServerThrottle;
+import com.zimbra.perf.MessageFixtures;
+
+/**
+ * Rendering FETCH responses for a selected folder, from the cached ImapMessage data alone (FLAGS) up to
+ * responses that need the MIME structure of every message (BODYSTRUCTURE, ENVELOPE).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImapFetchBenchmark {
+
+    public enum Items {
+        FLAGS(ImapHandler.FETCH_FLAGS | ImapHandler.FETCH_UID),
+        FAST(ImapHandler.FETCH_FAST | ImapHandler.FETCH_UID),
+        ENVELOPE(ImapHandler.FETCH_ENVELOPE | ImapHandler.FETCH_UID),
+        /** the message list fetch of a typical desktop client: FLAGS, size and a handful of headers */
+        HEADERS(ImapHandler.FETCH_FLAGS | ImapHandler.FETCH_RFC822_SIZE | ImapHandler.FETCH_UID),
+        BODYSTRUCTURE(ImapHandler.FETCH_BODYSTRUCTURE | ImapHandler.FETCH_UID),
+        FULL(ImapHandler.FETCH_FULL | ImapHandler.FETCH_UID);
+
+        final int attributes;
+
+        Items(int attributes) {
+            this.attributes = attributes;
+        }
+    }
+
+    private static final String ACCOUNT = "perf@zimbra.com";
+
+    @Param({"FLAGS", "FAST", "ENVELOPE", "HEADERS", "BODYSTRUCTURE", "FULL"})
+    public Items items;
+
+    @Param({"500"})
+    public int messages;
+
+    private MockImapHandler handler;
+    private List<ImapPartSpecifier> parts;
+
+    @Setup
+    public void setUp() throws Exception {
+        LC.imap_use_ehcache.setDefault(false);
+        MailboxTestUtil.initServer();
+        String[] hosts = {"localhost", "127.0.0.1"};
+        ServerThrottle.configureThrottle(new ImapConfig(false).getProtocol(), 100, 100,
+                Arrays.asList(hosts), Arrays.asList(hosts));
+
+        Map<String, Object> attrs = new HashMap<String, Object>();
+        attrs.put(Provisioning.A_zimbraId, "e2a3c1f4-6a8d-4b8e-9f4e-3c0d1b2a7f65");
+        Account acct = Provisioning.getInstance().createAccount(ACCOUNT, "secret", attrs);
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccount(acct);
+        DeliveryOptions dopt = new DeliveryOptions().setFolderId(Mailbox.ID_FOLDER_INBOX).setFlags(Flag.BITMASK_UNREAD);
+        for (int i = 0; i < messages; i++) {
+            MessageFixtures.Shape shape = i % 4 == 0 ? MessageFixtures.Shape.MULTIPART : MessageFixtures.Shape.PLAIN;
+            mbox.addMessage(null, new ParsedMessage(MessageFixtures.message(shape, 200, i), false), dopt, null);
+        }
+
+        handler = new MockImapHandler();
+        ImapCredentials creds = new ImapCredentials(acct, ImapCredentials.EnabledHack.NONE);
+        handler.setCredentials(creds);
+        handler.setSelectedFolder(new ImapPath(null, mbox.getFolderById(null, Mailbox.ID_FOLDER_INBOX), creds), (byte) 0);
+        if (items == Items.HEADERS) {
+            parts = Arrays.asList(new ImapPartSpecifier("BODY", "", "HEADER.FIELDS").setHeaders(
+                    Arrays.asList("FROM", "TO", "CC", "SUBJECT", "DATE", "MESSAGE-ID", "CONTENT-TYPE")));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        handler.setSelectedFolder(null, (byte) 0);
+        MailboxTestUtil.clearData();
+    }
+
+    @Benchmark
+    public int fetch() throws Exception {
+        ByteArrayOutputStream out = (ByteArrayOutputStream) handler.output;
+        out.reset();
+        handler.doFETCH("A001", "1:*", items.attributes, parts, false, -1);
+        return out.size();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.index.analysis;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.zimbra.perf.MessageFixtures;
+
+/**
+ * Tokenizing message bodies, the bulk of the CPU cost of indexing a message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniversalTokenizerBenchmark {
+
+    public enum Text {
+        /** plain English prose */
+        LATIN,
+        /** prose mixed with email addresses, host names, numbers and CJK runs */
+        MIXED
+    }
+
+    @Param({"LATIN", "MIXED"})
+    public Text text;
+
+    @Param({"2000"})
+    public int words;
+
+    private String content;
+    private UniversalAnalyzer analyzer;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(words);
+        if (text == Text.LATIN) {
+            content = MessageFixtures.words(rnd, words);
+        } else {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < words / 10; i++) {
+                sb.append(MessageFixtures.words(rnd, 6));
+                sb.append(" user").append(i).append("@example.com mail").append(i).append(".example.org ");
+                sb.append(rnd.nextInt(100000)).append(" AT&T O'Reilly ");
+                sb.append("会議の議事録 ");
+            }
+            content = sb.toString();
+        }
+        analyzer = new UniversalAnalyzer();
+    }
+
+    @Benchmark
+    public int tokenizer() throws IOException {
+        return drain(new UniversalTokenizer(new StringReader(content)));
+    }
+
+    /** The tokenizer behind the normalization and stop word filters, as the index writer sees it. */
+    @Benchmark
+    public int analyzer() throws IOException {
+        return drain(analyzer.reusableTokenStream("l.content", new StringReader(content)));
+    }
+
+    private static int drain(TokenStream stream) throws IOException {
+        CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+        int length = 0;
+        stream.reset();
+        while (stream.incrementToken()) {
+            length += term.length();
+        }
+        stream.end();
+        return length;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.mailbox;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.cs.account.Account;
+import com.zimbra.cs.account.Provisioning;
+
+/**
+ * Many request threads looking up mailboxes at once, the way SOAP, IMAP and LMTP threads do: lookups of mailboxes
+ * that are already loaded, and a cold start where the threads race to load the same mailboxes from the database.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MailboxManagerBenchmark {
+
+    @Param({"2000"})
+    public int mailboxes;
+
+    /** size of the hard reference tier; smaller than {@link #mailboxes} keeps it churning */
+    @Param({"100", "5000"})
+    public int hardRefs;
+
+    private int[] ids;
+    private String[] accountIds;
+    private MailboxManager mgr;
+
+    @Setup
+    public void setUp() throws Exception {
+        MailboxTestUtil.initServer();
+        LC.zimbra_mailbox_manager_hardref_cache.setDefault(hardRefs);
+        ids = new int[mailboxes];
+        accountIds = new String[mailboxes];
+        for (int i = 0; i < mailboxes; i++) {
+            Map<String, Object> attrs = new HashMap<String, Object>();
+            accountIds[i] = String.format("%08x-0000-4000-8000-%012x", i, i);
+            attrs.put(Provisioning.A_zimbraId, accountIds[i]);
+            Account acct = Provisioning.getInstance().createAccount("perf" + i + "@zimbra.com", "secret", attrs);
+            ids[i] = MailboxManager.getInstance().getMailboxByAccount(acct).getId();
+        }
+        mgr = new MailboxManager();
+        for (int id : ids) {
+            mgr.getMailboxById(id);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        MailboxTestUtil.clearData();
+    }
+
+    /** A manager that knows every mailbox but has none of them loaded, fresh for each iteration. */
+    @State(Scope.Benchmark)
+    public static class Cold {
+        MailboxManager mgr;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws Exception {
+            mgr = new MailboxManager();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Threads(16)
+    public Mailbox get() throws Exception {
+        return mgr.getMailboxById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Threads(16)
+    public Mailbox getByAccountId() throws Exception {
+        return mgr.getMailboxByAccountId(accountIds[ThreadLocalRandom.current().nextInt(accountIds.length)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Threads(16)
+    public int coldStart(Cold cold) throws Exception {
+        // every thread walks all mailboxes from its own offset, so most loads are requested by several threads
+        int start = ThreadLocalRandom.current().nextInt(ids.length);
+        int total = 0;
+        for (int i = 0; i < ids.length; i++) {
+            total += cold.mgr.getMailboxById(ids[(start + i) % ids.length]).getId();
+        }
+        return total;
+    }
+}
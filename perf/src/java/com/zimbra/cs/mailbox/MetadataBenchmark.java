@@ -0,0 +1,226 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.mailbox;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.common.util.BEncoding;
+import com.zimbra.common.util.BEncoding.BEncodingException;
+
+/**
+ * Encoding and decoding of item {@link Metadata}, which happens on every item load and every item write, in the
+ * BEncoded and the {@link CompactMetadata} forms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MetadataBenchmark {
+
+    @Param({"MESSAGE", "CONTACT", "CALENDAR_ITEM"})
+    public String item;
+
+    @Param({"BENCODE", "COMPACT"})
+    public String encoding;
+
+    private Metadata meta;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        switch (item) {
+            case "MESSAGE":
+                meta = message();
+                break;
+            case "CONTACT":
+                meta = contact();
+                break;
+            case "CALENDAR_ITEM":
+                meta = calendarItem();
+                break;
+            default:
+                throw new IllegalArgumentException(item);
+        }
+        LC.metadata_compact_encoding.setDefault(encoding.equals("COMPACT"));
+        encoded = meta.toString();
+    }
+
+    private static Metadata message() {
+        Metadata meta = new Metadata();
+        meta.put(Metadata.FN_METADATA_VERSION, 10);
+        meta.put(Metadata.FN_VERSION, 1);
+        meta.put(Metadata.FN_SENDER, "Jane Doe <jane.doe@example.com>");
+        meta.put(Metadata.FN_RECIPIENTS, "John Smith <john.smith@example.com>, team@example.com");
+        meta.put(Metadata.FN_FRAGMENT, "Here are the notes from this morning's meeting, along with the action items we");
+        meta.put(Metadata.FN_RAW_SUBJ, "Re: Meeting notes \u2013 quarterly planning");
+        meta.put(Metadata.FN_MIME_TYPE, "multipart/alternative");
+        Metadata draft = new Metadata();
+        draft.put(Metadata.FN_REPLY_ORIG, "7a3bd82c-0d54-4c1b-9d4e-1b51d43c3a7f:257");
+        draft.put(Metadata.FN_REPLY_TYPE, "r");
+        meta.put(Metadata.FN_DRAFT, draft);
+        MetadataList replies = new MetadataList();
+        for (int i = 0; i < 5; i++) {
+            replies.add(1000L + i);
+        }
+        meta.put(Metadata.FN_REPLY_LIST, replies);
+        return meta;
+    }
+
+    private static Metadata contact() {
+        Metadata fields = new Metadata();
+        fields.put("firstName", "Jane");
+        fields.put("lastName", "Doe");
+        fields.put("fullName", "Jane Doe");
+        fields.put("fileAs", "1");
+        fields.put("email", "jane.doe@example.com");
+        fields.put("email2", "jane@example.org");
+        fields.put("company", "Example Corp");
+        fields.put("jobTitle", "Director of Engineering");
+        fields.put("department", "Engineering");
+        fields.put("workPhone", "+1 555 0100");
+        fields.put("mobilePhone", "+1 555 0101");
+        fields.put("homePhone", "+1 555 0102");
+        fields.put("workStreet", "100 Main Street");
+        fields.put("workCity", "Springfield");
+        fields.put("workState", "IL");
+        fields.put("workPostalCode", "62701");
+        fields.put("workCountry", "United States");
+        fields.put("homeStreet", "42 Elm Street");
+        fields.put("homeCity", "Springfield");
+        fields.put("homePostalCode", "62702");
+        fields.put("birthday", "1980-04-01");
+        fields.put("notes", "Met at the regional conference, interested in the quarterly planning process");
+        Metadata meta = new Metadata();
+        meta.put(Metadata.FN_METADATA_VERSION, 10);
+        meta.put(Metadata.FN_VERSION, 3);
+        meta.put(Metadata.FN_FIELDS, fields);
+        return meta;
+    }
+
+    private static Metadata calendarItem() {
+        Metadata tz = new Metadata();
+        tz.put("tzid", "America/New_York");
+        tz.put("so", -300);
+        tz.put("do", -240);
+        tz.put("d2ss", "1;2;0;3;2;0");
+        tz.put("s2ds", "1;1;0;11;2;0");
+        Metadata tzmap = new Metadata();
+        tzmap.put("America/New_York", tz);
+
+        MetadataList invites = new MetadataList();
+        for (int i = 0; i < 3; i++) {
+            Metadata inv = new Metadata();
+            inv.put("uid", "9a1c2e7d-5f4b-4a8e-b0c3-2d6f1e8a7b90");
+            inv.put("mthd", "REQUEST");
+            inv.put("seq", i);
+            inv.put("status", "CONF");
+            inv.put("fb", "B");
+            inv.put("tr", "O");
+            inv.put("n", "Quarterly planning");
+            inv.put("l", "Conference room 4");
+            inv.put("dts", "20261020T150000");
+            inv.put("et", "20261020T160000");
+            inv.put("comp", 0);
+            inv.put("mid", 1200 + i);
+            inv.put("org", new Metadata().put("a", "jane.doe@example.com").put("cn", "Jane Doe"));
+            inv.put("numAt", 5);
+            for (int a = 0; a < 5; a++) {
+                Metadata at = new Metadata();
+                at.put("a", "attendee" + a + "@example.com");
+                at.put("cn", "Attendee " + a);
+                at.put("r", "REQ");
+                at.put("ptst", "NE");
+                at.put("rsvp", true);
+                inv.put("at" + a, at);
+            }
+            Metadata alarm = new Metadata();
+            alarm.put("ac", "DISPLAY");
+            alarm.put("tt", "r");
+            alarm.put("tr", "-PT15M");
+            alarm.put("de", "Reminder");
+            inv.put("numAl", 1);
+            inv.put("al0", alarm);
+            invites.add(inv);
+        }
+
+        Metadata meta = new Metadata();
+        meta.put(Metadata.FN_METADATA_VERSION, 10);
+        meta.put(Metadata.FN_VERSION, 2);
+        meta.put(Metadata.FN_UID, "9a1c2e7d-5f4b-4a8e-b0c3-2d6f1e8a7b90");
+        meta.put(Metadata.FN_CALITEM_START, 1792509200000L);
+        meta.put(Metadata.FN_CALITEM_END, 1792512800000L);
+        meta.put(Metadata.FN_TZMAP, tzmap);
+        meta.put(Metadata.FN_INV, invites);
+        return meta;
+    }
+
+    @Benchmark
+    public String encode() {
+        return meta.toString();
+    }
+
+    @Benchmark
+    public Metadata decode() throws ServiceException {
+        return new Metadata(encoded);
+    }
+
+    /** decode and read every value, so that nested maps decoded lazily are counted */
+    @Benchmark
+    public int decodeAll() throws ServiceException {
+        return count(new Metadata(encoded).map);
+    }
+
+    @Benchmark
+    public Object decodeRaw() throws ServiceException, BEncodingException {
+        if (encoding.equals("COMPACT")) {
+            return CompactMetadata.decode(encoded);
+        }
+        return BEncoding.decode(encoded);
+    }
+
+    @Benchmark
+    public String roundTrip() throws ServiceException {
+        return new Metadata(encoded).toString();
+    }
+
+    private static int count(Object value) {
+        int count = 1;
+        if (value instanceof Map) {
+            for (Object child : ((Map<?, ?>) value).values()) {
+                count += count(child);
+            }
+        } else if (value instanceof List) {
+            for (Object child : (List<?>) value) {
+                count += count(child);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.mailbox;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.cs.account.Account;
+import com.zimbra.cs.account.Provisioning;
+import com.zimbra.cs.mime.ParsedMessage;
+import com.zimbra.perf.MessageFixtures;
+
+/**
+ * Conversation lookups for incoming mail, in a mailbox that already has a few thousand open conversations: list
+ * traffic whose references match nothing, and a duplicate of a message already in the mailbox. The database is the
+ * in-memory HSQLDB of the unit tests, so the cost of a query is far below that of a MySQL round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ThreaderBenchmark {
+
+    @Param({"true", "false"})
+    public boolean filter;
+
+    @Param({"2000"})
+    public int messages;
+
+    private Mailbox mbox;
+    private ParsedMessage unrelated;
+    private ParsedMessage duplicate;
+
+    @Setup
+    public void setUp() throws Exception {
+        MailboxTestUtil.initServer();
+        LC.conversation_hash_filter_enabled.setDefault(filter);
+        Map<String, Object> attrs = new HashMap<String, Object>();
+        attrs.put(Provisioning.A_zimbraId, "5b1d9c3e-2f4a-4c6b-8d7e-1a2b3c4d5e6f");
+        Account acct = Provisioning.getInstance().createAccount("threader@zimbra.com", "secret", attrs);
+        mbox = MailboxManager.getInstance().getMailboxByAccount(acct);
+        DeliveryOptions dopt = new DeliveryOptions().setFolderId(Mailbox.ID_FOLDER_INBOX);
+        for (int i = 0; i < messages; i++) {
+            mbox.addMessage(null, new ParsedMessage(MessageFixtures.message(MessageFixtures.Shape.PLAIN, 20, i), false),
+                    dopt, null);
+        }
+        unrelated = new ParsedMessage(MessageFixtures.message(MessageFixtures.Shape.PLAIN, 20, messages), false);
+        duplicate = new ParsedMessage(MessageFixtures.message(MessageFixtures.Shape.PLAIN, 20, messages / 2), false);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        MailboxTestUtil.clearData();
+        LC.conversation_hash_filter_enabled.setDefault(true);
+    }
+
+    private List<Conversation> lookup(ParsedMessage pm) throws Exception {
+        pm.getThreader(mbox).reset();
+        return mbox.lookupConversation(pm);
+    }
+
+    @Benchmark
+    public List<Conversation> unrelated() throws Exception {
+        return lookup(unrelated);
+    }
+
+    @Benchmark
+    public List<Conversation> duplicate() throws Exception {
+        return lookup(duplicate);
+    }
+}
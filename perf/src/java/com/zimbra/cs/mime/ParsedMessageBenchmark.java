@@ -0,0 +1,76 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.mime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+import com.zimbra.perf.MessageFixtures;
+
+/**
+ * Analysis of incoming messages: the header parse done for every delivery, and the full analysis that
+ * extracts text and builds the index documents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParsedMessageBenchmark {
+
+    @Param({"PLAIN", "MULTIPART"})
+    public MessageFixtures.Shape shape;
+
+    @Param({"200", "5000"})
+    public int bodyWords;
+
+    private byte[] raw;
+
+    @Setup
+    public void setUp() throws Exception {
+        MailboxTestUtil.initServer();
+        raw = MessageFixtures.message(shape, bodyWords);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        MailboxTestUtil.clearData();
+    }
+
+    @Benchmark
+    public String parse() throws ServiceException {
+        ParsedMessage pm = new ParsedMessage(raw, false);
+        return pm.getFragment(null);
+    }
+
+    @Benchmark
+    public int analyzeFully() throws ServiceException {
+        ParsedMessage pm = new ParsedMessage(raw, true);
+        pm.analyzeFully();
+        return pm.getLuceneDocuments().size();
+    }
+}
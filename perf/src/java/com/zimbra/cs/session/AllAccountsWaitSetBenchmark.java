@@ -0,0 +1,113 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.session;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.zimbra.cs.mailbox.MailItem;
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+
+/**
+ * Many threads committing mailbox changes while all-accounts waitsets are registered, each with a consumer that
+ * keeps a wait outstanding the way a sync client does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("deprecation")
+public class AllAccountsWaitSetBenchmark {
+
+    private static final Set<MailItem.Type> MESSAGES = EnumSet.of(MailItem.Type.MESSAGE);
+
+    @Param({"1", "4"})
+    public int waitsets;
+
+    private AllAccountsWaitSet[] sets;
+    private Thread[] consumers;
+    private volatile boolean running;
+    private final AtomicLong commitIds = new AtomicLong();
+    private String[] accountIds;
+
+    @Setup
+    public void setUp() throws Exception {
+        MailboxTestUtil.initServer();
+        accountIds = new String[1000];
+        for (int i = 0; i < accountIds.length; i++) {
+            accountIds[i] = String.format("%08x-0000-4000-8000-%012x", i, i);
+        }
+        running = true;
+        sets = new AllAccountsWaitSet[waitsets];
+        consumers = new Thread[waitsets];
+        for (int i = 0; i < waitsets; i++) {
+            final AllAccountsWaitSet ws = AllAccountsWaitSet.create("owner", "bench" + i, MESSAGES);
+            sets[i] = ws;
+            consumers[i] = new Thread("consumer-" + i) {
+                @Override
+                public void run() {
+                    String seqNo = "0";
+                    try {
+                        while (running) {
+                            WaitSetCallback cb = new WaitSetCallback();
+                            cb.completedLatch = new CountDownLatch(1);
+                            ws.doWait(cb, seqNo, null, null);
+                            if (cb.completedLatch.await(100, TimeUnit.MILLISECONDS) && cb.seqNo != null) {
+                                seqNo = cb.seqNo;
+                            }
+                        }
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            };
+            consumers[i].setDaemon(true);
+            consumers[i].start();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        running = false;
+        for (int i = 0; i < waitsets; i++) {
+            consumers[i].join();
+            sets[i].destroy();
+        }
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void commit() {
+        AllAccountsWaitSet.mailboxChangeCommitted(Long.toString(commitIds.incrementAndGet()),
+                accountIds[ThreadLocalRandom.current().nextInt(accountIds.length)], MESSAGES);
+    }
+}
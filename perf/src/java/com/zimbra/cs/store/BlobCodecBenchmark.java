@@ -0,0 +1,121 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.store;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.google.common.io.Files;
+import com.zimbra.common.util.ByteUtil;
+import com.zimbra.common.util.FileCache;
+import com.zimbra.common.util.FileUtil;
+import com.zimbra.perf.MessageFixtures;
+
+/**
+ * Blob codecs on a multipart message with a base64 attachment: compressing a blob into a volume, reading
+ * 4KB from a random offset of a blob that isn't open yet (GZIP blobs are spooled to the uncompressed
+ * cache first, framed blobs only inflate the frame), and reading a whole blob.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BlobCodecBenchmark {
+
+    @Param({"none", "gzip", "deflate-1", "deflate-9", "frame"})
+    public String codec;
+
+    @Param({"2000", "60000"})
+    public int bodyWords;
+
+    private BlobCodec blobCodec;
+    private File dir;
+    private File source;
+    private File encoded;
+    private File target;
+    private long rawSize;
+    private Random rnd;
+    private final byte[] buf = new byte[4096];
+
+    @Setup
+    public void setUp() throws Exception {
+        blobCodec = BlobCodec.forName(codec);
+        dir = Files.createTempDir();
+        File uncompressedDir = new File(dir, "uncompressed");
+        FileUtil.ensureDirExists(uncompressedDir);
+        BlobInputStream.setFileDescriptorCache(
+                new FileDescriptorCache(FileCache.Builder.createWithStringKey(uncompressedDir, false).build()));
+
+        byte[] content = MessageFixtures.message(MessageFixtures.Shape.MULTIPART, bodyWords);
+        rawSize = content.length;
+        source = new File(dir, "source.msg");
+        try (FileOutputStream out = new FileOutputStream(source)) {
+            out.write(content);
+        }
+        encoded = new File(dir, "encoded.msg");
+        blobCodec.encode(source, encoded, false);
+        target = new File(dir, "target.msg");
+        rnd = new Random(bodyWords);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BlobInputStream.getFileDescriptorCache().shutdown();
+        BlobInputStream.setFileDescriptorCache(null);
+        FileUtil.deleteDir(dir);
+    }
+
+    @Benchmark
+    public long write() throws IOException {
+        blobCodec.encode(source, target, false);
+        return target.length();
+    }
+
+    @Benchmark
+    public int readRange() throws IOException {
+        BlobInputStream in = new BlobInputStream(encoded, rawSize);
+        try {
+            in.skip(rnd.nextInt((int) rawSize - buf.length));
+            return in.read(buf);
+        } finally {
+            in.closeFile();
+        }
+    }
+
+    @Benchmark
+    public long readAll() throws IOException {
+        BlobInputStream in = new BlobInputStream(encoded, rawSize);
+        try {
+            return ByteUtil.countBytes(in);
+        } finally {
+            in.closeFile();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.store;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.zimbra.common.util.ByteUtil;
+
+/**
+ * Sending a blob to a loopback socket the way a download or an IMAP FETCH does: copied through the
+ * <tt>BlobInputStream</tt> buffer, handed to <tt>FileChannel.transferTo</tt> (NIO IMAP), and written as
+ * mapped regions (Jetty).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BlobTransferBenchmark {
+
+    @Param({"64", "1024", "16384"})
+    public int sizeKb;
+
+    private File file;
+    private ServerSocketChannel server;
+    private SocketChannel client;
+    private OutputStream clientOut;
+    private Thread drainer;
+    private FileRegionSink transferSink;
+    private FileRegionSink mappedSink;
+
+    @Setup
+    public void setUp() throws Exception {
+        BlobInputStream.setFileDescriptorCache(new FileDescriptorCache(null));
+        byte[] content = new byte[sizeKb * 1024];
+        new Random(sizeKb).nextBytes(content);
+        file = File.createTempFile(BlobTransferBenchmark.class.getSimpleName(), ".msg");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(content);
+        }
+
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(server.getLocalAddress());
+        final SocketChannel peer = server.accept();
+        drainer = new Thread("drainer") {
+            @Override
+            public void run() {
+                ByteBuffer buf = ByteBuffer.allocateDirect(256 * 1024);
+                try (SocketChannel in = peer) {
+                    while (in.read(buf) >= 0) {
+                        buf.clear();
+                    }
+                } catch (IOException e) {
+                }
+            }
+        };
+        drainer.setDaemon(true);
+        drainer.start();
+
+        clientOut = Channels.newOutputStream(client);
+        transferSink = new FileRegionSink() {
+            @Override
+            public boolean acceptsFileRegions() {
+                return true;
+            }
+
+            @Override
+            public long write(FileChannel channel, long position, long count) throws IOException {
+                long written = 0;
+                while (written < count) {
+                    written += channel.transferTo(position + written, count - written, client);
+                }
+                return written;
+            }
+        };
+        mappedSink = new FileRegionSink() {
+            @Override
+            public boolean acceptsFileRegions() {
+                return true;
+            }
+
+            @Override
+            public long write(FileChannel channel, long position, long count) throws IOException {
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, count);
+                while (mapped.hasRemaining()) {
+                    client.write(mapped);
+                }
+                return count;
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        client.close();
+        drainer.join();
+        server.close();
+        BlobInputStream.getFileDescriptorCache().shutdown();
+        BlobInputStream.setFileDescriptorCache(null);
+        file.delete();
+    }
+
+    @Benchmark
+    public long copy() throws IOException {
+        return ByteUtil.copy(new BlobInputStream(file, file.length()), true, clientOut, false);
+    }
+
+    @Benchmark
+    public long transferTo() throws IOException {
+        return BlobInputStream.copy(new BlobInputStream(file, file.length()), true, clientOut, transferSink);
+    }
+
+    @Benchmark
+    public long mapped() throws IOException {
+        return BlobInputStream.copy(new BlobInputStream(file, file.length()), true, clientOut, mappedSink);
+    }
+}
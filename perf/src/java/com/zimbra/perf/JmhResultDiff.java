@@ -0,0 +1,121 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.perf;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Compares two JMH result files written with {@code -rf json} and prints the change of every benchmark
+ * present in both.  A change is marked significant when it exceeds the sum of the two runs' error margins.
+ * <p>
+ * Usage: {@code JmhResultDiff <baseline.json> <current.json>}
+ */
+public final class JmhResultDiff {
+
+    private static final class Result {
+        final String mode;
+        final double score;
+        final double error;
+        final String unit;
+
+        Result(JSONObject json) throws JSONException {
+            mode = json.getString("mode");
+            JSONObject metric = json.getJSONObject("primaryMetric");
+            score = metric.getDouble("score");
+            error = metric.optDouble("scoreError", 0.0);
+            unit = metric.getString("scoreUnit");
+        }
+
+        /** Throughput modes report operations per time unit, where a larger score is an improvement. */
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    private JmhResultDiff() {
+    }
+
+    public static void main(String[] args) throws IOException, JSONException {
+        if (args.length != 2) {
+            System.err.println("Usage: " + JmhResultDiff.class.getName() + " <baseline.json> <current.json>");
+            System.exit(1);
+        }
+        Map<String, Result> baseline = load(new File(args[0]));
+        Map<String, Result> current = load(new File(args[1]));
+
+        List<String> missing = new ArrayList<String>();
+        System.out.printf("%-80s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result cur = entry.getValue();
+            Result base = baseline.get(entry.getKey());
+            if (base == null || !base.unit.equals(cur.unit)) {
+                missing.add(entry.getKey());
+                continue;
+            }
+            double change = base.score == 0.0 ? 0.0 : (cur.score - base.score) / base.score * 100.0;
+            String verdict = "";
+            if (Math.abs(cur.score - base.score) > base.error + cur.error) {
+                verdict = (cur.score > base.score) == cur.higherIsBetter() ? "  better" : "  WORSE";
+            }
+            System.out.printf("%-80s %14.3f %14.3f %+8.1f%% %s%s%n", entry.getKey(), base.score, cur.score, change,
+                    cur.unit, verdict);
+        }
+        for (String name : missing) {
+            System.out.println("no comparable baseline: " + name);
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.println("not in current run: " + name);
+            }
+        }
+    }
+
+    /** Results keyed by benchmark name plus its parameters, e.g. {@code ...MetadataBenchmark.decode[customAttrs=50]}. */
+    private static Map<String, Result> load(File file) throws IOException, JSONException {
+        JSONArray results = new JSONArray(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        Map<String, Result> byName = new LinkedHashMap<String, Result>();
+        for (int i = 0; i < results.length(); i++) {
+            JSONObject json = results.getJSONObject(i);
+            StringBuilder name = new StringBuilder(json.getString("benchmark"));
+            JSONObject params = json.optJSONObject("params");
+            if (params != null) {
+                Map<String, String> sorted = new TreeMap<String, String>();
+                for (Iterator<?> it = params.keys(); it.hasNext(); ) {
+                    String key = (String) it.next();
+                    sorted.put(key, params.getString(key));
+                }
+                name.append(sorted.toString().replace('{', '[').replace('}', ']').replace(", ", ","));
+            }
+            byName.put(name.toString(), new Result(json));
+        }
+        return byName;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.perf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+/**
+ * In-memory RFC 822 messages shared by the benchmarks, so that results do not depend on anything on disk.
+ * The content is generated from a fixed seed and is identical from run to run.
+ */
+public final class MessageFixtures {
+
+    public enum Shape {
+        /** a single text/plain part */
+        PLAIN,
+        /** multipart/mixed holding a multipart/alternative text and HTML body and a base64 attachment */
+        MULTIPART
+    }
+
+    private static final String[] WORDS = {
+        "meeting", "quarterly", "planning", "budget", "review", "schedule", "customer", "release", "notes",
+        "action", "items", "follow", "up", "deadline", "project", "status", "update", "draft", "proposal",
+        "team", "office", "travel", "conference", "invoice", "contract", "report", "summary", "agenda"
+    };
+
+    private MessageFixtures() {
+    }
+
+    public static byte[] message(Shape shape, int bodyWords) {
+        return message(shape, bodyWords, 0);
+    }
+
+    /**
+     * @param seq distinguishes messages that are otherwise generated from the same parameters
+     */
+    public static byte[] message(Shape shape, int bodyWords, int seq) {
+        Random rnd = new Random(31L * bodyWords + seq);
+        String text = words(rnd, bodyWords);
+        StringBuilder sb = new StringBuilder(bodyWords * 16 + 2048);
+        sb.append("Return-Path: <jane.doe@example.com>\r\n");
+        sb.append("Received: from mta.example.com (mta.example.com [192.0.2.10])\r\n");
+        sb.append("\tby mail.example.com with ESMTP id 4F1A2B3C4D for <john.smith@example.com>;\r\n");
+        sb.append("\tWed, 14 Oct 2020 09:15:27 -0700 (PDT)\r\n");
+        sb.append("From: Jane Doe <jane.doe@example.com>\r\n");
+        sb.append("To: John Smith <john.smith@example.com>, \"Team\" <team@example.com>\r\n");
+        sb.append("Cc: =?UTF-8?B?SsO8cmdlbiBNw7xsbGVy?= <juergen@example.de>\r\n");
+        sb.append("Subject: Re: ").append(words(rnd, 6)).append(" #").append(seq).append("\r\n");
+        sb.append("Date: Wed, 14 Oct 2020 09:15:20 -0700\r\n");
+        sb.append("Message-ID: <").append(seq).append(".").append(bodyWords).append("@example.com>\r\n");
+        sb.append("In-Reply-To: <parent.").append(seq).append("@example.com>\r\n");
+        sb.append("MIME-Version: 1.0\r\n");
+        if (shape == Shape.PLAIN) {
+            sb.append("Content-Type: text/plain; charset=UTF-8\r\n");
+            sb.append("Content-Transfer-Encoding: 8bit\r\n\r\n");
+            sb.append(text).append("\r\n");
+        } else {
+            sb.append("Content-Type: multipart/mixed; boundary=\"outer-boundary\"\r\n\r\n");
+            sb.append("This is a multi-part message in MIME format.\r\n");
+            sb.append("--outer-boundary\r\n");
+            sb.append("Content-Type: multipart/alternative; boundary=\"inner-boundary\"\r\n\r\n");
+            sb.append("--inner-boundary\r\n");
+            sb.append("Content-Type: text/plain; charset=UTF-8\r\n");
+            sb.append("Content-Transfer-Encoding: quoted-printable\r\n\r\n");
+            sb.append(text).append("\r\n");
+            sb.append("--inner-boundary\r\n");
+            sb.append("Content-Type: text/html; charset=UTF-8\r\n\r\n");
+            sb.append("<html><body><p>").append(text.replace("\r\n", "</p>\r\n<p>")).append("</p></body></html>\r\n");
+            sb.append("--inner-boundary--\r\n");
+            sb.append("--outer-boundary\r\n");
+            sb.append("Content-Type: application/octet-stream; name=\"report.bin\"\r\n");
+            sb.append("Content-Disposition: attachment; filename=\"report.bin\"\r\n");
+            sb.append("Content-Transfer-Encoding: base64\r\n\r\n");
+            byte[] attachment = new byte[bodyWords * 4];
+            rnd.nextBytes(attachment);
+            String b64 = Base64.getMimeEncoder().encodeToString(attachment);
+            sb.append(b64).append("\r\n");
+            sb.append("--outer-boundary--\r\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Space separated words from a small vocabulary, wrapped every twelve words. */
+    public static String words(Random rnd, int count) {
+        StringBuilder sb = new StringBuilder(count * 8);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(i % 12 == 0 ? "\r\n" : " ");
+            }
+            sb.append(WORDS[rnd.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
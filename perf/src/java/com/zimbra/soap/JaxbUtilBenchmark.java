@@ -0,0 +1,81 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.soap;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.common.soap.Element;
+import com.zimbra.common.soap.Element.XMLElement;
+import com.zimbra.soap.account.message.ModifyPrefsRequest;
+import com.zimbra.soap.account.type.Pref;
+
+/**
+ * Converting JAXB objects to and from {@link Element}, directly and through an intermediate DOM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JaxbUtilBenchmark {
+
+    @Param({"10", "200"})
+    public int prefs;
+
+    private ModifyPrefsRequest request;
+    private Element elem;
+
+    @Setup
+    public void setUp() throws ServiceException {
+        request = new ModifyPrefsRequest();
+        for (int i = 0; i < prefs; i++) {
+            request.addPref(new Pref("zimbraPrefCustom" + i, "value <" + i + "> & more"));
+        }
+        elem = JaxbUtil.jaxbToElement(request, XMLElement.mFactory);
+    }
+
+    @Benchmark
+    public Element marshalDirect() throws JAXBException {
+        return JaxbUtil.marshalDirect(JaxbUtil.getContext(), request, XMLElement.mFactory, true);
+    }
+
+    @Benchmark
+    public Element marshalViaDom() throws JAXBException {
+        return JaxbUtil.marshalViaDom(JaxbUtil.getContext(), request, XMLElement.mFactory, true);
+    }
+
+    @Benchmark
+    public ModifyPrefsRequest unmarshalDirect() throws ServiceException {
+        return JaxbUtil.unmarshalDirect(elem, ModifyPrefsRequest.class, true);
+    }
+
+    @Benchmark
+    public ModifyPrefsRequest unmarshalViaDom() throws ServiceException {
+        return JaxbUtil.w3cDomDocToJaxb(elem.toW3cDom(), ModifyPrefsRequest.class, true);
+    }
+}
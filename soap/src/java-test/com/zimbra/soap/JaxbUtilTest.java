@@ -0,0 +1,142 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.soap;
+
+import java.util.Arrays;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.zimbra.common.soap.AccountConstants;
+import com.zimbra.common.soap.AdminConstants;
+import com.zimbra.common.soap.Element;
+import com.zimbra.common.soap.Element.XMLElement;
+import com.zimbra.soap.account.message.AuthRequest;
+import com.zimbra.soap.account.message.ModifyPrefsRequest;
+import com.zimbra.soap.account.type.Pref;
+import com.zimbra.soap.admin.message.CreateAccountRequest;
+import com.zimbra.soap.admin.type.Attr;
+import com.zimbra.soap.type.AccountBy;
+import com.zimbra.soap.type.AccountSelector;
+import com.zimbra.soap.util.ElementXMLStreamWriter;
+
+public class JaxbUtilTest {
+
+    private static ModifyPrefsRequest prefsRequest() {
+        ModifyPrefsRequest req = new ModifyPrefsRequest();
+        req.addPref(new Pref("zimbraPrefSignature", "<b>Tom & Jerry</b> \"quoted\""));
+        req.addPref(new Pref("zimbraPrefSkin", "harmony"));
+        req.addPref(new Pref("zimbraPrefEmpty", ""));
+        return req;
+    }
+
+    @Test
+    public void marshalDirectMatchesDom() throws Exception {
+        for (Object o : new Object[] { prefsRequest(), new CreateAccountRequest("user@example.com", "pass",
+                Arrays.asList(new Attr("displayName", "User < One"), new Attr("sn", "One"))) }) {
+            for (boolean removePrefixes : new boolean[] { true, false }) {
+                Element direct = JaxbUtil.marshalDirect(JaxbUtil.getContext(), o, XMLElement.mFactory, removePrefixes);
+                Element dom = JaxbUtil.marshalViaDom(JaxbUtil.getContext(), o, XMLElement.mFactory, removePrefixes);
+                Assert.assertNotNull("direct marshal of " + o.getClass().getSimpleName(), direct);
+                Assert.assertEquals(dom.prettyPrint(), direct.prettyPrint());
+            }
+        }
+    }
+
+    @Test
+    public void marshalNamedElement() throws Exception {
+        Pref pref = new Pref("zimbraPrefSkin", "harmony");
+        JAXBElement<Pref> jaxbElem = new JAXBElement<Pref>(
+                new QName(AccountConstants.NAMESPACE_STR, "pref"), Pref.class, pref);
+        Element direct = JaxbUtil.marshalDirect(JAXBContext.newInstance(Pref.class), jaxbElem,
+                XMLElement.mFactory, false);
+        Assert.assertEquals("pref", direct.getName());
+        Assert.assertEquals("zimbraPrefSkin", direct.getAttribute(AccountConstants.A_NAME));
+        Assert.assertEquals("harmony", direct.getText());
+    }
+
+    @Test
+    public void writerRejectsMixedContent() throws Exception {
+        ElementXMLStreamWriter writer = new ElementXMLStreamWriter(XMLElement.mFactory, true);
+        writer.writeStartElement("", "p", "");
+        writer.writeCharacters("some text ");
+        try {
+            writer.writeStartElement("", "b", "");
+            Assert.fail("mixed content should not be accepted");
+        } catch (XMLStreamException e) {
+            Assert.assertTrue(writer.isUnsupported());
+        }
+    }
+
+    @Test
+    public void unmarshalDirectRoundTrip() throws Exception {
+        Element elem = JaxbUtil.jaxbToElement(prefsRequest());
+        ModifyPrefsRequest req = JaxbUtil.unmarshalDirect(elem, ModifyPrefsRequest.class, true);
+        Assert.assertNotNull(req);
+        Assert.assertEquals(3, req.getPrefs().size());
+        Assert.assertEquals("<b>Tom & Jerry</b> \"quoted\"", req.getPrefs().get(0).getValue());
+        Assert.assertEquals("harmony", req.getPrefs().get(1).getValue());
+    }
+
+    @Test
+    public void unmarshalDirectAppliesFixups() throws Exception {
+        // password is a JAXB element but sent as an attribute; name/password are JAXB attributes sent as elements
+        Element auth = new XMLElement(AccountConstants.AUTH_REQUEST);
+        auth.addAttribute(AccountConstants.E_PASSWORD, "secret");
+        auth.addNonUniqueElement(AccountConstants.E_ACCOUNT)
+                .addAttribute(AccountConstants.A_BY, AccountBy.name.name()).setText("user@example.com");
+        AuthRequest authReq = JaxbUtil.unmarshalDirect(auth, AuthRequest.class, true);
+        Assert.assertEquals("secret", authReq.getPassword());
+        AccountSelector acct = authReq.getAccount();
+        Assert.assertEquals(AccountBy.name, acct.getBy());
+        Assert.assertEquals("user@example.com", acct.getKey());
+
+        Element create = new XMLElement(AdminConstants.CREATE_ACCOUNT_REQUEST);
+        create.addNonUniqueElement(AdminConstants.E_NAME).setText("user@example.com");
+        create.addNonUniqueElement(AdminConstants.E_PASSWORD).setText("pass");
+        create.addKeyValuePair("displayName", "User One");
+        CreateAccountRequest createReq = JaxbUtil.unmarshalDirect(create, CreateAccountRequest.class, true);
+        Assert.assertEquals("user@example.com", createReq.getName());
+        Assert.assertEquals("pass", createReq.getPassword());
+        Assert.assertEquals(1, createReq.getAttrs().size());
+        Assert.assertEquals("User One", createReq.getAttrs().get(0).getValue());
+
+        CreateAccountRequest viaDom = JaxbUtil.elementToJaxb(create);
+        Assert.assertEquals(createReq.getName(), viaDom.getName());
+        Assert.assertEquals(createReq.getAttrs().get(0).getKey(), viaDom.getAttrs().get(0).getKey());
+    }
+
+    @Test
+    public void unmarshalDirectFallsBack() throws Exception {
+        // not a request the JAXB context knows, so JAXB rejects it and the caller is told to use the DOM
+        Element unknown = new XMLElement(org.dom4j.QName.get("NoSuchRequest", AccountConstants.NAMESPACE));
+        long failures = JaxbUtil.getDirectUnmarshalFailures();
+        Assert.assertNull(JaxbUtil.unmarshalDirect(unknown, AuthRequest.class, true));
+        Assert.assertEquals(failures + 1, JaxbUtil.getDirectUnmarshalFailures());
+
+        // and the thread's unmarshaller is still usable afterwards
+        Element elem = JaxbUtil.jaxbToElement(prefsRequest());
+        Assert.assertNotNull(JaxbUtil.unmarshalDirect(elem, ModifyPrefsRequest.class, true));
+        Assert.assertEquals(failures + 1, JaxbUtil.getDirectUnmarshalFailures());
+    }
+}
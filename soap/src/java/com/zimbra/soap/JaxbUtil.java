@@ -22,6 +22,9 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
@@ -44,7 +47,6 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.zimbra.common.mailbox.BaseItemInfo;
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.soap.AccountConstants;
@@ -63,6 +65,8 @@ import com.zimbra.soap.mail.type.ImapMessageInfo;
 import com.zimbra.soap.mail.type.ModifyNotification;
 import com.zimbra.soap.mail.type.ModifyNotification.ModifyItemNotification;
 import com.zimbra.soap.mail.type.PendingFolderModifications;
+import com.zimbra.soap.util.ElementXMLStreamReader;
+import com.zimbra.soap.util.ElementXMLStreamWriter;
 import com.zimbra.soap.util.JaxbInfo;
 
 public final class JaxbUtil {
@@ -74,7 +78,29 @@ public final class JaxbUtil {
     private static final String MAIL_JAXB_PACKAGE = "com.zimbra.soap.mail.message";
     private static final String ADMIN_EXT_JAXB_PACKAGE = "com.zimbra.soap.adminext.message";
     private static JAXBContext JAXB_CONTEXT;
-    private static Map <Class<?>,JAXBContext> classJaxbContexts;
+    private static final ConcurrentMap<Class<?>,JAXBContext> classJaxbContexts =
+            new ConcurrentHashMap<Class<?>,JAXBContext>();
+    private static final AtomicLong directUnmarshalFailures = new AtomicLong();
+
+    /**
+     * Marshallers and Unmarshallers are expensive to create but not thread safe, so each thread keeps the ones it
+     * has used, keyed by JAXBContext.  An instance is removed from the map while it is in use, so re-entrant
+     * calls create their own, and is only returned once it has been used successfully.
+     */
+    private static final ThreadLocal<Map<JAXBContext,Marshaller>> marshallers =
+            new ThreadLocal<Map<JAXBContext,Marshaller>>() {
+        @Override
+        protected Map<JAXBContext,Marshaller> initialValue() {
+            return new HashMap<JAXBContext,Marshaller>();
+        }
+    };
+    private static final ThreadLocal<Map<JAXBContext,Unmarshaller>> unmarshallers =
+            new ThreadLocal<Map<JAXBContext,Unmarshaller>>() {
+        @Override
+        protected Map<JAXBContext,Unmarshaller> initialValue() {
+            return new HashMap<JAXBContext,Unmarshaller>();
+        }
+    };
 
     static {
         MESSAGE_CLASSES = new Class<?>[] {
@@ -596,6 +622,8 @@ public final class JaxbUtil {
             com.zimbra.soap.admin.message.MailQueueFlushResponse.class,
             com.zimbra.soap.admin.message.MigrateAccountRequest.class,
             com.zimbra.soap.admin.message.MigrateAccountResponse.class,
+            com.zimbra.soap.admin.message.MigrateBlobsRequest.class,
+            com.zimbra.soap.admin.message.MigrateBlobsResponse.class,
             com.zimbra.soap.admin.message.ModifyAccountRequest.class,
             com.zimbra.soap.admin.message.ModifyAccountResponse.class,
             com.zimbra.soap.admin.message.ModifyAddressListRequest.class,
@@ -1199,27 +1227,54 @@ public final class JaxbUtil {
             return JacksonUtil.jaxbToJSONElement(o);
         }
         try {
-            Marshaller marshaller;
-            if (useContextMarshaller) {
-                marshaller = getContext().createMarshaller();
-            } else {
-                marshaller = createMarshaller(o.getClass());
-            }
-            // marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            DocumentResult dr = new DocumentResult();
-            marshaller.marshal(o, dr);
-            Document theDoc = dr.getDocument();
-            org.dom4j.Element rootElem = theDoc.getRootElement();
-            if (removePrefixes) {
-                    JaxbUtil.removeNamespacePrefixes(rootElem);
-            }
-            return Element.convertDOM(rootElem, factory);
+            JAXBContext jaxb = useContextMarshaller ? getContext() : getJaxbContext(o.getClass());
+            Element elem = marshalDirect(jaxb, o, factory, removePrefixes);
+            return elem != null ? elem : marshalViaDom(jaxb, o, factory, removePrefixes);
         } catch (Exception e) {
             throw ServiceException.FAILURE("Unable to convert " +
                     o.getClass().getName() + " to Element", e);
         }
     }
 
+    /**
+     * Marshal {@code o} straight into an {@link Element} tree.
+     * @return null if the content has to be flattened to text, which only {@link Element#convertDOM} does
+     */
+    static Element marshalDirect(JAXBContext jaxb, Object o, Element.ElementFactory factory, boolean removePrefixes)
+    throws JAXBException {
+        Marshaller marshaller = acquireMarshaller(jaxb);
+        ElementXMLStreamWriter writer = new ElementXMLStreamWriter(factory, removePrefixes);
+        try {
+            marshaller.marshal(o, writer);
+        } catch (JAXBException e) {
+            if (writer.isUnsupported()) {
+                LOG.debug("falling back to DOM to marshal %s", o.getClass().getName());
+                return null;
+            }
+            throw e;
+        }
+        releaseMarshaller(jaxb, marshaller);
+        return writer.getRoot();
+    }
+
+    /**
+     * Marshal {@code o} into a dom4j document and convert that into an {@link Element} tree
+     */
+    static Element marshalViaDom(JAXBContext jaxb, Object o, Element.ElementFactory factory, boolean removePrefixes)
+    throws JAXBException {
+        Marshaller marshaller = acquireMarshaller(jaxb);
+        // marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        DocumentResult dr = new DocumentResult();
+        marshaller.marshal(o, dr);
+        releaseMarshaller(jaxb, marshaller);
+        Document theDoc = dr.getDocument();
+        org.dom4j.Element rootElem = theDoc.getRootElement();
+        if (removePrefixes) {
+                JaxbUtil.removeNamespacePrefixes(rootElem);
+        }
+        return Element.convertDOM(rootElem, factory);
+    }
+
     /**
      * @param o - associated JAXB class must have an @XmlRootElement annotation
      * @param factory - e.g. XmlElement.mFactory or JSONElement.mFactory
@@ -1257,14 +1312,13 @@ public final class JaxbUtil {
 
     private static JAXBContext getJaxbContext(Class<?> klass)
     throws JAXBException {
-        JAXBContext jaxb = null;
-        if (JaxbUtil.classJaxbContexts == null) {
-            JaxbUtil.classJaxbContexts = Maps.newHashMap();
-        }
-        if (JaxbUtil.classJaxbContexts.containsKey(klass)) {
-            jaxb = JaxbUtil.classJaxbContexts.get(klass);
-        } else {
+        JAXBContext jaxb = JaxbUtil.classJaxbContexts.get(klass);
+        if (jaxb == null) {
             jaxb = JAXBContext.newInstance(klass);
+            JAXBContext existing = JaxbUtil.classJaxbContexts.putIfAbsent(klass, jaxb);
+            if (existing != null) {
+                jaxb = existing;
+            }
         }
         return jaxb;
     }
@@ -1276,14 +1330,10 @@ public final class JaxbUtil {
             return JacksonUtil.jaxbToJSONElement(o, org.dom4j.QName.get(name, namespace));
         }
         try {
-            Marshaller marshaller = createMarshaller(o.getClass());
-            // marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            DocumentResult dr = new DocumentResult();
-            marshaller.marshal(new JAXBElement(new QName(namespace, name),
-                    o.getClass(), o) , dr);
-            Document theDoc = dr.getDocument();
-            org.dom4j.Element rootElem = theDoc.getRootElement();
-            return Element.convertDOM(rootElem, factory);
+            JAXBContext jaxb = getJaxbContext(o.getClass());
+            JAXBElement jaxbElem = new JAXBElement(new QName(namespace, name), o.getClass(), o);
+            Element elem = marshalDirect(jaxb, jaxbElem, factory, false);
+            return elem != null ? elem : marshalViaDom(jaxb, jaxbElem, factory, false);
         } catch (Exception e) {
             throw ServiceException.FAILURE("Unable to convert " +
                     o.getClass().getName() + " to Element", e);
@@ -1531,7 +1581,7 @@ public final class JaxbUtil {
      * @return a JAXB object
      */
     @SuppressWarnings("unchecked")
-    private static <T> T w3cDomDocToJaxb(org.w3c.dom.Document doc,
+    static <T> T w3cDomDocToJaxb(org.w3c.dom.Document doc,
             Class<?> klass, boolean jaxbClassInContext)
     throws ServiceException {
         fixupStructureForJaxb(doc.getDocumentElement(), klass);
@@ -1555,17 +1605,19 @@ public final class JaxbUtil {
         }
         try {
             // LOG.warn("Dom to Xml:\n" + W3cDomUtil.asXML(document);
-            Unmarshaller unmarshaller;
+            JAXBContext jaxb = jaxbClassInContext ? getContext() : getJaxbContext(klass);
+            Unmarshaller unmarshaller = acquireUnmarshaller(jaxb);
+            T jaxbObj;
             if (jaxbClassInContext) {
-                unmarshaller = getContext().createUnmarshaller();
-                return (T) unmarshaller.unmarshal(doc);
+                jaxbObj = (T) unmarshaller.unmarshal(doc);
             } else {
                 org.w3c.dom.Element docElem = doc.getDocumentElement();
-                unmarshaller = createUnmarshaller(klass);
                 JAXBElement<T> ret =
                     (JAXBElement<T>) unmarshaller.unmarshal(docElem, klass);
-                return ret.getValue();
+                jaxbObj = ret.getValue();
             }
+            releaseUnmarshaller(jaxb, unmarshaller);
+            return jaxbObj;
         } catch (JAXBException ex) {
             throw ServiceException.FAILURE("Unable to unmarshal response for " +
                     doc.getDocumentElement().getNodeName(), ex);
@@ -1581,7 +1633,8 @@ public final class JaxbUtil {
     @SuppressWarnings("unchecked")
     public static <T> T elementToJaxb(Element elem, Class<?> klass)
     throws ServiceException {
-        return (T) w3cDomDocToJaxb(elem.toW3cDom(), klass, false);
+        T jaxbObj = (T) unmarshalDirect(elem, klass, false);
+        return jaxbObj != null ? jaxbObj : (T) w3cDomDocToJaxb(elem.toW3cDom(), klass, false);
     }
 
     /**
@@ -1598,7 +1651,57 @@ public final class JaxbUtil {
                     "]  Is it a Request or Response node?");
             return null;
         }
-        return (T) w3cDomDocToJaxb(e.toW3cDom(), klass, true);
+        T jaxbObj = (T) unmarshalDirect(e, klass, true);
+        return jaxbObj != null ? jaxbObj : (T) w3cDomDocToJaxb(e.toW3cDom(), klass, true);
+    }
+
+    /**
+     * Return a JAXB object, reading {@link elem} directly rather than via an intermediate DOM.  The structural
+     * fixups of {@link fixupStructureForJaxb} are applied as the element is read.
+     * @return null if JAXB rejected what the direct reader produced, in which case the caller should retry via the
+     * DOM.  Any other failure is thrown.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T unmarshalDirect(Element elem, Class<?> klass, boolean jaxbClassInContext) throws ServiceException {
+        if (elem == null) {
+            return null;
+        }
+        JAXBContext jaxb;
+        Unmarshaller unmarshaller;
+        try {
+            jaxb = jaxbClassInContext ? getContext() : getJaxbContext(klass);
+            unmarshaller = acquireUnmarshaller(jaxb);
+        } catch (JAXBException ex) {
+            throw ServiceException.FAILURE("Unable to unmarshal " + elem.getName() + " to " + klass.getName(), ex);
+        }
+        boolean success = false;
+        try {
+            ElementXMLStreamReader reader = new ElementXMLStreamReader(elem, klass);
+            T jaxbObj;
+            if (jaxbClassInContext) {
+                jaxbObj = (T) unmarshaller.unmarshal(reader);
+            } else {
+                jaxbObj = ((JAXBElement<T>) unmarshaller.unmarshal(reader, klass)).getValue();
+            }
+            success = true;
+            return jaxbObj;
+        } catch (JAXBException ex) {
+            directUnmarshalFailures.incrementAndGet();
+            LOG.warn("falling back to DOM to unmarshal %s to %s", elem.getName(), klass.getName(), ex);
+            return null;
+        } finally {
+            // an unmarshaller that failed part way is dropped rather than reused
+            if (success) {
+                releaseUnmarshaller(jaxb, unmarshaller);
+            }
+        }
+    }
+
+    /**
+     * @return how many times {@link #unmarshalDirect} has had to fall back to the DOM
+     */
+    public static long getDirectUnmarshalFailures() {
+        return directUnmarshalFailures.get();
     }
 
     /**
@@ -1641,7 +1744,25 @@ public final class JaxbUtil {
         }
     }
 
-    private static JAXBContext getContext() {
+    private static Marshaller acquireMarshaller(JAXBContext jaxb) throws JAXBException {
+        Marshaller marshaller = marshallers.get().remove(jaxb);
+        return marshaller != null ? marshaller : jaxb.createMarshaller();
+    }
+
+    private static void releaseMarshaller(JAXBContext jaxb, Marshaller marshaller) {
+        marshallers.get().put(jaxb, marshaller);
+    }
+
+    private static Unmarshaller acquireUnmarshaller(JAXBContext jaxb) throws JAXBException {
+        Unmarshaller unmarshaller = unmarshallers.get().remove(jaxb);
+        return unmarshaller != null ? unmarshaller : jaxb.createUnmarshaller();
+    }
+
+    private static void releaseUnmarshaller(JAXBContext jaxb, Unmarshaller unmarshaller) {
+        unmarshallers.get().put(jaxb, unmarshaller);
+    }
+
+    static JAXBContext getContext() {
         if (JAXB_CONTEXT == null) {
             throw new IllegalStateException("JAXB has not been initialized");
         }
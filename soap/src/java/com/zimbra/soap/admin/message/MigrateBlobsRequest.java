@@ -0,0 +1,130 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.soap.admin.message;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import com.google.common.base.MoreObjects;
+import com.zimbra.common.soap.AdminConstants;
+
+/**
+ * @zm-api-command-auth-required true
+ * @zm-api-command-admin-auth-required true
+ * @zm-api-command-description Move blobs older than a minimum age from one volume to another in the background.
+ * <br />
+ * A move that is stopped, or interrupted by a restart, resumes where it left off when it is started again with
+ * the same volumes.
+ */
+@XmlAccessorType(XmlAccessType.NONE)
+@XmlRootElement(name=AdminConstants.E_MIGRATE_BLOBS_REQUEST)
+public class MigrateBlobsRequest {
+
+    @XmlEnum
+    public static enum MigrateAction {
+        start,
+        status,
+        stop
+    }
+
+    /**
+     * @zm-api-field-description Action to perform - one of <b>start|status|stop</b>
+     */
+    @XmlAttribute(name=AdminConstants.E_ACTION, required=true)
+    private final MigrateAction action;
+
+    /**
+     * @zm-api-field-tag source-volume-id
+     * @zm-api-field-description Volume to move blobs off.  Required for <b>start</b>
+     */
+    @XmlAttribute(name=AdminConstants.A_SOURCE_VOLUME_ID, required=false)
+    private Short sourceVolumeId;
+
+    /**
+     * @zm-api-field-tag dest-volume-id
+     * @zm-api-field-description Volume to move blobs to.  Required for <b>start</b>
+     */
+    @XmlAttribute(name=AdminConstants.A_DEST_VOLUME_ID, required=false)
+    private Short destVolumeId;
+
+    /**
+     * @zm-api-field-tag min-age
+     * @zm-api-field-description Only blobs of items older than this are moved, e.g. <b>30d</b>.  Must be positive.
+     * Default is the localconfig key <b>zimbra_blob_migrate_min_age</b>
+     */
+    @XmlAttribute(name=AdminConstants.A_MIN_AGE, required=false)
+    private String minAge;
+
+    /**
+     * @zm-api-field-tag num-threads
+     * @zm-api-field-description Number of blobs copied at the same time.  Default is the
+     * <b>zimbra_blob_migrate_threads</b> local config
+     */
+    @XmlAttribute(name=AdminConstants.A_NUM_THREADS, required=false)
+    private Integer numThreads;
+
+    /**
+     * @zm-api-field-tag bandwidth-KB/s
+     * @zm-api-field-description Maximum rate of copying in KB per second, 0 for unlimited.  Default is the
+     * <b>zimbra_blob_migrate_bandwidth_kb</b> local config
+     */
+    @XmlAttribute(name=AdminConstants.A_BANDWIDTH, required=false)
+    private Long bandwidth;
+
+    /**
+     * no-argument constructor wanted by JAXB
+     */
+    @SuppressWarnings("unused")
+    private MigrateBlobsRequest() {
+        this((MigrateAction) null);
+    }
+
+    public MigrateBlobsRequest(MigrateAction action) {
+        this.action = action;
+    }
+
+    public void setSourceVolumeId(Short sourceVolumeId) { this.sourceVolumeId = sourceVolumeId; }
+    public void setDestVolumeId(Short destVolumeId) { this.destVolumeId = destVolumeId; }
+    public void setMinAge(String minAge) { this.minAge = minAge; }
+    public void setNumThreads(Integer numThreads) { this.numThreads = numThreads; }
+    public void setBandwidth(Long bandwidth) { this.bandwidth = bandwidth; }
+
+    public MigrateAction getAction() { return action; }
+    public Short getSourceVolumeId() { return sourceVolumeId; }
+    public Short getDestVolumeId() { return destVolumeId; }
+    public String getMinAge() { return minAge; }
+    public Integer getNumThreads() { return numThreads; }
+    public Long getBandwidth() { return bandwidth; }
+
+    public MoreObjects.ToStringHelper addToStringInfo(MoreObjects.ToStringHelper helper) {
+        return helper
+            .add("action", action)
+            .add("sourceVolumeId", sourceVolumeId)
+            .add("destVolumeId", destVolumeId)
+            .add("minAge", minAge)
+            .add("numThreads", numThreads)
+            .add("bandwidth", bandwidth);
+    }
+
+    @Override
+    public String toString() {
+        return addToStringInfo(MoreObjects.toStringHelper(this)).toString();
+    }
+}
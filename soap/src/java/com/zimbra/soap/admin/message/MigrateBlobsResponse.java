@@ -0,0 +1,112 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.soap.admin.message;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import com.zimbra.common.soap.AdminConstants;
+import com.zimbra.soap.admin.type.VolumeIdAndProgress;
+
+@XmlAccessorType(XmlAccessType.NONE)
+@XmlRootElement(name=AdminConstants.E_MIGRATE_BLOBS_RESPONSE)
+public class MigrateBlobsResponse {
+
+    @XmlEnum
+    public static enum MigrateStatus {
+        running,
+        stopped
+    }
+
+    /**
+     * @zm-api-field-description Status - one of <b>running|stopped</b>
+     */
+    @XmlAttribute(name=AdminConstants.A_STATUS, required=false)
+    private MigrateStatus status;
+
+    /**
+     * @zm-api-field-description Number of blobs moved by the current or last migration
+     */
+    @XmlAttribute(name=AdminConstants.A_TOTAL_COUNT, required=false)
+    private Integer totalCount;
+
+    /**
+     * @zm-api-field-description Size in bytes of the blobs moved
+     */
+    @XmlAttribute(name=AdminConstants.A_TOTAL_SIZE, required=false)
+    private Long totalSize;
+
+    /**
+     * @zm-api-field-description Number of blobs left in place because they were changed, deleted or
+     * couldn't be copied while the move ran
+     */
+    @XmlAttribute(name=AdminConstants.A_SKIPPED_COUNT, required=false)
+    private Integer skippedCount;
+
+    /**
+     * @zm-api-field-description Mailbox groups done out of the total, for the source volume
+     */
+    @XmlElement(name=AdminConstants.E_MIGRATE_PROGRESS, required=false)
+    private VolumeIdAndProgress progress;
+
+    public MigrateBlobsResponse() {
+    }
+
+    public void setStatus(MigrateStatus status) {
+        this.status = status;
+    }
+
+    public void setTotalCount(int count) {
+        this.totalCount = count;
+    }
+
+    public void setTotalSize(long size) {
+        this.totalSize = size;
+    }
+
+    public void setSkippedCount(int count) {
+        this.skippedCount = count;
+    }
+
+    public void setProgress(VolumeIdAndProgress progress) {
+        this.progress = progress;
+    }
+
+    public MigrateStatus getStatus() {
+        return status;
+    }
+
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public Long getTotalSize() {
+        return totalSize;
+    }
+
+    public Integer getSkippedCount() {
+        return skippedCount;
+    }
+
+    public VolumeIdAndProgress getProgress() {
+        return progress;
+    }
+}
@@ -75,6 +75,15 @@ public final class VolumeInfo {
     @XmlAttribute(name=AdminConstants.A_VOLUME_COMPRESSION_THRESHOLD /* compressionThreshold */, required=false)
     private long compressionThreshold = -1;
 
+    /**
+     * @zm-api-field-tag blob-codec
+     * @zm-api-field-description Codec that blobs larger than the compression threshold are compressed with:
+     * <b>none</b>, <b>gzip</b> (default), <b>deflate-1</b> through <b>deflate-9</b>, or <b>frame</b> (fast,
+     * seekable frames).  Existing blobs keep the codec they were written with.
+     */
+    @XmlAttribute(name=AdminConstants.A_VOLUME_BLOB_CODEC /* blobCodec */, required=false)
+    private String blobCodec;
+
     /**
      * @zm-api-field-description mgbits
      */
@@ -157,6 +166,14 @@ public final class VolumeInfo {
         return compressionThreshold;
     }
 
+    public void setBlobCodec(String value) {
+        blobCodec = value;
+    }
+
+    public String getBlobCodec() {
+        return blobCodec;
+    }
+
     public void setMgbits(short value) {
         mgbits = value;
     }
@@ -0,0 +1,517 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.soap.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.google.common.base.Strings;
+import com.zimbra.common.soap.Element;
+import com.zimbra.soap.JaxbUtil;
+
+/**
+ * {@link XMLStreamReader} over a Zimbra {@link Element} tree, so that a JAXB {@link javax.xml.bind.Unmarshaller}
+ * can read it without first copying it into a W3C DOM.
+ * <p>
+ * Zimbra accepts more relaxed XML than JAXB does (attributes represented as elements and vice versa,
+ * key/value pairs using the generic {@code <a n="...">} form).  The same fixups that
+ * {@code JaxbUtil.fixupStructureForJaxb} applies to a DOM are applied here, element by element, as the
+ * tree is read.
+ */
+public final class ElementXMLStreamReader implements XMLStreamReader {
+
+    private static final String ZIMBRA_NS = "urn:zimbraSoap";
+
+    /** An element as JAXB should see it, after fixups */
+    private static final class Node {
+        private final Element source;
+        private final Class<?> klass;
+        private final JaxbInfo wrapperOwner;
+        private final String wrapperName;
+
+        String prefix = "";
+        String localName;
+        String nsUri = "";
+        String text;
+        final List<String> attrNames = new ArrayList<String>();
+        final List<String> attrValues = new ArrayList<String>();
+        final List<Node> children = new ArrayList<Node>();
+        boolean declaresNamespace;
+        int nextChild = 0;
+
+        /** element read from {@code source}, fixed up according to {@code klass} */
+        Node(Element source, Class<?> klass, JaxbInfo wrapperOwner, String wrapperName) {
+            this.source = source;
+            this.klass = klass;
+            this.wrapperOwner = wrapperOwner;
+            this.wrapperName = wrapperName;
+        }
+
+        /** synthesized element containing only text */
+        Node(String nsUri, String localName, String text) {
+            this(null, null, null, null);
+            this.nsUri = nsUri;
+            this.localName = localName;
+            this.text = text;
+        }
+
+        void open(Node parent) {
+            if (source != null) {
+                load();
+            }
+            declaresNamespace = !nsUri.isEmpty() &&
+                    (parent == null || !nsUri.equals(parent.nsUri) || !prefix.equals(parent.prefix));
+        }
+
+        private void load() {
+            localName = source.getName();
+            org.dom4j.QName qname = source.getQName();
+            String uri = qname == null ? null : qname.getNamespaceURI();
+            if (!Strings.isNullOrEmpty(uri) && !ZIMBRA_NS.equals(uri)) {
+                nsUri = uri;
+                prefix = Strings.nullToEmpty(qname.getNamespacePrefix());
+            }
+            text = source.getText();
+
+            JaxbInfo info = (klass != null && JaxbUtil.isJaxbType(klass)) ? JaxbInfo.getFromCache(klass) : null;
+            List<Node> appended = null;
+            for (Element.Attribute attr : source.listAttributes()) {
+                String name = attr.getKey();
+                if (info != null && !info.hasAttribute(name) && info.hasElement(name)) {
+                    if (appended == null) {
+                        appended = new ArrayList<Node>();
+                    }
+                    appended.add(new Node(nsUri, name, attr.getValue()));
+                } else {
+                    setAttribute(name, attr.getValue());
+                }
+            }
+            List<Node> kvps = null;
+            for (Element child : source.listElements()) {
+                String childName = child.getName();
+                if (wrapperOwner != null) {
+                    children.add(new Node(child,
+                            wrapperOwner.getClassForWrappedElement(wrapperName, childName), null, null));
+                } else if (info == null) {
+                    children.add(new Node(child, null, null, null));
+                } else if (info.hasWrapperElement(childName)) {
+                    children.add(new Node(child, null, info, childName));
+                } else if (info.hasElement(childName)) {
+                    children.add(new Node(child, info.getClassForElement(childName), null, null));
+                } else if (info.hasAttribute(childName)) {
+                    setAttribute(childName, child.getText());
+                } else if (Element.XMLElement.E_ATTRIBUTE.equals(childName)
+                        && info.getKeyValuePairElementInfo() != null) {
+                    JaxbInfo.KeyValuePairXmlRepresentationInfo kvpXmlRep = info.getKeyValuePairElementInfo();
+                    Node kvp = new Node(nsUri, kvpXmlRep.getXmlElementName(), child.getText());
+                    kvp.setAttribute(kvpXmlRep.getXmlAttributeName(),
+                            child.getAttribute(Element.XMLElement.A_ATTR_NAME, ""));
+                    if (kvps == null) {
+                        kvps = new ArrayList<Node>();
+                    }
+                    kvps.add(kvp);
+                } else {
+                    children.add(new Node(child, null, null, null));
+                }
+            }
+            if (appended != null) {
+                children.addAll(appended);
+            }
+            if (kvps != null) {
+                children.addAll(kvps);
+            }
+        }
+
+        void setAttribute(String name, String value) {
+            if (name.equals(XMLConstants.XMLNS_ATTRIBUTE) || name.startsWith(XMLConstants.XMLNS_ATTRIBUTE + ':')) {
+                return;
+            }
+            int idx = attrNames.indexOf(name);
+            if (idx >= 0) {
+                attrValues.set(idx, value);
+            } else {
+                attrNames.add(name);
+                attrValues.add(value);
+            }
+        }
+    }
+
+    private final Node root;
+    private final Deque<Node> stack = new ArrayDeque<Node>();
+    private int event = XMLStreamConstants.START_DOCUMENT;
+    private Node current;
+
+    /**
+     * @param elem the root element
+     * @param klass the JAXB class corresponding to {@code elem}, used to fix up its structure
+     */
+    public ElementXMLStreamReader(Element elem, Class<?> klass) {
+        this.root = new Node(elem, klass, null, null);
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        switch (event) {
+            case XMLStreamConstants.START_DOCUMENT:
+                return startElement(root);
+            case XMLStreamConstants.START_ELEMENT:
+                if (!Strings.isNullOrEmpty(current.text)) {
+                    return event = XMLStreamConstants.CHARACTERS;
+                }
+                return nextChild();
+            case XMLStreamConstants.CHARACTERS:
+                return nextChild();
+            case XMLStreamConstants.END_ELEMENT:
+                stack.pop();
+                if (stack.isEmpty()) {
+                    current = null;
+                    return event = XMLStreamConstants.END_DOCUMENT;
+                }
+                return nextChild();
+            default:
+                throw new IllegalStateException("no more events");
+        }
+    }
+
+    private int startElement(Node node) {
+        node.open(stack.peek());
+        stack.push(node);
+        current = node;
+        return event = XMLStreamConstants.START_ELEMENT;
+    }
+
+    private int nextChild() {
+        Node top = stack.peek();
+        if (top.nextChild < top.children.size()) {
+            return startElement(top.children.get(top.nextChild++));
+        }
+        current = top;
+        return event = XMLStreamConstants.END_ELEMENT;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return event != XMLStreamConstants.END_DOCUMENT;
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        int type = next();
+        while ((type == XMLStreamConstants.CHARACTERS && isWhiteSpace())) {
+            type = next();
+        }
+        if (type != XMLStreamConstants.START_ELEMENT && type != XMLStreamConstants.END_ELEMENT) {
+            throw new XMLStreamException("expected start or end tag");
+        }
+        return type;
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        if (event != XMLStreamConstants.START_ELEMENT) {
+            throw new XMLStreamException("not at a start element");
+        }
+        String text = Strings.nullToEmpty(current.text);
+        if (next() == XMLStreamConstants.CHARACTERS) {
+            next();
+        }
+        if (event != XMLStreamConstants.END_ELEMENT) {
+            throw new XMLStreamException("element " + current.localName + " has child elements");
+        }
+        return text;
+    }
+
+    @Override
+    public void require(int type, String namespaceURI, String localName) throws XMLStreamException {
+        if (type != event || (namespaceURI != null && !namespaceURI.equals(getNamespaceURI())) ||
+                (localName != null && !localName.equals(getLocalName()))) {
+            throw new XMLStreamException("requirement not met");
+        }
+    }
+
+    @Override
+    public int getEventType() {
+        return event;
+    }
+
+    @Override
+    public boolean isStartElement() {
+        return event == XMLStreamConstants.START_ELEMENT;
+    }
+
+    @Override
+    public boolean isEndElement() {
+        return event == XMLStreamConstants.END_ELEMENT;
+    }
+
+    @Override
+    public boolean isCharacters() {
+        return event == XMLStreamConstants.CHARACTERS;
+    }
+
+    @Override
+    public boolean isWhiteSpace() {
+        return isCharacters() && current.text.trim().isEmpty();
+    }
+
+    @Override
+    public boolean hasName() {
+        return isStartElement() || isEndElement();
+    }
+
+    @Override
+    public QName getName() {
+        return new QName(current.nsUri, current.localName, current.prefix);
+    }
+
+    @Override
+    public String getLocalName() {
+        return current.localName;
+    }
+
+    @Override
+    public String getNamespaceURI() {
+        return current.nsUri;
+    }
+
+    @Override
+    public String getPrefix() {
+        return current.prefix;
+    }
+
+    @Override
+    public int getAttributeCount() {
+        return current.attrNames.size();
+    }
+
+    @Override
+    public QName getAttributeName(int index) {
+        return new QName(current.attrNames.get(index));
+    }
+
+    @Override
+    public String getAttributeNamespace(int index) {
+        return XMLConstants.NULL_NS_URI;
+    }
+
+    @Override
+    public String getAttributeLocalName(int index) {
+        return current.attrNames.get(index);
+    }
+
+    @Override
+    public String getAttributePrefix(int index) {
+        return XMLConstants.DEFAULT_NS_PREFIX;
+    }
+
+    @Override
+    public String getAttributeType(int index) {
+        return "CDATA";
+    }
+
+    @Override
+    public String getAttributeValue(int index) {
+        return current.attrValues.get(index);
+    }
+
+    @Override
+    public boolean isAttributeSpecified(int index) {
+        return true;
+    }
+
+    @Override
+    public String getAttributeValue(String namespaceURI, String localName) {
+        if (!Strings.isNullOrEmpty(namespaceURI)) {
+            return null;
+        }
+        int idx = current.attrNames.indexOf(localName);
+        return idx < 0 ? null : current.attrValues.get(idx);
+    }
+
+    @Override
+    public int getNamespaceCount() {
+        return current.declaresNamespace ? 1 : 0;
+    }
+
+    @Override
+    public String getNamespacePrefix(int index) {
+        return current.prefix;
+    }
+
+    @Override
+    public String getNamespaceURI(int index) {
+        return current.nsUri;
+    }
+
+    @Override
+    public String getNamespaceURI(String prefix) {
+        for (Node node : stack) {
+            if (node.declaresNamespace && node.prefix.equals(prefix)) {
+                return node.nsUri;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return new NamespaceContext() {
+            @Override
+            public String getNamespaceURI(String prefix) {
+                String uri = ElementXMLStreamReader.this.getNamespaceURI(prefix);
+                return uri == null ? XMLConstants.NULL_NS_URI : uri;
+            }
+
+            @Override
+            public String getPrefix(String namespaceURI) {
+                for (Node node : stack) {
+                    if (node.declaresNamespace && node.nsUri.equals(namespaceURI)) {
+                        return node.prefix;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public Iterator<?> getPrefixes(String namespaceURI) {
+                String prefix = getPrefix(namespaceURI);
+                return prefix == null ? Collections.emptyIterator() : Collections.singleton(prefix).iterator();
+            }
+        };
+    }
+
+    @Override
+    public boolean hasText() {
+        return isCharacters();
+    }
+
+    @Override
+    public String getText() {
+        return current.text;
+    }
+
+    @Override
+    public char[] getTextCharacters() {
+        return current.text.toCharArray();
+    }
+
+    @Override
+    public int getTextCharacters(int sourceStart, char[] target, int targetStart, int length) {
+        int len = Math.min(length, current.text.length() - sourceStart);
+        current.text.getChars(sourceStart, sourceStart + len, target, targetStart);
+        return len;
+    }
+
+    @Override
+    public int getTextStart() {
+        return 0;
+    }
+
+    @Override
+    public int getTextLength() {
+        return current.text.length();
+    }
+
+    @Override
+    public Location getLocation() {
+        return UNKNOWN_LOCATION;
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return null;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String getEncoding() {
+        return null;
+    }
+
+    @Override
+    public String getVersion() {
+        return null;
+    }
+
+    @Override
+    public boolean isStandalone() {
+        return false;
+    }
+
+    @Override
+    public boolean standaloneSet() {
+        return false;
+    }
+
+    @Override
+    public String getCharacterEncodingScheme() {
+        return null;
+    }
+
+    @Override
+    public String getPITarget() {
+        return null;
+    }
+
+    @Override
+    public String getPIData() {
+        return null;
+    }
+
+    private static final Location UNKNOWN_LOCATION = new Location() {
+        @Override
+        public int getLineNumber() {
+            return -1;
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return -1;
+        }
+
+        @Override
+        public int getCharacterOffset() {
+            return -1;
+        }
+
+        @Override
+        public String getPublicId() {
+            return null;
+        }
+
+        @Override
+        public String getSystemId() {
+            return null;
+        }
+    };
+}
@@ -0,0 +1,304 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.soap.util;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.dom4j.QName;
+
+import com.google.common.base.Strings;
+import com.zimbra.common.soap.Element;
+
+/**
+ * {@link XMLStreamWriter} which builds a Zimbra {@link Element} tree directly from the events a JAXB
+ * {@link javax.xml.bind.Marshaller} produces, avoiding an intermediate dom4j document.
+ * <p>
+ * The result is identical to marshalling into a dom4j document and running {@link Element#convertDOM}
+ * over it, except for the content that {@code convertDOM} has to flatten to text (mixed content and
+ * nested XHTML).  If the writer sees such content it stops, {@link #isUnsupported()} returns true and
+ * the caller is expected to fall back to the DOM based conversion.
+ */
+public final class ElementXMLStreamWriter implements XMLStreamWriter {
+
+    private static final class Frame {
+        final Element elem;
+        StringBuilder text;
+        boolean hasChildren;
+
+        Frame(Element elem) {
+            this.elem = elem;
+        }
+
+        boolean hasText() {
+            return text != null && !text.toString().trim().isEmpty();
+        }
+    }
+
+    private final Element.ElementFactory factory;
+    private final boolean removePrefixes;
+    private final Deque<Frame> stack = new ArrayDeque<Frame>();
+    private Element root;
+    private boolean unsupported = false;
+
+    /**
+     * @param factory - e.g. XMLElement.mFactory
+     * @param removePrefixes - If true then use namespace inheritance in preference to prefixes
+     */
+    public ElementXMLStreamWriter(Element.ElementFactory factory, boolean removePrefixes) {
+        this.factory = factory;
+        this.removePrefixes = removePrefixes;
+    }
+
+    /** @return the root of the tree built so far, or null if no element has been written */
+    public Element getRoot() {
+        return root;
+    }
+
+    /** @return true if the marshalled content could not be represented without flattening it to text */
+    public boolean isUnsupported() {
+        return unsupported;
+    }
+
+    private XMLStreamException unsupported(String reason) {
+        unsupported = true;
+        return new XMLStreamException(reason);
+    }
+
+    private Frame current() throws XMLStreamException {
+        Frame frame = stack.peek();
+        if (frame == null) {
+            throw new XMLStreamException("no open element");
+        }
+        return frame;
+    }
+
+    @Override
+    public void writeStartElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        if (unsupported) {
+            throw new XMLStreamException("marshalling already abandoned");
+        }
+        QName qname;
+        if (Strings.isNullOrEmpty(namespaceURI)) {
+            qname = QName.get(localName);
+        } else {
+            qname = QName.get(localName, removePrefixes ? "" : Strings.nullToEmpty(prefix), namespaceURI);
+        }
+        Element elem = factory.createElement(qname);
+        Frame parent = stack.peek();
+        if (parent == null) {
+            if (root != null) {
+                throw new XMLStreamException("multiple root elements");
+            }
+            root = elem;
+        } else {
+            if (parent.hasText()) {
+                throw unsupported("mixed content in " + parent.elem.getName());
+            }
+            if (stack.size() > 1 && Element.XHTML_NS_URI.equalsIgnoreCase(parent.elem.getQName().getNamespaceURI())) {
+                throw unsupported("nested XHTML in " + parent.elem.getName());
+            }
+            parent.hasChildren = true;
+            parent.elem.addNonUniqueElement(elem);
+        }
+        stack.push(new Frame(elem));
+    }
+
+    @Override
+    public void writeStartElement(String namespaceURI, String localName) throws XMLStreamException {
+        writeStartElement(null, localName, namespaceURI);
+    }
+
+    @Override
+    public void writeStartElement(String localName) throws XMLStreamException {
+        writeStartElement(null, localName, null);
+    }
+
+    @Override
+    public void writeEmptyElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        writeStartElement(prefix, localName, namespaceURI);
+        writeEndElement();
+    }
+
+    @Override
+    public void writeEmptyElement(String namespaceURI, String localName) throws XMLStreamException {
+        writeEmptyElement(null, localName, namespaceURI);
+    }
+
+    @Override
+    public void writeEmptyElement(String localName) throws XMLStreamException {
+        writeEmptyElement(null, localName, null);
+    }
+
+    @Override
+    public void writeEndElement() throws XMLStreamException {
+        Frame frame = current();
+        if (frame.hasText()) {
+            if (frame.hasChildren) {
+                throw unsupported("mixed content in " + frame.elem.getName());
+            }
+            frame.elem.setText(frame.text.toString());
+        }
+        stack.pop();
+    }
+
+    @Override
+    public void writeAttribute(String prefix, String namespaceURI, String localName, String value)
+    throws XMLStreamException {
+        String name = Strings.isNullOrEmpty(prefix) ? localName : prefix + ':' + localName;
+        current().elem.addAttribute(name, value);
+    }
+
+    @Override
+    public void writeAttribute(String namespaceURI, String localName, String value) throws XMLStreamException {
+        writeAttribute(null, namespaceURI, localName, value);
+    }
+
+    @Override
+    public void writeAttribute(String localName, String value) throws XMLStreamException {
+        writeAttribute(null, null, localName, value);
+    }
+
+    @Override
+    public void writeNamespace(String prefix, String namespaceURI) {
+        // namespaces are carried by the element QNames, declarations are not attributes
+    }
+
+    @Override
+    public void writeDefaultNamespace(String namespaceURI) {
+    }
+
+    @Override
+    public void writeCharacters(String text) throws XMLStreamException {
+        Frame frame = current();
+        if (frame.text == null) {
+            frame.text = new StringBuilder(text);
+        } else {
+            frame.text.append(text);
+        }
+    }
+
+    @Override
+    public void writeCharacters(char[] text, int start, int len) throws XMLStreamException {
+        writeCharacters(new String(text, start, len));
+    }
+
+    @Override
+    public void writeCData(String data) throws XMLStreamException {
+        writeCharacters(data);
+    }
+
+    @Override
+    public void writeComment(String data) {
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target) {
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target, String data) {
+    }
+
+    @Override
+    public void writeDTD(String dtd) {
+    }
+
+    @Override
+    public void writeEntityRef(String name) throws XMLStreamException {
+        throw unsupported("entity reference &" + name + ";");
+    }
+
+    @Override
+    public void writeStartDocument() {
+    }
+
+    @Override
+    public void writeStartDocument(String version) {
+    }
+
+    @Override
+    public void writeStartDocument(String encoding, String version) {
+    }
+
+    @Override
+    public void writeEndDocument() throws XMLStreamException {
+        while (!stack.isEmpty()) {
+            writeEndElement();
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public String getPrefix(String uri) {
+        return null;
+    }
+
+    @Override
+    public void setPrefix(String prefix, String uri) {
+    }
+
+    @Override
+    public void setDefaultNamespace(String uri) {
+    }
+
+    @Override
+    public void setNamespaceContext(NamespaceContext context) {
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return EMPTY_CONTEXT;
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        throw new IllegalArgumentException(name);
+    }
+
+    private static final NamespaceContext EMPTY_CONTEXT = new NamespaceContext() {
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return XMLConstants.NULL_NS_URI;
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            return null;
+        }
+
+        @Override
+        public Iterator<?> getPrefixes(String namespaceURI) {
+            return Collections.emptyIterator();
+        }
+    };
+}
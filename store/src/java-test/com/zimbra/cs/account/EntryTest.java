@@ -0,0 +1,95 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.account;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+
+/**
+ * Unit test for the typed attribute getters of {@link Entry}.
+ */
+public final class EntryTest {
+    private Provisioning prov;
+
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initProvisioning();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        prov = Provisioning.getInstance();
+    }
+
+    @Test
+    public void cachedUntilReset() throws Exception {
+        Map<String, Object> attrs = new HashMap<String, Object>();
+        attrs.put(Provisioning.A_zimbraMailQuota, "100");
+        attrs.put(Provisioning.A_zimbraPrefMailPollingInterval, "5m");
+        Account account = prov.createAccount("typed@zimbra.com", "secret", attrs);
+        Assert.assertEquals(100L, account.getMailQuota());
+        Assert.assertEquals(300000L, account.getPrefMailPollingInterval());
+
+        // changing the map behind the entry's back isn't seen until the entry is reset
+        account.getAttrs(false, false).put(Provisioning.A_zimbraMailQuota, "200");
+        Assert.assertEquals(100L, account.getMailQuota());
+        account.setAttrs(account.getAttrs(false, false));
+        Assert.assertEquals(200L, account.getMailQuota());
+
+        prov.modifyAttrs(account, Collections.singletonMap(Provisioning.A_zimbraPrefMailPollingInterval, "1m"));
+        Assert.assertEquals(60000L, account.getPrefMailPollingInterval());
+        Assert.assertEquals(200L, account.getMailQuota());
+    }
+
+    @Test
+    public void inheritedDefaultsChange() throws Exception {
+        Map<String, Object> attrs = new HashMap<String, Object>();
+        attrs.put(Provisioning.A_zimbraMailQuota, "1000");
+        attrs.put(Provisioning.A_zimbraFeatureCalendarEnabled, "TRUE");
+        Cos cos = prov.createCos("typed", attrs);
+        Account account = new Account("inherit@zimbra.com", "inherit@zimbra.com", new HashMap<String, Object>(),
+                cos.getAccountDefaults(), prov);
+        Assert.assertEquals(1000L, account.getMailQuota());
+        Assert.assertTrue(account.isFeatureCalendarEnabled());
+
+        // the COS refills the map the account reads its defaults from
+        prov.modifyAttrs(cos, Collections.singletonMap(Provisioning.A_zimbraFeatureCalendarEnabled, "FALSE"));
+        Assert.assertEquals(1000L, account.getMailQuota());
+        Assert.assertFalse(account.isFeatureCalendarEnabled());
+    }
+
+    @Test
+    public void generatedGetter() throws Exception {
+        AttributeInfo ai = new AttributeInfo("zimbraTypedAttribute", 42, null, 0, null, AttributeType.TYPE_INTEGER, null,
+                "", true, null, null, AttributeCardinality.single, Sets.newHashSet(AttributeClass.account),
+                null, Sets.<AttributeFlag>newHashSet(), null, null, null, null, null, "Test Typed Attribute", null, null,
+                null);
+        StringBuilder sb = new StringBuilder();
+        AttributeManagerUtil.generateGetter(sb, ai, false, AttributeClass.account);
+        Assert.assertTrue(sb.toString(), sb.toString().contains(
+                "        return getIntAttr(42, Provisioning.A_zimbraTypedAttribute, -1);\n"));
+    }
+}
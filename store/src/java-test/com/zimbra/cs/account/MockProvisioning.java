@@ -238,6 +238,7 @@ public final class MockProvisioning extends Provisioning {
                        if (add) {
                            map.put(realKey, value);
                        } else {
+                           entry.setAttrs(map);
                            return;
                        }
                     } else {
@@ -266,6 +267,8 @@ public final class MockProvisioning extends Provisioning {
                 map.remove(attr.getKey());
             }
         }
+        // like a reload from LDAP, drops the values the entry derived from its old attributes
+        entry.setAttrs(map);
     }
 
     @Override
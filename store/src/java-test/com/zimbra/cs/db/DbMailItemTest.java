@@ -321,6 +321,30 @@ public final class DbMailItemTest {
         Assert.assertTrue(idsForDelete.size() == notDeleteCount);
     }
 
+    @Test
+    public void updateLocator() throws Exception {
+        DbUtil.executeUpdate(conn, "INSERT INTO mboxgroup1.mail_item " +
+                "(mailbox_id, id, type, index_id, date, size, flags, tags, mod_metadata, mod_content, locator) " +
+                "VALUES(?, ?, ?, ?, 0, 0, 0, 0, 0, ?, ?)", mbox.getId(), 100, MailItem.Type.MESSAGE.toByte(), 0, 5, "1");
+        DbUtil.executeUpdate(conn, "INSERT INTO mboxgroup1.mail_item_dumpster " +
+                "(mailbox_id, id, type, index_id, date, size, flags, tags, mod_metadata, mod_content, locator) " +
+                "VALUES(?, ?, ?, ?, 0, 0, 0, 0, 0, ?, ?)", mbox.getId(), 101, MailItem.Type.MESSAGE.toByte(), 0, 7, "1");
+
+        Assert.assertEquals(1, DbMailItem.updateLocator(conn, mbox, 100, 5, "1", "2"));
+        Assert.assertEquals(1, DbMailItem.updateLocator(conn, mbox, 101, 7, "1", "2"));
+        // already moved, or the content changed since the blob was copied
+        Assert.assertEquals(0, DbMailItem.updateLocator(conn, mbox, 100, 5, "1", "2"));
+        Assert.assertEquals(0, DbMailItem.updateLocator(conn, mbox, 101, 6, "2", "3"));
+        Assert.assertEquals(0, DbMailItem.updateLocator(conn, mbox, 102, 5, "1", "2"));
+
+        Assert.assertEquals("2", DbUtil.executeQuery(conn,
+                "SELECT locator FROM mboxgroup1.mail_item WHERE mailbox_id = ? AND id = ?",
+                mbox.getId(), 100).getString(1));
+        Assert.assertEquals("2", DbUtil.executeQuery(conn,
+                "SELECT locator FROM mboxgroup1.mail_item_dumpster WHERE mailbox_id = ? AND id = ?",
+                mbox.getId(), 101).getString(1));
+    }
+
     @Test
     public void readTombstones() throws Exception {
         int now = (int) (System.currentTimeMillis() / 1000);
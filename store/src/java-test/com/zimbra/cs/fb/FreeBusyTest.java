@@ -0,0 +1,87 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.fb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.zimbra.cs.fb.FreeBusy.Interval;
+import com.zimbra.cs.fb.FreeBusy.IntervalList;
+import com.zimbra.cs.mailbox.calendar.IcalXmlStrMap;
+
+public class FreeBusyTest {
+
+    private static String toString(IntervalList list) {
+        StringBuilder sb = new StringBuilder();
+        for (Interval cur = list.getHead(); cur != null; cur = cur.getNext()) {
+            sb.append(cur.getStart()).append('-').append(cur.getEnd()).append(':').append(cur.getStatus()).append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    @Test
+    public void addInterval() {
+        IntervalList list = new IntervalList(0, 100);
+        list.addInterval(new Interval(50, 60, IcalXmlStrMap.FBTYPE_BUSY));
+        list.addInterval(new Interval(10, 20, IcalXmlStrMap.FBTYPE_BUSY_TENTATIVE));
+        list.addInterval(new Interval(20, 30, IcalXmlStrMap.FBTYPE_BUSY_UNAVAILABLE));
+        list.addInterval(new Interval(15, 35, IcalXmlStrMap.FBTYPE_BUSY));
+        Assert.assertEquals("0-10:F 10-15:T 15-20:B 20-30:O 30-35:B 35-50:F 50-60:B 60-100:F", toString(list));
+
+        // abutting intervals of the same type are joined
+        list.addInterval(new Interval(35, 50, IcalXmlStrMap.FBTYPE_BUSY));
+        Assert.assertEquals("0-10:F 10-15:T 15-20:B 20-30:O 30-60:B 60-100:F", toString(list));
+
+        // clipped to the window
+        list.addInterval(new Interval(90, 200, IcalXmlStrMap.FBTYPE_BUSY));
+        Assert.assertEquals("0-10:F 10-15:T 15-20:B 20-30:O 30-60:B 60-90:F 90-100:B", toString(list));
+    }
+
+    @Test
+    public void addIntervals() {
+        String[] types = { IcalXmlStrMap.FBTYPE_BUSY, IcalXmlStrMap.FBTYPE_BUSY_TENTATIVE,
+                IcalXmlStrMap.FBTYPE_BUSY_UNAVAILABLE, IcalXmlStrMap.FBTYPE_NODATA };
+        Random rand = new Random(1234);
+        for (int run = 0; run < 200; run++) {
+            IntervalList one = new IntervalList(0, 1000);
+            IntervalList batch = new IntervalList(0, 1000);
+            List<Interval> toAdd = new ArrayList<Interval>();
+            for (int i = 0; i < 50; i++) {
+                long start = rand.nextInt(1100) - 50;
+                long end = start + rand.nextInt(100);
+                String type = types[rand.nextInt(types.length)];
+                one.addInterval(new Interval(start, end, type));
+                toAdd.add(new Interval(start, end, type));
+            }
+            batch.addIntervals(toAdd);
+            Assert.assertEquals(toString(one), toString(batch));
+
+            Interval prev = null;
+            for (Interval cur = batch.getHead(); cur != null; prev = cur, cur = cur.getNext()) {
+                if (prev != null) {
+                    Assert.assertEquals(prev.getEnd(), cur.getStart());
+                    Assert.assertFalse(prev.getStatus().equals(cur.getStatus()));
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.zimbra.cs.imap;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.HashMap;
 import java.util.Set;
 
@@ -61,4 +65,32 @@ public class ImapFolderTest {
         Assert.assertNotNull(i4set);
         Assert.assertEquals(3, i4set.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void pagedIn() throws Exception {
+        ImapCredentials creds = new ImapCredentials(acct, ImapCredentials.EnabledHack.NONE);
+        ImapFolder i4folder = new ImapFolder(new ImapPath("trash", creds), (byte) 0, null);
+        i4folder.cache(new ImapMessage(3, Type.MESSAGE, 3, 0, null), false);
+        i4folder.cache(new ImapMessage(1, Type.MESSAGE, 11, 0, new String[] { "a" }), false);
+        i4folder.cache(new ImapMessage(2, Type.MESSAGE, 12, 0, new String[] { "a" }), false);
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        out.writeObject(i4folder);
+        out.close();
+        ImapFolder copy = (ImapFolder) new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray())).readObject();
+
+        // size and misses are answered from the paged-in table
+        Assert.assertEquals(3, copy.getSize());
+        Assert.assertNull(copy.getByImapId(99));
+        Assert.assertNull(copy.getById(99));
+
+        ImapMessage i4msg = copy.getById(3);
+        Assert.assertNotNull(i4msg);
+        Assert.assertEquals(1, i4msg.sequence);
+        // item ids that differ from their UIDs still resolve
+        Assert.assertEquals(11, copy.getById(1).imapUid);
+        Assert.assertEquals(2, copy.getByImapId(12).msgId);
+        Assert.assertSame(copy.getBySequence(2).tags, copy.getBySequence(3).tags);
+    }
+}
@@ -210,6 +210,35 @@ public class ImapHandlerTest {
         Assert.assertEquals("Output of SEARCH", "* SEARCH 2 3\r\nsearchtag OK SEARCH completed\r\n", baos.toString());
     }
 
+    @Test
+    public void testFetchStructureFromCache() throws Exception {
+        Account acct = Provisioning.getInstance().getAccount("12aa345b-2b47-44e6-8cb8-7fdfa18c1a9f");
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccount(acct);
+        Message m1 = TestUtil.addMessage(mbox, "Message 1 structure");
+        TestUtil.addMessage(mbox, "Message 2");
+
+        ImapHandler handler = new MockImapHandler();
+        ImapCredentials creds = new ImapCredentials(acct, ImapCredentials.EnabledHack.NONE);
+        handler.setCredentials(creds);
+        handler.setSelectedFolder(new MockImapPath(null, mbox.getFolderById(null, Mailbox.ID_FOLDER_INBOX), creds),
+                (byte) 0);
+        ImapStructureCache structureCache = ImapStructureCache.getInstance();
+        Assert.assertNull("not cached before the first FETCH", structureCache.get(m1));
+
+        int attributes = ImapHandler.FETCH_BODY | ImapHandler.FETCH_BODYSTRUCTURE | ImapHandler.FETCH_ENVELOPE;
+        ByteArrayOutputStream baos = (ByteArrayOutputStream) handler.output;
+        Assert.assertTrue(handler.doFETCH("tag1", "1:*", attributes, null, false, -1));
+        String first = baos.toString();
+        ImapStructureCache.Entry entry = structureCache.get(m1);
+        Assert.assertNotNull("cached by the first FETCH", entry);
+        Assert.assertTrue(first, first.contains("BODYSTRUCTURE " + entry.bodystructure));
+        Assert.assertTrue(first, first.contains("ENVELOPE " + entry.envelope));
+
+        baos.reset();
+        Assert.assertTrue(handler.doFETCH("tag1", "1:*", attributes, null, false, -1));
+        Assert.assertEquals("FETCH answered from the cache", first, baos.toString());
+    }
+
     @Test
     public void testSearchInSearchFolder() throws Exception {
         
@@ -0,0 +1,93 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.imap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.zimbra.cs.mailbox.MailItem;
+
+public class ImapMessageTableTest {
+
+    private static ImapMessage message(int id, int uid, int flags, String... tags) {
+        return new ImapMessage(id, MailItem.Type.MESSAGE, uid, flags, tags.length == 0 ? null : tags);
+    }
+
+    private static ImapMessageTable table(ImapMessage... messages) {
+        ImapMessageTable table = new ImapMessageTable(messages.length);
+        for (ImapMessage i4msg : messages) {
+            table.add(i4msg);
+        }
+        return table;
+    }
+
+    @Test
+    public void lookups() {
+        ImapMessage expunged = message(11, 30, 0);
+        expunged.setExpunged(true);
+        ImapMessageTable table = table(message(10, 10, 0), message(12, 20, 0), expunged);
+        Assert.assertEquals(3, table.size());
+        Assert.assertEquals(1, table.getSequence(10));
+        Assert.assertEquals(3, table.getSequence(30));
+        Assert.assertEquals(-1, table.getSequence(25));
+        Assert.assertEquals(-3, table.uidSearch(25));
+        Assert.assertTrue(table.containsMsgId(12));
+        Assert.assertFalse(table.containsMsgId(20));
+        Assert.assertTrue(table.hasExpunged());
+        Assert.assertFalse(table(message(10, 10, 0)).hasExpunged());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void outOfOrder() {
+        table(message(2, 2, 0), message(1, 1, 0));
+    }
+
+    @Test
+    public void roundTrip() throws Exception {
+        ImapMessage expunged = message(3, 3, 0, "b");
+        expunged.setExpunged(true);
+        ImapMessageTable table = table(
+                message(1, 1, 0, "a", "b"), message(2, 2, 0), expunged, message(4, 4, 0, "a", "b"));
+        Assert.assertEquals(2, table.getTagSetCount());
+        Assert.assertSame(table.getTags(0), table.getTags(3));
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        table.writeTo(new DataOutputStream(bout));
+        ImapMessageTable copy = ImapMessageTable.readFrom(new DataInputStream(new ByteArrayInputStream(bout.toByteArray())));
+
+        List<ImapMessage> msgs = copy.toMessages();
+        Assert.assertEquals(4, msgs.size());
+        for (int i = 0; i < msgs.size(); i++) {
+            ImapMessage i4msg = msgs.get(i);
+            Assert.assertEquals(i + 1, i4msg.sequence);
+            Assert.assertEquals(table.getMsgId(i), i4msg.msgId);
+            Assert.assertEquals(table.getImapUid(i), i4msg.imapUid);
+            Assert.assertEquals(table.getFlags(i), i4msg.flags);
+            Assert.assertEquals(table.getSessionFlags(i), i4msg.sflags);
+            Assert.assertArrayEquals(table.getTags(i), i4msg.tags);
+        }
+        Assert.assertNull(msgs.get(1).tags);
+        Assert.assertTrue(msgs.get(2).isExpunged());
+        Assert.assertSame(msgs.get(0).tags, msgs.get(3).tags);
+    }
+}
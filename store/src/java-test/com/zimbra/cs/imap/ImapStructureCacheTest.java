@@ -0,0 +1,99 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.imap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Properties;
+
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import javax.mail.util.SharedByteArrayInputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.zimbra.common.util.BEncoding;
+import com.zimbra.common.zmime.ZMimeMessage;
+
+public class ImapStructureCacheTest {
+
+    private static final String MESSAGE =
+            "From: =?UTF-8?Q?J=C3=BCrgen?= <juergen@example.com>\r\n" +
+            "To: user@example.com\r\n" +
+            "Subject: caf\u00e9 \"quoted\"\r\n" +
+            "Date: Wed, 14 Oct 2020 09:15:20 -0700\r\n" +
+            "Message-ID: <1@example.com>\r\n" +
+            "MIME-Version: 1.0\r\n" +
+            "Content-Type: multipart/mixed; boundary=\"b\"\r\n\r\n" +
+            "--b\r\n" +
+            "Content-Type: text/plain; charset=UTF-8\r\n\r\n" +
+            "body\r\n" +
+            "--b\r\n" +
+            "Content-Type: application/octet-stream; name=\"r\u00e9sum\u00e9.bin\"\r\n" +
+            "Content-Disposition: attachment\r\n" +
+            "Content-Transfer-Encoding: base64\r\n\r\n" +
+            "AAECAw==\r\n" +
+            "--b--\r\n";
+
+    private static MimeMessage parse() throws Exception {
+        return new ZMimeMessage(Session.getInstance(new Properties()),
+                new SharedByteArrayInputStream(MESSAGE.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] print(MimeMessage mm, ImapStructureCache.Entry entry) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintStream ps = new PrintStream(baos, false, StandardCharsets.UTF_8.name());
+        if (entry != null) {
+            ps.print(entry.body + '|' + entry.bodystructure + '|' + entry.envelope);
+        } else {
+            ImapMessage.serializeStructure(ps, mm, false);
+            ps.print('|');
+            ImapMessage.serializeStructure(ps, mm, true);
+            ps.print('|');
+            ImapMessage.serializeEnvelope(ps, mm);
+        }
+        ps.flush();
+        return baos.toByteArray();
+    }
+
+    @Test
+    public void computeMatchesDirectSerialization() throws Exception {
+        MimeMessage mm = parse();
+        Assert.assertArrayEquals(print(mm, null), print(mm, ImapStructureCache.Entry.compute(mm)));
+    }
+
+    @Test
+    public void encodeDecode() throws Exception {
+        ImapStructureCache.Entry entry = ImapStructureCache.Entry.compute(parse());
+        ImapStructureCache.Entry decoded = ImapStructureCache.Entry.decode(entry.encode());
+        Assert.assertNotNull(decoded);
+        Assert.assertEquals(entry.body, decoded.body);
+        Assert.assertEquals(entry.bodystructure, decoded.bodystructure);
+        Assert.assertEquals(entry.envelope, decoded.envelope);
+    }
+
+    @Test
+    public void decodeRejectsOtherVersions() {
+        String old = BEncoding.encode(Arrays.asList(ImapStructureCache.VERSION - 1, "b", "bs", "e"));
+        Assert.assertNull(ImapStructureCache.Entry.decode(old));
+        Assert.assertNull(ImapStructureCache.Entry.decode("not bencoded"));
+        Assert.assertNull(ImapStructureCache.Entry.decode(BEncoding.encode(Arrays.asList("b", "bs", "e"))));
+    }
+}
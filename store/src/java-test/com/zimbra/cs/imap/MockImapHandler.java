@@ -46,6 +46,11 @@ class MockImapHandler extends ImapHandler {
         return false;
     }
 
+    @Override
+    protected void startCompression(String tag) throws IOException {
+        sendOK(tag, "DEFLATE active");
+    }
+
     @Override
     protected InetSocketAddress getLocalAddress() {
         return new InetSocketAddress("localhost", 0);
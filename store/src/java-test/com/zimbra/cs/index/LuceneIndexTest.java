@@ -16,6 +16,19 @@
  */
 package com.zimbra.cs.index;
 
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.mailbox.ContactConstants;
+import com.zimbra.cs.account.MockProvisioning;
+import com.zimbra.cs.mailbox.Contact;
+import com.zimbra.cs.mailbox.Mailbox;
+import com.zimbra.cs.mailbox.MailboxManager;
+import com.zimbra.cs.mime.ParsedContact;
+
 /**
  * Unit test for {@link LuceneIndex}.
  */
@@ -27,4 +40,40 @@ public final class LuceneIndexTest extends AbstractIndexStoreTest {
         // Default for LC.zimbra_class_index_store_factory.value() is USUALLY this
         return "com.zimbra.cs.index.LuceneIndex$Factory";
     }
+
+    @Test
+    public void nearRealTimeSearcher() throws Exception {
+        LC.zimbra_index_nrt_enabled.setDefault(true);
+        LC.zimbra_index_nrt_refresh_millis.setDefault(100);
+        try {
+            Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+            Contact contact = mbox.createContact(null, new ParsedContact(
+                    Collections.singletonMap(ContactConstants.A_email, "test1@zimbra.com")),
+                    Mailbox.ID_FOLDER_CONTACTS, null);
+            mbox.index.indexDeferredItems();
+
+            IndexStore index = mbox.index.getIndexStore();
+            Assert.assertTrue(index.isNearRealTime());
+            ZimbraIndexSearcher searcher = index.openSearcher();
+            Assert.assertEquals(1, searcher.getIndexReader().numDocs());
+            searcher.close();
+
+            // uncommitted delete becomes visible through the background refresh
+            Indexer indexer = index.openIndexer();
+            indexer.deleteDocument(Collections.singletonList(contact.getId()));
+            int numDocs;
+            long deadline = System.currentTimeMillis() + 5000;
+            do {
+                Thread.sleep(50);
+                searcher = index.openSearcher();
+                numDocs = searcher.getIndexReader().numDocs();
+                searcher.close();
+            } while (numDocs != 0 && System.currentTimeMillis() < deadline);
+            Assert.assertEquals(0, numDocs);
+            indexer.close();
+        } finally {
+            LC.zimbra_index_nrt_enabled.setDefault(false);
+            LC.zimbra_index_nrt_refresh_millis.setDefault(1000);
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.common.soap.Element;
+import com.zimbra.common.soap.MailConstants;
+import com.zimbra.common.soap.SoapProtocol;
+import com.zimbra.cs.mailbox.MailItem;
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+
+/**
+ * Unit test for {@link ProxiedQueryResults}, with the remote server stubbed out.
+ */
+public final class ProxiedQueryResultsTest {
+
+    /** hits the stubbed remote server has */
+    private static final int NUM_HITS = 60;
+    /** size of the first page for a limit of 10 */
+    private static final int CHUNK_SIZE = ProxiedQueryResults.MIN_BUFFER_CHUNK_SIZE;
+
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initProvisioning();
+    }
+
+    @After
+    public void tearDown() {
+        LC.search_remote_query_timeout_ms.setDefault(30 * 1000);
+    }
+
+    /**
+     * Serves {@link #NUM_HITS} hits whose sort value is their position.  Requests for pages at or beyond
+     * {@code blockFrom} hang until they are interrupted.
+     */
+    private static final class StubResults extends ProxiedQueryResults {
+        final List<Integer> offsets = Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        private final int blockFrom;
+
+        StubResults(int blockFrom) {
+            super(SoapProtocol.Soap12, null, "acct", "localhost", params(), "in:inbox", SearchParams.Fetch.NORMAL);
+            this.blockFrom = blockFrom;
+        }
+
+        private static SearchParams params() {
+            SearchParams params = new SearchParams();
+            params.setTypes(EnumSet.of(MailItem.Type.MESSAGE));
+            params.setSortBy(SortBy.DATE_DESC);
+            params.setLimit(10);
+            return params;
+        }
+
+        @Override
+        Page fetch(Element searchElt, int offset, int chunkSize) throws ServiceException {
+            offsets.add(offset);
+            if (offset >= blockFrom) {
+                blocked.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw ServiceException.INTERRUPTED("stubbed fetch");
+                }
+            }
+            Page page = new Page(chunkSize, false);
+            page.hitOffset = offset;
+            for (int i = offset; i < Math.min(offset + chunkSize, NUM_HITS); i++) {
+                Element hit = Element.create(SoapProtocol.Soap12, MailConstants.E_MSG).addAttribute(MailConstants.A_ID, i);
+                page.hits.add(new ProxiedHit(this, hit, (long) i));
+            }
+            page.hasMore = offset + chunkSize < NUM_HITS;
+            return page;
+        }
+    }
+
+    private static long position(ZimbraHit hit) throws ServiceException {
+        return (Long) hit.getSortField(SortBy.DATE_DESC);
+    }
+
+    @Test
+    public void pages() throws Exception {
+        StubResults results = new StubResults(Integer.MAX_VALUE);
+        results.prefetch();
+        for (int i = 0; i < NUM_HITS; i++) {
+            ZimbraHit hit = results.getNext();
+            Assert.assertNotNull(hit);
+            Assert.assertEquals(i, position(hit));
+        }
+        Assert.assertNull(results.getNext());
+        results.close();
+        Assert.assertEquals(Integer.valueOf(0), results.offsets.get(0));
+    }
+
+    @Test
+    public void prefetchAtOtherOffset() throws Exception {
+        StubResults results = new StubResults(Integer.MAX_VALUE);
+        results.prefetch();
+        // the prefetched first page is dropped and the page the caller skipped to is fetched instead
+        ZimbraHit hit = results.skipToHit(30);
+        Assert.assertNotNull(hit);
+        Assert.assertEquals(30, position(hit));
+        Assert.assertTrue(results.offsets.toString(), results.offsets.contains(30));
+        Assert.assertEquals(31, position(results.getNext()));
+        results.close();
+    }
+
+    @Test
+    public void timeoutReturnsPartialResults() throws Exception {
+        LC.search_remote_query_timeout_ms.setDefault(200);
+        StubResults results = new StubResults(CHUNK_SIZE);
+        int count = 0;
+        long start = System.currentTimeMillis();
+        while (results.getNext() != null) {
+            count++;
+        }
+        // the first page is all this target contributes
+        Assert.assertEquals(CHUNK_SIZE, count);
+        Assert.assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(30));
+        // and the request that timed out was cancelled
+        Assert.assertTrue(results.interrupted.await(10, TimeUnit.SECONDS));
+        results.close();
+    }
+
+    @Test
+    public void closeCancelsPrefetch() throws Exception {
+        StubResults results = new StubResults(0);
+        results.prefetch();
+        Assert.assertTrue(results.blocked.await(10, TimeUnit.SECONDS));
+        results.close();
+        Assert.assertTrue(results.interrupted.await(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.index;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.cs.mailbox.MailItem;
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+
+/**
+ * Unit test for {@link ReSortingQueryResults}.
+ */
+public final class ReSortingQueryResultsTest {
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initServer();
+    }
+
+    @After
+    public void tearDown() {
+        LC.search_resort_max_buffered_hits.setDefault(10000);
+        LC.zimbra_tmp_directory.setDefault("${zimbra_home}/data/tmp");
+    }
+
+    private static final String[] NAMES = {
+        "delta", "Alpha", "écho", "charlie", "bravo", "alpha", "Echo", "foxtrot", "golf", "hotel"
+    };
+
+    private static MockQueryResults createResults(int count) {
+        MockQueryResults results = new MockQueryResults(EnumSet.of(MailItem.Type.CONTACT), SortBy.NAME_ASC);
+        Random random = new Random(42);
+        for (int i = 0; i < count; i++) {
+            // several hits share a name so that the item id breaks the tie
+            results.add(new MockHit(results, random.nextInt(1000) + 1, NAMES[random.nextInt(NAMES.length)]));
+        }
+        return results;
+    }
+
+    private static SearchParams createParams(SortBy sort, int offset, int limit) {
+        SearchParams params = new SearchParams();
+        params.setSortBy(sort);
+        params.setOffset(offset);
+        params.setLimit(limit);
+        params.setLocale(Locale.ENGLISH);
+        return params;
+    }
+
+    /**
+     * Returns the hits of {@code results} sorted the way the old buffering implementation sorted them.
+     */
+    private static List<ZimbraHit> expected(MockQueryResults results, SortBy sort) throws Exception {
+        List<ZimbraHit> hits = new ArrayList<ZimbraHit>();
+        results.resetIterator();
+        ZimbraHit hit;
+        while ((hit = results.getNext()) != null) {
+            hits.add(hit);
+        }
+        results.resetIterator();
+        Collections.sort(hits, sort.getHitComparator(Locale.ENGLISH));
+        return hits;
+    }
+
+    private static List<ZimbraHit> drain(ZimbraQueryResults results) throws Exception {
+        List<ZimbraHit> hits = new ArrayList<ZimbraHit>();
+        ZimbraHit hit;
+        while ((hit = results.getNext()) != null) {
+            hits.add(hit);
+        }
+        return hits;
+    }
+
+    @Test
+    public void topHits() throws Exception {
+        MockQueryResults results = createResults(200);
+        List<ZimbraHit> expected = expected(results, SortBy.NAME_LOCALIZED_ASC);
+        ReSortingQueryResults resorted = new ReSortingQueryResults(results, SortBy.NAME_LOCALIZED_ASC,
+                createParams(SortBy.NAME_LOCALIZED_ASC, 20, 10));
+        // offset + limit + 1 hits, so that the 'more' flag can be set
+        Assert.assertEquals(expected.subList(0, 31), drain(resorted));
+        Assert.assertSame(expected.get(20), resorted.skipToHit(20));
+        Assert.assertSame(expected.get(21), resorted.peekNext());
+        resorted.close();
+    }
+
+    @Test
+    public void descending() throws Exception {
+        MockQueryResults results = createResults(200);
+        List<ZimbraHit> expected = expected(results, SortBy.NAME_LOCALIZED_DESC);
+        ReSortingQueryResults resorted = new ReSortingQueryResults(results, SortBy.NAME_LOCALIZED_DESC,
+                createParams(SortBy.NAME_LOCALIZED_DESC, 0, 0));
+        Assert.assertEquals(expected, drain(resorted));
+        resorted.close();
+    }
+
+    @Test
+    public void stableTies() throws Exception {
+        MockQueryResults results = new MockQueryResults(EnumSet.of(MailItem.Type.CONTACT), SortBy.NAME_ASC);
+        MockHit first = new MockHit(results, 7, "same");
+        MockHit second = new MockHit(results, 7, "same");
+        MockHit third = new MockHit(results, 3, "same");
+        results.add(first);
+        results.add(second);
+        results.add(third);
+        ReSortingQueryResults resorted = new ReSortingQueryResults(results, SortBy.NAME_LOCALIZED_ASC,
+                createParams(SortBy.NAME_LOCALIZED_ASC, 0, 10));
+        List<ZimbraHit> hits = drain(resorted);
+        Assert.assertSame(third, hits.get(0));
+        Assert.assertSame(first, hits.get(1));
+        Assert.assertSame(second, hits.get(2));
+        resorted.close();
+    }
+
+    @Test
+    public void spill() throws Exception {
+        File tmp = folder.newFolder("tmp");
+        LC.zimbra_tmp_directory.setDefault(tmp.getPath());
+        LC.search_resort_max_buffered_hits.setDefault(16);
+
+        MockQueryResults results = createResults(300);
+        List<ZimbraHit> expected = expected(results, SortBy.NAME_LOCALIZED_ASC);
+        ReSortingQueryResults resorted = new ReSortingQueryResults(results, SortBy.NAME_LOCALIZED_ASC,
+                createParams(SortBy.NAME_LOCALIZED_ASC, 0, 0));
+        Assert.assertEquals(expected, drain(resorted));
+        Assert.assertEquals(1, tmp.list().length);
+
+        // jump back and forth across pages
+        Assert.assertSame(expected.get(250), resorted.skipToHit(250));
+        Assert.assertSame(expected.get(3), resorted.skipToHit(3));
+        Assert.assertSame(expected.get(4), resorted.getNext());
+        Assert.assertNull(resorted.skipToHit(300));
+
+        resorted.close();
+        Assert.assertEquals(0, tmp.list().length);
+    }
+
+    @Test
+    public void deepPage() throws Exception {
+        File tmp = folder.newFolder("tmp");
+        LC.zimbra_tmp_directory.setDefault(tmp.getPath());
+        LC.search_resort_max_buffered_hits.setDefault(16);
+
+        MockQueryResults results = createResults(300);
+        List<ZimbraHit> expected = expected(results, SortBy.NAME_LOCALIZED_ASC);
+        ReSortingQueryResults resorted = new ReSortingQueryResults(results, SortBy.NAME_LOCALIZED_ASC,
+                createParams(SortBy.NAME_LOCALIZED_ASC, 100, 25));
+        // what ResultsPager does for an offset request
+        Assert.assertSame(expected.get(99), resorted.skipToHit(99));
+        Assert.assertEquals(expected.subList(100, 126), drain(resorted));
+        resorted.close();
+        Assert.assertEquals(0, tmp.list().length);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.lmtpserver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.util.ZimbraLog;
+import com.zimbra.cs.account.Account;
+import com.zimbra.cs.account.Provisioning;
+import com.zimbra.cs.mailbox.Mailbox;
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+import com.zimbra.cs.mailbox.Message;
+import com.zimbra.cs.mime.ParsedMessage;
+
+public final class ZimbraLmtpBackendTest {
+
+    private static final int NUM_RCPTS = 5;
+
+    /** Recipient address to what the callback saw when the message was delivered to it. */
+    private static final Map<String, Delivery> deliveries = new ConcurrentHashMap<String, Delivery>();
+
+    private static final class Delivery {
+        final String thread = Thread.currentThread().getName();
+        final String logContext = ZimbraLog.getContextString();
+        final String digest;
+
+        Delivery(Message msg) {
+            digest = msg.getDigest();
+        }
+    }
+
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initServer();
+        ZimbraLmtpBackend.addCallback(new LmtpCallback() {
+            @Override
+            public void afterDelivery(Account account, Mailbox mbox, String envelopeSender, String recipientEmail,
+                    Message newMessage) {
+                deliveries.put(recipientEmail, new Delivery(newMessage));
+            }
+
+            @Override
+            public void forwardWithoutDelivery(Account account, Mailbox mbox, String envelopeSender,
+                    String recipientEmail, ParsedMessage pm) {
+            }
+        });
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        MailboxTestUtil.clearData();
+        deliveries.clear();
+        Provisioning prov = Provisioning.getInstance();
+        for (int i = 0; i < NUM_RCPTS; i++) {
+            prov.createAccount("rcpt" + i + "@zimbra.com", "secret", new HashMap<String, Object>());
+        }
+        HashMap<String, Object> attrs = new HashMap<String, Object>();
+        attrs.put(Provisioning.A_zimbraPrefMailLocalDeliveryDisabled, "TRUE");
+        prov.createAccount("disabled@zimbra.com", "secret", attrs);
+
+        LC.zimbra_lmtp_parallel_delivery_threads.setDefault(NUM_RCPTS);
+        LC.zimbra_lmtp_parallel_delivery_min_recipients.setDefault(2);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        LC.zimbra_lmtp_parallel_delivery_threads.setDefault(0);
+        LC.zimbra_lmtp_parallel_delivery_min_recipients.setDefault(10);
+        ZimbraLog.clearContext();
+        MailboxTestUtil.clearData();
+    }
+
+    @Test
+    public void parallelDelivery() throws Exception {
+        // the discarded and unknown recipients must not count as the first delivery
+        LmtpEnvelope env = envelope("disabled@zimbra.com", "rcpt0@zimbra.com", "nosuchuser@zimbra.com",
+                "rcpt1@zimbra.com", "rcpt2@zimbra.com", "rcpt3@zimbra.com", "rcpt4@zimbra.com");
+        ZimbraLog.addConnectionIdToContext("42");
+        deliver(env, "parallelDelivery");
+
+        // replies are reported per recipient, in RCPT order
+        List<LmtpReply> replies = new ArrayList<LmtpReply>();
+        for (LmtpAddress rcpt : env.getRecipients()) {
+            replies.add(rcpt.getDeliveryStatus());
+        }
+        assertEquals(replies.toString(), 7, replies.size());
+        assertEquals(LmtpReply.DELIVERY_OK, replies.get(0));
+        assertEquals(LmtpReply.DELIVERY_OK, replies.get(1));
+        assertEquals(LmtpReply.PERMANENT_FAILURE, replies.get(2));
+        for (int i = 3; i < replies.size(); i++) {
+            assertEquals(LmtpReply.DELIVERY_OK, replies.get(i));
+        }
+        assertFalse(deliveries.containsKey("disabled@zimbra.com"));
+        assertEquals(NUM_RCPTS, deliveries.size());
+
+        // the first delivery stores the shared blob on the LMTP thread, the rest link to it from the pool
+        Delivery first = deliveries.get("rcpt0@zimbra.com");
+        assertEquals(Thread.currentThread().getName(), first.thread);
+        for (int i = 1; i < NUM_RCPTS; i++) {
+            Delivery delivery = deliveries.get("rcpt" + i + "@zimbra.com");
+            assertNotNull(delivery);
+            assertTrue(delivery.thread, delivery.thread.startsWith("LmtpDelivery-"));
+            assertEquals(first.digest, delivery.digest);
+            // pool threads log with the session's context
+            assertTrue(delivery.logContext, delivery.logContext.contains("cid=42"));
+        }
+
+        // the LMTP thread keeps its own context
+        assertTrue(ZimbraLog.getContextString(), ZimbraLog.getContextString().contains("cid=42"));
+    }
+
+    @Test
+    public void sequentialBelowThreshold() throws Exception {
+        LC.zimbra_lmtp_parallel_delivery_min_recipients.setDefault(NUM_RCPTS + 1);
+        LmtpEnvelope env = envelope("rcpt0@zimbra.com", "rcpt1@zimbra.com", "rcpt2@zimbra.com");
+        deliver(env, "sequentialBelowThreshold");
+
+        assertEquals(3, deliveries.size());
+        for (LmtpAddress rcpt : env.getRecipients()) {
+            assertEquals(LmtpReply.DELIVERY_OK, rcpt.getDeliveryStatus());
+            assertEquals(Thread.currentThread().getName(), deliveries.get(rcpt.getEmailAddress()).thread);
+        }
+    }
+
+    private static LmtpEnvelope envelope(String... rcpts) {
+        LmtpEnvelope env = new LmtpEnvelope();
+        env.setSender(new LmtpAddress("<sender@example.com>", new String[] { "BODY", "SIZE" }, null));
+        for (String rcpt : rcpts) {
+            env.addLocalRecipient(new LmtpAddress("<" + rcpt + ">", null, null));
+        }
+        return env;
+    }
+
+    private static void deliver(LmtpEnvelope env, String msgId) throws Exception {
+        byte[] content = ("From: sender@example.com\r\n" +
+                "To: rcpt0@zimbra.com\r\n" +
+                "Subject: fan-out\r\n" +
+                "Message-ID: <" + msgId + "@example.com>\r\n" +
+                "\r\n" +
+                "hello\r\n").getBytes();
+        new ZimbraLmtpBackend(LmtpConfig.getInstance()).deliver(env, new ByteArrayInputStream(content), content.length);
+    }
+}
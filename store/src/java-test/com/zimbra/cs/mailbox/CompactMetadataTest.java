@@ -0,0 +1,175 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.mailbox;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.service.ServiceException;
+
+/**
+ * Unit test for {@link CompactMetadata}.
+ */
+public final class CompactMetadataTest {
+
+    @After
+    public void tearDown() {
+        LC.metadata_compact_encoding.setDefault(true);
+    }
+
+    private static Metadata sample() {
+        Metadata meta = new Metadata();
+        meta.put(Metadata.FN_METADATA_VERSION, 10);
+        meta.put(Metadata.FN_SENDER, "Jane Doe <jane.doe@example.com>");
+        meta.put(Metadata.FN_RAW_SUBJ, "Réunion – 📅 planning");
+        meta.put(Metadata.FN_TOTAL_SIZE, 7596456L);
+        meta.put(Metadata.FN_LAST_DATE, 1791234567890L);
+        meta.put("neg", -42);
+        meta.put("min", Long.MIN_VALUE);
+        meta.put("max", Long.MAX_VALUE);
+        meta.put("flag", true);
+        meta.put("ratio", 0.5);
+        meta.put("empty", "");
+        Metadata draft = new Metadata();
+        draft.put(Metadata.FN_REPLY_ORIG, "7a3bd82c-0d54-4c1b-9d4e-1b51d43c3a7f:257");
+        draft.put("custom", "value");
+        Metadata inner = new Metadata();
+        inner.put("deep", 1);
+        draft.put("inner", inner);
+        meta.put(Metadata.FN_DRAFT, draft);
+        MetadataList list = new MetadataList();
+        list.add(1000L);
+        list.add("two");
+        list.add(new Metadata().put("custom", 3));
+        list.add(new MetadataList().add(4));
+        meta.put(Metadata.FN_REPLY_LIST, list);
+        meta.put(Metadata.FN_ATTRS, new Metadata());
+        return meta;
+    }
+
+    @Test
+    public void roundTrip() throws Exception {
+        Metadata meta = sample();
+        String compact = meta.toString();
+        Assert.assertTrue(compact, CompactMetadata.isEncoded(compact));
+
+        // decodes to the same values as the BEncoded form
+        String legacy = meta.toLegacyString();
+        Assert.assertEquals(legacy, new Metadata(compact).toLegacyString());
+        Assert.assertEquals(new Metadata(legacy).asMap().toString(), new Metadata(compact).asMap().toString());
+
+        Metadata decoded = new Metadata(compact);
+        Assert.assertEquals("Réunion – 📅 planning", decoded.get(Metadata.FN_RAW_SUBJ));
+        Assert.assertEquals(1791234567890L, decoded.getLong(Metadata.FN_LAST_DATE));
+        Assert.assertEquals(-42, decoded.getLong("neg"));
+        Assert.assertEquals(Long.MIN_VALUE, decoded.getLong("min"));
+        Assert.assertEquals(Long.MAX_VALUE, decoded.getLong("max"));
+        Assert.assertTrue(decoded.getBool("flag"));
+        Assert.assertEquals(0.5, decoded.getDouble("ratio"), 0);
+        Assert.assertEquals("", decoded.get("empty"));
+        Assert.assertEquals(1, decoded.getMap(Metadata.FN_DRAFT).getMap("inner").getLong("deep"));
+        MetadataList list = decoded.getList(Metadata.FN_REPLY_LIST);
+        Assert.assertEquals(1000L, list.getLong(0));
+        Assert.assertEquals("two", list.get(1));
+        Assert.assertEquals(3, list.getMap(2).getLong("custom"));
+        Assert.assertEquals(4, list.getList(3).getLong(0));
+        Assert.assertTrue(decoded.getMap(Metadata.FN_ATTRS).isEmpty());
+        // known keys decode to the key constants
+        for (String key : decoded.asMap().keySet()) {
+            if (key.equals(Metadata.FN_SENDER)) {
+                Assert.assertSame(Metadata.FN_SENDER, key);
+            }
+        }
+    }
+
+    @Test
+    public void legacyIsConvertedOnWrite() throws Exception {
+        String legacy = sample().toLegacyString();
+        Metadata meta = new Metadata(legacy);
+        Assert.assertEquals("Jane Doe <jane.doe@example.com>", meta.get(Metadata.FN_SENDER));
+        Assert.assertFalse(meta.containsKey(Metadata.FN_MD_VERSION));
+        String compact = meta.toString();
+        Assert.assertTrue(compact, CompactMetadata.isEncoded(compact));
+        Assert.assertTrue(compact.length() < legacy.length());
+        Assert.assertEquals(legacy, Metadata.toLegacyEncoding(compact));
+        Assert.assertSame(legacy, Metadata.toLegacyEncoding(legacy));
+
+        LC.metadata_compact_encoding.setDefault(false);
+        Assert.assertEquals(legacy, meta.toString());
+    }
+
+    @Test
+    public void lazySubMaps() throws Exception {
+        String compact = sample().toString();
+        Metadata meta = new Metadata(compact);
+        Object draft = meta.map.get(Metadata.FN_DRAFT);
+        Assert.assertTrue(draft instanceof CompactMetadata.LazyMap);
+        Assert.assertFalse(((CompactMetadata.LazyMap) draft).isDecoded());
+
+        // unread sub-maps are copied as they are
+        meta.put(Metadata.FN_SENDER, "John Smith <john.smith@example.com>");
+        String updated = meta.toString();
+        Assert.assertFalse(((CompactMetadata.LazyMap) draft).isDecoded());
+        Assert.assertEquals("value", new Metadata(updated).getMap(Metadata.FN_DRAFT).get("custom"));
+
+        // changes to a sub-map are encoded
+        @SuppressWarnings("unchecked")
+        Map<Object, Object> map = (Map<Object, Object>) draft;
+        map.put("custom", "changed");
+        Assert.assertTrue(((CompactMetadata.LazyMap) draft).isDecoded());
+        Assert.assertEquals("changed", new Metadata(meta.toString()).getMap(Metadata.FN_DRAFT).get("custom"));
+    }
+
+    @Test
+    public void getMapDoesNotDecode() throws Exception {
+        Metadata meta = new Metadata(sample().toString());
+        CompactMetadata.LazyMap draft = (CompactMetadata.LazyMap) meta.map.get(Metadata.FN_DRAFT);
+
+        Metadata sub = meta.getMap(Metadata.FN_DRAFT);
+        Assert.assertFalse(draft.isDecoded());
+        Assert.assertEquals(1, sub.getMap("inner").getLong("deep"));
+        Assert.assertFalse(draft.isDecoded());
+
+        // the returned map is a copy, as it is for BEncoded metadata
+        sub.put("custom", "changed");
+        Assert.assertEquals("changed", sub.get("custom"));
+        Assert.assertEquals("value", meta.getMap(Metadata.FN_DRAFT).get("custom"));
+        Assert.assertEquals("value", new Metadata(meta.toString()).getMap(Metadata.FN_DRAFT).get("custom"));
+    }
+
+    @Test
+    public void invalid() {
+        String compact = sample().toString();
+        String[] corrupt = {
+            compact.substring(0, compact.length() - 1), compact + "x", "~2d00",
+            // nested maps are checked before they are read: an unknown key reference, an unknown value type
+            "~1d;010d601TLi0", "~1d9010d4010x"
+        };
+        for (String encoded : corrupt) {
+            try {
+                new Metadata(encoded);
+                Assert.fail(encoded);
+            } catch (ServiceException e) {
+                Assert.assertEquals(MailServiceException.INVALID_METADATA, e.getCode());
+            }
+        }
+    }
+}
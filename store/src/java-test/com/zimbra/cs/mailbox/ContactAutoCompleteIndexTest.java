@@ -0,0 +1,159 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.mailbox;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.mail.internet.InternetAddress;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSet;
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.mailbox.ContactConstants;
+import com.zimbra.cs.account.MockProvisioning;
+import com.zimbra.cs.account.Provisioning;
+import com.zimbra.cs.mime.ParsedContact;
+
+/**
+ * Unit test for {@link ContactAutoCompleteIndex}.
+ */
+public final class ContactAutoCompleteIndexTest {
+
+    private static final Set<Integer> CONTACTS = Collections.singleton(Mailbox.ID_FOLDER_CONTACTS);
+
+    private Mailbox mbox;
+
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initServer();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        MailboxTestUtil.clearData();
+        Provisioning.getInstance().createAccount("test@zimbra.com", "secret", new HashMap<String, Object>());
+        mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        LC.contact_autocomplete_index_max_contacts.setDefault(10000);
+        MailboxTestUtil.clearData();
+    }
+
+    private Contact createContact(String first, String last, String email) throws Exception {
+        Map<String, Object> fields = new HashMap<String, Object>();
+        fields.put(ContactConstants.A_firstName, first);
+        fields.put(ContactConstants.A_lastName, last);
+        fields.put(ContactConstants.A_email, email);
+        fields.put(ContactConstants.A_notes, "not indexed");
+        return mbox.createContact(null, new ParsedContact(fields), Mailbox.ID_FOLDER_CONTACTS, null);
+    }
+
+    private static Set<Integer> ids(List<ContactAutoCompleteIndex.Entry> entries) {
+        ImmutableSet.Builder<Integer> ids = ImmutableSet.builder();
+        for (ContactAutoCompleteIndex.Entry entry : entries) {
+            ids.add(entry.getId());
+        }
+        return ids.build();
+    }
+
+    @Test
+    public void search() throws Exception {
+        Contact c1 = createContact("Mary Ann", "Smith", "mary@zimbra.com");
+        Contact c2 = createContact("John", "Smithers", "jsmith@example.com");
+        ContactAutoCompleteIndex index = mbox.getContactAutoCompleteIndex();
+
+        Assert.assertEquals(ImmutableSet.of(c1.getId(), c2.getId()), ids(index.search(Arrays.asList("smith"), CONTACTS)));
+        Assert.assertEquals(ImmutableSet.of(c1.getId()), ids(index.search(Arrays.asList("ann"), CONTACTS)));
+        Assert.assertEquals(ImmutableSet.of(c1.getId()), ids(index.search(Arrays.asList("mary ann"), CONTACTS)));
+        Assert.assertEquals(ImmutableSet.of(c2.getId()), ids(index.search(Arrays.asList("jsm"), CONTACTS)));
+        Assert.assertEquals(ImmutableSet.of(c2.getId()), ids(index.search(Arrays.asList("smith", "jo"), CONTACTS)));
+        Assert.assertTrue(index.search(Arrays.asList("zimbra"), CONTACTS).isEmpty());
+        Assert.assertTrue(index.search(Arrays.asList("smith"),
+                Collections.singleton(Mailbox.ID_FOLDER_AUTO_CONTACTS)).isEmpty());
+        Assert.assertNull(index.search(Collections.<String>emptyList(), CONTACTS));
+
+        ContactAutoCompleteIndex.Entry entry = index.search(Arrays.asList("mary"), CONTACTS).get(0);
+        Assert.assertEquals(Mailbox.ID_FOLDER_CONTACTS, entry.getFolderId());
+        Assert.assertEquals("mary@zimbra.com", entry.getFields().get(ContactConstants.A_email));
+        Assert.assertFalse(entry.getFields().containsKey(ContactConstants.A_notes));
+    }
+
+    @Test
+    public void changes() throws Exception {
+        Contact c1 = createContact("First", "Last", "first.last@zimbra.com");
+        ContactAutoCompleteIndex index = mbox.getContactAutoCompleteIndex();
+        Assert.assertEquals(ImmutableSet.of(c1.getId()), ids(index.search(Arrays.asList("fir"), CONTACTS)));
+
+        // created after the index was loaded
+        Contact c2 = createContact("Firmin", "Other", "firmin@zimbra.com");
+        Assert.assertEquals(ImmutableSet.of(c1.getId(), c2.getId()), ids(index.search(Arrays.asList("fir"), CONTACTS)));
+
+        Map<String, Object> fields = new HashMap<String, Object>();
+        fields.put(ContactConstants.A_firstName, "Renamed");
+        fields.put(ContactConstants.A_email, "renamed@zimbra.com");
+        mbox.modifyContact(null, c2.getId(), new ParsedContact(fields));
+        Assert.assertEquals(ImmutableSet.of(c1.getId()), ids(index.search(Arrays.asList("fir"), CONTACTS)));
+        Assert.assertEquals(ImmutableSet.of(c2.getId()), ids(index.search(Arrays.asList("ren"), CONTACTS)));
+
+        mbox.move(null, c1.getId(), MailItem.Type.CONTACT, Mailbox.ID_FOLDER_TRASH);
+        Assert.assertTrue(index.search(Arrays.asList("fir"), CONTACTS).isEmpty());
+        Assert.assertEquals(ImmutableSet.of(c1.getId()),
+                ids(index.search(Arrays.asList("fir"), Collections.singleton(Mailbox.ID_FOLDER_TRASH))));
+
+        mbox.delete(null, c2.getId(), MailItem.Type.CONTACT);
+        Assert.assertTrue(index.search(Arrays.asList("ren"), CONTACTS).isEmpty());
+    }
+
+    @Test
+    public void tooManyContacts() throws Exception {
+        createContact("First", "Last", "first.last@zimbra.com");
+        createContact("Second", "Last", "second.last@zimbra.com");
+        LC.contact_autocomplete_index_max_contacts.setDefault(1);
+        ContactAutoCompleteIndex index = new ContactAutoCompleteIndex(mbox);
+        Assert.assertNull(index.search(Arrays.asList("last"), CONTACTS));
+
+        // and auto-complete falls back to an index search
+        ContactAutoComplete autocomplete = new ContactAutoComplete(mbox.getAccount(), new OperationContext(mbox));
+        Assert.assertEquals(2, autocomplete.query("last", null, 10).entries.size());
+    }
+
+    @Test
+    public void rankings() throws Exception {
+        createContact("First", "Last", "first.last@zimbra.com");
+        ContactAutoCompleteIndex index = mbox.getContactAutoCompleteIndex();
+        ContactRankings rankings = index.getRankings();
+        Assert.assertSame(rankings, index.getRankings());
+        Assert.assertEquals(0, rankings.query("first.last@zimbra.com"));
+
+        ContactRankings.increment(mbox.getAccountId(),
+                Collections.singleton(new InternetAddress("first.last@zimbra.com")));
+        Assert.assertNotSame(rankings, index.getRankings());
+        Assert.assertEquals(1, index.getRankings().query("first.last@zimbra.com"));
+    }
+}
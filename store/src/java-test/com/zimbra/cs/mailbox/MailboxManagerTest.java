@@ -0,0 +1,125 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.mailbox;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.zimbra.cs.account.MockProvisioning;
+import com.zimbra.cs.account.Provisioning;
+
+/**
+ * Unit test for {@link MailboxManager}.
+ */
+public final class MailboxManagerTest {
+
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initServer();
+        Provisioning prov = Provisioning.getInstance();
+        prov.createAccount("test@zimbra.com", "secret", new HashMap<String, Object>());
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        MailboxTestUtil.clearData();
+    }
+
+    @Test
+    public void concurrentLoad() throws Exception {
+        final int mailboxId = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID).getId();
+        // a fresh manager has the mailbox in the database but nothing cached
+        final MailboxManager mgr = new MailboxManager();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Mailbox>> results = new ArrayList<Future<Mailbox>>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(new Callable<Mailbox>() {
+                    @Override
+                    public Mailbox call() throws Exception {
+                        start.await();
+                        return mgr.getMailboxById(mailboxId);
+                    }
+                }));
+            }
+            start.countDown();
+            Mailbox mbox = results.get(0).get();
+            for (Future<Mailbox> result : results) {
+                Assert.assertSame(mbox, result.get());
+            }
+            Assert.assertSame(mbox, mgr.getMailboxById(mailboxId));
+            Assert.assertEquals(1, mgr.getAllLoadedMailboxes().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void hardTierEviction() throws Exception {
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        MailboxManager.MailboxMap map = new MailboxManager.MailboxMap(1);
+        map.put(mbox.getId(), mbox);
+        map.put(-1, new MailboxMaintenance(mbox.getAccountId(), -1));
+        // still referenced by this test, so the soft reference keeps the entry alive after it left the hard tier
+        map.put(-3, mbox);
+        Assert.assertSame(mbox, map.get(mbox.getId()));
+        Assert.assertSame(mbox, map.get(-3));
+        Assert.assertEquals(3, map.size());
+        Assert.assertSame(mbox, map.remove(mbox.getId()));
+        Assert.assertNull(map.get(mbox.getId()));
+        Assert.assertEquals(2, map.size());
+    }
+
+    @Test
+    public void maintenance() throws Exception {
+        final Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        MailboxMaintenance maintenance = MailboxManager.getInstance().beginMaintenance(mbox.getAccountId(), mbox.getId());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Mailbox> result = executor.submit(new Callable<Mailbox>() {
+                @Override
+                public Mailbox call() throws Exception {
+                    return MailboxManager.getInstance().getMailboxById(mbox.getId());
+                }
+            });
+            try {
+                result.get();
+                Assert.fail("mailbox is in maintenance");
+            } catch (ExecutionException e) {
+                Assert.assertEquals(MailServiceException.MAINTENANCE, ((MailServiceException) e.getCause()).getCode());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        MailboxManager.getInstance().endMaintenance(maintenance, true, false);
+        Assert.assertTrue(MailboxManager.getInstance().isMailboxLoadedAndAvailable(mbox.getId()));
+        Assert.assertSame(mbox, MailboxManager.getInstance().getMailboxById(mbox.getId()));
+    }
+}
@@ -52,6 +52,7 @@ import com.zimbra.cs.service.mail.ServiceTestUtil;
 import com.zimbra.cs.session.PendingLocalModifications;
 import com.zimbra.cs.session.PendingModifications;
 import com.zimbra.cs.session.PendingModifications.ModificationKey;
+import com.zimbra.cs.store.MailboxBlob;
 import com.zimbra.cs.store.MockStoreManager;
 import com.zimbra.cs.store.StoreManager;
 
@@ -711,6 +712,31 @@ public final class MailboxTest {
         Assert.assertEquals(10L, mbox.getSize());
     }
 
+    @Test
+    public void relocateBlobs() throws Exception {
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        List<MailboxBlob.MailboxBlobInfo> blobs = new ArrayList<MailboxBlob.MailboxBlobInfo>();
+        int[] ids = new int[3];
+        for (int i = 0; i < ids.length; i++) {
+            ParsedMessage pm = new ParsedMessage(("Subject: draft " + i + "\r\n\r\nbody").getBytes(), false);
+            Message msg = mbox.saveDraft(null, pm, Mailbox.ID_AUTO_INCREMENT);
+            ids[i] = msg.getId();
+            blobs.add(new MailboxBlob.MailboxBlobInfo(null, mbox.getId(), msg.getId(), msg.getSavedSequence(),
+                    msg.getLocator(), msg.getDigest()));
+        }
+        // the second draft is saved again and the third deleted after their blobs were "copied"
+        mbox.saveDraft(null, new ParsedMessage("Subject: changed\r\n\r\nbody".getBytes(), false), ids[1]);
+        mbox.delete(null, ids[2], MailItem.Type.MESSAGE);
+        mbox.emptyDumpster(null);
+        String oldLocator = mbox.getMessageById(null, ids[1]).getLocator();
+
+        List<MailboxBlob.MailboxBlobInfo> relocated = mbox.relocateBlobs(blobs, "9");
+        Assert.assertEquals(1, relocated.size());
+        Assert.assertEquals(ids[0], relocated.get(0).itemId);
+        Assert.assertEquals("9", mbox.getMessageById(null, ids[0]).getLocator());
+        Assert.assertEquals(oldLocator, mbox.getMessageById(null, ids[1]).getLocator());
+    }
+
     /**
      * @throws java.lang.Exception
      */
@@ -0,0 +1,126 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.mailbox;
+
+import java.util.HashMap;
+
+import javax.mail.internet.MimeMessage;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.zimbra.cs.account.MockProvisioning;
+import com.zimbra.cs.account.Provisioning;
+import com.zimbra.cs.mime.ParsedMessage;
+import com.zimbra.cs.stats.ZimbraPerf;
+
+/**
+ * Unit test for {@link MessageCache}.
+ */
+public final class MessageCacheTest {
+
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initServer();
+        Provisioning prov = Provisioning.getInstance();
+        prov.createAccount("test@zimbra.com", "secret", new HashMap<String, Object>());
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        MailboxTestUtil.clearData();
+    }
+
+    private Message addMessage(Mailbox mbox, String subject) throws Exception {
+        DeliveryOptions dopt = new DeliveryOptions().setFolderId(Mailbox.ID_FOLDER_INBOX);
+        return mbox.addMessage(null, new ParsedMessage(("From: a@zimbra.com\r\nSubject: " + subject +
+                "\r\n\r\nbody of " + subject).getBytes(), false), dopt, null);
+    }
+
+    @Test
+    public void hitAndMiss() throws Exception {
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        Message msg = addMessage(mbox, "hit and miss");
+        MessageCache.purge(msg.getDigest());
+        Assert.assertFalse(MessageCache.contains(msg.getDigest()));
+
+        long misses = ZimbraPerf.COUNTER_MSG_CACHE_MISSES.getCount();
+        long hits = ZimbraPerf.COUNTER_MSG_CACHE_HITS.getCount();
+        MimeMessage first = MessageCache.getMimeMessage(msg, false);
+        Assert.assertTrue(MessageCache.contains(msg.getDigest()));
+        Assert.assertEquals(misses + 1, ZimbraPerf.COUNTER_MSG_CACHE_MISSES.getCount());
+
+        MimeMessage second = MessageCache.getMimeMessage(msg, false);
+        Assert.assertSame(first, second);
+        Assert.assertEquals(hits + 1, ZimbraPerf.COUNTER_MSG_CACHE_HITS.getCount());
+    }
+
+    @Test
+    public void purgeReleasesBytes() throws Exception {
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        Message msg = addMessage(mbox, "purge");
+        MessageCache.purge(msg.getDigest());
+        long before = MessageCache.getDataSize();
+        int count = MessageCache.getSize();
+
+        MessageCache.getMimeMessage(msg, false);
+        Assert.assertEquals(count + 1, MessageCache.getSize());
+        Assert.assertTrue("small messages are charged in full", MessageCache.getDataSize() >= before + msg.getSize());
+
+        MessageCache.purge(msg.getDigest());
+        Assert.assertFalse(MessageCache.contains(msg.getDigest()));
+        Assert.assertEquals(count, MessageCache.getSize());
+        Assert.assertEquals(before, MessageCache.getDataSize());
+    }
+
+    @Test
+    public void concurrentReaders() throws Exception {
+        final Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        final Message[] msgs = new Message[20];
+        for (int i = 0; i < msgs.length; i++) {
+            msgs[i] = addMessage(mbox, "concurrent " + i);
+        }
+        final Exception[] failure = new Exception[1];
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int round = 0; round < 50; round++) {
+                            for (Message msg : msgs) {
+                                Assert.assertNotNull(MessageCache.getMimeMessage(msg, round % 2 == 0));
+                            }
+                        }
+                    } catch (Exception e) {
+                        failure[0] = e;
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertNull(failure[0]);
+        for (Message msg : msgs) {
+            Assert.assertTrue(MessageCache.contains(msg.getDigest()));
+        }
+    }
+}
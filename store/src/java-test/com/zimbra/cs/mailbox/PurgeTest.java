@@ -27,6 +27,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -847,4 +848,36 @@ public class PurgeTest {
         mbox.purgeMessages(null);
         assertTrue("kept was purged", messageExists(kept.getId()));
     }
+
+    /**
+     * Confirms that the purged items are counted and that the oldest Trash and Junk dates are
+     * reported per mailbox.
+     */
+    @Test
+    public void purgeCountAndOldestTrashAndJunkDates()
+    throws Exception {
+        Account account = getAccount();
+        account.setMailPurgeUseChangeDateForTrash(false);
+        account.setPrefTrashLifetime("24h");
+
+        // Insert messages
+        String prefix = "purgeCountAndOldestTrashAndJunkDates ";
+        Mailbox mbox = getMailbox();
+        long oldest = System.currentTimeMillis() - (36 * Constants.MILLIS_PER_HOUR);
+        TestUtil.addMessage(mbox, Mailbox.ID_FOLDER_TRASH, prefix + "purged", oldest);
+        Message kept = TestUtil.addMessage(mbox, Mailbox.ID_FOLDER_SPAM, prefix + "kept",
+            System.currentTimeMillis() - (30 * Constants.MILLIS_PER_HOUR));
+        TestUtil.addMessage(mbox, Mailbox.ID_FOLDER_INBOX, prefix + "inbox",
+            System.currentTimeMillis() - (48 * Constants.MILLIS_PER_HOUR));
+
+        Map<Integer, Integer> dates = MailboxManager.getInstance().getOldestTrashAndJunkDates();
+        assertEquals((Integer) (int) (oldest / 1000), dates.get(mbox.getId()));
+
+        // Run purge and verify results
+        AtomicInteger numPurged = new AtomicInteger();
+        assertTrue(mbox.purgeMessages(null, numPurged));
+        assertEquals(1, numPurged.get());
+        dates = MailboxManager.getInstance().getOldestTrashAndJunkDates();
+        assertEquals((Integer) (int) (kept.getDate() / 1000), dates.get(mbox.getId()));
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.mailbox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PurgeThread}.
+ */
+public final class PurgeThreadTest {
+
+    @Test
+    public void prioritize() {
+        List<Integer> ids = new ArrayList<Integer>(Arrays.asList(5, 6, 1, 2, 3, 4));
+        Map<Integer, Integer> dates = new HashMap<Integer, Integer>();
+        dates.put(2, 2000);
+        dates.put(4, 1000);
+        dates.put(6, 2000);
+        PurgeThread.prioritize(ids, dates);
+        // oldest first, ties and mailboxes without Trash/Junk items keep the rotated order
+        Assert.assertEquals(Arrays.asList(4, 6, 2, 5, 1, 3), ids);
+    }
+
+    @Test
+    public void retainPending() {
+        List<Integer> ids = new ArrayList<Integer>(Arrays.asList(3, 1, 2));
+        PurgeThread.retainPending(ids, new HashSet<Integer>(Arrays.asList(2, 3)));
+        Assert.assertEquals(Arrays.asList(3, 2), ids);
+
+        // pending mailboxes unknown, e.g. with an external mailbox directory
+        ids = new ArrayList<Integer>(Arrays.asList(3, 1, 2));
+        PurgeThread.retainPending(ids, null);
+        Assert.assertEquals(Arrays.asList(3, 1, 2), ids);
+
+        // every mailbox already purged in this cycle
+        PurgeThread.retainPending(ids, new HashSet<Integer>());
+        Assert.assertTrue(ids.isEmpty());
+    }
+
+    @Test
+    public void budget() throws Exception {
+        PurgeThread.Budget budget = new PurgeThread.Budget(100);
+        Assert.assertTrue(budget.getWaitMillis() <= 0);
+        budget.charge(50);
+        long wait = budget.getWaitMillis();
+        Assert.assertTrue("wait " + wait, wait > 400 && wait <= 500);
+        budget.charge(100);
+        wait = budget.getWaitMillis();
+        Assert.assertTrue("wait " + wait, wait > 1400 && wait <= 1500);
+    }
+
+    @Test
+    public void budgetDoesNotAccumulateWhileIdle() throws Exception {
+        PurgeThread.Budget budget = new PurgeThread.Budget(1000);
+        Thread.sleep(100);
+        budget.charge(10);
+        long wait = budget.getWaitMillis();
+        Assert.assertTrue("wait " + wait, wait > 0 && wait <= 10);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.mailbox;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import javax.mail.internet.MimeMessage;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.zimbra.cs.account.MockProvisioning;
+import com.zimbra.cs.account.Provisioning;
+import com.zimbra.cs.mime.ParsedMessage;
+
+public final class ThreadHashIndexTest {
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initServer();
+        Provisioning.getInstance().createAccount("test@zimbra.com", "secret", new HashMap<String, Object>());
+    }
+
+    @Before
+    public void setup() throws Exception {
+        MailboxTestUtil.clearData();
+    }
+
+    private static final String ROOT_MESSAGE_ID = "<root.1@example.com>";
+
+    private static ParsedMessage root() throws Exception {
+        MimeMessage mm = ThreaderTest.getRootMimeMessage();
+        mm.setHeader("Message-ID", ROOT_MESSAGE_ID);
+        return new ParsedMessage(mm, false);
+    }
+
+    /** hash {@link Threader} stores for a message-id, without the angle brackets */
+    private static String referenceHash(String messageId) {
+        return Mailbox.getHash("\u0001\u0002" + messageId.substring(1, messageId.length() - 1));
+    }
+
+    private static MimeMessage reply(String messageId, String inReplyTo) throws Exception {
+        MimeMessage mm = ThreaderTest.getSecondMessage();
+        mm.setHeader("Message-ID", messageId);
+        mm.setHeader("Subject", "Re: something else entirely");
+        mm.setHeader("In-Reply-To", inReplyTo);
+        mm.setHeader("References", inReplyTo);
+        return mm;
+    }
+
+    private static List<String> filter(Mailbox mbox, ThreadHashIndex index, String... hashes) throws Exception {
+        mbox.beginTransaction("ThreadHashIndexTest", null);
+        try {
+            return index.filter(Arrays.asList(hashes));
+        } finally {
+            mbox.endTransaction(false);
+        }
+    }
+
+    @Test
+    public void delivery() throws Exception {
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        ThreadHashIndex index = mbox.getThreadHashIndex();
+        Message root = mbox.addMessage(null, root(), MailboxTest.STANDARD_DELIVERY_OPTIONS, null);
+        Assert.assertTrue("loaded by the first delivery", index.isLoaded());
+        long misses = index.getMisses();
+
+        // a reply to something this mailbox has never seen is answered by the filter alone
+        ParsedMessage pm = new ParsedMessage(reply("<stray.1@example.com>", "<unknown.1@example.com>"), false);
+        Message stray = mbox.addMessage(null, pm, MailboxTest.STANDARD_DELIVERY_OPTIONS, null);
+        Assert.assertTrue(index.getMisses() > misses);
+        Assert.assertEquals(0, index.getHits());
+        Assert.assertTrue(stray.getConversationId() != root.getConversationId());
+
+        // a reply to the root message passes the filter and is threaded with it
+        pm = new ParsedMessage(reply("<followup.1@example.com>", ROOT_MESSAGE_ID), false);
+        Message followup = mbox.addMessage(null, pm, MailboxTest.STANDARD_DELIVERY_OPTIONS, null);
+        Assert.assertEquals(1, index.getHits());
+        Assert.assertEquals(mbox.getMessageById(null, root.getId()).getConversationId(), followup.getConversationId());
+    }
+
+    @Test
+    public void loadFromTable() throws Exception {
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        Message root = mbox.addMessage(null, root(), MailboxTest.STANDARD_DELIVERY_OPTIONS, null);
+
+        ThreadHashIndex index = new ThreadHashIndex(mbox, true);
+        Assert.assertFalse(index.isLoaded());
+        String known = referenceHash(ROOT_MESSAGE_ID);
+        String unknown = referenceHash("<unknown.1@example.com>");
+        Assert.assertEquals(Collections.singletonList(known), filter(mbox, index, unknown, known));
+        Assert.assertTrue(index.isLoaded());
+        Assert.assertEquals(0, index.getMisses());
+        Assert.assertEquals(Collections.emptyList(), filter(mbox, index, unknown));
+        Assert.assertEquals(1, index.getMisses());
+    }
+
+    @Test
+    public void closedHashesStayUntilReload() throws Exception {
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        Message root = mbox.addMessage(null, root(), MailboxTest.STANDARD_DELIVERY_OPTIONS, null);
+        String hash = referenceHash(ROOT_MESSAGE_ID);
+        ThreadHashIndex index = mbox.getThreadHashIndex();
+
+        mbox.beginTransaction("ThreadHashIndexTest", null);
+        boolean success = false;
+        try {
+            mbox.getConversationById(root.getConversationId()).close(hash);
+            success = true;
+        } finally {
+            mbox.endTransaction(success);
+        }
+
+        // a Bloom filter can't forget the hash, the database query tells it was a false positive
+        Assert.assertEquals(Collections.singletonList(hash), filter(mbox, index, hash));
+        index.recordLookup(false);
+        Assert.assertEquals(1, index.getFalsePositives());
+
+        // a fresh load no longer has it
+        Assert.assertEquals(Collections.emptyList(), filter(mbox, new ThreadHashIndex(mbox, true), hash));
+    }
+
+    @Test
+    public void rollbackDropsFilterLoadedAfterClose() throws Exception {
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        Message root = mbox.addMessage(null, root(), MailboxTest.STANDARD_DELIVERY_OPTIONS, null);
+        String hash = referenceHash(ROOT_MESSAGE_ID);
+        ThreadHashIndex index = mbox.getThreadHashIndex();
+        index.unload();
+
+        // the filter is loaded after the close, in the same transaction, so it doesn't have the hash
+        mbox.beginTransaction("ThreadHashIndexTest", null);
+        try {
+            mbox.getConversationById(root.getConversationId()).close(hash);
+            Assert.assertEquals(Collections.emptyList(), index.filter(Collections.singletonList(hash)));
+            Assert.assertTrue(index.isLoaded());
+        } finally {
+            mbox.endTransaction(false);
+        }
+
+        // the rollback put the hash back in the table and took the filter with it
+        Assert.assertFalse(index.isLoaded());
+        Assert.assertEquals(Collections.singletonList(hash), filter(mbox, index, hash));
+    }
+
+    @Test
+    public void commitKeepsFilter() throws Exception {
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        mbox.addMessage(null, root(), MailboxTest.STANDARD_DELIVERY_OPTIONS, null);
+        ThreadHashIndex index = mbox.getThreadHashIndex();
+        Assert.assertTrue(index.isLoaded());
+
+        // a filter loaded by a committed transaction survives later rollbacks
+        filter(mbox, index, referenceHash("<unknown.1@example.com>"));
+        Assert.assertTrue(index.isLoaded());
+    }
+
+    @Test
+    public void disabled() throws Exception {
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+        ThreadHashIndex index = new ThreadHashIndex(mbox, false);
+        String unknown = referenceHash("<unknown.1@example.com>");
+        Assert.assertEquals(Collections.singletonList(unknown), filter(mbox, index, unknown));
+        index.recordLookup(false);
+        Assert.assertFalse(index.isLoaded());
+        Assert.assertEquals(0, index.getMisses());
+        Assert.assertEquals(0, index.getFalsePositives());
+    }
+}
@@ -1,5 +1,6 @@
 package com.zimbra.cs.redolog.logger;
 
+import com.zimbra.common.localconfig.LC;
 import com.zimbra.cs.mailbox.MailboxOperation;
 import com.zimbra.cs.mailbox.MailboxTestUtil;
 import com.zimbra.cs.redolog.RedoLogManager;
@@ -13,6 +14,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 
 public class  FileLogWriterTest {
@@ -67,6 +69,54 @@ public class  FileLogWriterTest {
         Assert.assertEquals(sequence, logWriter.getSequence());
     }
 
+    @Test
+    public void groupCommit() throws Exception {
+        LC.redolog_group_commit_enabled.setDefault(true);
+        try {
+            logWriter =
+                new FileLogWriter(mockRedoLogManager, folder.newFile("grouplog"),
+                                  10 /* fsync interval in ms */);
+            Assert.assertTrue(logWriter.isGroupCommit());
+            logWriter.open();
+
+            final RedoableOp op = EasyMock.createMockBuilder(RedoableOp.class)
+                                      .withConstructor(MailboxOperation.Preview)
+                                      .createMock();
+            Thread[] threads = new Thread[4];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread() {
+                    @Override
+                    public void run() {
+                        try {
+                            for (int j = 0; j < 25; j++) {
+                                logWriter.log(op, new ByteArrayInputStream("some bytes".getBytes()),
+                                              true /* synchronous */);
+                            }
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                };
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Assert.assertEquals("file size incorrect.",
+                                FileHeader.HEADER_LEN + 100 * 10, logWriter.getSize());
+            logWriter.close();
+
+            // everything buffered must have reached the file
+            logWriter =
+                new FileLogWriter(mockRedoLogManager, new File(folder.getRoot(), "grouplog"),
+                                  10 /* fsync interval in ms */);
+            Assert.assertEquals("file size incorrect.",
+                                FileHeader.HEADER_LEN + 100 * 10, logWriter.getSize());
+        } finally {
+            LC.redolog_group_commit_enabled.setDefault(false);
+        }
+    }
+
     @Test(expected = IOException.class)
     public void logBeforeOpen() throws Exception {
         logWriter.log(null, null, false);
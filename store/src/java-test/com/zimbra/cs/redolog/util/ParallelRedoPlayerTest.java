@@ -0,0 +1,158 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.redolog.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.zimbra.cs.mailbox.MailboxOperation;
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+import com.zimbra.cs.redolog.RedoLogInput;
+import com.zimbra.cs.redolog.RedoLogManager;
+import com.zimbra.cs.redolog.RedoLogOutput;
+import com.zimbra.cs.redolog.RedoLogProvider;
+import com.zimbra.cs.redolog.op.RedoableOp;
+
+/**
+ * Unit test for crash recovery in {@link ParallelRedoPlayer}.
+ */
+public final class ParallelRedoPlayerTest {
+    private RedoLogManager redoLogManager;
+    private ParallelRedoPlayer player;
+    private final Map<Integer, List<Integer>> redone = new ConcurrentHashMap<Integer, List<Integer>>();
+    private final AtomicInteger finished = new AtomicInteger();
+
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initServer();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        redoLogManager = RedoLogProvider.getInstance().getRedoLogManager();
+        redoLogManager.start();
+        player = new ParallelRedoPlayer(true, false, false, false, 3, 10, false);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        player.shutdown();
+        redoLogManager.stop();
+    }
+
+    @Test
+    public void perMailboxOrder() throws Exception {
+        for (int seq = 0; seq < 100; seq++) {
+            for (int mboxId = 1; mboxId <= 5; mboxId++) {
+                player.submitRecoveryOp(redoLogManager, new TestOp(mboxId, seq, false));
+            }
+        }
+        player.awaitRecovery();
+
+        Assert.assertEquals(500, finished.get());
+        for (int mboxId = 1; mboxId <= 5; mboxId++) {
+            List<Integer> seqs = redone.get(mboxId);
+            Assert.assertEquals(100, seqs.size());
+            for (int seq = 0; seq < 100; seq++) {
+                Assert.assertEquals(seq, seqs.get(seq).intValue());
+            }
+        }
+    }
+
+    @Test
+    public void multiMailboxOpWaitsForEarlierOps() throws Exception {
+        for (int seq = 0; seq < 30; seq++) {
+            player.submitRecoveryOp(redoLogManager, new TestOp(seq % 4 + 1, seq, false));
+        }
+        TestOp global = new TestOp(RedoableOp.MAILBOX_ID_ALL, 30, false);
+        player.submitRecoveryOp(redoLogManager, global);
+        player.submitRecoveryOp(redoLogManager, new TestOp(1, 31, false));
+        player.awaitRecovery();
+
+        Assert.assertEquals(30, global.finishedBefore);
+        Assert.assertEquals(32, finished.get());
+    }
+
+    @Test
+    public void failedOpDoesNotStopRecovery() throws Exception {
+        player.submitRecoveryOp(redoLogManager, new TestOp(1, 0, true));
+        player.submitRecoveryOp(redoLogManager, new TestOp(1, 1, false));
+        player.awaitRecovery();
+
+        Assert.assertEquals(2, finished.get());
+        Assert.assertEquals(Collections.singletonList(1), redone.get(1));
+    }
+
+    private final class TestOp extends RedoableOp {
+        private final int seq;
+        private final boolean fail;
+        private int finishedBefore = -1;
+
+        TestOp(int mboxId, int seq, boolean fail) {
+            super(MailboxOperation.Preview);
+            setMailboxId(mboxId);
+            start(System.currentTimeMillis());
+            this.seq = seq;
+            this.fail = fail;
+        }
+
+        @Override
+        public void redo() throws Exception {
+            try {
+                if (fail) {
+                    throw new IOException("redo failed");
+                }
+                if (getMailboxId() == MAILBOX_ID_ALL) {
+                    finishedBefore = finished.get();
+                } else {
+                    List<Integer> seqs = redone.get(getMailboxId());
+                    if (seqs == null) {
+                        seqs = Collections.synchronizedList(new ArrayList<Integer>());
+                        redone.put(getMailboxId(), seqs);
+                    }
+                    seqs.add(seq);
+                }
+            } finally {
+                finished.incrementAndGet();
+            }
+        }
+
+        @Override
+        protected String getPrintableData() {
+            return "seq=" + seq;
+        }
+
+        @Override
+        protected void serializeData(RedoLogOutput out) {
+        }
+
+        @Override
+        protected void deserializeData(RedoLogInput in) {
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.server;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.mina.core.buffer.IoBuffer;
+import org.apache.mina.core.service.IoHandlerAdapter;
+import org.apache.mina.core.session.DummySession;
+import org.apache.mina.core.session.IoSession;
+import org.apache.mina.filter.codec.ProtocolDecoderException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.zimbra.common.util.ZimbraLog;
+
+/**
+ * Unit test for {@link NioDeflateFilter}.
+ */
+public final class NioDeflateFilterTest {
+    private DummySession session;
+    private TestIoHandler handler;
+    private NioDeflateFilter.Stats stats;
+
+    @Before
+    public void setUp() {
+        session = new DummySession();
+        handler = new TestIoHandler();
+        session.setHandler(handler);
+        stats = new NioDeflateFilter.Stats();
+        session.getFilterChain().addLast("deflate",
+                new NioDeflateFilter(ZimbraLog.imap, stats, Deflater.DEFAULT_COMPRESSION));
+    }
+
+    @Test
+    public void write() throws Exception {
+        session.setAttribute(NioDeflateFilter.DISABLE_COMPRESSION_ONCE, true);
+        session.write(buffer("A001 OK DEFLATE active\r\n"));
+        String fetch = "* 1 FETCH (FLAGS (\\Seen) UID 1)\r\n";
+        session.write(buffer(fetch));
+        session.write(buffer(fetch));
+
+        Assert.assertEquals(3, handler.sent.size());
+        Assert.assertEquals("A001 OK DEFLATE active\r\n", new String(handler.sent.get(0), Charsets.US_ASCII));
+        // every write is sync-flushed, so each one decodes on its own
+        Inflater inflater = new Inflater(true);
+        Assert.assertEquals(fetch, inflate(inflater, handler.sent.get(1)));
+        Assert.assertEquals(fetch, inflate(inflater, handler.sent.get(2)));
+
+        Assert.assertEquals(1, stats.sessions.sum());
+        Assert.assertEquals(fetch.length() * 2, stats.writtenUncompressed.sum());
+        Assert.assertEquals(handler.sent.get(1).length + handler.sent.get(2).length, stats.writtenCompressed.sum());
+    }
+
+    @Test
+    public void read() throws Exception {
+        String command = "A002 UID FETCH 1:* (FLAGS)\r\nA003 NOOP\r\n";
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(command.getBytes(Charsets.US_ASCII));
+        byte[] b = new byte[1024];
+        int len = deflater.deflate(b, 0, b.length, Deflater.SYNC_FLUSH);
+
+        session.getFilterChain().fireMessageReceived(IoBuffer.wrap(b, 0, len / 2));
+        session.getFilterChain().fireMessageReceived(IoBuffer.wrap(b, len / 2, len - len / 2));
+
+        Assert.assertNull(handler.exception);
+        Assert.assertEquals(command, handler.received.toString("US-ASCII"));
+        Assert.assertEquals(len, stats.readCompressed.sum());
+        Assert.assertEquals(command.length(), stats.readUncompressed.sum());
+    }
+
+    @Test
+    public void readGarbage() throws Exception {
+        session.getFilterChain().fireMessageReceived(buffer("A004 NOOP\r\n"));
+        Assert.assertTrue(handler.exception instanceof ProtocolDecoderException);
+    }
+
+    private static IoBuffer buffer(String s) {
+        return IoBuffer.wrap(s.getBytes(Charsets.US_ASCII));
+    }
+
+    private static String inflate(Inflater inflater, byte[] b) throws Exception {
+        inflater.setInput(b);
+        byte[] out = new byte[1024];
+        int len = inflater.inflate(out);
+        Assert.assertTrue(inflater.needsInput());
+        return new String(out, 0, len, Charsets.US_ASCII);
+    }
+
+    private static final class TestIoHandler extends IoHandlerAdapter {
+        private final List<byte[]> sent = new ArrayList<byte[]>();
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private Throwable exception;
+
+        @Override
+        public void messageSent(IoSession session, Object message) {
+            IoBuffer buf = (IoBuffer) message;
+            byte[] b = new byte[buf.remaining()];
+            buf.get(b);
+            sent.add(b);
+        }
+
+        @Override
+        public void messageReceived(IoSession session, Object message) {
+            IoBuffer buf = (IoBuffer) message;
+            while (buf.hasRemaining()) {
+                received.write(buf.get());
+            }
+        }
+
+        @Override
+        public void exceptionCaught(IoSession session, Throwable cause) {
+            exception = cause;
+        }
+    }
+}
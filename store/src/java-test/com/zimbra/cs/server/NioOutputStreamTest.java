@@ -16,13 +16,19 @@
  */
 package com.zimbra.cs.server;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
 import junit.framework.Assert;
 
 import org.apache.mina.core.buffer.IoBuffer;
+import org.apache.mina.core.future.WriteFuture;
 import org.apache.mina.core.service.IoHandlerAdapter;
 import org.apache.mina.core.session.DummySession;
 import org.apache.mina.core.session.IoSession;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 /**
  * Unit test for {@link NioOutputStream}.
@@ -82,6 +88,30 @@ public final class NioOutputStreamTest {
         out.close();
     }
 
+    @Test
+    public void stalledFileRegion() throws Exception {
+        IoSession session = Mockito.mock(IoSession.class);
+        WriteFuture future = Mockito.mock(WriteFuture.class);
+        Mockito.when(session.write(Mockito.any())).thenReturn(future);
+        Mockito.when(future.awaitUninterruptibly(Mockito.anyLong())).thenReturn(false);
+        File file = File.createTempFile("NioOutputStreamTest", ".tmp");
+        file.deleteOnExit();
+        FileInputStream in = new FileInputStream(file);
+        try {
+            NioOutputStream out = new NioOutputStream(session, 10, Integer.MAX_VALUE, 100);
+            try {
+                out.write(in.getChannel(), 0, 0);
+                Assert.fail("stalled write should fail");
+            } catch (IOException expected) {
+            }
+            // the queued region must not outlive the caller's hold on the channel
+            Mockito.verify(session).close(true);
+        } finally {
+            in.close();
+            file.delete();
+        }
+    }
+
     private static final class TestIoHandler extends IoHandlerAdapter {
         private int writes = 0;
         private StringBuilder out = new StringBuilder();
@@ -0,0 +1,108 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.session;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.cs.mailbox.MailItem;
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+
+@SuppressWarnings("deprecation")
+public final class AllAccountsWaitSetTest {
+
+    private static final Set<MailItem.Type> MESSAGES = EnumSet.of(MailItem.Type.MESSAGE);
+
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initServer();
+    }
+
+    private static WaitSetCallback waitOn(AllAccountsWaitSet ws) throws Exception {
+        WaitSetCallback cb = new WaitSetCallback();
+        cb.completedLatch = new CountDownLatch(1);
+        ws.doWait(cb, "0", null, null);
+        return cb;
+    }
+
+    @Test
+    public void signal() throws Exception {
+        AllAccountsWaitSet ws = AllAccountsWaitSet.create("owner", "signal", MESSAGES);
+        try {
+            WaitSetCallback cb = waitOn(ws);
+            AllAccountsWaitSet.mailboxChangeCommitted("1", "acct1", EnumSet.of(MailItem.Type.CONTACT));
+            AllAccountsWaitSet.mailboxChangeCommitted("2", "acct2", MESSAGES);
+            Assert.assertTrue(cb.completedLatch.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals("acct2", cb.signalledAccounts.iterator().next());
+            Assert.assertEquals(1, cb.signalledAccounts.size());
+            Assert.assertEquals("2", cb.seqNo);
+        } finally {
+            ws.destroy();
+        }
+    }
+
+    @Test
+    public void commitsWhileConsumerHoldsMonitor() throws Exception {
+        AllAccountsWaitSet ws = AllAccountsWaitSet.create("owner", "busy", MESSAGES);
+        try {
+            WaitSetCallback cb;
+            synchronized (ws) {
+                cb = waitOn(ws);
+                // would block here if committing threads took the waitset's monitor
+                for (int i = 0; i < 100; i++) {
+                    AllAccountsWaitSet.mailboxChangeCommitted(Integer.toString(i), "acct" + (i % 3), MESSAGES);
+                }
+            }
+            Assert.assertTrue(cb.completedLatch.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(3, cb.signalledAccounts.size());
+            Assert.assertEquals("99", cb.seqNo);
+            Assert.assertEquals(0, ws.getOverflowedCommits());
+        } finally {
+            ws.destroy();
+        }
+    }
+
+    @Test
+    public void overflow() throws Exception {
+        LC.zimbra_waitset_all_accounts_commit_buffer.setDefault(4);
+        AllAccountsWaitSet ws = AllAccountsWaitSet.create("owner", "overflow", MESSAGES);
+        try {
+            WaitSetCallback cb;
+            synchronized (ws) {
+                cb = waitOn(ws);
+                for (int i = 0; i < 10; i++) {
+                    AllAccountsWaitSet.mailboxChangeCommitted(Integer.toString(i), "acct" + i, MESSAGES);
+                }
+            }
+            // nothing was drained before the overflow, so there is nothing to catch up from
+            Assert.assertTrue(cb.completedLatch.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(6, ws.getOverflowedCommits());
+            Assert.assertEquals(1, cb.errors.size());
+            Assert.assertEquals(WaitSetError.Type.COMMIT_BUFFER_OVERFLOW, cb.errors.get(0).error);
+        } finally {
+            ws.destroy();
+            LC.zimbra_waitset_all_accounts_commit_buffer.setDefault(4096);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.session;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.zimbra.common.util.Pair;
+
+/**
+ * Unit test for {@link CommitRing}.
+ */
+public final class CommitRingTest {
+
+    private static final class Collector implements CommitRing.Sink {
+        final List<String> commits = new ArrayList<String>();
+        long lost;
+
+        @Override
+        public void commit(String accountId, String commitId) {
+            commits.add(accountId + ":" + commitId);
+        }
+
+        @Override
+        public void overflow(long count) {
+            lost += count;
+        }
+    }
+
+    @Test
+    public void capacity() {
+        Assert.assertEquals(2, new CommitRing(0).capacity());
+        Assert.assertEquals(4, new CommitRing(3).capacity());
+        Assert.assertEquals(4096, new CommitRing(4096).capacity());
+    }
+
+    @Test
+    public void drain() {
+        CommitRing ring = new CommitRing(8);
+        ring.publish("a", "1");
+        ring.publish("b", "2");
+        Assert.assertEquals(Arrays.asList(new Pair<String, String>("a", "1"), new Pair<String, String>("b", "2")),
+                ring.pending());
+
+        Collector sink = new Collector();
+        Assert.assertEquals(0, ring.drain(sink));
+        Assert.assertEquals(Arrays.asList("a:1", "b:2"), sink.commits);
+        Assert.assertTrue(ring.pending().isEmpty());
+
+        ring.publish("c", "3");
+        sink = new Collector();
+        ring.drain(sink);
+        Assert.assertEquals(Arrays.asList("c:3"), sink.commits);
+    }
+
+    @Test
+    public void overflow() {
+        CommitRing ring = new CommitRing(4);
+        for (int i = 0; i < 10; i++) {
+            ring.publish("a", Integer.toString(i));
+        }
+        Assert.assertEquals(4, ring.pending().size());
+        Collector sink = new Collector();
+        Assert.assertEquals(6, ring.drain(sink));
+        Assert.assertEquals(6, sink.lost);
+        Assert.assertEquals(Arrays.asList("a:6", "a:7", "a:8", "a:9"), sink.commits);
+    }
+
+    @Test
+    public void concurrentPublishers() throws Exception {
+        final int threads = 4;
+        final int perThread = 5000;
+        final CommitRing ring = new CommitRing(threads * perThread);
+        Thread[] publishers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final String account = "acct" + t;
+            publishers[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < perThread; i++) {
+                        ring.publish(account, Integer.toString(i));
+                    }
+                }
+            };
+            publishers[t].start();
+        }
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+
+        final int[] next = new int[threads];
+        Assert.assertEquals(0, ring.drain(new CommitRing.Sink() {
+            @Override
+            public void commit(String accountId, String commitId) {
+                int t = Integer.parseInt(accountId.substring(4));
+                Assert.assertEquals(next[t]++, Integer.parseInt(commitId));
+            }
+
+            @Override
+            public void overflow(long lost) {
+                Assert.fail();
+            }
+        }));
+        for (int t = 0; t < threads; t++) {
+            Assert.assertEquals(perThread, next[t]);
+        }
+    }
+}
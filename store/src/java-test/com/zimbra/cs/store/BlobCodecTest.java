@@ -0,0 +1,228 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.store;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Inflater;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.common.util.ByteUtil;
+import com.zimbra.common.util.FileUtil;
+
+public class BlobCodecTest {
+
+    private static final String NAME_PREFIX = BlobCodecTest.class.getSimpleName();
+
+    private final List<File> tempFiles = Lists.newArrayList();
+
+    @After
+    public void tearDown() {
+        for (File file : tempFiles) {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void roundTrip()
+    throws Exception {
+        for (int size : new int[] { 0, 1, 64 * 1024, 64 * 1024 + 1, 200 * 1024 }) {
+            byte[] content = content(size);
+            for (String name : new String[] { "none", "gzip", "deflate-1", "deflate-9", "frame" }) {
+                BlobCodec codec = BlobCodec.forName(name);
+                File file = encode(codec, content);
+                assertArrayEquals(name + " " + size, content,
+                        ByteUtil.getContent(codec.newInputStream(new FileInputStream(file)), size));
+                assertArrayEquals(name + " " + size, content,
+                        ByteUtil.getContent(BlobCodec.decode(new FileInputStream(file)), size));
+            }
+        }
+    }
+
+    @Test
+    public void detect()
+    throws Exception {
+        byte[] content = content(10000);
+        assertSame(BlobCodec.NONE, BlobCodec.detect(encode(BlobCodec.NONE, content)));
+        assertSame(BlobCodec.GZIP, BlobCodec.detect(encode(BlobCodec.forName("deflate-1"), content)));
+        assertSame(BlobCodec.FRAME, BlobCodec.detect(encode(BlobCodec.FRAME, content)));
+
+        // blobs compressed before codecs existed
+        File plain = encode(BlobCodec.NONE, content);
+        File legacy = tempFile();
+        FileUtil.compress(plain, legacy, false);
+        assertSame(BlobCodec.GZIP, BlobCodec.detect(legacy));
+        assertArrayEquals(content, ByteUtil.getContent(BlobCodec.decode(new FileInputStream(legacy)), -1));
+    }
+
+    @Test
+    public void forName()
+    throws Exception {
+        assertSame(BlobCodec.GZIP, BlobCodec.forName("GZIP"));
+        assertEquals("deflate-3", BlobCodec.forName("deflate-3").getName());
+        for (String name : new String[] { null, "", "lz4", "deflate-0", "deflate-10", "deflate-x" }) {
+            try {
+                BlobCodec.forName(name);
+                fail(name);
+            } catch (ServiceException e) {
+            }
+        }
+    }
+
+    @Test
+    public void framedRawSize()
+    throws Exception {
+        byte[] content = content(150 * 1024);
+        File file = encode(BlobCodec.FRAME, content);
+        assertEquals(content.length, BlobCodec.FRAME.getRawSize(file));
+        assertEquals(-1, BlobCodec.GZIP.getRawSize(encode(BlobCodec.GZIP, content)));
+    }
+
+    @Test
+    public void framedSeek()
+    throws Exception {
+        byte[] content = content(300 * 1024);
+        File file = encode(BlobCodec.FRAME, content);
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FramedBlobCodec.Index index = FramedBlobCodec.readIndex(raf);
+            assertEquals(content.length, index.rawSize);
+            assertEquals((content.length + index.frameSize - 1) / index.frameSize, index.getFrameCount());
+
+            // the last frame decodes on its own
+            int last = index.getFrameCount() - 1;
+            byte[] frame = new byte[index.frameSize];
+            int len = FramedBlobCodec.readFrame(raf, index, last, frame, new byte[index.frameSize], new Inflater(true));
+            assertEquals(content.length - last * index.frameSize, len);
+            for (int i = 0; i < len; i++) {
+                assertEquals(content[last * index.frameSize + i], frame[i]);
+            }
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    public void framedTruncated()
+    throws Exception {
+        byte[] content = content(100 * 1024);
+        File file = encode(BlobCodec.FRAME, content);
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(file.length() - 1);
+        try {
+            FramedBlobCodec.readIndex(raf);
+            fail("index of a truncated blob");
+        } catch (IOException e) {
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    public void framedIncompressible()
+    throws Exception {
+        byte[] content = new byte[100 * 1024];
+        new Random(1).nextBytes(content);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OutputStream encoded = BlobCodec.FRAME.newOutputStream(out);
+        encoded.write(content);
+        encoded.close();
+        // stored frames only add their headers and the index
+        assertEquals(content.length + 8 + 2 * 9 + 1 + 4 + 2 * 8 + 8 + 12, out.size());
+        assertArrayEquals(content, ByteUtil.getContent(
+                BlobCodec.FRAME.newInputStream(new ByteArrayInputStream(out.toByteArray())), content.length));
+    }
+
+    @Test
+    public void builderUnwrapsIncompressible()
+    throws Exception {
+        // compressible content stays compressed
+        byte[] content = content(20000);
+        Blob blob = build(content);
+        assertTrue(blob.isCompressed());
+        assertTrue(blob.getFile().length() < content.length);
+
+        // incompressible content comes out larger than it went in and is stored as is
+        content = new byte[20000];
+        new Random(1).nextBytes(content);
+        blob = build(content);
+        assertFalse(blob.isCompressed());
+        assertEquals(content.length, blob.getFile().length());
+        assertArrayEquals(content, ByteUtil.getContent(new FileInputStream(blob.getFile()), content.length));
+    }
+
+    private Blob build(byte[] content)
+    throws Exception {
+        BlobBuilder builder = new BlobBuilder(new Blob(tempFile())) {
+            @Override
+            protected boolean useCompression() {
+                return true;
+            }
+
+            @Override
+            protected int getCompressionThreshold() {
+                return 1024;
+            }
+        };
+        return builder.init().append(content).finish();
+    }
+
+    private static byte[] content(int size) {
+        Random rnd = new Random(size);
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i % 100 < 70 ? 'a' + i % 26 : rnd.nextInt());
+        }
+        return content;
+    }
+
+    private File encode(BlobCodec codec, byte[] content)
+    throws IOException {
+        File file = tempFile();
+        OutputStream out = codec.newOutputStream(new FileOutputStream(file));
+        out.write(content);
+        codec.finish(out);
+        out.close();
+        return file;
+    }
+
+    private File tempFile()
+    throws IOException {
+        File file = File.createTempFile(NAME_PREFIX, ".tmp");
+        tempFiles.add(file);
+        return file;
+    }
+}
@@ -16,10 +16,15 @@
  */
 package com.zimbra.cs.store;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -40,15 +45,84 @@ public class BlobInputStreamTest {
     private static final byte[] CONTENT = "0123456789".getBytes();
 
     private File createTempFile() throws IOException {
+        return createTempFile(CONTENT);
+    }
+
+    private File createTempFile(byte[] content) throws IOException {
         File file = File.createTempFile(BlobInputStreamTest.class.getSimpleName(), ".msg");
         file.deleteOnExit();
         FileOutputStream fos = new FileOutputStream(file);
-        fos.write(CONTENT);
+        fos.write(content);
         fos.close();
 
         return file;
     }
 
+    private static class ChannelSink implements FileRegionSink {
+        private final WritableByteChannel target;
+        boolean accepts = true;
+        int regions = 0;
+
+        ChannelSink(ByteArrayOutputStream out) {
+            target = Channels.newChannel(out);
+        }
+
+        @Override
+        public boolean acceptsFileRegions() {
+            return accepts;
+        }
+
+        @Override
+        public long write(FileChannel file, long position, long count) throws IOException {
+            regions++;
+            return file.transferTo(position, count, target);
+        }
+    }
+
+    @Test
+    public void transferSubstream() throws Exception {
+        File file = createTempFile();
+        BlobInputStream bis = new BlobInputStream(file, file.length());
+        BlobInputStream substream = (BlobInputStream) bis.newStream(2, 8);
+        Assert.assertEquals("skip into the substream", 1, substream.skip(1));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Assert.assertEquals("transferred the rest of the substream", 5, substream.transferTo(new ChannelSink(out)));
+        Assert.assertEquals("34567", out.toString());
+        Assert.assertEquals("substream is at its end", -1, substream.read());
+        Assert.assertEquals("parent stream is untouched", '0', bis.read());
+    }
+
+    @Test
+    public void copy() throws Exception {
+        byte[] content = new byte[64 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        File file = createTempFile(content);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChannelSink sink = new ChannelSink(out);
+        Assert.assertEquals(content.length, BlobInputStream.copy(new BlobInputStream(file, file.length()), true, out, sink));
+        Assert.assertEquals("sent as a file region", 1, sink.regions);
+        Assert.assertTrue(Arrays.equals(content, out.toByteArray()));
+
+        // a sink that doesn't accept regions right now gets the bytes through the stream
+        out.reset();
+        sink.accepts = false;
+        Assert.assertEquals(content.length, BlobInputStream.copy(new BlobInputStream(file, file.length()), true, out, sink));
+        Assert.assertEquals("copied through the stream", 1, sink.regions);
+        Assert.assertTrue(Arrays.equals(content, out.toByteArray()));
+
+        // blobs below the zero-copy threshold are copied
+        out.reset();
+        sink.accepts = true;
+        file = createTempFile();
+        Assert.assertEquals(CONTENT.length, BlobInputStream.copy(new BlobInputStream(file, file.length()), true, out, sink));
+        Assert.assertEquals("small blob copied through the stream", 1, sink.regions);
+        Assert.assertTrue(Arrays.equals(CONTENT, out.toByteArray()));
+    }
+
     @Test
     public void deleteHalfway() throws Exception {
         // set up file and build base stream
@@ -21,10 +21,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.zip.GZIPOutputStream;
 
@@ -122,6 +126,105 @@ public class FileDescriptorCacheTest {
         assertEquals(2, fdc.getSize());
     }
 
+    @Test
+    public void transferCompressed()
+    throws Exception {
+        FileCache<String> uc = FileCache.Builder.createWithStringKey(uncompressedDir, false).build();
+        FileDescriptorCache fdc = new FileDescriptorCache(uc);
+
+        File file = File.createTempFile(NAME_PREFIX, ".tmp.gz");
+        tempFiles.add(file);
+        String content = "Another Nail In My Heart";
+        write(file, content);
+
+        // the region comes from the uncompressed copy
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final WritableByteChannel target = Channels.newChannel(out);
+        long transferred = fdc.transferTo(file.getPath(), content.length(), 8, 4, new FileRegionSink() {
+            @Override
+            public boolean acceptsFileRegions() {
+                return true;
+            }
+
+            @Override
+            public long write(FileChannel channel, long position, long count) throws IOException {
+                return channel.transferTo(position, count, target);
+            }
+        });
+        assertEquals(4, transferred);
+        assertEquals("Nail", out.toString());
+        assertEquals(1, fdc.getSize());
+
+        // the transfer released the descriptor, so it can be closed
+        fdc.remove(file.getPath());
+        assertEquals(0, fdc.getSize());
+        assertFalse(uc.containsDigest(ByteUtil.getDigest(content.getBytes())));
+    }
+
+    @Test
+    public void readFramed()
+    throws Exception {
+        FileCache<String> uc = FileCache.Builder.createWithStringKey(uncompressedDir, false).build();
+        FileDescriptorCache fdc = new FileDescriptorCache(uc);
+
+        File file = File.createTempFile(NAME_PREFIX, ".tmp");
+        tempFiles.add(file);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 300 * 1024; i++) {
+            sb.append("line ").append(i).append("\r\n");
+        }
+        byte[] content = sb.toString().getBytes();
+        OutputStream out = BlobCodec.FRAME.newOutputStream(new FileOutputStream(file));
+        out.write(content);
+        out.close();
+        assertTrue(file.length() < content.length);
+
+        // reads decode the frames they cover, straddling a frame boundary
+        byte[] buf = new byte[100];
+        int offset = 64 * 1024 - 50;
+        assertEquals(buf.length, fdc.read(file.getPath(), content.length, offset, buf, 0, buf.length));
+        assertEquals(new String(content, offset, buf.length), new String(buf));
+        assertEquals(-1, fdc.read(file.getPath(), content.length, content.length, buf, 0, buf.length));
+
+        // nothing was spooled to the uncompressed cache, and there is no file region to transfer
+        assertFalse(uc.containsDigest(ByteUtil.getDigest(content)));
+        assertFalse(fdc.supportsTransfer(file.getPath(), content.length));
+        assertEquals(1, fdc.getSize());
+        fdc.remove(file.getPath());
+        assertEquals(0, fdc.getSize());
+    }
+
+    @Test
+    public void framedBuffersReleasedOnClose()
+    throws Exception {
+        File file = File.createTempFile(NAME_PREFIX, ".tmp");
+        tempFiles.add(file);
+        byte[] content = new byte[100 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+        OutputStream out = BlobCodec.FRAME.newOutputStream(new FileOutputStream(file));
+        out.write(content);
+        out.close();
+
+        // opening the descriptor only reads the index
+        FramedSharedFile shared = new FramedSharedFile(file);
+        assertFalse(shared.hasBuffers());
+
+        byte[] buf = new byte[10];
+        assertEquals(buf.length, shared.read(70 * 1024, buf, 0, buf.length));
+        assertEquals(new String(content, 70 * 1024, buf.length), new String(buf));
+        assertTrue(shared.hasBuffers());
+
+        shared.close();
+        assertFalse(shared.hasBuffers());
+
+        // a closed descriptor reopens and reallocates on the next read
+        assertEquals(buf.length, shared.read(5, buf, 0, buf.length));
+        assertEquals(new String(content, 5, buf.length), new String(buf));
+        shared.close();
+    }
+
     private void write(File file, String content)
     throws IOException {
         OutputStream out = new GZIPOutputStream(new FileOutputStream(file));
@@ -0,0 +1,272 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.store.file;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.cs.account.MockProvisioning;
+import com.zimbra.cs.account.Provisioning;
+import com.zimbra.cs.db.Db;
+import com.zimbra.cs.db.HSQLDB;
+import com.zimbra.cs.mailbox.DeliveryOptions;
+import com.zimbra.cs.mailbox.MailItem;
+import com.zimbra.cs.mailbox.Mailbox;
+import com.zimbra.cs.mailbox.MailboxManager;
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+import com.zimbra.cs.mailbox.Message;
+import com.zimbra.cs.mime.ParsedMessage;
+import com.zimbra.cs.store.MailboxBlob.MailboxBlobInfo;
+import com.zimbra.cs.store.StoreManager;
+import com.zimbra.cs.volume.Volume;
+import com.zimbra.cs.volume.Volume.VolumeMetadata;
+import com.zimbra.cs.volume.VolumeManager;
+
+/**
+ * Unit test for {@link BlobMigrator}, which only runs on {@link FileBlobStore}.
+ */
+public final class BlobMigratorTest {
+
+    private static Volume destVolume;
+    private StoreManager originalStoreManager;
+    private Volume srcVolume;
+    private Mailbox mbox;
+
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initServer();
+        Provisioning.getInstance().createAccount("test@zimbra.com", "secret", new HashMap<String, Object>());
+        System.setProperty("zimbra.native.required", "false");
+        // the migrator updates the volumes on its own connections
+        ((HSQLDB) Db.getInstance()).useMVCC(null);
+
+        VolumeManager mgr = VolumeManager.getInstance();
+        File dir = new File(new File(mgr.getCurrentMessageVolume().getRootPath()).getParentFile(), "migrated");
+        dir.mkdirs();
+        destVolume = mgr.create(Volume.builder().setPath(dir.getAbsolutePath(), true)
+                .setType(Volume.TYPE_MESSAGE).setName("migrated").build());
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        MailboxTestUtil.clearData();
+        originalStoreManager = StoreManager.getInstance();
+        LC.zimbra_tmp_directory.setDefault(System.getProperty("user.dir") + "/build/tmp");
+        StoreManager.setInstance(new FileBlobStore());
+        StoreManager.getInstance().startup();
+        srcVolume = VolumeManager.getInstance().getCurrentMessageVolume();
+        mbox = MailboxManager.getInstance().getMailboxByAccountId(MockProvisioning.DEFAULT_ACCOUNT_ID);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        waitForMigration();
+        VolumeManager mgr = VolumeManager.getInstance();
+        VolumeMetadata metadata = mgr.getVolume(srcVolume.getId()).getMetadata();
+        metadata.setMove(Volume.ID_NONE, 0, 0);
+        mgr.update(Volume.builder(mgr.getVolume(srcVolume.getId())).setMetadata(metadata).build());
+        StoreManager.getInstance().shutdown();
+        StoreManager.setInstance(originalStoreManager);
+        MailboxTestUtil.clearData();
+    }
+
+    private List<Message> addMessages(int count) throws Exception {
+        List<Message> msgs = new ArrayList<Message>();
+        DeliveryOptions opt = new DeliveryOptions().setFolderId(Mailbox.ID_FOLDER_INBOX);
+        for (int i = 0; i < count; i++) {
+            String content = "From: from@zimbra.com\r\nTo: test@zimbra.com\r\nSubject: message " + i + "\r\n\r\nbody";
+            msgs.add(mbox.addMessage(null, new ParsedMessage(content.getBytes(), false), opt, null));
+        }
+        // dates are in seconds; makes the messages older than a cutoff of now
+        Thread.sleep(1100);
+        return msgs;
+    }
+
+    private Message saveDraft(String subject, int id) throws Exception {
+        return mbox.saveDraft(null, new ParsedMessage(("Subject: " + subject + "\r\n\r\nbody").getBytes(), false), id);
+    }
+
+    private File getFile(MailItem item, Volume volume) throws Exception {
+        return new File(FileBlobStore.getBlobPath(mbox, item.getId(), item.getSavedSequence(), volume.getId()));
+    }
+
+    private MailboxBlobInfo getBlobInfo(MailItem item) {
+        return new MailboxBlobInfo(null, mbox.getId(), item.getId(), item.getSavedSequence(), item.getLocator(),
+                item.getDigest());
+    }
+
+    private static void waitForMigration() throws InterruptedException {
+        long end = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (BlobMigrator.getInstance().isRunning() && System.currentTimeMillis() < end) {
+            Thread.sleep(50);
+        }
+        Assert.assertFalse(BlobMigrator.getInstance().isRunning());
+    }
+
+    private void assertMoved(List<Message> msgs) throws Exception {
+        for (Message msg : msgs) {
+            Assert.assertFalse(getFile(msg, srcVolume).exists());
+            Assert.assertTrue(getFile(msg, destVolume).exists());
+            Message moved = mbox.getMessageById(null, msg.getId());
+            Assert.assertEquals(destVolume.getLocator(), moved.getLocator());
+            Assert.assertEquals(msg.getSubject(), new ParsedMessage(moved.getContent(), false).getSubject());
+        }
+    }
+
+    @Test
+    public void requiresMinAge() throws Exception {
+        try {
+            BlobMigrator.getInstance().process(srcVolume.getId(), destVolume.getId(), 0, 1, 0);
+            Assert.fail("migration started without a minimum age");
+        } catch (ServiceException e) {
+            Assert.assertEquals(ServiceException.INVALID_REQUEST, e.getCode());
+        }
+        Assert.assertFalse(BlobMigrator.getInstance().isRunning());
+    }
+
+    @Test
+    public void migrate() throws Exception {
+        List<Message> msgs = addMessages(3);
+        long size = 0;
+        for (Message msg : msgs) {
+            size += getFile(msg, srcVolume).length();
+        }
+
+        BlobMigrator migrator = BlobMigrator.getInstance();
+        migrator.process(srcVolume.getId(), destVolume.getId(), 1, 2, 0);
+        waitForMigration();
+
+        Assert.assertEquals(3, migrator.getMovedCount());
+        Assert.assertEquals(size, migrator.getMovedSize());
+        Assert.assertEquals(0, migrator.getSkippedCount());
+        Assert.assertEquals("1/1", migrator.getProgress());
+        Assert.assertEquals(srcVolume.getId(), migrator.getSourceVolumeId());
+        assertMoved(msgs);
+        // a finished migration doesn't resume
+        Assert.assertEquals(0, VolumeManager.getInstance().getVolume(srcVolume.getId()).getMetadata()
+                .getMoveCutoffDate());
+    }
+
+    @Test
+    public void resumeAfterStop() throws Exception {
+        List<Message> msgs = addMessages(2);
+        BlobMigrator migrator = BlobMigrator.getInstance();
+        // the migration thread waits on the migrator, so it sees the stop before copying anything
+        synchronized (migrator) {
+            migrator.process(srcVolume.getId(), destVolume.getId(), 1, 1, 0);
+            migrator.stopProcessing();
+        }
+        waitForMigration();
+        Assert.assertEquals(0, migrator.getMovedCount());
+        Assert.assertNull(migrator.getProgress());
+        for (Message msg : msgs) {
+            Assert.assertTrue(getFile(msg, srcVolume).exists());
+        }
+        VolumeMetadata metadata = VolumeManager.getInstance().getVolume(srcVolume.getId()).getMetadata();
+        Assert.assertEquals(destVolume.getId(), metadata.getMoveDestVolumeId());
+        Assert.assertTrue(metadata.getMoveCutoffDate() > 0);
+
+        // resumes with the saved cutoff, which moves messages this minimum age alone would not
+        migrator.process(srcVolume.getId(), destVolume.getId(), TimeUnit.DAYS.toMillis(30), 1, 0);
+        waitForMigration();
+        Assert.assertEquals(2, migrator.getMovedCount());
+        Assert.assertEquals("1/1", migrator.getProgress());
+        assertMoved(msgs);
+    }
+
+    @Test
+    public void skipItemChangedAfterCopy() throws Exception {
+        Message kept = saveDraft("kept", Mailbox.ID_AUTO_INCREMENT);
+        Message changed = saveDraft("changed", Mailbox.ID_AUTO_INCREMENT);
+        Message deleted = saveDraft("deleted", Mailbox.ID_AUTO_INCREMENT);
+        List<MailboxBlobInfo> batch = new ArrayList<MailboxBlobInfo>();
+        for (Message msg : new Message[] { kept, changed, deleted }) {
+            batch.add(getBlobInfo(msg));
+        }
+
+        BlobMigrator migrator = BlobMigrator.getInstance();
+        int moved = migrator.getMovedCount();
+        int skipped = migrator.getSkippedCount();
+        FileBlobStore store = (FileBlobStore) StoreManager.getInstance();
+        List<BlobMigrator.CopiedBlob> copied = migrator.copyBatch(store, mbox, batch, destVolume.getId(), null);
+        Assert.assertEquals(3, copied.size());
+
+        // the draft is saved again and the other one deleted while their blobs were being copied
+        Message resaved = saveDraft("changed again", changed.getId());
+        mbox.delete(null, deleted.getId(), MailItem.Type.MESSAGE);
+        mbox.emptyDumpster(null);
+
+        migrator.relocateBatch(store, mbox, copied, destVolume.getLocator());
+        Assert.assertEquals(moved + 1, migrator.getMovedCount());
+        Assert.assertEquals(skipped + 2, migrator.getSkippedCount());
+        assertMoved(Collections.singletonList(kept));
+        // the copies of the others are deleted and the new blob is left alone
+        Assert.assertFalse(getFile(changed, destVolume).exists());
+        Assert.assertFalse(getFile(deleted, destVolume).exists());
+        Assert.assertTrue(getFile(resaved, srcVolume).exists());
+        Assert.assertEquals(srcVolume.getLocator(), mbox.getMessageById(null, changed.getId()).getLocator());
+    }
+
+    @Test
+    public void keepSourceUntilCommitted() throws Exception {
+        List<Message> msgs = addMessages(2);
+        List<MailboxBlobInfo> batch = new ArrayList<MailboxBlobInfo>();
+        for (Message msg : msgs) {
+            batch.add(getBlobInfo(msg));
+        }
+
+        BlobMigrator migrator = BlobMigrator.getInstance();
+        int moved = migrator.getMovedCount();
+        int skipped = migrator.getSkippedCount();
+        FileBlobStore store = (FileBlobStore) StoreManager.getInstance();
+        List<BlobMigrator.CopiedBlob> copied = migrator.copyBatch(store, mbox, batch, destVolume.getId(), null);
+        for (Message msg : msgs) {
+            Assert.assertTrue(getFile(msg, destVolume).exists());
+        }
+
+        Mailbox failing = Mockito.spy(mbox);
+        Mockito.doThrow(ServiceException.FAILURE("relocate failed", null)).when(failing)
+                .relocateBlobs(Mockito.anyListOf(MailboxBlobInfo.class), Mockito.anyString());
+        try {
+            migrator.relocateBatch(store, failing, copied, destVolume.getLocator());
+            Assert.fail("relocation didn't fail");
+        } catch (ServiceException e) {
+            Assert.assertEquals(ServiceException.FAILURE, e.getCode());
+        }
+
+        Assert.assertEquals(moved, migrator.getMovedCount());
+        Assert.assertEquals(skipped + 2, migrator.getSkippedCount());
+        for (Message msg : msgs) {
+            Assert.assertTrue(getFile(msg, srcVolume).exists());
+            Assert.assertFalse(getFile(msg, destVolume).exists());
+            Assert.assertEquals(srcVolume.getLocator(), mbox.getMessageById(null, msg.getId()).getLocator());
+        }
+    }
+}
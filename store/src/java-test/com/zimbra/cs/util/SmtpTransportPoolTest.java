@@ -0,0 +1,209 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.util;
+
+import java.util.Properties;
+
+import javax.mail.Authenticator;
+import javax.mail.PasswordAuthentication;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import javax.mail.util.SharedByteArrayInputStream;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.zimbra.common.zmime.ZMimeMessage;
+import com.zimbra.cs.mailbox.MailboxTestUtil;
+
+/**
+ * Unit test for {@link SmtpTransportPool}.
+ */
+public final class SmtpTransportPoolTest {
+    private static final int PORT = 9026;
+    private MockTcpServer server;
+
+    @BeforeClass
+    public static void init() throws Exception {
+        MailboxTestUtil.initServer();
+    }
+
+    @After
+    public void tearDown() {
+        SmtpTransportPool.getInstance().evict("localhost");
+        if (server != null) {
+            server.destroy();
+        }
+    }
+
+    @Test(timeout = 3000)
+    public void reuseConnection() throws Exception {
+        server = MockTcpServer.scenario()
+            .sendLine("220 test ready")
+            .recvLine() // EHLO
+            .sendLine("250 OK")
+            .recvLine() // MAIL FROM
+            .sendLine("250 OK")
+            .recvLine() // RCPT TO
+            .sendLine("250 OK")
+            .recvLine() // DATA
+            .sendLine("354 OK")
+            .swallowUntil("\r\n.\r\n")
+            .sendLine("250 OK")
+            .recvLine() // RSET
+            .sendLine("250 OK")
+            .recvLine() // MAIL FROM
+            .sendLine("250 OK")
+            .recvLine() // RCPT TO
+            .sendLine("250 OK")
+            .recvLine() // DATA
+            .sendLine("354 OK")
+            .swallowUntil("\r\n.\r\n")
+            .sendLine("250 OK")
+            .build().start(PORT);
+
+        Properties props = new Properties();
+        props.setProperty("mail.smtp.port", Integer.toString(PORT));
+        Session session = Session.getInstance(props);
+        String raw = "From: sender@zimbra.com\nTo: rcpt@zimbra.com\nSubject: test\n\ntest";
+        MimeMessage msg = new ZMimeMessage(session, new SharedByteArrayInputStream(raw.getBytes(Charsets.ISO_8859_1)));
+
+        SmtpTransportPool pool = SmtpTransportPool.getInstance();
+        SmtpTransportPool.PooledTransport transport = pool.borrow(session, "localhost");
+        transport.sendMessage(msg, msg.getAllRecipients(), "first@zimbra.com");
+        transport.release(true);
+
+        transport = pool.borrow(session, "localhost");
+        transport.sendMessage(msg, msg.getAllRecipients(), "second@zimbra.com");
+        transport.release(true);
+
+        pool.evict("localhost");
+        server.shutdown(1000);
+        Assert.assertEquals("EHLO localhost\r\n", server.replay());
+        Assert.assertEquals("MAIL FROM:<first@zimbra.com>\r\n", server.replay());
+        Assert.assertEquals("RCPT TO:<rcpt@zimbra.com>\r\n", server.replay());
+        Assert.assertEquals("DATA\r\n", server.replay());
+        Assert.assertEquals("RSET\r\n", server.replay());
+        Assert.assertEquals("MAIL FROM:<second@zimbra.com>\r\n", server.replay());
+        Assert.assertEquals("RCPT TO:<rcpt@zimbra.com>\r\n", server.replay());
+        Assert.assertEquals("DATA\r\n", server.replay());
+        Assert.assertNull(server.replay());
+    }
+
+    @Test(timeout = 3000)
+    public void discardFailedConnection() throws Exception {
+        server = MockTcpServer.scenario()
+            .sendLine("220 test ready")
+            .recvLine() // EHLO
+            .sendLine("250 OK")
+            .recvLine() // MAIL FROM
+            .sendLine("451 try later")
+            .recvLine() // QUIT
+            .sendLine("221 bye")
+            .build().start(PORT);
+
+        Properties props = new Properties();
+        props.setProperty("mail.smtp.port", Integer.toString(PORT));
+        Session session = Session.getInstance(props);
+        String raw = "From: sender@zimbra.com\nTo: rcpt@zimbra.com\nSubject: test\n\ntest";
+        MimeMessage msg = new ZMimeMessage(session, new SharedByteArrayInputStream(raw.getBytes(Charsets.ISO_8859_1)));
+
+        SmtpTransportPool.PooledTransport transport = SmtpTransportPool.getInstance().borrow(session, "localhost");
+        boolean reusable = false;
+        try {
+            transport.sendMessage(msg, msg.getAllRecipients(), null);
+            reusable = true;
+        } catch (Exception expected) {
+        } finally {
+            transport.release(reusable);
+        }
+        Assert.assertFalse(reusable);
+
+        server.shutdown(1000);
+        Assert.assertEquals("EHLO localhost\r\n", server.replay());
+        Assert.assertEquals("MAIL FROM:<sender@zimbra.com>\r\n", server.replay());
+        Assert.assertEquals("QUIT\r\n", server.replay());
+        Assert.assertNull(server.replay());
+    }
+
+    @Test(timeout = 3000)
+    public void authenticatedSessionIsNotPooled() throws Exception {
+        server = MockTcpServer.scenario()
+            .sendLine("220 test ready")
+            .recvLine() // EHLO
+            .sendLine("250-smtp.zimbra.com")
+            .sendLine("250 AUTH LOGIN")
+            .recvLine() // AUTH LOGIN
+            .sendLine("334 OK")
+            .recvLine() // USER
+            .sendLine("334")
+            .recvLine() // PASSWORD
+            .sendLine("235 Authentication successful")
+            .recvLine() // MAIL FROM
+            .sendLine("250 OK")
+            .recvLine() // RCPT TO
+            .sendLine("250 OK")
+            .recvLine() // DATA
+            .sendLine("354 OK")
+            .swallowUntil("\r\n.\r\n")
+            .sendLine("250 OK")
+            .recvLine() // QUIT
+            .sendLine("221 bye")
+            .build().start(PORT);
+
+        Properties props = new Properties();
+        props.setProperty("mail.smtp.port", Integer.toString(PORT));
+        props.setProperty("mail.smtp.auth", "true");
+        Session session = Session.getInstance(props, new Authenticator() {
+            @Override
+            protected PasswordAuthentication getPasswordAuthentication() {
+                return new PasswordAuthentication("zimbra", "secret");
+            }
+        });
+        JMSession.setProviders(session);
+        Assert.assertTrue(SmtpTransportPool.isAuthenticated(session));
+        String raw = "From: sender@zimbra.com\nTo: rcpt@zimbra.com\nSubject: test\n\ntest";
+        MimeMessage msg = new ZMimeMessage(session, new SharedByteArrayInputStream(raw.getBytes(Charsets.ISO_8859_1)));
+
+        // the credentials come from the session's authenticator, and the connection is closed on release
+        SmtpTransportPool.PooledTransport transport = SmtpTransportPool.getInstance().borrow(session, "localhost");
+        transport.sendMessage(msg, msg.getAllRecipients(), "sender@zimbra.com");
+        transport.release(true);
+
+        server.shutdown(1000);
+        Assert.assertEquals("EHLO localhost\r\n", server.replay());
+        Assert.assertEquals("AUTH LOGIN\r\n", server.replay());
+        Assert.assertEquals(base64("zimbra") + "\r\n", server.replay());
+        Assert.assertEquals(base64("secret") + "\r\n", server.replay());
+        Assert.assertEquals("MAIL FROM:<sender@zimbra.com>\r\n", server.replay());
+        Assert.assertEquals("RCPT TO:<rcpt@zimbra.com>\r\n", server.replay());
+        Assert.assertEquals("DATA\r\n", server.replay());
+        Assert.assertEquals("QUIT\r\n", server.replay());
+        Assert.assertNull(server.replay());
+
+        Assert.assertFalse(SmtpTransportPool.isAuthenticated(Session.getInstance(new Properties())));
+    }
+
+    private static String base64(String src) {
+        return new String(Base64.encodeBase64(src.getBytes()));
+    }
+}
@@ -1027,6 +1027,17 @@ public class AttributeManagerUtil {
        }
    }
 
+   /**
+    * Attributes with an id are read through the {@link Entry} getters that cache the parsed value by id.
+    */
+   private static String typedGetterBody(String getter, AttributeInfo ai, String defaultValue) {
+       if (ai.getId() > 0) {
+           return String.format("return %s(%d, Provisioning.A_%s, %s);", getter, ai.getId(), ai.getName(), defaultValue);
+       } else {
+           return String.format("return %s(Provisioning.A_%s, %s, true);", getter, ai.getName(), defaultValue);
+       }
+   }
+
    @VisibleForTesting
    public static void generateGetter(StringBuilder result, AttributeInfo ai, boolean asString, AttributeClass ac) throws ServiceException {
        String javaType;
@@ -1051,7 +1062,7 @@ public class AttributeManagerUtil {
                if (ai.isEphemeral()) {
                    javaBody = String.format("return getEphemeralAttr(Provisioning.A_%s, %s).getBoolValue(%s);", name, dynamic, defaultValue);
                } else {
-                   javaBody = String.format("return getBooleanAttr(Provisioning.A_%s, %s, true);", name, defaultValue);
+                   javaBody = typedGetterBody("getBooleanAttr", ai, defaultValue);
                }
                javaDocReturns = String.format(", or %s if unset", defaultValue);
                break;
@@ -1072,7 +1083,7 @@ public class AttributeManagerUtil {
                if (ai.isEphemeral()) {
                    javaBody = String.format("return getEphemeralAttr(Provisioning.A_%s, %s).getIntValue(%s);", name, dynamic, defaultValue);
                } else {
-                   javaBody = String.format("return getIntAttr(Provisioning.A_%s, %s, true);", name, defaultValue);
+                   javaBody = typedGetterBody("getIntAttr", ai, defaultValue);
                }
                javaDocReturns = String.format(", or %s if unset", defaultValue);
                break;
@@ -1082,7 +1093,7 @@ public class AttributeManagerUtil {
                if (ai.isEphemeral()) {
                    javaBody = String.format("return getEphemeralAttr(Provisioning.A_%s, %s).getIntValue(%s);", name, dynamic, defaultValue);
                } else {
-                   javaBody = String.format("return getIntAttr(Provisioning.A_%s, %s, true);", name, defaultValue);
+                   javaBody = typedGetterBody("getIntAttr", ai, defaultValue);
                }
                javaDocReturns = String.format(", or %s if unset", defaultValue);
                asStringDoc = true;
@@ -1107,7 +1118,7 @@ public class AttributeManagerUtil {
                if (ai.isEphemeral()) {
                    javaBody = String.format("return getEphemeralAttr(Provisioning.A_%s, %s).getLongValue(%sL);", name, dynamic, defaultValue);
                } else {
-                   javaBody = String.format("return getLongAttr(Provisioning.A_%s, %sL, true);", name, new MemoryUnitUtil(1024).convertToBytes(defaultValue));
+                   javaBody = typedGetterBody("getLongAttr", ai, new MemoryUnitUtil(1024).convertToBytes(defaultValue) + "L");
                }
                javaDocReturns = String.format(", or %s if unset", defaultValue);
                break;
@@ -1123,7 +1134,7 @@ public class AttributeManagerUtil {
                if (ai.isEphemeral()) {
                    javaBody = String.format("return getEphemeralTimeInterval(Provisioning.A_%s, %s, %sL);", name, dynamic, defaultValue);
                } else {
-                   javaBody = String.format("return getTimeInterval(Provisioning.A_%s, %sL, true);", name, defaultValue);
+                   javaBody = typedGetterBody("getTimeInterval", ai, defaultValue + "L");
                }
                javaDocReturns = String.format(" in millseconds, or %s%s if unset", defaultValue, defaultDurationStrValue);
                javaType = "long";
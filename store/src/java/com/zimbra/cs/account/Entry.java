@@ -29,7 +29,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -101,6 +104,16 @@ public abstract class Entry implements ToZJSONObject {
     private Locale mLocale;
     private final Provisioning mProvisioning;
     private AttributeManager mAttrMgr;
+    private volatile TypedValues mTypedValues;
+
+    private static final AtomicReferenceFieldUpdater<Entry, TypedValues> TYPED_VALUES =
+            AtomicReferenceFieldUpdater.newUpdater(Entry.class, TypedValues.class, "mTypedValues");
+
+    /**
+     * Bumped whenever an entry refills a defaults map that other entries read through, such as the account defaults
+     * of a COS or domain.  Typed values cached under an older generation are discarded.
+     */
+    private static final AtomicLong sDefaultsGeneration = new AtomicLong();
 
     protected static String[] sEmptyMulti = new String[0];
     protected static List<byte[]> sEmptyListMulti = new ArrayList<byte[]>();
@@ -200,6 +213,9 @@ public abstract class Entry implements ToZJSONObject {
         if (mData != null)
             mData.clear();
         mLocale = null;
+        // a new instance rather than null, so that a getter racing with this reset can't install values it parsed
+        // from the old attributes
+        mTypedValues = new TypedValues(sDefaultsGeneration.get());
     }
 
     /**
@@ -705,6 +721,156 @@ public abstract class Entry implements ToZJSONObject {
         return DateUtil.getTimeIntervalSecs(getAttr(name), defaultValue);
     }
 
+    /*
+     * Typed getters for the generated ZAttr* accessors of non-ephemeral attributes.  The parsed value is cached by
+     * attribute id until the entry is reloaded, so repeated calls skip the map lookups through the defaults and the
+     * parsing.  A given id must always be read with the same type and default value.
+     */
+
+    protected boolean getBooleanAttr(int id, String name, boolean defaultValue) {
+        Object v = getTypedValue(id);
+        if (v != null) {
+            return (Boolean) v;
+        }
+        TypedValues values = typedValues();
+        boolean result = getBooleanAttr(name, defaultValue, true);
+        putTypedValue(values, id, result);
+        return result;
+    }
+
+    protected int getIntAttr(int id, String name, int defaultValue) {
+        Object v = getTypedValue(id);
+        if (v != null) {
+            return (Integer) v;
+        }
+        TypedValues values = typedValues();
+        int result = getIntAttr(name, defaultValue, true);
+        putTypedValue(values, id, result);
+        return result;
+    }
+
+    protected long getLongAttr(int id, String name, long defaultValue) {
+        Object v = getTypedValue(id);
+        if (v != null) {
+            return (Long) v;
+        }
+        TypedValues values = typedValues();
+        long result = getLongAttr(name, defaultValue, true);
+        putTypedValue(values, id, result);
+        return result;
+    }
+
+    protected long getTimeInterval(int id, String name, long defaultValue) {
+        Object v = getTypedValue(id);
+        if (v != null) {
+            return (Long) v;
+        }
+        TypedValues values = typedValues();
+        long result = getTimeInterval(name, defaultValue, true);
+        putTypedValue(values, id, result);
+        return result;
+    }
+
+    private Object getTypedValue(int id) {
+        TypedValues values = mTypedValues;
+        if (values == null || values.generation != sDefaultsGeneration.get()) {
+            return null;
+        }
+        return values.get(id);
+    }
+
+    /**
+     * Returns the table to add a value to.  Must be called before the value is computed from the attributes, so that
+     * a concurrent reset or defaults change makes the later {@link #putTypedValue} a no-op.
+     */
+    private TypedValues typedValues() {
+        long generation = sDefaultsGeneration.get();
+        TypedValues values = mTypedValues;
+        if (values != null && values.generation == generation) {
+            return values;
+        }
+        TypedValues fresh = new TypedValues(generation);
+        return TYPED_VALUES.compareAndSet(this, values, fresh) ? fresh : null;
+    }
+
+    private void putTypedValue(TypedValues values, int id, Object value) {
+        if (values != null && id > 0) {
+            // lost races only cost a later cache miss
+            TYPED_VALUES.compareAndSet(this, values, values.with(id, value));
+        }
+    }
+
+    /**
+     * Immutable open addressing table from attribute id to parsed value.  Copied on every insert, which happens at
+     * most once per attribute between reloads.
+     */
+    private static final class TypedValues {
+        private static final int[] NO_IDS = new int[0];
+
+        final long generation;
+        private final int[] ids; // 0 marks a free slot, attribute ids are positive
+        private final Object[] values;
+        private final int size;
+
+        TypedValues(long generation) {
+            this(generation, NO_IDS, null, 0);
+        }
+
+        private TypedValues(long generation, int[] ids, Object[] values, int size) {
+            this.generation = generation;
+            this.ids = ids;
+            this.values = values;
+            this.size = size;
+        }
+
+        Object get(int id) {
+            if (size == 0) {
+                return null;
+            }
+            int mask = ids.length - 1;
+            for (int i = slot(id, mask); ; i = (i + 1) & mask) {
+                int slotId = ids[i];
+                if (slotId == id) {
+                    return values[i];
+                } else if (slotId == 0) {
+                    return null;
+                }
+            }
+        }
+
+        TypedValues with(int id, Object value) {
+            int capacity = ids.length;
+            if ((size + 1) * 2 > capacity) {
+                capacity = Math.max(16, capacity * 2);
+            }
+            int[] newIds = new int[capacity];
+            Object[] newValues = new Object[capacity];
+            int newSize = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] != 0 && ids[i] != id) {
+                    insert(newIds, newValues, ids[i], values[i]);
+                    newSize++;
+                }
+            }
+            insert(newIds, newValues, id, value);
+            return new TypedValues(generation, newIds, newValues, newSize + 1);
+        }
+
+        private static void insert(int[] ids, Object[] values, int id, Object value) {
+            int mask = ids.length - 1;
+            int i = slot(id, mask);
+            while (ids[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            ids[i] = id;
+            values[i] = value;
+        }
+
+        private static int slot(int id, int mask) {
+            return (id * 0x9E3779B9) >>> 16 & mask;
+        }
+    }
+
     /**
      * temporarily associate a key/value pair with this entry. When an entry is reloaded,
      * any cached data is cleared via a call to resetData.
@@ -766,6 +932,7 @@ public abstract class Entry implements ToZJSONObject {
 
     protected void getDefaults(AttributeFlag flag, Map<String,Object> defaults)
     throws ServiceException {
+        Map<String, Object> previous = defaults.isEmpty() ? null : new HashMap<String, Object>(defaults);
         defaults.clear();
         Set<String> attrs = AttributeManager.getInstance().getAttrsWithFlag(flag);
         for (String a : attrs) {
@@ -773,6 +940,22 @@ public abstract class Entry implements ToZJSONObject {
             if (obj != null) defaults.put(a, obj);
         }
         //return Collections.unmodifiableMap(defaults);
+        if (previous != null && !sameValues(previous, defaults)) {
+            // entries inheriting from this map may have cached typed values derived from the old contents
+            sDefaultsGeneration.incrementAndGet();
+        }
+    }
+
+    private static boolean sameValues(Map<String, Object> a, Map<String, Object> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Object> entry : a.entrySet()) {
+            if (!Objects.deepEquals(entry.getValue(), b.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
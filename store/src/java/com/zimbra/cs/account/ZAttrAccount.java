@@ -3079,7 +3079,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=109)
     public long getAdminAuthTokenLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraAdminAuthTokenLifetime, 43200000L, true);
+        return getTimeInterval(109, Provisioning.A_zimbraAdminAuthTokenLifetime, 43200000L);
     }
 
     /**
@@ -3725,7 +3725,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=427)
     public boolean isAllowAnyFromAddress() {
-        return getBooleanAttr(Provisioning.A_zimbraAllowAnyFromAddress, false, true);
+        return getBooleanAttr(427, Provisioning.A_zimbraAllowAnyFromAddress, false);
     }
 
     /**
@@ -4069,7 +4069,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1839)
     public long getAppSpecificPasswordDuration() {
-        return getTimeInterval(Provisioning.A_zimbraAppSpecificPasswordDuration, 0L, true);
+        return getTimeInterval(1839, Provisioning.A_zimbraAppSpecificPasswordDuration, 0L);
     }
 
     /**
@@ -4465,7 +4465,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1206)
     public boolean isArchiveEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraArchiveEnabled, false, true);
+        return getBooleanAttr(1206, Provisioning.A_zimbraArchiveEnabled, false);
     }
 
     /**
@@ -4535,7 +4535,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=115)
     public boolean isAttachmentsBlocked() {
-        return getBooleanAttr(Provisioning.A_zimbraAttachmentsBlocked, false, true);
+        return getBooleanAttr(115, Provisioning.A_zimbraAttachmentsBlocked, false);
     }
 
     /**
@@ -4597,7 +4597,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=173)
     public boolean isAttachmentsIndexingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAttachmentsIndexingEnabled, true, true);
+        return getBooleanAttr(173, Provisioning.A_zimbraAttachmentsIndexingEnabled, true);
     }
 
     /**
@@ -4659,7 +4659,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=116)
     public boolean isAttachmentsViewInHtmlOnly() {
-        return getBooleanAttr(Provisioning.A_zimbraAttachmentsViewInHtmlOnly, false, true);
+        return getBooleanAttr(116, Provisioning.A_zimbraAttachmentsViewInHtmlOnly, false);
     }
 
     /**
@@ -4790,7 +4790,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=108)
     public long getAuthTokenLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraAuthTokenLifetime, 172800000L, true);
+        return getTimeInterval(108, Provisioning.A_zimbraAuthTokenLifetime, 172800000L);
     }
 
     /**
@@ -4881,7 +4881,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1044)
     public int getAuthTokenValidityValue() {
-        return getIntAttr(Provisioning.A_zimbraAuthTokenValidityValue, -1, true);
+        return getIntAttr(1044, Provisioning.A_zimbraAuthTokenValidityValue, -1);
     }
 
     /**
@@ -5036,7 +5036,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2072)
     public boolean isAvailabilityServiceProvider() {
-        return getBooleanAttr(Provisioning.A_zimbraAvailabilityServiceProvider, false, true);
+        return getBooleanAttr(2072, Provisioning.A_zimbraAvailabilityServiceProvider, false);
     }
 
     /**
@@ -5362,7 +5362,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=619)
     public int getBatchedIndexingSize() {
-        return getIntAttr(Provisioning.A_zimbraBatchedIndexingSize, 20, true);
+        return getIntAttr(619, Provisioning.A_zimbraBatchedIndexingSize, 20);
     }
 
     /**
@@ -5503,7 +5503,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=817)
     public long getCalendarCalDavSharedFolderCacheDuration() {
-        return getTimeInterval(Provisioning.A_zimbraCalendarCalDavSharedFolderCacheDuration, 60000L, true);
+        return getTimeInterval(817, Provisioning.A_zimbraCalendarCalDavSharedFolderCacheDuration, 60000L);
     }
 
     /**
@@ -5610,7 +5610,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=816)
     public long getCalendarCalDavSyncEnd() {
-        return getTimeInterval(Provisioning.A_zimbraCalendarCalDavSyncEnd, -1L, true);
+        return getTimeInterval(816, Provisioning.A_zimbraCalendarCalDavSyncEnd, -1L);
     }
 
     /**
@@ -5727,7 +5727,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=815)
     public long getCalendarCalDavSyncStart() {
-        return getTimeInterval(Provisioning.A_zimbraCalendarCalDavSyncStart, -1L, true);
+        return getTimeInterval(815, Provisioning.A_zimbraCalendarCalDavSyncStart, -1L);
     }
 
     /**
@@ -5857,7 +5857,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1240)
     public boolean isCalendarKeepExceptionsOnSeriesTimeChange() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarKeepExceptionsOnSeriesTimeChange, false, true);
+        return getBooleanAttr(1240, Provisioning.A_zimbraCalendarKeepExceptionsOnSeriesTimeChange, false);
     }
 
     /**
@@ -6006,7 +6006,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=709)
     public int getCalendarMaxRevisions() {
-        return getIntAttr(Provisioning.A_zimbraCalendarMaxRevisions, 1, true);
+        return getIntAttr(709, Provisioning.A_zimbraCalendarMaxRevisions, 1);
     }
 
     /**
@@ -6159,7 +6159,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1087)
     public boolean isCalendarResourceDoubleBookingAllowed() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarResourceDoubleBookingAllowed, true, true);
+        return getBooleanAttr(1087, Provisioning.A_zimbraCalendarResourceDoubleBookingAllowed, true);
     }
 
     /**
@@ -6232,7 +6232,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1092)
     public boolean isCalendarShowResourceTabs() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarShowResourceTabs, true, true);
+        return getBooleanAttr(1092, Provisioning.A_zimbraCalendarShowResourceTabs, true);
     }
 
     /**
@@ -6308,7 +6308,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2103)
     public boolean isChatHistoryEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraChatHistoryEnabled, true, true);
+        return getBooleanAttr(2103, Provisioning.A_zimbraChatHistoryEnabled, true);
     }
 
     /**
@@ -7198,7 +7198,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=827)
     public int getContactAutoCompleteMaxResults() {
-        return getIntAttr(Provisioning.A_zimbraContactAutoCompleteMaxResults, 20, true);
+        return getIntAttr(827, Provisioning.A_zimbraContactAutoCompleteMaxResults, 20);
     }
 
     /**
@@ -7360,7 +7360,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=107)
     public int getContactMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraContactMaxNumEntries, 10000, true);
+        return getIntAttr(107, Provisioning.A_zimbraContactMaxNumEntries, 10000);
     }
 
     /**
@@ -7427,7 +7427,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=758)
     public int getContactRankingTableSize() {
-        return getIntAttr(Provisioning.A_zimbraContactRankingTableSize, 200, true);
+        return getIntAttr(758, Provisioning.A_zimbraContactRankingTableSize, 200);
     }
 
     /**
@@ -7857,7 +7857,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=605)
     public int getCustomerCareTier() {
-        return getIntAttr(Provisioning.A_zimbraCustomerCareTier, -1, true);
+        return getIntAttr(605, Provisioning.A_zimbraCustomerCareTier, -1);
     }
 
     /**
@@ -7938,7 +7938,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=788)
     public long getDataSourceCaldavPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceCaldavPollingInterval, -1L, true);
+        return getTimeInterval(788, Provisioning.A_zimbraDataSourceCaldavPollingInterval, -1L);
     }
 
     /**
@@ -8056,7 +8056,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=819)
     public long getDataSourceCalendarPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceCalendarPollingInterval, 43200000L, true);
+        return getTimeInterval(819, Provisioning.A_zimbraDataSourceCalendarPollingInterval, 43200000L);
     }
 
     /**
@@ -8174,7 +8174,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=826)
     public long getDataSourceGalPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceGalPollingInterval, -1L, true);
+        return getTimeInterval(826, Provisioning.A_zimbraDataSourceGalPollingInterval, -1L);
     }
 
     /**
@@ -8292,7 +8292,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=768)
     public long getDataSourceImapPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceImapPollingInterval, -1L, true);
+        return getTimeInterval(768, Provisioning.A_zimbraDataSourceImapPollingInterval, -1L);
     }
 
     /**
@@ -8402,7 +8402,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1418)
     public boolean isDataSourceImportOnLogin() {
-        return getBooleanAttr(Provisioning.A_zimbraDataSourceImportOnLogin, false, true);
+        return getBooleanAttr(1418, Provisioning.A_zimbraDataSourceImportOnLogin, false);
     }
 
     /**
@@ -8487,7 +8487,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=769)
     public long getDataSourceLivePollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceLivePollingInterval, -1L, true);
+        return getTimeInterval(769, Provisioning.A_zimbraDataSourceLivePollingInterval, -1L);
     }
 
     /**
@@ -8594,7 +8594,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=426)
     public int getDataSourceMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraDataSourceMaxNumEntries, 20, true);
+        return getIntAttr(426, Provisioning.A_zimbraDataSourceMaxNumEntries, 20);
     }
 
     /**
@@ -8666,7 +8666,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=525)
     public long getDataSourceMinPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceMinPollingInterval, 60000L, true);
+        return getTimeInterval(525, Provisioning.A_zimbraDataSourceMinPollingInterval, 60000L);
     }
 
     /**
@@ -8786,7 +8786,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=455)
     public long getDataSourcePollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourcePollingInterval, -1L, true);
+        return getTimeInterval(455, Provisioning.A_zimbraDataSourcePollingInterval, -1L);
     }
 
     /**
@@ -8939,7 +8939,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=767)
     public long getDataSourcePop3PollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourcePop3PollingInterval, -1L, true);
+        return getTimeInterval(767, Provisioning.A_zimbraDataSourcePop3PollingInterval, -1L);
     }
 
     /**
@@ -9048,7 +9048,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2015)
     public long getDataSourceQuota() {
-        return getLongAttr(Provisioning.A_zimbraDataSourceQuota, 0L, true);
+        return getLongAttr(2015, Provisioning.A_zimbraDataSourceQuota, 0L);
     }
 
     /**
@@ -9129,7 +9129,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=770)
     public long getDataSourceRssPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceRssPollingInterval, 43200000L, true);
+        return getTimeInterval(770, Provisioning.A_zimbraDataSourceRssPollingInterval, 43200000L);
     }
 
     /**
@@ -9238,7 +9238,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2016)
     public long getDataSourceTotalQuota() {
-        return getLongAttr(Provisioning.A_zimbraDataSourceTotalQuota, 0L, true);
+        return getLongAttr(2016, Provisioning.A_zimbraDataSourceTotalQuota, 0L);
     }
 
     /**
@@ -9319,7 +9319,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=789)
     public long getDataSourceYabPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceYabPollingInterval, -1L, true);
+        return getTimeInterval(789, Provisioning.A_zimbraDataSourceYabPollingInterval, -1L);
     }
 
     /**
@@ -9810,7 +9810,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1400)
     public boolean isDeviceFileOpenWithEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDeviceFileOpenWithEnabled, true, true);
+        return getBooleanAttr(1400, Provisioning.A_zimbraDeviceFileOpenWithEnabled, true);
     }
 
     /**
@@ -9882,7 +9882,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1399)
     public boolean isDeviceLockWhenInactive() {
-        return getBooleanAttr(Provisioning.A_zimbraDeviceLockWhenInactive, false, true);
+        return getBooleanAttr(1399, Provisioning.A_zimbraDeviceLockWhenInactive, false);
     }
 
     /**
@@ -9954,7 +9954,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1412)
     public boolean isDeviceOfflineCacheEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDeviceOfflineCacheEnabled, false, true);
+        return getBooleanAttr(1412, Provisioning.A_zimbraDeviceOfflineCacheEnabled, false);
     }
 
     /**
@@ -10026,7 +10026,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1396)
     public boolean isDevicePasscodeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDevicePasscodeEnabled, false, true);
+        return getBooleanAttr(1396, Provisioning.A_zimbraDevicePasscodeEnabled, false);
     }
 
     /**
@@ -10105,7 +10105,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1398)
     public long getDevicePasscodeLockoutDuration() {
-        return getTimeInterval(Provisioning.A_zimbraDevicePasscodeLockoutDuration, -1L, true);
+        return getTimeInterval(1398, Provisioning.A_zimbraDevicePasscodeLockoutDuration, -1L);
     }
 
     /**
@@ -10207,7 +10207,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2048)
     public boolean isDisableCrossAccountConversationThreading() {
-        return getBooleanAttr(Provisioning.A_zimbraDisableCrossAccountConversationThreading, true, true);
+        return getBooleanAttr(2048, Provisioning.A_zimbraDisableCrossAccountConversationThreading, true);
     }
 
     /**
@@ -10291,7 +10291,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3101)
     public boolean isDocumentRecentlyViewedEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDocumentRecentlyViewedEnabled, true, true);
+        return getBooleanAttr(3101, Provisioning.A_zimbraDocumentRecentlyViewedEnabled, true);
     }
 
     /**
@@ -10361,7 +10361,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=398)
     public long getDomainAdminMaxMailQuota() {
-        return getLongAttr(Provisioning.A_zimbraDomainAdminMaxMailQuota, -1L, true);
+        return getLongAttr(398, Provisioning.A_zimbraDomainAdminMaxMailQuota, -1L);
     }
 
     /**
@@ -10425,7 +10425,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1128)
     public boolean isDumpsterEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDumpsterEnabled, false, true);
+        return getBooleanAttr(1128, Provisioning.A_zimbraDumpsterEnabled, false);
     }
 
     /**
@@ -10497,7 +10497,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1315)
     public boolean isDumpsterPurgeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDumpsterPurgeEnabled, true, true);
+        return getBooleanAttr(1315, Provisioning.A_zimbraDumpsterPurgeEnabled, true);
     }
 
     /**
@@ -10577,7 +10577,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1314)
     public long getDumpsterUserVisibleAge() {
-        return getTimeInterval(Provisioning.A_zimbraDumpsterUserVisibleAge, 2592000000L, true);
+        return getTimeInterval(1314, Provisioning.A_zimbraDumpsterUserVisibleAge, 2592000000L);
     }
 
     /**
@@ -10679,7 +10679,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=501)
     public boolean isExcludeFromCMBSearch() {
-        return getBooleanAttr(Provisioning.A_zimbraExcludeFromCMBSearch, false, true);
+        return getBooleanAttr(501, Provisioning.A_zimbraExcludeFromCMBSearch, false);
     }
 
     /**
@@ -10744,7 +10744,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2056)
     public int getExportMaxDays() {
-        return getIntAttr(Provisioning.A_zimbraExportMaxDays, 0, true);
+        return getIntAttr(2056, Provisioning.A_zimbraExportMaxDays, 0);
     }
 
     /**
@@ -10967,7 +10967,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1372)
     public long getExternalAccountLifetimeAfterDisabled() {
-        return getTimeInterval(Provisioning.A_zimbraExternalAccountLifetimeAfterDisabled, 2592000000L, true);
+        return getTimeInterval(1372, Provisioning.A_zimbraExternalAccountLifetimeAfterDisabled, 2592000000L);
     }
 
     /**
@@ -11167,7 +11167,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=782)
     public int getExternalImapPort() {
-        return getIntAttr(Provisioning.A_zimbraExternalImapPort, -1, true);
+        return getIntAttr(782, Provisioning.A_zimbraExternalImapPort, -1);
     }
 
     /**
@@ -11358,7 +11358,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=783)
     public int getExternalImapSSLPort() {
-        return getIntAttr(Provisioning.A_zimbraExternalImapSSLPort, -1, true);
+        return getIntAttr(783, Provisioning.A_zimbraExternalImapSSLPort, -1);
     }
 
     /**
@@ -11549,7 +11549,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=780)
     public int getExternalPop3Port() {
-        return getIntAttr(Provisioning.A_zimbraExternalPop3Port, -1, true);
+        return getIntAttr(780, Provisioning.A_zimbraExternalPop3Port, -1);
     }
 
     /**
@@ -11740,7 +11740,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=781)
     public int getExternalPop3SSLPort() {
-        return getIntAttr(Provisioning.A_zimbraExternalPop3SSLPort, -1, true);
+        return getIntAttr(781, Provisioning.A_zimbraExternalPop3SSLPort, -1);
     }
 
     /**
@@ -11856,7 +11856,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1264)
     public boolean isExternalShareDomainWhitelistEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraExternalShareDomainWhitelistEnabled, false, true);
+        return getBooleanAttr(1264, Provisioning.A_zimbraExternalShareDomainWhitelistEnabled, false);
     }
 
     /**
@@ -11941,7 +11941,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1260)
     public long getExternalShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraExternalShareLifetime, 0L, true);
+        return getTimeInterval(1260, Provisioning.A_zimbraExternalShareLifetime, 0L);
     }
 
     /**
@@ -12184,7 +12184,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1261)
     public boolean isExternalSharingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraExternalSharingEnabled, true, true);
+        return getBooleanAttr(1261, Provisioning.A_zimbraExternalSharingEnabled, true);
     }
 
     /**
@@ -12405,7 +12405,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2126)
     public boolean isFeatureAddressVerificationEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAddressVerificationEnabled, false, true);
+        return getBooleanAttr(2126, Provisioning.A_zimbraFeatureAddressVerificationEnabled, false);
     }
 
     /**
@@ -12485,7 +12485,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2127)
     public long getFeatureAddressVerificationExpiry() {
-        return getTimeInterval(Provisioning.A_zimbraFeatureAddressVerificationExpiry, 86400000L, true);
+        return getTimeInterval(2127, Provisioning.A_zimbraFeatureAddressVerificationExpiry, 86400000L);
     }
 
     /**
@@ -12721,7 +12721,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1170)
     public boolean isFeatureAdminMailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAdminMailEnabled, true, true);
+        return getBooleanAttr(1170, Provisioning.A_zimbraFeatureAdminMailEnabled, true);
     }
 
     /**
@@ -12801,7 +12801,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1686)
     public boolean isFeatureAdminPreferencesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAdminPreferencesEnabled, false, true);
+        return getBooleanAttr(1686, Provisioning.A_zimbraFeatureAdminPreferencesEnabled, false);
     }
 
     /**
@@ -12888,7 +12888,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=138)
     public boolean isFeatureAdvancedSearchEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAdvancedSearchEnabled, true, true);
+        return getBooleanAttr(138, Provisioning.A_zimbraFeatureAdvancedSearchEnabled, true);
     }
 
     /**
@@ -12958,7 +12958,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1168)
     public boolean isFeatureAntispamEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAntispamEnabled, true, true);
+        return getBooleanAttr(1168, Provisioning.A_zimbraFeatureAntispamEnabled, true);
     }
 
     /**
@@ -13040,7 +13040,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1907)
     public boolean isFeatureAppSpecificPasswordsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAppSpecificPasswordsEnabled, true, true);
+        return getBooleanAttr(1907, Provisioning.A_zimbraFeatureAppSpecificPasswordsEnabled, true);
     }
 
     /**
@@ -13120,7 +13120,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1055)
     public boolean isFeatureBriefcaseDocsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureBriefcaseDocsEnabled, true, true);
+        return getBooleanAttr(1055, Provisioning.A_zimbraFeatureBriefcaseDocsEnabled, true);
     }
 
     /**
@@ -13192,7 +13192,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1054)
     public boolean isFeatureBriefcaseSlidesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureBriefcaseSlidesEnabled, false, true);
+        return getBooleanAttr(1054, Provisioning.A_zimbraFeatureBriefcaseSlidesEnabled, false);
     }
 
     /**
@@ -13264,7 +13264,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1053)
     public boolean isFeatureBriefcaseSpreadsheetEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureBriefcaseSpreadsheetEnabled, false, true);
+        return getBooleanAttr(1053, Provisioning.A_zimbraFeatureBriefcaseSpreadsheetEnabled, false);
     }
 
     /**
@@ -13334,7 +13334,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=498)
     public boolean isFeatureBriefcasesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureBriefcasesEnabled, true, true);
+        return getBooleanAttr(498, Provisioning.A_zimbraFeatureBriefcasesEnabled, true);
     }
 
     /**
@@ -13396,7 +13396,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=136)
     public boolean isFeatureCalendarEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureCalendarEnabled, true, true);
+        return getBooleanAttr(136, Provisioning.A_zimbraFeatureCalendarEnabled, true);
     }
 
     /**
@@ -13461,7 +13461,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1150)
     public boolean isFeatureCalendarReminderDeviceEmailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureCalendarReminderDeviceEmailEnabled, false, true);
+        return getBooleanAttr(1150, Provisioning.A_zimbraFeatureCalendarReminderDeviceEmailEnabled, false);
     }
 
     /**
@@ -13537,7 +13537,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=531)
     public boolean isFeatureCalendarUpsellEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureCalendarUpsellEnabled, false, true);
+        return getBooleanAttr(531, Provisioning.A_zimbraFeatureCalendarUpsellEnabled, false);
     }
 
     /**
@@ -13679,7 +13679,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=141)
     public boolean isFeatureChangePasswordEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureChangePasswordEnabled, true, true);
+        return getBooleanAttr(141, Provisioning.A_zimbraFeatureChangePasswordEnabled, true);
     }
 
     /**
@@ -13743,7 +13743,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2052)
     public boolean isFeatureChatEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureChatEnabled, false, true);
+        return getBooleanAttr(2052, Provisioning.A_zimbraFeatureChatEnabled, false);
     }
 
     /**
@@ -13815,7 +13815,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=584)
     public boolean isFeatureComposeInNewWindowEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureComposeInNewWindowEnabled, true, true);
+        return getBooleanAttr(584, Provisioning.A_zimbraFeatureComposeInNewWindowEnabled, true);
     }
 
     /**
@@ -13888,7 +13888,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=806)
     public boolean isFeatureConfirmationPageEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureConfirmationPageEnabled, false, true);
+        return getBooleanAttr(806, Provisioning.A_zimbraFeatureConfirmationPageEnabled, false);
     }
 
     /**
@@ -13964,7 +13964,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2131)
     public boolean isFeatureContactBackupEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureContactBackupEnabled, false, true);
+        return getBooleanAttr(2131, Provisioning.A_zimbraFeatureContactBackupEnabled, false);
     }
 
     /**
@@ -14036,7 +14036,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1164)
     public boolean isFeatureContactsDetailedSearchEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureContactsDetailedSearchEnabled, false, true);
+        return getBooleanAttr(1164, Provisioning.A_zimbraFeatureContactsDetailedSearchEnabled, false);
     }
 
     /**
@@ -14106,7 +14106,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=135)
     public boolean isFeatureContactsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureContactsEnabled, true, true);
+        return getBooleanAttr(135, Provisioning.A_zimbraFeatureContactsEnabled, true);
     }
 
     /**
@@ -14170,7 +14170,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=529)
     public boolean isFeatureContactsUpsellEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureContactsUpsellEnabled, false, true);
+        return getBooleanAttr(529, Provisioning.A_zimbraFeatureContactsUpsellEnabled, false);
     }
 
     /**
@@ -14312,7 +14312,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=140)
     public boolean isFeatureConversationsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureConversationsEnabled, true, true);
+        return getBooleanAttr(140, Provisioning.A_zimbraFeatureConversationsEnabled, true);
     }
 
     /**
@@ -14376,7 +14376,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1381)
     public boolean isFeatureCrocodocEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureCrocodocEnabled, false, true);
+        return getBooleanAttr(1381, Provisioning.A_zimbraFeatureCrocodocEnabled, false);
     }
 
     /**
@@ -14448,7 +14448,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2014)
     public boolean isFeatureDataSourcePurgingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDataSourcePurgingEnabled, false, true);
+        return getBooleanAttr(2014, Provisioning.A_zimbraFeatureDataSourcePurgingEnabled, false);
     }
 
     /**
@@ -14520,7 +14520,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=773)
     public boolean isFeatureDiscardInFiltersEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDiscardInFiltersEnabled, true, true);
+        return getBooleanAttr(773, Provisioning.A_zimbraFeatureDiscardInFiltersEnabled, true);
     }
 
     /**
@@ -14592,7 +14592,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1134)
     public boolean isFeatureDistributionListExpandMembersEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDistributionListExpandMembersEnabled, true, true);
+        return getBooleanAttr(1134, Provisioning.A_zimbraFeatureDistributionListExpandMembersEnabled, true);
     }
 
     /**
@@ -14664,7 +14664,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1438)
     public boolean isFeatureDistributionListFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDistributionListFolderEnabled, true, true);
+        return getBooleanAttr(1438, Provisioning.A_zimbraFeatureDistributionListFolderEnabled, true);
     }
 
     /**
@@ -14736,7 +14736,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3097)
     public boolean isFeatureDocumentEditingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDocumentEditingEnabled, true, true);
+        return getBooleanAttr(3097, Provisioning.A_zimbraFeatureDocumentEditingEnabled, true);
     }
 
     /**
@@ -14808,7 +14808,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1574)
     public boolean isFeatureEwsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureEwsEnabled, false, true);
+        return getBooleanAttr(1574, Provisioning.A_zimbraFeatureEwsEnabled, false);
     }
 
     /**
@@ -14880,7 +14880,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1185)
     public boolean isFeatureExportFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureExportFolderEnabled, true, true);
+        return getBooleanAttr(1185, Provisioning.A_zimbraFeatureExportFolderEnabled, true);
     }
 
     /**
@@ -14952,7 +14952,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1373)
     public boolean isFeatureExternalFeedbackEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureExternalFeedbackEnabled, false, true);
+        return getBooleanAttr(1373, Provisioning.A_zimbraFeatureExternalFeedbackEnabled, false);
     }
 
     /**
@@ -15025,7 +15025,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3092)
     public boolean isFeatureFileTypeUploadRestrictionsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureFileTypeUploadRestrictionsEnabled, true, true);
+        return getBooleanAttr(3092, Provisioning.A_zimbraFeatureFileTypeUploadRestrictionsEnabled, true);
     }
 
     /**
@@ -15099,7 +15099,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=143)
     public boolean isFeatureFiltersEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureFiltersEnabled, true, true);
+        return getBooleanAttr(143, Provisioning.A_zimbraFeatureFiltersEnabled, true);
     }
 
     /**
@@ -15161,7 +15161,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=499)
     public boolean isFeatureFlaggingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureFlaggingEnabled, true, true);
+        return getBooleanAttr(499, Provisioning.A_zimbraFeatureFlaggingEnabled, true);
     }
 
     /**
@@ -15225,7 +15225,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1143)
     public boolean isFeatureFreeBusyViewEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureFreeBusyViewEnabled, false, true);
+        return getBooleanAttr(1143, Provisioning.A_zimbraFeatureFreeBusyViewEnabled, false);
     }
 
     /**
@@ -15297,7 +15297,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1455)
     public boolean isFeatureFromDisplayEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureFromDisplayEnabled, true, true);
+        return getBooleanAttr(1455, Provisioning.A_zimbraFeatureFromDisplayEnabled, true);
     }
 
     /**
@@ -15368,7 +15368,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=359)
     public boolean isFeatureGalAutoCompleteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureGalAutoCompleteEnabled, true, true);
+        return getBooleanAttr(359, Provisioning.A_zimbraFeatureGalAutoCompleteEnabled, true);
     }
 
     /**
@@ -15434,7 +15434,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=149)
     public boolean isFeatureGalEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureGalEnabled, true, true);
+        return getBooleanAttr(149, Provisioning.A_zimbraFeatureGalEnabled, true);
     }
 
     /**
@@ -15498,7 +15498,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=711)
     public boolean isFeatureGalSyncEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureGalSyncEnabled, true, true);
+        return getBooleanAttr(711, Provisioning.A_zimbraFeatureGalSyncEnabled, true);
     }
 
     /**
@@ -15569,7 +15569,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=481)
     public boolean isFeatureGroupCalendarEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureGroupCalendarEnabled, true, true);
+        return getBooleanAttr(481, Provisioning.A_zimbraFeatureGroupCalendarEnabled, true);
     }
 
     /**
@@ -15635,7 +15635,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=219)
     public boolean isFeatureHtmlComposeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureHtmlComposeEnabled, true, true);
+        return getBooleanAttr(219, Provisioning.A_zimbraFeatureHtmlComposeEnabled, true);
     }
 
     /**
@@ -15698,7 +15698,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=305)
     public boolean isFeatureIMEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureIMEnabled, false, true);
+        return getBooleanAttr(305, Provisioning.A_zimbraFeatureIMEnabled, false);
     }
 
     /**
@@ -15764,7 +15764,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=415)
     public boolean isFeatureIdentitiesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureIdentitiesEnabled, true, true);
+        return getBooleanAttr(415, Provisioning.A_zimbraFeatureIdentitiesEnabled, true);
     }
 
     /**
@@ -15829,7 +15829,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=568)
     public boolean isFeatureImapDataSourceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureImapDataSourceEnabled, true, true);
+        return getBooleanAttr(568, Provisioning.A_zimbraFeatureImapDataSourceEnabled, true);
     }
 
     /**
@@ -15908,7 +15908,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=750)
     public boolean isFeatureImportExportFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureImportExportFolderEnabled, true, true);
+        return getBooleanAttr(750, Provisioning.A_zimbraFeatureImportExportFolderEnabled, true);
     }
 
     /**
@@ -15992,7 +15992,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1184)
     public boolean isFeatureImportFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureImportFolderEnabled, true, true);
+        return getBooleanAttr(1184, Provisioning.A_zimbraFeatureImportFolderEnabled, true);
     }
 
     /**
@@ -16062,7 +16062,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=142)
     public boolean isFeatureInitialSearchPreferenceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureInitialSearchPreferenceEnabled, true, true);
+        return getBooleanAttr(142, Provisioning.A_zimbraFeatureInitialSearchPreferenceEnabled, true);
     }
 
     /**
@@ -16124,7 +16124,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=521)
     public boolean isFeatureInstantNotify() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureInstantNotify, true, true);
+        return getBooleanAttr(521, Provisioning.A_zimbraFeatureInstantNotify, true);
     }
 
     /**
@@ -16188,7 +16188,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1127)
     public boolean isFeatureMAPIConnectorEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMAPIConnectorEnabled, true, true);
+        return getBooleanAttr(1127, Provisioning.A_zimbraFeatureMAPIConnectorEnabled, true);
     }
 
     /**
@@ -16258,7 +16258,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=489)
     public boolean isFeatureMailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailEnabled, true, true);
+        return getBooleanAttr(489, Provisioning.A_zimbraFeatureMailEnabled, true);
     }
 
     /**
@@ -16320,7 +16320,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=342)
     public boolean isFeatureMailForwardingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailForwardingEnabled, true, true);
+        return getBooleanAttr(342, Provisioning.A_zimbraFeatureMailForwardingEnabled, true);
     }
 
     /**
@@ -16384,7 +16384,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=704)
     public boolean isFeatureMailForwardingInFiltersEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailForwardingInFiltersEnabled, true, true);
+        return getBooleanAttr(704, Provisioning.A_zimbraFeatureMailForwardingInFiltersEnabled, true);
     }
 
     /**
@@ -16455,7 +16455,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=441)
     public boolean isFeatureMailPollingIntervalPreferenceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailPollingIntervalPreferenceEnabled, true, true);
+        return getBooleanAttr(441, Provisioning.A_zimbraFeatureMailPollingIntervalPreferenceEnabled, true);
     }
 
     /**
@@ -16523,7 +16523,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=566)
     public boolean isFeatureMailPriorityEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailPriorityEnabled, true, true);
+        return getBooleanAttr(566, Provisioning.A_zimbraFeatureMailPriorityEnabled, true);
     }
 
     /**
@@ -16595,7 +16595,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1137)
     public boolean isFeatureMailSendLaterEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailSendLaterEnabled, false, true);
+        return getBooleanAttr(1137, Provisioning.A_zimbraFeatureMailSendLaterEnabled, false);
     }
 
     /**
@@ -16667,7 +16667,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=527)
     public boolean isFeatureMailUpsellEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailUpsellEnabled, false, true);
+        return getBooleanAttr(527, Provisioning.A_zimbraFeatureMailUpsellEnabled, false);
     }
 
     /**
@@ -16812,7 +16812,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1183)
     public boolean isFeatureManageSMIMECertificateEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureManageSMIMECertificateEnabled, false, true);
+        return getBooleanAttr(1183, Provisioning.A_zimbraFeatureManageSMIMECertificateEnabled, false);
     }
 
     /**
@@ -16888,7 +16888,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1051)
     public boolean isFeatureManageZimlets() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureManageZimlets, true, true);
+        return getBooleanAttr(1051, Provisioning.A_zimbraFeatureManageZimlets, true);
     }
 
     /**
@@ -16960,7 +16960,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2123)
     public boolean isFeatureMarkMailForwardedAsRead() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMarkMailForwardedAsRead, false, true);
+        return getBooleanAttr(2123, Provisioning.A_zimbraFeatureMarkMailForwardedAsRead, false);
     }
 
     /**
@@ -17032,7 +17032,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3083)
     public boolean isFeatureMobileAppEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMobileAppEnabled, false, true);
+        return getBooleanAttr(3083, Provisioning.A_zimbraFeatureMobileAppEnabled, false);
     }
 
     /**
@@ -17104,7 +17104,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2063)
     public boolean isFeatureMobileGatewayEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMobileGatewayEnabled, false, true);
+        return getBooleanAttr(2063, Provisioning.A_zimbraFeatureMobileGatewayEnabled, false);
     }
 
     /**
@@ -17176,7 +17176,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=833)
     public boolean isFeatureMobilePolicyEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMobilePolicyEnabled, true, true);
+        return getBooleanAttr(833, Provisioning.A_zimbraFeatureMobilePolicyEnabled, true);
     }
 
     /**
@@ -17246,7 +17246,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=347)
     public boolean isFeatureMobileSyncEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMobileSyncEnabled, false, true);
+        return getBooleanAttr(347, Provisioning.A_zimbraFeatureMobileSyncEnabled, false);
     }
 
     /**
@@ -17310,7 +17310,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3082)
     public boolean isFeatureModernDesktopEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureModernDesktopEnabled, false, true);
+        return getBooleanAttr(3082, Provisioning.A_zimbraFeatureModernDesktopEnabled, false);
     }
 
     /**
@@ -17382,7 +17382,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=631)
     public boolean isFeatureNewAddrBookEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureNewAddrBookEnabled, true, true);
+        return getBooleanAttr(631, Provisioning.A_zimbraFeatureNewAddrBookEnabled, true);
     }
 
     /**
@@ -17453,7 +17453,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=367)
     public boolean isFeatureNewMailNotificationEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureNewMailNotificationEnabled, true, true);
+        return getBooleanAttr(367, Provisioning.A_zimbraFeatureNewMailNotificationEnabled, true);
     }
 
     /**
@@ -17521,7 +17521,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=356)
     public boolean isFeatureNotebookEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureNotebookEnabled, false, true);
+        return getBooleanAttr(356, Provisioning.A_zimbraFeatureNotebookEnabled, false);
     }
 
     /**
@@ -17593,7 +17593,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=585)
     public boolean isFeatureOpenMailInNewWindowEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureOpenMailInNewWindowEnabled, true, true);
+        return getBooleanAttr(585, Provisioning.A_zimbraFeatureOpenMailInNewWindowEnabled, true);
     }
 
     /**
@@ -17663,7 +17663,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=451)
     public boolean isFeatureOptionsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureOptionsEnabled, true, true);
+        return getBooleanAttr(451, Provisioning.A_zimbraFeatureOptionsEnabled, true);
     }
 
     /**
@@ -17726,7 +17726,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=366)
     public boolean isFeatureOutOfOfficeReplyEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureOutOfOfficeReplyEnabled, true, true);
+        return getBooleanAttr(366, Provisioning.A_zimbraFeatureOutOfOfficeReplyEnabled, true);
     }
 
     /**
@@ -17795,7 +17795,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1109)
     public boolean isFeaturePeopleSearchEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeaturePeopleSearchEnabled, true, true);
+        return getBooleanAttr(1109, Provisioning.A_zimbraFeaturePeopleSearchEnabled, true);
     }
 
     /**
@@ -17870,7 +17870,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=416)
     public boolean isFeaturePop3DataSourceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeaturePop3DataSourceEnabled, true, true);
+        return getBooleanAttr(416, Provisioning.A_zimbraFeaturePop3DataSourceEnabled, true);
     }
 
     /**
@@ -17936,7 +17936,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=447)
     public boolean isFeaturePortalEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeaturePortalEnabled, false, true);
+        return getBooleanAttr(447, Provisioning.A_zimbraFeaturePortalEnabled, false);
     }
 
     /**
@@ -18000,7 +18000,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3084)
     public boolean isFeaturePowerPasteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeaturePowerPasteEnabled, true, true);
+        return getBooleanAttr(3084, Provisioning.A_zimbraFeaturePowerPasteEnabled, true);
     }
 
     /**
@@ -18072,7 +18072,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1271)
     public boolean isFeaturePriorityInboxEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeaturePriorityInboxEnabled, true, true);
+        return getBooleanAttr(1271, Provisioning.A_zimbraFeaturePriorityInboxEnabled, true);
     }
 
     /**
@@ -18144,7 +18144,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=821)
     public boolean isFeatureReadReceiptsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureReadReceiptsEnabled, true, true);
+        return getBooleanAttr(821, Provisioning.A_zimbraFeatureReadReceiptsEnabled, true);
     }
 
     /**
@@ -18355,7 +18355,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2142)
     public long getFeatureResetPasswordSuspensionTime() {
-        return getTimeInterval(Provisioning.A_zimbraFeatureResetPasswordSuspensionTime, 86400000L, true);
+        return getTimeInterval(2142, Provisioning.A_zimbraFeatureResetPasswordSuspensionTime, 86400000L);
     }
 
     /**
@@ -18460,7 +18460,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1186)
     public boolean isFeatureSMIMEEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSMIMEEnabled, false, true);
+        return getBooleanAttr(1186, Provisioning.A_zimbraFeatureSMIMEEnabled, false);
     }
 
     /**
@@ -18536,7 +18536,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=4003)
     public boolean isFeatureSafeUnsubscribeFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSafeUnsubscribeFolderEnabled, false, true);
+        return getBooleanAttr(4003, Provisioning.A_zimbraFeatureSafeUnsubscribeFolderEnabled, false);
     }
 
     /**
@@ -18606,7 +18606,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=139)
     public boolean isFeatureSavedSearchesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSavedSearchesEnabled, true, true);
+        return getBooleanAttr(139, Provisioning.A_zimbraFeatureSavedSearchesEnabled, true);
     }
 
     /**
@@ -18668,7 +18668,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=335)
     public boolean isFeatureSharingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSharingEnabled, true, true);
+        return getBooleanAttr(335, Provisioning.A_zimbraFeatureSharingEnabled, true);
     }
 
     /**
@@ -18731,7 +18731,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=452)
     public boolean isFeatureShortcutAliasesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureShortcutAliasesEnabled, true, true);
+        return getBooleanAttr(452, Provisioning.A_zimbraFeatureShortcutAliasesEnabled, true);
     }
 
     /**
@@ -18797,7 +18797,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=494)
     public boolean isFeatureSignaturesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSignaturesEnabled, true, true);
+        return getBooleanAttr(494, Provisioning.A_zimbraFeatureSignaturesEnabled, true);
     }
 
     /**
@@ -18859,7 +18859,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=354)
     public boolean isFeatureSkinChangeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSkinChangeEnabled, true, true);
+        return getBooleanAttr(354, Provisioning.A_zimbraFeatureSkinChangeEnabled, true);
     }
 
     /**
@@ -18923,7 +18923,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1490)
     public boolean isFeatureSocialEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSocialEnabled, false, true);
+        return getBooleanAttr(1490, Provisioning.A_zimbraFeatureSocialEnabled, false);
     }
 
     /**
@@ -18995,7 +18995,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1491)
     public boolean isFeatureSocialExternalEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSocialExternalEnabled, false, true);
+        return getBooleanAttr(1491, Provisioning.A_zimbraFeatureSocialExternalEnabled, false);
     }
 
     /**
@@ -19328,7 +19328,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1388)
     public boolean isFeatureSocialcastEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSocialcastEnabled, false, true);
+        return getBooleanAttr(1388, Provisioning.A_zimbraFeatureSocialcastEnabled, false);
     }
 
     /**
@@ -19398,7 +19398,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=137)
     public boolean isFeatureTaggingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTaggingEnabled, true, true);
+        return getBooleanAttr(137, Provisioning.A_zimbraFeatureTaggingEnabled, true);
     }
 
     /**
@@ -19460,7 +19460,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=436)
     public boolean isFeatureTasksEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTasksEnabled, true, true);
+        return getBooleanAttr(436, Provisioning.A_zimbraFeatureTasksEnabled, true);
     }
 
     /**
@@ -19526,7 +19526,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1636)
     public boolean isFeatureTouchClientEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTouchClientEnabled, false, true);
+        return getBooleanAttr(1636, Provisioning.A_zimbraFeatureTouchClientEnabled, false);
     }
 
     /**
@@ -19607,7 +19607,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2054)
     public boolean isFeatureTrustedDevicesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTrustedDevicesEnabled, true, true);
+        return getBooleanAttr(2054, Provisioning.A_zimbraFeatureTrustedDevicesEnabled, true);
     }
 
     /**
@@ -19684,7 +19684,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2050)
     public boolean isFeatureTwoFactorAuthAvailable() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTwoFactorAuthAvailable, false, true);
+        return getBooleanAttr(2050, Provisioning.A_zimbraFeatureTwoFactorAuthAvailable, false);
     }
 
     /**
@@ -19760,7 +19760,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1820)
     public boolean isFeatureTwoFactorAuthRequired() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTwoFactorAuthRequired, false, true);
+        return getBooleanAttr(1820, Provisioning.A_zimbraFeatureTwoFactorAuthRequired, false);
     }
 
     /**
@@ -19830,7 +19830,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=312)
     public boolean isFeatureViewInHtmlEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureViewInHtmlEnabled, false, true);
+        return getBooleanAttr(312, Provisioning.A_zimbraFeatureViewInHtmlEnabled, false);
     }
 
     /**
@@ -19894,7 +19894,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1050)
     public boolean isFeatureVoiceChangePinEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureVoiceChangePinEnabled, true, true);
+        return getBooleanAttr(1050, Provisioning.A_zimbraFeatureVoiceChangePinEnabled, true);
     }
 
     /**
@@ -19964,7 +19964,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=445)
     public boolean isFeatureVoiceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureVoiceEnabled, false, true);
+        return getBooleanAttr(445, Provisioning.A_zimbraFeatureVoiceEnabled, false);
     }
 
     /**
@@ -20028,7 +20028,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=533)
     public boolean isFeatureVoiceUpsellEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureVoiceUpsellEnabled, false, true);
+        return getBooleanAttr(533, Provisioning.A_zimbraFeatureVoiceUpsellEnabled, false);
     }
 
     /**
@@ -20172,7 +20172,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3088)
     public boolean isFeatureWebClientEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureWebClientEnabled, true, true);
+        return getBooleanAttr(3088, Provisioning.A_zimbraFeatureWebClientEnabled, true);
     }
 
     /**
@@ -20244,7 +20244,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1611)
     public boolean isFeatureWebClientOfflineAccessEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureWebClientOfflineAccessEnabled, true, true);
+        return getBooleanAttr(1611, Provisioning.A_zimbraFeatureWebClientOfflineAccessEnabled, true);
     }
 
     /**
@@ -20317,7 +20317,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=602)
     public boolean isFeatureWebSearchEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureWebSearchEnabled, true, true);
+        return getBooleanAttr(602, Provisioning.A_zimbraFeatureWebSearchEnabled, true);
     }
 
     /**
@@ -20395,7 +20395,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3080)
     public boolean isFeatureZXDesktopEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureZXDesktopEnabled, false, true);
+        return getBooleanAttr(3080, Provisioning.A_zimbraFeatureZXDesktopEnabled, false);
     }
 
     /**
@@ -20475,7 +20475,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3079)
     public boolean isFeatureZXWebEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureZXWebEnabled, false, true);
+        return getBooleanAttr(3079, Provisioning.A_zimbraFeatureZXWebEnabled, false);
     }
 
     /**
@@ -20547,7 +20547,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=544)
     public boolean isFeatureZimbraAssistantEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureZimbraAssistantEnabled, true, true);
+        return getBooleanAttr(544, Provisioning.A_zimbraFeatureZimbraAssistantEnabled, true);
     }
 
     /**
@@ -20623,7 +20623,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3093)
     public boolean isFeatureZulipChatEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureZulipChatEnabled, true, true);
+        return getBooleanAttr(3093, Provisioning.A_zimbraFeatureZulipChatEnabled, true);
     }
 
     /**
@@ -20711,7 +20711,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1385)
     public boolean isFileAndroidCrashReportingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFileAndroidCrashReportingEnabled, true, true);
+        return getBooleanAttr(1385, Provisioning.A_zimbraFileAndroidCrashReportingEnabled, true);
     }
 
     /**
@@ -21094,7 +21094,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1308)
     public long getFileExpirationWarningThreshold() {
-        return getTimeInterval(Provisioning.A_zimbraFileExpirationWarningThreshold, -1L, true);
+        return getTimeInterval(1308, Provisioning.A_zimbraFileExpirationWarningThreshold, -1L);
     }
 
     /**
@@ -21207,7 +21207,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1363)
     public long getFileExternalShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraFileExternalShareLifetime, 0L, true);
+        return getTimeInterval(1363, Provisioning.A_zimbraFileExternalShareLifetime, 0L);
     }
 
     /**
@@ -21316,7 +21316,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1390)
     public boolean isFileIOSCrashReportingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFileIOSCrashReportingEnabled, true, true);
+        return getBooleanAttr(1390, Provisioning.A_zimbraFileIOSCrashReportingEnabled, true);
     }
 
     /**
@@ -21396,7 +21396,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1309)
     public long getFileLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraFileLifetime, -1L, true);
+        return getTimeInterval(1309, Provisioning.A_zimbraFileLifetime, -1L);
     }
 
     /**
@@ -21500,7 +21500,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1442)
     public long getFilePreviewMaxSize() {
-        return getLongAttr(Provisioning.A_zimbraFilePreviewMaxSize, 20971520L, true);
+        return getLongAttr(1442, Provisioning.A_zimbraFilePreviewMaxSize, 20971520L);
     }
 
     /**
@@ -21581,7 +21581,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1364)
     public long getFilePublicShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraFilePublicShareLifetime, 0L, true);
+        return getTimeInterval(1364, Provisioning.A_zimbraFilePublicShareLifetime, 0L);
     }
 
     /**
@@ -21699,7 +21699,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1362)
     public long getFileShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraFileShareLifetime, 0L, true);
+        return getTimeInterval(1362, Provisioning.A_zimbraFileShareLifetime, 0L);
     }
 
     /**
@@ -21944,7 +21944,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1350)
     public long getFileUploadMaxSizePerFile() {
-        return getLongAttr(Provisioning.A_zimbraFileUploadMaxSizePerFile, 0L, true);
+        return getLongAttr(1350, Provisioning.A_zimbraFileUploadMaxSizePerFile, 0L);
     }
 
     /**
@@ -22031,7 +22031,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1325)
     public long getFileVersionLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraFileVersionLifetime, -1L, true);
+        return getTimeInterval(1325, Provisioning.A_zimbraFileVersionLifetime, -1L);
     }
 
     /**
@@ -22130,7 +22130,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1324)
     public boolean isFileVersioningEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFileVersioningEnabled, false, true);
+        return getBooleanAttr(1324, Provisioning.A_zimbraFileVersioningEnabled, false);
     }
 
     /**
@@ -22203,7 +22203,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1158)
     public int getFilterBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraFilterBatchSize, 10000, true);
+        return getIntAttr(1158, Provisioning.A_zimbraFilterBatchSize, 10000);
     }
 
     /**
@@ -22288,7 +22288,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1159)
     public long getFilterSleepInterval() {
-        return getTimeInterval(Provisioning.A_zimbraFilterSleepInterval, 1L, true);
+        return getTimeInterval(1159, Provisioning.A_zimbraFilterSleepInterval, 1L);
     }
 
     /**
@@ -22398,7 +22398,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1437)
     public boolean isForceClearCookies() {
-        return getBooleanAttr(Provisioning.A_zimbraForceClearCookies, false, true);
+        return getBooleanAttr(1437, Provisioning.A_zimbraForceClearCookies, false);
     }
 
     /**
@@ -22873,7 +22873,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=621)
     public long getFreebusyExchangeCachedInterval() {
-        return getTimeInterval(Provisioning.A_zimbraFreebusyExchangeCachedInterval, -1L, true);
+        return getTimeInterval(621, Provisioning.A_zimbraFreebusyExchangeCachedInterval, -1L);
     }
 
     /**
@@ -22986,7 +22986,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=620)
     public long getFreebusyExchangeCachedIntervalStart() {
-        return getTimeInterval(Provisioning.A_zimbraFreebusyExchangeCachedIntervalStart, -1L, true);
+        return getTimeInterval(620, Provisioning.A_zimbraFreebusyExchangeCachedIntervalStart, -1L);
     }
 
     /**
@@ -23240,7 +23240,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=752)
     public boolean isFreebusyLocalMailboxNotActive() {
-        return getBooleanAttr(Provisioning.A_zimbraFreebusyLocalMailboxNotActive, false, true);
+        return getBooleanAttr(752, Provisioning.A_zimbraFreebusyLocalMailboxNotActive, false);
     }
 
     /**
@@ -23316,7 +23316,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1027)
     public boolean isGalSyncAccountBasedAutoCompleteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraGalSyncAccountBasedAutoCompleteEnabled, true, true);
+        return getBooleanAttr(1027, Provisioning.A_zimbraGalSyncAccountBasedAutoCompleteEnabled, true);
     }
 
     /**
@@ -23389,7 +23389,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3071)
     public int getHABSeniorityIndex() {
-        return getIntAttr(Provisioning.A_zimbraHABSeniorityIndex, -1, true);
+        return getIntAttr(3071, Provisioning.A_zimbraHABSeniorityIndex, -1);
     }
 
     /**
@@ -23463,7 +23463,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=353)
     public boolean isHideInGal() {
-        return getBooleanAttr(Provisioning.A_zimbraHideInGal, false, true);
+        return getBooleanAttr(353, Provisioning.A_zimbraHideInGal, false);
     }
 
     /**
@@ -23878,7 +23878,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=414)
     public int getIdentityMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraIdentityMaxNumEntries, 20, true);
+        return getIntAttr(414, Provisioning.A_zimbraIdentityMaxNumEntries, 20);
     }
 
     /**
@@ -23940,7 +23940,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=174)
     public boolean isImapEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraImapEnabled, true, true);
+        return getBooleanAttr(174, Provisioning.A_zimbraImapEnabled, true);
     }
 
     /**
@@ -24283,7 +24283,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=615)
     public boolean isInterceptSendHeadersOnly() {
-        return getBooleanAttr(Provisioning.A_zimbraInterceptSendHeadersOnly, false, true);
+        return getBooleanAttr(615, Provisioning.A_zimbraInterceptSendHeadersOnly, false);
     }
 
     /**
@@ -24637,7 +24637,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=31)
     public boolean isIsAdminAccount() {
-        return getBooleanAttr(Provisioning.A_zimbraIsAdminAccount, false, true);
+        return getBooleanAttr(31, Provisioning.A_zimbraIsAdminAccount, false);
     }
 
     /**
@@ -24701,7 +24701,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=601)
     public boolean isIsCustomerCareAccount() {
-        return getBooleanAttr(Provisioning.A_zimbraIsCustomerCareAccount, false, true);
+        return getBooleanAttr(601, Provisioning.A_zimbraIsCustomerCareAccount, false);
     }
 
     /**
@@ -24773,7 +24773,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=852)
     public boolean isIsDelegatedAdminAccount() {
-        return getBooleanAttr(Provisioning.A_zimbraIsDelegatedAdminAccount, false, true);
+        return getBooleanAttr(852, Provisioning.A_zimbraIsDelegatedAdminAccount, false);
     }
 
     /**
@@ -24843,7 +24843,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=298)
     public boolean isIsDomainAdminAccount() {
-        return getBooleanAttr(Provisioning.A_zimbraIsDomainAdminAccount, false, true);
+        return getBooleanAttr(298, Provisioning.A_zimbraIsDomainAdminAccount, false);
     }
 
     /**
@@ -24907,7 +24907,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1243)
     public boolean isIsExternalVirtualAccount() {
-        return getBooleanAttr(Provisioning.A_zimbraIsExternalVirtualAccount, false, true);
+        return getBooleanAttr(1243, Provisioning.A_zimbraIsExternalVirtualAccount, false);
     }
 
     /**
@@ -24979,7 +24979,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1760)
     public boolean isIsMobileGatewayAppAccount() {
-        return getBooleanAttr(Provisioning.A_zimbraIsMobileGatewayAppAccount, false, true);
+        return getBooleanAttr(1760, Provisioning.A_zimbraIsMobileGatewayAppAccount, false);
     }
 
     /**
@@ -25051,7 +25051,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2036)
     public boolean isIsMobileGatewayProxyAccount() {
-        return getBooleanAttr(Provisioning.A_zimbraIsMobileGatewayProxyAccount, false, true);
+        return getBooleanAttr(2036, Provisioning.A_zimbraIsMobileGatewayProxyAccount, false);
     }
 
     /**
@@ -25125,7 +25125,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1214)
     public boolean isIsSystemAccount() {
-        return getBooleanAttr(Provisioning.A_zimbraIsSystemAccount, false, true);
+        return getBooleanAttr(1214, Provisioning.A_zimbraIsSystemAccount, false);
     }
 
     /**
@@ -25204,7 +25204,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=376)
     public boolean isIsSystemResource() {
-        return getBooleanAttr(Provisioning.A_zimbraIsSystemResource, false, true);
+        return getBooleanAttr(376, Provisioning.A_zimbraIsSystemResource, false);
     }
 
     /**
@@ -25272,7 +25272,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=579)
     public boolean isJunkMessagesIndexingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraJunkMessagesIndexingEnabled, true, true);
+        return getBooleanAttr(579, Provisioning.A_zimbraJunkMessagesIndexingEnabled, true);
     }
 
     /**
@@ -25483,7 +25483,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1634)
     public boolean isLogOutFromAllServers() {
-        return getBooleanAttr(Provisioning.A_zimbraLogOutFromAllServers, false, true);
+        return getBooleanAttr(1634, Provisioning.A_zimbraLogOutFromAllServers, false);
     }
 
     /**
@@ -26164,7 +26164,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1099)
     public boolean isMailAllowReceiveButNotSendWhenOverQuota() {
-        return getBooleanAttr(Provisioning.A_zimbraMailAllowReceiveButNotSendWhenOverQuota, false, true);
+        return getBooleanAttr(1099, Provisioning.A_zimbraMailAllowReceiveButNotSendWhenOverQuota, false);
     }
 
     /**
@@ -26240,7 +26240,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=4000)
     public long getMailAttachmentMaxSize() {
-        return getLongAttr(Provisioning.A_zimbraMailAttachmentMaxSize, 0L, true);
+        return getLongAttr(4000, Provisioning.A_zimbraMailAttachmentMaxSize, 0L);
     }
 
     /**
@@ -26315,7 +26315,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=799)
     public int getMailBlacklistMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraMailBlacklistMaxNumEntries, 100, true);
+        return getIntAttr(799, Provisioning.A_zimbraMailBlacklistMaxNumEntries, 100);
     }
 
     /**
@@ -26825,7 +26825,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1133)
     public long getMailDumpsterLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraMailDumpsterLifetime, 2592000000L, true);
+        return getTimeInterval(1133, Provisioning.A_zimbraMailDumpsterLifetime, 2592000000L);
     }
 
     /**
@@ -27045,7 +27045,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1039)
     public int getMailForwardingAddressMaxLength() {
-        return getIntAttr(Provisioning.A_zimbraMailForwardingAddressMaxLength, 4096, true);
+        return getIntAttr(1039, Provisioning.A_zimbraMailForwardingAddressMaxLength, 4096);
     }
 
     /**
@@ -27117,7 +27117,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1040)
     public int getMailForwardingAddressMaxNumAddrs() {
-        return getIntAttr(Provisioning.A_zimbraMailForwardingAddressMaxNumAddrs, 100, true);
+        return getIntAttr(1040, Provisioning.A_zimbraMailForwardingAddressMaxNumAddrs, 100);
     }
 
     /**
@@ -27190,7 +27190,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1213)
     public int getMailHighlightObjectsMaxSize() {
-        return getIntAttr(Provisioning.A_zimbraMailHighlightObjectsMaxSize, 70, true);
+        return getIntAttr(1213, Provisioning.A_zimbraMailHighlightObjectsMaxSize, 70);
     }
 
     /**
@@ -27333,7 +27333,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=147)
     public long getMailIdleSessionTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraMailIdleSessionTimeout, 0L, true);
+        return getTimeInterval(147, Provisioning.A_zimbraMailIdleSessionTimeout, 0L);
     }
 
     /**
@@ -27428,7 +27428,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=106)
     public long getMailMessageLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraMailMessageLifetime, 0L, true);
+        return getTimeInterval(106, Provisioning.A_zimbraMailMessageLifetime, 0L);
     }
 
     /**
@@ -27528,7 +27528,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=110)
     public long getMailMinPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraMailMinPollingInterval, 120000L, true);
+        return getTimeInterval(110, Provisioning.A_zimbraMailMinPollingInterval, 120000L);
     }
 
     /**
@@ -27696,7 +27696,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1117)
     public boolean isMailPurgeUseChangeDateForSpam() {
-        return getBooleanAttr(Provisioning.A_zimbraMailPurgeUseChangeDateForSpam, true, true);
+        return getBooleanAttr(1117, Provisioning.A_zimbraMailPurgeUseChangeDateForSpam, true);
     }
 
     /**
@@ -27778,7 +27778,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=748)
     public boolean isMailPurgeUseChangeDateForTrash() {
-        return getBooleanAttr(Provisioning.A_zimbraMailPurgeUseChangeDateForTrash, true, true);
+        return getBooleanAttr(748, Provisioning.A_zimbraMailPurgeUseChangeDateForTrash, true);
     }
 
     /**
@@ -27856,7 +27856,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=16)
     public long getMailQuota() {
-        return getLongAttr(Provisioning.A_zimbraMailQuota, 0L, true);
+        return getLongAttr(16, Provisioning.A_zimbraMailQuota, 0L);
     }
 
     /**
@@ -27980,7 +27980,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=454)
     public long getMailSignatureMaxLength() {
-        return getLongAttr(Provisioning.A_zimbraMailSignatureMaxLength, 10240L, true);
+        return getLongAttr(454, Provisioning.A_zimbraMailSignatureMaxLength, 10240L);
     }
 
     /**
@@ -28052,7 +28052,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=105)
     public long getMailSpamLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraMailSpamLifetime, 2592000000L, true);
+        return getTimeInterval(105, Provisioning.A_zimbraMailSpamLifetime, 2592000000L);
     }
 
     /**
@@ -28576,7 +28576,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=104)
     public long getMailTrashLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraMailTrashLifetime, 2592000000L, true);
+        return getTimeInterval(104, Provisioning.A_zimbraMailTrashLifetime, 2592000000L);
     }
 
     /**
@@ -28680,7 +28680,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1139)
     public int getMailTrustedSenderListMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraMailTrustedSenderListMaxNumEntries, 500, true);
+        return getIntAttr(1139, Provisioning.A_zimbraMailTrustedSenderListMaxNumEntries, 500);
     }
 
     /**
@@ -28755,7 +28755,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=798)
     public int getMailWhitelistMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraMailWhitelistMaxNumEntries, 100, true);
+        return getIntAttr(798, Provisioning.A_zimbraMailWhitelistMaxNumEntries, 100);
     }
 
     /**
@@ -28902,7 +28902,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1837)
     public int getMaxAppSpecificPasswords() {
-        return getIntAttr(Provisioning.A_zimbraMaxAppSpecificPasswords, 25, true);
+        return getIntAttr(1837, Provisioning.A_zimbraMaxAppSpecificPasswords, 25);
     }
 
     /**
@@ -28979,7 +28979,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1012)
     public int getMaxContactsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraMaxContactsPerPage, 100, true);
+        return getIntAttr(1012, Provisioning.A_zimbraMaxContactsPerPage, 100);
     }
 
     /**
@@ -29057,7 +29057,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1011)
     public int getMaxMailItemsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraMaxMailItemsPerPage, 100, true);
+        return getIntAttr(1011, Provisioning.A_zimbraMaxMailItemsPerPage, 100);
     }
 
     /**
@@ -29138,7 +29138,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1013)
     public int getMaxVoiceItemsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraMaxVoiceItemsPerPage, 100, true);
+        return getIntAttr(1013, Provisioning.A_zimbraMaxVoiceItemsPerPage, 100);
     }
 
     /**
@@ -29331,7 +29331,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1423)
     public boolean isMobileAttachSkippedItemEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileAttachSkippedItemEnabled, false, true);
+        return getBooleanAttr(1423, Provisioning.A_zimbraMobileAttachSkippedItemEnabled, false);
     }
 
     /**
@@ -29407,7 +29407,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1573)
     public boolean isMobileForceProtocol25() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileForceProtocol25, false, true);
+        return getBooleanAttr(1573, Provisioning.A_zimbraMobileForceProtocol25, false);
     }
 
     /**
@@ -29479,7 +29479,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1572)
     public boolean isMobileForceSamsungProtocol25() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileForceSamsungProtocol25, false, true);
+        return getBooleanAttr(1572, Provisioning.A_zimbraMobileForceSamsungProtocol25, false);
     }
 
     /**
@@ -29714,7 +29714,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1425)
     public boolean isMobileMetadataMaxSizeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileMetadataMaxSizeEnabled, false, true);
+        return getBooleanAttr(1425, Provisioning.A_zimbraMobileMetadataMaxSizeEnabled, false);
     }
 
     /**
@@ -29866,7 +29866,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1421)
     public boolean isMobileNotificationEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileNotificationEnabled, false, true);
+        return getBooleanAttr(1421, Provisioning.A_zimbraMobileNotificationEnabled, false);
     }
 
     /**
@@ -29938,7 +29938,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1453)
     public boolean isMobileOutlookSyncEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileOutlookSyncEnabled, true, true);
+        return getBooleanAttr(1453, Provisioning.A_zimbraMobileOutlookSyncEnabled, true);
     }
 
     /**
@@ -30014,7 +30014,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1285)
     public int getMobilePolicyAllowBluetooth() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowBluetooth, 2, true);
+        return getIntAttr(1285, Provisioning.A_zimbraMobilePolicyAllowBluetooth, 2);
     }
 
     /**
@@ -30105,7 +30105,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1300)
     public int getMobilePolicyAllowBrowser() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowBrowser, 1, true);
+        return getIntAttr(1300, Provisioning.A_zimbraMobilePolicyAllowBrowser, 1);
     }
 
     /**
@@ -30191,7 +30191,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1278)
     public int getMobilePolicyAllowCamera() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowCamera, 1, true);
+        return getIntAttr(1278, Provisioning.A_zimbraMobilePolicyAllowCamera, 1);
     }
 
     /**
@@ -30275,7 +30275,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1301)
     public int getMobilePolicyAllowConsumerEmail() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowConsumerEmail, 1, true);
+        return getIntAttr(1301, Provisioning.A_zimbraMobilePolicyAllowConsumerEmail, 1);
     }
 
     /**
@@ -30365,7 +30365,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1288)
     public int getMobilePolicyAllowDesktopSync() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowDesktopSync, 1, true);
+        return getIntAttr(1288, Provisioning.A_zimbraMobilePolicyAllowDesktopSync, 1);
     }
 
     /**
@@ -30448,7 +30448,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1290)
     public int getMobilePolicyAllowHTMLEmail() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowHTMLEmail, 1, true);
+        return getIntAttr(1290, Provisioning.A_zimbraMobilePolicyAllowHTMLEmail, 1);
     }
 
     /**
@@ -30534,7 +30534,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1303)
     public int getMobilePolicyAllowInternetSharing() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowInternetSharing, 1, true);
+        return getIntAttr(1303, Provisioning.A_zimbraMobilePolicyAllowInternetSharing, 1);
     }
 
     /**
@@ -30616,7 +30616,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1286)
     public int getMobilePolicyAllowIrDA() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowIrDA, 1, true);
+        return getIntAttr(1286, Provisioning.A_zimbraMobilePolicyAllowIrDA, 1);
     }
 
     /**
@@ -30697,7 +30697,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=834)
     public boolean isMobilePolicyAllowNonProvisionableDevices() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyAllowNonProvisionableDevices, true, true);
+        return getBooleanAttr(834, Provisioning.A_zimbraMobilePolicyAllowNonProvisionableDevices, true);
     }
 
     /**
@@ -30776,7 +30776,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1284)
     public int getMobilePolicyAllowPOPIMAPEmail() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowPOPIMAPEmail, 1, true);
+        return getIntAttr(1284, Provisioning.A_zimbraMobilePolicyAllowPOPIMAPEmail, 1);
     }
 
     /**
@@ -30861,7 +30861,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=835)
     public boolean isMobilePolicyAllowPartialProvisioning() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyAllowPartialProvisioning, true, true);
+        return getBooleanAttr(835, Provisioning.A_zimbraMobilePolicyAllowPartialProvisioning, true);
     }
 
     /**
@@ -30939,7 +30939,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1302)
     public int getMobilePolicyAllowRemoteDesktop() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowRemoteDesktop, 1, true);
+        return getIntAttr(1302, Provisioning.A_zimbraMobilePolicyAllowRemoteDesktop, 1);
     }
 
     /**
@@ -31025,7 +31025,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1298)
     public int getMobilePolicyAllowSMIMEEncryptionAlgorithmNegotiation() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowSMIMEEncryptionAlgorithmNegotiation, 2, true);
+        return getIntAttr(1298, Provisioning.A_zimbraMobilePolicyAllowSMIMEEncryptionAlgorithmNegotiation, 2);
     }
 
     /**
@@ -31123,7 +31123,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1299)
     public int getMobilePolicyAllowSMIMESoftCerts() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowSMIMESoftCerts, 1, true);
+        return getIntAttr(1299, Provisioning.A_zimbraMobilePolicyAllowSMIMESoftCerts, 1);
     }
 
     /**
@@ -31205,7 +31205,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=839)
     public boolean isMobilePolicyAllowSimpleDevicePassword() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyAllowSimpleDevicePassword, false, true);
+        return getBooleanAttr(839, Provisioning.A_zimbraMobilePolicyAllowSimpleDevicePassword, false);
     }
 
     /**
@@ -31287,7 +31287,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1277)
     public int getMobilePolicyAllowStorageCard() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowStorageCard, 1, true);
+        return getIntAttr(1277, Provisioning.A_zimbraMobilePolicyAllowStorageCard, 1);
     }
 
     /**
@@ -31369,7 +31369,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1283)
     public int getMobilePolicyAllowTextMessaging() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowTextMessaging, 1, true);
+        return getIntAttr(1283, Provisioning.A_zimbraMobilePolicyAllowTextMessaging, 1);
     }
 
     /**
@@ -31451,7 +31451,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1280)
     public int getMobilePolicyAllowUnsignedApplications() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowUnsignedApplications, 1, true);
+        return getIntAttr(1280, Provisioning.A_zimbraMobilePolicyAllowUnsignedApplications, 1);
     }
 
     /**
@@ -31533,7 +31533,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1281)
     public int getMobilePolicyAllowUnsignedInstallationPackages() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowUnsignedInstallationPackages, 1, true);
+        return getIntAttr(1281, Provisioning.A_zimbraMobilePolicyAllowUnsignedInstallationPackages, 1);
     }
 
     /**
@@ -31615,7 +31615,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1282)
     public int getMobilePolicyAllowWiFi() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowWiFi, 1, true);
+        return getIntAttr(1282, Provisioning.A_zimbraMobilePolicyAllowWiFi, 1);
     }
 
     /**
@@ -31697,7 +31697,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=840)
     public boolean isMobilePolicyAlphanumericDevicePasswordRequired() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyAlphanumericDevicePasswordRequired, false, true);
+        return getBooleanAttr(840, Provisioning.A_zimbraMobilePolicyAlphanumericDevicePasswordRequired, false);
     }
 
     /**
@@ -32102,7 +32102,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=847)
     public boolean isMobilePolicyDeviceEncryptionEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyDeviceEncryptionEnabled, true, true);
+        return getBooleanAttr(847, Provisioning.A_zimbraMobilePolicyDeviceEncryptionEnabled, true);
     }
 
     /**
@@ -32187,7 +32187,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=837)
     public boolean isMobilePolicyDevicePasswordEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyDevicePasswordEnabled, true, true);
+        return getBooleanAttr(837, Provisioning.A_zimbraMobilePolicyDevicePasswordEnabled, true);
     }
 
     /**
@@ -32265,7 +32265,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=842)
     public int getMobilePolicyDevicePasswordExpiration() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyDevicePasswordExpiration, 0, true);
+        return getIntAttr(842, Provisioning.A_zimbraMobilePolicyDevicePasswordExpiration, 0);
     }
 
     /**
@@ -32348,7 +32348,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=843)
     public int getMobilePolicyDevicePasswordHistory() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyDevicePasswordHistory, 8, true);
+        return getIntAttr(843, Provisioning.A_zimbraMobilePolicyDevicePasswordHistory, 8);
     }
 
     /**
@@ -32435,7 +32435,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1289)
     public int getMobilePolicyMaxCalendarAgeFilter() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxCalendarAgeFilter, 5, true);
+        return getIntAttr(1289, Provisioning.A_zimbraMobilePolicyMaxCalendarAgeFilter, 5);
     }
 
     /**
@@ -32521,7 +32521,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=845)
     public int getMobilePolicyMaxDevicePasswordFailedAttempts() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxDevicePasswordFailedAttempts, 4, true);
+        return getIntAttr(845, Provisioning.A_zimbraMobilePolicyMaxDevicePasswordFailedAttempts, 4);
     }
 
     /**
@@ -32604,7 +32604,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1291)
     public int getMobilePolicyMaxEmailAgeFilter() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxEmailAgeFilter, 5, true);
+        return getIntAttr(1291, Provisioning.A_zimbraMobilePolicyMaxEmailAgeFilter, 5);
     }
 
     /**
@@ -32690,7 +32690,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1292)
     public int getMobilePolicyMaxEmailBodyTruncationSize() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxEmailBodyTruncationSize, -1, true);
+        return getIntAttr(1292, Provisioning.A_zimbraMobilePolicyMaxEmailBodyTruncationSize, -1);
     }
 
     /**
@@ -32772,7 +32772,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1293)
     public int getMobilePolicyMaxEmailHTMLBodyTruncationSize() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxEmailHTMLBodyTruncationSize, -1, true);
+        return getIntAttr(1293, Provisioning.A_zimbraMobilePolicyMaxEmailHTMLBodyTruncationSize, -1);
     }
 
     /**
@@ -32854,7 +32854,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=844)
     public int getMobilePolicyMaxInactivityTimeDeviceLock() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxInactivityTimeDeviceLock, 15, true);
+        return getIntAttr(844, Provisioning.A_zimbraMobilePolicyMaxInactivityTimeDeviceLock, 15);
     }
 
     /**
@@ -32936,7 +32936,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=841)
     public int getMobilePolicyMinDevicePasswordComplexCharacters() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMinDevicePasswordComplexCharacters, 0, true);
+        return getIntAttr(841, Provisioning.A_zimbraMobilePolicyMinDevicePasswordComplexCharacters, 0);
     }
 
     /**
@@ -33018,7 +33018,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=838)
     public int getMobilePolicyMinDevicePasswordLength() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMinDevicePasswordLength, 4, true);
+        return getIntAttr(838, Provisioning.A_zimbraMobilePolicyMinDevicePasswordLength, 4);
     }
 
     /**
@@ -33100,7 +33100,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=846)
     public boolean isMobilePolicyPasswordRecoveryEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyPasswordRecoveryEnabled, true, true);
+        return getBooleanAttr(846, Provisioning.A_zimbraMobilePolicyPasswordRecoveryEnabled, true);
     }
 
     /**
@@ -33181,7 +33181,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=836)
     public int getMobilePolicyRefreshInterval() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRefreshInterval, 1440, true);
+        return getIntAttr(836, Provisioning.A_zimbraMobilePolicyRefreshInterval, 1440);
     }
 
     /**
@@ -33259,7 +33259,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1279)
     public int getMobilePolicyRequireDeviceEncryption() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireDeviceEncryption, 0, true);
+        return getIntAttr(1279, Provisioning.A_zimbraMobilePolicyRequireDeviceEncryption, 0);
     }
 
     /**
@@ -33341,7 +33341,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1295)
     public int getMobilePolicyRequireEncryptedSMIMEMessages() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireEncryptedSMIMEMessages, 0, true);
+        return getIntAttr(1295, Provisioning.A_zimbraMobilePolicyRequireEncryptedSMIMEMessages, 0);
     }
 
     /**
@@ -33423,7 +33423,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1297)
     public int getMobilePolicyRequireEncryptionSMIMEAlgorithm() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireEncryptionSMIMEAlgorithm, 0, true);
+        return getIntAttr(1297, Provisioning.A_zimbraMobilePolicyRequireEncryptionSMIMEAlgorithm, 0);
     }
 
     /**
@@ -33505,7 +33505,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1287)
     public int getMobilePolicyRequireManualSyncWhenRoaming() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireManualSyncWhenRoaming, 0, true);
+        return getIntAttr(1287, Provisioning.A_zimbraMobilePolicyRequireManualSyncWhenRoaming, 0);
     }
 
     /**
@@ -33587,7 +33587,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1296)
     public int getMobilePolicyRequireSignedSMIMEAlgorithm() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireSignedSMIMEAlgorithm, 0, true);
+        return getIntAttr(1296, Provisioning.A_zimbraMobilePolicyRequireSignedSMIMEAlgorithm, 0);
     }
 
     /**
@@ -33669,7 +33669,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1294)
     public int getMobilePolicyRequireSignedSMIMEMessages() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireSignedSMIMEMessages, 0, true);
+        return getIntAttr(1294, Provisioning.A_zimbraMobilePolicyRequireSignedSMIMEMessages, 0);
     }
 
     /**
@@ -33750,7 +33750,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1444)
     public boolean isMobilePolicyRequireStorageCardEncryption() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyRequireStorageCardEncryption, false, true);
+        return getBooleanAttr(1444, Provisioning.A_zimbraMobilePolicyRequireStorageCardEncryption, false);
     }
 
     /**
@@ -33829,7 +33829,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1306)
     public boolean isMobilePolicySuppressDeviceEncryption() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicySuppressDeviceEncryption, false, true);
+        return getBooleanAttr(1306, Provisioning.A_zimbraMobilePolicySuppressDeviceEncryption, false);
     }
 
     /**
@@ -34064,7 +34064,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2055)
     public boolean isMobileSearchMimeSupportEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileSearchMimeSupportEnabled, false, true);
+        return getBooleanAttr(2055, Provisioning.A_zimbraMobileSearchMimeSupportEnabled, false);
     }
 
     /**
@@ -34168,7 +34168,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=4002)
     public boolean isMobileShareCalendarEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileShareCalendarEnabled, false, true);
+        return getBooleanAttr(4002, Provisioning.A_zimbraMobileShareCalendarEnabled, false);
     }
 
     /**
@@ -34240,7 +34240,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1570)
     public boolean isMobileShareContactEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileShareContactEnabled, false, true);
+        return getBooleanAttr(1570, Provisioning.A_zimbraMobileShareContactEnabled, false);
     }
 
     /**
@@ -34312,7 +34312,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=4001)
     public boolean isMobileShareMailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileShareMailEnabled, false, true);
+        return getBooleanAttr(4001, Provisioning.A_zimbraMobileShareMailEnabled, false);
     }
 
     /**
@@ -34386,7 +34386,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1205)
     public boolean isMobileSmartForwardRFC822Enabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileSmartForwardRFC822Enabled, false, true);
+        return getBooleanAttr(1205, Provisioning.A_zimbraMobileSmartForwardRFC822Enabled, false);
     }
 
     /**
@@ -34789,7 +34789,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1633)
     public boolean isMobileTombstoneEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileTombstoneEnabled, true, true);
+        return getBooleanAttr(1633, Provisioning.A_zimbraMobileTombstoneEnabled, true);
     }
 
     /**
@@ -35207,7 +35207,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=482)
     public int getNotebookMaxRevisions() {
-        return getIntAttr(Provisioning.A_zimbraNotebookMaxRevisions, 0, true);
+        return getIntAttr(482, Provisioning.A_zimbraNotebookMaxRevisions, 0);
     }
 
     /**
@@ -35276,7 +35276,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=646)
     public boolean isNotebookSanitizeHtml() {
-        return getBooleanAttr(Provisioning.A_zimbraNotebookSanitizeHtml, true, true);
+        return getBooleanAttr(646, Provisioning.A_zimbraNotebookSanitizeHtml, true);
     }
 
     /**
@@ -35769,7 +35769,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3081)
     public boolean isPasswordBlockCommonEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPasswordBlockCommonEnabled, false, true);
+        return getBooleanAttr(3081, Provisioning.A_zimbraPasswordBlockCommonEnabled, false);
     }
 
     /**
@@ -35841,7 +35841,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=37)
     public int getPasswordEnforceHistory() {
-        return getIntAttr(Provisioning.A_zimbraPasswordEnforceHistory, 0, true);
+        return getIntAttr(37, Provisioning.A_zimbraPasswordEnforceHistory, 0);
     }
 
     /**
@@ -36027,7 +36027,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=45)
     public boolean isPasswordLocked() {
-        return getBooleanAttr(Provisioning.A_zimbraPasswordLocked, false, true);
+        return getBooleanAttr(45, Provisioning.A_zimbraPasswordLocked, false);
     }
 
     /**
@@ -36097,7 +36097,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=379)
     public long getPasswordLockoutDuration() {
-        return getTimeInterval(Provisioning.A_zimbraPasswordLockoutDuration, 3600000L, true);
+        return getTimeInterval(379, Provisioning.A_zimbraPasswordLockoutDuration, 3600000L);
     }
 
     /**
@@ -36189,7 +36189,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=378)
     public boolean isPasswordLockoutEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPasswordLockoutEnabled, false, true);
+        return getBooleanAttr(378, Provisioning.A_zimbraPasswordLockoutEnabled, false);
     }
 
     /**
@@ -36260,7 +36260,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=381)
     public long getPasswordLockoutFailureLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPasswordLockoutFailureLifetime, 3600000L, true);
+        return getTimeInterval(381, Provisioning.A_zimbraPasswordLockoutFailureLifetime, 3600000L);
     }
 
     /**
@@ -36557,7 +36557,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=380)
     public int getPasswordLockoutMaxFailures() {
-        return getIntAttr(Provisioning.A_zimbraPasswordLockoutMaxFailures, 10, true);
+        return getIntAttr(380, Provisioning.A_zimbraPasswordLockoutMaxFailures, 10);
     }
 
     /**
@@ -36629,7 +36629,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2086)
     public int getPasswordLockoutSuppressionCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraPasswordLockoutSuppressionCacheSize, 1, true);
+        return getIntAttr(2086, Provisioning.A_zimbraPasswordLockoutSuppressionCacheSize, 1);
     }
 
     /**
@@ -36719,7 +36719,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2087)
     public boolean isPasswordLockoutSuppressionEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPasswordLockoutSuppressionEnabled, true, true);
+        return getBooleanAttr(2087, Provisioning.A_zimbraPasswordLockoutSuppressionEnabled, true);
     }
 
     /**
@@ -36928,7 +36928,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=36)
     public int getPasswordMaxAge() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMaxAge, 0, true);
+        return getIntAttr(36, Provisioning.A_zimbraPasswordMaxAge, 0);
     }
 
     /**
@@ -36990,7 +36990,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=34)
     public int getPasswordMaxLength() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMaxLength, 64, true);
+        return getIntAttr(34, Provisioning.A_zimbraPasswordMaxLength, 64);
     }
 
     /**
@@ -37052,7 +37052,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=35)
     public int getPasswordMinAge() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinAge, 0, true);
+        return getIntAttr(35, Provisioning.A_zimbraPasswordMinAge, 0);
     }
 
     /**
@@ -37116,7 +37116,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1162)
     public int getPasswordMinAlphaChars() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinAlphaChars, 0, true);
+        return getIntAttr(1162, Provisioning.A_zimbraPasswordMinAlphaChars, 0);
     }
 
     /**
@@ -37189,7 +37189,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1255)
     public int getPasswordMinDigitsOrPuncs() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinDigitsOrPuncs, 0, true);
+        return getIntAttr(1255, Provisioning.A_zimbraPasswordMinDigitsOrPuncs, 0);
     }
 
     /**
@@ -37263,7 +37263,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=33)
     public int getPasswordMinLength() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinLength, 6, true);
+        return getIntAttr(33, Provisioning.A_zimbraPasswordMinLength, 6);
     }
 
     /**
@@ -37325,7 +37325,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=390)
     public int getPasswordMinLowerCaseChars() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinLowerCaseChars, 0, true);
+        return getIntAttr(390, Provisioning.A_zimbraPasswordMinLowerCaseChars, 0);
     }
 
     /**
@@ -37387,7 +37387,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=392)
     public int getPasswordMinNumericChars() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinNumericChars, 0, true);
+        return getIntAttr(392, Provisioning.A_zimbraPasswordMinNumericChars, 0);
     }
 
     /**
@@ -37449,7 +37449,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=391)
     public int getPasswordMinPunctuationChars() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinPunctuationChars, 0, true);
+        return getIntAttr(391, Provisioning.A_zimbraPasswordMinPunctuationChars, 0);
     }
 
     /**
@@ -37511,7 +37511,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=389)
     public int getPasswordMinUpperCaseChars() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinUpperCaseChars, 0, true);
+        return getIntAttr(389, Provisioning.A_zimbraPasswordMinUpperCaseChars, 0);
     }
 
     /**
@@ -37676,7 +37676,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=41)
     public boolean isPasswordMustChange() {
-        return getBooleanAttr(Provisioning.A_zimbraPasswordMustChange, false, true);
+        return getBooleanAttr(41, Provisioning.A_zimbraPasswordMustChange, false);
     }
 
     /**
@@ -37740,7 +37740,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2141)
     public int getPasswordRecoveryMaxAttempts() {
-        return getIntAttr(Provisioning.A_zimbraPasswordRecoveryMaxAttempts, 10, true);
+        return getIntAttr(2141, Provisioning.A_zimbraPasswordRecoveryMaxAttempts, 10);
     }
 
     /**
@@ -38026,7 +38026,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=175)
     public boolean isPop3Enabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3Enabled, true, true);
+        return getBooleanAttr(175, Provisioning.A_zimbraPop3Enabled, true);
     }
 
     /**
@@ -38153,7 +38153,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3068)
     public boolean isPrefAcceptedClientTOS() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAcceptedClientTOS, false, true);
+        return getBooleanAttr(3068, Provisioning.A_zimbraPrefAcceptedClientTOS, false);
     }
 
     /**
@@ -38229,7 +38229,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1048)
     public boolean isPrefAccountTreeOpen() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAccountTreeOpen, true, true);
+        return getBooleanAttr(1048, Provisioning.A_zimbraPrefAccountTreeOpen, true);
     }
 
     /**
@@ -38302,7 +38302,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1036)
     public boolean isPrefAdminConsoleWarnOnExit() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAdminConsoleWarnOnExit, true, true);
+        return getBooleanAttr(1036, Provisioning.A_zimbraPrefAdminConsoleWarnOnExit, true);
     }
 
     /**
@@ -38379,7 +38379,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=678)
     public boolean isPrefAdvancedClientEnforceMinDisplay() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAdvancedClientEnforceMinDisplay, true, true);
+        return getBooleanAttr(678, Provisioning.A_zimbraPrefAdvancedClientEnforceMinDisplay, true);
     }
 
     /**
@@ -38599,7 +38599,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1028)
     public boolean isPrefAppleIcalDelegationEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAppleIcalDelegationEnabled, false, true);
+        return getBooleanAttr(1028, Provisioning.A_zimbraPrefAppleIcalDelegationEnabled, false);
     }
 
     /**
@@ -38674,7 +38674,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=131)
     public boolean isPrefAutoAddAddressEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAutoAddAddressEnabled, true, true);
+        return getBooleanAttr(131, Provisioning.A_zimbraPrefAutoAddAddressEnabled, true);
     }
 
     /**
@@ -38742,7 +38742,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1091)
     public boolean isPrefAutoCompleteQuickCompletionOnComma() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAutoCompleteQuickCompletionOnComma, true, true);
+        return getBooleanAttr(1091, Provisioning.A_zimbraPrefAutoCompleteQuickCompletionOnComma, true);
     }
 
     /**
@@ -38821,7 +38821,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=561)
     public long getPrefAutoSaveDraftInterval() {
-        return getTimeInterval(Provisioning.A_zimbraPrefAutoSaveDraftInterval, 30000L, true);
+        return getTimeInterval(561, Provisioning.A_zimbraPrefAutoSaveDraftInterval, 30000L);
     }
 
     /**
@@ -38922,7 +38922,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1146)
     public boolean isPrefAutocompleteAddressBubblesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAutocompleteAddressBubblesEnabled, true, true);
+        return getBooleanAttr(1146, Provisioning.A_zimbraPrefAutocompleteAddressBubblesEnabled, true);
     }
 
     /**
@@ -39272,7 +39272,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=702)
     public boolean isPrefCalendarAllowCancelEmailToSelf() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarAllowCancelEmailToSelf, false, true);
+        return getBooleanAttr(702, Provisioning.A_zimbraPrefCalendarAllowCancelEmailToSelf, false);
     }
 
     /**
@@ -39345,7 +39345,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=686)
     public boolean isPrefCalendarAllowForwardedInvite() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarAllowForwardedInvite, true, true);
+        return getBooleanAttr(686, Provisioning.A_zimbraPrefCalendarAllowForwardedInvite, true);
     }
 
     /**
@@ -39422,7 +39422,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=688)
     public boolean isPrefCalendarAllowPublishMethodInvite() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarAllowPublishMethodInvite, false, true);
+        return getBooleanAttr(688, Provisioning.A_zimbraPrefCalendarAllowPublishMethodInvite, false);
     }
 
     /**
@@ -39683,7 +39683,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=276)
     public boolean isPrefCalendarAlwaysShowMiniCal() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarAlwaysShowMiniCal, true, true);
+        return getBooleanAttr(276, Provisioning.A_zimbraPrefCalendarAlwaysShowMiniCal, true);
     }
 
     /**
@@ -39749,7 +39749,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1089)
     public boolean isPrefCalendarApptAllowAtendeeEdit() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarApptAllowAtendeeEdit, true, true);
+        return getBooleanAttr(1089, Provisioning.A_zimbraPrefCalendarApptAllowAtendeeEdit, true);
     }
 
     /**
@@ -39832,7 +39832,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=341)
     public int getPrefCalendarApptReminderWarningTime() {
-        return getIntAttr(Provisioning.A_zimbraPrefCalendarApptReminderWarningTime, 5, true);
+        return getIntAttr(341, Provisioning.A_zimbraPrefCalendarApptReminderWarningTime, 5);
     }
 
     /**
@@ -40127,7 +40127,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=848)
     public boolean isPrefCalendarAutoAddInvites() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarAutoAddInvites, true, true);
+        return getBooleanAttr(848, Provisioning.A_zimbraPrefCalendarAutoAddInvites, true);
     }
 
     /**
@@ -40347,7 +40347,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=440)
     public int getPrefCalendarDayHourEnd() {
-        return getIntAttr(Provisioning.A_zimbraPrefCalendarDayHourEnd, 18, true);
+        return getIntAttr(440, Provisioning.A_zimbraPrefCalendarDayHourEnd, 18);
     }
 
     /**
@@ -40413,7 +40413,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=439)
     public int getPrefCalendarDayHourStart() {
-        return getIntAttr(Provisioning.A_zimbraPrefCalendarDayHourStart, 8, true);
+        return getIntAttr(439, Provisioning.A_zimbraPrefCalendarDayHourStart, 8);
     }
 
     /**
@@ -40561,7 +40561,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1187)
     public long getPrefCalendarDefaultApptDuration() {
-        return getTimeInterval(Provisioning.A_zimbraPrefCalendarDefaultApptDuration, 3600000L, true);
+        return getTimeInterval(1187, Provisioning.A_zimbraPrefCalendarDefaultApptDuration, 3600000L);
     }
 
     /**
@@ -40658,7 +40658,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=261)
     public int getPrefCalendarFirstDayOfWeek() {
-        return getIntAttr(Provisioning.A_zimbraPrefCalendarFirstDayOfWeek, 0, true);
+        return getIntAttr(261, Provisioning.A_zimbraPrefCalendarFirstDayOfWeek, 0);
     }
 
     /**
@@ -41032,7 +41032,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=273)
     public boolean isPrefCalendarNotifyDelegatedChanges() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarNotifyDelegatedChanges, false, true);
+        return getBooleanAttr(273, Provisioning.A_zimbraPrefCalendarNotifyDelegatedChanges, false);
     }
 
     /**
@@ -41408,7 +41408,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=682)
     public boolean isPrefCalendarReminderFlashTitle() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarReminderFlashTitle, true, true);
+        return getBooleanAttr(682, Provisioning.A_zimbraPrefCalendarReminderFlashTitle, true);
     }
 
     /**
@@ -41481,7 +41481,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=577)
     public boolean isPrefCalendarReminderMobile() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarReminderMobile, false, true);
+        return getBooleanAttr(577, Provisioning.A_zimbraPrefCalendarReminderMobile, false);
     }
 
     /**
@@ -41559,7 +41559,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=576)
     public boolean isPrefCalendarReminderSendEmail() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarReminderSendEmail, false, true);
+        return getBooleanAttr(576, Provisioning.A_zimbraPrefCalendarReminderSendEmail, false);
     }
 
     /**
@@ -41640,7 +41640,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=667)
     public boolean isPrefCalendarReminderSoundsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarReminderSoundsEnabled, true, true);
+        return getBooleanAttr(667, Provisioning.A_zimbraPrefCalendarReminderSoundsEnabled, true);
     }
 
     /**
@@ -41717,7 +41717,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=578)
     public boolean isPrefCalendarReminderYMessenger() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarReminderYMessenger, false, true);
+        return getBooleanAttr(578, Provisioning.A_zimbraPrefCalendarReminderYMessenger, false);
     }
 
     /**
@@ -41797,7 +41797,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=849)
     public boolean isPrefCalendarSendInviteDeniedAutoReply() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarSendInviteDeniedAutoReply, false, true);
+        return getBooleanAttr(849, Provisioning.A_zimbraPrefCalendarSendInviteDeniedAutoReply, false);
     }
 
     /**
@@ -41885,7 +41885,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1196)
     public boolean isPrefCalendarShowDeclinedMeetings() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarShowDeclinedMeetings, true, true);
+        return getBooleanAttr(1196, Provisioning.A_zimbraPrefCalendarShowDeclinedMeetings, true);
     }
 
     /**
@@ -41957,7 +41957,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1022)
     public boolean isPrefCalendarShowPastDueReminders() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarShowPastDueReminders, true, true);
+        return getBooleanAttr(1022, Provisioning.A_zimbraPrefCalendarShowPastDueReminders, true);
     }
 
     /**
@@ -42106,7 +42106,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=813)
     public boolean isPrefCalendarToasterEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarToasterEnabled, false, true);
+        return getBooleanAttr(813, Provisioning.A_zimbraPrefCalendarToasterEnabled, false);
     }
 
     /**
@@ -42176,7 +42176,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=274)
     public boolean isPrefCalendarUseQuickAdd() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarUseQuickAdd, true, true);
+        return getBooleanAttr(274, Provisioning.A_zimbraPrefCalendarUseQuickAdd, true);
     }
 
     /**
@@ -42247,7 +42247,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1195)
     public long getPrefCalendarViewTimeInterval() {
-        return getTimeInterval(Provisioning.A_zimbraPrefCalendarViewTimeInterval, 3600000L, true);
+        return getTimeInterval(1195, Provisioning.A_zimbraPrefCalendarViewTimeInterval, 3600000L);
     }
 
     /**
@@ -42550,7 +42550,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2057)
     public boolean isPrefChatEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefChatEnabled, true, true);
+        return getBooleanAttr(2057, Provisioning.A_zimbraPrefChatEnabled, true);
     }
 
     /**
@@ -42626,7 +42626,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2051)
     public boolean isPrefChatPlaySound() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefChatPlaySound, false, true);
+        return getBooleanAttr(2051, Provisioning.A_zimbraPrefChatPlaySound, false);
     }
 
     /**
@@ -42956,7 +42956,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1424)
     public boolean isPrefColorMessagesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefColorMessagesEnabled, false, true);
+        return getBooleanAttr(1424, Provisioning.A_zimbraPrefColorMessagesEnabled, false);
     }
 
     /**
@@ -43272,7 +43272,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=209)
     public boolean isPrefComposeInNewWindow() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefComposeInNewWindow, false, true);
+        return getBooleanAttr(209, Provisioning.A_zimbraPrefComposeInNewWindow, false);
     }
 
     /**
@@ -43339,7 +43339,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1090)
     public boolean isPrefContactsDisableAutocompleteOnContactGroupMembers() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefContactsDisableAutocompleteOnContactGroupMembers, false, true);
+        return getBooleanAttr(1090, Provisioning.A_zimbraPrefContactsDisableAutocompleteOnContactGroupMembers, false);
     }
 
     /**
@@ -43425,7 +43425,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1102)
     public boolean isPrefContactsExpandAppleContactGroups() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefContactsExpandAppleContactGroups, false, true);
+        return getBooleanAttr(1102, Provisioning.A_zimbraPrefContactsExpandAppleContactGroups, false);
     }
 
     /**
@@ -43626,7 +43626,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=148)
     public int getPrefContactsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraPrefContactsPerPage, 25, true);
+        return getIntAttr(148, Provisioning.A_zimbraPrefContactsPerPage, 25);
     }
 
     /**
@@ -43822,7 +43822,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1394)
     public boolean isPrefConvShowCalendar() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefConvShowCalendar, false, true);
+        return getBooleanAttr(1394, Provisioning.A_zimbraPrefConvShowCalendar, false);
     }
 
     /**
@@ -44147,7 +44147,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2994)
     public int getPrefDefaultCalendarId() {
-        return getIntAttr(Provisioning.A_zimbraPrefDefaultCalendarId, 10, true);
+        return getIntAttr(2994, Provisioning.A_zimbraPrefDefaultCalendarId, 10);
     }
 
     /**
@@ -44503,7 +44503,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=470)
     public boolean isPrefDeleteInviteOnReply() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefDeleteInviteOnReply, true, true);
+        return getBooleanAttr(470, Provisioning.A_zimbraPrefDeleteInviteOnReply, true);
     }
 
     /**
@@ -44703,7 +44703,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=511)
     public boolean isPrefDisplayExternalImages() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefDisplayExternalImages, false, true);
+        return getBooleanAttr(511, Provisioning.A_zimbraPrefDisplayExternalImages, false);
     }
 
     /**
@@ -44767,7 +44767,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3022)
     public boolean isPrefDisplayTimeInMailList() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefDisplayTimeInMailList, false, true);
+        return getBooleanAttr(3022, Provisioning.A_zimbraPrefDisplayTimeInMailList, false);
     }
 
     /**
@@ -45157,7 +45157,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=771)
     public boolean isPrefFolderColorEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefFolderColorEnabled, true, true);
+        return getBooleanAttr(771, Provisioning.A_zimbraPrefFolderColorEnabled, true);
     }
 
     /**
@@ -45229,7 +45229,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=637)
     public boolean isPrefFolderTreeOpen() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefFolderTreeOpen, true, true);
+        return getBooleanAttr(637, Provisioning.A_zimbraPrefFolderTreeOpen, true);
     }
 
     /**
@@ -45698,7 +45698,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=218)
     public boolean isPrefForwardReplyInOriginalFormat() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefForwardReplyInOriginalFormat, true, true);
+        return getBooleanAttr(218, Provisioning.A_zimbraPrefForwardReplyInOriginalFormat, true);
     }
 
     /**
@@ -46164,7 +46164,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=372)
     public boolean isPrefGalAutoCompleteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefGalAutoCompleteEnabled, true, true);
+        return getBooleanAttr(372, Provisioning.A_zimbraPrefGalAutoCompleteEnabled, true);
     }
 
     /**
@@ -46232,7 +46232,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=635)
     public boolean isPrefGalSearchEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefGalSearchEnabled, true, true);
+        return getBooleanAttr(635, Provisioning.A_zimbraPrefGalSearchEnabled, true);
     }
 
     /**
@@ -46736,7 +46736,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=488)
     public boolean isPrefIMAutoLogin() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMAutoLogin, false, true);
+        return getBooleanAttr(488, Provisioning.A_zimbraPrefIMAutoLogin, false);
     }
 
     /**
@@ -47042,7 +47042,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=462)
     public boolean isPrefIMFlashIcon() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMFlashIcon, true, true);
+        return getBooleanAttr(462, Provisioning.A_zimbraPrefIMFlashIcon, true);
     }
 
     /**
@@ -47116,7 +47116,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=679)
     public boolean isPrefIMFlashTitle() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMFlashTitle, true, true);
+        return getBooleanAttr(679, Provisioning.A_zimbraPrefIMFlashTitle, true);
     }
 
     /**
@@ -47198,7 +47198,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=707)
     public boolean isPrefIMHideBlockedBuddies() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMHideBlockedBuddies, false, true);
+        return getBooleanAttr(707, Provisioning.A_zimbraPrefIMHideBlockedBuddies, false);
     }
 
     /**
@@ -47280,7 +47280,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=706)
     public boolean isPrefIMHideOfflineBuddies() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMHideOfflineBuddies, false, true);
+        return getBooleanAttr(706, Provisioning.A_zimbraPrefIMHideOfflineBuddies, false);
     }
 
     /**
@@ -47509,7 +47509,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=559)
     public int getPrefIMIdleTimeout() {
-        return getIntAttr(Provisioning.A_zimbraPrefIMIdleTimeout, 10, true);
+        return getIntAttr(559, Provisioning.A_zimbraPrefIMIdleTimeout, 10);
     }
 
     /**
@@ -47589,7 +47589,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=517)
     public boolean isPrefIMInstantNotify() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMInstantNotify, true, true);
+        return getBooleanAttr(517, Provisioning.A_zimbraPrefIMInstantNotify, true);
     }
 
     /**
@@ -47663,7 +47663,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=556)
     public boolean isPrefIMLogChats() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMLogChats, true, true);
+        return getBooleanAttr(556, Provisioning.A_zimbraPrefIMLogChats, true);
     }
 
     /**
@@ -47745,7 +47745,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=552)
     public boolean isPrefIMLogChatsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMLogChatsEnabled, true, true);
+        return getBooleanAttr(552, Provisioning.A_zimbraPrefIMLogChatsEnabled, true);
     }
 
     /**
@@ -47825,7 +47825,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=463)
     public boolean isPrefIMNotifyPresence() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMNotifyPresence, true, true);
+        return getBooleanAttr(463, Provisioning.A_zimbraPrefIMNotifyPresence, true);
     }
 
     /**
@@ -47897,7 +47897,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=464)
     public boolean isPrefIMNotifyStatus() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMNotifyStatus, true, true);
+        return getBooleanAttr(464, Provisioning.A_zimbraPrefIMNotifyStatus, true);
     }
 
     /**
@@ -47971,7 +47971,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=558)
     public boolean isPrefIMReportIdle() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMReportIdle, true, true);
+        return getBooleanAttr(558, Provisioning.A_zimbraPrefIMReportIdle, true);
     }
 
     /**
@@ -48053,7 +48053,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=570)
     public boolean isPrefIMSoundsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMSoundsEnabled, true, true);
+        return getBooleanAttr(570, Provisioning.A_zimbraPrefIMSoundsEnabled, true);
     }
 
     /**
@@ -48133,7 +48133,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=814)
     public boolean isPrefIMToasterEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMToasterEnabled, false, true);
+        return getBooleanAttr(814, Provisioning.A_zimbraPrefIMToasterEnabled, false);
     }
 
     /**
@@ -48350,7 +48350,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3086)
     public boolean isPrefImapEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefImapEnabled, true, true);
+        return getBooleanAttr(3086, Provisioning.A_zimbraPrefImapEnabled, true);
     }
 
     /**
@@ -48424,7 +48424,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=241)
     public boolean isPrefImapSearchFoldersEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefImapSearchFoldersEnabled, true, true);
+        return getBooleanAttr(241, Provisioning.A_zimbraPrefImapSearchFoldersEnabled, true);
     }
 
     /**
@@ -48496,7 +48496,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=538)
     public long getPrefInboxReadLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPrefInboxReadLifetime, 0L, true);
+        return getTimeInterval(538, Provisioning.A_zimbraPrefInboxReadLifetime, 0L);
     }
 
     /**
@@ -48608,7 +48608,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=537)
     public long getPrefInboxUnreadLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPrefInboxUnreadLifetime, 0L, true);
+        return getTimeInterval(537, Provisioning.A_zimbraPrefInboxUnreadLifetime, 0L);
     }
 
     /**
@@ -48712,7 +48712,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1338)
     public boolean isPrefIncludeSharedItemsInSearch() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIncludeSharedItemsInSearch, false, true);
+        return getBooleanAttr(1338, Provisioning.A_zimbraPrefIncludeSharedItemsInSearch, false);
     }
 
     /**
@@ -48782,7 +48782,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=55)
     public boolean isPrefIncludeSpamInSearch() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIncludeSpamInSearch, false, true);
+        return getBooleanAttr(55, Provisioning.A_zimbraPrefIncludeSpamInSearch, false);
     }
 
     /**
@@ -48844,7 +48844,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=56)
     public boolean isPrefIncludeTrashInSearch() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIncludeTrashInSearch, false, true);
+        return getBooleanAttr(56, Provisioning.A_zimbraPrefIncludeTrashInSearch, false);
     }
 
     /**
@@ -48908,7 +48908,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1079)
     public int getPrefItemsPerVirtualPage() {
-        return getIntAttr(Provisioning.A_zimbraPrefItemsPerVirtualPage, 50, true);
+        return getIntAttr(1079, Provisioning.A_zimbraPrefItemsPerVirtualPage, 50);
     }
 
     /**
@@ -48990,7 +48990,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=540)
     public long getPrefJunkLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPrefJunkLifetime, 0L, true);
+        return getTimeInterval(540, Provisioning.A_zimbraPrefJunkLifetime, 0L);
     }
 
     /**
@@ -49397,7 +49397,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=681)
     public boolean isPrefMailFlashIcon() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailFlashIcon, false, true);
+        return getBooleanAttr(681, Provisioning.A_zimbraPrefMailFlashIcon, false);
     }
 
     /**
@@ -49469,7 +49469,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=680)
     public boolean isPrefMailFlashTitle() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailFlashTitle, false, true);
+        return getBooleanAttr(680, Provisioning.A_zimbraPrefMailFlashTitle, false);
     }
 
     /**
@@ -49745,7 +49745,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=57)
     public int getPrefMailItemsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraPrefMailItemsPerPage, 25, true);
+        return getIntAttr(57, Provisioning.A_zimbraPrefMailItemsPerPage, 25);
     }
 
     /**
@@ -49807,7 +49807,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=344)
     public boolean isPrefMailLocalDeliveryDisabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailLocalDeliveryDisabled, false, true);
+        return getBooleanAttr(344, Provisioning.A_zimbraPrefMailLocalDeliveryDisabled, false);
     }
 
     /**
@@ -49877,7 +49877,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=111)
     public long getPrefMailPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraPrefMailPollingInterval, 300000L, true);
+        return getTimeInterval(111, Provisioning.A_zimbraPrefMailPollingInterval, 300000L);
     }
 
     /**
@@ -49972,7 +49972,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1217)
     public boolean isPrefMailRequestReadReceipts() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailRequestReadReceipts, false, true);
+        return getBooleanAttr(1217, Provisioning.A_zimbraPrefMailRequestReadReceipts, false);
     }
 
     /**
@@ -50524,7 +50524,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=18)
     public boolean isPrefMailSignatureEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailSignatureEnabled, false, true);
+        return getBooleanAttr(18, Provisioning.A_zimbraPrefMailSignatureEnabled, false);
     }
 
     /**
@@ -50773,7 +50773,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=666)
     public boolean isPrefMailSoundsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailSoundsEnabled, false, true);
+        return getBooleanAttr(666, Provisioning.A_zimbraPrefMailSoundsEnabled, false);
     }
 
     /**
@@ -50845,7 +50845,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=812)
     public boolean isPrefMailToasterEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailToasterEnabled, false, true);
+        return getBooleanAttr(812, Provisioning.A_zimbraPrefMailToasterEnabled, false);
     }
 
     /**
@@ -51060,7 +51060,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=749)
     public boolean isPrefMandatorySpellCheckEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMandatorySpellCheckEnabled, false, true);
+        return getBooleanAttr(749, Provisioning.A_zimbraPrefMandatorySpellCheckEnabled, false);
     }
 
     /**
@@ -51133,7 +51133,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=650)
     public int getPrefMarkMsgRead() {
-        return getIntAttr(Provisioning.A_zimbraPrefMarkMsgRead, 0, true);
+        return getIntAttr(650, Provisioning.A_zimbraPrefMarkMsgRead, 0);
     }
 
     /**
@@ -51210,7 +51210,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1198)
     public boolean isPrefMessageIdDedupingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMessageIdDedupingEnabled, true, true);
+        return getBooleanAttr(1198, Provisioning.A_zimbraPrefMessageIdDedupingEnabled, true);
     }
 
     /**
@@ -51284,7 +51284,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=145)
     public boolean isPrefMessageViewHtmlPreferred() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMessageViewHtmlPreferred, true, true);
+        return getBooleanAttr(145, Provisioning.A_zimbraPrefMessageViewHtmlPreferred, true);
     }
 
     /**
@@ -51408,7 +51408,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=126)
     public boolean isPrefNewMailNotificationEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefNewMailNotificationEnabled, false, true);
+        return getBooleanAttr(126, Provisioning.A_zimbraPrefNewMailNotificationEnabled, false);
     }
 
     /**
@@ -51471,7 +51471,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=500)
     public boolean isPrefOpenMailInNewWindow() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefOpenMailInNewWindow, false, true);
+        return getBooleanAttr(500, Provisioning.A_zimbraPrefOpenMailInNewWindow, false);
     }
 
     /**
@@ -51546,7 +51546,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=386)
     public long getPrefOutOfOfficeCacheDuration() {
-        return getTimeInterval(Provisioning.A_zimbraPrefOutOfOfficeCacheDuration, 604800000L, true);
+        return getTimeInterval(386, Provisioning.A_zimbraPrefOutOfOfficeCacheDuration, 604800000L);
     }
 
     /**
@@ -51889,7 +51889,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1318)
     public boolean isPrefOutOfOfficeExternalReplyEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefOutOfOfficeExternalReplyEnabled, false, true);
+        return getBooleanAttr(1318, Provisioning.A_zimbraPrefOutOfOfficeExternalReplyEnabled, false);
     }
 
     /**
@@ -52271,7 +52271,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=59)
     public boolean isPrefOutOfOfficeReplyEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefOutOfOfficeReplyEnabled, false, true);
+        return getBooleanAttr(59, Provisioning.A_zimbraPrefOutOfOfficeReplyEnabled, false);
     }
 
     /**
@@ -52471,7 +52471,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1245)
     public boolean isPrefOutOfOfficeStatusAlertOnLogin() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefOutOfOfficeStatusAlertOnLogin, true, true);
+        return getBooleanAttr(1245, Provisioning.A_zimbraPrefOutOfOfficeStatusAlertOnLogin, true);
     }
 
     /**
@@ -52552,7 +52552,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1576)
     public boolean isPrefOutOfOfficeSuppressExternalReply() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefOutOfOfficeSuppressExternalReply, false, true);
+        return getBooleanAttr(1576, Provisioning.A_zimbraPrefOutOfOfficeSuppressExternalReply, false);
     }
 
     /**
@@ -53233,7 +53233,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3087)
     public boolean isPrefPop3Enabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefPop3Enabled, true, true);
+        return getBooleanAttr(3087, Provisioning.A_zimbraPrefPop3Enabled, true);
     }
 
     /**
@@ -53309,7 +53309,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1166)
     public boolean isPrefPop3IncludeSpam() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefPop3IncludeSpam, false, true);
+        return getBooleanAttr(1166, Provisioning.A_zimbraPrefPop3IncludeSpam, false);
     }
 
     /**
@@ -53381,7 +53381,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3085)
     public boolean isPrefPowerPasteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefPowerPasteEnabled, true, true);
+        return getBooleanAttr(3085, Provisioning.A_zimbraPrefPowerPasteEnabled, true);
     }
 
     /**
@@ -53674,7 +53674,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=394)
     public boolean isPrefReadingPaneEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefReadingPaneEnabled, true, true);
+        return getBooleanAttr(394, Provisioning.A_zimbraPrefReadingPaneEnabled, true);
     }
 
     /**
@@ -54130,7 +54130,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=405)
     public boolean isPrefReplyToEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefReplyToEnabled, false, true);
+        return getBooleanAttr(405, Provisioning.A_zimbraPrefReplyToEnabled, false);
     }
 
     /**
@@ -54192,7 +54192,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=22)
     public boolean isPrefSaveToSent() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefSaveToSent, true, true);
+        return getBooleanAttr(22, Provisioning.A_zimbraPrefSaveToSent, true);
     }
 
     /**
@@ -54256,7 +54256,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=634)
     public boolean isPrefSearchTreeOpen() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefSearchTreeOpen, true, true);
+        return getBooleanAttr(634, Provisioning.A_zimbraPrefSearchTreeOpen, true);
     }
 
     /**
@@ -54336,7 +54336,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=539)
     public long getPrefSentLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPrefSentLifetime, 0L, true);
+        return getTimeInterval(539, Provisioning.A_zimbraPrefSentLifetime, 0L);
     }
 
     /**
@@ -54502,7 +54502,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=759)
     public boolean isPrefSharedAddrBookAutoCompleteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefSharedAddrBookAutoCompleteEnabled, false, true);
+        return getBooleanAttr(759, Provisioning.A_zimbraPrefSharedAddrBookAutoCompleteEnabled, false);
     }
 
     /**
@@ -54575,7 +54575,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1173)
     public boolean isPrefShortEmailAddress() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShortEmailAddress, false, true);
+        return getBooleanAttr(1173, Provisioning.A_zimbraPrefShortEmailAddress, false);
     }
 
     /**
@@ -54715,7 +54715,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1904)
     public boolean isPrefShowAllNewMailNotifications() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowAllNewMailNotifications, false, true);
+        return getBooleanAttr(1904, Provisioning.A_zimbraPrefShowAllNewMailNotifications, false);
     }
 
     /**
@@ -54795,7 +54795,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1045)
     public boolean isPrefShowCalendarWeek() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowCalendarWeek, false, true);
+        return getBooleanAttr(1045, Provisioning.A_zimbraPrefShowCalendarWeek, false);
     }
 
     /**
@@ -54867,7 +54867,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1787)
     public boolean isPrefShowChatsFolderInMail() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowChatsFolderInMail, false, true);
+        return getBooleanAttr(1787, Provisioning.A_zimbraPrefShowChatsFolderInMail, false);
     }
 
     /**
@@ -54939,7 +54939,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1274)
     public boolean isPrefShowComposeDirection() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowComposeDirection, false, true);
+        return getBooleanAttr(1274, Provisioning.A_zimbraPrefShowComposeDirection, false);
     }
 
     /**
@@ -55009,7 +55009,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=192)
     public boolean isPrefShowFragments() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowFragments, true, true);
+        return getBooleanAttr(192, Provisioning.A_zimbraPrefShowFragments, true);
     }
 
     /**
@@ -55071,7 +55071,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=222)
     public boolean isPrefShowSearchString() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowSearchString, false, true);
+        return getBooleanAttr(222, Provisioning.A_zimbraPrefShowSearchString, false);
     }
 
     /**
@@ -55134,7 +55134,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=471)
     public boolean isPrefShowSelectionCheckbox() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowSelectionCheckbox, false, true);
+        return getBooleanAttr(471, Provisioning.A_zimbraPrefShowSelectionCheckbox, false);
     }
 
     /**
@@ -55414,7 +55414,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1207)
     public boolean isPrefSpellIgnoreAllCaps() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefSpellIgnoreAllCaps, true, true);
+        return getBooleanAttr(1207, Provisioning.A_zimbraPrefSpellIgnoreAllCaps, true);
     }
 
     /**
@@ -55705,7 +55705,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=689)
     public boolean isPrefStandardClientAccessibilityMode() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefStandardClientAccessibilityMode, false, true);
+        return getBooleanAttr(689, Provisioning.A_zimbraPrefStandardClientAccessibilityMode, false);
     }
 
     /**
@@ -55778,7 +55778,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1972)
     public boolean isPrefTabInEditorEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefTabInEditorEnabled, false, true);
+        return getBooleanAttr(1972, Provisioning.A_zimbraPrefTabInEditorEnabled, false);
     }
 
     /**
@@ -55854,7 +55854,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=633)
     public boolean isPrefTagTreeOpen() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefTagTreeOpen, true, true);
+        return getBooleanAttr(633, Provisioning.A_zimbraPrefTagTreeOpen, true);
     }
 
     /**
@@ -56314,7 +56314,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=541)
     public long getPrefTrashLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPrefTrashLifetime, 0L, true);
+        return getTimeInterval(541, Provisioning.A_zimbraPrefTrashLifetime, 0L);
     }
 
     /**
@@ -56428,7 +56428,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=410)
     public boolean isPrefUseDefaultIdentitySettings() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefUseDefaultIdentitySettings, false, true);
+        return getBooleanAttr(410, Provisioning.A_zimbraPrefUseDefaultIdentitySettings, false);
     }
 
     /**
@@ -56498,7 +56498,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=61)
     public boolean isPrefUseKeyboardShortcuts() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefUseKeyboardShortcuts, true, true);
+        return getBooleanAttr(61, Provisioning.A_zimbraPrefUseKeyboardShortcuts, true);
     }
 
     /**
@@ -56562,7 +56562,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=395)
     public boolean isPrefUseRfc2231() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefUseRfc2231, false, true);
+        return getBooleanAttr(395, Provisioning.A_zimbraPrefUseRfc2231, false);
     }
 
     /**
@@ -56635,7 +56635,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1650)
     public boolean isPrefUseSendMsgShortcut() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefUseSendMsgShortcut, true, true);
+        return getBooleanAttr(1650, Provisioning.A_zimbraPrefUseSendMsgShortcut, true);
     }
 
     /**
@@ -56709,7 +56709,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=236)
     public boolean isPrefUseTimeZoneListInCalendar() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefUseTimeZoneListInCalendar, false, true);
+        return getBooleanAttr(236, Provisioning.A_zimbraPrefUseTimeZoneListInCalendar, false);
     }
 
     /**
@@ -56773,7 +56773,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=526)
     public int getPrefVoiceItemsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraPrefVoiceItemsPerPage, 25, true);
+        return getIntAttr(526, Provisioning.A_zimbraPrefVoiceItemsPerPage, 25);
     }
 
     /**
@@ -56843,7 +56843,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=456)
     public boolean isPrefWarnOnExit() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefWarnOnExit, true, true);
+        return getBooleanAttr(456, Provisioning.A_zimbraPrefWarnOnExit, true);
     }
 
     /**
@@ -57174,7 +57174,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=408)
     public boolean isPrefWhenInFoldersEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefWhenInFoldersEnabled, false, true);
+        return getBooleanAttr(408, Provisioning.A_zimbraPrefWhenInFoldersEnabled, false);
     }
 
     /**
@@ -57366,7 +57366,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=406)
     public boolean isPrefWhenSentToEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefWhenSentToEnabled, false, true);
+        return getBooleanAttr(406, Provisioning.A_zimbraPrefWhenSentToEnabled, false);
     }
 
     /**
@@ -57434,7 +57434,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=638)
     public boolean isPrefZimletTreeOpen() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefZimletTreeOpen, false, true);
+        return getBooleanAttr(638, Provisioning.A_zimbraPrefZimletTreeOpen, false);
     }
 
     /**
@@ -57640,7 +57640,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1952)
     public boolean isPrefZmgPushNotificationEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefZmgPushNotificationEnabled, false, true);
+        return getBooleanAttr(1952, Provisioning.A_zimbraPrefZmgPushNotificationEnabled, false);
     }
 
     /**
@@ -57971,7 +57971,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1355)
     public long getPublicShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPublicShareLifetime, 0L, true);
+        return getTimeInterval(1355, Provisioning.A_zimbraPublicShareLifetime, 0L);
     }
 
     /**
@@ -58080,7 +58080,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1351)
     public boolean isPublicSharingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPublicSharingEnabled, true, true);
+        return getBooleanAttr(1351, Provisioning.A_zimbraPublicSharingEnabled, true);
     }
 
     /**
@@ -58261,7 +58261,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=485)
     public long getQuotaWarnInterval() {
-        return getTimeInterval(Provisioning.A_zimbraQuotaWarnInterval, 86400000L, true);
+        return getTimeInterval(485, Provisioning.A_zimbraQuotaWarnInterval, 86400000L);
     }
 
     /**
@@ -58415,7 +58415,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=483)
     public int getQuotaWarnPercent() {
-        return getIntAttr(Provisioning.A_zimbraQuotaWarnPercent, 90, true);
+        return getIntAttr(483, Provisioning.A_zimbraQuotaWarnPercent, 90);
     }
 
     /**
@@ -58487,7 +58487,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2140)
     public long getRecoveryAccountCodeValidity() {
-        return getTimeInterval(Provisioning.A_zimbraRecoveryAccountCodeValidity, 86400000L, true);
+        return getTimeInterval(2140, Provisioning.A_zimbraRecoveryAccountCodeValidity, 86400000L);
     }
 
     /**
@@ -58743,7 +58743,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2138)
     public long getResetPasswordRecoveryCodeExpiry() {
-        return getTimeInterval(Provisioning.A_zimbraResetPasswordRecoveryCodeExpiry, 600000L, true);
+        return getTimeInterval(2138, Provisioning.A_zimbraResetPasswordRecoveryCodeExpiry, 600000L);
     }
 
     /**
@@ -58852,7 +58852,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=779)
     public boolean isReverseProxyUseExternalRoute() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyUseExternalRoute, false, true);
+        return getBooleanAttr(779, Provisioning.A_zimbraReverseProxyUseExternalRoute, false);
     }
 
     /**
@@ -58945,7 +58945,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1838)
     public boolean isRevokeAppSpecificPasswordsOnPasswordChange() {
-        return getBooleanAttr(Provisioning.A_zimbraRevokeAppSpecificPasswordsOnPasswordChange, true, true);
+        return getBooleanAttr(1838, Provisioning.A_zimbraRevokeAppSpecificPasswordsOnPasswordChange, true);
     }
 
     /**
@@ -59241,7 +59241,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1348)
     public long getShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraShareLifetime, 0L, true);
+        return getTimeInterval(1348, Provisioning.A_zimbraShareLifetime, 0L);
     }
 
     /**
@@ -59484,7 +59484,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=3067)
     public boolean isShowClientTOS() {
-        return getBooleanAttr(Provisioning.A_zimbraShowClientTOS, false, true);
+        return getBooleanAttr(3067, Provisioning.A_zimbraShowClientTOS, false);
     }
 
     /**
@@ -59558,7 +59558,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2121)
     public boolean isSieveEditHeaderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveEditHeaderEnabled, false, true);
+        return getBooleanAttr(2121, Provisioning.A_zimbraSieveEditHeaderEnabled, false);
     }
 
     /**
@@ -59713,7 +59713,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2112)
     public boolean isSieveNotifyActionRFCCompliant() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveNotifyActionRFCCompliant, false, true);
+        return getBooleanAttr(2112, Provisioning.A_zimbraSieveNotifyActionRFCCompliant, false);
     }
 
     /**
@@ -59798,7 +59798,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2111)
     public boolean isSieveRejectMailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveRejectMailEnabled, true, true);
+        return getBooleanAttr(2111, Provisioning.A_zimbraSieveRejectMailEnabled, true);
     }
 
     /**
@@ -59881,7 +59881,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2120)
     public boolean isSieveRequireControlEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveRequireControlEnabled, true, true);
+        return getBooleanAttr(2120, Provisioning.A_zimbraSieveRequireControlEnabled, true);
     }
 
     /**
@@ -60041,7 +60041,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=493)
     public int getSignatureMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraSignatureMaxNumEntries, 20, true);
+        return getIntAttr(493, Provisioning.A_zimbraSignatureMaxNumEntries, 20);
     }
 
     /**
@@ -60104,7 +60104,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=523)
     public int getSignatureMinNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraSignatureMinNumEntries, 1, true);
+        return getIntAttr(523, Provisioning.A_zimbraSignatureMinNumEntries, 1);
     }
 
     /**
@@ -60234,7 +60234,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=793)
     public boolean isSmtpEnableTrace() {
-        return getBooleanAttr(Provisioning.A_zimbraSmtpEnableTrace, false, true);
+        return getBooleanAttr(793, Provisioning.A_zimbraSmtpEnableTrace, false);
     }
 
     /**
@@ -60309,7 +60309,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1077)
     public boolean isSmtpRestrictEnvelopeFrom() {
-        return getBooleanAttr(Provisioning.A_zimbraSmtpRestrictEnvelopeFrom, true, true);
+        return getBooleanAttr(1077, Provisioning.A_zimbraSmtpRestrictEnvelopeFrom, true);
     }
 
     /**
@@ -60466,7 +60466,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=604)
     public boolean isSpamApplyUserFilters() {
-        return getBooleanAttr(Provisioning.A_zimbraSpamApplyUserFilters, false, true);
+        return getBooleanAttr(604, Provisioning.A_zimbraSpamApplyUserFilters, false);
     }
 
     /**
@@ -60686,7 +60686,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1266)
     public boolean isStandardClientCustomPrefTabsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraStandardClientCustomPrefTabsEnabled, false, true);
+        return getBooleanAttr(1266, Provisioning.A_zimbraStandardClientCustomPrefTabsEnabled, false);
     }
 
     /**
@@ -60764,7 +60764,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=437)
     public int getSyncWindowSize() {
-        return getIntAttr(Provisioning.A_zimbraSyncWindowSize, 0, true);
+        return getIntAttr(437, Provisioning.A_zimbraSyncWindowSize, 0);
     }
 
     /**
@@ -60911,7 +60911,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1433)
     public boolean isTouchJSErrorTrackingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraTouchJSErrorTrackingEnabled, false, true);
+        return getBooleanAttr(1433, Provisioning.A_zimbraTouchJSErrorTrackingEnabled, false);
     }
 
     /**
@@ -61055,7 +61055,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1819)
     public boolean isTwoFactorAuthEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraTwoFactorAuthEnabled, false, true);
+        return getBooleanAttr(1819, Provisioning.A_zimbraTwoFactorAuthEnabled, false);
     }
 
     /**
@@ -61135,7 +61135,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2026)
     public long getTwoFactorAuthEnablementTokenLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraTwoFactorAuthEnablementTokenLifetime, 3600000L, true);
+        return getTimeInterval(2026, Provisioning.A_zimbraTwoFactorAuthEnablementTokenLifetime, 3600000L);
     }
 
     /**
@@ -61350,7 +61350,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2060)
     public int getTwoFactorAuthLockoutMaxFailures() {
-        return getIntAttr(Provisioning.A_zimbraTwoFactorAuthLockoutMaxFailures, 10, true);
+        return getIntAttr(2060, Provisioning.A_zimbraTwoFactorAuthLockoutMaxFailures, 10);
     }
 
     /**
@@ -61426,7 +61426,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1823)
     public int getTwoFactorAuthNumScratchCodes() {
-        return getIntAttr(Provisioning.A_zimbraTwoFactorAuthNumScratchCodes, 10, true);
+        return getIntAttr(1823, Provisioning.A_zimbraTwoFactorAuthNumScratchCodes, 10);
     }
 
     /**
@@ -61650,7 +61650,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2025)
     public long getTwoFactorAuthTokenLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraTwoFactorAuthTokenLifetime, 3600000L, true);
+        return getTimeInterval(2025, Provisioning.A_zimbraTwoFactorAuthTokenLifetime, 3600000L);
     }
 
     /**
@@ -61761,7 +61761,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1947)
     public long getTwoFactorAuthTrustedDeviceTokenLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraTwoFactorAuthTrustedDeviceTokenLifetime, 2592000000L, true);
+        return getTimeInterval(1947, Provisioning.A_zimbraTwoFactorAuthTrustedDeviceTokenLifetime, 2592000000L);
     }
 
     /**
@@ -62208,7 +62208,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=399)
     public int getVersion() {
-        return getIntAttr(Provisioning.A_zimbraVersion, -1, true);
+        return getIntAttr(399, Provisioning.A_zimbraVersion, -1);
     }
 
     /**
@@ -62274,7 +62274,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1414)
     public boolean isVirtualAccountInitialPasswordSet() {
-        return getBooleanAttr(Provisioning.A_zimbraVirtualAccountInitialPasswordSet, false, true);
+        return getBooleanAttr(1414, Provisioning.A_zimbraVirtualAccountInitialPasswordSet, false);
     }
 
     /**
@@ -62355,7 +62355,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1452)
     public int getWebClientOfflineSyncMaxDays() {
-        return getIntAttr(Provisioning.A_zimbraWebClientOfflineSyncMaxDays, 30, true);
+        return getIntAttr(1452, Provisioning.A_zimbraWebClientOfflineSyncMaxDays, 30);
     }
 
     /**
@@ -62431,7 +62431,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1047)
     public boolean isWebClientShowOfflineLink() {
-        return getBooleanAttr(Provisioning.A_zimbraWebClientShowOfflineLink, true, true);
+        return getBooleanAttr(1047, Provisioning.A_zimbraWebClientShowOfflineLink, true);
     }
 
     /**
@@ -62713,7 +62713,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=1391)
     public boolean isZimletLoadSynchronously() {
-        return getBooleanAttr(Provisioning.A_zimbraZimletLoadSynchronously, false, true);
+        return getBooleanAttr(1391, Provisioning.A_zimbraZimletLoadSynchronously, false);
     }
 
     /**
@@ -62917,7 +62917,7 @@ public abstract class ZAttrAccount  extends MailTarget {
      */
     @ZAttr(id=2027)
     public int getZimletUserPropertiesMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraZimletUserPropertiesMaxNumEntries, 150, true);
+        return getIntAttr(2027, Provisioning.A_zimbraZimletUserPropertiesMaxNumEntries, 150);
     }
 
     /**
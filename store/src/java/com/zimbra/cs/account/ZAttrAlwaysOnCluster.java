@@ -370,7 +370,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=3003)
     public long getActiveSyncEhcacheExpiration() {
-        return getTimeInterval(Provisioning.A_zimbraActiveSyncEhcacheExpiration, -1L, true);
+        return getTimeInterval(3003, Provisioning.A_zimbraActiveSyncEhcacheExpiration, -1L);
     }
 
     /**
@@ -477,7 +477,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=3001)
     public long getActiveSyncEhcacheHeapSize() {
-        return getLongAttr(Provisioning.A_zimbraActiveSyncEhcacheHeapSize, -1L, true);
+        return getLongAttr(3001, Provisioning.A_zimbraActiveSyncEhcacheHeapSize, -1L);
     }
 
     /**
@@ -564,7 +564,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=3002)
     public long getActiveSyncEhcacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraActiveSyncEhcacheMaxDiskSize, -1L, true);
+        return getLongAttr(3002, Provisioning.A_zimbraActiveSyncEhcacheMaxDiskSize, -1L);
     }
 
     /**
@@ -648,7 +648,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=2059)
     public int getConvertPoolTimeout() {
-        return getIntAttr(Provisioning.A_zimbraConvertPoolTimeout, -1, true);
+        return getIntAttr(2059, Provisioning.A_zimbraConvertPoolTimeout, -1);
     }
 
     /**
@@ -843,7 +843,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=1980)
     public int getExtensionBindPort() {
-        return getIntAttr(Provisioning.A_zimbraExtensionBindPort, -1, true);
+        return getIntAttr(1980, Provisioning.A_zimbraExtensionBindPort, -1);
     }
 
     /**
@@ -1023,7 +1023,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=3005)
     public long getImapActiveSessionEhcacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraImapActiveSessionEhcacheMaxDiskSize, -1L, true);
+        return getLongAttr(3005, Provisioning.A_zimbraImapActiveSessionEhcacheMaxDiskSize, -1L);
     }
 
     /**
@@ -1110,7 +1110,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=2013)
     public long getImapInactiveSessionCacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraImapInactiveSessionCacheMaxDiskSize, -1L, true);
+        return getLongAttr(2013, Provisioning.A_zimbraImapInactiveSessionCacheMaxDiskSize, -1L);
     }
 
     /**
@@ -1197,7 +1197,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=3006)
     public long getImapInactiveSessionEhcacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraImapInactiveSessionEhcacheMaxDiskSize, -1L, true);
+        return getLongAttr(3006, Provisioning.A_zimbraImapInactiveSessionEhcacheMaxDiskSize, -1L);
     }
 
     /**
@@ -1284,7 +1284,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=3004)
     public long getImapInactiveSessionEhcacheSize() {
-        return getLongAttr(Provisioning.A_zimbraImapInactiveSessionEhcacheSize, -1L, true);
+        return getLongAttr(3004, Provisioning.A_zimbraImapInactiveSessionEhcacheSize, -1L);
     }
 
     /**
@@ -1374,7 +1374,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=2018)
     public boolean isLdapGentimeFractionalSecondsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraLdapGentimeFractionalSecondsEnabled, false, true);
+        return getBooleanAttr(2018, Provisioning.A_zimbraLdapGentimeFractionalSecondsEnabled, false);
     }
 
     /**
@@ -1478,7 +1478,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=2053)
     public long getMailboxThrottleReapInterval() {
-        return getTimeInterval(Provisioning.A_zimbraMailboxThrottleReapInterval, -1L, true);
+        return getTimeInterval(2053, Provisioning.A_zimbraMailboxThrottleReapInterval, -1L);
     }
 
     /**
@@ -1727,7 +1727,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=1818)
     public boolean isReverseProxySNIEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxySNIEnabled, false, true);
+        return getBooleanAttr(1818, Provisioning.A_zimbraReverseProxySNIEnabled, false);
     }
 
     /**
@@ -1824,7 +1824,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=1903)
     public long getShortTermAllEffectiveRightsCacheExpiration() {
-        return getTimeInterval(Provisioning.A_zimbraShortTermAllEffectiveRightsCacheExpiration, -1L, true);
+        return getTimeInterval(1903, Provisioning.A_zimbraShortTermAllEffectiveRightsCacheExpiration, -1L);
     }
 
     /**
@@ -1976,7 +1976,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=1902)
     public int getShortTermAllEffectiveRightsCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraShortTermAllEffectiveRightsCacheSize, -1, true);
+        return getIntAttr(1902, Provisioning.A_zimbraShortTermAllEffectiveRightsCacheSize, -1);
     }
 
     /**
@@ -2076,7 +2076,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=1901)
     public long getShortTermGranteeCacheExpiration() {
-        return getTimeInterval(Provisioning.A_zimbraShortTermGranteeCacheExpiration, -1L, true);
+        return getTimeInterval(1901, Provisioning.A_zimbraShortTermGranteeCacheExpiration, -1L);
     }
 
     /**
@@ -2223,7 +2223,7 @@ public abstract class ZAttrAlwaysOnCluster extends NamedEntry {
      */
     @ZAttr(id=1900)
     public int getShortTermGranteeCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraShortTermGranteeCacheSize, -1, true);
+        return getIntAttr(1900, Provisioning.A_zimbraShortTermGranteeCacheSize, -1);
     }
 
     /**
@@ -225,7 +225,7 @@ public class ZAttrCalendarResource extends Account {
      */
     @ZAttr(id=315)
     public boolean isCalResAutoAcceptDecline() {
-        return getBooleanAttr(Provisioning.A_zimbraCalResAutoAcceptDecline, false, true);
+        return getBooleanAttr(315, Provisioning.A_zimbraCalResAutoAcceptDecline, false);
     }
 
     /**
@@ -292,7 +292,7 @@ public class ZAttrCalendarResource extends Account {
      */
     @ZAttr(id=322)
     public boolean isCalResAutoDeclineIfBusy() {
-        return getBooleanAttr(Provisioning.A_zimbraCalResAutoDeclineIfBusy, false, true);
+        return getBooleanAttr(322, Provisioning.A_zimbraCalResAutoDeclineIfBusy, false);
     }
 
     /**
@@ -359,7 +359,7 @@ public class ZAttrCalendarResource extends Account {
      */
     @ZAttr(id=323)
     public boolean isCalResAutoDeclineRecurring() {
-        return getBooleanAttr(Provisioning.A_zimbraCalResAutoDeclineRecurring, false, true);
+        return getBooleanAttr(323, Provisioning.A_zimbraCalResAutoDeclineRecurring, false);
     }
 
     /**
@@ -487,7 +487,7 @@ public class ZAttrCalendarResource extends Account {
      */
     @ZAttr(id=330)
     public int getCalResCapacity() {
-        return getIntAttr(Provisioning.A_zimbraCalResCapacity, -1, true);
+        return getIntAttr(330, Provisioning.A_zimbraCalResCapacity, -1);
     }
 
     /**
@@ -863,7 +863,7 @@ public class ZAttrCalendarResource extends Account {
      */
     @ZAttr(id=808)
     public int getCalResMaxNumConflictsAllowed() {
-        return getIntAttr(Provisioning.A_zimbraCalResMaxNumConflictsAllowed, -1, true);
+        return getIntAttr(808, Provisioning.A_zimbraCalResMaxNumConflictsAllowed, -1);
     }
 
     /**
@@ -945,7 +945,7 @@ public class ZAttrCalendarResource extends Account {
      */
     @ZAttr(id=809)
     public int getCalResMaxPercentConflictsAllowed() {
-        return getIntAttr(Provisioning.A_zimbraCalResMaxPercentConflictsAllowed, -1, true);
+        return getIntAttr(809, Provisioning.A_zimbraCalResMaxPercentConflictsAllowed, -1);
     }
 
     /**
@@ -464,7 +464,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1977)
     public boolean isAPNSProduction() {
-        return getBooleanAttr(Provisioning.A_zimbraAPNSProduction, true, true);
+        return getBooleanAttr(1977, Provisioning.A_zimbraAPNSProduction, true);
     }
 
     /**
@@ -798,7 +798,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3003)
     public long getActiveSyncEhcacheExpiration() {
-        return getTimeInterval(Provisioning.A_zimbraActiveSyncEhcacheExpiration, 300000L, true);
+        return getTimeInterval(3003, Provisioning.A_zimbraActiveSyncEhcacheExpiration, 300000L);
     }
 
     /**
@@ -905,7 +905,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3001)
     public long getActiveSyncEhcacheHeapSize() {
-        return getLongAttr(Provisioning.A_zimbraActiveSyncEhcacheHeapSize, 10485760L, true);
+        return getLongAttr(3001, Provisioning.A_zimbraActiveSyncEhcacheHeapSize, 10485760L);
     }
 
     /**
@@ -992,7 +992,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3002)
     public long getActiveSyncEhcacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraActiveSyncEhcacheMaxDiskSize, 10737418240L, true);
+        return getLongAttr(3002, Provisioning.A_zimbraActiveSyncEhcacheMaxDiskSize, 10737418240L);
     }
 
     /**
@@ -1215,7 +1215,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=746)
     public boolean isAdminConsoleCatchAllAddressEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAdminConsoleCatchAllAddressEnabled, false, true);
+        return getBooleanAttr(746, Provisioning.A_zimbraAdminConsoleCatchAllAddressEnabled, false);
     }
 
     /**
@@ -1287,7 +1287,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=743)
     public boolean isAdminConsoleDNSCheckEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAdminConsoleDNSCheckEnabled, false, true);
+        return getBooleanAttr(743, Provisioning.A_zimbraAdminConsoleDNSCheckEnabled, false);
     }
 
     /**
@@ -1359,7 +1359,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=774)
     public boolean isAdminConsoleLDAPAuthEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAdminConsoleLDAPAuthEnabled, false, true);
+        return getBooleanAttr(774, Provisioning.A_zimbraAdminConsoleLDAPAuthEnabled, false);
     }
 
     /**
@@ -1719,7 +1719,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=751)
     public boolean isAdminConsoleSkinEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAdminConsoleSkinEnabled, false, true);
+        return getBooleanAttr(751, Provisioning.A_zimbraAdminConsoleSkinEnabled, false);
     }
 
     /**
@@ -1791,7 +1791,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1113)
     public int getAdminImapImportNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraAdminImapImportNumThreads, 20, true);
+        return getIntAttr(1113, Provisioning.A_zimbraAdminImapImportNumThreads, 20);
     }
 
     /**
@@ -1865,7 +1865,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=155)
     public int getAdminPort() {
-        return getIntAttr(Provisioning.A_zimbraAdminPort, 7071, true);
+        return getIntAttr(155, Provisioning.A_zimbraAdminPort, 7071);
     }
 
     /**
@@ -1970,7 +1970,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1322)
     public int getAdminProxyPort() {
-        return getIntAttr(Provisioning.A_zimbraAdminProxyPort, 9071, true);
+        return getIntAttr(1322, Provisioning.A_zimbraAdminProxyPort, 9071);
     }
 
     /**
@@ -2088,7 +2088,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2098)
     public boolean isAdminSieveFeatureVariablesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAdminSieveFeatureVariablesEnabled, true, true);
+        return getBooleanAttr(2098, Provisioning.A_zimbraAdminSieveFeatureVariablesEnabled, true);
     }
 
     /**
@@ -2235,7 +2235,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1052)
     public boolean isAllowNonLDHCharsInDomain() {
-        return getBooleanAttr(Provisioning.A_zimbraAllowNonLDHCharsInDomain, true, true);
+        return getBooleanAttr(1052, Provisioning.A_zimbraAllowNonLDHCharsInDomain, true);
     }
 
     /**
@@ -2389,7 +2389,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1465)
     public boolean isAmavisDSPAMEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAmavisDSPAMEnabled, false, true);
+        return getBooleanAttr(1465, Provisioning.A_zimbraAmavisDSPAMEnabled, false);
     }
 
     /**
@@ -2465,7 +2465,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1463)
     public boolean isAmavisEnableDKIMVerification() {
-        return getBooleanAttr(Provisioning.A_zimbraAmavisEnableDKIMVerification, true, true);
+        return getBooleanAttr(1463, Provisioning.A_zimbraAmavisEnableDKIMVerification, true);
     }
 
     /**
@@ -2668,7 +2668,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1488)
     public int getAmavisLogLevel() {
-        return getIntAttr(Provisioning.A_zimbraAmavisLogLevel, 1, true);
+        return getIntAttr(1488, Provisioning.A_zimbraAmavisLogLevel, 1);
     }
 
     /**
@@ -2740,7 +2740,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1461)
     public int getAmavisMaxServers() {
-        return getIntAttr(Provisioning.A_zimbraAmavisMaxServers, 10, true);
+        return getIntAttr(1461, Provisioning.A_zimbraAmavisMaxServers, 10);
     }
 
     /**
@@ -2813,7 +2813,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1464)
     public boolean isAmavisOriginatingBypassSA() {
-        return getBooleanAttr(Provisioning.A_zimbraAmavisOriginatingBypassSA, false, true);
+        return getBooleanAttr(1464, Provisioning.A_zimbraAmavisOriginatingBypassSA, false);
     }
 
     /**
@@ -2890,7 +2890,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1577)
     public boolean isAmavisOutboundDisclaimersOnly() {
-        return getBooleanAttr(Provisioning.A_zimbraAmavisOutboundDisclaimersOnly, false, true);
+        return getBooleanAttr(1577, Provisioning.A_zimbraAmavisOutboundDisclaimersOnly, false);
     }
 
     /**
@@ -3039,7 +3039,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1578)
     public int getAmavisSALogLevel() {
-        return getIntAttr(Provisioning.A_zimbraAmavisSALogLevel, 0, true);
+        return getIntAttr(1578, Provisioning.A_zimbraAmavisSALogLevel, 0);
     }
 
     /**
@@ -3115,7 +3115,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1457)
     public int getAntispamExtractionBatchDelay() {
-        return getIntAttr(Provisioning.A_zimbraAntispamExtractionBatchDelay, 100, true);
+        return getIntAttr(1457, Provisioning.A_zimbraAntispamExtractionBatchDelay, 100);
     }
 
     /**
@@ -3187,7 +3187,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1456)
     public int getAntispamExtractionBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraAntispamExtractionBatchSize, 25, true);
+        return getIntAttr(1456, Provisioning.A_zimbraAntispamExtractionBatchSize, 25);
     }
 
     /**
@@ -3259,7 +3259,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1840)
     public int getAppSpecificPasswordLength() {
-        return getIntAttr(Provisioning.A_zimbraAppSpecificPasswordLength, 16, true);
+        return getIntAttr(1840, Provisioning.A_zimbraAppSpecificPasswordLength, 16);
     }
 
     /**
@@ -3331,7 +3331,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1206)
     public boolean isArchiveEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraArchiveEnabled, false, true);
+        return getBooleanAttr(1206, Provisioning.A_zimbraArchiveEnabled, false);
     }
 
     /**
@@ -3468,7 +3468,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=115)
     public boolean isAttachmentsBlocked() {
-        return getBooleanAttr(Provisioning.A_zimbraAttachmentsBlocked, false, true);
+        return getBooleanAttr(115, Provisioning.A_zimbraAttachmentsBlocked, false);
     }
 
     /**
@@ -3533,7 +3533,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=582)
     public int getAttachmentsIndexedTextLimit() {
-        return getIntAttr(Provisioning.A_zimbraAttachmentsIndexedTextLimit, 1048576, true);
+        return getIntAttr(582, Provisioning.A_zimbraAttachmentsIndexedTextLimit, 1048576);
     }
 
     /**
@@ -3669,7 +3669,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=237)
     public boolean isAttachmentsScanEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAttachmentsScanEnabled, false, true);
+        return getBooleanAttr(237, Provisioning.A_zimbraAttachmentsScanEnabled, false);
     }
 
     /**
@@ -3847,7 +3847,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=116)
     public boolean isAttachmentsViewInHtmlOnly() {
-        return getBooleanAttr(Provisioning.A_zimbraAttachmentsViewInHtmlOnly, false, true);
+        return getBooleanAttr(116, Provisioning.A_zimbraAttachmentsViewInHtmlOnly, false);
     }
 
     /**
@@ -4118,7 +4118,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1635)
     public int getAuthTokenNotificationInterval() {
-        return getIntAttr(Provisioning.A_zimbraAuthTokenNotificationInterval, 60000, true);
+        return getIntAttr(1635, Provisioning.A_zimbraAuthTokenNotificationInterval, 60000);
     }
 
     /**
@@ -4228,7 +4228,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1094)
     public boolean isAuthTokenValidityValueEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAuthTokenValidityValueEnabled, true, true);
+        return getBooleanAttr(1094, Provisioning.A_zimbraAuthTokenValidityValueEnabled, true);
     }
 
     /**
@@ -4309,7 +4309,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1234)
     public int getAutoProvBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraAutoProvBatchSize, 20, true);
+        return getIntAttr(1234, Provisioning.A_zimbraAutoProvBatchSize, 20);
     }
 
     /**
@@ -4570,7 +4570,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1238)
     public long getAutoProvPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraAutoProvPollingInterval, 900000L, true);
+        return getTimeInterval(1238, Provisioning.A_zimbraAutoProvPollingInterval, 900000L);
     }
 
     /**
@@ -4741,7 +4741,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=502)
     public boolean isAutoSubmittedNullReturnPath() {
-        return getBooleanAttr(Provisioning.A_zimbraAutoSubmittedNullReturnPath, false, true);
+        return getBooleanAttr(502, Provisioning.A_zimbraAutoSubmittedNullReturnPath, false);
     }
 
     /**
@@ -4881,7 +4881,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=514)
     public int getBackupAutoGroupedNumGroups() {
-        return getIntAttr(Provisioning.A_zimbraBackupAutoGroupedNumGroups, 7, true);
+        return getIntAttr(514, Provisioning.A_zimbraBackupAutoGroupedNumGroups, 7);
     }
 
     /**
@@ -4944,7 +4944,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=515)
     public boolean isBackupAutoGroupedThrottled() {
-        return getBooleanAttr(Provisioning.A_zimbraBackupAutoGroupedThrottled, false, true);
+        return getBooleanAttr(515, Provisioning.A_zimbraBackupAutoGroupedThrottled, false);
     }
 
     /**
@@ -5449,7 +5449,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1004)
     public boolean isBackupSkipBlobs() {
-        return getBooleanAttr(Provisioning.A_zimbraBackupSkipBlobs, false, true);
+        return getBooleanAttr(1004, Provisioning.A_zimbraBackupSkipBlobs, false);
     }
 
     /**
@@ -5522,7 +5522,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1005)
     public boolean isBackupSkipHsmBlobs() {
-        return getBooleanAttr(Provisioning.A_zimbraBackupSkipHsmBlobs, false, true);
+        return getBooleanAttr(1005, Provisioning.A_zimbraBackupSkipHsmBlobs, false);
     }
 
     /**
@@ -5598,7 +5598,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1003)
     public boolean isBackupSkipSearchIndex() {
-        return getBooleanAttr(Provisioning.A_zimbraBackupSkipSearchIndex, false, true);
+        return getBooleanAttr(1003, Provisioning.A_zimbraBackupSkipSearchIndex, false);
     }
 
     /**
@@ -5805,7 +5805,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1469)
     public boolean isCBPolicydAccessControlEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydAccessControlEnabled, false, true);
+        return getBooleanAttr(1469, Provisioning.A_zimbraCBPolicydAccessControlEnabled, false);
     }
 
     /**
@@ -5882,7 +5882,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1470)
     public boolean isCBPolicydAccountingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydAccountingEnabled, false, true);
+        return getBooleanAttr(1470, Provisioning.A_zimbraCBPolicydAccountingEnabled, false);
     }
 
     /**
@@ -5958,7 +5958,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1471)
     public boolean isCBPolicydAmavisEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydAmavisEnabled, false, true);
+        return getBooleanAttr(1471, Provisioning.A_zimbraCBPolicydAmavisEnabled, false);
     }
 
     /**
@@ -6030,7 +6030,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1561)
     public int getCBPolicydBindPort() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydBindPort, 10031, true);
+        return getIntAttr(1561, Provisioning.A_zimbraCBPolicydBindPort, 10031);
     }
 
     /**
@@ -6233,7 +6233,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1484)
     public int getCBPolicydBypassTimeout() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydBypassTimeout, 30, true);
+        return getIntAttr(1484, Provisioning.A_zimbraCBPolicydBypassTimeout, 30);
     }
 
     /**
@@ -6306,7 +6306,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1472)
     public boolean isCBPolicydCheckHeloEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydCheckHeloEnabled, false, true);
+        return getBooleanAttr(1472, Provisioning.A_zimbraCBPolicydCheckHeloEnabled, false);
     }
 
     /**
@@ -6382,7 +6382,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1473)
     public boolean isCBPolicydCheckSPFEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydCheckSPFEnabled, false, true);
+        return getBooleanAttr(1473, Provisioning.A_zimbraCBPolicydCheckSPFEnabled, false);
     }
 
     /**
@@ -6609,7 +6609,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1474)
     public boolean isCBPolicydGreylistingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydGreylistingEnabled, false, true);
+        return getBooleanAttr(1474, Provisioning.A_zimbraCBPolicydGreylistingEnabled, false);
     }
 
     /**
@@ -6686,7 +6686,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1475)
     public boolean isCBPolicydGreylistingTrainingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydGreylistingTrainingEnabled, false, true);
+        return getBooleanAttr(1475, Provisioning.A_zimbraCBPolicydGreylistingTrainingEnabled, false);
     }
 
     /**
@@ -6762,7 +6762,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1562)
     public int getCBPolicydLogLevel() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydLogLevel, 3, true);
+        return getIntAttr(1562, Provisioning.A_zimbraCBPolicydLogLevel, 3);
     }
 
     /**
@@ -6834,7 +6834,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1481)
     public int getCBPolicydMaxRequests() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydMaxRequests, 1000, true);
+        return getIntAttr(1481, Provisioning.A_zimbraCBPolicydMaxRequests, 1000);
     }
 
     /**
@@ -6906,7 +6906,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1480)
     public int getCBPolicydMaxServers() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydMaxServers, 25, true);
+        return getIntAttr(1480, Provisioning.A_zimbraCBPolicydMaxServers, 25);
     }
 
     /**
@@ -6979,7 +6979,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1479)
     public int getCBPolicydMaxSpareServers() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydMaxSpareServers, 12, true);
+        return getIntAttr(1479, Provisioning.A_zimbraCBPolicydMaxSpareServers, 12);
     }
 
     /**
@@ -7055,7 +7055,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1477)
     public int getCBPolicydMinServers() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydMinServers, 4, true);
+        return getIntAttr(1477, Provisioning.A_zimbraCBPolicydMinServers, 4);
     }
 
     /**
@@ -7127,7 +7127,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1478)
     public int getCBPolicydMinSpareServers() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydMinSpareServers, 4, true);
+        return getIntAttr(1478, Provisioning.A_zimbraCBPolicydMinSpareServers, 4);
     }
 
     /**
@@ -7199,7 +7199,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1476)
     public boolean isCBPolicydQuotasEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydQuotasEnabled, true, true);
+        return getBooleanAttr(1476, Provisioning.A_zimbraCBPolicydQuotasEnabled, true);
     }
 
     /**
@@ -7272,7 +7272,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1483)
     public int getCBPolicydTimeoutBusy() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydTimeoutBusy, 120, true);
+        return getIntAttr(1483, Provisioning.A_zimbraCBPolicydTimeoutBusy, 120);
     }
 
     /**
@@ -7349,7 +7349,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1482)
     public int getCBPolicydTimeoutIdle() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydTimeoutIdle, 1020, true);
+        return getIntAttr(1482, Provisioning.A_zimbraCBPolicydTimeoutIdle, 1020);
     }
 
     /**
@@ -7689,7 +7689,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1655)
     public boolean isCalendarCalDavCalendarAutoScheduleEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarCalDavCalendarAutoScheduleEnabled, true, true);
+        return getBooleanAttr(1655, Provisioning.A_zimbraCalendarCalDavCalendarAutoScheduleEnabled, true);
     }
 
     /**
@@ -7784,7 +7784,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=820)
     public boolean isCalendarCalDavClearTextPasswordEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarCalDavClearTextPasswordEnabled, true, true);
+        return getBooleanAttr(820, Provisioning.A_zimbraCalendarCalDavClearTextPasswordEnabled, true);
     }
 
     /**
@@ -7869,7 +7869,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1078)
     public int getCalendarCalDavDefaultCalendarId() {
-        return getIntAttr(Provisioning.A_zimbraCalendarCalDavDefaultCalendarId, 10, true);
+        return getIntAttr(1078, Provisioning.A_zimbraCalendarCalDavDefaultCalendarId, 10);
     }
 
     /**
@@ -7945,7 +7945,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=690)
     public boolean isCalendarCalDavDisableFreebusy() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarCalDavDisableFreebusy, false, true);
+        return getBooleanAttr(690, Provisioning.A_zimbraCalendarCalDavDisableFreebusy, false);
     }
 
     /**
@@ -8017,7 +8017,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=652)
     public boolean isCalendarCalDavDisableScheduling() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarCalDavDisableScheduling, false, true);
+        return getBooleanAttr(652, Provisioning.A_zimbraCalendarCalDavDisableScheduling, false);
     }
 
     /**
@@ -8093,7 +8093,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=794)
     public boolean isCalendarCalDavUseDistinctAppointmentAndToDoCollection() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarCalDavUseDistinctAppointmentAndToDoCollection, false, true);
+        return getBooleanAttr(794, Provisioning.A_zimbraCalendarCalDavUseDistinctAppointmentAndToDoCollection, false);
     }
 
     /**
@@ -8297,7 +8297,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=661)
     public int getCalendarRecurrenceDailyMaxDays() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceDailyMaxDays, 730, true);
+        return getIntAttr(661, Provisioning.A_zimbraCalendarRecurrenceDailyMaxDays, 730);
     }
 
     /**
@@ -8374,7 +8374,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=660)
     public int getCalendarRecurrenceMaxInstances() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceMaxInstances, 0, true);
+        return getIntAttr(660, Provisioning.A_zimbraCalendarRecurrenceMaxInstances, 0);
     }
 
     /**
@@ -8451,7 +8451,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=663)
     public int getCalendarRecurrenceMonthlyMaxMonths() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceMonthlyMaxMonths, 360, true);
+        return getIntAttr(663, Provisioning.A_zimbraCalendarRecurrenceMonthlyMaxMonths, 360);
     }
 
     /**
@@ -8528,7 +8528,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=665)
     public int getCalendarRecurrenceOtherFrequencyMaxYears() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceOtherFrequencyMaxYears, 1, true);
+        return getIntAttr(665, Provisioning.A_zimbraCalendarRecurrenceOtherFrequencyMaxYears, 1);
     }
 
     /**
@@ -8605,7 +8605,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=662)
     public int getCalendarRecurrenceWeeklyMaxWeeks() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceWeeklyMaxWeeks, 520, true);
+        return getIntAttr(662, Provisioning.A_zimbraCalendarRecurrenceWeeklyMaxWeeks, 520);
     }
 
     /**
@@ -8682,7 +8682,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=664)
     public int getCalendarRecurrenceYearlyMaxYears() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceYearlyMaxYears, 100, true);
+        return getIntAttr(664, Provisioning.A_zimbraCalendarRecurrenceYearlyMaxYears, 100);
     }
 
     /**
@@ -9138,7 +9138,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2106)
     public boolean isChatAllowUnencryptedPassword() {
-        return getBooleanAttr(Provisioning.A_zimbraChatAllowUnencryptedPassword, false, true);
+        return getBooleanAttr(2106, Provisioning.A_zimbraChatAllowUnencryptedPassword, false);
     }
 
     /**
@@ -9211,7 +9211,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2104)
     public boolean isChatConversationAuditEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraChatConversationAuditEnabled, false, true);
+        return getBooleanAttr(2104, Provisioning.A_zimbraChatConversationAuditEnabled, false);
     }
 
     /**
@@ -9287,7 +9287,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2102)
     public boolean isChatServiceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraChatServiceEnabled, true, true);
+        return getBooleanAttr(2102, Provisioning.A_zimbraChatServiceEnabled, true);
     }
 
     /**
@@ -9363,7 +9363,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2107)
     public int getChatXmppPort() {
-        return getIntAttr(Provisioning.A_zimbraChatXmppPort, 5222, true);
+        return getIntAttr(2107, Provisioning.A_zimbraChatXmppPort, 5222);
     }
 
     /**
@@ -9482,7 +9482,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2108)
     public int getChatXmppSslPort() {
-        return getIntAttr(Provisioning.A_zimbraChatXmppSslPort, 5223, true);
+        return getIntAttr(2108, Provisioning.A_zimbraChatXmppSslPort, 5223);
     }
 
     /**
@@ -9597,7 +9597,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2105)
     public boolean isChatXmppSslPortEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraChatXmppSslPortEnabled, false, true);
+        return getBooleanAttr(2105, Provisioning.A_zimbraChatXmppSslPortEnabled, false);
     }
 
     /**
@@ -9828,7 +9828,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1620)
     public int getClamAVListenPort() {
-        return getIntAttr(Provisioning.A_zimbraClamAVListenPort, 3310, true);
+        return getIntAttr(1620, Provisioning.A_zimbraClamAVListenPort, 3310);
     }
 
     /**
@@ -9900,7 +9900,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1462)
     public int getClamAVMaxThreads() {
-        return getIntAttr(Provisioning.A_zimbraClamAVMaxThreads, 10, true);
+        return getIntAttr(1462, Provisioning.A_zimbraClamAVMaxThreads, 10);
     }
 
     /**
@@ -10886,7 +10886,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1551)
     public boolean isConfiguredServerIDForBlobDirEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraConfiguredServerIDForBlobDirEnabled, false, true);
+        return getBooleanAttr(1551, Provisioning.A_zimbraConfiguredServerIDForBlobDirEnabled, false);
     }
 
     /**
@@ -11179,7 +11179,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1023)
     public long getContactRankingTableRefreshInterval() {
-        return getTimeInterval(Provisioning.A_zimbraContactRankingTableRefreshInterval, 604800000L, true);
+        return getTimeInterval(1023, Provisioning.A_zimbraContactRankingTableRefreshInterval, 604800000L);
     }
 
     /**
@@ -11303,7 +11303,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1971)
     public int getContactSearchDecomposition() {
-        return getIntAttr(Provisioning.A_zimbraContactSearchDecomposition, 2, true);
+        return getIntAttr(1971, Provisioning.A_zimbraContactSearchDecomposition, 2);
     }
 
     /**
@@ -11415,7 +11415,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2059)
     public int getConvertPoolTimeout() {
-        return getIntAttr(Provisioning.A_zimbraConvertPoolTimeout, 60000, true);
+        return getIntAttr(2059, Provisioning.A_zimbraConvertPoolTimeout, 60000);
     }
 
     /**
@@ -12019,7 +12019,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1631)
     public boolean isCsrfRefererCheckEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCsrfRefererCheckEnabled, true, true);
+        return getBooleanAttr(1631, Provisioning.A_zimbraCsrfRefererCheckEnabled, true);
     }
 
     /**
@@ -12101,7 +12101,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1628)
     public boolean isCsrfTokenCheckEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCsrfTokenCheckEnabled, true, true);
+        return getBooleanAttr(1628, Provisioning.A_zimbraCsrfTokenCheckEnabled, true);
     }
 
     /**
@@ -13079,7 +13079,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1083)
     public int getDataSourceConnectTimeout() {
-        return getIntAttr(Provisioning.A_zimbraDataSourceConnectTimeout, 30, true);
+        return getIntAttr(1083, Provisioning.A_zimbraDataSourceConnectTimeout, 30);
     }
 
     /**
@@ -13282,7 +13282,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1084)
     public int getDataSourceReadTimeout() {
-        return getIntAttr(Provisioning.A_zimbraDataSourceReadTimeout, 60, true);
+        return getIntAttr(1084, Provisioning.A_zimbraDataSourceReadTimeout, 60);
     }
 
     /**
@@ -13363,7 +13363,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1038)
     public long getDatabaseSlowSqlThreshold() {
-        return getTimeInterval(Provisioning.A_zimbraDatabaseSlowSqlThreshold, 2000L, true);
+        return getTimeInterval(1038, Provisioning.A_zimbraDatabaseSlowSqlThreshold, 2000L);
     }
 
     /**
@@ -13704,7 +13704,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3099)
     public int getDocumentEditingCallbackPort() {
-        return getIntAttr(Provisioning.A_zimbraDocumentEditingCallbackPort, 7074, true);
+        return getIntAttr(3099, Provisioning.A_zimbraDocumentEditingCallbackPort, 7074);
     }
 
     /**
@@ -14097,7 +14097,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1327)
     public long getDomainAggregateQuota() {
-        return getLongAttr(Provisioning.A_zimbraDomainAggregateQuota, 0L, true);
+        return getLongAttr(1327, Provisioning.A_zimbraDomainAggregateQuota, 0L);
     }
 
     /**
@@ -14460,7 +14460,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1330)
     public int getDomainAggregateQuotaWarnPercent() {
-        return getIntAttr(Provisioning.A_zimbraDomainAggregateQuotaWarnPercent, 80, true);
+        return getIntAttr(1330, Provisioning.A_zimbraDomainAggregateQuotaWarnPercent, 80);
     }
 
     /**
@@ -14800,7 +14800,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1069)
     public boolean isDomainMandatoryMailSignatureEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDomainMandatoryMailSignatureEnabled, false, true);
+        return getBooleanAttr(1069, Provisioning.A_zimbraDomainMandatoryMailSignatureEnabled, false);
     }
 
     /**
@@ -15320,7 +15320,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1652)
     public int getEmptyFolderOpTimeout() {
-        return getIntAttr(Provisioning.A_zimbraEmptyFolderOpTimeout, 3, true);
+        return getIntAttr(1652, Provisioning.A_zimbraEmptyFolderOpTimeout, 3);
     }
 
     /**
@@ -15541,7 +15541,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2056)
     public int getExportMaxDays() {
-        return getIntAttr(Provisioning.A_zimbraExportMaxDays, 0, true);
+        return getIntAttr(2056, Provisioning.A_zimbraExportMaxDays, 0);
     }
 
     /**
@@ -15621,7 +15621,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1980)
     public int getExtensionBindPort() {
-        return getIntAttr(Provisioning.A_zimbraExtensionBindPort, 7072, true);
+        return getIntAttr(1980, Provisioning.A_zimbraExtensionBindPort, 7072);
     }
 
     /**
@@ -15824,7 +15824,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1370)
     public long getExternalAccountStatusCheckInterval() {
-        return getTimeInterval(Provisioning.A_zimbraExternalAccountStatusCheckInterval, 86400000L, true);
+        return getTimeInterval(1370, Provisioning.A_zimbraExternalAccountStatusCheckInterval, 86400000L);
     }
 
     /**
@@ -15952,7 +15952,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1349)
     public long getExternalShareInvitationUrlExpiration() {
-        return getTimeInterval(Provisioning.A_zimbraExternalShareInvitationUrlExpiration, 0L, true);
+        return getTimeInterval(1349, Provisioning.A_zimbraExternalShareInvitationUrlExpiration, 0L);
     }
 
     /**
@@ -16070,7 +16070,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2124)
     public long getFeatureContactBackupFrequency() {
-        return getTimeInterval(Provisioning.A_zimbraFeatureContactBackupFrequency, 0L, true);
+        return getTimeInterval(2124, Provisioning.A_zimbraFeatureContactBackupFrequency, 0L);
     }
 
     /**
@@ -16187,7 +16187,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2125)
     public long getFeatureContactBackupLifeTime() {
-        return getTimeInterval(Provisioning.A_zimbraFeatureContactBackupLifeTime, 1296000000L, true);
+        return getTimeInterval(2125, Provisioning.A_zimbraFeatureContactBackupLifeTime, 1296000000L);
     }
 
     /**
@@ -16291,7 +16291,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1438)
     public boolean isFeatureDistributionListFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDistributionListFolderEnabled, false, true);
+        return getBooleanAttr(1438, Provisioning.A_zimbraFeatureDistributionListFolderEnabled, false);
     }
 
     /**
@@ -16361,7 +16361,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=227)
     public long getFileUploadMaxSize() {
-        return getLongAttr(Provisioning.A_zimbraFileUploadMaxSize, 10485760L, true);
+        return getLongAttr(227, Provisioning.A_zimbraFileUploadMaxSize, 10485760L);
     }
 
     /**
@@ -16427,7 +16427,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1350)
     public long getFileUploadMaxSizePerFile() {
-        return getLongAttr(Provisioning.A_zimbraFileUploadMaxSizePerFile, 2147483648L, true);
+        return getLongAttr(1350, Provisioning.A_zimbraFileUploadMaxSizePerFile, 2147483648L);
     }
 
     /**
@@ -16508,7 +16508,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1437)
     public boolean isForceClearCookies() {
-        return getBooleanAttr(Provisioning.A_zimbraForceClearCookies, false, true);
+        return getBooleanAttr(1437, Provisioning.A_zimbraForceClearCookies, false);
     }
 
     /**
@@ -16867,7 +16867,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=621)
     public long getFreebusyExchangeCachedInterval() {
-        return getTimeInterval(Provisioning.A_zimbraFreebusyExchangeCachedInterval, 5184000000L, true);
+        return getTimeInterval(621, Provisioning.A_zimbraFreebusyExchangeCachedInterval, 5184000000L);
     }
 
     /**
@@ -16980,7 +16980,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=620)
     public long getFreebusyExchangeCachedIntervalStart() {
-        return getTimeInterval(Provisioning.A_zimbraFreebusyExchangeCachedIntervalStart, 604800000L, true);
+        return getTimeInterval(620, Provisioning.A_zimbraFreebusyExchangeCachedIntervalStart, 604800000L);
     }
 
     /**
@@ -17524,7 +17524,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1026)
     public long getFreebusyPropagationRetryInterval() {
-        return getTimeInterval(Provisioning.A_zimbraFreebusyPropagationRetryInterval, 60000L, true);
+        return getTimeInterval(1026, Provisioning.A_zimbraFreebusyPropagationRetryInterval, 60000L);
     }
 
     /**
@@ -17850,7 +17850,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1093)
     public boolean isGalAlwaysIncludeLocalCalendarResources() {
-        return getBooleanAttr(Provisioning.A_zimbraGalAlwaysIncludeLocalCalendarResources, false, true);
+        return getBooleanAttr(1093, Provisioning.A_zimbraGalAlwaysIncludeLocalCalendarResources, false);
     }
 
     /**
@@ -17988,7 +17988,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1153)
     public boolean isGalGroupIndicatorEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraGalGroupIndicatorEnabled, true, true);
+        return getBooleanAttr(1153, Provisioning.A_zimbraGalGroupIndicatorEnabled, true);
     }
 
     /**
@@ -18443,7 +18443,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=583)
     public int getGalLdapPageSize() {
-        return getIntAttr(Provisioning.A_zimbraGalLdapPageSize, 1000, true);
+        return getIntAttr(583, Provisioning.A_zimbraGalLdapPageSize, 1000);
     }
 
     /**
@@ -18664,7 +18664,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=53)
     public int getGalMaxResults() {
-        return getIntAttr(Provisioning.A_zimbraGalMaxResults, 100, true);
+        return getIntAttr(53, Provisioning.A_zimbraGalMaxResults, 100);
     }
 
     /**
@@ -18818,7 +18818,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=597)
     public int getGalSyncLdapPageSize() {
-        return getIntAttr(Provisioning.A_zimbraGalSyncLdapPageSize, 1000, true);
+        return getIntAttr(597, Provisioning.A_zimbraGalSyncLdapPageSize, 1000);
     }
 
     /**
@@ -18903,7 +18903,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1154)
     public int getGalSyncMaxConcurrentClients() {
-        return getIntAttr(Provisioning.A_zimbraGalSyncMaxConcurrentClients, 2, true);
+        return getIntAttr(1154, Provisioning.A_zimbraGalSyncMaxConcurrentClients, 2);
     }
 
     /**
@@ -18980,7 +18980,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2097)
     public int getGalSyncSizeLimit() {
-        return getIntAttr(Provisioning.A_zimbraGalSyncSizeLimit, 30000, true);
+        return getIntAttr(2097, Provisioning.A_zimbraGalSyncSizeLimit, 30000);
     }
 
     /**
@@ -20014,7 +20014,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=8)
     public long getHsmAge() {
-        return getTimeInterval(Provisioning.A_zimbraHsmAge, 2592000000L, true);
+        return getTimeInterval(8, Provisioning.A_zimbraHsmAge, 2592000000L);
     }
 
     /**
@@ -20115,7 +20115,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1316)
     public int getHsmBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraHsmBatchSize, 10000, true);
+        return getIntAttr(1316, Provisioning.A_zimbraHsmBatchSize, 10000);
     }
 
     /**
@@ -20197,7 +20197,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1393)
     public boolean isHsmMovePreviousRevisions() {
-        return getBooleanAttr(Provisioning.A_zimbraHsmMovePreviousRevisions, false, true);
+        return getBooleanAttr(1393, Provisioning.A_zimbraHsmMovePreviousRevisions, false);
     }
 
     /**
@@ -20447,7 +20447,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1467)
     public boolean isHttpCompressionEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraHttpCompressionEnabled, true, true);
+        return getBooleanAttr(1467, Provisioning.A_zimbraHttpCompressionEnabled, true);
     }
 
     /**
@@ -20522,7 +20522,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1428)
     public int getHttpConnectorMaxIdleTimeMillis() {
-        return getIntAttr(Provisioning.A_zimbraHttpConnectorMaxIdleTimeMillis, 60000, true);
+        return getIntAttr(1428, Provisioning.A_zimbraHttpConnectorMaxIdleTimeMillis, 60000);
     }
 
     /**
@@ -20758,7 +20758,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1043)
     public boolean isHttpDebugHandlerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraHttpDebugHandlerEnabled, true, true);
+        return getBooleanAttr(1043, Provisioning.A_zimbraHttpDebugHandlerEnabled, true);
     }
 
     /**
@@ -20832,7 +20832,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1430)
     public int getHttpDosFilterDelayMillis() {
-        return getIntAttr(Provisioning.A_zimbraHttpDosFilterDelayMillis, -1, true);
+        return getIntAttr(1430, Provisioning.A_zimbraHttpDosFilterDelayMillis, -1);
     }
 
     /**
@@ -20913,7 +20913,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1431)
     public int getHttpDosFilterMaxRequestsPerSec() {
-        return getIntAttr(Provisioning.A_zimbraHttpDosFilterMaxRequestsPerSec, 30, true);
+        return getIntAttr(1431, Provisioning.A_zimbraHttpDosFilterMaxRequestsPerSec, 30);
     }
 
     /**
@@ -20990,7 +20990,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1582)
     public int getHttpHeaderCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraHttpHeaderCacheSize, 512, true);
+        return getIntAttr(1582, Provisioning.A_zimbraHttpHeaderCacheSize, 512);
     }
 
     /**
@@ -21067,7 +21067,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1612)
     public int getHttpMaxFormContentSize() {
-        return getIntAttr(Provisioning.A_zimbraHttpMaxFormContentSize, 200000, true);
+        return getIntAttr(1612, Provisioning.A_zimbraHttpMaxFormContentSize, 200000);
     }
 
     /**
@@ -21141,7 +21141,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=518)
     public int getHttpNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraHttpNumThreads, 250, true);
+        return getIntAttr(518, Provisioning.A_zimbraHttpNumThreads, 250);
     }
 
     /**
@@ -21206,7 +21206,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1579)
     public int getHttpOutputBufferSize() {
-        return getIntAttr(Provisioning.A_zimbraHttpOutputBufferSize, 32768, true);
+        return getIntAttr(1579, Provisioning.A_zimbraHttpOutputBufferSize, 32768);
     }
 
     /**
@@ -21407,7 +21407,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1580)
     public int getHttpRequestHeaderSize() {
-        return getIntAttr(Provisioning.A_zimbraHttpRequestHeaderSize, 8192, true);
+        return getIntAttr(1580, Provisioning.A_zimbraHttpRequestHeaderSize, 8192);
     }
 
     /**
@@ -21479,7 +21479,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1581)
     public int getHttpResponseHeaderSize() {
-        return getIntAttr(Provisioning.A_zimbraHttpResponseHeaderSize, 8192, true);
+        return getIntAttr(1581, Provisioning.A_zimbraHttpResponseHeaderSize, 8192);
     }
 
     /**
@@ -21550,7 +21550,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=519)
     public int getHttpSSLNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraHttpSSLNumThreads, 50, true);
+        return getIntAttr(519, Provisioning.A_zimbraHttpSSLNumThreads, 50);
     }
 
     /**
@@ -21619,7 +21619,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1429)
     public int getHttpThreadPoolMaxIdleTimeMillis() {
-        return getIntAttr(Provisioning.A_zimbraHttpThreadPoolMaxIdleTimeMillis, 10000, true);
+        return getIntAttr(1429, Provisioning.A_zimbraHttpThreadPoolMaxIdleTimeMillis, 10000);
     }
 
     /**
@@ -21963,7 +21963,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3005)
     public long getImapActiveSessionEhcacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraImapActiveSessionEhcacheMaxDiskSize, 107374182400L, true);
+        return getLongAttr(3005, Provisioning.A_zimbraImapActiveSessionEhcacheMaxDiskSize, 107374182400L);
     }
 
     /**
@@ -22047,7 +22047,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=268)
     public boolean isImapBindOnStartup() {
-        return getBooleanAttr(Provisioning.A_zimbraImapBindOnStartup, true, true);
+        return getBooleanAttr(268, Provisioning.A_zimbraImapBindOnStartup, true);
     }
 
     /**
@@ -22121,7 +22121,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=180)
     public int getImapBindPort() {
-        return getIntAttr(Provisioning.A_zimbraImapBindPort, 7143, true);
+        return getIntAttr(180, Provisioning.A_zimbraImapBindPort, 7143);
     }
 
     /**
@@ -22220,7 +22220,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=185)
     public boolean isImapCleartextLoginEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraImapCleartextLoginEnabled, false, true);
+        return getBooleanAttr(185, Provisioning.A_zimbraImapCleartextLoginEnabled, false);
     }
 
     /**
@@ -22409,7 +22409,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1909)
     public boolean isImapDisplayMailFoldersOnly() {
-        return getBooleanAttr(Provisioning.A_zimbraImapDisplayMailFoldersOnly, true, true);
+        return getBooleanAttr(1909, Provisioning.A_zimbraImapDisplayMailFoldersOnly, true);
     }
 
     /**
@@ -22481,7 +22481,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=693)
     public boolean isImapExposeVersionOnBanner() {
-        return getBooleanAttr(Provisioning.A_zimbraImapExposeVersionOnBanner, false, true);
+        return getBooleanAttr(693, Provisioning.A_zimbraImapExposeVersionOnBanner, false);
     }
 
     /**
@@ -22556,7 +22556,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2013)
     public long getImapInactiveSessionCacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraImapInactiveSessionCacheMaxDiskSize, 10737418240L, true);
+        return getLongAttr(2013, Provisioning.A_zimbraImapInactiveSessionCacheMaxDiskSize, 10737418240L);
     }
 
     /**
@@ -22643,7 +22643,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3006)
     public long getImapInactiveSessionEhcacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraImapInactiveSessionEhcacheMaxDiskSize, 107374182400L, true);
+        return getLongAttr(3006, Provisioning.A_zimbraImapInactiveSessionEhcacheMaxDiskSize, 107374182400L);
     }
 
     /**
@@ -22730,7 +22730,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3004)
     public long getImapInactiveSessionEhcacheSize() {
-        return getLongAttr(Provisioning.A_zimbraImapInactiveSessionEhcacheSize, 1048576L, true);
+        return getLongAttr(3004, Provisioning.A_zimbraImapInactiveSessionEhcacheSize, 1048576L);
     }
 
     /**
@@ -22902,7 +22902,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1156)
     public int getImapMaxConnections() {
-        return getIntAttr(Provisioning.A_zimbraImapMaxConnections, 200, true);
+        return getIntAttr(1156, Provisioning.A_zimbraImapMaxConnections, 200);
     }
 
     /**
@@ -22978,7 +22978,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1085)
     public int getImapMaxRequestSize() {
-        return getIntAttr(Provisioning.A_zimbraImapMaxRequestSize, 10240, true);
+        return getIntAttr(1085, Provisioning.A_zimbraImapMaxRequestSize, 10240);
     }
 
     /**
@@ -23048,7 +23048,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=181)
     public int getImapNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraImapNumThreads, 200, true);
+        return getIntAttr(181, Provisioning.A_zimbraImapNumThreads, 200);
     }
 
     /**
@@ -23114,7 +23114,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=348)
     public int getImapProxyBindPort() {
-        return getIntAttr(Provisioning.A_zimbraImapProxyBindPort, 143, true);
+        return getIntAttr(348, Provisioning.A_zimbraImapProxyBindPort, 143);
     }
 
     /**
@@ -23215,7 +23215,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=269)
     public boolean isImapSSLBindOnStartup() {
-        return getBooleanAttr(Provisioning.A_zimbraImapSSLBindOnStartup, true, true);
+        return getBooleanAttr(269, Provisioning.A_zimbraImapSSLBindOnStartup, true);
     }
 
     /**
@@ -23289,7 +23289,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=183)
     public int getImapSSLBindPort() {
-        return getIntAttr(Provisioning.A_zimbraImapSSLBindPort, 7993, true);
+        return getIntAttr(183, Provisioning.A_zimbraImapSSLBindPort, 7993);
     }
 
     /**
@@ -23517,7 +23517,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=349)
     public int getImapSSLProxyBindPort() {
-        return getIntAttr(Provisioning.A_zimbraImapSSLProxyBindPort, 993, true);
+        return getIntAttr(349, Provisioning.A_zimbraImapSSLProxyBindPort, 993);
     }
 
     /**
@@ -23616,7 +23616,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=184)
     public boolean isImapSSLServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraImapSSLServerEnabled, true, true);
+        return getBooleanAttr(184, Provisioning.A_zimbraImapSSLServerEnabled, true);
     }
 
     /**
@@ -23680,7 +23680,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=555)
     public boolean isImapSaslGssapiEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraImapSaslGssapiEnabled, false, true);
+        return getBooleanAttr(555, Provisioning.A_zimbraImapSaslGssapiEnabled, false);
     }
 
     /**
@@ -23750,7 +23750,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=176)
     public boolean isImapServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraImapServerEnabled, true, true);
+        return getBooleanAttr(176, Provisioning.A_zimbraImapServerEnabled, true);
     }
 
     /**
@@ -23814,7 +23814,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1080)
     public int getImapShutdownGraceSeconds() {
-        return getIntAttr(Provisioning.A_zimbraImapShutdownGraceSeconds, 10, true);
+        return getIntAttr(1080, Provisioning.A_zimbraImapShutdownGraceSeconds, 10);
     }
 
     /**
@@ -24030,7 +24030,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1386)
     public boolean isInternalSharingCrossDomainEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraInternalSharingCrossDomainEnabled, true, true);
+        return getBooleanAttr(1386, Provisioning.A_zimbraInternalSharingCrossDomainEnabled, true);
     }
 
     /**
@@ -24108,7 +24108,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1614)
     public int getInvalidLoginFilterDelayInMinBetwnReqBeforeReinstating() {
-        return getIntAttr(Provisioning.A_zimbraInvalidLoginFilterDelayInMinBetwnReqBeforeReinstating, 15, true);
+        return getIntAttr(1614, Provisioning.A_zimbraInvalidLoginFilterDelayInMinBetwnReqBeforeReinstating, 15);
     }
 
     /**
@@ -24190,7 +24190,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1613)
     public int getInvalidLoginFilterMaxFailedLogin() {
-        return getIntAttr(Provisioning.A_zimbraInvalidLoginFilterMaxFailedLogin, 10, true);
+        return getIntAttr(1613, Provisioning.A_zimbraInvalidLoginFilterMaxFailedLogin, 10);
     }
 
     /**
@@ -24272,7 +24272,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1618)
     public int getInvalidLoginFilterMaxSizeOfFailedIpDb() {
-        return getIntAttr(Provisioning.A_zimbraInvalidLoginFilterMaxSizeOfFailedIpDb, 7000, true);
+        return getIntAttr(1618, Provisioning.A_zimbraInvalidLoginFilterMaxSizeOfFailedIpDb, 7000);
     }
 
     /**
@@ -24354,7 +24354,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1615)
     public int getInvalidLoginFilterReinstateIpTaskIntervalInMin() {
-        return getIntAttr(Provisioning.A_zimbraInvalidLoginFilterReinstateIpTaskIntervalInMin, 5, true);
+        return getIntAttr(1615, Provisioning.A_zimbraInvalidLoginFilterReinstateIpTaskIntervalInMin, 5);
     }
 
     /**
@@ -24434,7 +24434,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1451)
     public int getItemActionBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraItemActionBatchSize, 1000, true);
+        return getIntAttr(1451, Provisioning.A_zimbraItemActionBatchSize, 1000);
     }
 
     /**
@@ -24585,7 +24585,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=114)
     public long getLastLogonTimestampFrequency() {
-        return getTimeInterval(Provisioning.A_zimbraLastLogonTimestampFrequency, 604800000L, true);
+        return getTimeInterval(114, Provisioning.A_zimbraLastLogonTimestampFrequency, 604800000L);
     }
 
     /**
@@ -24693,7 +24693,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1382)
     public long getLastPurgeMaxDuration() {
-        return getTimeInterval(Provisioning.A_zimbraLastPurgeMaxDuration, 2592000000L, true);
+        return getTimeInterval(1382, Provisioning.A_zimbraLastPurgeMaxDuration, 2592000000L);
     }
 
     /**
@@ -24802,7 +24802,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1420)
     public boolean isLdapGalSyncDisabled() {
-        return getBooleanAttr(Provisioning.A_zimbraLdapGalSyncDisabled, false, true);
+        return getBooleanAttr(1420, Provisioning.A_zimbraLdapGalSyncDisabled, false);
     }
 
     /**
@@ -24880,7 +24880,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2018)
     public boolean isLdapGentimeFractionalSecondsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraLdapGentimeFractionalSecondsEnabled, true, true);
+        return getBooleanAttr(2018, Provisioning.A_zimbraLdapGentimeFractionalSecondsEnabled, true);
     }
 
     /**
@@ -24976,7 +24976,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=270)
     public boolean isLmtpBindOnStartup() {
-        return getBooleanAttr(Provisioning.A_zimbraLmtpBindOnStartup, false, true);
+        return getBooleanAttr(270, Provisioning.A_zimbraLmtpBindOnStartup, false);
     }
 
     /**
@@ -25050,7 +25050,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=24)
     public int getLmtpBindPort() {
-        return getIntAttr(Provisioning.A_zimbraLmtpBindPort, 7025, true);
+        return getIntAttr(24, Provisioning.A_zimbraLmtpBindPort, 7025);
     }
 
     /**
@@ -25151,7 +25151,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=691)
     public boolean isLmtpExposeVersionOnBanner() {
-        return getBooleanAttr(Provisioning.A_zimbraLmtpExposeVersionOnBanner, false, true);
+        return getBooleanAttr(691, Provisioning.A_zimbraLmtpExposeVersionOnBanner, false);
     }
 
     /**
@@ -25224,7 +25224,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1675)
     public boolean isLmtpLHLORequired() {
-        return getBooleanAttr(Provisioning.A_zimbraLmtpLHLORequired, true, true);
+        return getBooleanAttr(1675, Provisioning.A_zimbraLmtpLHLORequired, true);
     }
 
     /**
@@ -25299,7 +25299,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=26)
     public int getLmtpNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraLmtpNumThreads, 20, true);
+        return getIntAttr(26, Provisioning.A_zimbraLmtpNumThreads, 20);
     }
 
     /**
@@ -25368,7 +25368,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=657)
     public boolean isLmtpPermanentFailureWhenOverQuota() {
-        return getBooleanAttr(Provisioning.A_zimbraLmtpPermanentFailureWhenOverQuota, false, true);
+        return getBooleanAttr(657, Provisioning.A_zimbraLmtpPermanentFailureWhenOverQuota, false);
     }
 
     /**
@@ -25444,7 +25444,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=630)
     public boolean isLmtpServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraLmtpServerEnabled, true, true);
+        return getBooleanAttr(630, Provisioning.A_zimbraLmtpServerEnabled, true);
     }
 
     /**
@@ -25516,7 +25516,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1082)
     public int getLmtpShutdownGraceSeconds() {
-        return getIntAttr(Provisioning.A_zimbraLmtpShutdownGraceSeconds, 10, true);
+        return getIntAttr(1082, Provisioning.A_zimbraLmtpShutdownGraceSeconds, 10);
     }
 
     /**
@@ -25772,7 +25772,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=263)
     public long getLogRawLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraLogRawLifetime, 2678400000L, true);
+        return getTimeInterval(263, Provisioning.A_zimbraLogRawLifetime, 2678400000L);
     }
 
     /**
@@ -25872,7 +25872,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=264)
     public long getLogSummaryLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraLogSummaryLifetime, 63072000000L, true);
+        return getTimeInterval(264, Provisioning.A_zimbraLogSummaryLifetime, 63072000000L);
     }
 
     /**
@@ -25964,7 +25964,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=520)
     public boolean isLogToSyslog() {
-        return getBooleanAttr(Provisioning.A_zimbraLogToSyslog, false, true);
+        return getBooleanAttr(520, Provisioning.A_zimbraLogToSyslog, false);
     }
 
     /**
@@ -26028,7 +26028,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1589)
     public int getLowestSupportedAuthVersion() {
-        return getIntAttr(Provisioning.A_zimbraLowestSupportedAuthVersion, 2, true);
+        return getIntAttr(1589, Provisioning.A_zimbraLowestSupportedAuthVersion, 2);
     }
 
     /**
@@ -26238,7 +26238,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=791)
     public boolean isMailClearTextPasswordEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMailClearTextPasswordEnabled, true, true);
+        return getBooleanAttr(791, Provisioning.A_zimbraMailClearTextPasswordEnabled, true);
     }
 
     /**
@@ -26327,7 +26327,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=807)
     public long getMailContentMaxSize() {
-        return getLongAttr(Provisioning.A_zimbraMailContentMaxSize, 10240000L, true);
+        return getLongAttr(807, Provisioning.A_zimbraMailContentMaxSize, 10240000L);
     }
 
     /**
@@ -26405,7 +26405,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=565)
     public int getMailDiskStreamingThreshold() {
-        return getIntAttr(Provisioning.A_zimbraMailDiskStreamingThreshold, 1048576, true);
+        return getIntAttr(565, Provisioning.A_zimbraMailDiskStreamingThreshold, 1048576);
     }
 
     /**
@@ -26486,7 +26486,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1326)
     public long getMailDomainQuota() {
-        return getLongAttr(Provisioning.A_zimbraMailDomainQuota, 0L, true);
+        return getLongAttr(1326, Provisioning.A_zimbraMailDomainQuota, 0L);
     }
 
     /**
@@ -26563,7 +26563,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1097)
     public int getMailEmptyFolderBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraMailEmptyFolderBatchSize, 1000, true);
+        return getIntAttr(1097, Provisioning.A_zimbraMailEmptyFolderBatchSize, 1000);
     }
 
     /**
@@ -26642,7 +26642,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1208)
     public int getMailEmptyFolderBatchThreshold() {
-        return getIntAttr(Provisioning.A_zimbraMailEmptyFolderBatchThreshold, 100000, true);
+        return getIntAttr(1208, Provisioning.A_zimbraMailEmptyFolderBatchThreshold, 100000);
     }
 
     /**
@@ -26728,7 +26728,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1035)
     public int getMailFileDescriptorBufferSize() {
-        return getIntAttr(Provisioning.A_zimbraMailFileDescriptorBufferSize, 4096, true);
+        return getIntAttr(1035, Provisioning.A_zimbraMailFileDescriptorBufferSize, 4096);
     }
 
     /**
@@ -26809,7 +26809,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1034)
     public int getMailFileDescriptorCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraMailFileDescriptorCacheSize, 1000, true);
+        return getIntAttr(1034, Provisioning.A_zimbraMailFileDescriptorCacheSize, 1000);
     }
 
     /**
@@ -26886,7 +26886,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1161)
     public boolean isMailKeepOutWebCrawlers() {
-        return getBooleanAttr(Provisioning.A_zimbraMailKeepOutWebCrawlers, false, true);
+        return getBooleanAttr(1161, Provisioning.A_zimbraMailKeepOutWebCrawlers, false);
     }
 
     /**
@@ -27087,7 +27087,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=154)
     public int getMailPort() {
-        return getIntAttr(Provisioning.A_zimbraMailPort, 80, true);
+        return getIntAttr(154, Provisioning.A_zimbraMailPort, 80);
     }
 
     /**
@@ -27192,7 +27192,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1358)
     public int getMailProxyMaxFails() {
-        return getIntAttr(Provisioning.A_zimbraMailProxyMaxFails, 1, true);
+        return getIntAttr(1358, Provisioning.A_zimbraMailProxyMaxFails, 1);
     }
 
     /**
@@ -27284,7 +27284,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=626)
     public int getMailProxyPort() {
-        return getIntAttr(Provisioning.A_zimbraMailProxyPort, 0, true);
+        return getIntAttr(626, Provisioning.A_zimbraMailProxyPort, 0);
     }
 
     /**
@@ -27479,7 +27479,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1096)
     public int getMailPurgeBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraMailPurgeBatchSize, 1000, true);
+        return getIntAttr(1096, Provisioning.A_zimbraMailPurgeBatchSize, 1000);
     }
 
     /**
@@ -27571,7 +27571,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=542)
     public long getMailPurgeSleepInterval() {
-        return getTimeInterval(Provisioning.A_zimbraMailPurgeSleepInterval, 60000L, true);
+        return getTimeInterval(542, Provisioning.A_zimbraMailPurgeSleepInterval, 60000L);
     }
 
     /**
@@ -27759,7 +27759,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=764)
     public boolean isMailRedirectSetEnvelopeSender() {
-        return getBooleanAttr(Provisioning.A_zimbraMailRedirectSetEnvelopeSender, true, true);
+        return getBooleanAttr(764, Provisioning.A_zimbraMailRedirectSetEnvelopeSender, true);
     }
 
     /**
@@ -28221,7 +28221,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1395)
     public boolean isMailSSLClientCertOCSPEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMailSSLClientCertOCSPEnabled, true, true);
+        return getBooleanAttr(1395, Provisioning.A_zimbraMailSSLClientCertOCSPEnabled, true);
     }
 
     /**
@@ -28297,7 +28297,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1199)
     public int getMailSSLClientCertPort() {
-        return getIntAttr(Provisioning.A_zimbraMailSSLClientCertPort, 9443, true);
+        return getIntAttr(1199, Provisioning.A_zimbraMailSSLClientCertPort, 9443);
     }
 
     /**
@@ -28624,7 +28624,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1216)
     public boolean isMailSSLClientCertPrincipalMapLdapFilterEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMailSSLClientCertPrincipalMapLdapFilterEnabled, false, true);
+        return getBooleanAttr(1216, Provisioning.A_zimbraMailSSLClientCertPrincipalMapLdapFilterEnabled, false);
     }
 
     /**
@@ -28698,7 +28698,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=166)
     public int getMailSSLPort() {
-        return getIntAttr(Provisioning.A_zimbraMailSSLPort, 0, true);
+        return getIntAttr(166, Provisioning.A_zimbraMailSSLPort, 0);
     }
 
     /**
@@ -28803,7 +28803,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1212)
     public int getMailSSLProxyClientCertPort() {
-        return getIntAttr(Provisioning.A_zimbraMailSSLProxyClientCertPort, 3443, true);
+        return getIntAttr(1212, Provisioning.A_zimbraMailSSLProxyClientCertPort, 3443);
     }
 
     /**
@@ -28922,7 +28922,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=627)
     public int getMailSSLProxyPort() {
-        return getIntAttr(Provisioning.A_zimbraMailSSLProxyPort, 0, true);
+        return getIntAttr(627, Provisioning.A_zimbraMailSSLProxyPort, 0);
     }
 
     /**
@@ -29043,7 +29043,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2095)
     public boolean isMailSieveNotifyActionRFCCompliant() {
-        return getBooleanAttr(Provisioning.A_zimbraMailSieveNotifyActionRFCCompliant, false, true);
+        return getBooleanAttr(2095, Provisioning.A_zimbraMailSieveNotifyActionRFCCompliant, false);
     }
 
     /**
@@ -29419,7 +29419,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=825)
     public long getMailUncompressedCacheMaxBytes() {
-        return getLongAttr(Provisioning.A_zimbraMailUncompressedCacheMaxBytes, 1073741824L, true);
+        return getLongAttr(825, Provisioning.A_zimbraMailUncompressedCacheMaxBytes, 1073741824L);
     }
 
     /**
@@ -29506,7 +29506,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=824)
     public int getMailUncompressedCacheMaxFiles() {
-        return getIntAttr(Provisioning.A_zimbraMailUncompressedCacheMaxFiles, 5000, true);
+        return getIntAttr(824, Provisioning.A_zimbraMailUncompressedCacheMaxFiles, 5000);
     }
 
     /**
@@ -29592,7 +29592,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1002)
     public boolean isMailUseDirectBuffers() {
-        return getBooleanAttr(Provisioning.A_zimbraMailUseDirectBuffers, false, true);
+        return getBooleanAttr(1002, Provisioning.A_zimbraMailUseDirectBuffers, false);
     }
 
     /**
@@ -29683,7 +29683,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2079)
     public long getMailboxMoveFailedCleanupTaskInterval() {
-        return getTimeInterval(Provisioning.A_zimbraMailboxMoveFailedCleanupTaskInterval, 1200000L, true);
+        return getTimeInterval(2079, Provisioning.A_zimbraMailboxMoveFailedCleanupTaskInterval, 1200000L);
     }
 
     /**
@@ -29802,7 +29802,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1007)
     public boolean isMailboxMoveSkipBlobs() {
-        return getBooleanAttr(Provisioning.A_zimbraMailboxMoveSkipBlobs, false, true);
+        return getBooleanAttr(1007, Provisioning.A_zimbraMailboxMoveSkipBlobs, false);
     }
 
     /**
@@ -29874,7 +29874,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1008)
     public boolean isMailboxMoveSkipHsmBlobs() {
-        return getBooleanAttr(Provisioning.A_zimbraMailboxMoveSkipHsmBlobs, false, true);
+        return getBooleanAttr(1008, Provisioning.A_zimbraMailboxMoveSkipHsmBlobs, false);
     }
 
     /**
@@ -29946,7 +29946,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1006)
     public boolean isMailboxMoveSkipSearchIndex() {
-        return getBooleanAttr(Provisioning.A_zimbraMailboxMoveSkipSearchIndex, false, true);
+        return getBooleanAttr(1006, Provisioning.A_zimbraMailboxMoveSkipSearchIndex, false);
     }
 
     /**
@@ -30098,7 +30098,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2053)
     public long getMailboxThrottleReapInterval() {
-        return getTimeInterval(Provisioning.A_zimbraMailboxThrottleReapInterval, 60000L, true);
+        return getTimeInterval(2053, Provisioning.A_zimbraMailboxThrottleReapInterval, 60000L);
     }
 
     /**
@@ -30355,7 +30355,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1832)
     public boolean isMailboxdSSLRenegotiationAllowed() {
-        return getBooleanAttr(Provisioning.A_zimbraMailboxdSSLRenegotiationAllowed, true, true);
+        return getBooleanAttr(1832, Provisioning.A_zimbraMailboxdSSLRenegotiationAllowed, true);
     }
 
     /**
@@ -30435,7 +30435,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=580)
     public int getMemcachedBindPort() {
-        return getIntAttr(Provisioning.A_zimbraMemcachedBindPort, 11211, true);
+        return getIntAttr(580, Provisioning.A_zimbraMemcachedBindPort, 11211);
     }
 
     /**
@@ -30551,7 +30551,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1015)
     public boolean isMemcachedClientBinaryProtocolEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMemcachedClientBinaryProtocolEnabled, false, true);
+        return getBooleanAttr(1015, Provisioning.A_zimbraMemcachedClientBinaryProtocolEnabled, false);
     }
 
     /**
@@ -30628,7 +30628,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1017)
     public int getMemcachedClientExpirySeconds() {
-        return getIntAttr(Provisioning.A_zimbraMemcachedClientExpirySeconds, 86400, true);
+        return getIntAttr(1017, Provisioning.A_zimbraMemcachedClientExpirySeconds, 86400);
     }
 
     /**
@@ -30919,7 +30919,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1018)
     public int getMemcachedClientTimeoutMillis() {
-        return getIntAttr(Provisioning.A_zimbraMemcachedClientTimeoutMillis, 10000, true);
+        return getIntAttr(1018, Provisioning.A_zimbraMemcachedClientTimeoutMillis, 10000);
     }
 
     /**
@@ -30989,7 +30989,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=297)
     public int getMessageCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraMessageCacheSize, 2000, true);
+        return getIntAttr(297, Provisioning.A_zimbraMessageCacheSize, 2000);
     }
 
     /**
@@ -31053,7 +31053,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1417)
     public boolean isMessageChannelEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMessageChannelEnabled, false, true);
+        return getBooleanAttr(1417, Provisioning.A_zimbraMessageChannelEnabled, false);
     }
 
     /**
@@ -31125,7 +31125,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1415)
     public int getMessageChannelPort() {
-        return getIntAttr(Provisioning.A_zimbraMessageChannelPort, 7285, true);
+        return getIntAttr(1415, Provisioning.A_zimbraMessageChannelPort, 7285);
     }
 
     /**
@@ -31197,7 +31197,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=334)
     public int getMessageIdDedupeCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraMessageIdDedupeCacheSize, 3000, true);
+        return getIntAttr(334, Provisioning.A_zimbraMessageIdDedupeCacheSize, 3000);
     }
 
     /**
@@ -31278,7 +31278,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1340)
     public long getMessageIdDedupeCacheTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraMessageIdDedupeCacheTimeout, 0L, true);
+        return getTimeInterval(1340, Provisioning.A_zimbraMessageIdDedupeCacheTimeout, 0L);
     }
 
     /**
@@ -31391,7 +31391,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1114)
     public int getMilterBindPort() {
-        return getIntAttr(Provisioning.A_zimbraMilterBindPort, 7026, true);
+        return getIntAttr(1114, Provisioning.A_zimbraMilterBindPort, 7026);
     }
 
     /**
@@ -31507,7 +31507,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1157)
     public int getMilterMaxConnections() {
-        return getIntAttr(Provisioning.A_zimbraMilterMaxConnections, 20000, true);
+        return getIntAttr(1157, Provisioning.A_zimbraMilterMaxConnections, 20000);
     }
 
     /**
@@ -31583,7 +31583,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1144)
     public int getMilterNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraMilterNumThreads, 100, true);
+        return getIntAttr(1144, Provisioning.A_zimbraMilterNumThreads, 100);
     }
 
     /**
@@ -31655,7 +31655,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1116)
     public boolean isMilterServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMilterServerEnabled, false, true);
+        return getBooleanAttr(1116, Provisioning.A_zimbraMilterServerEnabled, false);
     }
 
     /**
@@ -32371,7 +32371,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2031)
     public int getMobileGatewayProxyImapPort() {
-        return getIntAttr(Provisioning.A_zimbraMobileGatewayProxyImapPort, -1, true);
+        return getIntAttr(2031, Provisioning.A_zimbraMobileGatewayProxyImapPort, -1);
     }
 
     /**
@@ -32693,7 +32693,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2034)
     public int getMobileGatewayProxySmtpPort() {
-        return getIntAttr(Provisioning.A_zimbraMobileGatewayProxySmtpPort, -1, true);
+        return getIntAttr(2034, Provisioning.A_zimbraMobileGatewayProxySmtpPort, -1);
     }
 
     /**
@@ -32970,7 +32970,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1596)
     public int getMobileMaxMessageSize() {
-        return getIntAttr(Provisioning.A_zimbraMobileMaxMessageSize, 10240000, true);
+        return getIntAttr(1596, Provisioning.A_zimbraMobileMaxMessageSize, 10240000);
     }
 
     /**
@@ -33048,7 +33048,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1425)
     public boolean isMobileMetadataMaxSizeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileMetadataMaxSizeEnabled, false, true);
+        return getBooleanAttr(1425, Provisioning.A_zimbraMobileMetadataMaxSizeEnabled, false);
     }
 
     /**
@@ -33870,7 +33870,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=194)
     public boolean isMtaAuthEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaAuthEnabled, true, true);
+        return getBooleanAttr(194, Provisioning.A_zimbraMtaAuthEnabled, true);
     }
 
     /**
@@ -34098,7 +34098,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1906)
     public int getMtaAuthPort() {
-        return getIntAttr(Provisioning.A_zimbraMtaAuthPort, 7073, true);
+        return getIntAttr(1906, Provisioning.A_zimbraMtaAuthPort, 7073);
     }
 
     /**
@@ -34211,7 +34211,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=505)
     public boolean isMtaAuthTarget() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaAuthTarget, false, true);
+        return getBooleanAttr(505, Provisioning.A_zimbraMtaAuthTarget, false);
     }
 
     /**
@@ -34544,7 +34544,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1031)
     public boolean isMtaBlockedExtensionWarnAdmin() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaBlockedExtensionWarnAdmin, true, true);
+        return getBooleanAttr(1031, Provisioning.A_zimbraMtaBlockedExtensionWarnAdmin, true);
     }
 
     /**
@@ -34621,7 +34621,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1032)
     public boolean isMtaBlockedExtensionWarnRecipient() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaBlockedExtensionWarnRecipient, true, true);
+        return getBooleanAttr(1032, Provisioning.A_zimbraMtaBlockedExtensionWarnRecipient, true);
     }
 
     /**
@@ -35448,7 +35448,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=197)
     public boolean isMtaDnsLookupsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaDnsLookupsEnabled, true, true);
+        return getBooleanAttr(197, Provisioning.A_zimbraMtaDnsLookupsEnabled, true);
     }
 
     /**
@@ -35520,7 +35520,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1466)
     public boolean isMtaEnableSmtpdPolicyd() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaEnableSmtpdPolicyd, false, true);
+        return getBooleanAttr(1466, Provisioning.A_zimbraMtaEnableSmtpdPolicyd, false);
     }
 
     /**
@@ -35798,7 +35798,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1835)
     public int getMtaHopcountLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaHopcountLimit, 50, true);
+        return getIntAttr(1835, Provisioning.A_zimbraMtaHopcountLimit, 50);
     }
 
     /**
@@ -36077,7 +36077,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1489)
     public int getMtaLmdbMapSize() {
-        return getIntAttr(Provisioning.A_zimbraMtaLmdbMapSize, 16777216, true);
+        return getIntAttr(1489, Provisioning.A_zimbraMtaLmdbMapSize, 16777216);
     }
 
     /**
@@ -36824,7 +36824,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1665)
     public int getMtaLmtpTlsLoglevel() {
-        return getIntAttr(Provisioning.A_zimbraMtaLmtpTlsLoglevel, 0, true);
+        return getIntAttr(1665, Provisioning.A_zimbraMtaLmtpTlsLoglevel, 0);
     }
 
     /**
@@ -37450,7 +37450,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=198)
     public long getMtaMaxMessageSize() {
-        return getLongAttr(Provisioning.A_zimbraMtaMaxMessageSize, 10240000L, true);
+        return getLongAttr(198, Provisioning.A_zimbraMtaMaxMessageSize, 10240000L);
     }
 
     /**
@@ -37522,7 +37522,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1531)
     public int getMtaMaxUse() {
-        return getIntAttr(Provisioning.A_zimbraMtaMaxUse, 100, true);
+        return getIntAttr(1531, Provisioning.A_zimbraMtaMaxUse, 100);
     }
 
     /**
@@ -38720,7 +38720,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1530)
     public int getMtaPolicyTimeLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaPolicyTimeLimit, 3600, true);
+        return getIntAttr(1530, Provisioning.A_zimbraMtaPolicyTimeLimit, 3600);
     }
 
     /**
@@ -39478,7 +39478,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1924)
     public int getMtaPostscreenCommandCountLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaPostscreenCommandCountLimit, 20, true);
+        return getIntAttr(1924, Provisioning.A_zimbraMtaPostscreenCommandCountLimit, 20);
     }
 
     /**
@@ -40117,7 +40117,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1927)
     public int getMtaPostscreenDnsblThreshold() {
-        return getIntAttr(Provisioning.A_zimbraMtaPostscreenDnsblThreshold, 1, true);
+        return getIntAttr(1927, Provisioning.A_zimbraMtaPostscreenDnsblThreshold, 1);
     }
 
     /**
@@ -40261,7 +40261,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1930)
     public int getMtaPostscreenDnsblWhitelistThreshold() {
-        return getIntAttr(Provisioning.A_zimbraMtaPostscreenDnsblWhitelistThreshold, 0, true);
+        return getIntAttr(1930, Provisioning.A_zimbraMtaPostscreenDnsblWhitelistThreshold, 0);
     }
 
     /**
@@ -43796,7 +43796,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1568)
     public int getMtaSmtpTlsLoglevel() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpTlsLoglevel, 0, true);
+        return getIntAttr(1568, Provisioning.A_zimbraMtaSmtpTlsLoglevel, 0);
     }
 
     /**
@@ -44422,7 +44422,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2084)
     public int getMtaSmtpdClientAuthRateLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpdClientAuthRateLimit, 0, true);
+        return getIntAttr(2084, Provisioning.A_zimbraMtaSmtpdClientAuthRateLimit, 0);
     }
 
     /**
@@ -44841,7 +44841,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1537)
     public int getMtaSmtpdHardErrorLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpdHardErrorLimit, 20, true);
+        return getIntAttr(1537, Provisioning.A_zimbraMtaSmtpdHardErrorLimit, 20);
     }
 
     /**
@@ -45976,7 +45976,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2077)
     public int getMtaSmtpdSoftErrorLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpdSoftErrorLimit, 10, true);
+        return getIntAttr(2077, Provisioning.A_zimbraMtaSmtpdSoftErrorLimit, 10);
     }
 
     /**
@@ -46323,7 +46323,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1543)
     public int getMtaSmtpdTlsCcertVerifydepth() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpdTlsCcertVerifydepth, 9, true);
+        return getIntAttr(1543, Provisioning.A_zimbraMtaSmtpdTlsCcertVerifydepth, 9);
     }
 
     /**
@@ -46599,7 +46599,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1541)
     public int getMtaSmtpdTlsLoglevel() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpdTlsLoglevel, 1, true);
+        return getIntAttr(1541, Provisioning.A_zimbraMtaSmtpdTlsLoglevel, 1);
     }
 
     /**
@@ -47154,7 +47154,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1538)
     public int getMtaStpdSoftErrorLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaStpdSoftErrorLimit, 10, true);
+        return getIntAttr(1538, Provisioning.A_zimbraMtaStpdSoftErrorLimit, 10);
     }
 
     /**
@@ -47359,7 +47359,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=200)
     public boolean isMtaTlsAuthOnly() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaTlsAuthOnly, true, true);
+        return getBooleanAttr(200, Provisioning.A_zimbraMtaTlsAuthOnly, true);
     }
 
     /**
@@ -47626,7 +47626,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1606)
     public int getMtaUnverifiedRecipientDeferCode() {
-        return getIntAttr(Provisioning.A_zimbraMtaUnverifiedRecipientDeferCode, 250, true);
+        return getIntAttr(1606, Provisioning.A_zimbraMtaUnverifiedRecipientDeferCode, 250);
     }
 
     /**
@@ -47770,7 +47770,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1544)
     public int getMtaVirtualAliasExpansionLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaVirtualAliasExpansionLimit, 10000, true);
+        return getIntAttr(1544, Provisioning.A_zimbraMtaVirtualAliasExpansionLimit, 10000);
     }
 
     /**
@@ -48199,7 +48199,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2119)
     public boolean isNetworkAdminEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNetworkAdminEnabled, true, true);
+        return getBooleanAttr(2119, Provisioning.A_zimbraNetworkAdminEnabled, true);
     }
 
     /**
@@ -48279,7 +48279,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2130)
     public boolean isNetworkAdminNGEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNetworkAdminNGEnabled, false, true);
+        return getBooleanAttr(2130, Provisioning.A_zimbraNetworkAdminNGEnabled, false);
     }
 
     /**
@@ -48413,7 +48413,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2118)
     public boolean isNetworkMobileNGEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNetworkMobileNGEnabled, false, true);
+        return getBooleanAttr(2118, Provisioning.A_zimbraNetworkMobileNGEnabled, false);
     }
 
     /**
@@ -48486,7 +48486,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2117)
     public boolean isNetworkModulesNGEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNetworkModulesNGEnabled, false, true);
+        return getBooleanAttr(2117, Provisioning.A_zimbraNetworkModulesNGEnabled, false);
     }
 
     /**
@@ -48628,7 +48628,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=370)
     public int getNotebookFolderCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraNotebookFolderCacheSize, 1024, true);
+        return getIntAttr(370, Provisioning.A_zimbraNotebookFolderCacheSize, 1024);
     }
 
     /**
@@ -48695,7 +48695,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=371)
     public int getNotebookMaxCachedTemplatesPerFolder() {
-        return getIntAttr(Provisioning.A_zimbraNotebookMaxCachedTemplatesPerFolder, 256, true);
+        return getIntAttr(371, Provisioning.A_zimbraNotebookMaxCachedTemplatesPerFolder, 256);
     }
 
     /**
@@ -48761,7 +48761,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=369)
     public int getNotebookPageCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraNotebookPageCacheSize, 10240, true);
+        return getIntAttr(369, Provisioning.A_zimbraNotebookPageCacheSize, 10240);
     }
 
     /**
@@ -48959,7 +48959,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=318)
     public int getNotifyBindPort() {
-        return getIntAttr(Provisioning.A_zimbraNotifyBindPort, 7035, true);
+        return getIntAttr(318, Provisioning.A_zimbraNotifyBindPort, 7035);
     }
 
     /**
@@ -49165,7 +49165,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=321)
     public int getNotifySSLBindPort() {
-        return getIntAttr(Provisioning.A_zimbraNotifySSLBindPort, 7036, true);
+        return getIntAttr(321, Provisioning.A_zimbraNotifySSLBindPort, 7036);
     }
 
     /**
@@ -49236,7 +49236,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=319)
     public boolean isNotifySSLServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNotifySSLServerEnabled, true, true);
+        return getBooleanAttr(319, Provisioning.A_zimbraNotifySSLServerEnabled, true);
     }
 
     /**
@@ -49303,7 +49303,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=316)
     public boolean isNotifyServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNotifyServerEnabled, true, true);
+        return getBooleanAttr(316, Provisioning.A_zimbraNotifyServerEnabled, true);
     }
 
     /**
@@ -49810,7 +49810,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3012)
     public int getOpenImapFolderRequestChunkSize() {
-        return getIntAttr(Provisioning.A_zimbraOpenImapFolderRequestChunkSize, 1000, true);
+        return getIntAttr(3012, Provisioning.A_zimbraOpenImapFolderRequestChunkSize, 1000);
     }
 
     /**
@@ -50021,7 +50021,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1189)
     public boolean isOpenidConsumerStatelessModeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraOpenidConsumerStatelessModeEnabled, true, true);
+        return getBooleanAttr(1189, Provisioning.A_zimbraOpenidConsumerStatelessModeEnabled, true);
     }
 
     /**
@@ -50169,7 +50169,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=271)
     public boolean isPop3BindOnStartup() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3BindOnStartup, true, true);
+        return getBooleanAttr(271, Provisioning.A_zimbraPop3BindOnStartup, true);
     }
 
     /**
@@ -50243,7 +50243,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=94)
     public int getPop3BindPort() {
-        return getIntAttr(Provisioning.A_zimbraPop3BindPort, 7110, true);
+        return getIntAttr(94, Provisioning.A_zimbraPop3BindPort, 7110);
     }
 
     /**
@@ -50342,7 +50342,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=189)
     public boolean isPop3CleartextLoginEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3CleartextLoginEnabled, false, true);
+        return getBooleanAttr(189, Provisioning.A_zimbraPop3CleartextLoginEnabled, false);
     }
 
     /**
@@ -50406,7 +50406,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=692)
     public boolean isPop3ExposeVersionOnBanner() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3ExposeVersionOnBanner, false, true);
+        return getBooleanAttr(692, Provisioning.A_zimbraPop3ExposeVersionOnBanner, false);
     }
 
     /**
@@ -50479,7 +50479,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1155)
     public int getPop3MaxConnections() {
-        return getIntAttr(Provisioning.A_zimbraPop3MaxConnections, 200, true);
+        return getIntAttr(1155, Provisioning.A_zimbraPop3MaxConnections, 200);
     }
 
     /**
@@ -50553,7 +50553,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=96)
     public int getPop3NumThreads() {
-        return getIntAttr(Provisioning.A_zimbraPop3NumThreads, 100, true);
+        return getIntAttr(96, Provisioning.A_zimbraPop3NumThreads, 100);
     }
 
     /**
@@ -50619,7 +50619,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=350)
     public int getPop3ProxyBindPort() {
-        return getIntAttr(Provisioning.A_zimbraPop3ProxyBindPort, 110, true);
+        return getIntAttr(350, Provisioning.A_zimbraPop3ProxyBindPort, 110);
     }
 
     /**
@@ -50720,7 +50720,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=272)
     public boolean isPop3SSLBindOnStartup() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3SSLBindOnStartup, true, true);
+        return getBooleanAttr(272, Provisioning.A_zimbraPop3SSLBindOnStartup, true);
     }
 
     /**
@@ -50794,7 +50794,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=187)
     public int getPop3SSLBindPort() {
-        return getIntAttr(Provisioning.A_zimbraPop3SSLBindPort, 7995, true);
+        return getIntAttr(187, Provisioning.A_zimbraPop3SSLBindPort, 7995);
     }
 
     /**
@@ -50897,7 +50897,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=351)
     public int getPop3SSLProxyBindPort() {
-        return getIntAttr(Provisioning.A_zimbraPop3SSLProxyBindPort, 995, true);
+        return getIntAttr(351, Provisioning.A_zimbraPop3SSLProxyBindPort, 995);
     }
 
     /**
@@ -50996,7 +50996,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=188)
     public boolean isPop3SSLServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3SSLServerEnabled, true, true);
+        return getBooleanAttr(188, Provisioning.A_zimbraPop3SSLServerEnabled, true);
     }
 
     /**
@@ -51060,7 +51060,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=554)
     public boolean isPop3SaslGssapiEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3SaslGssapiEnabled, false, true);
+        return getBooleanAttr(554, Provisioning.A_zimbraPop3SaslGssapiEnabled, false);
     }
 
     /**
@@ -51130,7 +51130,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=177)
     public boolean isPop3ServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3ServerEnabled, true, true);
+        return getBooleanAttr(177, Provisioning.A_zimbraPop3ServerEnabled, true);
     }
 
     /**
@@ -51194,7 +51194,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1081)
     public int getPop3ShutdownGraceSeconds() {
-        return getIntAttr(Provisioning.A_zimbraPop3ShutdownGraceSeconds, 10, true);
+        return getIntAttr(1081, Provisioning.A_zimbraPop3ShutdownGraceSeconds, 10);
     }
 
     /**
@@ -51266,7 +51266,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1592)
     public int getPrevFoldersToTrackMax() {
-        return getIntAttr(Provisioning.A_zimbraPrevFoldersToTrackMax, 10, true);
+        return getIntAttr(1592, Provisioning.A_zimbraPrevFoldersToTrackMax, 10);
     }
 
     /**
@@ -51615,7 +51615,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=699)
     public int getPublicServicePort() {
-        return getIntAttr(Provisioning.A_zimbraPublicServicePort, -1, true);
+        return getIntAttr(699, Provisioning.A_zimbraPublicServicePort, -1);
     }
 
     /**
@@ -51803,7 +51803,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2017)
     public long getPurgedConversationsQueueSize() {
-        return getLongAttr(Provisioning.A_zimbraPurgedConversationsQueueSize, 1000000L, true);
+        return getLongAttr(2017, Provisioning.A_zimbraPurgedConversationsQueueSize, 1000000L);
     }
 
     /**
@@ -51943,7 +51943,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1009)
     public int getRedoLogCrashRecoveryLookbackSec() {
-        return getIntAttr(Provisioning.A_zimbraRedoLogCrashRecoveryLookbackSec, 10, true);
+        return getIntAttr(1009, Provisioning.A_zimbraRedoLogCrashRecoveryLookbackSec, 10);
     }
 
     /**
@@ -52021,7 +52021,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=251)
     public boolean isRedoLogDeleteOnRollover() {
-        return getBooleanAttr(Provisioning.A_zimbraRedoLogDeleteOnRollover, true, true);
+        return getBooleanAttr(251, Provisioning.A_zimbraRedoLogDeleteOnRollover, true);
     }
 
     /**
@@ -52083,7 +52083,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=74)
     public boolean isRedoLogEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraRedoLogEnabled, true, true);
+        return getBooleanAttr(74, Provisioning.A_zimbraRedoLogEnabled, true);
     }
 
     /**
@@ -52145,7 +52145,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=79)
     public int getRedoLogFsyncIntervalMS() {
-        return getIntAttr(Provisioning.A_zimbraRedoLogFsyncIntervalMS, 10, true);
+        return getIntAttr(79, Provisioning.A_zimbraRedoLogFsyncIntervalMS, 10);
     }
 
     /**
@@ -52386,7 +52386,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=78)
     public int getRedoLogRolloverFileSizeKB() {
-        return getIntAttr(Provisioning.A_zimbraRedoLogRolloverFileSizeKB, 1048576, true);
+        return getIntAttr(78, Provisioning.A_zimbraRedoLogRolloverFileSizeKB, 1048576);
     }
 
     /**
@@ -52455,7 +52455,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1021)
     public int getRedoLogRolloverHardMaxFileSizeKB() {
-        return getIntAttr(Provisioning.A_zimbraRedoLogRolloverHardMaxFileSizeKB, 4194304, true);
+        return getIntAttr(1021, Provisioning.A_zimbraRedoLogRolloverHardMaxFileSizeKB, 4194304);
     }
 
     /**
@@ -52532,7 +52532,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1020)
     public int getRedoLogRolloverMinFileAge() {
-        return getIntAttr(Provisioning.A_zimbraRedoLogRolloverMinFileAge, 60, true);
+        return getIntAttr(1020, Provisioning.A_zimbraRedoLogRolloverMinFileAge, 60);
     }
 
     /**
@@ -52611,7 +52611,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1643)
     public int getRegexMaxAccessesWhenMatching() {
-        return getIntAttr(Provisioning.A_zimbraRegexMaxAccessesWhenMatching, 1000000, true);
+        return getIntAttr(1643, Provisioning.A_zimbraRegexMaxAccessesWhenMatching, 1000000);
     }
 
     /**
@@ -52699,7 +52699,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3015)
     public int getRemoteImapBindPort() {
-        return getIntAttr(Provisioning.A_zimbraRemoteImapBindPort, 8143, true);
+        return getIntAttr(3015, Provisioning.A_zimbraRemoteImapBindPort, 8143);
     }
 
     /**
@@ -52818,7 +52818,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3016)
     public int getRemoteImapSSLBindPort() {
-        return getIntAttr(Provisioning.A_zimbraRemoteImapSSLBindPort, 8993, true);
+        return getIntAttr(3016, Provisioning.A_zimbraRemoteImapSSLBindPort, 8993);
     }
 
     /**
@@ -52935,7 +52935,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3014)
     public boolean isRemoteImapSSLServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraRemoteImapSSLServerEnabled, false, true);
+        return getBooleanAttr(3014, Provisioning.A_zimbraRemoteImapSSLServerEnabled, false);
     }
 
     /**
@@ -53017,7 +53017,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3013)
     public boolean isRemoteImapServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraRemoteImapServerEnabled, false, true);
+        return getBooleanAttr(3013, Provisioning.A_zimbraRemoteImapServerEnabled, false);
     }
 
     /**
@@ -53157,7 +53157,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=339)
     public int getRemoteManagementPort() {
-        return getIntAttr(Provisioning.A_zimbraRemoteManagementPort, 22, true);
+        return getIntAttr(339, Provisioning.A_zimbraRemoteManagementPort, 22);
     }
 
     /**
@@ -53652,7 +53652,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1321)
     public boolean isReverseProxyAdminEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyAdminEnabled, false, true);
+        return getBooleanAttr(1321, Provisioning.A_zimbraReverseProxyAdminEnabled, false);
     }
 
     /**
@@ -53947,7 +53947,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=569)
     public long getReverseProxyAuthWaitInterval() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyAuthWaitInterval, 10000L, true);
+        return getTimeInterval(569, Provisioning.A_zimbraReverseProxyAuthWaitInterval, 10000L);
     }
 
     /**
@@ -54220,7 +54220,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=732)
     public long getReverseProxyCacheEntryTTL() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyCacheEntryTTL, 3600000L, true);
+        return getTimeInterval(732, Provisioning.A_zimbraReverseProxyCacheEntryTTL, 3600000L);
     }
 
     /**
@@ -54332,7 +54332,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=731)
     public long getReverseProxyCacheFetchTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyCacheFetchTimeout, 3000L, true);
+        return getTimeInterval(731, Provisioning.A_zimbraReverseProxyCacheFetchTimeout, 3000L);
     }
 
     /**
@@ -54445,7 +54445,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=730)
     public long getReverseProxyCacheReconnectInterval() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyCacheReconnectInterval, 60000L, true);
+        return getTimeInterval(730, Provisioning.A_zimbraReverseProxyCacheReconnectInterval, 60000L);
     }
 
     /**
@@ -54779,7 +54779,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=797)
     public long getReverseProxyConnectTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyConnectTimeout, 120000L, true);
+        return getTimeInterval(797, Provisioning.A_zimbraReverseProxyConnectTimeout, 120000L);
     }
 
     /**
@@ -54967,7 +54967,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1384)
     public boolean isReverseProxyDnsLookupInServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyDnsLookupInServerEnabled, true, true);
+        return getBooleanAttr(1384, Provisioning.A_zimbraReverseProxyDnsLookupInServerEnabled, true);
     }
 
     /**
@@ -55510,7 +55510,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1454)
     public boolean isReverseProxyExternalRouteIncludeOriginalAuthusername() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyExternalRouteIncludeOriginalAuthusername, false, true);
+        return getBooleanAttr(1454, Provisioning.A_zimbraReverseProxyExternalRouteIncludeOriginalAuthusername, false);
     }
 
     /**
@@ -55606,7 +55606,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1374)
     public boolean isReverseProxyGenConfigPerVirtualHostname() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyGenConfigPerVirtualHostname, true, true);
+        return getBooleanAttr(1374, Provisioning.A_zimbraReverseProxyGenConfigPerVirtualHostname, true);
     }
 
     /**
@@ -55694,7 +55694,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=628)
     public boolean isReverseProxyHttpEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyHttpEnabled, true, true);
+        return getBooleanAttr(628, Provisioning.A_zimbraReverseProxyHttpEnabled, true);
     }
 
     /**
@@ -55922,7 +55922,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2996)
     public int getReverseProxyIPLoginImapLimit() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyIPLoginImapLimit, 0, true);
+        return getIntAttr(2996, Provisioning.A_zimbraReverseProxyIPLoginImapLimit, 0);
     }
 
     /**
@@ -56047,7 +56047,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2997)
     public int getReverseProxyIPLoginImapLimitTime() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyIPLoginImapLimitTime, 3600, true);
+        return getIntAttr(2997, Provisioning.A_zimbraReverseProxyIPLoginImapLimitTime, 3600);
     }
 
     /**
@@ -56157,7 +56157,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=622)
     public int getReverseProxyIPLoginLimit() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyIPLoginLimit, 0, true);
+        return getIntAttr(622, Provisioning.A_zimbraReverseProxyIPLoginLimit, 0);
     }
 
     /**
@@ -56306,7 +56306,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=623)
     public int getReverseProxyIPLoginLimitTime() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyIPLoginLimitTime, 3600, true);
+        return getIntAttr(623, Provisioning.A_zimbraReverseProxyIPLoginLimitTime, 3600);
     }
 
     /**
@@ -56410,7 +56410,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2998)
     public int getReverseProxyIPLoginPop3Limit() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyIPLoginPop3Limit, 0, true);
+        return getIntAttr(2998, Provisioning.A_zimbraReverseProxyIPLoginPop3Limit, 0);
     }
 
     /**
@@ -56535,7 +56535,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2999)
     public int getReverseProxyIPLoginPop3LimitTime() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyIPLoginPop3LimitTime, 3600, true);
+        return getIntAttr(2999, Provisioning.A_zimbraReverseProxyIPLoginPop3LimitTime, 3600);
     }
 
     /**
@@ -56787,7 +56787,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3007)
     public long getReverseProxyIPThrottleWhitelistTime() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyIPThrottleWhitelistTime, 300000L, true);
+        return getTimeInterval(3007, Provisioning.A_zimbraReverseProxyIPThrottleWhitelistTime, 300000L);
     }
 
     /**
@@ -57025,7 +57025,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=713)
     public boolean isReverseProxyImapExposeVersionOnBanner() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyImapExposeVersionOnBanner, false, true);
+        return getBooleanAttr(713, Provisioning.A_zimbraReverseProxyImapExposeVersionOnBanner, false);
     }
 
     /**
@@ -57221,7 +57221,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=643)
     public boolean isReverseProxyImapSaslGssapiEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyImapSaslGssapiEnabled, false, true);
+        return getBooleanAttr(643, Provisioning.A_zimbraReverseProxyImapSaslGssapiEnabled, false);
     }
 
     /**
@@ -57293,7 +57293,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=728)
     public boolean isReverseProxyImapSaslPlainEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyImapSaslPlainEnabled, true, true);
+        return getBooleanAttr(728, Provisioning.A_zimbraReverseProxyImapSaslPlainEnabled, true);
     }
 
     /**
@@ -57523,7 +57523,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=735)
     public long getReverseProxyInactivityTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyInactivityTimeout, 3600000L, true);
+        return getTimeInterval(735, Provisioning.A_zimbraReverseProxyInactivityTimeout, 3600000L);
     }
 
     /**
@@ -57854,7 +57854,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=504)
     public boolean isReverseProxyLookupTarget() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyLookupTarget, false, true);
+        return getBooleanAttr(504, Provisioning.A_zimbraReverseProxyLookupTarget, false);
     }
 
     /**
@@ -57922,7 +57922,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=629)
     public boolean isReverseProxyMailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyMailEnabled, true, true);
+        return getBooleanAttr(629, Provisioning.A_zimbraReverseProxyMailEnabled, true);
     }
 
     /**
@@ -58180,7 +58180,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1621)
     public boolean isReverseProxyMailImapEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyMailImapEnabled, true, true);
+        return getBooleanAttr(1621, Provisioning.A_zimbraReverseProxyMailImapEnabled, true);
     }
 
     /**
@@ -58252,7 +58252,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1622)
     public boolean isReverseProxyMailImapsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyMailImapsEnabled, true, true);
+        return getBooleanAttr(1622, Provisioning.A_zimbraReverseProxyMailImapsEnabled, true);
     }
 
     /**
@@ -58471,7 +58471,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1623)
     public boolean isReverseProxyMailPop3Enabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyMailPop3Enabled, true, true);
+        return getBooleanAttr(1623, Provisioning.A_zimbraReverseProxyMailPop3Enabled, true);
     }
 
     /**
@@ -58543,7 +58543,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1624)
     public boolean isReverseProxyMailPop3sEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyMailPop3sEnabled, true, true);
+        return getBooleanAttr(1624, Provisioning.A_zimbraReverseProxyMailPop3sEnabled, true);
     }
 
     /**
@@ -58616,7 +58616,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=736)
     public boolean isReverseProxyPassErrors() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyPassErrors, true, true);
+        return getBooleanAttr(736, Provisioning.A_zimbraReverseProxyPassErrors, true);
     }
 
     /**
@@ -58826,7 +58826,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=712)
     public boolean isReverseProxyPop3ExposeVersionOnBanner() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyPop3ExposeVersionOnBanner, false, true);
+        return getBooleanAttr(712, Provisioning.A_zimbraReverseProxyPop3ExposeVersionOnBanner, false);
     }
 
     /**
@@ -59022,7 +59022,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=644)
     public boolean isReverseProxyPop3SaslGssapiEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyPop3SaslGssapiEnabled, false, true);
+        return getBooleanAttr(644, Provisioning.A_zimbraReverseProxyPop3SaslGssapiEnabled, false);
     }
 
     /**
@@ -59094,7 +59094,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=729)
     public boolean isReverseProxyPop3SaslPlainEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyPop3SaslPlainEnabled, true, true);
+        return getBooleanAttr(729, Provisioning.A_zimbraReverseProxyPop3SaslPlainEnabled, true);
     }
 
     /**
@@ -59607,7 +59607,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=745)
     public long getReverseProxyRouteLookupTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyRouteLookupTimeout, 15000L, true);
+        return getTimeInterval(745, Provisioning.A_zimbraReverseProxyRouteLookupTimeout, 15000L);
     }
 
     /**
@@ -59725,7 +59725,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=778)
     public long getReverseProxyRouteLookupTimeoutCache() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyRouteLookupTimeoutCache, 60000L, true);
+        return getTimeInterval(778, Provisioning.A_zimbraReverseProxyRouteLookupTimeoutCache, 60000L);
     }
 
     /**
@@ -59836,7 +59836,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1818)
     public boolean isReverseProxySNIEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxySNIEnabled, false, true);
+        return getBooleanAttr(1818, Provisioning.A_zimbraReverseProxySNIEnabled, false);
     }
 
     /**
@@ -60294,7 +60294,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1679)
     public long getReverseProxySSLSessionTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxySSLSessionTimeout, 600000L, true);
+        return getTimeInterval(1679, Provisioning.A_zimbraReverseProxySSLSessionTimeout, 600000L);
     }
 
     /**
@@ -60400,7 +60400,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1360)
     public boolean isReverseProxySSLToUpstreamEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxySSLToUpstreamEnabled, true, true);
+        return getBooleanAttr(1360, Provisioning.A_zimbraReverseProxySSLToUpstreamEnabled, true);
     }
 
     /**
@@ -60480,7 +60480,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=588)
     public boolean isReverseProxySendImapId() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxySendImapId, true, true);
+        return getBooleanAttr(588, Provisioning.A_zimbraReverseProxySendImapId, true);
     }
 
     /**
@@ -60552,7 +60552,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=587)
     public boolean isReverseProxySendPop3Xoip() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxySendPop3Xoip, true, true);
+        return getBooleanAttr(587, Provisioning.A_zimbraReverseProxySendPop3Xoip, true);
     }
 
     /**
@@ -60628,7 +60628,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3020)
     public boolean isReverseProxyStrictServerNameEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyStrictServerNameEnabled, true, true);
+        return getBooleanAttr(3020, Provisioning.A_zimbraReverseProxyStrictServerNameEnabled, true);
     }
 
     /**
@@ -60718,7 +60718,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1440)
     public int getReverseProxyUpstreamConnectTimeout() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyUpstreamConnectTimeout, 25, true);
+        return getIntAttr(1440, Provisioning.A_zimbraReverseProxyUpstreamConnectTimeout, 25);
     }
 
     /**
@@ -60943,7 +60943,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3017)
     public int getReverseProxyUpstreamFairShmSize() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyUpstreamFairShmSize, 32, true);
+        return getIntAttr(3017, Provisioning.A_zimbraReverseProxyUpstreamFairShmSize, 32);
     }
 
     /**
@@ -61335,7 +61335,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1337)
     public long getReverseProxyUpstreamPollingTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyUpstreamPollingTimeout, 3600000L, true);
+        return getTimeInterval(1337, Provisioning.A_zimbraReverseProxyUpstreamPollingTimeout, 3600000L);
     }
 
     /**
@@ -61448,7 +61448,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1335)
     public long getReverseProxyUpstreamReadTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyUpstreamReadTimeout, 60000L, true);
+        return getTimeInterval(1335, Provisioning.A_zimbraReverseProxyUpstreamReadTimeout, 60000L);
     }
 
     /**
@@ -61566,7 +61566,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1336)
     public long getReverseProxyUpstreamSendTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyUpstreamSendTimeout, 60000L, true);
+        return getTimeInterval(1336, Provisioning.A_zimbraReverseProxyUpstreamSendTimeout, 60000L);
     }
 
     /**
@@ -61879,7 +61879,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=624)
     public int getReverseProxyUserLoginLimit() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyUserLoginLimit, 0, true);
+        return getIntAttr(624, Provisioning.A_zimbraReverseProxyUserLoginLimit, 0);
     }
 
     /**
@@ -61980,7 +61980,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=625)
     public int getReverseProxyUserLoginLimitTime() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyUserLoginLimitTime, 3600, true);
+        return getIntAttr(625, Provisioning.A_zimbraReverseProxyUserLoginLimitTime, 3600);
     }
 
     /**
@@ -62206,7 +62206,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=725)
     public int getReverseProxyWorkerConnections() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyWorkerConnections, 10240, true);
+        return getIntAttr(725, Provisioning.A_zimbraReverseProxyWorkerConnections, 10240);
     }
 
     /**
@@ -62282,7 +62282,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=724)
     public int getReverseProxyWorkerProcesses() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyWorkerProcesses, 4, true);
+        return getIntAttr(724, Provisioning.A_zimbraReverseProxyWorkerProcesses, 4);
     }
 
     /**
@@ -62354,7 +62354,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2065)
     public boolean isReverseProxyXmppBoshEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyXmppBoshEnabled, false, true);
+        return getBooleanAttr(2065, Provisioning.A_zimbraReverseProxyXmppBoshEnabled, false);
     }
 
     /**
@@ -62580,7 +62580,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1960)
     public int getReverseProxyXmppBoshPort() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyXmppBoshPort, -1, true);
+        return getIntAttr(1960, Provisioning.A_zimbraReverseProxyXmppBoshPort, -1);
     }
 
     /**
@@ -62784,7 +62784,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2066)
     public boolean isReverseProxyXmppBoshSSL() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyXmppBoshSSL, false, true);
+        return getBooleanAttr(2066, Provisioning.A_zimbraReverseProxyXmppBoshSSL, false);
     }
 
     /**
@@ -62864,7 +62864,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2064)
     public long getReverseProxyXmppBoshTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyXmppBoshTimeout, 90000L, true);
+        return getTimeInterval(2064, Provisioning.A_zimbraReverseProxyXmppBoshTimeout, 90000L);
     }
 
     /**
@@ -62968,7 +62968,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1785)
     public boolean isReverseProxyZmlookupCachingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyZmlookupCachingEnabled, true, true);
+        return getBooleanAttr(1785, Provisioning.A_zimbraReverseProxyZmlookupCachingEnabled, true);
     }
 
     /**
@@ -64987,7 +64987,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3010)
     public int getSSDBResourcePoolSize() {
-        return getIntAttr(Provisioning.A_zimbraSSDBResourcePoolSize, 0, true);
+        return getIntAttr(3010, Provisioning.A_zimbraSSDBResourcePoolSize, 0);
     }
 
     /**
@@ -65076,7 +65076,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=3011)
     public long getSSDBResourcePoolTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraSSDBResourcePoolTimeout, 0L, true);
+        return getTimeInterval(3011, Provisioning.A_zimbraSSDBResourcePoolTimeout, 0L);
     }
 
     /**
@@ -65717,7 +65717,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1068)
     public boolean isSaslGssapiRequiresTls() {
-        return getBooleanAttr(Provisioning.A_zimbraSaslGssapiRequiresTls, false, true);
+        return getBooleanAttr(1068, Provisioning.A_zimbraSaslGssapiRequiresTls, false);
     }
 
     /**
@@ -65797,7 +65797,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2069)
     public long getScheduledTaskInitialRetryDelay() {
-        return getTimeInterval(Provisioning.A_zimbraScheduledTaskInitialRetryDelay, 5000L, true);
+        return getTimeInterval(2069, Provisioning.A_zimbraScheduledTaskInitialRetryDelay, 5000L);
     }
 
     /**
@@ -65902,7 +65902,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2068)
     public int getScheduledTaskMaxRetries() {
-        return getIntAttr(Provisioning.A_zimbraScheduledTaskMaxRetries, 10, true);
+        return getIntAttr(2068, Provisioning.A_zimbraScheduledTaskMaxRetries, 10);
     }
 
     /**
@@ -65986,7 +65986,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2070)
     public long getScheduledTaskMaxRetryDelay() {
-        return getTimeInterval(Provisioning.A_zimbraScheduledTaskMaxRetryDelay, 600000L, true);
+        return getTimeInterval(2070, Provisioning.A_zimbraScheduledTaskMaxRetryDelay, 600000L);
     }
 
     /**
@@ -66088,7 +66088,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=522)
     public int getScheduledTaskNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraScheduledTaskNumThreads, 20, true);
+        return getIntAttr(522, Provisioning.A_zimbraScheduledTaskNumThreads, 20);
     }
 
     /**
@@ -66152,7 +66152,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2067)
     public boolean isScheduledTaskRetry() {
-        return getBooleanAttr(Provisioning.A_zimbraScheduledTaskRetry, true, true);
+        return getBooleanAttr(2067, Provisioning.A_zimbraScheduledTaskRetry, true);
     }
 
     /**
@@ -66775,7 +66775,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1346)
     public boolean isShareNotificationMtaAuthRequired() {
-        return getBooleanAttr(Provisioning.A_zimbraShareNotificationMtaAuthRequired, false, true);
+        return getBooleanAttr(1346, Provisioning.A_zimbraShareNotificationMtaAuthRequired, false);
     }
 
     /**
@@ -66978,7 +66978,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1361)
     public boolean isShareNotificationMtaEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraShareNotificationMtaEnabled, false, true);
+        return getBooleanAttr(1361, Provisioning.A_zimbraShareNotificationMtaEnabled, false);
     }
 
     /**
@@ -67128,7 +67128,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1342)
     public int getShareNotificationMtaPort() {
-        return getIntAttr(Provisioning.A_zimbraShareNotificationMtaPort, -1, true);
+        return getIntAttr(1342, Provisioning.A_zimbraShareNotificationMtaPort, -1);
     }
 
     /**
@@ -67212,7 +67212,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1220)
     public long getSharingUpdatePublishInterval() {
-        return getTimeInterval(Provisioning.A_zimbraSharingUpdatePublishInterval, 900000L, true);
+        return getTimeInterval(1220, Provisioning.A_zimbraSharingUpdatePublishInterval, 900000L);
     }
 
     /**
@@ -67333,7 +67333,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1903)
     public long getShortTermAllEffectiveRightsCacheExpiration() {
-        return getTimeInterval(Provisioning.A_zimbraShortTermAllEffectiveRightsCacheExpiration, 50000L, true);
+        return getTimeInterval(1903, Provisioning.A_zimbraShortTermAllEffectiveRightsCacheExpiration, 50000L);
     }
 
     /**
@@ -67485,7 +67485,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1902)
     public int getShortTermAllEffectiveRightsCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraShortTermAllEffectiveRightsCacheSize, 128, true);
+        return getIntAttr(1902, Provisioning.A_zimbraShortTermAllEffectiveRightsCacheSize, 128);
     }
 
     /**
@@ -67585,7 +67585,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1901)
     public long getShortTermGranteeCacheExpiration() {
-        return getTimeInterval(Provisioning.A_zimbraShortTermGranteeCacheExpiration, 50000L, true);
+        return getTimeInterval(1901, Provisioning.A_zimbraShortTermGranteeCacheExpiration, 50000L);
     }
 
     /**
@@ -67732,7 +67732,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1900)
     public int getShortTermGranteeCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraShortTermGranteeCacheSize, 128, true);
+        return getIntAttr(1900, Provisioning.A_zimbraShortTermGranteeCacheSize, 128);
     }
 
     /**
@@ -67819,7 +67819,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2096)
     public boolean isSieveFeatureVariablesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveFeatureVariablesEnabled, false, true);
+        return getBooleanAttr(2096, Provisioning.A_zimbraSieveFeatureVariablesEnabled, false);
     }
 
     /**
@@ -67906,7 +67906,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2094)
     public boolean isSieveRejectEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveRejectEnabled, true, true);
+        return getBooleanAttr(2094, Provisioning.A_zimbraSieveRejectEnabled, true);
     }
 
     /**
@@ -68566,7 +68566,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=2101)
     public boolean isSmimeOCSPEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSmimeOCSPEnabled, true, true);
+        return getBooleanAttr(2101, Provisioning.A_zimbraSmimeOCSPEnabled, true);
     }
 
     /**
@@ -69024,7 +69024,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=98)
     public int getSmtpPort() {
-        return getIntAttr(Provisioning.A_zimbraSmtpPort, 25, true);
+        return getIntAttr(98, Provisioning.A_zimbraSmtpPort, 25);
     }
 
     /**
@@ -69126,7 +69126,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=747)
     public boolean isSmtpSendAddAuthenticatedUser() {
-        return getBooleanAttr(Provisioning.A_zimbraSmtpSendAddAuthenticatedUser, false, true);
+        return getBooleanAttr(747, Provisioning.A_zimbraSmtpSendAddAuthenticatedUser, false);
     }
 
     /**
@@ -69202,7 +69202,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=636)
     public boolean isSmtpSendAddMailer() {
-        return getBooleanAttr(Provisioning.A_zimbraSmtpSendAddMailer, true, true);
+        return getBooleanAttr(636, Provisioning.A_zimbraSmtpSendAddMailer, true);
     }
 
     /**
@@ -69273,7 +69273,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=435)
     public boolean isSmtpSendAddOriginatingIP() {
-        return getBooleanAttr(Provisioning.A_zimbraSmtpSendAddOriginatingIP, true, true);
+        return getBooleanAttr(435, Provisioning.A_zimbraSmtpSendAddOriginatingIP, true);
     }
 
     /**
@@ -69339,7 +69339,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=249)
     public boolean isSmtpSendPartial() {
-        return getBooleanAttr(Provisioning.A_zimbraSmtpSendPartial, false, true);
+        return getBooleanAttr(249, Provisioning.A_zimbraSmtpSendPartial, false);
     }
 
     /**
@@ -69401,7 +69401,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=99)
     public int getSmtpTimeout() {
-        return getIntAttr(Provisioning.A_zimbraSmtpTimeout, 60, true);
+        return getIntAttr(99, Provisioning.A_zimbraSmtpTimeout, 60);
     }
 
     /**
@@ -69466,7 +69466,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=708)
     public boolean isSoapExposeVersion() {
-        return getBooleanAttr(Provisioning.A_zimbraSoapExposeVersion, false, true);
+        return getBooleanAttr(708, Provisioning.A_zimbraSoapExposeVersion, false);
     }
 
     /**
@@ -69542,7 +69542,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=557)
     public int getSoapRequestMaxSize() {
-        return getIntAttr(Provisioning.A_zimbraSoapRequestMaxSize, 15360000, true);
+        return getIntAttr(557, Provisioning.A_zimbraSoapRequestMaxSize, 15360000);
     }
 
     /**
@@ -69613,7 +69613,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=201)
     public boolean isSpamCheckEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSpamCheckEnabled, false, true);
+        return getBooleanAttr(201, Provisioning.A_zimbraSpamCheckEnabled, false);
     }
 
     /**
@@ -69937,7 +69937,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=202)
     public int getSpamKillPercent() {
-        return getIntAttr(Provisioning.A_zimbraSpamKillPercent, 75, true);
+        return getIntAttr(202, Provisioning.A_zimbraSpamKillPercent, 75);
     }
 
     /**
@@ -70381,7 +70381,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=204)
     public int getSpamTagPercent() {
-        return getIntAttr(Provisioning.A_zimbraSpamTagPercent, 33, true);
+        return getIntAttr(204, Provisioning.A_zimbraSpamTagPercent, 33);
     }
 
     /**
@@ -71114,7 +71114,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1118)
     public boolean isSpnegoAuthEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSpnegoAuthEnabled, false, true);
+        return getBooleanAttr(1118, Provisioning.A_zimbraSpnegoAuthEnabled, false);
     }
 
     /**
@@ -71597,7 +71597,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=171)
     public int getTableMaintenanceGrowthFactor() {
-        return getIntAttr(Provisioning.A_zimbraTableMaintenanceGrowthFactor, 10, true);
+        return getIntAttr(171, Provisioning.A_zimbraTableMaintenanceGrowthFactor, 10);
     }
 
     /**
@@ -71669,7 +71669,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=169)
     public int getTableMaintenanceMaxRows() {
-        return getIntAttr(Provisioning.A_zimbraTableMaintenanceMaxRows, 1000000, true);
+        return getIntAttr(169, Provisioning.A_zimbraTableMaintenanceMaxRows, 1000000);
     }
 
     /**
@@ -71741,7 +71741,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=168)
     public int getTableMaintenanceMinRows() {
-        return getIntAttr(Provisioning.A_zimbraTableMaintenanceMinRows, 10000, true);
+        return getIntAttr(168, Provisioning.A_zimbraTableMaintenanceMinRows, 10000);
     }
 
     /**
@@ -71946,7 +71946,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1583)
     public boolean isThreadMonitorEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraThreadMonitorEnabled, false, true);
+        return getBooleanAttr(1583, Provisioning.A_zimbraThreadMonitorEnabled, false);
     }
 
     /**
@@ -72764,7 +72764,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1824)
     public int getTwoFactorAuthSecretLength() {
-        return getIntAttr(Provisioning.A_zimbraTwoFactorAuthSecretLength, 16, true);
+        return getIntAttr(1824, Provisioning.A_zimbraTwoFactorAuthSecretLength, 16);
     }
 
     /**
@@ -72971,7 +72971,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1828)
     public int getTwoFactorCodeLength() {
-        return getIntAttr(Provisioning.A_zimbraTwoFactorCodeLength, 6, true);
+        return getIntAttr(1828, Provisioning.A_zimbraTwoFactorCodeLength, 6);
     }
 
     /**
@@ -73047,7 +73047,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1827)
     public int getTwoFactorScratchCodeLength() {
-        return getIntAttr(Provisioning.A_zimbraTwoFactorScratchCodeLength, 8, true);
+        return getIntAttr(1827, Provisioning.A_zimbraTwoFactorScratchCodeLength, 8);
     }
 
     /**
@@ -73127,7 +73127,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1829)
     public long getTwoFactorTimeWindowLength() {
-        return getTimeInterval(Provisioning.A_zimbraTwoFactorTimeWindowLength, 30000L, true);
+        return getTimeInterval(1829, Provisioning.A_zimbraTwoFactorTimeWindowLength, 30000L);
     }
 
     /**
@@ -73236,7 +73236,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1830)
     public int getTwoFactorTimeWindowOffset() {
-        return getIntAttr(Provisioning.A_zimbraTwoFactorTimeWindowOffset, 1, true);
+        return getIntAttr(1830, Provisioning.A_zimbraTwoFactorTimeWindowOffset, 1);
     }
 
     /**
@@ -73408,7 +73408,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1059)
     public long getVersionCheckInterval() {
-        return getTimeInterval(Provisioning.A_zimbraVersionCheckInterval, 86400000L, true);
+        return getTimeInterval(1059, Provisioning.A_zimbraVersionCheckInterval, 86400000L);
     }
 
     /**
@@ -74131,7 +74131,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1062)
     public boolean isVersionCheckSendNotifications() {
-        return getBooleanAttr(Provisioning.A_zimbraVersionCheckSendNotifications, true, true);
+        return getBooleanAttr(1062, Provisioning.A_zimbraVersionCheckSendNotifications, true);
     }
 
     /**
@@ -74350,7 +74350,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=205)
     public boolean isVirusBlockEncryptedArchive() {
-        return getBooleanAttr(Provisioning.A_zimbraVirusBlockEncryptedArchive, true, true);
+        return getBooleanAttr(205, Provisioning.A_zimbraVirusBlockEncryptedArchive, true);
     }
 
     /**
@@ -74417,7 +74417,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=206)
     public boolean isVirusCheckEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraVirusCheckEnabled, false, true);
+        return getBooleanAttr(206, Provisioning.A_zimbraVirusCheckEnabled, false);
     }
 
     /**
@@ -74490,7 +74490,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=191)
     public long getVirusDefinitionsUpdateFrequency() {
-        return getTimeInterval(Provisioning.A_zimbraVirusDefinitionsUpdateFrequency, 7200000L, true);
+        return getTimeInterval(191, Provisioning.A_zimbraVirusDefinitionsUpdateFrequency, 7200000L);
     }
 
     /**
@@ -74577,7 +74577,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=207)
     public boolean isVirusWarnAdmin() {
-        return getBooleanAttr(Provisioning.A_zimbraVirusWarnAdmin, true, true);
+        return getBooleanAttr(207, Provisioning.A_zimbraVirusWarnAdmin, true);
     }
 
     /**
@@ -74639,7 +74639,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=208)
     public boolean isVirusWarnRecipient() {
-        return getBooleanAttr(Provisioning.A_zimbraVirusWarnRecipient, true, true);
+        return getBooleanAttr(208, Provisioning.A_zimbraVirusWarnRecipient, true);
     }
 
     /**
@@ -75589,7 +75589,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1339)
     public int getWebClientMaxInputBufferLength() {
-        return getIntAttr(Provisioning.A_zimbraWebClientMaxInputBufferLength, 1024, true);
+        return getIntAttr(1339, Provisioning.A_zimbraWebClientMaxInputBufferLength, 1024);
     }
 
     /**
@@ -75662,7 +75662,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1687)
     public boolean isWebClientStaySignedInDisabled() {
-        return getBooleanAttr(Provisioning.A_zimbraWebClientStaySignedInDisabled, false, true);
+        return getBooleanAttr(1687, Provisioning.A_zimbraWebClientStaySignedInDisabled, false);
     }
 
     /**
@@ -76048,7 +76048,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1468)
     public boolean isWebGzipEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraWebGzipEnabled, true, true);
+        return getBooleanAttr(1468, Provisioning.A_zimbraWebGzipEnabled, true);
     }
 
     /**
@@ -76119,7 +76119,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=397)
     public boolean isXMPPEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraXMPPEnabled, true, true);
+        return getBooleanAttr(397, Provisioning.A_zimbraXMPPEnabled, true);
     }
 
     /**
@@ -76322,7 +76322,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1269)
     public boolean isZimletDataSensitiveInMixedModeDisabled() {
-        return getBooleanAttr(Provisioning.A_zimbraZimletDataSensitiveInMixedModeDisabled, true, true);
+        return getBooleanAttr(1269, Provisioning.A_zimbraZimletDataSensitiveInMixedModeDisabled, true);
     }
 
     /**
@@ -76560,7 +76560,7 @@ public abstract class ZAttrConfig extends Entry {
      */
     @ZAttr(id=1575)
     public boolean isZimletJspEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraZimletJspEnabled, false, true);
+        return getBooleanAttr(1575, Provisioning.A_zimbraZimletJspEnabled, false);
     }
 
     /**
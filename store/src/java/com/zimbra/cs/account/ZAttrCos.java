@@ -372,7 +372,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=109)
     public long getAdminAuthTokenLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraAdminAuthTokenLifetime, 43200000L, true);
+        return getTimeInterval(109, Provisioning.A_zimbraAdminAuthTokenLifetime, 43200000L);
     }
 
     /**
@@ -884,7 +884,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=427)
     public boolean isAllowAnyFromAddress() {
-        return getBooleanAttr(Provisioning.A_zimbraAllowAnyFromAddress, false, true);
+        return getBooleanAttr(427, Provisioning.A_zimbraAllowAnyFromAddress, false);
     }
 
     /**
@@ -960,7 +960,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1839)
     public long getAppSpecificPasswordDuration() {
-        return getTimeInterval(Provisioning.A_zimbraAppSpecificPasswordDuration, 0L, true);
+        return getTimeInterval(1839, Provisioning.A_zimbraAppSpecificPasswordDuration, 0L);
     }
 
     /**
@@ -1213,7 +1213,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1206)
     public boolean isArchiveEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraArchiveEnabled, false, true);
+        return getBooleanAttr(1206, Provisioning.A_zimbraArchiveEnabled, false);
     }
 
     /**
@@ -1283,7 +1283,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=115)
     public boolean isAttachmentsBlocked() {
-        return getBooleanAttr(Provisioning.A_zimbraAttachmentsBlocked, false, true);
+        return getBooleanAttr(115, Provisioning.A_zimbraAttachmentsBlocked, false);
     }
 
     /**
@@ -1345,7 +1345,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=173)
     public boolean isAttachmentsIndexingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAttachmentsIndexingEnabled, true, true);
+        return getBooleanAttr(173, Provisioning.A_zimbraAttachmentsIndexingEnabled, true);
     }
 
     /**
@@ -1407,7 +1407,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=116)
     public boolean isAttachmentsViewInHtmlOnly() {
-        return getBooleanAttr(Provisioning.A_zimbraAttachmentsViewInHtmlOnly, false, true);
+        return getBooleanAttr(116, Provisioning.A_zimbraAttachmentsViewInHtmlOnly, false);
     }
 
     /**
@@ -1476,7 +1476,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=108)
     public long getAuthTokenLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraAuthTokenLifetime, 172800000L, true);
+        return getTimeInterval(108, Provisioning.A_zimbraAuthTokenLifetime, 172800000L);
     }
 
     /**
@@ -1815,7 +1815,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=619)
     public int getBatchedIndexingSize() {
-        return getIntAttr(Provisioning.A_zimbraBatchedIndexingSize, 20, true);
+        return getIntAttr(619, Provisioning.A_zimbraBatchedIndexingSize, 20);
     }
 
     /**
@@ -1894,7 +1894,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=817)
     public long getCalendarCalDavSharedFolderCacheDuration() {
-        return getTimeInterval(Provisioning.A_zimbraCalendarCalDavSharedFolderCacheDuration, 60000L, true);
+        return getTimeInterval(817, Provisioning.A_zimbraCalendarCalDavSharedFolderCacheDuration, 60000L);
     }
 
     /**
@@ -2001,7 +2001,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=816)
     public long getCalendarCalDavSyncEnd() {
-        return getTimeInterval(Provisioning.A_zimbraCalendarCalDavSyncEnd, -1L, true);
+        return getTimeInterval(816, Provisioning.A_zimbraCalendarCalDavSyncEnd, -1L);
     }
 
     /**
@@ -2118,7 +2118,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=815)
     public long getCalendarCalDavSyncStart() {
-        return getTimeInterval(Provisioning.A_zimbraCalendarCalDavSyncStart, -1L, true);
+        return getTimeInterval(815, Provisioning.A_zimbraCalendarCalDavSyncStart, -1L);
     }
 
     /**
@@ -2248,7 +2248,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1240)
     public boolean isCalendarKeepExceptionsOnSeriesTimeChange() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarKeepExceptionsOnSeriesTimeChange, false, true);
+        return getBooleanAttr(1240, Provisioning.A_zimbraCalendarKeepExceptionsOnSeriesTimeChange, false);
     }
 
     /**
@@ -2397,7 +2397,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=709)
     public int getCalendarMaxRevisions() {
-        return getIntAttr(Provisioning.A_zimbraCalendarMaxRevisions, 1, true);
+        return getIntAttr(709, Provisioning.A_zimbraCalendarMaxRevisions, 1);
     }
 
     /**
@@ -2473,7 +2473,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1087)
     public boolean isCalendarResourceDoubleBookingAllowed() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarResourceDoubleBookingAllowed, true, true);
+        return getBooleanAttr(1087, Provisioning.A_zimbraCalendarResourceDoubleBookingAllowed, true);
     }
 
     /**
@@ -2546,7 +2546,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1092)
     public boolean isCalendarShowResourceTabs() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarShowResourceTabs, true, true);
+        return getBooleanAttr(1092, Provisioning.A_zimbraCalendarShowResourceTabs, true);
     }
 
     /**
@@ -2622,7 +2622,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2103)
     public boolean isChatHistoryEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraChatHistoryEnabled, true, true);
+        return getBooleanAttr(2103, Provisioning.A_zimbraChatHistoryEnabled, true);
     }
 
     /**
@@ -3295,7 +3295,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=827)
     public int getContactAutoCompleteMaxResults() {
-        return getIntAttr(Provisioning.A_zimbraContactAutoCompleteMaxResults, 20, true);
+        return getIntAttr(827, Provisioning.A_zimbraContactAutoCompleteMaxResults, 20);
     }
 
     /**
@@ -3457,7 +3457,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=107)
     public int getContactMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraContactMaxNumEntries, 10000, true);
+        return getIntAttr(107, Provisioning.A_zimbraContactMaxNumEntries, 10000);
     }
 
     /**
@@ -3524,7 +3524,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=758)
     public int getContactRankingTableSize() {
-        return getIntAttr(Provisioning.A_zimbraContactRankingTableSize, 200, true);
+        return getIntAttr(758, Provisioning.A_zimbraContactRankingTableSize, 200);
     }
 
     /**
@@ -3879,7 +3879,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=788)
     public long getDataSourceCaldavPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceCaldavPollingInterval, -1L, true);
+        return getTimeInterval(788, Provisioning.A_zimbraDataSourceCaldavPollingInterval, -1L);
     }
 
     /**
@@ -3997,7 +3997,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=819)
     public long getDataSourceCalendarPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceCalendarPollingInterval, 43200000L, true);
+        return getTimeInterval(819, Provisioning.A_zimbraDataSourceCalendarPollingInterval, 43200000L);
     }
 
     /**
@@ -4115,7 +4115,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=826)
     public long getDataSourceGalPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceGalPollingInterval, -1L, true);
+        return getTimeInterval(826, Provisioning.A_zimbraDataSourceGalPollingInterval, -1L);
     }
 
     /**
@@ -4233,7 +4233,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=768)
     public long getDataSourceImapPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceImapPollingInterval, -1L, true);
+        return getTimeInterval(768, Provisioning.A_zimbraDataSourceImapPollingInterval, -1L);
     }
 
     /**
@@ -4343,7 +4343,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1418)
     public boolean isDataSourceImportOnLogin() {
-        return getBooleanAttr(Provisioning.A_zimbraDataSourceImportOnLogin, false, true);
+        return getBooleanAttr(1418, Provisioning.A_zimbraDataSourceImportOnLogin, false);
     }
 
     /**
@@ -4428,7 +4428,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=769)
     public long getDataSourceLivePollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceLivePollingInterval, -1L, true);
+        return getTimeInterval(769, Provisioning.A_zimbraDataSourceLivePollingInterval, -1L);
     }
 
     /**
@@ -4535,7 +4535,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=426)
     public int getDataSourceMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraDataSourceMaxNumEntries, 20, true);
+        return getIntAttr(426, Provisioning.A_zimbraDataSourceMaxNumEntries, 20);
     }
 
     /**
@@ -4607,7 +4607,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=525)
     public long getDataSourceMinPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceMinPollingInterval, 60000L, true);
+        return getTimeInterval(525, Provisioning.A_zimbraDataSourceMinPollingInterval, 60000L);
     }
 
     /**
@@ -4727,7 +4727,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=455)
     public long getDataSourcePollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourcePollingInterval, -1L, true);
+        return getTimeInterval(455, Provisioning.A_zimbraDataSourcePollingInterval, -1L);
     }
 
     /**
@@ -4880,7 +4880,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=767)
     public long getDataSourcePop3PollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourcePop3PollingInterval, -1L, true);
+        return getTimeInterval(767, Provisioning.A_zimbraDataSourcePop3PollingInterval, -1L);
     }
 
     /**
@@ -4989,7 +4989,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2015)
     public long getDataSourceQuota() {
-        return getLongAttr(Provisioning.A_zimbraDataSourceQuota, 0L, true);
+        return getLongAttr(2015, Provisioning.A_zimbraDataSourceQuota, 0L);
     }
 
     /**
@@ -5070,7 +5070,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=770)
     public long getDataSourceRssPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceRssPollingInterval, 43200000L, true);
+        return getTimeInterval(770, Provisioning.A_zimbraDataSourceRssPollingInterval, 43200000L);
     }
 
     /**
@@ -5179,7 +5179,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2016)
     public long getDataSourceTotalQuota() {
-        return getLongAttr(Provisioning.A_zimbraDataSourceTotalQuota, 0L, true);
+        return getLongAttr(2016, Provisioning.A_zimbraDataSourceTotalQuota, 0L);
     }
 
     /**
@@ -5260,7 +5260,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=789)
     public long getDataSourceYabPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraDataSourceYabPollingInterval, -1L, true);
+        return getTimeInterval(789, Provisioning.A_zimbraDataSourceYabPollingInterval, -1L);
     }
 
     /**
@@ -5635,7 +5635,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1400)
     public boolean isDeviceFileOpenWithEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDeviceFileOpenWithEnabled, true, true);
+        return getBooleanAttr(1400, Provisioning.A_zimbraDeviceFileOpenWithEnabled, true);
     }
 
     /**
@@ -5707,7 +5707,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1399)
     public boolean isDeviceLockWhenInactive() {
-        return getBooleanAttr(Provisioning.A_zimbraDeviceLockWhenInactive, false, true);
+        return getBooleanAttr(1399, Provisioning.A_zimbraDeviceLockWhenInactive, false);
     }
 
     /**
@@ -5779,7 +5779,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1412)
     public boolean isDeviceOfflineCacheEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDeviceOfflineCacheEnabled, false, true);
+        return getBooleanAttr(1412, Provisioning.A_zimbraDeviceOfflineCacheEnabled, false);
     }
 
     /**
@@ -5851,7 +5851,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1396)
     public boolean isDevicePasscodeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDevicePasscodeEnabled, false, true);
+        return getBooleanAttr(1396, Provisioning.A_zimbraDevicePasscodeEnabled, false);
     }
 
     /**
@@ -5930,7 +5930,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1398)
     public long getDevicePasscodeLockoutDuration() {
-        return getTimeInterval(Provisioning.A_zimbraDevicePasscodeLockoutDuration, -1L, true);
+        return getTimeInterval(1398, Provisioning.A_zimbraDevicePasscodeLockoutDuration, -1L);
     }
 
     /**
@@ -6032,7 +6032,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2048)
     public boolean isDisableCrossAccountConversationThreading() {
-        return getBooleanAttr(Provisioning.A_zimbraDisableCrossAccountConversationThreading, true, true);
+        return getBooleanAttr(2048, Provisioning.A_zimbraDisableCrossAccountConversationThreading, true);
     }
 
     /**
@@ -6116,7 +6116,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3101)
     public boolean isDocumentRecentlyViewedEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDocumentRecentlyViewedEnabled, true, true);
+        return getBooleanAttr(3101, Provisioning.A_zimbraDocumentRecentlyViewedEnabled, true);
     }
 
     /**
@@ -6186,7 +6186,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=398)
     public long getDomainAdminMaxMailQuota() {
-        return getLongAttr(Provisioning.A_zimbraDomainAdminMaxMailQuota, -1L, true);
+        return getLongAttr(398, Provisioning.A_zimbraDomainAdminMaxMailQuota, -1L);
     }
 
     /**
@@ -6250,7 +6250,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1128)
     public boolean isDumpsterEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDumpsterEnabled, false, true);
+        return getBooleanAttr(1128, Provisioning.A_zimbraDumpsterEnabled, false);
     }
 
     /**
@@ -6322,7 +6322,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1315)
     public boolean isDumpsterPurgeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDumpsterPurgeEnabled, true, true);
+        return getBooleanAttr(1315, Provisioning.A_zimbraDumpsterPurgeEnabled, true);
     }
 
     /**
@@ -6402,7 +6402,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1314)
     public long getDumpsterUserVisibleAge() {
-        return getTimeInterval(Provisioning.A_zimbraDumpsterUserVisibleAge, 2592000000L, true);
+        return getTimeInterval(1314, Provisioning.A_zimbraDumpsterUserVisibleAge, 2592000000L);
     }
 
     /**
@@ -6507,7 +6507,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2056)
     public int getExportMaxDays() {
-        return getIntAttr(Provisioning.A_zimbraExportMaxDays, 0, true);
+        return getIntAttr(2056, Provisioning.A_zimbraExportMaxDays, 0);
     }
 
     /**
@@ -6595,7 +6595,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1372)
     public long getExternalAccountLifetimeAfterDisabled() {
-        return getTimeInterval(Provisioning.A_zimbraExternalAccountLifetimeAfterDisabled, 2592000000L, true);
+        return getTimeInterval(1372, Provisioning.A_zimbraExternalAccountLifetimeAfterDisabled, 2592000000L);
     }
 
     /**
@@ -6720,7 +6720,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1264)
     public boolean isExternalShareDomainWhitelistEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraExternalShareDomainWhitelistEnabled, false, true);
+        return getBooleanAttr(1264, Provisioning.A_zimbraExternalShareDomainWhitelistEnabled, false);
     }
 
     /**
@@ -6805,7 +6805,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1260)
     public long getExternalShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraExternalShareLifetime, 0L, true);
+        return getTimeInterval(1260, Provisioning.A_zimbraExternalShareLifetime, 0L);
     }
 
     /**
@@ -7048,7 +7048,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1261)
     public boolean isExternalSharingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraExternalSharingEnabled, true, true);
+        return getBooleanAttr(1261, Provisioning.A_zimbraExternalSharingEnabled, true);
     }
 
     /**
@@ -7120,7 +7120,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2126)
     public boolean isFeatureAddressVerificationEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAddressVerificationEnabled, false, true);
+        return getBooleanAttr(2126, Provisioning.A_zimbraFeatureAddressVerificationEnabled, false);
     }
 
     /**
@@ -7200,7 +7200,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2127)
     public long getFeatureAddressVerificationExpiry() {
-        return getTimeInterval(Provisioning.A_zimbraFeatureAddressVerificationExpiry, 86400000L, true);
+        return getTimeInterval(2127, Provisioning.A_zimbraFeatureAddressVerificationExpiry, 86400000L);
     }
 
     /**
@@ -7305,7 +7305,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1170)
     public boolean isFeatureAdminMailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAdminMailEnabled, true, true);
+        return getBooleanAttr(1170, Provisioning.A_zimbraFeatureAdminMailEnabled, true);
     }
 
     /**
@@ -7385,7 +7385,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1686)
     public boolean isFeatureAdminPreferencesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAdminPreferencesEnabled, false, true);
+        return getBooleanAttr(1686, Provisioning.A_zimbraFeatureAdminPreferencesEnabled, false);
     }
 
     /**
@@ -7472,7 +7472,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=138)
     public boolean isFeatureAdvancedSearchEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAdvancedSearchEnabled, true, true);
+        return getBooleanAttr(138, Provisioning.A_zimbraFeatureAdvancedSearchEnabled, true);
     }
 
     /**
@@ -7542,7 +7542,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1168)
     public boolean isFeatureAntispamEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAntispamEnabled, true, true);
+        return getBooleanAttr(1168, Provisioning.A_zimbraFeatureAntispamEnabled, true);
     }
 
     /**
@@ -7624,7 +7624,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1907)
     public boolean isFeatureAppSpecificPasswordsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureAppSpecificPasswordsEnabled, true, true);
+        return getBooleanAttr(1907, Provisioning.A_zimbraFeatureAppSpecificPasswordsEnabled, true);
     }
 
     /**
@@ -7704,7 +7704,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1055)
     public boolean isFeatureBriefcaseDocsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureBriefcaseDocsEnabled, true, true);
+        return getBooleanAttr(1055, Provisioning.A_zimbraFeatureBriefcaseDocsEnabled, true);
     }
 
     /**
@@ -7776,7 +7776,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1054)
     public boolean isFeatureBriefcaseSlidesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureBriefcaseSlidesEnabled, false, true);
+        return getBooleanAttr(1054, Provisioning.A_zimbraFeatureBriefcaseSlidesEnabled, false);
     }
 
     /**
@@ -7848,7 +7848,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1053)
     public boolean isFeatureBriefcaseSpreadsheetEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureBriefcaseSpreadsheetEnabled, false, true);
+        return getBooleanAttr(1053, Provisioning.A_zimbraFeatureBriefcaseSpreadsheetEnabled, false);
     }
 
     /**
@@ -7918,7 +7918,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=498)
     public boolean isFeatureBriefcasesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureBriefcasesEnabled, true, true);
+        return getBooleanAttr(498, Provisioning.A_zimbraFeatureBriefcasesEnabled, true);
     }
 
     /**
@@ -7980,7 +7980,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=136)
     public boolean isFeatureCalendarEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureCalendarEnabled, true, true);
+        return getBooleanAttr(136, Provisioning.A_zimbraFeatureCalendarEnabled, true);
     }
 
     /**
@@ -8045,7 +8045,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1150)
     public boolean isFeatureCalendarReminderDeviceEmailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureCalendarReminderDeviceEmailEnabled, false, true);
+        return getBooleanAttr(1150, Provisioning.A_zimbraFeatureCalendarReminderDeviceEmailEnabled, false);
     }
 
     /**
@@ -8121,7 +8121,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=531)
     public boolean isFeatureCalendarUpsellEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureCalendarUpsellEnabled, false, true);
+        return getBooleanAttr(531, Provisioning.A_zimbraFeatureCalendarUpsellEnabled, false);
     }
 
     /**
@@ -8263,7 +8263,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=141)
     public boolean isFeatureChangePasswordEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureChangePasswordEnabled, true, true);
+        return getBooleanAttr(141, Provisioning.A_zimbraFeatureChangePasswordEnabled, true);
     }
 
     /**
@@ -8327,7 +8327,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2052)
     public boolean isFeatureChatEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureChatEnabled, false, true);
+        return getBooleanAttr(2052, Provisioning.A_zimbraFeatureChatEnabled, false);
     }
 
     /**
@@ -8399,7 +8399,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=584)
     public boolean isFeatureComposeInNewWindowEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureComposeInNewWindowEnabled, true, true);
+        return getBooleanAttr(584, Provisioning.A_zimbraFeatureComposeInNewWindowEnabled, true);
     }
 
     /**
@@ -8472,7 +8472,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=806)
     public boolean isFeatureConfirmationPageEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureConfirmationPageEnabled, false, true);
+        return getBooleanAttr(806, Provisioning.A_zimbraFeatureConfirmationPageEnabled, false);
     }
 
     /**
@@ -8548,7 +8548,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2131)
     public boolean isFeatureContactBackupEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureContactBackupEnabled, false, true);
+        return getBooleanAttr(2131, Provisioning.A_zimbraFeatureContactBackupEnabled, false);
     }
 
     /**
@@ -8620,7 +8620,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1164)
     public boolean isFeatureContactsDetailedSearchEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureContactsDetailedSearchEnabled, false, true);
+        return getBooleanAttr(1164, Provisioning.A_zimbraFeatureContactsDetailedSearchEnabled, false);
     }
 
     /**
@@ -8690,7 +8690,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=135)
     public boolean isFeatureContactsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureContactsEnabled, true, true);
+        return getBooleanAttr(135, Provisioning.A_zimbraFeatureContactsEnabled, true);
     }
 
     /**
@@ -8754,7 +8754,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=529)
     public boolean isFeatureContactsUpsellEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureContactsUpsellEnabled, false, true);
+        return getBooleanAttr(529, Provisioning.A_zimbraFeatureContactsUpsellEnabled, false);
     }
 
     /**
@@ -8896,7 +8896,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=140)
     public boolean isFeatureConversationsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureConversationsEnabled, true, true);
+        return getBooleanAttr(140, Provisioning.A_zimbraFeatureConversationsEnabled, true);
     }
 
     /**
@@ -8960,7 +8960,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1381)
     public boolean isFeatureCrocodocEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureCrocodocEnabled, false, true);
+        return getBooleanAttr(1381, Provisioning.A_zimbraFeatureCrocodocEnabled, false);
     }
 
     /**
@@ -9032,7 +9032,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2014)
     public boolean isFeatureDataSourcePurgingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDataSourcePurgingEnabled, false, true);
+        return getBooleanAttr(2014, Provisioning.A_zimbraFeatureDataSourcePurgingEnabled, false);
     }
 
     /**
@@ -9104,7 +9104,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=773)
     public boolean isFeatureDiscardInFiltersEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDiscardInFiltersEnabled, true, true);
+        return getBooleanAttr(773, Provisioning.A_zimbraFeatureDiscardInFiltersEnabled, true);
     }
 
     /**
@@ -9176,7 +9176,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1134)
     public boolean isFeatureDistributionListExpandMembersEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDistributionListExpandMembersEnabled, true, true);
+        return getBooleanAttr(1134, Provisioning.A_zimbraFeatureDistributionListExpandMembersEnabled, true);
     }
 
     /**
@@ -9248,7 +9248,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1438)
     public boolean isFeatureDistributionListFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDistributionListFolderEnabled, true, true);
+        return getBooleanAttr(1438, Provisioning.A_zimbraFeatureDistributionListFolderEnabled, true);
     }
 
     /**
@@ -9320,7 +9320,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3097)
     public boolean isFeatureDocumentEditingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDocumentEditingEnabled, true, true);
+        return getBooleanAttr(3097, Provisioning.A_zimbraFeatureDocumentEditingEnabled, true);
     }
 
     /**
@@ -9392,7 +9392,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1574)
     public boolean isFeatureEwsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureEwsEnabled, false, true);
+        return getBooleanAttr(1574, Provisioning.A_zimbraFeatureEwsEnabled, false);
     }
 
     /**
@@ -9464,7 +9464,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1185)
     public boolean isFeatureExportFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureExportFolderEnabled, true, true);
+        return getBooleanAttr(1185, Provisioning.A_zimbraFeatureExportFolderEnabled, true);
     }
 
     /**
@@ -9536,7 +9536,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1373)
     public boolean isFeatureExternalFeedbackEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureExternalFeedbackEnabled, false, true);
+        return getBooleanAttr(1373, Provisioning.A_zimbraFeatureExternalFeedbackEnabled, false);
     }
 
     /**
@@ -9609,7 +9609,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3092)
     public boolean isFeatureFileTypeUploadRestrictionsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureFileTypeUploadRestrictionsEnabled, true, true);
+        return getBooleanAttr(3092, Provisioning.A_zimbraFeatureFileTypeUploadRestrictionsEnabled, true);
     }
 
     /**
@@ -9683,7 +9683,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=143)
     public boolean isFeatureFiltersEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureFiltersEnabled, true, true);
+        return getBooleanAttr(143, Provisioning.A_zimbraFeatureFiltersEnabled, true);
     }
 
     /**
@@ -9745,7 +9745,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=499)
     public boolean isFeatureFlaggingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureFlaggingEnabled, true, true);
+        return getBooleanAttr(499, Provisioning.A_zimbraFeatureFlaggingEnabled, true);
     }
 
     /**
@@ -9809,7 +9809,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1143)
     public boolean isFeatureFreeBusyViewEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureFreeBusyViewEnabled, false, true);
+        return getBooleanAttr(1143, Provisioning.A_zimbraFeatureFreeBusyViewEnabled, false);
     }
 
     /**
@@ -9881,7 +9881,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1455)
     public boolean isFeatureFromDisplayEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureFromDisplayEnabled, true, true);
+        return getBooleanAttr(1455, Provisioning.A_zimbraFeatureFromDisplayEnabled, true);
     }
 
     /**
@@ -9952,7 +9952,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=359)
     public boolean isFeatureGalAutoCompleteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureGalAutoCompleteEnabled, true, true);
+        return getBooleanAttr(359, Provisioning.A_zimbraFeatureGalAutoCompleteEnabled, true);
     }
 
     /**
@@ -10018,7 +10018,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=149)
     public boolean isFeatureGalEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureGalEnabled, true, true);
+        return getBooleanAttr(149, Provisioning.A_zimbraFeatureGalEnabled, true);
     }
 
     /**
@@ -10082,7 +10082,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=711)
     public boolean isFeatureGalSyncEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureGalSyncEnabled, true, true);
+        return getBooleanAttr(711, Provisioning.A_zimbraFeatureGalSyncEnabled, true);
     }
 
     /**
@@ -10153,7 +10153,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=481)
     public boolean isFeatureGroupCalendarEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureGroupCalendarEnabled, true, true);
+        return getBooleanAttr(481, Provisioning.A_zimbraFeatureGroupCalendarEnabled, true);
     }
 
     /**
@@ -10219,7 +10219,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=219)
     public boolean isFeatureHtmlComposeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureHtmlComposeEnabled, true, true);
+        return getBooleanAttr(219, Provisioning.A_zimbraFeatureHtmlComposeEnabled, true);
     }
 
     /**
@@ -10282,7 +10282,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=305)
     public boolean isFeatureIMEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureIMEnabled, false, true);
+        return getBooleanAttr(305, Provisioning.A_zimbraFeatureIMEnabled, false);
     }
 
     /**
@@ -10348,7 +10348,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=415)
     public boolean isFeatureIdentitiesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureIdentitiesEnabled, true, true);
+        return getBooleanAttr(415, Provisioning.A_zimbraFeatureIdentitiesEnabled, true);
     }
 
     /**
@@ -10413,7 +10413,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=568)
     public boolean isFeatureImapDataSourceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureImapDataSourceEnabled, true, true);
+        return getBooleanAttr(568, Provisioning.A_zimbraFeatureImapDataSourceEnabled, true);
     }
 
     /**
@@ -10492,7 +10492,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=750)
     public boolean isFeatureImportExportFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureImportExportFolderEnabled, true, true);
+        return getBooleanAttr(750, Provisioning.A_zimbraFeatureImportExportFolderEnabled, true);
     }
 
     /**
@@ -10576,7 +10576,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1184)
     public boolean isFeatureImportFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureImportFolderEnabled, true, true);
+        return getBooleanAttr(1184, Provisioning.A_zimbraFeatureImportFolderEnabled, true);
     }
 
     /**
@@ -10646,7 +10646,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=142)
     public boolean isFeatureInitialSearchPreferenceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureInitialSearchPreferenceEnabled, true, true);
+        return getBooleanAttr(142, Provisioning.A_zimbraFeatureInitialSearchPreferenceEnabled, true);
     }
 
     /**
@@ -10708,7 +10708,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=521)
     public boolean isFeatureInstantNotify() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureInstantNotify, true, true);
+        return getBooleanAttr(521, Provisioning.A_zimbraFeatureInstantNotify, true);
     }
 
     /**
@@ -10772,7 +10772,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1127)
     public boolean isFeatureMAPIConnectorEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMAPIConnectorEnabled, true, true);
+        return getBooleanAttr(1127, Provisioning.A_zimbraFeatureMAPIConnectorEnabled, true);
     }
 
     /**
@@ -10842,7 +10842,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=489)
     public boolean isFeatureMailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailEnabled, true, true);
+        return getBooleanAttr(489, Provisioning.A_zimbraFeatureMailEnabled, true);
     }
 
     /**
@@ -10904,7 +10904,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=342)
     public boolean isFeatureMailForwardingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailForwardingEnabled, true, true);
+        return getBooleanAttr(342, Provisioning.A_zimbraFeatureMailForwardingEnabled, true);
     }
 
     /**
@@ -10968,7 +10968,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=704)
     public boolean isFeatureMailForwardingInFiltersEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailForwardingInFiltersEnabled, true, true);
+        return getBooleanAttr(704, Provisioning.A_zimbraFeatureMailForwardingInFiltersEnabled, true);
     }
 
     /**
@@ -11039,7 +11039,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=441)
     public boolean isFeatureMailPollingIntervalPreferenceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailPollingIntervalPreferenceEnabled, true, true);
+        return getBooleanAttr(441, Provisioning.A_zimbraFeatureMailPollingIntervalPreferenceEnabled, true);
     }
 
     /**
@@ -11107,7 +11107,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=566)
     public boolean isFeatureMailPriorityEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailPriorityEnabled, true, true);
+        return getBooleanAttr(566, Provisioning.A_zimbraFeatureMailPriorityEnabled, true);
     }
 
     /**
@@ -11179,7 +11179,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1137)
     public boolean isFeatureMailSendLaterEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailSendLaterEnabled, false, true);
+        return getBooleanAttr(1137, Provisioning.A_zimbraFeatureMailSendLaterEnabled, false);
     }
 
     /**
@@ -11251,7 +11251,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=527)
     public boolean isFeatureMailUpsellEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMailUpsellEnabled, false, true);
+        return getBooleanAttr(527, Provisioning.A_zimbraFeatureMailUpsellEnabled, false);
     }
 
     /**
@@ -11396,7 +11396,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1183)
     public boolean isFeatureManageSMIMECertificateEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureManageSMIMECertificateEnabled, false, true);
+        return getBooleanAttr(1183, Provisioning.A_zimbraFeatureManageSMIMECertificateEnabled, false);
     }
 
     /**
@@ -11472,7 +11472,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1051)
     public boolean isFeatureManageZimlets() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureManageZimlets, true, true);
+        return getBooleanAttr(1051, Provisioning.A_zimbraFeatureManageZimlets, true);
     }
 
     /**
@@ -11544,7 +11544,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2123)
     public boolean isFeatureMarkMailForwardedAsRead() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMarkMailForwardedAsRead, false, true);
+        return getBooleanAttr(2123, Provisioning.A_zimbraFeatureMarkMailForwardedAsRead, false);
     }
 
     /**
@@ -11616,7 +11616,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3083)
     public boolean isFeatureMobileAppEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMobileAppEnabled, false, true);
+        return getBooleanAttr(3083, Provisioning.A_zimbraFeatureMobileAppEnabled, false);
     }
 
     /**
@@ -11688,7 +11688,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2063)
     public boolean isFeatureMobileGatewayEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMobileGatewayEnabled, false, true);
+        return getBooleanAttr(2063, Provisioning.A_zimbraFeatureMobileGatewayEnabled, false);
     }
 
     /**
@@ -11760,7 +11760,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=833)
     public boolean isFeatureMobilePolicyEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMobilePolicyEnabled, true, true);
+        return getBooleanAttr(833, Provisioning.A_zimbraFeatureMobilePolicyEnabled, true);
     }
 
     /**
@@ -11830,7 +11830,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=347)
     public boolean isFeatureMobileSyncEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureMobileSyncEnabled, false, true);
+        return getBooleanAttr(347, Provisioning.A_zimbraFeatureMobileSyncEnabled, false);
     }
 
     /**
@@ -11894,7 +11894,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3082)
     public boolean isFeatureModernDesktopEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureModernDesktopEnabled, false, true);
+        return getBooleanAttr(3082, Provisioning.A_zimbraFeatureModernDesktopEnabled, false);
     }
 
     /**
@@ -11966,7 +11966,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=631)
     public boolean isFeatureNewAddrBookEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureNewAddrBookEnabled, true, true);
+        return getBooleanAttr(631, Provisioning.A_zimbraFeatureNewAddrBookEnabled, true);
     }
 
     /**
@@ -12037,7 +12037,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=367)
     public boolean isFeatureNewMailNotificationEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureNewMailNotificationEnabled, true, true);
+        return getBooleanAttr(367, Provisioning.A_zimbraFeatureNewMailNotificationEnabled, true);
     }
 
     /**
@@ -12105,7 +12105,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=356)
     public boolean isFeatureNotebookEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureNotebookEnabled, false, true);
+        return getBooleanAttr(356, Provisioning.A_zimbraFeatureNotebookEnabled, false);
     }
 
     /**
@@ -12177,7 +12177,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=585)
     public boolean isFeatureOpenMailInNewWindowEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureOpenMailInNewWindowEnabled, true, true);
+        return getBooleanAttr(585, Provisioning.A_zimbraFeatureOpenMailInNewWindowEnabled, true);
     }
 
     /**
@@ -12247,7 +12247,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=451)
     public boolean isFeatureOptionsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureOptionsEnabled, true, true);
+        return getBooleanAttr(451, Provisioning.A_zimbraFeatureOptionsEnabled, true);
     }
 
     /**
@@ -12310,7 +12310,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=366)
     public boolean isFeatureOutOfOfficeReplyEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureOutOfOfficeReplyEnabled, true, true);
+        return getBooleanAttr(366, Provisioning.A_zimbraFeatureOutOfOfficeReplyEnabled, true);
     }
 
     /**
@@ -12379,7 +12379,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1109)
     public boolean isFeaturePeopleSearchEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeaturePeopleSearchEnabled, true, true);
+        return getBooleanAttr(1109, Provisioning.A_zimbraFeaturePeopleSearchEnabled, true);
     }
 
     /**
@@ -12454,7 +12454,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=416)
     public boolean isFeaturePop3DataSourceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeaturePop3DataSourceEnabled, true, true);
+        return getBooleanAttr(416, Provisioning.A_zimbraFeaturePop3DataSourceEnabled, true);
     }
 
     /**
@@ -12520,7 +12520,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=447)
     public boolean isFeaturePortalEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeaturePortalEnabled, false, true);
+        return getBooleanAttr(447, Provisioning.A_zimbraFeaturePortalEnabled, false);
     }
 
     /**
@@ -12584,7 +12584,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3084)
     public boolean isFeaturePowerPasteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeaturePowerPasteEnabled, true, true);
+        return getBooleanAttr(3084, Provisioning.A_zimbraFeaturePowerPasteEnabled, true);
     }
 
     /**
@@ -12656,7 +12656,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1271)
     public boolean isFeaturePriorityInboxEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeaturePriorityInboxEnabled, true, true);
+        return getBooleanAttr(1271, Provisioning.A_zimbraFeaturePriorityInboxEnabled, true);
     }
 
     /**
@@ -12728,7 +12728,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=821)
     public boolean isFeatureReadReceiptsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureReadReceiptsEnabled, true, true);
+        return getBooleanAttr(821, Provisioning.A_zimbraFeatureReadReceiptsEnabled, true);
     }
 
     /**
@@ -12939,7 +12939,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2142)
     public long getFeatureResetPasswordSuspensionTime() {
-        return getTimeInterval(Provisioning.A_zimbraFeatureResetPasswordSuspensionTime, 86400000L, true);
+        return getTimeInterval(2142, Provisioning.A_zimbraFeatureResetPasswordSuspensionTime, 86400000L);
     }
 
     /**
@@ -13044,7 +13044,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1186)
     public boolean isFeatureSMIMEEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSMIMEEnabled, false, true);
+        return getBooleanAttr(1186, Provisioning.A_zimbraFeatureSMIMEEnabled, false);
     }
 
     /**
@@ -13120,7 +13120,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=4003)
     public boolean isFeatureSafeUnsubscribeFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSafeUnsubscribeFolderEnabled, false, true);
+        return getBooleanAttr(4003, Provisioning.A_zimbraFeatureSafeUnsubscribeFolderEnabled, false);
     }
 
     /**
@@ -13190,7 +13190,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=139)
     public boolean isFeatureSavedSearchesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSavedSearchesEnabled, true, true);
+        return getBooleanAttr(139, Provisioning.A_zimbraFeatureSavedSearchesEnabled, true);
     }
 
     /**
@@ -13252,7 +13252,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=335)
     public boolean isFeatureSharingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSharingEnabled, true, true);
+        return getBooleanAttr(335, Provisioning.A_zimbraFeatureSharingEnabled, true);
     }
 
     /**
@@ -13315,7 +13315,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=452)
     public boolean isFeatureShortcutAliasesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureShortcutAliasesEnabled, true, true);
+        return getBooleanAttr(452, Provisioning.A_zimbraFeatureShortcutAliasesEnabled, true);
     }
 
     /**
@@ -13381,7 +13381,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=494)
     public boolean isFeatureSignaturesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSignaturesEnabled, true, true);
+        return getBooleanAttr(494, Provisioning.A_zimbraFeatureSignaturesEnabled, true);
     }
 
     /**
@@ -13443,7 +13443,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=354)
     public boolean isFeatureSkinChangeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSkinChangeEnabled, true, true);
+        return getBooleanAttr(354, Provisioning.A_zimbraFeatureSkinChangeEnabled, true);
     }
 
     /**
@@ -13507,7 +13507,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1490)
     public boolean isFeatureSocialEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSocialEnabled, false, true);
+        return getBooleanAttr(1490, Provisioning.A_zimbraFeatureSocialEnabled, false);
     }
 
     /**
@@ -13579,7 +13579,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1491)
     public boolean isFeatureSocialExternalEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSocialExternalEnabled, false, true);
+        return getBooleanAttr(1491, Provisioning.A_zimbraFeatureSocialExternalEnabled, false);
     }
 
     /**
@@ -13912,7 +13912,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1388)
     public boolean isFeatureSocialcastEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSocialcastEnabled, false, true);
+        return getBooleanAttr(1388, Provisioning.A_zimbraFeatureSocialcastEnabled, false);
     }
 
     /**
@@ -13982,7 +13982,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=137)
     public boolean isFeatureTaggingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTaggingEnabled, true, true);
+        return getBooleanAttr(137, Provisioning.A_zimbraFeatureTaggingEnabled, true);
     }
 
     /**
@@ -14044,7 +14044,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=436)
     public boolean isFeatureTasksEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTasksEnabled, true, true);
+        return getBooleanAttr(436, Provisioning.A_zimbraFeatureTasksEnabled, true);
     }
 
     /**
@@ -14110,7 +14110,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1636)
     public boolean isFeatureTouchClientEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTouchClientEnabled, false, true);
+        return getBooleanAttr(1636, Provisioning.A_zimbraFeatureTouchClientEnabled, false);
     }
 
     /**
@@ -14191,7 +14191,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2054)
     public boolean isFeatureTrustedDevicesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTrustedDevicesEnabled, true, true);
+        return getBooleanAttr(2054, Provisioning.A_zimbraFeatureTrustedDevicesEnabled, true);
     }
 
     /**
@@ -14268,7 +14268,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2050)
     public boolean isFeatureTwoFactorAuthAvailable() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTwoFactorAuthAvailable, false, true);
+        return getBooleanAttr(2050, Provisioning.A_zimbraFeatureTwoFactorAuthAvailable, false);
     }
 
     /**
@@ -14344,7 +14344,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1820)
     public boolean isFeatureTwoFactorAuthRequired() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureTwoFactorAuthRequired, false, true);
+        return getBooleanAttr(1820, Provisioning.A_zimbraFeatureTwoFactorAuthRequired, false);
     }
 
     /**
@@ -14414,7 +14414,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=312)
     public boolean isFeatureViewInHtmlEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureViewInHtmlEnabled, false, true);
+        return getBooleanAttr(312, Provisioning.A_zimbraFeatureViewInHtmlEnabled, false);
     }
 
     /**
@@ -14478,7 +14478,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1050)
     public boolean isFeatureVoiceChangePinEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureVoiceChangePinEnabled, true, true);
+        return getBooleanAttr(1050, Provisioning.A_zimbraFeatureVoiceChangePinEnabled, true);
     }
 
     /**
@@ -14548,7 +14548,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=445)
     public boolean isFeatureVoiceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureVoiceEnabled, false, true);
+        return getBooleanAttr(445, Provisioning.A_zimbraFeatureVoiceEnabled, false);
     }
 
     /**
@@ -14612,7 +14612,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=533)
     public boolean isFeatureVoiceUpsellEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureVoiceUpsellEnabled, false, true);
+        return getBooleanAttr(533, Provisioning.A_zimbraFeatureVoiceUpsellEnabled, false);
     }
 
     /**
@@ -14756,7 +14756,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3088)
     public boolean isFeatureWebClientEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureWebClientEnabled, true, true);
+        return getBooleanAttr(3088, Provisioning.A_zimbraFeatureWebClientEnabled, true);
     }
 
     /**
@@ -14828,7 +14828,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1611)
     public boolean isFeatureWebClientOfflineAccessEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureWebClientOfflineAccessEnabled, true, true);
+        return getBooleanAttr(1611, Provisioning.A_zimbraFeatureWebClientOfflineAccessEnabled, true);
     }
 
     /**
@@ -14901,7 +14901,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=602)
     public boolean isFeatureWebSearchEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureWebSearchEnabled, true, true);
+        return getBooleanAttr(602, Provisioning.A_zimbraFeatureWebSearchEnabled, true);
     }
 
     /**
@@ -14979,7 +14979,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3080)
     public boolean isFeatureZXDesktopEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureZXDesktopEnabled, false, true);
+        return getBooleanAttr(3080, Provisioning.A_zimbraFeatureZXDesktopEnabled, false);
     }
 
     /**
@@ -15059,7 +15059,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3079)
     public boolean isFeatureZXWebEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureZXWebEnabled, false, true);
+        return getBooleanAttr(3079, Provisioning.A_zimbraFeatureZXWebEnabled, false);
     }
 
     /**
@@ -15131,7 +15131,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=544)
     public boolean isFeatureZimbraAssistantEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureZimbraAssistantEnabled, true, true);
+        return getBooleanAttr(544, Provisioning.A_zimbraFeatureZimbraAssistantEnabled, true);
     }
 
     /**
@@ -15207,7 +15207,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3093)
     public boolean isFeatureZulipChatEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureZulipChatEnabled, true, true);
+        return getBooleanAttr(3093, Provisioning.A_zimbraFeatureZulipChatEnabled, true);
     }
 
     /**
@@ -15295,7 +15295,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1385)
     public boolean isFileAndroidCrashReportingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFileAndroidCrashReportingEnabled, true, true);
+        return getBooleanAttr(1385, Provisioning.A_zimbraFileAndroidCrashReportingEnabled, true);
     }
 
     /**
@@ -15678,7 +15678,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1308)
     public long getFileExpirationWarningThreshold() {
-        return getTimeInterval(Provisioning.A_zimbraFileExpirationWarningThreshold, -1L, true);
+        return getTimeInterval(1308, Provisioning.A_zimbraFileExpirationWarningThreshold, -1L);
     }
 
     /**
@@ -15791,7 +15791,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1363)
     public long getFileExternalShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraFileExternalShareLifetime, 0L, true);
+        return getTimeInterval(1363, Provisioning.A_zimbraFileExternalShareLifetime, 0L);
     }
 
     /**
@@ -15900,7 +15900,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1390)
     public boolean isFileIOSCrashReportingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFileIOSCrashReportingEnabled, true, true);
+        return getBooleanAttr(1390, Provisioning.A_zimbraFileIOSCrashReportingEnabled, true);
     }
 
     /**
@@ -15980,7 +15980,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1309)
     public long getFileLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraFileLifetime, -1L, true);
+        return getTimeInterval(1309, Provisioning.A_zimbraFileLifetime, -1L);
     }
 
     /**
@@ -16084,7 +16084,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1442)
     public long getFilePreviewMaxSize() {
-        return getLongAttr(Provisioning.A_zimbraFilePreviewMaxSize, 20971520L, true);
+        return getLongAttr(1442, Provisioning.A_zimbraFilePreviewMaxSize, 20971520L);
     }
 
     /**
@@ -16165,7 +16165,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1364)
     public long getFilePublicShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraFilePublicShareLifetime, 0L, true);
+        return getTimeInterval(1364, Provisioning.A_zimbraFilePublicShareLifetime, 0L);
     }
 
     /**
@@ -16283,7 +16283,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1362)
     public long getFileShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraFileShareLifetime, 0L, true);
+        return getTimeInterval(1362, Provisioning.A_zimbraFileShareLifetime, 0L);
     }
 
     /**
@@ -16528,7 +16528,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1350)
     public long getFileUploadMaxSizePerFile() {
-        return getLongAttr(Provisioning.A_zimbraFileUploadMaxSizePerFile, 0L, true);
+        return getLongAttr(1350, Provisioning.A_zimbraFileUploadMaxSizePerFile, 0L);
     }
 
     /**
@@ -16615,7 +16615,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1325)
     public long getFileVersionLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraFileVersionLifetime, -1L, true);
+        return getTimeInterval(1325, Provisioning.A_zimbraFileVersionLifetime, -1L);
     }
 
     /**
@@ -16714,7 +16714,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1324)
     public boolean isFileVersioningEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFileVersioningEnabled, false, true);
+        return getBooleanAttr(1324, Provisioning.A_zimbraFileVersioningEnabled, false);
     }
 
     /**
@@ -16787,7 +16787,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1158)
     public int getFilterBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraFilterBatchSize, 10000, true);
+        return getIntAttr(1158, Provisioning.A_zimbraFilterBatchSize, 10000);
     }
 
     /**
@@ -16872,7 +16872,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1159)
     public long getFilterSleepInterval() {
-        return getTimeInterval(Provisioning.A_zimbraFilterSleepInterval, 1L, true);
+        return getTimeInterval(1159, Provisioning.A_zimbraFilterSleepInterval, 1L);
     }
 
     /**
@@ -16982,7 +16982,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1437)
     public boolean isForceClearCookies() {
-        return getBooleanAttr(Provisioning.A_zimbraForceClearCookies, false, true);
+        return getBooleanAttr(1437, Provisioning.A_zimbraForceClearCookies, false);
     }
 
     /**
@@ -17341,7 +17341,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=621)
     public long getFreebusyExchangeCachedInterval() {
-        return getTimeInterval(Provisioning.A_zimbraFreebusyExchangeCachedInterval, -1L, true);
+        return getTimeInterval(621, Provisioning.A_zimbraFreebusyExchangeCachedInterval, -1L);
     }
 
     /**
@@ -17454,7 +17454,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=620)
     public long getFreebusyExchangeCachedIntervalStart() {
-        return getTimeInterval(Provisioning.A_zimbraFreebusyExchangeCachedIntervalStart, -1L, true);
+        return getTimeInterval(620, Provisioning.A_zimbraFreebusyExchangeCachedIntervalStart, -1L);
     }
 
     /**
@@ -17708,7 +17708,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=752)
     public boolean isFreebusyLocalMailboxNotActive() {
-        return getBooleanAttr(Provisioning.A_zimbraFreebusyLocalMailboxNotActive, false, true);
+        return getBooleanAttr(752, Provisioning.A_zimbraFreebusyLocalMailboxNotActive, false);
     }
 
     /**
@@ -17784,7 +17784,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1027)
     public boolean isGalSyncAccountBasedAutoCompleteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraGalSyncAccountBasedAutoCompleteEnabled, true, true);
+        return getBooleanAttr(1027, Provisioning.A_zimbraGalSyncAccountBasedAutoCompleteEnabled, true);
     }
 
     /**
@@ -18207,7 +18207,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=414)
     public int getIdentityMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraIdentityMaxNumEntries, 20, true);
+        return getIntAttr(414, Provisioning.A_zimbraIdentityMaxNumEntries, 20);
     }
 
     /**
@@ -18269,7 +18269,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=174)
     public boolean isImapEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraImapEnabled, true, true);
+        return getBooleanAttr(174, Provisioning.A_zimbraImapEnabled, true);
     }
 
     /**
@@ -18612,7 +18612,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=615)
     public boolean isInterceptSendHeadersOnly() {
-        return getBooleanAttr(Provisioning.A_zimbraInterceptSendHeadersOnly, false, true);
+        return getBooleanAttr(615, Provisioning.A_zimbraInterceptSendHeadersOnly, false);
     }
 
     /**
@@ -18894,7 +18894,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=579)
     public boolean isJunkMessagesIndexingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraJunkMessagesIndexingEnabled, true, true);
+        return getBooleanAttr(579, Provisioning.A_zimbraJunkMessagesIndexingEnabled, true);
     }
 
     /**
@@ -19035,7 +19035,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1634)
     public boolean isLogOutFromAllServers() {
-        return getBooleanAttr(Provisioning.A_zimbraLogOutFromAllServers, false, true);
+        return getBooleanAttr(1634, Provisioning.A_zimbraLogOutFromAllServers, false);
     }
 
     /**
@@ -19484,7 +19484,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1099)
     public boolean isMailAllowReceiveButNotSendWhenOverQuota() {
-        return getBooleanAttr(Provisioning.A_zimbraMailAllowReceiveButNotSendWhenOverQuota, false, true);
+        return getBooleanAttr(1099, Provisioning.A_zimbraMailAllowReceiveButNotSendWhenOverQuota, false);
     }
 
     /**
@@ -19560,7 +19560,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=4000)
     public long getMailAttachmentMaxSize() {
-        return getLongAttr(Provisioning.A_zimbraMailAttachmentMaxSize, 0L, true);
+        return getLongAttr(4000, Provisioning.A_zimbraMailAttachmentMaxSize, 0L);
     }
 
     /**
@@ -19635,7 +19635,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=799)
     public int getMailBlacklistMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraMailBlacklistMaxNumEntries, 100, true);
+        return getIntAttr(799, Provisioning.A_zimbraMailBlacklistMaxNumEntries, 100);
     }
 
     /**
@@ -19727,7 +19727,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1133)
     public long getMailDumpsterLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraMailDumpsterLifetime, 2592000000L, true);
+        return getTimeInterval(1133, Provisioning.A_zimbraMailDumpsterLifetime, 2592000000L);
     }
 
     /**
@@ -19831,7 +19831,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1039)
     public int getMailForwardingAddressMaxLength() {
-        return getIntAttr(Provisioning.A_zimbraMailForwardingAddressMaxLength, 4096, true);
+        return getIntAttr(1039, Provisioning.A_zimbraMailForwardingAddressMaxLength, 4096);
     }
 
     /**
@@ -19903,7 +19903,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1040)
     public int getMailForwardingAddressMaxNumAddrs() {
-        return getIntAttr(Provisioning.A_zimbraMailForwardingAddressMaxNumAddrs, 100, true);
+        return getIntAttr(1040, Provisioning.A_zimbraMailForwardingAddressMaxNumAddrs, 100);
     }
 
     /**
@@ -19976,7 +19976,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1213)
     public int getMailHighlightObjectsMaxSize() {
-        return getIntAttr(Provisioning.A_zimbraMailHighlightObjectsMaxSize, 70, true);
+        return getIntAttr(1213, Provisioning.A_zimbraMailHighlightObjectsMaxSize, 70);
     }
 
     /**
@@ -20173,7 +20173,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=147)
     public long getMailIdleSessionTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraMailIdleSessionTimeout, 0L, true);
+        return getTimeInterval(147, Provisioning.A_zimbraMailIdleSessionTimeout, 0L);
     }
 
     /**
@@ -20268,7 +20268,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=106)
     public long getMailMessageLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraMailMessageLifetime, 0L, true);
+        return getTimeInterval(106, Provisioning.A_zimbraMailMessageLifetime, 0L);
     }
 
     /**
@@ -20368,7 +20368,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=110)
     public long getMailMinPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraMailMinPollingInterval, 120000L, true);
+        return getTimeInterval(110, Provisioning.A_zimbraMailMinPollingInterval, 120000L);
     }
 
     /**
@@ -20546,7 +20546,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1117)
     public boolean isMailPurgeUseChangeDateForSpam() {
-        return getBooleanAttr(Provisioning.A_zimbraMailPurgeUseChangeDateForSpam, true, true);
+        return getBooleanAttr(1117, Provisioning.A_zimbraMailPurgeUseChangeDateForSpam, true);
     }
 
     /**
@@ -20628,7 +20628,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=748)
     public boolean isMailPurgeUseChangeDateForTrash() {
-        return getBooleanAttr(Provisioning.A_zimbraMailPurgeUseChangeDateForTrash, true, true);
+        return getBooleanAttr(748, Provisioning.A_zimbraMailPurgeUseChangeDateForTrash, true);
     }
 
     /**
@@ -20706,7 +20706,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=16)
     public long getMailQuota() {
-        return getLongAttr(Provisioning.A_zimbraMailQuota, 0L, true);
+        return getLongAttr(16, Provisioning.A_zimbraMailQuota, 0L);
     }
 
     /**
@@ -20768,7 +20768,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=454)
     public long getMailSignatureMaxLength() {
-        return getLongAttr(Provisioning.A_zimbraMailSignatureMaxLength, 10240L, true);
+        return getLongAttr(454, Provisioning.A_zimbraMailSignatureMaxLength, 10240L);
     }
 
     /**
@@ -20840,7 +20840,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=105)
     public long getMailSpamLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraMailSpamLifetime, 2592000000L, true);
+        return getTimeInterval(105, Provisioning.A_zimbraMailSpamLifetime, 2592000000L);
     }
 
     /**
@@ -21187,7 +21187,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=104)
     public long getMailTrashLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraMailTrashLifetime, 2592000000L, true);
+        return getTimeInterval(104, Provisioning.A_zimbraMailTrashLifetime, 2592000000L);
     }
 
     /**
@@ -21291,7 +21291,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1139)
     public int getMailTrustedSenderListMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraMailTrustedSenderListMaxNumEntries, 500, true);
+        return getIntAttr(1139, Provisioning.A_zimbraMailTrustedSenderListMaxNumEntries, 500);
     }
 
     /**
@@ -21366,7 +21366,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=798)
     public int getMailWhitelistMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraMailWhitelistMaxNumEntries, 100, true);
+        return getIntAttr(798, Provisioning.A_zimbraMailWhitelistMaxNumEntries, 100);
     }
 
     /**
@@ -21451,7 +21451,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1837)
     public int getMaxAppSpecificPasswords() {
-        return getIntAttr(Provisioning.A_zimbraMaxAppSpecificPasswords, 25, true);
+        return getIntAttr(1837, Provisioning.A_zimbraMaxAppSpecificPasswords, 25);
     }
 
     /**
@@ -21528,7 +21528,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1012)
     public int getMaxContactsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraMaxContactsPerPage, 100, true);
+        return getIntAttr(1012, Provisioning.A_zimbraMaxContactsPerPage, 100);
     }
 
     /**
@@ -21606,7 +21606,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1011)
     public int getMaxMailItemsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraMaxMailItemsPerPage, 100, true);
+        return getIntAttr(1011, Provisioning.A_zimbraMaxMailItemsPerPage, 100);
     }
 
     /**
@@ -21687,7 +21687,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1013)
     public int getMaxVoiceItemsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraMaxVoiceItemsPerPage, 100, true);
+        return getIntAttr(1013, Provisioning.A_zimbraMaxVoiceItemsPerPage, 100);
     }
 
     /**
@@ -21764,7 +21764,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1423)
     public boolean isMobileAttachSkippedItemEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileAttachSkippedItemEnabled, false, true);
+        return getBooleanAttr(1423, Provisioning.A_zimbraMobileAttachSkippedItemEnabled, false);
     }
 
     /**
@@ -21840,7 +21840,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1573)
     public boolean isMobileForceProtocol25() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileForceProtocol25, false, true);
+        return getBooleanAttr(1573, Provisioning.A_zimbraMobileForceProtocol25, false);
     }
 
     /**
@@ -21912,7 +21912,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1572)
     public boolean isMobileForceSamsungProtocol25() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileForceSamsungProtocol25, false, true);
+        return getBooleanAttr(1572, Provisioning.A_zimbraMobileForceSamsungProtocol25, false);
     }
 
     /**
@@ -22147,7 +22147,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1425)
     public boolean isMobileMetadataMaxSizeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileMetadataMaxSizeEnabled, false, true);
+        return getBooleanAttr(1425, Provisioning.A_zimbraMobileMetadataMaxSizeEnabled, false);
     }
 
     /**
@@ -22299,7 +22299,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1421)
     public boolean isMobileNotificationEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileNotificationEnabled, false, true);
+        return getBooleanAttr(1421, Provisioning.A_zimbraMobileNotificationEnabled, false);
     }
 
     /**
@@ -22371,7 +22371,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1453)
     public boolean isMobileOutlookSyncEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileOutlookSyncEnabled, true, true);
+        return getBooleanAttr(1453, Provisioning.A_zimbraMobileOutlookSyncEnabled, true);
     }
 
     /**
@@ -22447,7 +22447,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1285)
     public int getMobilePolicyAllowBluetooth() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowBluetooth, 2, true);
+        return getIntAttr(1285, Provisioning.A_zimbraMobilePolicyAllowBluetooth, 2);
     }
 
     /**
@@ -22538,7 +22538,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1300)
     public int getMobilePolicyAllowBrowser() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowBrowser, 1, true);
+        return getIntAttr(1300, Provisioning.A_zimbraMobilePolicyAllowBrowser, 1);
     }
 
     /**
@@ -22624,7 +22624,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1278)
     public int getMobilePolicyAllowCamera() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowCamera, 1, true);
+        return getIntAttr(1278, Provisioning.A_zimbraMobilePolicyAllowCamera, 1);
     }
 
     /**
@@ -22708,7 +22708,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1301)
     public int getMobilePolicyAllowConsumerEmail() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowConsumerEmail, 1, true);
+        return getIntAttr(1301, Provisioning.A_zimbraMobilePolicyAllowConsumerEmail, 1);
     }
 
     /**
@@ -22798,7 +22798,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1288)
     public int getMobilePolicyAllowDesktopSync() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowDesktopSync, 1, true);
+        return getIntAttr(1288, Provisioning.A_zimbraMobilePolicyAllowDesktopSync, 1);
     }
 
     /**
@@ -22881,7 +22881,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1290)
     public int getMobilePolicyAllowHTMLEmail() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowHTMLEmail, 1, true);
+        return getIntAttr(1290, Provisioning.A_zimbraMobilePolicyAllowHTMLEmail, 1);
     }
 
     /**
@@ -22967,7 +22967,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1303)
     public int getMobilePolicyAllowInternetSharing() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowInternetSharing, 1, true);
+        return getIntAttr(1303, Provisioning.A_zimbraMobilePolicyAllowInternetSharing, 1);
     }
 
     /**
@@ -23049,7 +23049,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1286)
     public int getMobilePolicyAllowIrDA() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowIrDA, 1, true);
+        return getIntAttr(1286, Provisioning.A_zimbraMobilePolicyAllowIrDA, 1);
     }
 
     /**
@@ -23130,7 +23130,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=834)
     public boolean isMobilePolicyAllowNonProvisionableDevices() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyAllowNonProvisionableDevices, true, true);
+        return getBooleanAttr(834, Provisioning.A_zimbraMobilePolicyAllowNonProvisionableDevices, true);
     }
 
     /**
@@ -23209,7 +23209,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1284)
     public int getMobilePolicyAllowPOPIMAPEmail() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowPOPIMAPEmail, 1, true);
+        return getIntAttr(1284, Provisioning.A_zimbraMobilePolicyAllowPOPIMAPEmail, 1);
     }
 
     /**
@@ -23294,7 +23294,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=835)
     public boolean isMobilePolicyAllowPartialProvisioning() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyAllowPartialProvisioning, true, true);
+        return getBooleanAttr(835, Provisioning.A_zimbraMobilePolicyAllowPartialProvisioning, true);
     }
 
     /**
@@ -23372,7 +23372,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1302)
     public int getMobilePolicyAllowRemoteDesktop() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowRemoteDesktop, 1, true);
+        return getIntAttr(1302, Provisioning.A_zimbraMobilePolicyAllowRemoteDesktop, 1);
     }
 
     /**
@@ -23458,7 +23458,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1298)
     public int getMobilePolicyAllowSMIMEEncryptionAlgorithmNegotiation() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowSMIMEEncryptionAlgorithmNegotiation, 2, true);
+        return getIntAttr(1298, Provisioning.A_zimbraMobilePolicyAllowSMIMEEncryptionAlgorithmNegotiation, 2);
     }
 
     /**
@@ -23556,7 +23556,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1299)
     public int getMobilePolicyAllowSMIMESoftCerts() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowSMIMESoftCerts, 1, true);
+        return getIntAttr(1299, Provisioning.A_zimbraMobilePolicyAllowSMIMESoftCerts, 1);
     }
 
     /**
@@ -23638,7 +23638,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=839)
     public boolean isMobilePolicyAllowSimpleDevicePassword() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyAllowSimpleDevicePassword, false, true);
+        return getBooleanAttr(839, Provisioning.A_zimbraMobilePolicyAllowSimpleDevicePassword, false);
     }
 
     /**
@@ -23720,7 +23720,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1277)
     public int getMobilePolicyAllowStorageCard() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowStorageCard, 1, true);
+        return getIntAttr(1277, Provisioning.A_zimbraMobilePolicyAllowStorageCard, 1);
     }
 
     /**
@@ -23802,7 +23802,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1283)
     public int getMobilePolicyAllowTextMessaging() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowTextMessaging, 1, true);
+        return getIntAttr(1283, Provisioning.A_zimbraMobilePolicyAllowTextMessaging, 1);
     }
 
     /**
@@ -23884,7 +23884,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1280)
     public int getMobilePolicyAllowUnsignedApplications() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowUnsignedApplications, 1, true);
+        return getIntAttr(1280, Provisioning.A_zimbraMobilePolicyAllowUnsignedApplications, 1);
     }
 
     /**
@@ -23966,7 +23966,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1281)
     public int getMobilePolicyAllowUnsignedInstallationPackages() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowUnsignedInstallationPackages, 1, true);
+        return getIntAttr(1281, Provisioning.A_zimbraMobilePolicyAllowUnsignedInstallationPackages, 1);
     }
 
     /**
@@ -24048,7 +24048,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1282)
     public int getMobilePolicyAllowWiFi() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyAllowWiFi, 1, true);
+        return getIntAttr(1282, Provisioning.A_zimbraMobilePolicyAllowWiFi, 1);
     }
 
     /**
@@ -24130,7 +24130,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=840)
     public boolean isMobilePolicyAlphanumericDevicePasswordRequired() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyAlphanumericDevicePasswordRequired, false, true);
+        return getBooleanAttr(840, Provisioning.A_zimbraMobilePolicyAlphanumericDevicePasswordRequired, false);
     }
 
     /**
@@ -24535,7 +24535,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=847)
     public boolean isMobilePolicyDeviceEncryptionEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyDeviceEncryptionEnabled, true, true);
+        return getBooleanAttr(847, Provisioning.A_zimbraMobilePolicyDeviceEncryptionEnabled, true);
     }
 
     /**
@@ -24620,7 +24620,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=837)
     public boolean isMobilePolicyDevicePasswordEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyDevicePasswordEnabled, true, true);
+        return getBooleanAttr(837, Provisioning.A_zimbraMobilePolicyDevicePasswordEnabled, true);
     }
 
     /**
@@ -24698,7 +24698,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=842)
     public int getMobilePolicyDevicePasswordExpiration() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyDevicePasswordExpiration, 0, true);
+        return getIntAttr(842, Provisioning.A_zimbraMobilePolicyDevicePasswordExpiration, 0);
     }
 
     /**
@@ -24781,7 +24781,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=843)
     public int getMobilePolicyDevicePasswordHistory() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyDevicePasswordHistory, 8, true);
+        return getIntAttr(843, Provisioning.A_zimbraMobilePolicyDevicePasswordHistory, 8);
     }
 
     /**
@@ -24868,7 +24868,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1289)
     public int getMobilePolicyMaxCalendarAgeFilter() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxCalendarAgeFilter, 5, true);
+        return getIntAttr(1289, Provisioning.A_zimbraMobilePolicyMaxCalendarAgeFilter, 5);
     }
 
     /**
@@ -24954,7 +24954,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=845)
     public int getMobilePolicyMaxDevicePasswordFailedAttempts() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxDevicePasswordFailedAttempts, 4, true);
+        return getIntAttr(845, Provisioning.A_zimbraMobilePolicyMaxDevicePasswordFailedAttempts, 4);
     }
 
     /**
@@ -25037,7 +25037,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1291)
     public int getMobilePolicyMaxEmailAgeFilter() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxEmailAgeFilter, 5, true);
+        return getIntAttr(1291, Provisioning.A_zimbraMobilePolicyMaxEmailAgeFilter, 5);
     }
 
     /**
@@ -25123,7 +25123,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1292)
     public int getMobilePolicyMaxEmailBodyTruncationSize() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxEmailBodyTruncationSize, -1, true);
+        return getIntAttr(1292, Provisioning.A_zimbraMobilePolicyMaxEmailBodyTruncationSize, -1);
     }
 
     /**
@@ -25205,7 +25205,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1293)
     public int getMobilePolicyMaxEmailHTMLBodyTruncationSize() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxEmailHTMLBodyTruncationSize, -1, true);
+        return getIntAttr(1293, Provisioning.A_zimbraMobilePolicyMaxEmailHTMLBodyTruncationSize, -1);
     }
 
     /**
@@ -25287,7 +25287,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=844)
     public int getMobilePolicyMaxInactivityTimeDeviceLock() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMaxInactivityTimeDeviceLock, 15, true);
+        return getIntAttr(844, Provisioning.A_zimbraMobilePolicyMaxInactivityTimeDeviceLock, 15);
     }
 
     /**
@@ -25369,7 +25369,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=841)
     public int getMobilePolicyMinDevicePasswordComplexCharacters() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMinDevicePasswordComplexCharacters, 0, true);
+        return getIntAttr(841, Provisioning.A_zimbraMobilePolicyMinDevicePasswordComplexCharacters, 0);
     }
 
     /**
@@ -25451,7 +25451,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=838)
     public int getMobilePolicyMinDevicePasswordLength() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyMinDevicePasswordLength, 4, true);
+        return getIntAttr(838, Provisioning.A_zimbraMobilePolicyMinDevicePasswordLength, 4);
     }
 
     /**
@@ -25533,7 +25533,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=846)
     public boolean isMobilePolicyPasswordRecoveryEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyPasswordRecoveryEnabled, true, true);
+        return getBooleanAttr(846, Provisioning.A_zimbraMobilePolicyPasswordRecoveryEnabled, true);
     }
 
     /**
@@ -25614,7 +25614,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=836)
     public int getMobilePolicyRefreshInterval() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRefreshInterval, 1440, true);
+        return getIntAttr(836, Provisioning.A_zimbraMobilePolicyRefreshInterval, 1440);
     }
 
     /**
@@ -25692,7 +25692,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1279)
     public int getMobilePolicyRequireDeviceEncryption() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireDeviceEncryption, 0, true);
+        return getIntAttr(1279, Provisioning.A_zimbraMobilePolicyRequireDeviceEncryption, 0);
     }
 
     /**
@@ -25774,7 +25774,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1295)
     public int getMobilePolicyRequireEncryptedSMIMEMessages() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireEncryptedSMIMEMessages, 0, true);
+        return getIntAttr(1295, Provisioning.A_zimbraMobilePolicyRequireEncryptedSMIMEMessages, 0);
     }
 
     /**
@@ -25856,7 +25856,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1297)
     public int getMobilePolicyRequireEncryptionSMIMEAlgorithm() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireEncryptionSMIMEAlgorithm, 0, true);
+        return getIntAttr(1297, Provisioning.A_zimbraMobilePolicyRequireEncryptionSMIMEAlgorithm, 0);
     }
 
     /**
@@ -25938,7 +25938,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1287)
     public int getMobilePolicyRequireManualSyncWhenRoaming() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireManualSyncWhenRoaming, 0, true);
+        return getIntAttr(1287, Provisioning.A_zimbraMobilePolicyRequireManualSyncWhenRoaming, 0);
     }
 
     /**
@@ -26020,7 +26020,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1296)
     public int getMobilePolicyRequireSignedSMIMEAlgorithm() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireSignedSMIMEAlgorithm, 0, true);
+        return getIntAttr(1296, Provisioning.A_zimbraMobilePolicyRequireSignedSMIMEAlgorithm, 0);
     }
 
     /**
@@ -26102,7 +26102,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1294)
     public int getMobilePolicyRequireSignedSMIMEMessages() {
-        return getIntAttr(Provisioning.A_zimbraMobilePolicyRequireSignedSMIMEMessages, 0, true);
+        return getIntAttr(1294, Provisioning.A_zimbraMobilePolicyRequireSignedSMIMEMessages, 0);
     }
 
     /**
@@ -26183,7 +26183,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1444)
     public boolean isMobilePolicyRequireStorageCardEncryption() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicyRequireStorageCardEncryption, false, true);
+        return getBooleanAttr(1444, Provisioning.A_zimbraMobilePolicyRequireStorageCardEncryption, false);
     }
 
     /**
@@ -26262,7 +26262,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1306)
     public boolean isMobilePolicySuppressDeviceEncryption() {
-        return getBooleanAttr(Provisioning.A_zimbraMobilePolicySuppressDeviceEncryption, false, true);
+        return getBooleanAttr(1306, Provisioning.A_zimbraMobilePolicySuppressDeviceEncryption, false);
     }
 
     /**
@@ -26497,7 +26497,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2055)
     public boolean isMobileSearchMimeSupportEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileSearchMimeSupportEnabled, false, true);
+        return getBooleanAttr(2055, Provisioning.A_zimbraMobileSearchMimeSupportEnabled, false);
     }
 
     /**
@@ -26601,7 +26601,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=4002)
     public boolean isMobileShareCalendarEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileShareCalendarEnabled, false, true);
+        return getBooleanAttr(4002, Provisioning.A_zimbraMobileShareCalendarEnabled, false);
     }
 
     /**
@@ -26673,7 +26673,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1570)
     public boolean isMobileShareContactEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileShareContactEnabled, false, true);
+        return getBooleanAttr(1570, Provisioning.A_zimbraMobileShareContactEnabled, false);
     }
 
     /**
@@ -26745,7 +26745,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=4001)
     public boolean isMobileShareMailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileShareMailEnabled, false, true);
+        return getBooleanAttr(4001, Provisioning.A_zimbraMobileShareMailEnabled, false);
     }
 
     /**
@@ -26819,7 +26819,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1205)
     public boolean isMobileSmartForwardRFC822Enabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileSmartForwardRFC822Enabled, false, true);
+        return getBooleanAttr(1205, Provisioning.A_zimbraMobileSmartForwardRFC822Enabled, false);
     }
 
     /**
@@ -27222,7 +27222,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1633)
     public boolean isMobileTombstoneEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileTombstoneEnabled, true, true);
+        return getBooleanAttr(1633, Provisioning.A_zimbraMobileTombstoneEnabled, true);
     }
 
     /**
@@ -27640,7 +27640,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=482)
     public int getNotebookMaxRevisions() {
-        return getIntAttr(Provisioning.A_zimbraNotebookMaxRevisions, 0, true);
+        return getIntAttr(482, Provisioning.A_zimbraNotebookMaxRevisions, 0);
     }
 
     /**
@@ -27709,7 +27709,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=646)
     public boolean isNotebookSanitizeHtml() {
-        return getBooleanAttr(Provisioning.A_zimbraNotebookSanitizeHtml, true, true);
+        return getBooleanAttr(646, Provisioning.A_zimbraNotebookSanitizeHtml, true);
     }
 
     /**
@@ -27991,7 +27991,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3081)
     public boolean isPasswordBlockCommonEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPasswordBlockCommonEnabled, false, true);
+        return getBooleanAttr(3081, Provisioning.A_zimbraPasswordBlockCommonEnabled, false);
     }
 
     /**
@@ -28063,7 +28063,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=37)
     public int getPasswordEnforceHistory() {
-        return getIntAttr(Provisioning.A_zimbraPasswordEnforceHistory, 0, true);
+        return getIntAttr(37, Provisioning.A_zimbraPasswordEnforceHistory, 0);
     }
 
     /**
@@ -28133,7 +28133,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=45)
     public boolean isPasswordLocked() {
-        return getBooleanAttr(Provisioning.A_zimbraPasswordLocked, false, true);
+        return getBooleanAttr(45, Provisioning.A_zimbraPasswordLocked, false);
     }
 
     /**
@@ -28203,7 +28203,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=379)
     public long getPasswordLockoutDuration() {
-        return getTimeInterval(Provisioning.A_zimbraPasswordLockoutDuration, 3600000L, true);
+        return getTimeInterval(379, Provisioning.A_zimbraPasswordLockoutDuration, 3600000L);
     }
 
     /**
@@ -28295,7 +28295,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=378)
     public boolean isPasswordLockoutEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPasswordLockoutEnabled, false, true);
+        return getBooleanAttr(378, Provisioning.A_zimbraPasswordLockoutEnabled, false);
     }
 
     /**
@@ -28366,7 +28366,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=381)
     public long getPasswordLockoutFailureLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPasswordLockoutFailureLifetime, 3600000L, true);
+        return getTimeInterval(381, Provisioning.A_zimbraPasswordLockoutFailureLifetime, 3600000L);
     }
 
     /**
@@ -28464,7 +28464,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=380)
     public int getPasswordLockoutMaxFailures() {
-        return getIntAttr(Provisioning.A_zimbraPasswordLockoutMaxFailures, 10, true);
+        return getIntAttr(380, Provisioning.A_zimbraPasswordLockoutMaxFailures, 10);
     }
 
     /**
@@ -28536,7 +28536,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2086)
     public int getPasswordLockoutSuppressionCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraPasswordLockoutSuppressionCacheSize, 1, true);
+        return getIntAttr(2086, Provisioning.A_zimbraPasswordLockoutSuppressionCacheSize, 1);
     }
 
     /**
@@ -28626,7 +28626,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2087)
     public boolean isPasswordLockoutSuppressionEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPasswordLockoutSuppressionEnabled, true, true);
+        return getBooleanAttr(2087, Provisioning.A_zimbraPasswordLockoutSuppressionEnabled, true);
     }
 
     /**
@@ -28835,7 +28835,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=36)
     public int getPasswordMaxAge() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMaxAge, 0, true);
+        return getIntAttr(36, Provisioning.A_zimbraPasswordMaxAge, 0);
     }
 
     /**
@@ -28897,7 +28897,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=34)
     public int getPasswordMaxLength() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMaxLength, 64, true);
+        return getIntAttr(34, Provisioning.A_zimbraPasswordMaxLength, 64);
     }
 
     /**
@@ -28959,7 +28959,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=35)
     public int getPasswordMinAge() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinAge, 0, true);
+        return getIntAttr(35, Provisioning.A_zimbraPasswordMinAge, 0);
     }
 
     /**
@@ -29023,7 +29023,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1162)
     public int getPasswordMinAlphaChars() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinAlphaChars, 0, true);
+        return getIntAttr(1162, Provisioning.A_zimbraPasswordMinAlphaChars, 0);
     }
 
     /**
@@ -29096,7 +29096,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1255)
     public int getPasswordMinDigitsOrPuncs() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinDigitsOrPuncs, 0, true);
+        return getIntAttr(1255, Provisioning.A_zimbraPasswordMinDigitsOrPuncs, 0);
     }
 
     /**
@@ -29170,7 +29170,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=33)
     public int getPasswordMinLength() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinLength, 6, true);
+        return getIntAttr(33, Provisioning.A_zimbraPasswordMinLength, 6);
     }
 
     /**
@@ -29232,7 +29232,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=390)
     public int getPasswordMinLowerCaseChars() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinLowerCaseChars, 0, true);
+        return getIntAttr(390, Provisioning.A_zimbraPasswordMinLowerCaseChars, 0);
     }
 
     /**
@@ -29294,7 +29294,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=392)
     public int getPasswordMinNumericChars() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinNumericChars, 0, true);
+        return getIntAttr(392, Provisioning.A_zimbraPasswordMinNumericChars, 0);
     }
 
     /**
@@ -29356,7 +29356,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=391)
     public int getPasswordMinPunctuationChars() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinPunctuationChars, 0, true);
+        return getIntAttr(391, Provisioning.A_zimbraPasswordMinPunctuationChars, 0);
     }
 
     /**
@@ -29418,7 +29418,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=389)
     public int getPasswordMinUpperCaseChars() {
-        return getIntAttr(Provisioning.A_zimbraPasswordMinUpperCaseChars, 0, true);
+        return getIntAttr(389, Provisioning.A_zimbraPasswordMinUpperCaseChars, 0);
     }
 
     /**
@@ -29482,7 +29482,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2141)
     public int getPasswordRecoveryMaxAttempts() {
-        return getIntAttr(Provisioning.A_zimbraPasswordRecoveryMaxAttempts, 10, true);
+        return getIntAttr(2141, Provisioning.A_zimbraPasswordRecoveryMaxAttempts, 10);
     }
 
     /**
@@ -29552,7 +29552,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=175)
     public boolean isPop3Enabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3Enabled, true, true);
+        return getBooleanAttr(175, Provisioning.A_zimbraPop3Enabled, true);
     }
 
     /**
@@ -29678,7 +29678,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1048)
     public boolean isPrefAccountTreeOpen() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAccountTreeOpen, true, true);
+        return getBooleanAttr(1048, Provisioning.A_zimbraPrefAccountTreeOpen, true);
     }
 
     /**
@@ -29751,7 +29751,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1036)
     public boolean isPrefAdminConsoleWarnOnExit() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAdminConsoleWarnOnExit, true, true);
+        return getBooleanAttr(1036, Provisioning.A_zimbraPrefAdminConsoleWarnOnExit, true);
     }
 
     /**
@@ -29828,7 +29828,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=678)
     public boolean isPrefAdvancedClientEnforceMinDisplay() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAdvancedClientEnforceMinDisplay, true, true);
+        return getBooleanAttr(678, Provisioning.A_zimbraPrefAdvancedClientEnforceMinDisplay, true);
     }
 
     /**
@@ -29905,7 +29905,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1028)
     public boolean isPrefAppleIcalDelegationEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAppleIcalDelegationEnabled, false, true);
+        return getBooleanAttr(1028, Provisioning.A_zimbraPrefAppleIcalDelegationEnabled, false);
     }
 
     /**
@@ -29980,7 +29980,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=131)
     public boolean isPrefAutoAddAddressEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAutoAddAddressEnabled, true, true);
+        return getBooleanAttr(131, Provisioning.A_zimbraPrefAutoAddAddressEnabled, true);
     }
 
     /**
@@ -30048,7 +30048,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1091)
     public boolean isPrefAutoCompleteQuickCompletionOnComma() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAutoCompleteQuickCompletionOnComma, true, true);
+        return getBooleanAttr(1091, Provisioning.A_zimbraPrefAutoCompleteQuickCompletionOnComma, true);
     }
 
     /**
@@ -30127,7 +30127,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=561)
     public long getPrefAutoSaveDraftInterval() {
-        return getTimeInterval(Provisioning.A_zimbraPrefAutoSaveDraftInterval, 30000L, true);
+        return getTimeInterval(561, Provisioning.A_zimbraPrefAutoSaveDraftInterval, 30000L);
     }
 
     /**
@@ -30228,7 +30228,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1146)
     public boolean isPrefAutocompleteAddressBubblesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefAutocompleteAddressBubblesEnabled, true, true);
+        return getBooleanAttr(1146, Provisioning.A_zimbraPrefAutocompleteAddressBubblesEnabled, true);
     }
 
     /**
@@ -30439,7 +30439,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=702)
     public boolean isPrefCalendarAllowCancelEmailToSelf() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarAllowCancelEmailToSelf, false, true);
+        return getBooleanAttr(702, Provisioning.A_zimbraPrefCalendarAllowCancelEmailToSelf, false);
     }
 
     /**
@@ -30512,7 +30512,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=686)
     public boolean isPrefCalendarAllowForwardedInvite() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarAllowForwardedInvite, true, true);
+        return getBooleanAttr(686, Provisioning.A_zimbraPrefCalendarAllowForwardedInvite, true);
     }
 
     /**
@@ -30589,7 +30589,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=688)
     public boolean isPrefCalendarAllowPublishMethodInvite() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarAllowPublishMethodInvite, false, true);
+        return getBooleanAttr(688, Provisioning.A_zimbraPrefCalendarAllowPublishMethodInvite, false);
     }
 
     /**
@@ -30850,7 +30850,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=276)
     public boolean isPrefCalendarAlwaysShowMiniCal() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarAlwaysShowMiniCal, true, true);
+        return getBooleanAttr(276, Provisioning.A_zimbraPrefCalendarAlwaysShowMiniCal, true);
     }
 
     /**
@@ -30916,7 +30916,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1089)
     public boolean isPrefCalendarApptAllowAtendeeEdit() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarApptAllowAtendeeEdit, true, true);
+        return getBooleanAttr(1089, Provisioning.A_zimbraPrefCalendarApptAllowAtendeeEdit, true);
     }
 
     /**
@@ -30999,7 +30999,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=341)
     public int getPrefCalendarApptReminderWarningTime() {
-        return getIntAttr(Provisioning.A_zimbraPrefCalendarApptReminderWarningTime, 5, true);
+        return getIntAttr(341, Provisioning.A_zimbraPrefCalendarApptReminderWarningTime, 5);
     }
 
     /**
@@ -31222,7 +31222,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=848)
     public boolean isPrefCalendarAutoAddInvites() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarAutoAddInvites, true, true);
+        return getBooleanAttr(848, Provisioning.A_zimbraPrefCalendarAutoAddInvites, true);
     }
 
     /**
@@ -31293,7 +31293,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=440)
     public int getPrefCalendarDayHourEnd() {
-        return getIntAttr(Provisioning.A_zimbraPrefCalendarDayHourEnd, 18, true);
+        return getIntAttr(440, Provisioning.A_zimbraPrefCalendarDayHourEnd, 18);
     }
 
     /**
@@ -31359,7 +31359,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=439)
     public int getPrefCalendarDayHourStart() {
-        return getIntAttr(Provisioning.A_zimbraPrefCalendarDayHourStart, 8, true);
+        return getIntAttr(439, Provisioning.A_zimbraPrefCalendarDayHourStart, 8);
     }
 
     /**
@@ -31430,7 +31430,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1187)
     public long getPrefCalendarDefaultApptDuration() {
-        return getTimeInterval(Provisioning.A_zimbraPrefCalendarDefaultApptDuration, 3600000L, true);
+        return getTimeInterval(1187, Provisioning.A_zimbraPrefCalendarDefaultApptDuration, 3600000L);
     }
 
     /**
@@ -31527,7 +31527,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=261)
     public int getPrefCalendarFirstDayOfWeek() {
-        return getIntAttr(Provisioning.A_zimbraPrefCalendarFirstDayOfWeek, 0, true);
+        return getIntAttr(261, Provisioning.A_zimbraPrefCalendarFirstDayOfWeek, 0);
     }
 
     /**
@@ -31705,7 +31705,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=273)
     public boolean isPrefCalendarNotifyDelegatedChanges() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarNotifyDelegatedChanges, false, true);
+        return getBooleanAttr(273, Provisioning.A_zimbraPrefCalendarNotifyDelegatedChanges, false);
     }
 
     /**
@@ -31927,7 +31927,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=682)
     public boolean isPrefCalendarReminderFlashTitle() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarReminderFlashTitle, true, true);
+        return getBooleanAttr(682, Provisioning.A_zimbraPrefCalendarReminderFlashTitle, true);
     }
 
     /**
@@ -32000,7 +32000,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=577)
     public boolean isPrefCalendarReminderMobile() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarReminderMobile, false, true);
+        return getBooleanAttr(577, Provisioning.A_zimbraPrefCalendarReminderMobile, false);
     }
 
     /**
@@ -32078,7 +32078,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=576)
     public boolean isPrefCalendarReminderSendEmail() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarReminderSendEmail, false, true);
+        return getBooleanAttr(576, Provisioning.A_zimbraPrefCalendarReminderSendEmail, false);
     }
 
     /**
@@ -32159,7 +32159,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=667)
     public boolean isPrefCalendarReminderSoundsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarReminderSoundsEnabled, true, true);
+        return getBooleanAttr(667, Provisioning.A_zimbraPrefCalendarReminderSoundsEnabled, true);
     }
 
     /**
@@ -32236,7 +32236,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=578)
     public boolean isPrefCalendarReminderYMessenger() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarReminderYMessenger, false, true);
+        return getBooleanAttr(578, Provisioning.A_zimbraPrefCalendarReminderYMessenger, false);
     }
 
     /**
@@ -32316,7 +32316,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=849)
     public boolean isPrefCalendarSendInviteDeniedAutoReply() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarSendInviteDeniedAutoReply, false, true);
+        return getBooleanAttr(849, Provisioning.A_zimbraPrefCalendarSendInviteDeniedAutoReply, false);
     }
 
     /**
@@ -32404,7 +32404,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1196)
     public boolean isPrefCalendarShowDeclinedMeetings() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarShowDeclinedMeetings, true, true);
+        return getBooleanAttr(1196, Provisioning.A_zimbraPrefCalendarShowDeclinedMeetings, true);
     }
 
     /**
@@ -32476,7 +32476,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1022)
     public boolean isPrefCalendarShowPastDueReminders() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarShowPastDueReminders, true, true);
+        return getBooleanAttr(1022, Provisioning.A_zimbraPrefCalendarShowPastDueReminders, true);
     }
 
     /**
@@ -32548,7 +32548,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=813)
     public boolean isPrefCalendarToasterEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarToasterEnabled, false, true);
+        return getBooleanAttr(813, Provisioning.A_zimbraPrefCalendarToasterEnabled, false);
     }
 
     /**
@@ -32618,7 +32618,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=274)
     public boolean isPrefCalendarUseQuickAdd() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefCalendarUseQuickAdd, true, true);
+        return getBooleanAttr(274, Provisioning.A_zimbraPrefCalendarUseQuickAdd, true);
     }
 
     /**
@@ -32689,7 +32689,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1195)
     public long getPrefCalendarViewTimeInterval() {
-        return getTimeInterval(Provisioning.A_zimbraPrefCalendarViewTimeInterval, 3600000L, true);
+        return getTimeInterval(1195, Provisioning.A_zimbraPrefCalendarViewTimeInterval, 3600000L);
     }
 
     /**
@@ -32992,7 +32992,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2057)
     public boolean isPrefChatEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefChatEnabled, true, true);
+        return getBooleanAttr(2057, Provisioning.A_zimbraPrefChatEnabled, true);
     }
 
     /**
@@ -33068,7 +33068,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2051)
     public boolean isPrefChatPlaySound() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefChatPlaySound, false, true);
+        return getBooleanAttr(2051, Provisioning.A_zimbraPrefChatPlaySound, false);
     }
 
     /**
@@ -33255,7 +33255,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1424)
     public boolean isPrefColorMessagesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefColorMessagesEnabled, false, true);
+        return getBooleanAttr(1424, Provisioning.A_zimbraPrefColorMessagesEnabled, false);
     }
 
     /**
@@ -33571,7 +33571,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=209)
     public boolean isPrefComposeInNewWindow() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefComposeInNewWindow, false, true);
+        return getBooleanAttr(209, Provisioning.A_zimbraPrefComposeInNewWindow, false);
     }
 
     /**
@@ -33638,7 +33638,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1090)
     public boolean isPrefContactsDisableAutocompleteOnContactGroupMembers() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefContactsDisableAutocompleteOnContactGroupMembers, false, true);
+        return getBooleanAttr(1090, Provisioning.A_zimbraPrefContactsDisableAutocompleteOnContactGroupMembers, false);
     }
 
     /**
@@ -33724,7 +33724,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1102)
     public boolean isPrefContactsExpandAppleContactGroups() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefContactsExpandAppleContactGroups, false, true);
+        return getBooleanAttr(1102, Provisioning.A_zimbraPrefContactsExpandAppleContactGroups, false);
     }
 
     /**
@@ -33925,7 +33925,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=148)
     public int getPrefContactsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraPrefContactsPerPage, 25, true);
+        return getIntAttr(148, Provisioning.A_zimbraPrefContactsPerPage, 25);
     }
 
     /**
@@ -34121,7 +34121,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1394)
     public boolean isPrefConvShowCalendar() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefConvShowCalendar, false, true);
+        return getBooleanAttr(1394, Provisioning.A_zimbraPrefConvShowCalendar, false);
     }
 
     /**
@@ -34446,7 +34446,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2994)
     public int getPrefDefaultCalendarId() {
-        return getIntAttr(Provisioning.A_zimbraPrefDefaultCalendarId, 10, true);
+        return getIntAttr(2994, Provisioning.A_zimbraPrefDefaultCalendarId, 10);
     }
 
     /**
@@ -34740,7 +34740,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=470)
     public boolean isPrefDeleteInviteOnReply() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefDeleteInviteOnReply, true, true);
+        return getBooleanAttr(470, Provisioning.A_zimbraPrefDeleteInviteOnReply, true);
     }
 
     /**
@@ -34940,7 +34940,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=511)
     public boolean isPrefDisplayExternalImages() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefDisplayExternalImages, false, true);
+        return getBooleanAttr(511, Provisioning.A_zimbraPrefDisplayExternalImages, false);
     }
 
     /**
@@ -35004,7 +35004,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3022)
     public boolean isPrefDisplayTimeInMailList() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefDisplayTimeInMailList, false, true);
+        return getBooleanAttr(3022, Provisioning.A_zimbraPrefDisplayTimeInMailList, false);
     }
 
     /**
@@ -35394,7 +35394,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=771)
     public boolean isPrefFolderColorEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefFolderColorEnabled, true, true);
+        return getBooleanAttr(771, Provisioning.A_zimbraPrefFolderColorEnabled, true);
     }
 
     /**
@@ -35466,7 +35466,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=637)
     public boolean isPrefFolderTreeOpen() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefFolderTreeOpen, true, true);
+        return getBooleanAttr(637, Provisioning.A_zimbraPrefFolderTreeOpen, true);
     }
 
     /**
@@ -35935,7 +35935,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=218)
     public boolean isPrefForwardReplyInOriginalFormat() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefForwardReplyInOriginalFormat, true, true);
+        return getBooleanAttr(218, Provisioning.A_zimbraPrefForwardReplyInOriginalFormat, true);
     }
 
     /**
@@ -36069,7 +36069,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=372)
     public boolean isPrefGalAutoCompleteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefGalAutoCompleteEnabled, true, true);
+        return getBooleanAttr(372, Provisioning.A_zimbraPrefGalAutoCompleteEnabled, true);
     }
 
     /**
@@ -36137,7 +36137,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=635)
     public boolean isPrefGalSearchEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefGalSearchEnabled, true, true);
+        return getBooleanAttr(635, Provisioning.A_zimbraPrefGalSearchEnabled, true);
     }
 
     /**
@@ -36641,7 +36641,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=488)
     public boolean isPrefIMAutoLogin() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMAutoLogin, false, true);
+        return getBooleanAttr(488, Provisioning.A_zimbraPrefIMAutoLogin, false);
     }
 
     /**
@@ -36795,7 +36795,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=462)
     public boolean isPrefIMFlashIcon() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMFlashIcon, true, true);
+        return getBooleanAttr(462, Provisioning.A_zimbraPrefIMFlashIcon, true);
     }
 
     /**
@@ -36869,7 +36869,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=679)
     public boolean isPrefIMFlashTitle() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMFlashTitle, true, true);
+        return getBooleanAttr(679, Provisioning.A_zimbraPrefIMFlashTitle, true);
     }
 
     /**
@@ -36951,7 +36951,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=707)
     public boolean isPrefIMHideBlockedBuddies() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMHideBlockedBuddies, false, true);
+        return getBooleanAttr(707, Provisioning.A_zimbraPrefIMHideBlockedBuddies, false);
     }
 
     /**
@@ -37033,7 +37033,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=706)
     public boolean isPrefIMHideOfflineBuddies() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMHideOfflineBuddies, false, true);
+        return getBooleanAttr(706, Provisioning.A_zimbraPrefIMHideOfflineBuddies, false);
     }
 
     /**
@@ -37262,7 +37262,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=559)
     public int getPrefIMIdleTimeout() {
-        return getIntAttr(Provisioning.A_zimbraPrefIMIdleTimeout, 10, true);
+        return getIntAttr(559, Provisioning.A_zimbraPrefIMIdleTimeout, 10);
     }
 
     /**
@@ -37342,7 +37342,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=517)
     public boolean isPrefIMInstantNotify() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMInstantNotify, true, true);
+        return getBooleanAttr(517, Provisioning.A_zimbraPrefIMInstantNotify, true);
     }
 
     /**
@@ -37416,7 +37416,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=556)
     public boolean isPrefIMLogChats() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMLogChats, true, true);
+        return getBooleanAttr(556, Provisioning.A_zimbraPrefIMLogChats, true);
     }
 
     /**
@@ -37498,7 +37498,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=552)
     public boolean isPrefIMLogChatsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMLogChatsEnabled, true, true);
+        return getBooleanAttr(552, Provisioning.A_zimbraPrefIMLogChatsEnabled, true);
     }
 
     /**
@@ -37578,7 +37578,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=463)
     public boolean isPrefIMNotifyPresence() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMNotifyPresence, true, true);
+        return getBooleanAttr(463, Provisioning.A_zimbraPrefIMNotifyPresence, true);
     }
 
     /**
@@ -37650,7 +37650,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=464)
     public boolean isPrefIMNotifyStatus() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMNotifyStatus, true, true);
+        return getBooleanAttr(464, Provisioning.A_zimbraPrefIMNotifyStatus, true);
     }
 
     /**
@@ -37724,7 +37724,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=558)
     public boolean isPrefIMReportIdle() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMReportIdle, true, true);
+        return getBooleanAttr(558, Provisioning.A_zimbraPrefIMReportIdle, true);
     }
 
     /**
@@ -37806,7 +37806,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=570)
     public boolean isPrefIMSoundsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMSoundsEnabled, true, true);
+        return getBooleanAttr(570, Provisioning.A_zimbraPrefIMSoundsEnabled, true);
     }
 
     /**
@@ -37886,7 +37886,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=814)
     public boolean isPrefIMToasterEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIMToasterEnabled, false, true);
+        return getBooleanAttr(814, Provisioning.A_zimbraPrefIMToasterEnabled, false);
     }
 
     /**
@@ -37959,7 +37959,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3086)
     public boolean isPrefImapEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefImapEnabled, true, true);
+        return getBooleanAttr(3086, Provisioning.A_zimbraPrefImapEnabled, true);
     }
 
     /**
@@ -38033,7 +38033,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=241)
     public boolean isPrefImapSearchFoldersEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefImapSearchFoldersEnabled, true, true);
+        return getBooleanAttr(241, Provisioning.A_zimbraPrefImapSearchFoldersEnabled, true);
     }
 
     /**
@@ -38105,7 +38105,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=538)
     public long getPrefInboxReadLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPrefInboxReadLifetime, 0L, true);
+        return getTimeInterval(538, Provisioning.A_zimbraPrefInboxReadLifetime, 0L);
     }
 
     /**
@@ -38217,7 +38217,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=537)
     public long getPrefInboxUnreadLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPrefInboxUnreadLifetime, 0L, true);
+        return getTimeInterval(537, Provisioning.A_zimbraPrefInboxUnreadLifetime, 0L);
     }
 
     /**
@@ -38321,7 +38321,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1338)
     public boolean isPrefIncludeSharedItemsInSearch() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIncludeSharedItemsInSearch, false, true);
+        return getBooleanAttr(1338, Provisioning.A_zimbraPrefIncludeSharedItemsInSearch, false);
     }
 
     /**
@@ -38391,7 +38391,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=55)
     public boolean isPrefIncludeSpamInSearch() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIncludeSpamInSearch, false, true);
+        return getBooleanAttr(55, Provisioning.A_zimbraPrefIncludeSpamInSearch, false);
     }
 
     /**
@@ -38453,7 +38453,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=56)
     public boolean isPrefIncludeTrashInSearch() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefIncludeTrashInSearch, false, true);
+        return getBooleanAttr(56, Provisioning.A_zimbraPrefIncludeTrashInSearch, false);
     }
 
     /**
@@ -38517,7 +38517,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1079)
     public int getPrefItemsPerVirtualPage() {
-        return getIntAttr(Provisioning.A_zimbraPrefItemsPerVirtualPage, 50, true);
+        return getIntAttr(1079, Provisioning.A_zimbraPrefItemsPerVirtualPage, 50);
     }
 
     /**
@@ -38599,7 +38599,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=540)
     public long getPrefJunkLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPrefJunkLifetime, 0L, true);
+        return getTimeInterval(540, Provisioning.A_zimbraPrefJunkLifetime, 0L);
     }
 
     /**
@@ -38934,7 +38934,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=681)
     public boolean isPrefMailFlashIcon() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailFlashIcon, false, true);
+        return getBooleanAttr(681, Provisioning.A_zimbraPrefMailFlashIcon, false);
     }
 
     /**
@@ -39006,7 +39006,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=680)
     public boolean isPrefMailFlashTitle() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailFlashTitle, false, true);
+        return getBooleanAttr(680, Provisioning.A_zimbraPrefMailFlashTitle, false);
     }
 
     /**
@@ -39220,7 +39220,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=57)
     public int getPrefMailItemsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraPrefMailItemsPerPage, 25, true);
+        return getIntAttr(57, Provisioning.A_zimbraPrefMailItemsPerPage, 25);
     }
 
     /**
@@ -39290,7 +39290,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=111)
     public long getPrefMailPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraPrefMailPollingInterval, 300000L, true);
+        return getTimeInterval(111, Provisioning.A_zimbraPrefMailPollingInterval, 300000L);
     }
 
     /**
@@ -39385,7 +39385,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1217)
     public boolean isPrefMailRequestReadReceipts() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailRequestReadReceipts, false, true);
+        return getBooleanAttr(1217, Provisioning.A_zimbraPrefMailRequestReadReceipts, false);
     }
 
     /**
@@ -39846,7 +39846,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=666)
     public boolean isPrefMailSoundsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailSoundsEnabled, false, true);
+        return getBooleanAttr(666, Provisioning.A_zimbraPrefMailSoundsEnabled, false);
     }
 
     /**
@@ -39918,7 +39918,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=812)
     public boolean isPrefMailToasterEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMailToasterEnabled, false, true);
+        return getBooleanAttr(812, Provisioning.A_zimbraPrefMailToasterEnabled, false);
     }
 
     /**
@@ -40133,7 +40133,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=749)
     public boolean isPrefMandatorySpellCheckEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMandatorySpellCheckEnabled, false, true);
+        return getBooleanAttr(749, Provisioning.A_zimbraPrefMandatorySpellCheckEnabled, false);
     }
 
     /**
@@ -40206,7 +40206,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=650)
     public int getPrefMarkMsgRead() {
-        return getIntAttr(Provisioning.A_zimbraPrefMarkMsgRead, 0, true);
+        return getIntAttr(650, Provisioning.A_zimbraPrefMarkMsgRead, 0);
     }
 
     /**
@@ -40283,7 +40283,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1198)
     public boolean isPrefMessageIdDedupingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMessageIdDedupingEnabled, true, true);
+        return getBooleanAttr(1198, Provisioning.A_zimbraPrefMessageIdDedupingEnabled, true);
     }
 
     /**
@@ -40357,7 +40357,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=145)
     public boolean isPrefMessageViewHtmlPreferred() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefMessageViewHtmlPreferred, true, true);
+        return getBooleanAttr(145, Provisioning.A_zimbraPrefMessageViewHtmlPreferred, true);
     }
 
     /**
@@ -40420,7 +40420,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=500)
     public boolean isPrefOpenMailInNewWindow() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefOpenMailInNewWindow, false, true);
+        return getBooleanAttr(500, Provisioning.A_zimbraPrefOpenMailInNewWindow, false);
     }
 
     /**
@@ -40495,7 +40495,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=386)
     public long getPrefOutOfOfficeCacheDuration() {
-        return getTimeInterval(Provisioning.A_zimbraPrefOutOfOfficeCacheDuration, 604800000L, true);
+        return getTimeInterval(386, Provisioning.A_zimbraPrefOutOfOfficeCacheDuration, 604800000L);
     }
 
     /**
@@ -40730,7 +40730,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1245)
     public boolean isPrefOutOfOfficeStatusAlertOnLogin() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefOutOfOfficeStatusAlertOnLogin, true, true);
+        return getBooleanAttr(1245, Provisioning.A_zimbraPrefOutOfOfficeStatusAlertOnLogin, true);
     }
 
     /**
@@ -41101,7 +41101,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3087)
     public boolean isPrefPop3Enabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefPop3Enabled, true, true);
+        return getBooleanAttr(3087, Provisioning.A_zimbraPrefPop3Enabled, true);
     }
 
     /**
@@ -41177,7 +41177,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1166)
     public boolean isPrefPop3IncludeSpam() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefPop3IncludeSpam, false, true);
+        return getBooleanAttr(1166, Provisioning.A_zimbraPrefPop3IncludeSpam, false);
     }
 
     /**
@@ -41249,7 +41249,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3085)
     public boolean isPrefPowerPasteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefPowerPasteEnabled, true, true);
+        return getBooleanAttr(3085, Provisioning.A_zimbraPrefPowerPasteEnabled, true);
     }
 
     /**
@@ -41321,7 +41321,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=394)
     public boolean isPrefReadingPaneEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefReadingPaneEnabled, true, true);
+        return getBooleanAttr(394, Provisioning.A_zimbraPrefReadingPaneEnabled, true);
     }
 
     /**
@@ -41653,7 +41653,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=22)
     public boolean isPrefSaveToSent() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefSaveToSent, true, true);
+        return getBooleanAttr(22, Provisioning.A_zimbraPrefSaveToSent, true);
     }
 
     /**
@@ -41717,7 +41717,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=634)
     public boolean isPrefSearchTreeOpen() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefSearchTreeOpen, true, true);
+        return getBooleanAttr(634, Provisioning.A_zimbraPrefSearchTreeOpen, true);
     }
 
     /**
@@ -41797,7 +41797,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=539)
     public long getPrefSentLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPrefSentLifetime, 0L, true);
+        return getTimeInterval(539, Provisioning.A_zimbraPrefSentLifetime, 0L);
     }
 
     /**
@@ -41963,7 +41963,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=759)
     public boolean isPrefSharedAddrBookAutoCompleteEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefSharedAddrBookAutoCompleteEnabled, false, true);
+        return getBooleanAttr(759, Provisioning.A_zimbraPrefSharedAddrBookAutoCompleteEnabled, false);
     }
 
     /**
@@ -42036,7 +42036,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1173)
     public boolean isPrefShortEmailAddress() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShortEmailAddress, false, true);
+        return getBooleanAttr(1173, Provisioning.A_zimbraPrefShortEmailAddress, false);
     }
 
     /**
@@ -42176,7 +42176,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1904)
     public boolean isPrefShowAllNewMailNotifications() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowAllNewMailNotifications, false, true);
+        return getBooleanAttr(1904, Provisioning.A_zimbraPrefShowAllNewMailNotifications, false);
     }
 
     /**
@@ -42256,7 +42256,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1045)
     public boolean isPrefShowCalendarWeek() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowCalendarWeek, false, true);
+        return getBooleanAttr(1045, Provisioning.A_zimbraPrefShowCalendarWeek, false);
     }
 
     /**
@@ -42328,7 +42328,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1787)
     public boolean isPrefShowChatsFolderInMail() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowChatsFolderInMail, false, true);
+        return getBooleanAttr(1787, Provisioning.A_zimbraPrefShowChatsFolderInMail, false);
     }
 
     /**
@@ -42400,7 +42400,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1274)
     public boolean isPrefShowComposeDirection() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowComposeDirection, false, true);
+        return getBooleanAttr(1274, Provisioning.A_zimbraPrefShowComposeDirection, false);
     }
 
     /**
@@ -42470,7 +42470,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=192)
     public boolean isPrefShowFragments() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowFragments, true, true);
+        return getBooleanAttr(192, Provisioning.A_zimbraPrefShowFragments, true);
     }
 
     /**
@@ -42532,7 +42532,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=222)
     public boolean isPrefShowSearchString() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowSearchString, false, true);
+        return getBooleanAttr(222, Provisioning.A_zimbraPrefShowSearchString, false);
     }
 
     /**
@@ -42595,7 +42595,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=471)
     public boolean isPrefShowSelectionCheckbox() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowSelectionCheckbox, false, true);
+        return getBooleanAttr(471, Provisioning.A_zimbraPrefShowSelectionCheckbox, false);
     }
 
     /**
@@ -42875,7 +42875,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1207)
     public boolean isPrefSpellIgnoreAllCaps() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefSpellIgnoreAllCaps, true, true);
+        return getBooleanAttr(1207, Provisioning.A_zimbraPrefSpellIgnoreAllCaps, true);
     }
 
     /**
@@ -43166,7 +43166,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=689)
     public boolean isPrefStandardClientAccessibilityMode() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefStandardClientAccessibilityMode, false, true);
+        return getBooleanAttr(689, Provisioning.A_zimbraPrefStandardClientAccessibilityMode, false);
     }
 
     /**
@@ -43239,7 +43239,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1972)
     public boolean isPrefTabInEditorEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefTabInEditorEnabled, false, true);
+        return getBooleanAttr(1972, Provisioning.A_zimbraPrefTabInEditorEnabled, false);
     }
 
     /**
@@ -43315,7 +43315,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=633)
     public boolean isPrefTagTreeOpen() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefTagTreeOpen, true, true);
+        return getBooleanAttr(633, Provisioning.A_zimbraPrefTagTreeOpen, true);
     }
 
     /**
@@ -43775,7 +43775,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=541)
     public long getPrefTrashLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPrefTrashLifetime, 0L, true);
+        return getTimeInterval(541, Provisioning.A_zimbraPrefTrashLifetime, 0L);
     }
 
     /**
@@ -43887,7 +43887,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=61)
     public boolean isPrefUseKeyboardShortcuts() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefUseKeyboardShortcuts, true, true);
+        return getBooleanAttr(61, Provisioning.A_zimbraPrefUseKeyboardShortcuts, true);
     }
 
     /**
@@ -43951,7 +43951,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=395)
     public boolean isPrefUseRfc2231() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefUseRfc2231, false, true);
+        return getBooleanAttr(395, Provisioning.A_zimbraPrefUseRfc2231, false);
     }
 
     /**
@@ -44024,7 +44024,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1650)
     public boolean isPrefUseSendMsgShortcut() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefUseSendMsgShortcut, true, true);
+        return getBooleanAttr(1650, Provisioning.A_zimbraPrefUseSendMsgShortcut, true);
     }
 
     /**
@@ -44098,7 +44098,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=236)
     public boolean isPrefUseTimeZoneListInCalendar() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefUseTimeZoneListInCalendar, false, true);
+        return getBooleanAttr(236, Provisioning.A_zimbraPrefUseTimeZoneListInCalendar, false);
     }
 
     /**
@@ -44162,7 +44162,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=526)
     public int getPrefVoiceItemsPerPage() {
-        return getIntAttr(Provisioning.A_zimbraPrefVoiceItemsPerPage, 25, true);
+        return getIntAttr(526, Provisioning.A_zimbraPrefVoiceItemsPerPage, 25);
     }
 
     /**
@@ -44232,7 +44232,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=456)
     public boolean isPrefWarnOnExit() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefWarnOnExit, true, true);
+        return getBooleanAttr(456, Provisioning.A_zimbraPrefWarnOnExit, true);
     }
 
     /**
@@ -44296,7 +44296,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=638)
     public boolean isPrefZimletTreeOpen() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefZimletTreeOpen, false, true);
+        return getBooleanAttr(638, Provisioning.A_zimbraPrefZimletTreeOpen, false);
     }
 
     /**
@@ -44502,7 +44502,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1952)
     public boolean isPrefZmgPushNotificationEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefZmgPushNotificationEnabled, false, true);
+        return getBooleanAttr(1952, Provisioning.A_zimbraPrefZmgPushNotificationEnabled, false);
     }
 
     /**
@@ -44824,7 +44824,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1355)
     public long getPublicShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraPublicShareLifetime, 0L, true);
+        return getTimeInterval(1355, Provisioning.A_zimbraPublicShareLifetime, 0L);
     }
 
     /**
@@ -44933,7 +44933,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1351)
     public boolean isPublicSharingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPublicSharingEnabled, true, true);
+        return getBooleanAttr(1351, Provisioning.A_zimbraPublicSharingEnabled, true);
     }
 
     /**
@@ -45011,7 +45011,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=485)
     public long getQuotaWarnInterval() {
-        return getTimeInterval(Provisioning.A_zimbraQuotaWarnInterval, 86400000L, true);
+        return getTimeInterval(485, Provisioning.A_zimbraQuotaWarnInterval, 86400000L);
     }
 
     /**
@@ -45165,7 +45165,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=483)
     public int getQuotaWarnPercent() {
-        return getIntAttr(Provisioning.A_zimbraQuotaWarnPercent, 90, true);
+        return getIntAttr(483, Provisioning.A_zimbraQuotaWarnPercent, 90);
     }
 
     /**
@@ -45237,7 +45237,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2140)
     public long getRecoveryAccountCodeValidity() {
-        return getTimeInterval(Provisioning.A_zimbraRecoveryAccountCodeValidity, 86400000L, true);
+        return getTimeInterval(2140, Provisioning.A_zimbraRecoveryAccountCodeValidity, 86400000L);
     }
 
     /**
@@ -45349,7 +45349,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2138)
     public long getResetPasswordRecoveryCodeExpiry() {
-        return getTimeInterval(Provisioning.A_zimbraResetPasswordRecoveryCodeExpiry, 600000L, true);
+        return getTimeInterval(2138, Provisioning.A_zimbraResetPasswordRecoveryCodeExpiry, 600000L);
     }
 
     /**
@@ -45454,7 +45454,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1838)
     public boolean isRevokeAppSpecificPasswordsOnPasswordChange() {
-        return getBooleanAttr(Provisioning.A_zimbraRevokeAppSpecificPasswordsOnPasswordChange, true, true);
+        return getBooleanAttr(1838, Provisioning.A_zimbraRevokeAppSpecificPasswordsOnPasswordChange, true);
     }
 
     /**
@@ -45539,7 +45539,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1348)
     public long getShareLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraShareLifetime, 0L, true);
+        return getTimeInterval(1348, Provisioning.A_zimbraShareLifetime, 0L);
     }
 
     /**
@@ -45648,7 +45648,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=3067)
     public boolean isShowClientTOS() {
-        return getBooleanAttr(Provisioning.A_zimbraShowClientTOS, false, true);
+        return getBooleanAttr(3067, Provisioning.A_zimbraShowClientTOS, false);
     }
 
     /**
@@ -45722,7 +45722,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2121)
     public boolean isSieveEditHeaderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveEditHeaderEnabled, false, true);
+        return getBooleanAttr(2121, Provisioning.A_zimbraSieveEditHeaderEnabled, false);
     }
 
     /**
@@ -45877,7 +45877,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2112)
     public boolean isSieveNotifyActionRFCCompliant() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveNotifyActionRFCCompliant, false, true);
+        return getBooleanAttr(2112, Provisioning.A_zimbraSieveNotifyActionRFCCompliant, false);
     }
 
     /**
@@ -45962,7 +45962,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2111)
     public boolean isSieveRejectMailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveRejectMailEnabled, true, true);
+        return getBooleanAttr(2111, Provisioning.A_zimbraSieveRejectMailEnabled, true);
     }
 
     /**
@@ -46045,7 +46045,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2120)
     public boolean isSieveRequireControlEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveRequireControlEnabled, true, true);
+        return getBooleanAttr(2120, Provisioning.A_zimbraSieveRequireControlEnabled, true);
     }
 
     /**
@@ -46143,7 +46143,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=493)
     public int getSignatureMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraSignatureMaxNumEntries, 20, true);
+        return getIntAttr(493, Provisioning.A_zimbraSignatureMaxNumEntries, 20);
     }
 
     /**
@@ -46206,7 +46206,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=523)
     public int getSignatureMinNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraSignatureMinNumEntries, 1, true);
+        return getIntAttr(523, Provisioning.A_zimbraSignatureMinNumEntries, 1);
     }
 
     /**
@@ -46274,7 +46274,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=793)
     public boolean isSmtpEnableTrace() {
-        return getBooleanAttr(Provisioning.A_zimbraSmtpEnableTrace, false, true);
+        return getBooleanAttr(793, Provisioning.A_zimbraSmtpEnableTrace, false);
     }
 
     /**
@@ -46349,7 +46349,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1077)
     public boolean isSmtpRestrictEnvelopeFrom() {
-        return getBooleanAttr(Provisioning.A_zimbraSmtpRestrictEnvelopeFrom, true, true);
+        return getBooleanAttr(1077, Provisioning.A_zimbraSmtpRestrictEnvelopeFrom, true);
     }
 
     /**
@@ -46506,7 +46506,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=604)
     public boolean isSpamApplyUserFilters() {
-        return getBooleanAttr(Provisioning.A_zimbraSpamApplyUserFilters, false, true);
+        return getBooleanAttr(604, Provisioning.A_zimbraSpamApplyUserFilters, false);
     }
 
     /**
@@ -46726,7 +46726,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1266)
     public boolean isStandardClientCustomPrefTabsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraStandardClientCustomPrefTabsEnabled, false, true);
+        return getBooleanAttr(1266, Provisioning.A_zimbraStandardClientCustomPrefTabsEnabled, false);
     }
 
     /**
@@ -46804,7 +46804,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=437)
     public int getSyncWindowSize() {
-        return getIntAttr(Provisioning.A_zimbraSyncWindowSize, 0, true);
+        return getIntAttr(437, Provisioning.A_zimbraSyncWindowSize, 0);
     }
 
     /**
@@ -46951,7 +46951,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1433)
     public boolean isTouchJSErrorTrackingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraTouchJSErrorTrackingEnabled, false, true);
+        return getBooleanAttr(1433, Provisioning.A_zimbraTouchJSErrorTrackingEnabled, false);
     }
 
     /**
@@ -47103,7 +47103,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2026)
     public long getTwoFactorAuthEnablementTokenLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraTwoFactorAuthEnablementTokenLifetime, 3600000L, true);
+        return getTimeInterval(2026, Provisioning.A_zimbraTwoFactorAuthEnablementTokenLifetime, 3600000L);
     }
 
     /**
@@ -47351,7 +47351,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2060)
     public int getTwoFactorAuthLockoutMaxFailures() {
-        return getIntAttr(Provisioning.A_zimbraTwoFactorAuthLockoutMaxFailures, 10, true);
+        return getIntAttr(2060, Provisioning.A_zimbraTwoFactorAuthLockoutMaxFailures, 10);
     }
 
     /**
@@ -47427,7 +47427,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1823)
     public int getTwoFactorAuthNumScratchCodes() {
-        return getIntAttr(Provisioning.A_zimbraTwoFactorAuthNumScratchCodes, 10, true);
+        return getIntAttr(1823, Provisioning.A_zimbraTwoFactorAuthNumScratchCodes, 10);
     }
 
     /**
@@ -47507,7 +47507,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2025)
     public long getTwoFactorAuthTokenLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraTwoFactorAuthTokenLifetime, 3600000L, true);
+        return getTimeInterval(2025, Provisioning.A_zimbraTwoFactorAuthTokenLifetime, 3600000L);
     }
 
     /**
@@ -47618,7 +47618,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1947)
     public long getTwoFactorAuthTrustedDeviceTokenLifetime() {
-        return getTimeInterval(Provisioning.A_zimbraTwoFactorAuthTrustedDeviceTokenLifetime, 2592000000L, true);
+        return getTimeInterval(1947, Provisioning.A_zimbraTwoFactorAuthTrustedDeviceTokenLifetime, 2592000000L);
     }
 
     /**
@@ -47790,7 +47790,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1452)
     public int getWebClientOfflineSyncMaxDays() {
-        return getIntAttr(Provisioning.A_zimbraWebClientOfflineSyncMaxDays, 30, true);
+        return getIntAttr(1452, Provisioning.A_zimbraWebClientOfflineSyncMaxDays, 30);
     }
 
     /**
@@ -47866,7 +47866,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1047)
     public boolean isWebClientShowOfflineLink() {
-        return getBooleanAttr(Provisioning.A_zimbraWebClientShowOfflineLink, true, true);
+        return getBooleanAttr(1047, Provisioning.A_zimbraWebClientShowOfflineLink, true);
     }
 
     /**
@@ -48076,7 +48076,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=1391)
     public boolean isZimletLoadSynchronously() {
-        return getBooleanAttr(Provisioning.A_zimbraZimletLoadSynchronously, false, true);
+        return getBooleanAttr(1391, Provisioning.A_zimbraZimletLoadSynchronously, false);
     }
 
     /**
@@ -48164,7 +48164,7 @@ public abstract class ZAttrCos extends NamedEntry {
      */
     @ZAttr(id=2027)
     public int getZimletUserPropertiesMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraZimletUserPropertiesMaxNumEntries, 150, true);
+        return getIntAttr(2027, Provisioning.A_zimbraZimletUserPropertiesMaxNumEntries, 150);
     }
 
     /**
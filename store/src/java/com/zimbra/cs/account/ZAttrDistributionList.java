@@ -682,7 +682,7 @@ public abstract class ZAttrDistributionList extends Group {
      */
     @ZAttr(id=2109)
     public boolean isChatAllowDlMemberAddAsFriend() {
-        return getBooleanAttr(Provisioning.A_zimbraChatAllowDlMemberAddAsFriend, false, true);
+        return getBooleanAttr(2109, Provisioning.A_zimbraChatAllowDlMemberAddAsFriend, false);
     }
 
     /**
@@ -952,7 +952,7 @@ public abstract class ZAttrDistributionList extends Group {
      */
     @ZAttr(id=810)
     public boolean isDistributionListSendShareMessageToNewMembers() {
-        return getBooleanAttr(Provisioning.A_zimbraDistributionListSendShareMessageToNewMembers, false, true);
+        return getBooleanAttr(810, Provisioning.A_zimbraDistributionListSendShareMessageToNewMembers, false);
     }
 
     /**
@@ -1434,7 +1434,7 @@ public abstract class ZAttrDistributionList extends Group {
      */
     @ZAttr(id=802)
     public boolean isIsAdminGroup() {
-        return getBooleanAttr(Provisioning.A_zimbraIsAdminGroup, false, true);
+        return getBooleanAttr(802, Provisioning.A_zimbraIsAdminGroup, false);
     }
 
     /**
@@ -1895,7 +1895,7 @@ public abstract class ZAttrDistributionList extends Group {
      */
     @ZAttr(id=405)
     public boolean isPrefReplyToEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefReplyToEnabled, false, true);
+        return getBooleanAttr(405, Provisioning.A_zimbraPrefReplyToEnabled, false);
     }
 
     /**
@@ -306,7 +306,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=746)
     public boolean isAdminConsoleCatchAllAddressEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAdminConsoleCatchAllAddressEnabled, false, true);
+        return getBooleanAttr(746, Provisioning.A_zimbraAdminConsoleCatchAllAddressEnabled, false);
     }
 
     /**
@@ -378,7 +378,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=743)
     public boolean isAdminConsoleDNSCheckEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAdminConsoleDNSCheckEnabled, false, true);
+        return getBooleanAttr(743, Provisioning.A_zimbraAdminConsoleDNSCheckEnabled, false);
     }
 
     /**
@@ -450,7 +450,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=774)
     public boolean isAdminConsoleLDAPAuthEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAdminConsoleLDAPAuthEnabled, false, true);
+        return getBooleanAttr(774, Provisioning.A_zimbraAdminConsoleLDAPAuthEnabled, false);
     }
 
     /**
@@ -810,7 +810,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=751)
     public boolean isAdminConsoleSkinEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAdminConsoleSkinEnabled, false, true);
+        return getBooleanAttr(751, Provisioning.A_zimbraAdminConsoleSkinEnabled, false);
     }
 
     /**
@@ -1190,7 +1190,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1328)
     public long getAggregateQuotaLastUsage() {
-        return getLongAttr(Provisioning.A_zimbraAggregateQuotaLastUsage, -1L, true);
+        return getLongAttr(1328, Provisioning.A_zimbraAggregateQuotaLastUsage, -1L);
     }
 
     /**
@@ -1404,7 +1404,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=257)
     public boolean isAuthFallbackToLocal() {
-        return getBooleanAttr(Provisioning.A_zimbraAuthFallbackToLocal, false, true);
+        return getBooleanAttr(257, Provisioning.A_zimbraAuthFallbackToLocal, false);
     }
 
     /**
@@ -1850,7 +1850,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=654)
     public boolean isAuthLdapStartTlsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAuthLdapStartTlsEnabled, false, true);
+        return getBooleanAttr(654, Provisioning.A_zimbraAuthLdapStartTlsEnabled, false);
     }
 
     /**
@@ -2634,7 +2634,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1234)
     public int getAutoProvBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraAutoProvBatchSize, 20, true);
+        return getIntAttr(1234, Provisioning.A_zimbraAutoProvBatchSize, 20);
     }
 
     /**
@@ -3338,7 +3338,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1224)
     public boolean isAutoProvLdapStartTlsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAutoProvLdapStartTlsEnabled, false, true);
+        return getBooleanAttr(1224, Provisioning.A_zimbraAutoProvLdapStartTlsEnabled, false);
     }
 
     /**
@@ -4601,7 +4601,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=2104)
     public boolean isChatConversationAuditEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraChatConversationAuditEnabled, false, true);
+        return getBooleanAttr(2104, Provisioning.A_zimbraChatConversationAuditEnabled, false);
     }
 
     /**
@@ -5386,7 +5386,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1327)
     public long getDomainAggregateQuota() {
-        return getLongAttr(Provisioning.A_zimbraDomainAggregateQuota, 0L, true);
+        return getLongAttr(1327, Provisioning.A_zimbraDomainAggregateQuota, 0L);
     }
 
     /**
@@ -5749,7 +5749,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1330)
     public int getDomainAggregateQuotaWarnPercent() {
-        return getIntAttr(Provisioning.A_zimbraDomainAggregateQuotaWarnPercent, 80, true);
+        return getIntAttr(1330, Provisioning.A_zimbraDomainAggregateQuotaWarnPercent, 80);
     }
 
     /**
@@ -6474,7 +6474,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1069)
     public boolean isDomainMandatoryMailSignatureEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraDomainMandatoryMailSignatureEnabled, false, true);
+        return getBooleanAttr(1069, Provisioning.A_zimbraDomainMandatoryMailSignatureEnabled, false);
     }
 
     /**
@@ -6708,7 +6708,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=400)
     public int getDomainMaxAccounts() {
-        return getIntAttr(Provisioning.A_zimbraDomainMaxAccounts, -1, true);
+        return getIntAttr(400, Provisioning.A_zimbraDomainMaxAccounts, -1);
     }
 
     /**
@@ -7449,7 +7449,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=2056)
     public int getExportMaxDays() {
-        return getIntAttr(Provisioning.A_zimbraExportMaxDays, 0, true);
+        return getIntAttr(2056, Provisioning.A_zimbraExportMaxDays, 0);
     }
 
     /**
@@ -7822,7 +7822,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=782)
     public int getExternalImapPort() {
-        return getIntAttr(Provisioning.A_zimbraExternalImapPort, -1, true);
+        return getIntAttr(782, Provisioning.A_zimbraExternalImapPort, -1);
     }
 
     /**
@@ -8013,7 +8013,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=783)
     public int getExternalImapSSLPort() {
-        return getIntAttr(Provisioning.A_zimbraExternalImapSSLPort, -1, true);
+        return getIntAttr(783, Provisioning.A_zimbraExternalImapSSLPort, -1);
     }
 
     /**
@@ -8204,7 +8204,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=780)
     public int getExternalPop3Port() {
-        return getIntAttr(Provisioning.A_zimbraExternalPop3Port, -1, true);
+        return getIntAttr(780, Provisioning.A_zimbraExternalPop3Port, -1);
     }
 
     /**
@@ -8395,7 +8395,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=781)
     public int getExternalPop3SSLPort() {
-        return getIntAttr(Provisioning.A_zimbraExternalPop3SSLPort, -1, true);
+        return getIntAttr(781, Provisioning.A_zimbraExternalPop3SSLPort, -1);
     }
 
     /**
@@ -8511,7 +8511,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1264)
     public boolean isExternalShareDomainWhitelistEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraExternalShareDomainWhitelistEnabled, false, true);
+        return getBooleanAttr(1264, Provisioning.A_zimbraExternalShareDomainWhitelistEnabled, false);
     }
 
     /**
@@ -8596,7 +8596,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1349)
     public long getExternalShareInvitationUrlExpiration() {
-        return getTimeInterval(Provisioning.A_zimbraExternalShareInvitationUrlExpiration, 0L, true);
+        return getTimeInterval(1349, Provisioning.A_zimbraExternalShareInvitationUrlExpiration, 0L);
     }
 
     /**
@@ -8839,7 +8839,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1261)
     public boolean isExternalSharingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraExternalSharingEnabled, false, true);
+        return getBooleanAttr(1261, Provisioning.A_zimbraExternalSharingEnabled, false);
     }
 
     /**
@@ -8912,7 +8912,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1150)
     public boolean isFeatureCalendarReminderDeviceEmailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureCalendarReminderDeviceEmailEnabled, false, true);
+        return getBooleanAttr(1150, Provisioning.A_zimbraFeatureCalendarReminderDeviceEmailEnabled, false);
     }
 
     /**
@@ -8988,7 +8988,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1438)
     public boolean isFeatureDistributionListFolderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureDistributionListFolderEnabled, false, true);
+        return getBooleanAttr(1438, Provisioning.A_zimbraFeatureDistributionListFolderEnabled, false);
     }
 
     /**
@@ -9191,7 +9191,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1490)
     public boolean isFeatureSocialEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSocialEnabled, false, true);
+        return getBooleanAttr(1490, Provisioning.A_zimbraFeatureSocialEnabled, false);
     }
 
     /**
@@ -9263,7 +9263,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1491)
     public boolean isFeatureSocialExternalEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureSocialExternalEnabled, false, true);
+        return getBooleanAttr(1491, Provisioning.A_zimbraFeatureSocialExternalEnabled, false);
     }
 
     /**
@@ -9483,7 +9483,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=3093)
     public boolean isFeatureZulipChatEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraFeatureZulipChatEnabled, false, true);
+        return getBooleanAttr(3093, Provisioning.A_zimbraFeatureZulipChatEnabled, false);
     }
 
     /**
@@ -9573,7 +9573,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1350)
     public long getFileUploadMaxSizePerFile() {
-        return getLongAttr(Provisioning.A_zimbraFileUploadMaxSizePerFile, 2147483648L, true);
+        return getLongAttr(1350, Provisioning.A_zimbraFileUploadMaxSizePerFile, 2147483648L);
     }
 
     /**
@@ -9654,7 +9654,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1437)
     public boolean isForceClearCookies() {
-        return getBooleanAttr(Provisioning.A_zimbraForceClearCookies, false, true);
+        return getBooleanAttr(1437, Provisioning.A_zimbraForceClearCookies, false);
     }
 
     /**
@@ -10299,7 +10299,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=621)
     public long getFreebusyExchangeCachedInterval() {
-        return getTimeInterval(Provisioning.A_zimbraFreebusyExchangeCachedInterval, 5184000000L, true);
+        return getTimeInterval(621, Provisioning.A_zimbraFreebusyExchangeCachedInterval, 5184000000L);
     }
 
     /**
@@ -10412,7 +10412,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=620)
     public long getFreebusyExchangeCachedIntervalStart() {
-        return getTimeInterval(Provisioning.A_zimbraFreebusyExchangeCachedIntervalStart, 604800000L, true);
+        return getTimeInterval(620, Provisioning.A_zimbraFreebusyExchangeCachedIntervalStart, 604800000L);
     }
 
     /**
@@ -10939,7 +10939,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1093)
     public boolean isGalAlwaysIncludeLocalCalendarResources() {
-        return getBooleanAttr(Provisioning.A_zimbraGalAlwaysIncludeLocalCalendarResources, false, true);
+        return getBooleanAttr(1093, Provisioning.A_zimbraGalAlwaysIncludeLocalCalendarResources, false);
     }
 
     /**
@@ -11196,7 +11196,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1153)
     public boolean isGalGroupIndicatorEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraGalGroupIndicatorEnabled, true, true);
+        return getBooleanAttr(1153, Provisioning.A_zimbraGalGroupIndicatorEnabled, true);
     }
 
     /**
@@ -12020,7 +12020,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=583)
     public int getGalLdapPageSize() {
-        return getIntAttr(Provisioning.A_zimbraGalLdapPageSize, 1000, true);
+        return getIntAttr(583, Provisioning.A_zimbraGalLdapPageSize, 1000);
     }
 
     /**
@@ -12165,7 +12165,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=655)
     public boolean isGalLdapStartTlsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraGalLdapStartTlsEnabled, false, true);
+        return getBooleanAttr(655, Provisioning.A_zimbraGalLdapStartTlsEnabled, false);
     }
 
     /**
@@ -12506,7 +12506,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=53)
     public int getGalMaxResults() {
-        return getIntAttr(Provisioning.A_zimbraGalMaxResults, 100, true);
+        return getIntAttr(53, Provisioning.A_zimbraGalMaxResults, 100);
     }
 
     /**
@@ -13339,7 +13339,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=597)
     public int getGalSyncLdapPageSize() {
-        return getIntAttr(Provisioning.A_zimbraGalSyncLdapPageSize, 1000, true);
+        return getIntAttr(597, Provisioning.A_zimbraGalSyncLdapPageSize, 1000);
     }
 
     /**
@@ -13501,7 +13501,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=656)
     public boolean isGalSyncLdapStartTlsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraGalSyncLdapStartTlsEnabled, false, true);
+        return getBooleanAttr(656, Provisioning.A_zimbraGalSyncLdapStartTlsEnabled, false);
     }
 
     /**
@@ -13721,7 +13721,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1154)
     public int getGalSyncMaxConcurrentClients() {
-        return getIntAttr(Provisioning.A_zimbraGalSyncMaxConcurrentClients, 2, true);
+        return getIntAttr(1154, Provisioning.A_zimbraGalSyncMaxConcurrentClients, 2);
     }
 
     /**
@@ -13798,7 +13798,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=2097)
     public int getGalSyncSizeLimit() {
-        return getIntAttr(Provisioning.A_zimbraGalSyncSizeLimit, 30000, true);
+        return getIntAttr(2097, Provisioning.A_zimbraGalSyncSizeLimit, 30000);
     }
 
     /**
@@ -14843,7 +14843,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1386)
     public boolean isInternalSharingCrossDomainEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraInternalSharingCrossDomainEnabled, true, true);
+        return getBooleanAttr(1386, Provisioning.A_zimbraInternalSharingCrossDomainEnabled, true);
     }
 
     /**
@@ -15071,7 +15071,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1420)
     public boolean isLdapGalSyncDisabled() {
-        return getBooleanAttr(Provisioning.A_zimbraLdapGalSyncDisabled, false, true);
+        return getBooleanAttr(1420, Provisioning.A_zimbraLdapGalSyncDisabled, false);
     }
 
     /**
@@ -15688,7 +15688,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1326)
     public long getMailDomainQuota() {
-        return getLongAttr(Provisioning.A_zimbraMailDomainQuota, 0L, true);
+        return getLongAttr(1326, Provisioning.A_zimbraMailDomainQuota, 0L);
     }
 
     /**
@@ -15976,7 +15976,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1139)
     public int getMailTrustedSenderListMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraMailTrustedSenderListMaxNumEntries, -1, true);
+        return getIntAttr(1139, Provisioning.A_zimbraMailTrustedSenderListMaxNumEntries, -1);
     }
 
     /**
@@ -16479,7 +16479,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1425)
     public boolean isMobileMetadataMaxSizeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMobileMetadataMaxSizeEnabled, false, true);
+        return getBooleanAttr(1425, Provisioning.A_zimbraMobileMetadataMaxSizeEnabled, false);
     }
 
     /**
@@ -17471,7 +17471,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1424)
     public boolean isPrefColorMessagesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefColorMessagesEnabled, false, true);
+        return getBooleanAttr(1424, Provisioning.A_zimbraPrefColorMessagesEnabled, false);
     }
 
     /**
@@ -17686,7 +17686,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1787)
     public boolean isPrefShowChatsFolderInMail() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefShowChatsFolderInMail, false, true);
+        return getBooleanAttr(1787, Provisioning.A_zimbraPrefShowChatsFolderInMail, false);
     }
 
     /**
@@ -18145,7 +18145,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=699)
     public int getPublicServicePort() {
-        return getIntAttr(Provisioning.A_zimbraPublicServicePort, -1, true);
+        return getIntAttr(699, Provisioning.A_zimbraPublicServicePort, -1);
     }
 
     /**
@@ -18332,7 +18332,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1351)
     public boolean isPublicSharingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPublicSharingEnabled, false, true);
+        return getBooleanAttr(1351, Provisioning.A_zimbraPublicSharingEnabled, false);
     }
 
     /**
@@ -18777,7 +18777,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1454)
     public boolean isReverseProxyExternalRouteIncludeOriginalAuthusername() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyExternalRouteIncludeOriginalAuthusername, false, true);
+        return getBooleanAttr(1454, Provisioning.A_zimbraReverseProxyExternalRouteIncludeOriginalAuthusername, false);
     }
 
     /**
@@ -19035,7 +19035,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=779)
     public boolean isReverseProxyUseExternalRoute() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyUseExternalRoute, false, true);
+        return getBooleanAttr(779, Provisioning.A_zimbraReverseProxyUseExternalRoute, false);
     }
 
     /**
@@ -19128,7 +19128,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1132)
     public boolean isReverseProxyUseExternalRouteIfAccountNotExist() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyUseExternalRouteIfAccountNotExist, false, true);
+        return getBooleanAttr(1132, Provisioning.A_zimbraReverseProxyUseExternalRouteIfAccountNotExist, false);
     }
 
     /**
@@ -21293,7 +21293,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=3067)
     public boolean isShowClientTOS() {
-        return getBooleanAttr(Provisioning.A_zimbraShowClientTOS, false, true);
+        return getBooleanAttr(3067, Provisioning.A_zimbraShowClientTOS, false);
     }
 
     /**
@@ -21367,7 +21367,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=2121)
     public boolean isSieveEditHeaderEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveEditHeaderEnabled, false, true);
+        return getBooleanAttr(2121, Provisioning.A_zimbraSieveEditHeaderEnabled, false);
     }
 
     /**
@@ -21522,7 +21522,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=2112)
     public boolean isSieveNotifyActionRFCCompliant() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveNotifyActionRFCCompliant, false, true);
+        return getBooleanAttr(2112, Provisioning.A_zimbraSieveNotifyActionRFCCompliant, false);
     }
 
     /**
@@ -21607,7 +21607,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=2111)
     public boolean isSieveRejectMailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveRejectMailEnabled, false, true);
+        return getBooleanAttr(2111, Provisioning.A_zimbraSieveRejectMailEnabled, false);
     }
 
     /**
@@ -21690,7 +21690,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=2120)
     public boolean isSieveRequireControlEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveRequireControlEnabled, false, true);
+        return getBooleanAttr(2120, Provisioning.A_zimbraSieveRequireControlEnabled, false);
     }
 
     /**
@@ -22484,7 +22484,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=98)
     public int getSmtpPort() {
-        return getIntAttr(Provisioning.A_zimbraSmtpPort, -1, true);
+        return getIntAttr(98, Provisioning.A_zimbraSmtpPort, -1);
     }
 
     /**
@@ -22583,7 +22583,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=249)
     public boolean isSmtpSendPartial() {
-        return getBooleanAttr(Provisioning.A_zimbraSmtpSendPartial, false, true);
+        return getBooleanAttr(249, Provisioning.A_zimbraSmtpSendPartial, false);
     }
 
     /**
@@ -22645,7 +22645,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=99)
     public int getSmtpTimeout() {
-        return getIntAttr(Provisioning.A_zimbraSmtpTimeout, -1, true);
+        return getIntAttr(99, Provisioning.A_zimbraSmtpTimeout, -1);
     }
 
     /**
@@ -23005,7 +23005,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1266)
     public boolean isStandardClientCustomPrefTabsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraStandardClientCustomPrefTabsEnabled, false, true);
+        return getBooleanAttr(1266, Provisioning.A_zimbraStandardClientCustomPrefTabsEnabled, false);
     }
 
     /**
@@ -24325,7 +24325,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1339)
     public int getWebClientMaxInputBufferLength() {
-        return getIntAttr(Provisioning.A_zimbraWebClientMaxInputBufferLength, 1024, true);
+        return getIntAttr(1339, Provisioning.A_zimbraWebClientMaxInputBufferLength, 1024);
     }
 
     /**
@@ -24398,7 +24398,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1687)
     public boolean isWebClientStaySignedInDisabled() {
-        return getBooleanAttr(Provisioning.A_zimbraWebClientStaySignedInDisabled, false, true);
+        return getBooleanAttr(1687, Provisioning.A_zimbraWebClientStaySignedInDisabled, false);
     }
 
     /**
@@ -24708,7 +24708,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=1269)
     public boolean isZimletDataSensitiveInMixedModeDisabled() {
-        return getBooleanAttr(Provisioning.A_zimbraZimletDataSensitiveInMixedModeDisabled, true, true);
+        return getBooleanAttr(1269, Provisioning.A_zimbraZimletDataSensitiveInMixedModeDisabled, true);
     }
 
     /**
@@ -24945,7 +24945,7 @@ public abstract class ZAttrDomain extends NamedEntry {
      */
     @ZAttr(id=2027)
     public int getZimletUserPropertiesMaxNumEntries() {
-        return getIntAttr(Provisioning.A_zimbraZimletUserPropertiesMaxNumEntries, -1, true);
+        return getIntAttr(2027, Provisioning.A_zimbraZimletUserPropertiesMaxNumEntries, -1);
     }
 
     /**
@@ -1015,7 +1015,7 @@ public abstract class ZAttrDynamicGroup extends Group {
      */
     @ZAttr(id=353)
     public boolean isHideInGal() {
-        return getBooleanAttr(Provisioning.A_zimbraHideInGal, false, true);
+        return getBooleanAttr(353, Provisioning.A_zimbraHideInGal, false);
     }
 
     /**
@@ -1142,7 +1142,7 @@ public abstract class ZAttrDynamicGroup extends Group {
      */
     @ZAttr(id=1242)
     public boolean isIsACLGroup() {
-        return getBooleanAttr(Provisioning.A_zimbraIsACLGroup, false, true);
+        return getBooleanAttr(1242, Provisioning.A_zimbraIsACLGroup, false);
     }
 
     /**
@@ -1218,7 +1218,7 @@ public abstract class ZAttrDynamicGroup extends Group {
      */
     @ZAttr(id=802)
     public boolean isIsAdminGroup() {
-        return getBooleanAttr(Provisioning.A_zimbraIsAdminGroup, false, true);
+        return getBooleanAttr(802, Provisioning.A_zimbraIsAdminGroup, false);
     }
 
     /**
@@ -1972,7 +1972,7 @@ public abstract class ZAttrDynamicGroup extends Group {
      */
     @ZAttr(id=405)
     public boolean isPrefReplyToEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPrefReplyToEnabled, false, true);
+        return getBooleanAttr(405, Provisioning.A_zimbraPrefReplyToEnabled, false);
     }
 
     /**
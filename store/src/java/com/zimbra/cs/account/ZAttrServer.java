@@ -375,7 +375,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3003)
     public long getActiveSyncEhcacheExpiration() {
-        return getTimeInterval(Provisioning.A_zimbraActiveSyncEhcacheExpiration, 300000L, true);
+        return getTimeInterval(3003, Provisioning.A_zimbraActiveSyncEhcacheExpiration, 300000L);
     }
 
     /**
@@ -482,7 +482,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3001)
     public long getActiveSyncEhcacheHeapSize() {
-        return getLongAttr(Provisioning.A_zimbraActiveSyncEhcacheHeapSize, 10485760L, true);
+        return getLongAttr(3001, Provisioning.A_zimbraActiveSyncEhcacheHeapSize, 10485760L);
     }
 
     /**
@@ -569,7 +569,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3002)
     public long getActiveSyncEhcacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraActiveSyncEhcacheMaxDiskSize, 10737418240L, true);
+        return getLongAttr(3002, Provisioning.A_zimbraActiveSyncEhcacheMaxDiskSize, 10737418240L);
     }
 
     /**
@@ -730,7 +730,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1113)
     public int getAdminImapImportNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraAdminImapImportNumThreads, 20, true);
+        return getIntAttr(1113, Provisioning.A_zimbraAdminImapImportNumThreads, 20);
     }
 
     /**
@@ -804,7 +804,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1377)
     public boolean isAdminLocalBind() {
-        return getBooleanAttr(Provisioning.A_zimbraAdminLocalBind, false, true);
+        return getBooleanAttr(1377, Provisioning.A_zimbraAdminLocalBind, false);
     }
 
     /**
@@ -886,7 +886,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=155)
     public int getAdminPort() {
-        return getIntAttr(Provisioning.A_zimbraAdminPort, 7071, true);
+        return getIntAttr(155, Provisioning.A_zimbraAdminPort, 7071);
     }
 
     /**
@@ -991,7 +991,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1322)
     public int getAdminProxyPort() {
-        return getIntAttr(Provisioning.A_zimbraAdminProxyPort, 9071, true);
+        return getIntAttr(1322, Provisioning.A_zimbraAdminProxyPort, 9071);
     }
 
     /**
@@ -1109,7 +1109,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2098)
     public boolean isAdminSieveFeatureVariablesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAdminSieveFeatureVariablesEnabled, true, true);
+        return getBooleanAttr(2098, Provisioning.A_zimbraAdminSieveFeatureVariablesEnabled, true);
     }
 
     /**
@@ -1333,7 +1333,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1465)
     public boolean isAmavisDSPAMEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAmavisDSPAMEnabled, false, true);
+        return getBooleanAttr(1465, Provisioning.A_zimbraAmavisDSPAMEnabled, false);
     }
 
     /**
@@ -1409,7 +1409,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1463)
     public boolean isAmavisEnableDKIMVerification() {
-        return getBooleanAttr(Provisioning.A_zimbraAmavisEnableDKIMVerification, true, true);
+        return getBooleanAttr(1463, Provisioning.A_zimbraAmavisEnableDKIMVerification, true);
     }
 
     /**
@@ -1612,7 +1612,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1488)
     public int getAmavisLogLevel() {
-        return getIntAttr(Provisioning.A_zimbraAmavisLogLevel, 1, true);
+        return getIntAttr(1488, Provisioning.A_zimbraAmavisLogLevel, 1);
     }
 
     /**
@@ -1684,7 +1684,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1461)
     public int getAmavisMaxServers() {
-        return getIntAttr(Provisioning.A_zimbraAmavisMaxServers, 10, true);
+        return getIntAttr(1461, Provisioning.A_zimbraAmavisMaxServers, 10);
     }
 
     /**
@@ -1757,7 +1757,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1464)
     public boolean isAmavisOriginatingBypassSA() {
-        return getBooleanAttr(Provisioning.A_zimbraAmavisOriginatingBypassSA, false, true);
+        return getBooleanAttr(1464, Provisioning.A_zimbraAmavisOriginatingBypassSA, false);
     }
 
     /**
@@ -1834,7 +1834,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1578)
     public int getAmavisSALogLevel() {
-        return getIntAttr(Provisioning.A_zimbraAmavisSALogLevel, 0, true);
+        return getIntAttr(1578, Provisioning.A_zimbraAmavisSALogLevel, 0);
     }
 
     /**
@@ -1910,7 +1910,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1457)
     public int getAntispamExtractionBatchDelay() {
-        return getIntAttr(Provisioning.A_zimbraAntispamExtractionBatchDelay, 100, true);
+        return getIntAttr(1457, Provisioning.A_zimbraAntispamExtractionBatchDelay, 100);
     }
 
     /**
@@ -1982,7 +1982,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1456)
     public int getAntispamExtractionBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraAntispamExtractionBatchSize, 25, true);
+        return getIntAttr(1456, Provisioning.A_zimbraAntispamExtractionBatchSize, 25);
     }
 
     /**
@@ -2055,7 +2055,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=582)
     public int getAttachmentsIndexedTextLimit() {
-        return getIntAttr(Provisioning.A_zimbraAttachmentsIndexedTextLimit, 1048576, true);
+        return getIntAttr(582, Provisioning.A_zimbraAttachmentsIndexedTextLimit, 1048576);
     }
 
     /**
@@ -2129,7 +2129,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=237)
     public boolean isAttachmentsScanEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraAttachmentsScanEnabled, false, true);
+        return getBooleanAttr(237, Provisioning.A_zimbraAttachmentsScanEnabled, false);
     }
 
     /**
@@ -2318,7 +2318,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1635)
     public int getAuthTokenNotificationInterval() {
-        return getIntAttr(Provisioning.A_zimbraAuthTokenNotificationInterval, 60000, true);
+        return getIntAttr(1635, Provisioning.A_zimbraAuthTokenNotificationInterval, 60000);
     }
 
     /**
@@ -2447,7 +2447,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1238)
     public long getAutoProvPollingInterval() {
-        return getTimeInterval(Provisioning.A_zimbraAutoProvPollingInterval, 900000L, true);
+        return getTimeInterval(1238, Provisioning.A_zimbraAutoProvPollingInterval, 900000L);
     }
 
     /**
@@ -2846,7 +2846,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=514)
     public int getBackupAutoGroupedNumGroups() {
-        return getIntAttr(Provisioning.A_zimbraBackupAutoGroupedNumGroups, 7, true);
+        return getIntAttr(514, Provisioning.A_zimbraBackupAutoGroupedNumGroups, 7);
     }
 
     /**
@@ -2909,7 +2909,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=515)
     public boolean isBackupAutoGroupedThrottled() {
-        return getBooleanAttr(Provisioning.A_zimbraBackupAutoGroupedThrottled, false, true);
+        return getBooleanAttr(515, Provisioning.A_zimbraBackupAutoGroupedThrottled, false);
     }
 
     /**
@@ -3414,7 +3414,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1004)
     public boolean isBackupSkipBlobs() {
-        return getBooleanAttr(Provisioning.A_zimbraBackupSkipBlobs, false, true);
+        return getBooleanAttr(1004, Provisioning.A_zimbraBackupSkipBlobs, false);
     }
 
     /**
@@ -3487,7 +3487,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1005)
     public boolean isBackupSkipHsmBlobs() {
-        return getBooleanAttr(Provisioning.A_zimbraBackupSkipHsmBlobs, false, true);
+        return getBooleanAttr(1005, Provisioning.A_zimbraBackupSkipHsmBlobs, false);
     }
 
     /**
@@ -3563,7 +3563,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1003)
     public boolean isBackupSkipSearchIndex() {
-        return getBooleanAttr(Provisioning.A_zimbraBackupSkipSearchIndex, false, true);
+        return getBooleanAttr(1003, Provisioning.A_zimbraBackupSkipSearchIndex, false);
     }
 
     /**
@@ -3698,7 +3698,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1469)
     public boolean isCBPolicydAccessControlEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydAccessControlEnabled, false, true);
+        return getBooleanAttr(1469, Provisioning.A_zimbraCBPolicydAccessControlEnabled, false);
     }
 
     /**
@@ -3775,7 +3775,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1470)
     public boolean isCBPolicydAccountingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydAccountingEnabled, false, true);
+        return getBooleanAttr(1470, Provisioning.A_zimbraCBPolicydAccountingEnabled, false);
     }
 
     /**
@@ -3851,7 +3851,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1471)
     public boolean isCBPolicydAmavisEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydAmavisEnabled, false, true);
+        return getBooleanAttr(1471, Provisioning.A_zimbraCBPolicydAmavisEnabled, false);
     }
 
     /**
@@ -3923,7 +3923,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1561)
     public int getCBPolicydBindPort() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydBindPort, 10031, true);
+        return getIntAttr(1561, Provisioning.A_zimbraCBPolicydBindPort, 10031);
     }
 
     /**
@@ -4126,7 +4126,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1484)
     public int getCBPolicydBypassTimeout() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydBypassTimeout, 30, true);
+        return getIntAttr(1484, Provisioning.A_zimbraCBPolicydBypassTimeout, 30);
     }
 
     /**
@@ -4199,7 +4199,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1472)
     public boolean isCBPolicydCheckHeloEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydCheckHeloEnabled, false, true);
+        return getBooleanAttr(1472, Provisioning.A_zimbraCBPolicydCheckHeloEnabled, false);
     }
 
     /**
@@ -4275,7 +4275,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1473)
     public boolean isCBPolicydCheckSPFEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydCheckSPFEnabled, false, true);
+        return getBooleanAttr(1473, Provisioning.A_zimbraCBPolicydCheckSPFEnabled, false);
     }
 
     /**
@@ -4502,7 +4502,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1474)
     public boolean isCBPolicydGreylistingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydGreylistingEnabled, false, true);
+        return getBooleanAttr(1474, Provisioning.A_zimbraCBPolicydGreylistingEnabled, false);
     }
 
     /**
@@ -4579,7 +4579,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1475)
     public boolean isCBPolicydGreylistingTrainingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydGreylistingTrainingEnabled, false, true);
+        return getBooleanAttr(1475, Provisioning.A_zimbraCBPolicydGreylistingTrainingEnabled, false);
     }
 
     /**
@@ -4655,7 +4655,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1562)
     public int getCBPolicydLogLevel() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydLogLevel, 3, true);
+        return getIntAttr(1562, Provisioning.A_zimbraCBPolicydLogLevel, 3);
     }
 
     /**
@@ -4727,7 +4727,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1481)
     public int getCBPolicydMaxRequests() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydMaxRequests, 1000, true);
+        return getIntAttr(1481, Provisioning.A_zimbraCBPolicydMaxRequests, 1000);
     }
 
     /**
@@ -4799,7 +4799,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1480)
     public int getCBPolicydMaxServers() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydMaxServers, 25, true);
+        return getIntAttr(1480, Provisioning.A_zimbraCBPolicydMaxServers, 25);
     }
 
     /**
@@ -4872,7 +4872,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1479)
     public int getCBPolicydMaxSpareServers() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydMaxSpareServers, 12, true);
+        return getIntAttr(1479, Provisioning.A_zimbraCBPolicydMaxSpareServers, 12);
     }
 
     /**
@@ -4948,7 +4948,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1477)
     public int getCBPolicydMinServers() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydMinServers, 4, true);
+        return getIntAttr(1477, Provisioning.A_zimbraCBPolicydMinServers, 4);
     }
 
     /**
@@ -5020,7 +5020,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1478)
     public int getCBPolicydMinSpareServers() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydMinSpareServers, 4, true);
+        return getIntAttr(1478, Provisioning.A_zimbraCBPolicydMinSpareServers, 4);
     }
 
     /**
@@ -5092,7 +5092,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1476)
     public boolean isCBPolicydQuotasEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCBPolicydQuotasEnabled, true, true);
+        return getBooleanAttr(1476, Provisioning.A_zimbraCBPolicydQuotasEnabled, true);
     }
 
     /**
@@ -5165,7 +5165,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1483)
     public int getCBPolicydTimeoutBusy() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydTimeoutBusy, 120, true);
+        return getIntAttr(1483, Provisioning.A_zimbraCBPolicydTimeoutBusy, 120);
     }
 
     /**
@@ -5242,7 +5242,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1482)
     public int getCBPolicydTimeoutIdle() {
-        return getIntAttr(Provisioning.A_zimbraCBPolicydTimeoutIdle, 1020, true);
+        return getIntAttr(1482, Provisioning.A_zimbraCBPolicydTimeoutIdle, 1020);
     }
 
     /**
@@ -5321,7 +5321,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=820)
     public boolean isCalendarCalDavClearTextPasswordEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraCalendarCalDavClearTextPasswordEnabled, true, true);
+        return getBooleanAttr(820, Provisioning.A_zimbraCalendarCalDavClearTextPasswordEnabled, true);
     }
 
     /**
@@ -5406,7 +5406,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1078)
     public int getCalendarCalDavDefaultCalendarId() {
-        return getIntAttr(Provisioning.A_zimbraCalendarCalDavDefaultCalendarId, 10, true);
+        return getIntAttr(1078, Provisioning.A_zimbraCalendarCalDavDefaultCalendarId, 10);
     }
 
     /**
@@ -5483,7 +5483,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=661)
     public int getCalendarRecurrenceDailyMaxDays() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceDailyMaxDays, 730, true);
+        return getIntAttr(661, Provisioning.A_zimbraCalendarRecurrenceDailyMaxDays, 730);
     }
 
     /**
@@ -5560,7 +5560,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=660)
     public int getCalendarRecurrenceMaxInstances() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceMaxInstances, 0, true);
+        return getIntAttr(660, Provisioning.A_zimbraCalendarRecurrenceMaxInstances, 0);
     }
 
     /**
@@ -5637,7 +5637,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=663)
     public int getCalendarRecurrenceMonthlyMaxMonths() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceMonthlyMaxMonths, 360, true);
+        return getIntAttr(663, Provisioning.A_zimbraCalendarRecurrenceMonthlyMaxMonths, 360);
     }
 
     /**
@@ -5714,7 +5714,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=665)
     public int getCalendarRecurrenceOtherFrequencyMaxYears() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceOtherFrequencyMaxYears, 1, true);
+        return getIntAttr(665, Provisioning.A_zimbraCalendarRecurrenceOtherFrequencyMaxYears, 1);
     }
 
     /**
@@ -5791,7 +5791,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=662)
     public int getCalendarRecurrenceWeeklyMaxWeeks() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceWeeklyMaxWeeks, 520, true);
+        return getIntAttr(662, Provisioning.A_zimbraCalendarRecurrenceWeeklyMaxWeeks, 520);
     }
 
     /**
@@ -5868,7 +5868,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=664)
     public int getCalendarRecurrenceYearlyMaxYears() {
-        return getIntAttr(Provisioning.A_zimbraCalendarRecurrenceYearlyMaxYears, 100, true);
+        return getIntAttr(664, Provisioning.A_zimbraCalendarRecurrenceYearlyMaxYears, 100);
     }
 
     /**
@@ -5944,7 +5944,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2106)
     public boolean isChatAllowUnencryptedPassword() {
-        return getBooleanAttr(Provisioning.A_zimbraChatAllowUnencryptedPassword, false, true);
+        return getBooleanAttr(2106, Provisioning.A_zimbraChatAllowUnencryptedPassword, false);
     }
 
     /**
@@ -6016,7 +6016,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2102)
     public boolean isChatServiceEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraChatServiceEnabled, true, true);
+        return getBooleanAttr(2102, Provisioning.A_zimbraChatServiceEnabled, true);
     }
 
     /**
@@ -6092,7 +6092,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2107)
     public int getChatXmppPort() {
-        return getIntAttr(Provisioning.A_zimbraChatXmppPort, 5222, true);
+        return getIntAttr(2107, Provisioning.A_zimbraChatXmppPort, 5222);
     }
 
     /**
@@ -6211,7 +6211,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2108)
     public int getChatXmppSslPort() {
-        return getIntAttr(Provisioning.A_zimbraChatXmppSslPort, 5223, true);
+        return getIntAttr(2108, Provisioning.A_zimbraChatXmppSslPort, 5223);
     }
 
     /**
@@ -6326,7 +6326,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2105)
     public boolean isChatXmppSslPortEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraChatXmppSslPortEnabled, false, true);
+        return getBooleanAttr(2105, Provisioning.A_zimbraChatXmppSslPortEnabled, false);
     }
 
     /**
@@ -6557,7 +6557,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1620)
     public int getClamAVListenPort() {
-        return getIntAttr(Provisioning.A_zimbraClamAVListenPort, 3310, true);
+        return getIntAttr(1620, Provisioning.A_zimbraClamAVListenPort, 3310);
     }
 
     /**
@@ -6629,7 +6629,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1462)
     public int getClamAVMaxThreads() {
-        return getIntAttr(Provisioning.A_zimbraClamAVMaxThreads, 10, true);
+        return getIntAttr(1462, Provisioning.A_zimbraClamAVMaxThreads, 10);
     }
 
     /**
@@ -6995,7 +6995,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1551)
     public boolean isConfiguredServerIDForBlobDirEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraConfiguredServerIDForBlobDirEnabled, false, true);
+        return getBooleanAttr(1551, Provisioning.A_zimbraConfiguredServerIDForBlobDirEnabled, false);
     }
 
     /**
@@ -7154,7 +7154,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1023)
     public long getContactRankingTableRefreshInterval() {
-        return getTimeInterval(Provisioning.A_zimbraContactRankingTableRefreshInterval, 604800000L, true);
+        return getTimeInterval(1023, Provisioning.A_zimbraContactRankingTableRefreshInterval, 604800000L);
     }
 
     /**
@@ -7278,7 +7278,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1971)
     public int getContactSearchDecomposition() {
-        return getIntAttr(Provisioning.A_zimbraContactSearchDecomposition, 2, true);
+        return getIntAttr(1971, Provisioning.A_zimbraContactSearchDecomposition, 2);
     }
 
     /**
@@ -7390,7 +7390,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2059)
     public int getConvertPoolTimeout() {
-        return getIntAttr(Provisioning.A_zimbraConvertPoolTimeout, 60000, true);
+        return getIntAttr(2059, Provisioning.A_zimbraConvertPoolTimeout, 60000);
     }
 
     /**
@@ -8268,7 +8268,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1038)
     public long getDatabaseSlowSqlThreshold() {
-        return getTimeInterval(Provisioning.A_zimbraDatabaseSlowSqlThreshold, 2000L, true);
+        return getTimeInterval(1038, Provisioning.A_zimbraDatabaseSlowSqlThreshold, 2000L);
     }
 
     /**
@@ -8381,7 +8381,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3099)
     public int getDocumentEditingCallbackPort() {
-        return getIntAttr(Provisioning.A_zimbraDocumentEditingCallbackPort, 7074, true);
+        return getIntAttr(3099, Provisioning.A_zimbraDocumentEditingCallbackPort, 7074);
     }
 
     /**
@@ -8569,7 +8569,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1652)
     public int getEmptyFolderOpTimeout() {
-        return getIntAttr(Provisioning.A_zimbraEmptyFolderOpTimeout, 3, true);
+        return getIntAttr(1652, Provisioning.A_zimbraEmptyFolderOpTimeout, 3);
     }
 
     /**
@@ -8726,7 +8726,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1980)
     public int getExtensionBindPort() {
-        return getIntAttr(Provisioning.A_zimbraExtensionBindPort, 7072, true);
+        return getIntAttr(1980, Provisioning.A_zimbraExtensionBindPort, 7072);
     }
 
     /**
@@ -8852,7 +8852,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1370)
     public long getExternalAccountStatusCheckInterval() {
-        return getTimeInterval(Provisioning.A_zimbraExternalAccountStatusCheckInterval, 86400000L, true);
+        return getTimeInterval(1370, Provisioning.A_zimbraExternalAccountStatusCheckInterval, 86400000L);
     }
 
     /**
@@ -8980,7 +8980,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2124)
     public long getFeatureContactBackupFrequency() {
-        return getTimeInterval(Provisioning.A_zimbraFeatureContactBackupFrequency, 0L, true);
+        return getTimeInterval(2124, Provisioning.A_zimbraFeatureContactBackupFrequency, 0L);
     }
 
     /**
@@ -9097,7 +9097,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2125)
     public long getFeatureContactBackupLifeTime() {
-        return getTimeInterval(Provisioning.A_zimbraFeatureContactBackupLifeTime, 1296000000L, true);
+        return getTimeInterval(2125, Provisioning.A_zimbraFeatureContactBackupLifeTime, 1296000000L);
     }
 
     /**
@@ -9199,7 +9199,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=227)
     public long getFileUploadMaxSize() {
-        return getLongAttr(Provisioning.A_zimbraFileUploadMaxSize, 10485760L, true);
+        return getLongAttr(227, Provisioning.A_zimbraFileUploadMaxSize, 10485760L);
     }
 
     /**
@@ -9272,7 +9272,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1026)
     public long getFreebusyPropagationRetryInterval() {
-        return getTimeInterval(Provisioning.A_zimbraFreebusyPropagationRetryInterval, 60000L, true);
+        return getTimeInterval(1026, Provisioning.A_zimbraFreebusyPropagationRetryInterval, 60000L);
     }
 
     /**
@@ -9388,7 +9388,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=8)
     public long getHsmAge() {
-        return getTimeInterval(Provisioning.A_zimbraHsmAge, 2592000000L, true);
+        return getTimeInterval(8, Provisioning.A_zimbraHsmAge, 2592000000L);
     }
 
     /**
@@ -9489,7 +9489,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1316)
     public int getHsmBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraHsmBatchSize, 10000, true);
+        return getIntAttr(1316, Provisioning.A_zimbraHsmBatchSize, 10000);
     }
 
     /**
@@ -9571,7 +9571,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1393)
     public boolean isHsmMovePreviousRevisions() {
-        return getBooleanAttr(Provisioning.A_zimbraHsmMovePreviousRevisions, false, true);
+        return getBooleanAttr(1393, Provisioning.A_zimbraHsmMovePreviousRevisions, false);
     }
 
     /**
@@ -9821,7 +9821,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1467)
     public boolean isHttpCompressionEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraHttpCompressionEnabled, true, true);
+        return getBooleanAttr(1467, Provisioning.A_zimbraHttpCompressionEnabled, true);
     }
 
     /**
@@ -9896,7 +9896,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1428)
     public int getHttpConnectorMaxIdleTimeMillis() {
-        return getIntAttr(Provisioning.A_zimbraHttpConnectorMaxIdleTimeMillis, 60000, true);
+        return getIntAttr(1428, Provisioning.A_zimbraHttpConnectorMaxIdleTimeMillis, 60000);
     }
 
     /**
@@ -10132,7 +10132,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1043)
     public boolean isHttpDebugHandlerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraHttpDebugHandlerEnabled, true, true);
+        return getBooleanAttr(1043, Provisioning.A_zimbraHttpDebugHandlerEnabled, true);
     }
 
     /**
@@ -10206,7 +10206,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1430)
     public int getHttpDosFilterDelayMillis() {
-        return getIntAttr(Provisioning.A_zimbraHttpDosFilterDelayMillis, -1, true);
+        return getIntAttr(1430, Provisioning.A_zimbraHttpDosFilterDelayMillis, -1);
     }
 
     /**
@@ -10287,7 +10287,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1431)
     public int getHttpDosFilterMaxRequestsPerSec() {
-        return getIntAttr(Provisioning.A_zimbraHttpDosFilterMaxRequestsPerSec, 30, true);
+        return getIntAttr(1431, Provisioning.A_zimbraHttpDosFilterMaxRequestsPerSec, 30);
     }
 
     /**
@@ -10364,7 +10364,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1582)
     public int getHttpHeaderCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraHttpHeaderCacheSize, 512, true);
+        return getIntAttr(1582, Provisioning.A_zimbraHttpHeaderCacheSize, 512);
     }
 
     /**
@@ -10441,7 +10441,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1612)
     public int getHttpMaxFormContentSize() {
-        return getIntAttr(Provisioning.A_zimbraHttpMaxFormContentSize, 200000, true);
+        return getIntAttr(1612, Provisioning.A_zimbraHttpMaxFormContentSize, 200000);
     }
 
     /**
@@ -10515,7 +10515,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=518)
     public int getHttpNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraHttpNumThreads, 250, true);
+        return getIntAttr(518, Provisioning.A_zimbraHttpNumThreads, 250);
     }
 
     /**
@@ -10580,7 +10580,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1579)
     public int getHttpOutputBufferSize() {
-        return getIntAttr(Provisioning.A_zimbraHttpOutputBufferSize, 32768, true);
+        return getIntAttr(1579, Provisioning.A_zimbraHttpOutputBufferSize, 32768);
     }
 
     /**
@@ -10781,7 +10781,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1580)
     public int getHttpRequestHeaderSize() {
-        return getIntAttr(Provisioning.A_zimbraHttpRequestHeaderSize, 8192, true);
+        return getIntAttr(1580, Provisioning.A_zimbraHttpRequestHeaderSize, 8192);
     }
 
     /**
@@ -10853,7 +10853,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1581)
     public int getHttpResponseHeaderSize() {
-        return getIntAttr(Provisioning.A_zimbraHttpResponseHeaderSize, 8192, true);
+        return getIntAttr(1581, Provisioning.A_zimbraHttpResponseHeaderSize, 8192);
     }
 
     /**
@@ -10924,7 +10924,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=519)
     public int getHttpSSLNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraHttpSSLNumThreads, 50, true);
+        return getIntAttr(519, Provisioning.A_zimbraHttpSSLNumThreads, 50);
     }
 
     /**
@@ -10993,7 +10993,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1429)
     public int getHttpThreadPoolMaxIdleTimeMillis() {
-        return getIntAttr(Provisioning.A_zimbraHttpThreadPoolMaxIdleTimeMillis, 10000, true);
+        return getIntAttr(1429, Provisioning.A_zimbraHttpThreadPoolMaxIdleTimeMillis, 10000);
     }
 
     /**
@@ -11560,7 +11560,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3005)
     public long getImapActiveSessionEhcacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraImapActiveSessionEhcacheMaxDiskSize, 107374182400L, true);
+        return getLongAttr(3005, Provisioning.A_zimbraImapActiveSessionEhcacheMaxDiskSize, 107374182400L);
     }
 
     /**
@@ -11831,7 +11831,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=268)
     public boolean isImapBindOnStartup() {
-        return getBooleanAttr(Provisioning.A_zimbraImapBindOnStartup, true, true);
+        return getBooleanAttr(268, Provisioning.A_zimbraImapBindOnStartup, true);
     }
 
     /**
@@ -11905,7 +11905,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=180)
     public int getImapBindPort() {
-        return getIntAttr(Provisioning.A_zimbraImapBindPort, 7143, true);
+        return getIntAttr(180, Provisioning.A_zimbraImapBindPort, 7143);
     }
 
     /**
@@ -12004,7 +12004,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=185)
     public boolean isImapCleartextLoginEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraImapCleartextLoginEnabled, false, true);
+        return getBooleanAttr(185, Provisioning.A_zimbraImapCleartextLoginEnabled, false);
     }
 
     /**
@@ -12193,7 +12193,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1909)
     public boolean isImapDisplayMailFoldersOnly() {
-        return getBooleanAttr(Provisioning.A_zimbraImapDisplayMailFoldersOnly, true, true);
+        return getBooleanAttr(1909, Provisioning.A_zimbraImapDisplayMailFoldersOnly, true);
     }
 
     /**
@@ -12265,7 +12265,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=693)
     public boolean isImapExposeVersionOnBanner() {
-        return getBooleanAttr(Provisioning.A_zimbraImapExposeVersionOnBanner, false, true);
+        return getBooleanAttr(693, Provisioning.A_zimbraImapExposeVersionOnBanner, false);
     }
 
     /**
@@ -12340,7 +12340,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2013)
     public long getImapInactiveSessionCacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraImapInactiveSessionCacheMaxDiskSize, 10737418240L, true);
+        return getLongAttr(2013, Provisioning.A_zimbraImapInactiveSessionCacheMaxDiskSize, 10737418240L);
     }
 
     /**
@@ -12427,7 +12427,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3006)
     public long getImapInactiveSessionEhcacheMaxDiskSize() {
-        return getLongAttr(Provisioning.A_zimbraImapInactiveSessionEhcacheMaxDiskSize, 107374182400L, true);
+        return getLongAttr(3006, Provisioning.A_zimbraImapInactiveSessionEhcacheMaxDiskSize, 107374182400L);
     }
 
     /**
@@ -12514,7 +12514,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3004)
     public long getImapInactiveSessionEhcacheSize() {
-        return getLongAttr(Provisioning.A_zimbraImapInactiveSessionEhcacheSize, 1048576L, true);
+        return getLongAttr(3004, Provisioning.A_zimbraImapInactiveSessionEhcacheSize, 1048576L);
     }
 
     /**
@@ -12686,7 +12686,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1156)
     public int getImapMaxConnections() {
-        return getIntAttr(Provisioning.A_zimbraImapMaxConnections, 200, true);
+        return getIntAttr(1156, Provisioning.A_zimbraImapMaxConnections, 200);
     }
 
     /**
@@ -12762,7 +12762,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1085)
     public int getImapMaxRequestSize() {
-        return getIntAttr(Provisioning.A_zimbraImapMaxRequestSize, 10240, true);
+        return getIntAttr(1085, Provisioning.A_zimbraImapMaxRequestSize, 10240);
     }
 
     /**
@@ -12832,7 +12832,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=181)
     public int getImapNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraImapNumThreads, 200, true);
+        return getIntAttr(181, Provisioning.A_zimbraImapNumThreads, 200);
     }
 
     /**
@@ -12898,7 +12898,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=348)
     public int getImapProxyBindPort() {
-        return getIntAttr(Provisioning.A_zimbraImapProxyBindPort, 143, true);
+        return getIntAttr(348, Provisioning.A_zimbraImapProxyBindPort, 143);
     }
 
     /**
@@ -13124,7 +13124,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=269)
     public boolean isImapSSLBindOnStartup() {
-        return getBooleanAttr(Provisioning.A_zimbraImapSSLBindOnStartup, true, true);
+        return getBooleanAttr(269, Provisioning.A_zimbraImapSSLBindOnStartup, true);
     }
 
     /**
@@ -13198,7 +13198,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=183)
     public int getImapSSLBindPort() {
-        return getIntAttr(Provisioning.A_zimbraImapSSLBindPort, 7993, true);
+        return getIntAttr(183, Provisioning.A_zimbraImapSSLBindPort, 7993);
     }
 
     /**
@@ -13426,7 +13426,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=349)
     public int getImapSSLProxyBindPort() {
-        return getIntAttr(Provisioning.A_zimbraImapSSLProxyBindPort, 993, true);
+        return getIntAttr(349, Provisioning.A_zimbraImapSSLProxyBindPort, 993);
     }
 
     /**
@@ -13525,7 +13525,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=184)
     public boolean isImapSSLServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraImapSSLServerEnabled, true, true);
+        return getBooleanAttr(184, Provisioning.A_zimbraImapSSLServerEnabled, true);
     }
 
     /**
@@ -13589,7 +13589,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=555)
     public boolean isImapSaslGssapiEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraImapSaslGssapiEnabled, false, true);
+        return getBooleanAttr(555, Provisioning.A_zimbraImapSaslGssapiEnabled, false);
     }
 
     /**
@@ -13659,7 +13659,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=176)
     public boolean isImapServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraImapServerEnabled, true, true);
+        return getBooleanAttr(176, Provisioning.A_zimbraImapServerEnabled, true);
     }
 
     /**
@@ -13723,7 +13723,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1080)
     public int getImapShutdownGraceSeconds() {
-        return getIntAttr(Provisioning.A_zimbraImapShutdownGraceSeconds, 10, true);
+        return getIntAttr(1080, Provisioning.A_zimbraImapShutdownGraceSeconds, 10);
     }
 
     /**
@@ -13797,7 +13797,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1614)
     public int getInvalidLoginFilterDelayInMinBetwnReqBeforeReinstating() {
-        return getIntAttr(Provisioning.A_zimbraInvalidLoginFilterDelayInMinBetwnReqBeforeReinstating, 15, true);
+        return getIntAttr(1614, Provisioning.A_zimbraInvalidLoginFilterDelayInMinBetwnReqBeforeReinstating, 15);
     }
 
     /**
@@ -13879,7 +13879,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1613)
     public int getInvalidLoginFilterMaxFailedLogin() {
-        return getIntAttr(Provisioning.A_zimbraInvalidLoginFilterMaxFailedLogin, 10, true);
+        return getIntAttr(1613, Provisioning.A_zimbraInvalidLoginFilterMaxFailedLogin, 10);
     }
 
     /**
@@ -13961,7 +13961,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1618)
     public int getInvalidLoginFilterMaxSizeOfFailedIpDb() {
-        return getIntAttr(Provisioning.A_zimbraInvalidLoginFilterMaxSizeOfFailedIpDb, 7000, true);
+        return getIntAttr(1618, Provisioning.A_zimbraInvalidLoginFilterMaxSizeOfFailedIpDb, 7000);
     }
 
     /**
@@ -14043,7 +14043,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1615)
     public int getInvalidLoginFilterReinstateIpTaskIntervalInMin() {
-        return getIntAttr(Provisioning.A_zimbraInvalidLoginFilterReinstateIpTaskIntervalInMin, 5, true);
+        return getIntAttr(1615, Provisioning.A_zimbraInvalidLoginFilterReinstateIpTaskIntervalInMin, 5);
     }
 
     /**
@@ -14121,7 +14121,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=132)
     public boolean isIsMonitorHost() {
-        return getBooleanAttr(Provisioning.A_zimbraIsMonitorHost, false, true);
+        return getBooleanAttr(132, Provisioning.A_zimbraIsMonitorHost, false);
     }
 
     /**
@@ -14185,7 +14185,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1451)
     public int getItemActionBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraItemActionBatchSize, 1000, true);
+        return getIntAttr(1451, Provisioning.A_zimbraItemActionBatchSize, 1000);
     }
 
     /**
@@ -14266,7 +14266,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1382)
     public long getLastPurgeMaxDuration() {
-        return getTimeInterval(Provisioning.A_zimbraLastPurgeMaxDuration, 2592000000L, true);
+        return getTimeInterval(1382, Provisioning.A_zimbraLastPurgeMaxDuration, 2592000000L);
     }
 
     /**
@@ -14381,7 +14381,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2018)
     public boolean isLdapGentimeFractionalSecondsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraLdapGentimeFractionalSecondsEnabled, true, true);
+        return getBooleanAttr(2018, Provisioning.A_zimbraLdapGentimeFractionalSecondsEnabled, true);
     }
 
     /**
@@ -14664,7 +14664,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=270)
     public boolean isLmtpBindOnStartup() {
-        return getBooleanAttr(Provisioning.A_zimbraLmtpBindOnStartup, false, true);
+        return getBooleanAttr(270, Provisioning.A_zimbraLmtpBindOnStartup, false);
     }
 
     /**
@@ -14738,7 +14738,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=24)
     public int getLmtpBindPort() {
-        return getIntAttr(Provisioning.A_zimbraLmtpBindPort, 7025, true);
+        return getIntAttr(24, Provisioning.A_zimbraLmtpBindPort, 7025);
     }
 
     /**
@@ -14839,7 +14839,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=691)
     public boolean isLmtpExposeVersionOnBanner() {
-        return getBooleanAttr(Provisioning.A_zimbraLmtpExposeVersionOnBanner, false, true);
+        return getBooleanAttr(691, Provisioning.A_zimbraLmtpExposeVersionOnBanner, false);
     }
 
     /**
@@ -14912,7 +14912,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1675)
     public boolean isLmtpLHLORequired() {
-        return getBooleanAttr(Provisioning.A_zimbraLmtpLHLORequired, true, true);
+        return getBooleanAttr(1675, Provisioning.A_zimbraLmtpLHLORequired, true);
     }
 
     /**
@@ -14987,7 +14987,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=26)
     public int getLmtpNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraLmtpNumThreads, 20, true);
+        return getIntAttr(26, Provisioning.A_zimbraLmtpNumThreads, 20);
     }
 
     /**
@@ -15056,7 +15056,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=657)
     public boolean isLmtpPermanentFailureWhenOverQuota() {
-        return getBooleanAttr(Provisioning.A_zimbraLmtpPermanentFailureWhenOverQuota, false, true);
+        return getBooleanAttr(657, Provisioning.A_zimbraLmtpPermanentFailureWhenOverQuota, false);
     }
 
     /**
@@ -15132,7 +15132,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=630)
     public boolean isLmtpServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraLmtpServerEnabled, true, true);
+        return getBooleanAttr(630, Provisioning.A_zimbraLmtpServerEnabled, true);
     }
 
     /**
@@ -15204,7 +15204,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1082)
     public int getLmtpShutdownGraceSeconds() {
-        return getIntAttr(Provisioning.A_zimbraLmtpShutdownGraceSeconds, 10, true);
+        return getIntAttr(1082, Provisioning.A_zimbraLmtpShutdownGraceSeconds, 10);
     }
 
     /**
@@ -15336,7 +15336,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=520)
     public boolean isLogToSyslog() {
-        return getBooleanAttr(Provisioning.A_zimbraLogToSyslog, false, true);
+        return getBooleanAttr(520, Provisioning.A_zimbraLogToSyslog, false);
     }
 
     /**
@@ -15400,7 +15400,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1589)
     public int getLowestSupportedAuthVersion() {
-        return getIntAttr(Provisioning.A_zimbraLowestSupportedAuthVersion, 2, true);
+        return getIntAttr(1589, Provisioning.A_zimbraLowestSupportedAuthVersion, 2);
     }
 
     /**
@@ -15901,7 +15901,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=791)
     public boolean isMailClearTextPasswordEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMailClearTextPasswordEnabled, true, true);
+        return getBooleanAttr(791, Provisioning.A_zimbraMailClearTextPasswordEnabled, true);
     }
 
     /**
@@ -15990,7 +15990,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=807)
     public long getMailContentMaxSize() {
-        return getLongAttr(Provisioning.A_zimbraMailContentMaxSize, 10240000L, true);
+        return getLongAttr(807, Provisioning.A_zimbraMailContentMaxSize, 10240000L);
     }
 
     /**
@@ -16068,7 +16068,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=565)
     public int getMailDiskStreamingThreshold() {
-        return getIntAttr(Provisioning.A_zimbraMailDiskStreamingThreshold, 1048576, true);
+        return getIntAttr(565, Provisioning.A_zimbraMailDiskStreamingThreshold, 1048576);
     }
 
     /**
@@ -16149,7 +16149,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1097)
     public int getMailEmptyFolderBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraMailEmptyFolderBatchSize, 1000, true);
+        return getIntAttr(1097, Provisioning.A_zimbraMailEmptyFolderBatchSize, 1000);
     }
 
     /**
@@ -16228,7 +16228,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1208)
     public int getMailEmptyFolderBatchThreshold() {
-        return getIntAttr(Provisioning.A_zimbraMailEmptyFolderBatchThreshold, 100000, true);
+        return getIntAttr(1208, Provisioning.A_zimbraMailEmptyFolderBatchThreshold, 100000);
     }
 
     /**
@@ -16314,7 +16314,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1035)
     public int getMailFileDescriptorBufferSize() {
-        return getIntAttr(Provisioning.A_zimbraMailFileDescriptorBufferSize, 4096, true);
+        return getIntAttr(1035, Provisioning.A_zimbraMailFileDescriptorBufferSize, 4096);
     }
 
     /**
@@ -16395,7 +16395,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1034)
     public int getMailFileDescriptorCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraMailFileDescriptorCacheSize, 1000, true);
+        return getIntAttr(1034, Provisioning.A_zimbraMailFileDescriptorCacheSize, 1000);
     }
 
     /**
@@ -16472,7 +16472,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1161)
     public boolean isMailKeepOutWebCrawlers() {
-        return getBooleanAttr(Provisioning.A_zimbraMailKeepOutWebCrawlers, false, true);
+        return getBooleanAttr(1161, Provisioning.A_zimbraMailKeepOutWebCrawlers, false);
     }
 
     /**
@@ -16549,7 +16549,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=543)
     public int getMailLastPurgedMailboxId() {
-        return getIntAttr(Provisioning.A_zimbraMailLastPurgedMailboxId, -1, true);
+        return getIntAttr(543, Provisioning.A_zimbraMailLastPurgedMailboxId, -1);
     }
 
     /**
@@ -16627,7 +16627,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1380)
     public boolean isMailLocalBind() {
-        return getBooleanAttr(Provisioning.A_zimbraMailLocalBind, false, true);
+        return getBooleanAttr(1380, Provisioning.A_zimbraMailLocalBind, false);
     }
 
     /**
@@ -16832,7 +16832,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=154)
     public int getMailPort() {
-        return getIntAttr(Provisioning.A_zimbraMailPort, 80, true);
+        return getIntAttr(154, Provisioning.A_zimbraMailPort, 80);
     }
 
     /**
@@ -16937,7 +16937,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1358)
     public int getMailProxyMaxFails() {
-        return getIntAttr(Provisioning.A_zimbraMailProxyMaxFails, 1, true);
+        return getIntAttr(1358, Provisioning.A_zimbraMailProxyMaxFails, 1);
     }
 
     /**
@@ -17029,7 +17029,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=626)
     public int getMailProxyPort() {
-        return getIntAttr(Provisioning.A_zimbraMailProxyPort, 0, true);
+        return getIntAttr(626, Provisioning.A_zimbraMailProxyPort, 0);
     }
 
     /**
@@ -17224,7 +17224,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1096)
     public int getMailPurgeBatchSize() {
-        return getIntAttr(Provisioning.A_zimbraMailPurgeBatchSize, 1000, true);
+        return getIntAttr(1096, Provisioning.A_zimbraMailPurgeBatchSize, 1000);
     }
 
     /**
@@ -17316,7 +17316,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=542)
     public long getMailPurgeSleepInterval() {
-        return getTimeInterval(Provisioning.A_zimbraMailPurgeSleepInterval, 60000L, true);
+        return getTimeInterval(542, Provisioning.A_zimbraMailPurgeSleepInterval, 60000L);
     }
 
     /**
@@ -17422,7 +17422,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=764)
     public boolean isMailRedirectSetEnvelopeSender() {
-        return getBooleanAttr(Provisioning.A_zimbraMailRedirectSetEnvelopeSender, true, true);
+        return getBooleanAttr(764, Provisioning.A_zimbraMailRedirectSetEnvelopeSender, true);
     }
 
     /**
@@ -18038,7 +18038,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1395)
     public boolean isMailSSLClientCertOCSPEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMailSSLClientCertOCSPEnabled, true, true);
+        return getBooleanAttr(1395, Provisioning.A_zimbraMailSSLClientCertOCSPEnabled, true);
     }
 
     /**
@@ -18114,7 +18114,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1199)
     public int getMailSSLClientCertPort() {
-        return getIntAttr(Provisioning.A_zimbraMailSSLClientCertPort, 9443, true);
+        return getIntAttr(1199, Provisioning.A_zimbraMailSSLClientCertPort, 9443);
     }
 
     /**
@@ -18231,7 +18231,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=166)
     public int getMailSSLPort() {
-        return getIntAttr(Provisioning.A_zimbraMailSSLPort, 0, true);
+        return getIntAttr(166, Provisioning.A_zimbraMailSSLPort, 0);
     }
 
     /**
@@ -18336,7 +18336,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1212)
     public int getMailSSLProxyClientCertPort() {
-        return getIntAttr(Provisioning.A_zimbraMailSSLProxyClientCertPort, 3443, true);
+        return getIntAttr(1212, Provisioning.A_zimbraMailSSLProxyClientCertPort, 3443);
     }
 
     /**
@@ -18455,7 +18455,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=627)
     public int getMailSSLProxyPort() {
-        return getIntAttr(Provisioning.A_zimbraMailSSLProxyPort, 0, true);
+        return getIntAttr(627, Provisioning.A_zimbraMailSSLProxyPort, 0);
     }
 
     /**
@@ -18850,7 +18850,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=825)
     public long getMailUncompressedCacheMaxBytes() {
-        return getLongAttr(Provisioning.A_zimbraMailUncompressedCacheMaxBytes, 1073741824L, true);
+        return getLongAttr(825, Provisioning.A_zimbraMailUncompressedCacheMaxBytes, 1073741824L);
     }
 
     /**
@@ -18937,7 +18937,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=824)
     public int getMailUncompressedCacheMaxFiles() {
-        return getIntAttr(Provisioning.A_zimbraMailUncompressedCacheMaxFiles, 5000, true);
+        return getIntAttr(824, Provisioning.A_zimbraMailUncompressedCacheMaxFiles, 5000);
     }
 
     /**
@@ -19023,7 +19023,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1002)
     public boolean isMailUseDirectBuffers() {
-        return getBooleanAttr(Provisioning.A_zimbraMailUseDirectBuffers, false, true);
+        return getBooleanAttr(1002, Provisioning.A_zimbraMailUseDirectBuffers, false);
     }
 
     /**
@@ -19114,7 +19114,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2079)
     public long getMailboxMoveFailedCleanupTaskInterval() {
-        return getTimeInterval(Provisioning.A_zimbraMailboxMoveFailedCleanupTaskInterval, 1200000L, true);
+        return getTimeInterval(2079, Provisioning.A_zimbraMailboxMoveFailedCleanupTaskInterval, 1200000L);
     }
 
     /**
@@ -19233,7 +19233,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1007)
     public boolean isMailboxMoveSkipBlobs() {
-        return getBooleanAttr(Provisioning.A_zimbraMailboxMoveSkipBlobs, false, true);
+        return getBooleanAttr(1007, Provisioning.A_zimbraMailboxMoveSkipBlobs, false);
     }
 
     /**
@@ -19305,7 +19305,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1008)
     public boolean isMailboxMoveSkipHsmBlobs() {
-        return getBooleanAttr(Provisioning.A_zimbraMailboxMoveSkipHsmBlobs, false, true);
+        return getBooleanAttr(1008, Provisioning.A_zimbraMailboxMoveSkipHsmBlobs, false);
     }
 
     /**
@@ -19377,7 +19377,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1006)
     public boolean isMailboxMoveSkipSearchIndex() {
-        return getBooleanAttr(Provisioning.A_zimbraMailboxMoveSkipSearchIndex, false, true);
+        return getBooleanAttr(1006, Provisioning.A_zimbraMailboxMoveSkipSearchIndex, false);
     }
 
     /**
@@ -19529,7 +19529,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2053)
     public long getMailboxThrottleReapInterval() {
-        return getTimeInterval(Provisioning.A_zimbraMailboxThrottleReapInterval, 60000L, true);
+        return getTimeInterval(2053, Provisioning.A_zimbraMailboxThrottleReapInterval, 60000L);
     }
 
     /**
@@ -19786,7 +19786,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1832)
     public boolean isMailboxdSSLRenegotiationAllowed() {
-        return getBooleanAttr(Provisioning.A_zimbraMailboxdSSLRenegotiationAllowed, true, true);
+        return getBooleanAttr(1832, Provisioning.A_zimbraMailboxdSSLRenegotiationAllowed, true);
     }
 
     /**
@@ -20000,7 +20000,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=580)
     public int getMemcachedBindPort() {
-        return getIntAttr(Provisioning.A_zimbraMemcachedBindPort, 11211, true);
+        return getIntAttr(580, Provisioning.A_zimbraMemcachedBindPort, 11211);
     }
 
     /**
@@ -20116,7 +20116,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1015)
     public boolean isMemcachedClientBinaryProtocolEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMemcachedClientBinaryProtocolEnabled, false, true);
+        return getBooleanAttr(1015, Provisioning.A_zimbraMemcachedClientBinaryProtocolEnabled, false);
     }
 
     /**
@@ -20193,7 +20193,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1017)
     public int getMemcachedClientExpirySeconds() {
-        return getIntAttr(Provisioning.A_zimbraMemcachedClientExpirySeconds, 86400, true);
+        return getIntAttr(1017, Provisioning.A_zimbraMemcachedClientExpirySeconds, 86400);
     }
 
     /**
@@ -20484,7 +20484,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1018)
     public int getMemcachedClientTimeoutMillis() {
-        return getIntAttr(Provisioning.A_zimbraMemcachedClientTimeoutMillis, 10000, true);
+        return getIntAttr(1018, Provisioning.A_zimbraMemcachedClientTimeoutMillis, 10000);
     }
 
     /**
@@ -20554,7 +20554,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=297)
     public int getMessageCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraMessageCacheSize, 2000, true);
+        return getIntAttr(297, Provisioning.A_zimbraMessageCacheSize, 2000);
     }
 
     /**
@@ -20618,7 +20618,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1417)
     public boolean isMessageChannelEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMessageChannelEnabled, false, true);
+        return getBooleanAttr(1417, Provisioning.A_zimbraMessageChannelEnabled, false);
     }
 
     /**
@@ -20690,7 +20690,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1415)
     public int getMessageChannelPort() {
-        return getIntAttr(Provisioning.A_zimbraMessageChannelPort, 7285, true);
+        return getIntAttr(1415, Provisioning.A_zimbraMessageChannelPort, 7285);
     }
 
     /**
@@ -20909,7 +20909,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1114)
     public int getMilterBindPort() {
-        return getIntAttr(Provisioning.A_zimbraMilterBindPort, 7026, true);
+        return getIntAttr(1114, Provisioning.A_zimbraMilterBindPort, 7026);
     }
 
     /**
@@ -21025,7 +21025,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1157)
     public int getMilterMaxConnections() {
-        return getIntAttr(Provisioning.A_zimbraMilterMaxConnections, 20000, true);
+        return getIntAttr(1157, Provisioning.A_zimbraMilterMaxConnections, 20000);
     }
 
     /**
@@ -21101,7 +21101,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1144)
     public int getMilterNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraMilterNumThreads, 100, true);
+        return getIntAttr(1144, Provisioning.A_zimbraMilterNumThreads, 100);
     }
 
     /**
@@ -21173,7 +21173,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1116)
     public boolean isMilterServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMilterServerEnabled, false, true);
+        return getBooleanAttr(1116, Provisioning.A_zimbraMilterServerEnabled, false);
     }
 
     /**
@@ -21246,7 +21246,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1596)
     public int getMobileMaxMessageSize() {
-        return getIntAttr(Provisioning.A_zimbraMobileMaxMessageSize, 10240000, true);
+        return getIntAttr(1596, Provisioning.A_zimbraMobileMaxMessageSize, 10240000);
     }
 
     /**
@@ -22064,7 +22064,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=194)
     public boolean isMtaAuthEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaAuthEnabled, true, true);
+        return getBooleanAttr(194, Provisioning.A_zimbraMtaAuthEnabled, true);
     }
 
     /**
@@ -22292,7 +22292,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1906)
     public int getMtaAuthPort() {
-        return getIntAttr(Provisioning.A_zimbraMtaAuthPort, 7073, true);
+        return getIntAttr(1906, Provisioning.A_zimbraMtaAuthPort, 7073);
     }
 
     /**
@@ -22405,7 +22405,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=505)
     public boolean isMtaAuthTarget() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaAuthTarget, false, true);
+        return getBooleanAttr(505, Provisioning.A_zimbraMtaAuthTarget, false);
     }
 
     /**
@@ -23256,7 +23256,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=197)
     public boolean isMtaDnsLookupsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaDnsLookupsEnabled, true, true);
+        return getBooleanAttr(197, Provisioning.A_zimbraMtaDnsLookupsEnabled, true);
     }
 
     /**
@@ -23328,7 +23328,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1466)
     public boolean isMtaEnableSmtpdPolicyd() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaEnableSmtpdPolicyd, false, true);
+        return getBooleanAttr(1466, Provisioning.A_zimbraMtaEnableSmtpdPolicyd, false);
     }
 
     /**
@@ -23606,7 +23606,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1835)
     public int getMtaHopcountLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaHopcountLimit, 50, true);
+        return getIntAttr(1835, Provisioning.A_zimbraMtaHopcountLimit, 50);
     }
 
     /**
@@ -23885,7 +23885,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1489)
     public int getMtaLmdbMapSize() {
-        return getIntAttr(Provisioning.A_zimbraMtaLmdbMapSize, 16777216, true);
+        return getIntAttr(1489, Provisioning.A_zimbraMtaLmdbMapSize, 16777216);
     }
 
     /**
@@ -24632,7 +24632,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1665)
     public int getMtaLmtpTlsLoglevel() {
-        return getIntAttr(Provisioning.A_zimbraMtaLmtpTlsLoglevel, 0, true);
+        return getIntAttr(1665, Provisioning.A_zimbraMtaLmtpTlsLoglevel, 0);
     }
 
     /**
@@ -25258,7 +25258,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1531)
     public int getMtaMaxUse() {
-        return getIntAttr(Provisioning.A_zimbraMtaMaxUse, 100, true);
+        return getIntAttr(1531, Provisioning.A_zimbraMtaMaxUse, 100);
     }
 
     /**
@@ -26456,7 +26456,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1530)
     public int getMtaPolicyTimeLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaPolicyTimeLimit, 3600, true);
+        return getIntAttr(1530, Provisioning.A_zimbraMtaPolicyTimeLimit, 3600);
     }
 
     /**
@@ -27214,7 +27214,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1924)
     public int getMtaPostscreenCommandCountLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaPostscreenCommandCountLimit, 20, true);
+        return getIntAttr(1924, Provisioning.A_zimbraMtaPostscreenCommandCountLimit, 20);
     }
 
     /**
@@ -27853,7 +27853,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1927)
     public int getMtaPostscreenDnsblThreshold() {
-        return getIntAttr(Provisioning.A_zimbraMtaPostscreenDnsblThreshold, 1, true);
+        return getIntAttr(1927, Provisioning.A_zimbraMtaPostscreenDnsblThreshold, 1);
     }
 
     /**
@@ -27997,7 +27997,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1930)
     public int getMtaPostscreenDnsblWhitelistThreshold() {
-        return getIntAttr(Provisioning.A_zimbraMtaPostscreenDnsblWhitelistThreshold, 0, true);
+        return getIntAttr(1930, Provisioning.A_zimbraMtaPostscreenDnsblWhitelistThreshold, 0);
     }
 
     /**
@@ -31407,7 +31407,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1568)
     public int getMtaSmtpTlsLoglevel() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpTlsLoglevel, 0, true);
+        return getIntAttr(1568, Provisioning.A_zimbraMtaSmtpTlsLoglevel, 0);
     }
 
     /**
@@ -32033,7 +32033,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2084)
     public int getMtaSmtpdClientAuthRateLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpdClientAuthRateLimit, 0, true);
+        return getIntAttr(2084, Provisioning.A_zimbraMtaSmtpdClientAuthRateLimit, 0);
     }
 
     /**
@@ -32452,7 +32452,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1537)
     public int getMtaSmtpdHardErrorLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpdHardErrorLimit, 20, true);
+        return getIntAttr(1537, Provisioning.A_zimbraMtaSmtpdHardErrorLimit, 20);
     }
 
     /**
@@ -33587,7 +33587,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2077)
     public int getMtaSmtpdSoftErrorLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpdSoftErrorLimit, 10, true);
+        return getIntAttr(2077, Provisioning.A_zimbraMtaSmtpdSoftErrorLimit, 10);
     }
 
     /**
@@ -33934,7 +33934,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1543)
     public int getMtaSmtpdTlsCcertVerifydepth() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpdTlsCcertVerifydepth, 9, true);
+        return getIntAttr(1543, Provisioning.A_zimbraMtaSmtpdTlsCcertVerifydepth, 9);
     }
 
     /**
@@ -34210,7 +34210,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1541)
     public int getMtaSmtpdTlsLoglevel() {
-        return getIntAttr(Provisioning.A_zimbraMtaSmtpdTlsLoglevel, 1, true);
+        return getIntAttr(1541, Provisioning.A_zimbraMtaSmtpdTlsLoglevel, 1);
     }
 
     /**
@@ -34765,7 +34765,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1538)
     public int getMtaStpdSoftErrorLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaStpdSoftErrorLimit, 10, true);
+        return getIntAttr(1538, Provisioning.A_zimbraMtaStpdSoftErrorLimit, 10);
     }
 
     /**
@@ -34970,7 +34970,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=200)
     public boolean isMtaTlsAuthOnly() {
-        return getBooleanAttr(Provisioning.A_zimbraMtaTlsAuthOnly, true, true);
+        return getBooleanAttr(200, Provisioning.A_zimbraMtaTlsAuthOnly, true);
     }
 
     /**
@@ -35237,7 +35237,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1606)
     public int getMtaUnverifiedRecipientDeferCode() {
-        return getIntAttr(Provisioning.A_zimbraMtaUnverifiedRecipientDeferCode, 250, true);
+        return getIntAttr(1606, Provisioning.A_zimbraMtaUnverifiedRecipientDeferCode, 250);
     }
 
     /**
@@ -35381,7 +35381,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1544)
     public int getMtaVirtualAliasExpansionLimit() {
-        return getIntAttr(Provisioning.A_zimbraMtaVirtualAliasExpansionLimit, 10000, true);
+        return getIntAttr(1544, Provisioning.A_zimbraMtaVirtualAliasExpansionLimit, 10000);
     }
 
     /**
@@ -35671,7 +35671,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2119)
     public boolean isNetworkAdminEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNetworkAdminEnabled, true, true);
+        return getBooleanAttr(2119, Provisioning.A_zimbraNetworkAdminEnabled, true);
     }
 
     /**
@@ -35751,7 +35751,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2130)
     public boolean isNetworkAdminNGEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNetworkAdminNGEnabled, false, true);
+        return getBooleanAttr(2130, Provisioning.A_zimbraNetworkAdminNGEnabled, false);
     }
 
     /**
@@ -35823,7 +35823,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2118)
     public boolean isNetworkMobileNGEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNetworkMobileNGEnabled, false, true);
+        return getBooleanAttr(2118, Provisioning.A_zimbraNetworkMobileNGEnabled, false);
     }
 
     /**
@@ -35896,7 +35896,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2117)
     public boolean isNetworkModulesNGEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNetworkModulesNGEnabled, false, true);
+        return getBooleanAttr(2117, Provisioning.A_zimbraNetworkModulesNGEnabled, false);
     }
 
     /**
@@ -35971,7 +35971,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=370)
     public int getNotebookFolderCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraNotebookFolderCacheSize, 1024, true);
+        return getIntAttr(370, Provisioning.A_zimbraNotebookFolderCacheSize, 1024);
     }
 
     /**
@@ -36038,7 +36038,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=371)
     public int getNotebookMaxCachedTemplatesPerFolder() {
-        return getIntAttr(Provisioning.A_zimbraNotebookMaxCachedTemplatesPerFolder, 256, true);
+        return getIntAttr(371, Provisioning.A_zimbraNotebookMaxCachedTemplatesPerFolder, 256);
     }
 
     /**
@@ -36104,7 +36104,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=369)
     public int getNotebookPageCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraNotebookPageCacheSize, 10240, true);
+        return getIntAttr(369, Provisioning.A_zimbraNotebookPageCacheSize, 10240);
     }
 
     /**
@@ -36364,7 +36364,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=318)
     public int getNotifyBindPort() {
-        return getIntAttr(Provisioning.A_zimbraNotifyBindPort, 7035, true);
+        return getIntAttr(318, Provisioning.A_zimbraNotifyBindPort, 7035);
     }
 
     /**
@@ -36570,7 +36570,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=321)
     public int getNotifySSLBindPort() {
-        return getIntAttr(Provisioning.A_zimbraNotifySSLBindPort, 7036, true);
+        return getIntAttr(321, Provisioning.A_zimbraNotifySSLBindPort, 7036);
     }
 
     /**
@@ -36641,7 +36641,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=319)
     public boolean isNotifySSLServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNotifySSLServerEnabled, true, true);
+        return getBooleanAttr(319, Provisioning.A_zimbraNotifySSLServerEnabled, true);
     }
 
     /**
@@ -36708,7 +36708,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=316)
     public boolean isNotifyServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraNotifyServerEnabled, true, true);
+        return getBooleanAttr(316, Provisioning.A_zimbraNotifyServerEnabled, true);
     }
 
     /**
@@ -36777,7 +36777,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3012)
     public int getOpenImapFolderRequestChunkSize() {
-        return getIntAttr(Provisioning.A_zimbraOpenImapFolderRequestChunkSize, 1000, true);
+        return getIntAttr(3012, Provisioning.A_zimbraOpenImapFolderRequestChunkSize, 1000);
     }
 
     /**
@@ -36854,7 +36854,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1189)
     public boolean isOpenidConsumerStatelessModeEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraOpenidConsumerStatelessModeEnabled, true, true);
+        return getBooleanAttr(1189, Provisioning.A_zimbraOpenidConsumerStatelessModeEnabled, true);
     }
 
     /**
@@ -37117,7 +37117,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=271)
     public boolean isPop3BindOnStartup() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3BindOnStartup, true, true);
+        return getBooleanAttr(271, Provisioning.A_zimbraPop3BindOnStartup, true);
     }
 
     /**
@@ -37191,7 +37191,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=94)
     public int getPop3BindPort() {
-        return getIntAttr(Provisioning.A_zimbraPop3BindPort, 7110, true);
+        return getIntAttr(94, Provisioning.A_zimbraPop3BindPort, 7110);
     }
 
     /**
@@ -37290,7 +37290,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=189)
     public boolean isPop3CleartextLoginEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3CleartextLoginEnabled, false, true);
+        return getBooleanAttr(189, Provisioning.A_zimbraPop3CleartextLoginEnabled, false);
     }
 
     /**
@@ -37354,7 +37354,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=692)
     public boolean isPop3ExposeVersionOnBanner() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3ExposeVersionOnBanner, false, true);
+        return getBooleanAttr(692, Provisioning.A_zimbraPop3ExposeVersionOnBanner, false);
     }
 
     /**
@@ -37427,7 +37427,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1155)
     public int getPop3MaxConnections() {
-        return getIntAttr(Provisioning.A_zimbraPop3MaxConnections, 200, true);
+        return getIntAttr(1155, Provisioning.A_zimbraPop3MaxConnections, 200);
     }
 
     /**
@@ -37501,7 +37501,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=96)
     public int getPop3NumThreads() {
-        return getIntAttr(Provisioning.A_zimbraPop3NumThreads, 100, true);
+        return getIntAttr(96, Provisioning.A_zimbraPop3NumThreads, 100);
     }
 
     /**
@@ -37567,7 +37567,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=350)
     public int getPop3ProxyBindPort() {
-        return getIntAttr(Provisioning.A_zimbraPop3ProxyBindPort, 110, true);
+        return getIntAttr(350, Provisioning.A_zimbraPop3ProxyBindPort, 110);
     }
 
     /**
@@ -37793,7 +37793,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=272)
     public boolean isPop3SSLBindOnStartup() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3SSLBindOnStartup, true, true);
+        return getBooleanAttr(272, Provisioning.A_zimbraPop3SSLBindOnStartup, true);
     }
 
     /**
@@ -37867,7 +37867,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=187)
     public int getPop3SSLBindPort() {
-        return getIntAttr(Provisioning.A_zimbraPop3SSLBindPort, 7995, true);
+        return getIntAttr(187, Provisioning.A_zimbraPop3SSLBindPort, 7995);
     }
 
     /**
@@ -37970,7 +37970,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=351)
     public int getPop3SSLProxyBindPort() {
-        return getIntAttr(Provisioning.A_zimbraPop3SSLProxyBindPort, 995, true);
+        return getIntAttr(351, Provisioning.A_zimbraPop3SSLProxyBindPort, 995);
     }
 
     /**
@@ -38069,7 +38069,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=188)
     public boolean isPop3SSLServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3SSLServerEnabled, true, true);
+        return getBooleanAttr(188, Provisioning.A_zimbraPop3SSLServerEnabled, true);
     }
 
     /**
@@ -38133,7 +38133,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=554)
     public boolean isPop3SaslGssapiEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3SaslGssapiEnabled, false, true);
+        return getBooleanAttr(554, Provisioning.A_zimbraPop3SaslGssapiEnabled, false);
     }
 
     /**
@@ -38203,7 +38203,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=177)
     public boolean isPop3ServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraPop3ServerEnabled, true, true);
+        return getBooleanAttr(177, Provisioning.A_zimbraPop3ServerEnabled, true);
     }
 
     /**
@@ -38267,7 +38267,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1081)
     public int getPop3ShutdownGraceSeconds() {
-        return getIntAttr(Provisioning.A_zimbraPop3ShutdownGraceSeconds, 10, true);
+        return getIntAttr(1081, Provisioning.A_zimbraPop3ShutdownGraceSeconds, 10);
     }
 
     /**
@@ -38339,7 +38339,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1592)
     public int getPrevFoldersToTrackMax() {
-        return getIntAttr(Provisioning.A_zimbraPrevFoldersToTrackMax, 10, true);
+        return getIntAttr(1592, Provisioning.A_zimbraPrevFoldersToTrackMax, 10);
     }
 
     /**
@@ -38475,7 +38475,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1009)
     public int getRedoLogCrashRecoveryLookbackSec() {
-        return getIntAttr(Provisioning.A_zimbraRedoLogCrashRecoveryLookbackSec, 10, true);
+        return getIntAttr(1009, Provisioning.A_zimbraRedoLogCrashRecoveryLookbackSec, 10);
     }
 
     /**
@@ -38553,7 +38553,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=251)
     public boolean isRedoLogDeleteOnRollover() {
-        return getBooleanAttr(Provisioning.A_zimbraRedoLogDeleteOnRollover, true, true);
+        return getBooleanAttr(251, Provisioning.A_zimbraRedoLogDeleteOnRollover, true);
     }
 
     /**
@@ -38615,7 +38615,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=74)
     public boolean isRedoLogEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraRedoLogEnabled, true, true);
+        return getBooleanAttr(74, Provisioning.A_zimbraRedoLogEnabled, true);
     }
 
     /**
@@ -38677,7 +38677,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=79)
     public int getRedoLogFsyncIntervalMS() {
-        return getIntAttr(Provisioning.A_zimbraRedoLogFsyncIntervalMS, 10, true);
+        return getIntAttr(79, Provisioning.A_zimbraRedoLogFsyncIntervalMS, 10);
     }
 
     /**
@@ -38918,7 +38918,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=78)
     public int getRedoLogRolloverFileSizeKB() {
-        return getIntAttr(Provisioning.A_zimbraRedoLogRolloverFileSizeKB, 1048576, true);
+        return getIntAttr(78, Provisioning.A_zimbraRedoLogRolloverFileSizeKB, 1048576);
     }
 
     /**
@@ -38987,7 +38987,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1021)
     public int getRedoLogRolloverHardMaxFileSizeKB() {
-        return getIntAttr(Provisioning.A_zimbraRedoLogRolloverHardMaxFileSizeKB, 4194304, true);
+        return getIntAttr(1021, Provisioning.A_zimbraRedoLogRolloverHardMaxFileSizeKB, 4194304);
     }
 
     /**
@@ -39064,7 +39064,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1020)
     public int getRedoLogRolloverMinFileAge() {
-        return getIntAttr(Provisioning.A_zimbraRedoLogRolloverMinFileAge, 60, true);
+        return getIntAttr(1020, Provisioning.A_zimbraRedoLogRolloverMinFileAge, 60);
     }
 
     /**
@@ -39144,7 +39144,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3015)
     public int getRemoteImapBindPort() {
-        return getIntAttr(Provisioning.A_zimbraRemoteImapBindPort, 8143, true);
+        return getIntAttr(3015, Provisioning.A_zimbraRemoteImapBindPort, 8143);
     }
 
     /**
@@ -39263,7 +39263,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3016)
     public int getRemoteImapSSLBindPort() {
-        return getIntAttr(Provisioning.A_zimbraRemoteImapSSLBindPort, 8993, true);
+        return getIntAttr(3016, Provisioning.A_zimbraRemoteImapSSLBindPort, 8993);
     }
 
     /**
@@ -39380,7 +39380,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3014)
     public boolean isRemoteImapSSLServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraRemoteImapSSLServerEnabled, false, true);
+        return getBooleanAttr(3014, Provisioning.A_zimbraRemoteImapSSLServerEnabled, false);
     }
 
     /**
@@ -39462,7 +39462,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3013)
     public boolean isRemoteImapServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraRemoteImapServerEnabled, false, true);
+        return getBooleanAttr(3013, Provisioning.A_zimbraRemoteImapServerEnabled, false);
     }
 
     /**
@@ -39602,7 +39602,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=339)
     public int getRemoteManagementPort() {
-        return getIntAttr(Provisioning.A_zimbraRemoteManagementPort, 22, true);
+        return getIntAttr(339, Provisioning.A_zimbraRemoteManagementPort, 22);
     }
 
     /**
@@ -39945,7 +39945,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1321)
     public boolean isReverseProxyAdminEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyAdminEnabled, false, true);
+        return getBooleanAttr(1321, Provisioning.A_zimbraReverseProxyAdminEnabled, false);
     }
 
     /**
@@ -40403,7 +40403,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=797)
     public long getReverseProxyConnectTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyConnectTimeout, 120000L, true);
+        return getTimeInterval(797, Provisioning.A_zimbraReverseProxyConnectTimeout, 120000L);
     }
 
     /**
@@ -40591,7 +40591,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1384)
     public boolean isReverseProxyDnsLookupInServerEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyDnsLookupInServerEnabled, true, true);
+        return getBooleanAttr(1384, Provisioning.A_zimbraReverseProxyDnsLookupInServerEnabled, true);
     }
 
     /**
@@ -40917,7 +40917,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1374)
     public boolean isReverseProxyGenConfigPerVirtualHostname() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyGenConfigPerVirtualHostname, true, true);
+        return getBooleanAttr(1374, Provisioning.A_zimbraReverseProxyGenConfigPerVirtualHostname, true);
     }
 
     /**
@@ -41005,7 +41005,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=628)
     public boolean isReverseProxyHttpEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyHttpEnabled, true, true);
+        return getBooleanAttr(628, Provisioning.A_zimbraReverseProxyHttpEnabled, true);
     }
 
     /**
@@ -41237,7 +41237,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3007)
     public long getReverseProxyIPThrottleWhitelistTime() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyIPThrottleWhitelistTime, 300000L, true);
+        return getTimeInterval(3007, Provisioning.A_zimbraReverseProxyIPThrottleWhitelistTime, 300000L);
     }
 
     /**
@@ -41475,7 +41475,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=713)
     public boolean isReverseProxyImapExposeVersionOnBanner() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyImapExposeVersionOnBanner, false, true);
+        return getBooleanAttr(713, Provisioning.A_zimbraReverseProxyImapExposeVersionOnBanner, false);
     }
 
     /**
@@ -41547,7 +41547,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=643)
     public boolean isReverseProxyImapSaslGssapiEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyImapSaslGssapiEnabled, false, true);
+        return getBooleanAttr(643, Provisioning.A_zimbraReverseProxyImapSaslGssapiEnabled, false);
     }
 
     /**
@@ -41619,7 +41619,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=728)
     public boolean isReverseProxyImapSaslPlainEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyImapSaslPlainEnabled, true, true);
+        return getBooleanAttr(728, Provisioning.A_zimbraReverseProxyImapSaslPlainEnabled, true);
     }
 
     /**
@@ -41849,7 +41849,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=735)
     public long getReverseProxyInactivityTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyInactivityTimeout, 3600000L, true);
+        return getTimeInterval(735, Provisioning.A_zimbraReverseProxyInactivityTimeout, 3600000L);
     }
 
     /**
@@ -42098,7 +42098,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=504)
     public boolean isReverseProxyLookupTarget() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyLookupTarget, false, true);
+        return getBooleanAttr(504, Provisioning.A_zimbraReverseProxyLookupTarget, false);
     }
 
     /**
@@ -42166,7 +42166,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=629)
     public boolean isReverseProxyMailEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyMailEnabled, true, true);
+        return getBooleanAttr(629, Provisioning.A_zimbraReverseProxyMailEnabled, true);
     }
 
     /**
@@ -42238,7 +42238,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1621)
     public boolean isReverseProxyMailImapEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyMailImapEnabled, true, true);
+        return getBooleanAttr(1621, Provisioning.A_zimbraReverseProxyMailImapEnabled, true);
     }
 
     /**
@@ -42310,7 +42310,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1622)
     public boolean isReverseProxyMailImapsEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyMailImapsEnabled, true, true);
+        return getBooleanAttr(1622, Provisioning.A_zimbraReverseProxyMailImapsEnabled, true);
     }
 
     /**
@@ -42529,7 +42529,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1623)
     public boolean isReverseProxyMailPop3Enabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyMailPop3Enabled, true, true);
+        return getBooleanAttr(1623, Provisioning.A_zimbraReverseProxyMailPop3Enabled, true);
     }
 
     /**
@@ -42601,7 +42601,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1624)
     public boolean isReverseProxyMailPop3sEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyMailPop3sEnabled, true, true);
+        return getBooleanAttr(1624, Provisioning.A_zimbraReverseProxyMailPop3sEnabled, true);
     }
 
     /**
@@ -42674,7 +42674,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=736)
     public boolean isReverseProxyPassErrors() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyPassErrors, true, true);
+        return getBooleanAttr(736, Provisioning.A_zimbraReverseProxyPassErrors, true);
     }
 
     /**
@@ -42884,7 +42884,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=712)
     public boolean isReverseProxyPop3ExposeVersionOnBanner() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyPop3ExposeVersionOnBanner, false, true);
+        return getBooleanAttr(712, Provisioning.A_zimbraReverseProxyPop3ExposeVersionOnBanner, false);
     }
 
     /**
@@ -42956,7 +42956,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=644)
     public boolean isReverseProxyPop3SaslGssapiEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyPop3SaslGssapiEnabled, false, true);
+        return getBooleanAttr(644, Provisioning.A_zimbraReverseProxyPop3SaslGssapiEnabled, false);
     }
 
     /**
@@ -43028,7 +43028,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=729)
     public boolean isReverseProxyPop3SaslPlainEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyPop3SaslPlainEnabled, true, true);
+        return getBooleanAttr(729, Provisioning.A_zimbraReverseProxyPop3SaslPlainEnabled, true);
     }
 
     /**
@@ -43256,7 +43256,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=745)
     public long getReverseProxyRouteLookupTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyRouteLookupTimeout, 15000L, true);
+        return getTimeInterval(745, Provisioning.A_zimbraReverseProxyRouteLookupTimeout, 15000L);
     }
 
     /**
@@ -43374,7 +43374,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=778)
     public long getReverseProxyRouteLookupTimeoutCache() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyRouteLookupTimeoutCache, 60000L, true);
+        return getTimeInterval(778, Provisioning.A_zimbraReverseProxyRouteLookupTimeoutCache, 60000L);
     }
 
     /**
@@ -43485,7 +43485,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1818)
     public boolean isReverseProxySNIEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxySNIEnabled, false, true);
+        return getBooleanAttr(1818, Provisioning.A_zimbraReverseProxySNIEnabled, false);
     }
 
     /**
@@ -43871,7 +43871,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1679)
     public long getReverseProxySSLSessionTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxySSLSessionTimeout, 600000L, true);
+        return getTimeInterval(1679, Provisioning.A_zimbraReverseProxySSLSessionTimeout, 600000L);
     }
 
     /**
@@ -43977,7 +43977,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1360)
     public boolean isReverseProxySSLToUpstreamEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxySSLToUpstreamEnabled, true, true);
+        return getBooleanAttr(1360, Provisioning.A_zimbraReverseProxySSLToUpstreamEnabled, true);
     }
 
     /**
@@ -44061,7 +44061,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3020)
     public boolean isReverseProxyStrictServerNameEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyStrictServerNameEnabled, true, true);
+        return getBooleanAttr(3020, Provisioning.A_zimbraReverseProxyStrictServerNameEnabled, true);
     }
 
     /**
@@ -44151,7 +44151,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1440)
     public int getReverseProxyUpstreamConnectTimeout() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyUpstreamConnectTimeout, 25, true);
+        return getIntAttr(1440, Provisioning.A_zimbraReverseProxyUpstreamConnectTimeout, 25);
     }
 
     /**
@@ -44376,7 +44376,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=3017)
     public int getReverseProxyUpstreamFairShmSize() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyUpstreamFairShmSize, 32, true);
+        return getIntAttr(3017, Provisioning.A_zimbraReverseProxyUpstreamFairShmSize, 32);
     }
 
     /**
@@ -44768,7 +44768,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1337)
     public long getReverseProxyUpstreamPollingTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyUpstreamPollingTimeout, 3600000L, true);
+        return getTimeInterval(1337, Provisioning.A_zimbraReverseProxyUpstreamPollingTimeout, 3600000L);
     }
 
     /**
@@ -44881,7 +44881,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1335)
     public long getReverseProxyUpstreamReadTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyUpstreamReadTimeout, 60000L, true);
+        return getTimeInterval(1335, Provisioning.A_zimbraReverseProxyUpstreamReadTimeout, 60000L);
     }
 
     /**
@@ -44999,7 +44999,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1336)
     public long getReverseProxyUpstreamSendTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyUpstreamSendTimeout, 60000L, true);
+        return getTimeInterval(1336, Provisioning.A_zimbraReverseProxyUpstreamSendTimeout, 60000L);
     }
 
     /**
@@ -45306,7 +45306,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=725)
     public int getReverseProxyWorkerConnections() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyWorkerConnections, 10240, true);
+        return getIntAttr(725, Provisioning.A_zimbraReverseProxyWorkerConnections, 10240);
     }
 
     /**
@@ -45382,7 +45382,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=724)
     public int getReverseProxyWorkerProcesses() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyWorkerProcesses, 4, true);
+        return getIntAttr(724, Provisioning.A_zimbraReverseProxyWorkerProcesses, 4);
     }
 
     /**
@@ -45454,7 +45454,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2065)
     public boolean isReverseProxyXmppBoshEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyXmppBoshEnabled, false, true);
+        return getBooleanAttr(2065, Provisioning.A_zimbraReverseProxyXmppBoshEnabled, false);
     }
 
     /**
@@ -45680,7 +45680,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1960)
     public int getReverseProxyXmppBoshPort() {
-        return getIntAttr(Provisioning.A_zimbraReverseProxyXmppBoshPort, -1, true);
+        return getIntAttr(1960, Provisioning.A_zimbraReverseProxyXmppBoshPort, -1);
     }
 
     /**
@@ -45884,7 +45884,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2066)
     public boolean isReverseProxyXmppBoshSSL() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyXmppBoshSSL, false, true);
+        return getBooleanAttr(2066, Provisioning.A_zimbraReverseProxyXmppBoshSSL, false);
     }
 
     /**
@@ -45964,7 +45964,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2064)
     public long getReverseProxyXmppBoshTimeout() {
-        return getTimeInterval(Provisioning.A_zimbraReverseProxyXmppBoshTimeout, 90000L, true);
+        return getTimeInterval(2064, Provisioning.A_zimbraReverseProxyXmppBoshTimeout, 90000L);
     }
 
     /**
@@ -46068,7 +46068,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1785)
     public boolean isReverseProxyZmlookupCachingEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraReverseProxyZmlookupCachingEnabled, true, true);
+        return getBooleanAttr(1785, Provisioning.A_zimbraReverseProxyZmlookupCachingEnabled, true);
     }
 
     /**
@@ -46588,7 +46588,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1068)
     public boolean isSaslGssapiRequiresTls() {
-        return getBooleanAttr(Provisioning.A_zimbraSaslGssapiRequiresTls, false, true);
+        return getBooleanAttr(1068, Provisioning.A_zimbraSaslGssapiRequiresTls, false);
     }
 
     /**
@@ -46658,7 +46658,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=522)
     public int getScheduledTaskNumThreads() {
-        return getIntAttr(Provisioning.A_zimbraScheduledTaskNumThreads, 20, true);
+        return getIntAttr(522, Provisioning.A_zimbraScheduledTaskNumThreads, 20);
     }
 
     /**
@@ -46794,7 +46794,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1602)
     public int getServerVersionBuild() {
-        return getIntAttr(Provisioning.A_zimbraServerVersionBuild, -1, true);
+        return getIntAttr(1602, Provisioning.A_zimbraServerVersionBuild, -1);
     }
 
     /**
@@ -46866,7 +46866,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1599)
     public int getServerVersionMajor() {
-        return getIntAttr(Provisioning.A_zimbraServerVersionMajor, -1, true);
+        return getIntAttr(1599, Provisioning.A_zimbraServerVersionMajor, -1);
     }
 
     /**
@@ -46938,7 +46938,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1601)
     public int getServerVersionMicro() {
-        return getIntAttr(Provisioning.A_zimbraServerVersionMicro, -1, true);
+        return getIntAttr(1601, Provisioning.A_zimbraServerVersionMicro, -1);
     }
 
     /**
@@ -47010,7 +47010,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1600)
     public int getServerVersionMinor() {
-        return getIntAttr(Provisioning.A_zimbraServerVersionMinor, -1, true);
+        return getIntAttr(1600, Provisioning.A_zimbraServerVersionMinor, -1);
     }
 
     /**
@@ -47592,7 +47592,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1346)
     public boolean isShareNotificationMtaAuthRequired() {
-        return getBooleanAttr(Provisioning.A_zimbraShareNotificationMtaAuthRequired, false, true);
+        return getBooleanAttr(1346, Provisioning.A_zimbraShareNotificationMtaAuthRequired, false);
     }
 
     /**
@@ -47795,7 +47795,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1361)
     public boolean isShareNotificationMtaEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraShareNotificationMtaEnabled, false, true);
+        return getBooleanAttr(1361, Provisioning.A_zimbraShareNotificationMtaEnabled, false);
     }
 
     /**
@@ -47945,7 +47945,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1342)
     public int getShareNotificationMtaPort() {
-        return getIntAttr(Provisioning.A_zimbraShareNotificationMtaPort, -1, true);
+        return getIntAttr(1342, Provisioning.A_zimbraShareNotificationMtaPort, -1);
     }
 
     /**
@@ -48029,7 +48029,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1220)
     public long getSharingUpdatePublishInterval() {
-        return getTimeInterval(Provisioning.A_zimbraSharingUpdatePublishInterval, 900000L, true);
+        return getTimeInterval(1220, Provisioning.A_zimbraSharingUpdatePublishInterval, 900000L);
     }
 
     /**
@@ -48150,7 +48150,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1903)
     public long getShortTermAllEffectiveRightsCacheExpiration() {
-        return getTimeInterval(Provisioning.A_zimbraShortTermAllEffectiveRightsCacheExpiration, 50000L, true);
+        return getTimeInterval(1903, Provisioning.A_zimbraShortTermAllEffectiveRightsCacheExpiration, 50000L);
     }
 
     /**
@@ -48302,7 +48302,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1902)
     public int getShortTermAllEffectiveRightsCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraShortTermAllEffectiveRightsCacheSize, 128, true);
+        return getIntAttr(1902, Provisioning.A_zimbraShortTermAllEffectiveRightsCacheSize, 128);
     }
 
     /**
@@ -48402,7 +48402,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1901)
     public long getShortTermGranteeCacheExpiration() {
-        return getTimeInterval(Provisioning.A_zimbraShortTermGranteeCacheExpiration, 50000L, true);
+        return getTimeInterval(1901, Provisioning.A_zimbraShortTermGranteeCacheExpiration, 50000L);
     }
 
     /**
@@ -48549,7 +48549,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1900)
     public int getShortTermGranteeCacheSize() {
-        return getIntAttr(Provisioning.A_zimbraShortTermGranteeCacheSize, 128, true);
+        return getIntAttr(1900, Provisioning.A_zimbraShortTermGranteeCacheSize, 128);
     }
 
     /**
@@ -48636,7 +48636,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2096)
     public boolean isSieveFeatureVariablesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveFeatureVariablesEnabled, false, true);
+        return getBooleanAttr(2096, Provisioning.A_zimbraSieveFeatureVariablesEnabled, false);
     }
 
     /**
@@ -48723,7 +48723,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2094)
     public boolean isSieveRejectEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSieveRejectEnabled, true, true);
+        return getBooleanAttr(2094, Provisioning.A_zimbraSieveRejectEnabled, true);
     }
 
     /**
@@ -48807,7 +48807,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=2101)
     public boolean isSmimeOCSPEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraSmimeOCSPEnabled, true, true);
+        return getBooleanAttr(2101, Provisioning.A_zimbraSmimeOCSPEnabled, true);
     }
 
     /**
@@ -48997,7 +48997,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=98)
     public int getSmtpPort() {
-        return getIntAttr(Provisioning.A_zimbraSmtpPort, 25, true);
+        return getIntAttr(98, Provisioning.A_zimbraSmtpPort, 25);
     }
 
     /**
@@ -49096,7 +49096,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=249)
     public boolean isSmtpSendPartial() {
-        return getBooleanAttr(Provisioning.A_zimbraSmtpSendPartial, false, true);
+        return getBooleanAttr(249, Provisioning.A_zimbraSmtpSendPartial, false);
     }
 
     /**
@@ -49158,7 +49158,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=99)
     public int getSmtpTimeout() {
-        return getIntAttr(Provisioning.A_zimbraSmtpTimeout, 60, true);
+        return getIntAttr(99, Provisioning.A_zimbraSmtpTimeout, 60);
     }
 
     /**
@@ -49223,7 +49223,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=708)
     public boolean isSoapExposeVersion() {
-        return getBooleanAttr(Provisioning.A_zimbraSoapExposeVersion, false, true);
+        return getBooleanAttr(708, Provisioning.A_zimbraSoapExposeVersion, false);
     }
 
     /**
@@ -49299,7 +49299,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=557)
     public int getSoapRequestMaxSize() {
-        return getIntAttr(Provisioning.A_zimbraSoapRequestMaxSize, 15360000, true);
+        return getIntAttr(557, Provisioning.A_zimbraSoapRequestMaxSize, 15360000);
     }
 
     /**
@@ -50011,7 +50011,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=171)
     public int getTableMaintenanceGrowthFactor() {
-        return getIntAttr(Provisioning.A_zimbraTableMaintenanceGrowthFactor, 10, true);
+        return getIntAttr(171, Provisioning.A_zimbraTableMaintenanceGrowthFactor, 10);
     }
 
     /**
@@ -50083,7 +50083,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=169)
     public int getTableMaintenanceMaxRows() {
-        return getIntAttr(Provisioning.A_zimbraTableMaintenanceMaxRows, 1000000, true);
+        return getIntAttr(169, Provisioning.A_zimbraTableMaintenanceMaxRows, 1000000);
     }
 
     /**
@@ -50155,7 +50155,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=168)
     public int getTableMaintenanceMinRows() {
-        return getIntAttr(Provisioning.A_zimbraTableMaintenanceMinRows, 10000, true);
+        return getIntAttr(168, Provisioning.A_zimbraTableMaintenanceMinRows, 10000);
     }
 
     /**
@@ -50360,7 +50360,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1583)
     public boolean isThreadMonitorEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraThreadMonitorEnabled, false, true);
+        return getBooleanAttr(1583, Provisioning.A_zimbraThreadMonitorEnabled, false);
     }
 
     /**
@@ -50751,7 +50751,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=146)
     public boolean isUserServicesEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraUserServicesEnabled, false, true);
+        return getBooleanAttr(146, Provisioning.A_zimbraUserServicesEnabled, false);
     }
 
     /**
@@ -50820,7 +50820,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=191)
     public long getVirusDefinitionsUpdateFrequency() {
-        return getTimeInterval(Provisioning.A_zimbraVirusDefinitionsUpdateFrequency, 7200000L, true);
+        return getTimeInterval(191, Provisioning.A_zimbraVirusDefinitionsUpdateFrequency, 7200000L);
     }
 
     /**
@@ -50986,7 +50986,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1468)
     public boolean isWebGzipEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraWebGzipEnabled, true, true);
+        return getBooleanAttr(1468, Provisioning.A_zimbraWebGzipEnabled, true);
     }
 
     /**
@@ -51057,7 +51057,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=397)
     public boolean isXMPPEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraXMPPEnabled, true, true);
+        return getBooleanAttr(397, Provisioning.A_zimbraXMPPEnabled, true);
     }
 
     /**
@@ -51126,7 +51126,7 @@ public abstract class ZAttrServer extends NamedEntry {
      */
     @ZAttr(id=1575)
     public boolean isZimletJspEnabled() {
-        return getBooleanAttr(Provisioning.A_zimbraZimletJspEnabled, false, true);
+        return getBooleanAttr(1575, Provisioning.A_zimbraZimletJspEnabled, false);
     }
 
     /**
@@ -1334,6 +1334,43 @@ public class DbMailItem {
         }
     }
 
+    /**
+     * Changes the locator of the blob with the given item id and revision from <tt>oldLocator</tt> to
+     * <tt>newLocator</tt>, in whichever of the item, revision and dumpster tables holds it.  Returns the
+     * number of rows updated, which is 0 if the item's content has changed or the item has been deleted.
+     */
+    public static int updateLocator(DbConnection conn, Mailbox mbox, int itemId, int revision,
+            String oldLocator, String newLocator) throws ServiceException {
+        int count = 0;
+        for (boolean fromDumpster : new boolean[] { false, true }) {
+            count += updateLocator(conn, mbox, getMailItemTableName(mbox, fromDumpster), "id",
+                    itemId, revision, oldLocator, newLocator);
+            count += updateLocator(conn, mbox, getRevisionTableName(mbox, fromDumpster), "item_id",
+                    itemId, revision, oldLocator, newLocator);
+        }
+        return count;
+    }
+
+    private static int updateLocator(DbConnection conn, Mailbox mbox, String tableName, String idColumn, int itemId,
+            int revision, String oldLocator, String newLocator) throws ServiceException {
+        PreparedStatement stmt = null;
+        try {
+            stmt = conn.prepareStatement("UPDATE " + tableName + " SET locator = ?" +
+                        " WHERE " + IN_THIS_MAILBOX_AND + idColumn + " = ? AND mod_content = ? AND locator = ?");
+            int pos = 1;
+            stmt.setString(pos++, newLocator);
+            pos = setMailboxId(stmt, mbox, pos);
+            stmt.setInt(pos++, itemId);
+            stmt.setInt(pos++, revision);
+            stmt.setString(pos++, oldLocator);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw ServiceException.FAILURE("updating locator " + itemId + "-" + revision, e);
+        } finally {
+            DbPool.closeStatement(stmt);
+        }
+    }
+
     public static void saveImapUid(MailItem item) throws ServiceException {
         Mailbox mbox = item.getMailbox();
         DbConnection conn = mbox.getOperationConnection();
@@ -2730,6 +2767,44 @@ public class DbMailItem {
         }
     }
 
+    public static int countOpenConversationHashes(Mailbox mbox) throws ServiceException {
+        DbConnection conn = mbox.getOperationConnection();
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            stmt = conn.prepareStatement("SELECT COUNT(*) FROM " + getConversationTableName(mbox) +
+                    (DebugConfig.disableMailboxGroups ? "" : " WHERE mailbox_id = ?"));
+            setMailboxId(stmt, mbox, 1);
+            rs = stmt.executeQuery();
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            throw ServiceException.FAILURE("counting open conversation hashes for mailbox " + mbox.getId(), e);
+        } finally {
+            DbPool.closeResults(rs);
+            DbPool.closeStatement(stmt);
+        }
+    }
+
+    public static void visitOpenConversationHashes(Mailbox mbox, Callback<String> callback) throws ServiceException {
+        DbConnection conn = mbox.getOperationConnection();
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            stmt = conn.prepareStatement("SELECT hash FROM " + getConversationTableName(mbox) +
+                    (DebugConfig.disableMailboxGroups ? "" : " WHERE mailbox_id = ?"));
+            setMailboxId(stmt, mbox, 1);
+            rs = stmt.executeQuery();
+            while (rs.next()) {
+                callback.call(rs.getString(1));
+            }
+        } catch (SQLException e) {
+            throw ServiceException.FAILURE("visiting open conversation hashes for mailbox " + mbox.getId(), e);
+        } finally {
+            DbPool.closeResults(rs);
+            DbPool.closeStatement(stmt);
+        }
+    }
+
     public static Pair<List<Integer>,TypedIdList> getModifiedItems(Mailbox mbox, MailItem.Type type, long lastSync,
         int sinceDate, Set<Integer> visible) throws ServiceException {
         return getModifiedItems(mbox, type, lastSync, sinceDate, visible, -1);
@@ -865,6 +865,38 @@ public final class DbMailbox {
         }
     }
 
+    /**
+     * Returns the date (in seconds) of the oldest item in Trash or Junk, keyed by mailbox id.  Mailboxes whose Trash
+     * and Junk are both empty are not included.
+     */
+    public static Map<Integer, Integer> getOldestTrashAndJunkDates(DbConnection conn) throws ServiceException {
+        Map<Integer, Integer> result = new HashMap<Integer, Integer>();
+        if (DebugConfig.externalMailboxDirectory) {
+            return result;
+        }
+
+        for (int groupId : getMboxGroupIds(conn)) {
+            PreparedStatement stmt = null;
+            ResultSet rs = null;
+            try {
+                stmt = conn.prepareStatement("SELECT mailbox_id, MIN(date) FROM " +
+                        DbMailItem.getMailItemTableName(groupId, false) +
+                        " WHERE folder_id IN (" + Mailbox.ID_FOLDER_TRASH + ", " + Mailbox.ID_FOLDER_SPAM + ")" +
+                        " GROUP BY mailbox_id");
+                rs = stmt.executeQuery();
+                while (rs.next()) {
+                    result.put(rs.getInt(1), rs.getInt(2));
+                }
+            } catch (SQLException e) {
+                throw ServiceException.FAILURE("fetching oldest Trash and Junk dates in group " + groupId, e);
+            } finally {
+                DbPool.closeResults(rs);
+                DbPool.closeStatement(stmt);
+            }
+        }
+        return result;
+    }
+
     public static final int CHANGE_CHECKPOINT_INCREMENT = Zimbra.isAlwaysOn() ? 1 : Math.max(1, LC.zimbra_mailbox_change_checkpoint_frequency.intValue());
     public static final int ITEM_CHECKPOINT_INCREMENT   = Zimbra.isAlwaysOn() ? 1 : 20;
 
@@ -75,7 +75,7 @@ public final class DbVolume {
             stmt.setShort(pos++, volume.getFileBits());
             stmt.setBoolean(pos++, volume.isCompressBlobs());
             stmt.setLong(pos++, volume.getCompressionThreshold());
-            stmt.setString(pos++, volume.getMetadata().toString());
+            stmt.setString(pos++, volume.encodeMetadata());
             stmt.executeUpdate();
         } catch (SQLException e) {
             if (Db.errorMatches(e, Db.Error.DUPLICATE_ROW)) {
@@ -121,7 +121,7 @@ public final class DbVolume {
             stmt.setShort(pos++, volume.getFileBits());
             stmt.setBoolean(pos++, volume.isCompressBlobs());
             stmt.setLong(pos++, volume.getCompressionThreshold());
-            stmt.setString(pos++, volume.getMetadata().toString());
+            stmt.setString(pos++, volume.encodeMetadata());
             stmt.setShort(pos++, volume.getId());
             stmt.executeUpdate();
         } catch (SQLException e) {
@@ -289,9 +289,11 @@ public final class DbVolume {
     }
 
     private static Volume constructVolume(ResultSet rs) throws SQLException, ServiceException {
+        Metadata meta;
         VolumeMetadata metadata;
         try {
-            metadata = new VolumeMetadata(new Metadata(rs.getString(CN_METADATA)));
+            meta = new Metadata(rs.getString(CN_METADATA));
+            metadata = new VolumeMetadata(meta);
         } catch (MailServiceException e) {
             throw VolumeServiceException.INVALID_METADATA(e);
         } catch (ServiceException e) {
@@ -303,7 +305,7 @@ public final class DbVolume {
                 .setFileGroupBits(rs.getShort(CN_FILE_GROUP_BITS)).setFileBits(rs.getShort(CN_FILE_BITS))
                 .setCompressBlobs(rs.getBoolean(CN_COMPRESS_BLOBS))
                 .setCompressionThreshold(rs.getLong(CN_COMPRESSION_THRESHOLD))
-                .setMetadata(metadata).build();
+                .setBlobCodec(meta).setMetadata(metadata).build();
     }
 
     public static boolean isVolumeReferenced(DbConnection conn, short volumeId) throws ServiceException {
@@ -113,15 +113,43 @@ public class FreeBusy implements Iterable<FreeBusy.Interval> {
         }
         
         IntervalList(long start, long end) {
-            mStart = start;
-            mEnd = end;
-            mHead = new Interval(start, end, IcalXmlStrMap.FBTYPE_FREE);
+            this(start, end, IcalXmlStrMap.FBTYPE_FREE);
         }
         
         IntervalList(long start, long end, String fbStatus) {
             mStart = start;
             mEnd = end;
             mHead = new Interval(start, end, fbStatus);
+            mIndex.put(start, mHead);
+        }
+
+        /**
+         * Add a batch of intervals, e.g. all the instances of the appointments in a calendar.  Intervals are
+         * added in order of start time, which keeps each insert and merge local to the end of the list.
+         */
+        public void addIntervals(List<Interval> toAdd) {
+            Interval[] sorted = toAdd.toArray(new Interval[toAdd.size()]);
+            Arrays.sort(sorted, START_ORDER);
+            for (Interval ival : sorted) {
+                addInterval(ival);
+            }
+        }
+
+        private static final Comparator<Interval> START_ORDER = new Comparator<Interval>() {
+            @Override
+            public int compare(Interval i1, Interval i2) {
+                return Long.compare(i1.mStart, i2.mStart);
+            }
+        };
+
+        private void insertAfter(Interval cur, Interval other) {
+            cur.insertAfter(other);
+            mIndex.put(other.mStart, other);
+        }
+
+        private void removeNext(Interval cur) {
+            mIndex.remove(cur.getNext().mStart);
+            cur.removeNext();
         }
 
         public void addInterval(Interval toAdd) {
@@ -142,13 +170,8 @@ public class FreeBusy implements Iterable<FreeBusy.Interval> {
             //
             //         Remember this "uber-start" interval, we'll need it below
             //
-            Interval uberStart;
-            for (uberStart = mHead; uberStart.hasNext(); uberStart = uberStart.getNext())
-            {
-                if (uberStart.getNext().mStart > toAdd.mStart) {
-                    break;
-                }
-            }
+            Map.Entry<Long, Interval> floor = mIndex.floorEntry(toAdd.mStart);
+            Interval uberStart = floor != null ? floor.getValue() : mHead;
             assert(uberStart.mStart <= toAdd.mStart);
             assert(uberStart.overlapsOrAbuts(toAdd));
             
@@ -177,7 +200,7 @@ public class FreeBusy implements Iterable<FreeBusy.Interval> {
                     Interval newInt = new Interval(toAdd.mStart,
                                                    cur.mEnd, cur.mStatus,
                                                    cur.getInstances());
-                    cur.insertAfter(newInt);
+                    insertAfter(cur, newInt);
                     cur.mEnd = newInt.mStart;
                     cur = newInt;
                 }
@@ -201,7 +224,7 @@ public class FreeBusy implements Iterable<FreeBusy.Interval> {
                     Interval afterUs = new Interval(toAdd.mEnd,
                                                     cur.mEnd, cur.mStatus,
                                                     cur.getInstances());
-                    cur.insertAfter(afterUs);
+                    insertAfter(cur, afterUs);
                     cur.mEnd = toAdd.mEnd;
                 }
                 
@@ -236,7 +259,8 @@ public class FreeBusy implements Iterable<FreeBusy.Interval> {
             }
             
             
-            // FINISH: iterate from uber-start until past toAdd's end, join intervals next to each other
+            // FINISH: iterate from uber-start until past toAdd's end, join intervals next to each other.
+            //         The rest of the list was already joined by earlier adds, so stop there.
             
 //            System.out.print("BEFORE combining: "+toString());
             
@@ -245,12 +269,12 @@ public class FreeBusy implements Iterable<FreeBusy.Interval> {
                 cur = cur.getPrev();
             }
             
-            while (cur.getNext() != null) {
+            while (cur.getNext() != null && cur.mStart <= toAdd.mEnd) {
                 assert(cur.getNext().mStart == cur.mEnd);
                 if (cur.mStatus.equals(cur.getNext().mStatus)) {
                     cur.mEnd = cur.getNext().mEnd;
                     cur.mInstances.addAll(cur.getNext().mInstances);
-                    cur.removeNext();
+                    removeNext(cur);
                 } else {
                     cur = cur.getNext();                    
                 }
@@ -275,6 +299,8 @@ public class FreeBusy implements Iterable<FreeBusy.Interval> {
         long mEnd;
         
         Interval mHead;
+        // every interval in the list keyed by its start, for finding where an added interval begins
+        private final TreeMap<Long, Interval> mIndex = new TreeMap<Long, Interval>();
     }
     
     public static class Interval {
@@ -723,9 +749,7 @@ public class FreeBusy implements Iterable<FreeBusy.Interval> {
             throw ServiceException.INVALID_REQUEST("VFREEBUSY missing DTSTART/DTEND", null);
 
         IntervalList ivalList = new IntervalList(dtStart.getUtcTime(), dtEnd.getUtcTime());
-        for (Interval ival : intervals) {
-            ivalList.addInterval(ival);
-        }
+        ivalList.addIntervals(intervals);
         return new FreeBusy(name, ivalList, dtStart.getUtcTime(), dtEnd.getUtcTime());
     }
 }
@@ -19,9 +19,19 @@ package com.zimbra.cs.fb;
 import java.util.Collection;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpServletRequest;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.zimbra.common.localconfig.LC;
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.soap.Element;
 import com.zimbra.common.util.ZimbraLog;
@@ -51,6 +61,8 @@ public class FreeBusyQuery {
 	// needed for proxying to another mailbox server
 	private HttpServletRequest mReq;
 	private ZimbraSoapContext mCtxt;
+
+	private static ExecutorService sLocalExecutor;
 	
 	public FreeBusyQuery(HttpServletRequest httpReq, ZimbraSoapContext zsc, Account requestor, long start, long end, String exApptUid) {
 		this(httpReq, requestor, start, end, exApptUid);
@@ -113,6 +125,7 @@ public class FreeBusyQuery {
     }
     
     private void prepareRequests(ArrayList<FreeBusy> local, RemoteFreeBusyProvider remote, ArrayList<String> external) {
+        List<String> localIds = new ArrayList<String>();
     	for (String id : mTargets.keySet()) {
     		Account acct = mTargets.get(id);
     		try {
@@ -124,21 +137,7 @@ public class FreeBusyQuery {
     		    int folder = mTargetFolder.get(id);
     		
         		if (Provisioning.onLocalServer(acct)) {
-        		    Mailbox mbox = MailboxManager.getInstance().getMailboxByAccount(acct);
-        		    OperationContext octxt = null;
-        		    if (mCtxt != null && mCtxt.getAuthToken() != null)
-        		        octxt = new OperationContext(mCtxt.getAuthToken());
-        		    else if (mRequestor != null)
-        		        octxt = new OperationContext(mRequestor);
-        		    else
-        		        octxt = new OperationContext(GuestAccount.ANONYMOUS_ACCT);
-                    Appointment exAppt = null;
-                    if (mExApptUid != null) {
-                        CalendarItem ci = mbox.getCalendarItemByUid(octxt, mExApptUid);
-                        if (ci instanceof Appointment)
-                            exAppt = (Appointment) ci;
-                    }
-        		    local.add(mbox.getFreeBusy(octxt, id, mStart, mEnd, folder, exAppt));
+        		    localIds.add(id);
         		} else {
         			remote.addFreeBusyRequest(mRequestor, acct, id, mStart, mEnd, folder);
         		}
@@ -146,6 +145,87 @@ public class FreeBusyQuery {
                 ZimbraLog.fb.error("cannot get free/busy for "+id, e);
     		}
     	}
+    	local.addAll(getLocalFreeBusy(localIds));
+    }
+
+    /**
+     * Computes free/busy for each of the local mailboxes, concurrently if there is more than one and
+     * freebusy_local_query_threads allows it.  Results are returned in the order of {@code ids}; mailboxes
+     * whose free/busy could not be computed are logged and left out.
+     */
+    private List<FreeBusy> getLocalFreeBusy(List<String> ids) {
+        List<FreeBusy> results = new ArrayList<FreeBusy>(ids.size());
+        int threads = LC.freebusy_local_query_threads.intValue();
+        if (threads <= 0 || ids.size() < 2) {
+            for (String id : ids) {
+                FreeBusy fb = getLocalFreeBusy(id);
+                if (fb != null)
+                    results.add(fb);
+            }
+            return results;
+        }
+
+        List<Future<FreeBusy>> pending = new ArrayList<Future<FreeBusy>>(ids.size());
+        ExecutorService executor = getLocalExecutor(threads);
+        for (final String id : ids) {
+            pending.add(executor.submit(new Callable<FreeBusy>() {
+                @Override
+                public FreeBusy call() {
+                    return getLocalFreeBusy(id);
+                }
+            }));
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                FreeBusy fb = pending.get(i).get();
+                if (fb != null)
+                    results.add(fb);
+            } catch (InterruptedException e) {
+                ZimbraLog.fb.warn("interrupted while getting free/busy for %s", ids.get(i));
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                ZimbraLog.fb.error("cannot get free/busy for "+ids.get(i), e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private FreeBusy getLocalFreeBusy(String id) {
+        try {
+            Account acct = mTargets.get(id);
+            int folder = mTargetFolder.get(id);
+            Mailbox mbox = MailboxManager.getInstance().getMailboxByAccount(acct);
+            OperationContext octxt = null;
+            if (mCtxt != null && mCtxt.getAuthToken() != null)
+                octxt = new OperationContext(mCtxt.getAuthToken());
+            else if (mRequestor != null)
+                octxt = new OperationContext(mRequestor);
+            else
+                octxt = new OperationContext(GuestAccount.ANONYMOUS_ACCT);
+            Appointment exAppt = null;
+            if (mExApptUid != null) {
+                CalendarItem ci = mbox.getCalendarItemByUid(octxt, mExApptUid);
+                if (ci instanceof Appointment)
+                    exAppt = (Appointment) ci;
+            }
+            return mbox.getFreeBusy(octxt, id, mStart, mEnd, folder, exAppt);
+        } catch (ServiceException e) {
+            ZimbraLog.fb.error("cannot get free/busy for "+id, e);
+            return null;
+        }
+    }
+
+    private static synchronized ExecutorService getLocalExecutor(int threads) {
+        if (sLocalExecutor == null) {
+            // Compute on the request thread itself if the pool is backed up, so that a burst of
+            // large queries throttles the requests that are causing it.
+            sLocalExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(threads * 4),
+                    new ThreadFactoryBuilder().setNameFormat("FreeBusyQuery-%d").setDaemon(true).build(),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+        return sLocalExecutor;
     }
     
     private int getHopcount() {        
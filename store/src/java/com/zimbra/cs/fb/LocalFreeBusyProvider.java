@@ -65,6 +65,7 @@ public class LocalFreeBusyProvider {
         int exApptId = exAppt == null ? -1 : exAppt.getId();
 
         IntervalList intervals = new IntervalList(start, end);
+        List<Interval> busy = new ArrayList<Interval>();
 
         List<CalendarDataResult> calDataResultList;
         if (folder == FreeBusyQuery.CALENDAR_FOLDER_ALL) {
@@ -134,12 +135,12 @@ public class LocalFreeBusyProvider {
                         freeBusy = defaultFreeBusy;
                     if (!IcalXmlStrMap.FBTYPE_FREE.equals(freeBusy)) {
                         FBInstance fbInst = new FBInstance(freeBusy, instStart, instEnd, apptId, recurIdDt);
-                        Interval ival = new Interval(instStart, instEnd, freeBusy, fbInst);
-                        intervals.addInterval(ival);
+                        busy.add(new Interval(instStart, instEnd, freeBusy, fbInst));
                     }
                 }
             }
         }
+        intervals.addIntervals(busy);
         if (!accountAceAllowed && numAllowedFolders == 0 && !LC.freebusy_disable_nodata_status.booleanValue()) {
             Interval nodata = new Interval(start, end, IcalXmlStrMap.FBTYPE_NODATA);
             intervals.addInterval(nodata);
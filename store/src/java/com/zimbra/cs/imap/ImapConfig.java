@@ -70,6 +70,13 @@ public class ImapConfig extends ServerConfig {
         return LC.imap_write_chunk_size.intValue();
     }
 
+    /**
+     * Returns the DEFLATE level for connections that issued COMPRESS.
+     */
+    public int getCompressionLevel() {
+        return LC.imap_compress_level.intValue();
+    }
+
     /**
      * Returns the max idle timeout for unauthenticated connections.
      *
@@ -16,6 +16,9 @@
  */
 package com.zimbra.cs.imap;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -59,7 +62,7 @@ import com.zimbra.cs.session.PendingModifications.Change;
  */
 public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Serializable {
     // Update serialVersionUID when changing any instance members. Otherwise serialization won't work correctly.
-    private static final long serialVersionUID = 3845968507901145794L;
+    private static final long serialVersionUID = -2386429105358921777L;
     public static final byte SELECT_READONLY  = 0x01;
     public static final byte SELECT_CONDSTORE = 0x02;
 
@@ -69,12 +72,16 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
     private transient ImapPath path;
     private transient SessionData sessionData;
     private transient Map<Integer, ImapMessage> messageIds;
+    private transient Map<List<String>, String[]> tagSets;
 
     private final ItemIdentifier folderIdentifier;
     private final int uidValidity;
     private String query;
     private Set<MailItem.Type> typeConstraint = ImapHandler.ITEM_TYPES;
-    private final List<ImapMessage> sequence = new ArrayList<ImapMessage>();
+    // serialized as a compact ImapMessageTable; see writeObject() and readObject()
+    private transient List<ImapMessage> sequence = new ArrayList<ImapMessage>();
+    // set when the folder is read back from the session cache and cleared once the messages are materialized
+    private transient volatile ImapMessageTable pagedIn;
     private final ImapFlagCache tags;   // operationally could be "transient", but that makes deserialization replay depend on magic
 
     // below this point are session-specific attributes of the folder SELECT state
@@ -126,7 +133,7 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
     protected void setInitialSize() {
         SessionData sdata = sessionData;
         if (sdata != null) {
-            sdata.lastSize = sequence.size();
+            sdata.lastSize = getSize();
         }
     }
 
@@ -194,7 +201,8 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
      *  included in this count. */
     @Override
     public int getSize() {
-        return sequence.size();
+        ImapMessageTable table = pagedIn;
+        return table != null ? table.size() : sequence.size();
     }
 
     /** Returns the number of messages in the folder that are considered
@@ -287,7 +295,7 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
 
     public synchronized void traverse(Function<ImapMessage, Void> func) {
         int prevUid = -1;
-        for (Iterator<ImapMessage> it = sequence.iterator(); it.hasNext();) {
+        for (Iterator<ImapMessage> it = messages().iterator(); it.hasNext();) {
             ImapMessage i4msg = it.next();
             if (i4msg.imapUid == prevUid) {
                 ZimbraLog.imap.warn("duplicate UID %d in cached folder %s", prevUid, this.folderIdentifier);
@@ -336,6 +344,10 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
      *         and only if the key is found.
      * @see Collections#binarySearch(List, Object) */
     private int uidSearch(int uid) {
+        ImapMessageTable table = pagedIn;
+        if (table != null) {
+            return table.uidSearch(uid);
+        }
         int low = 0;
         int high = getSize() - 1;
         while (low <= high) {
@@ -360,8 +372,8 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
         }
         // leverage the fact that by default, the message's item id and its IMAP uid are identical
         int seq = uidSearch(id);
-        if (seq >= 0 && seq < sequence.size()) {
-            ImapMessage i4msg = sequence.get(seq);
+        if (seq >= 0 && seq < getSize()) {
+            ImapMessage i4msg = messages().get(seq);
             // slightly tricky: must check if message is expunged in order to catch the case of
             //   using the web client to move the message out of the folder and back in before
             //   the IMAP server can tell the client about the EXPUNGE from the first move
@@ -370,11 +382,16 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
             }
         }
 
+        // a message that isn't in the folder at all needn't materialize a paged-in folder
+        ImapMessageTable table = pagedIn;
+        if (table != null && !table.containsMsgId(id)) {
+            return null;
+        }
         // if item id and IMAP uid differ, the message goes in the "mMessageIds" map
         if (messageIds == null) {
             // lookup miss means we need to generate the item-id-to-imap-message mapping
             messageIds = new HashMap<Integer, ImapMessage>();
-            for (ImapMessage i4msg : sequence) {
+            for (ImapMessage i4msg : messages()) {
                 if (i4msg != null && i4msg.msgId != i4msg.imapUid) {
                     messageIds.put(i4msg.msgId, i4msg);
                 }
@@ -386,7 +403,14 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
     /** Returns the ImapMessage with the given IMAP UID from the folder's
      *  {@link #sequence} message list. */
     protected ImapMessage getByImapId(int uid) {
-        return uid > 0 ? getBySequence(uidSearch(uid) + 1) : null;
+        if (uid <= 0) {
+            return null;
+        }
+        ImapMessageTable table = pagedIn;
+        if (table != null && table.getSequence(uid) < 0) {
+            return null;
+        }
+        return getBySequence(uidSearch(uid) + 1);
     }
 
     /** Returns the ImapMessage with the given 1-based sequence number in the
@@ -398,7 +422,7 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
     /** Returns the ImapMessage with the given 1-based sequence number in the
      *  folder's {@link #sequence} message list. */
     protected ImapMessage getBySequence(int seq, boolean includeExpunged) {
-        ImapMessage i4msg = seq > 0 && seq <= getSize() ? sequence.get(seq - 1) : null;
+        ImapMessage i4msg = seq > 0 && seq <= getSize() ? messages().get(seq - 1) : null;
         return includeExpunged ? i4msg : checkRemoved(i4msg);
     }
 
@@ -431,7 +455,9 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
                 sdata.recentCount++;
             }
         }
+        i4msg.tags = internTags(i4msg.tags);
         // update the folder information
+        List<ImapMessage> sequence = messages();
         ImapMessage last = null;
         if (sequence.size() > 0 && (last = sequence.get(sequence.size() - 1)).imapUid > i4msg.imapUid) {
             ZimbraLog.imap.debug("adding out of order UID. prev: %s current: %s", last, i4msg);
@@ -454,6 +480,7 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
     }
 
     private boolean insertOutOfOrder(ImapMessage i4msg) {
+        List<ImapMessage> sequence = messages();
         LinkedList<ImapMessage> shifted = new LinkedList<ImapMessage>();
         int idx  = sequence.size() - 1;
         while (idx > -1) {
@@ -504,6 +531,37 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
         }
     }
 
+    /** Returns a canonical instance of the given tag list so that messages
+     *  in this folder carrying the same tags share a single array.  Tag
+     *  arrays on cached messages are replaced wholesale, never modified in
+     *  place, which is what makes the sharing safe. */
+    protected synchronized String[] internTags(String[] msgTags) {
+        if (ArrayUtil.isEmpty(msgTags)) {
+            return null;
+        }
+        if (tagSets == null) {
+            tagSets = new HashMap<List<String>, String[]>();
+        }
+        List<String> key = Arrays.asList(msgTags);
+        String[] canonical = tagSets.get(key);
+        if (canonical == null) {
+            tagSets.put(key, msgTags);
+            canonical = msgTags;
+        }
+        return canonical;
+    }
+
+    /** Rebuilds the interned tag arrays from the messages currently in the
+     *  folder, dropping any tag sets that no message uses anymore. */
+    private synchronized void reinternTags() {
+        tagSets = null;
+        if (pagedIn == null) {
+            for (ImapMessage i4msg : sequence) {
+                i4msg.tags = internTags(i4msg.tags);
+            }
+        }
+    }
+
     private void setIndex(ImapMessage i4msg, int position) {
         i4msg.sequence = position;
         if (messageIds != null) {
@@ -561,7 +619,7 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
             return;
         }
 
-        for (ImapMessage i4msg : sequence) {
+        for (ImapMessage i4msg : messages()) {
             if (i4msg != null && i4flag.matches(i4msg)) {
                 dirtyMessage(i4msg, modseq);
 
@@ -570,9 +628,11 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
                 if (newName != null) {
                     tags.add(newName);
                 }
-                i4msg.tags = tags.isEmpty() ? null : tags.toArray(new String[tags.size()]);
+                i4msg.tags = tags.isEmpty() ? null : internTags(tags.toArray(new String[tags.size()]));
             }
         }
+        // drop the tag sets that named the old tag
+        reinternTags();
     }
 
     protected ImapFlag getFlagByName(String name) {
@@ -714,7 +774,7 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
     protected synchronized ImapMessageSet getAllMessages() {
         ImapMessageSet result = new ImapMessageSet();
         if (getSize() > 0) {
-            result.addAll(sequence);
+            result.addAll(messages());
             result.remove(null);
         }
         return result;
@@ -723,7 +783,7 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
     protected synchronized ImapMessageSet getFlaggedMessages(ImapFlag i4flag) {
         ImapMessageSet result = new ImapMessageSet();
         if (i4flag != null && getSize() > 0) {
-            for (ImapMessage i4msg : sequence) {
+            for (ImapMessage i4msg : messages()) {
                 if (i4msg != null && i4flag.matches(i4msg)) {
                     result.add(i4msg);
                 }
@@ -1074,7 +1134,7 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
     }
 
     protected synchronized List<Integer> collapseExpunged(boolean byUID) {
-        if (getSize() == 0) {
+        if (getSize() == 0 || (pagedIn != null && !pagedIn.hasExpunged())) {
             return Collections.emptyList();
         }
         ZimbraLog.imap.debug("  ** iterating (collapseExpunged)");
@@ -1082,7 +1142,7 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
         boolean trimmed = false;
         int seq = 1;
         List<Integer> removed = new ArrayList<Integer>();
-        for (ListIterator<ImapMessage> lit = sequence.listIterator(); lit.hasNext(); seq++) {
+        for (ListIterator<ImapMessage> lit = messages().listIterator(); lit.hasNext(); seq++) {
             ImapMessage i4msg = lit.next();
             if (i4msg.isExpunged()) {
                 ZimbraLog.imap.debug("  ** removing: %s", i4msg);
@@ -1101,9 +1161,66 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
                 setIndex(i4msg, seq);
             }
         }
+        if (trimmed) {
+            reinternTags();
+        }
         return removed;
     }
 
+    /** Writes the message sequence as an {@link ImapMessageTable} rather than
+     *  as individual {@link ImapMessage} objects.  Messages with duplicate or
+     *  out-of-order UIDs are dropped, as in {@link #traverse(Function)}.  A
+     *  folder whose paged-in table was never materialized writes it as is. */
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        if (pagedIn != null) {
+            pagedIn.writeTo(out);
+            return;
+        }
+        ImapMessageTable table = new ImapMessageTable(sequence.size());
+        int prevUid = -1;
+        for (ImapMessage i4msg : sequence) {
+            if (i4msg.imapUid <= prevUid) {
+                ZimbraLog.imap.warn("skipping out of order UID %d when serializing folder %s", i4msg.imapUid,
+                        folderIdentifier);
+                continue;
+            }
+            prevUid = i4msg.imapUid;
+            table.add(i4msg);
+        }
+        table.writeTo(out);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // the ImapMessage objects aren't built until something needs them; see messages()
+        sequence = Collections.emptyList();
+        pagedIn = ImapMessageTable.readFrom(in);
+    }
+
+    /** Returns the folder's {@link #sequence} message list, first building it
+     *  from the paged-in {@link ImapMessageTable} if the folder was read back
+     *  from the session cache and nothing has needed the messages yet. */
+    private List<ImapMessage> messages() {
+        if (pagedIn != null) {
+            materialize();
+        }
+        return sequence;
+    }
+
+    private synchronized void materialize() {
+        ImapMessageTable table = pagedIn;
+        if (table == null) {
+            return;
+        }
+        List<ImapMessage> messages = table.toMessages();
+        for (ImapMessage i4msg : messages) {
+            i4msg.tags = internTags(i4msg.tags);
+        }
+        sequence = messages;
+        pagedIn = null;
+    }
+
     protected synchronized void restore(ImapListener sess, SessionData sdata)
             throws ImapSessionClosedException, ServiceException {
         session = sess;
@@ -1121,6 +1238,7 @@ public final class ImapFolder implements ImapListener.ImapFolderData, java.io.Se
         path = session.getPath();
         // FIXME: NOT RESTORING sequence.msg.sflags PROPERLY -- need to serialize it!!!
         sessionData = sdata;
+        reinternTags();
         if (folderIdentifier == null) {
             ZimbraLog.imap.warn("Restored ImapFolder has null folderIdentifier mailbox=%s sessionPath=%s",
                     sessMbox, session.getPath());
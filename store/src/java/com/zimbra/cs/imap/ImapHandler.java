@@ -134,7 +134,7 @@ public abstract class ImapHandler {
     protected enum ImapExtension { CONDSTORE, QRESYNC }
 
     private static final Set<String> SUPPORTED_EXTENSIONS = new LinkedHashSet<String>(Arrays.asList(
-        "ACL", "BINARY", "CATENATE", "CHILDREN", "CONDSTORE", "ENABLE", "ESEARCH", "ESORT",
+        "ACL", "BINARY", "CATENATE", "CHILDREN", "COMPRESS=DEFLATE", "CONDSTORE", "ENABLE", "ESEARCH", "ESORT",
         "I18NLEVEL=1", "ID", "IDLE", "LIST-EXTENDED", "LIST-STATUS", "LITERAL+", "LOGIN-REFERRALS",
         "MULTIAPPEND", "NAMESPACE", "QRESYNC", "QUOTA", "RIGHTS=ektx", "SASL-IR", "SEARCHRES",
         "SORT", "THREAD=ORDEREDSUBJECT", "UIDPLUS", "UNSELECT", "WITHIN", "XLIST"
@@ -225,6 +225,7 @@ public abstract class ImapHandler {
     protected Authenticator authenticator;
     protected ImapCredentials credentials;
     protected boolean startedTLS;
+    protected boolean startedCompression;
     protected String lastCommand;
     protected int consecutiveError;
     private ImapProxy imapProxy;
@@ -275,6 +276,11 @@ public abstract class ImapHandler {
     protected abstract void enableInactivityTimer() throws IOException;
     protected abstract void completeAuthentication() throws IOException;
     protected abstract boolean doSTARTTLS(String tag) throws IOException;
+
+    /**
+     * Sends the tagged OK response to COMPRESS uncompressed, and compresses everything after it in both directions.
+     */
+    protected abstract void startCompression(String tag) throws IOException;
     protected abstract InetSocketAddress getLocalAddress();
 
     protected ImapCredentials getCredentials() {
@@ -519,6 +525,11 @@ public abstract class ImapHandler {
                 if (command.equals("CAPABILITY")) {
                     checkEOF(tag, req);
                     return doCAPABILITY(tag);
+                } else if (command.equals("COMPRESS") && extensionEnabled("COMPRESS=DEFLATE")) {
+                    req.skipSpace();
+                    String mechanism = req.readAtom();
+                    checkEOF(tag, req);
+                    return doCOMPRESS(tag, mechanism);
                 } else if (command.equals("COPY")) {
                     req.skipSpace();
                     String sequence = req.readSequence();
@@ -1247,6 +1258,7 @@ public abstract class ImapHandler {
         // [BINARY]           RFC 3516: IMAP4 Binary Content Extension
         // [CATENATE]         RFC 4469: Internet Message Access Protocol (IMAP) CATENATE Extension
         // [CHILDREN]         RFC 3348: IMAP4 Child Mailbox Extension
+        // [COMPRESS=DEFLATE] RFC 4978: The IMAP COMPRESS Extension
         // [CONDSTORE]        RFC 4551: IMAP Extension for Conditional STORE Operation or Quick Flag Changes Resynchronization
         // [ENABLE]           RFC 5161: The IMAP ENABLE Extension
         // [ESEARCH]          RFC 4731: IMAP4 Extension to SEARCH Command for Controlling What Kind of Information Is Returned
@@ -3422,6 +3434,22 @@ public abstract class ImapHandler {
         return true;
     }
 
+    private boolean doCOMPRESS(String tag, String mechanism) throws IOException {
+        if (!checkState(tag, State.AUTHENTICATED)) {
+            return true;
+        } else if (startedCompression) {
+            sendNO(tag, "[COMPRESSIONACTIVE] DEFLATE active");
+            return true;
+        } else if (!mechanism.equalsIgnoreCase("DEFLATE")) {
+            sendBAD(tag, "unknown compression mechanism: " + mechanism);
+            return true;
+        }
+
+        startCompression(tag);
+        startedCompression = true;
+        return true;
+    }
+
     private boolean doCHECK(String tag) throws IOException {
         if (!checkState(tag, State.SELECTED)) {
             return true;
@@ -4056,26 +4084,37 @@ public abstract class ImapHandler {
                     }
 
                     if ((parts != null && !parts.isEmpty()) || (attributes & FETCH_FROM_MIME) != 0) {
-                        mm = ImapMessage.getMimeMessage(item);
-                        if ((attributes & FETCH_BODY) != 0) {
-                            result.print(empty ? "" : " ");
-                            result.print("BODY ");
-                            ImapMessage.serializeStructure(result, mm, false);
-                            empty = false;
-                        }
-                        if ((attributes & FETCH_BODYSTRUCTURE) != 0) {
-                            result.print(empty ? "" : " ");
-                            result.print("BODYSTRUCTURE ");
-                            ImapMessage.serializeStructure(result, mm, true);
-                            empty = false;
-                        }
-                        if ((attributes & FETCH_ENVELOPE) != 0) {
-                            result.print(empty ? "" : " ");
-                            result.print("ENVELOPE ");
-                            ImapMessage.serializeEnvelope(result, mm);
-                            empty = false;
+                        mm = null;
+                        if ((attributes & FETCH_FROM_MIME) != 0) {
+                            ImapStructureCache structureCache = ImapStructureCache.getInstance();
+                            ImapStructureCache.Entry structure = structureCache.get(item);
+                            if (structure == null) {
+                                mm = ImapMessage.getMimeMessage(item);
+                                structure = structureCache.put(item, mm);
+                            }
+                            if ((attributes & FETCH_BODY) != 0) {
+                                result.print(empty ? "" : " ");
+                                result.print("BODY ");
+                                result.print(structure.body);
+                                empty = false;
+                            }
+                            if ((attributes & FETCH_BODYSTRUCTURE) != 0) {
+                                result.print(empty ? "" : " ");
+                                result.print("BODYSTRUCTURE ");
+                                result.print(structure.bodystructure);
+                                empty = false;
+                            }
+                            if ((attributes & FETCH_ENVELOPE) != 0) {
+                                result.print(empty ? "" : " ");
+                                result.print("ENVELOPE ");
+                                result.print(structure.envelope);
+                                empty = false;
+                            }
                         }
-                        if (parts != null) {
+                        if (parts != null && !parts.isEmpty()) {
+                            if (mm == null) {
+                                mm = ImapMessage.getMimeMessage(item);
+                            }
                             for (ImapPartSpecifier pspec : parts) {
                                 result.print(empty ? "" : " ");
                                 pspec.write(result, output, mm);
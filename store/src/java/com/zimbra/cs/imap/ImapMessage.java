@@ -321,7 +321,7 @@ public class ImapMessage implements Comparable<ImapMessage>, java.io.Serializabl
             return;
 
         this.flags = f & IMAP_FLAGS;
-        this.tags  = t;
+        this.tags  = parent == null ? t : parent.internTags(t);
         if (parent != null) {
             parent.updateTagCache(this);
             parent.dirtyMessage(this, changeId);
@@ -0,0 +1,275 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.imap;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.zimbra.common.util.ArrayUtil;
+import com.zimbra.cs.mailbox.MailItem;
+
+/**
+ * Columnar, primitive-backed snapshot of an {@link ImapFolder}'s message
+ * sequence.  Each message occupies one slot in a set of parallel arrays, and
+ * the tag lists are interned into a per-table dictionary so that messages
+ * sharing the same tags share a single {@code String[]}.  Slots are kept in
+ * increasing IMAP UID order, so a slot's index is its sequence number less one
+ * and sequence/UID translation is a binary search.
+ * <p>
+ * This is the on-the-wire form used when an {@link ImapFolder} is paged out
+ * to the IMAP session cache; it replaces the default serialization of one
+ * {@code ImapMessage} object per message.  A folder read back from the cache
+ * also answers size and UID lookups from the table until it first needs the
+ * {@code ImapMessage} objects themselves.
+ */
+final class ImapMessageTable {
+    /** Bump when changing the layout written by {@link #writeTo(DataOutput)}. */
+    private static final int FORMAT_VERSION = 1;
+    private static final int NO_TAGS = -1;
+
+    private int size;
+    private int[] msgIds;
+    private int[] imapUids;
+    private int[] flags;
+    private short[] sflags;
+    private int[] tagSets;
+
+    private final List<String[]> tagDictionary = new ArrayList<String[]>();
+    private final Map<List<String>, Integer> tagLookup = new HashMap<List<String>, Integer>();
+
+    ImapMessageTable(int capacity) {
+        capacity = Math.max(capacity, 4);
+        msgIds   = new int[capacity];
+        imapUids = new int[capacity];
+        flags    = new int[capacity];
+        sflags   = new short[capacity];
+        tagSets  = new int[capacity];
+    }
+
+    /** Appends a message to the end of the table.  Messages must be added in
+     *  increasing IMAP UID order.  Expunged messages are retained along with
+     *  their session flags so that the restored folder is identical. */
+    void add(ImapMessage i4msg) {
+        if (size > 0 && imapUids[size - 1] >= i4msg.imapUid) {
+            throw new IllegalArgumentException("messages must be added in increasing UID order: " + i4msg.imapUid);
+        }
+        ensureCapacity(size + 1);
+        msgIds[size]   = i4msg.msgId;
+        imapUids[size] = i4msg.imapUid;
+        flags[size]    = i4msg.flags;
+        sflags[size]   = i4msg.sflags;
+        tagSets[size]  = internTagSet(i4msg.tags);
+        size++;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= imapUids.length) {
+            return;
+        }
+        int capacity = Math.max(minCapacity, imapUids.length + (imapUids.length >> 1));
+        msgIds   = Arrays.copyOf(msgIds, capacity);
+        imapUids = Arrays.copyOf(imapUids, capacity);
+        flags    = Arrays.copyOf(flags, capacity);
+        sflags   = Arrays.copyOf(sflags, capacity);
+        tagSets  = Arrays.copyOf(tagSets, capacity);
+    }
+
+    private int internTagSet(String[] tags) {
+        if (ArrayUtil.isEmpty(tags)) {
+            return NO_TAGS;
+        }
+        List<String> key = Arrays.asList(tags);
+        Integer index = tagLookup.get(key);
+        if (index == null) {
+            index = tagDictionary.size();
+            String[] copy = tags.clone();
+            tagDictionary.add(copy);
+            tagLookup.put(Arrays.asList(copy), index);
+        }
+        return index;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Returns the number of distinct tag sets referenced by the table. */
+    int getTagSetCount() {
+        return tagDictionary.size();
+    }
+
+    int getMsgId(int index) {
+        checkIndex(index);
+        return msgIds[index];
+    }
+
+    int getImapUid(int index) {
+        checkIndex(index);
+        return imapUids[index];
+    }
+
+    int getFlags(int index) {
+        checkIndex(index);
+        return flags[index];
+    }
+
+    short getSessionFlags(int index) {
+        checkIndex(index);
+        return sflags[index];
+    }
+
+    /** Returns the interned tag array for the given slot, or {@code null} if
+     *  the message has no tags.  The returned array is shared and must not be
+     *  modified. */
+    String[] getTags(int index) {
+        checkIndex(index);
+        return tagSets[index] == NO_TAGS ? null : tagDictionary.get(tagSets[index]);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /** Binary search for the slot holding the given IMAP UID.
+     * @return the 0-based index if found; otherwise
+     *         <tt>(-(<i>insertion point</i>) - 1)</tt>
+     * @see Arrays#binarySearch(int[], int, int, int) */
+    int uidSearch(int uid) {
+        return Arrays.binarySearch(imapUids, 0, size, uid);
+    }
+
+    /** Returns the 1-based IMAP sequence number of the message with the given
+     *  UID, or <tt>-1</tt> if the UID is not present. */
+    int getSequence(int uid) {
+        int index = uidSearch(uid);
+        return index < 0 ? -1 : index + 1;
+    }
+
+    /** Returns whether any message in the table has the given item ID. */
+    boolean containsMsgId(int msgId) {
+        for (int i = 0; i < size; i++) {
+            if (msgIds[i] == msgId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns whether any message in the table is flagged as expunged. */
+    boolean hasExpunged() {
+        for (int i = 0; i < size; i++) {
+            if ((sflags[i] & ImapMessage.FLAG_EXPUNGED) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Materializes the table as a list of {@link ImapMessage}s with their
+     *  sequence numbers set.  Messages with identical tag lists share the
+     *  same tag array. */
+    List<ImapMessage> toMessages() {
+        List<ImapMessage> messages = new ArrayList<ImapMessage>(size);
+        for (int i = 0; i < size; i++) {
+            ImapMessage i4msg = new ImapMessage(msgIds[i], MailItem.Type.MESSAGE, imapUids[i], flags[i], getTags(i));
+            i4msg.sflags = sflags[i];
+            i4msg.sequence = i + 1;
+            messages.add(i4msg);
+        }
+        return messages;
+    }
+
+    /** Writes the table in a compact binary form: a version, the tag
+     *  dictionary, and then one fixed-width record per message. */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(tagDictionary.size());
+        for (String[] tags : tagDictionary) {
+            out.writeInt(tags.length);
+            for (String tag : tags) {
+                out.writeUTF(tag);
+            }
+        }
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(msgIds[i]);
+            out.writeInt(imapUids[i]);
+            out.writeInt(flags[i]);
+            out.writeShort(sflags[i]);
+            out.writeInt(tagSets[i]);
+        }
+    }
+
+    /** Reads a table previously written by {@link #writeTo(DataOutput)}. */
+    static ImapMessageTable readFrom(DataInput in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new InvalidObjectException("unsupported IMAP message table version: " + version);
+        }
+        int tagSetCount = in.readInt();
+        if (tagSetCount < 0) {
+            throw new InvalidObjectException("invalid tag set count: " + tagSetCount);
+        }
+        List<String[]> dictionary = new ArrayList<String[]>(tagSetCount);
+        for (int i = 0; i < tagSetCount; i++) {
+            int length = in.readInt();
+            if (length <= 0) {
+                throw new InvalidObjectException("invalid tag set length: " + length);
+            }
+            String[] tags = new String[length];
+            for (int j = 0; j < length; j++) {
+                tags[j] = in.readUTF();
+            }
+            dictionary.add(tags);
+        }
+
+        int count = in.readInt();
+        if (count < 0) {
+            throw new InvalidObjectException("invalid message count: " + count);
+        }
+        ImapMessageTable table = new ImapMessageTable(count);
+        for (int i = 0; i < count; i++) {
+            int msgId = in.readInt();
+            int uid = in.readInt();
+            int f = in.readInt();
+            short sf = in.readShort();
+            int tagSet = in.readInt();
+            if (tagSet < NO_TAGS || tagSet >= tagSetCount) {
+                throw new InvalidObjectException("invalid tag set index: " + tagSet);
+            }
+            if (i > 0 && table.imapUids[i - 1] >= uid) {
+                throw new InvalidObjectException("UIDs out of order: " + uid);
+            }
+            table.msgIds[i]   = msgId;
+            table.imapUids[i] = uid;
+            table.flags[i]    = f;
+            table.sflags[i]   = sf;
+            table.tagSets[i]  = tagSet == NO_TAGS ? NO_TAGS : table.internTagSet(dictionary.get(tagSet));
+            table.size++;
+        }
+        return table;
+    }
+}
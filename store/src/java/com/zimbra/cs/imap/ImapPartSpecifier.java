@@ -38,6 +38,8 @@ import com.zimbra.common.util.StartOutOfBoundsException;
 import com.zimbra.common.util.StringUtil;
 import com.zimbra.common.util.ZimbraLog;
 import com.zimbra.cs.mime.Mime;
+import com.zimbra.cs.store.BlobInputStream;
+import com.zimbra.cs.store.FileRegionSink;
 
 class ImapPartSpecifier {
     static class BinaryDecodingException extends Exception {
@@ -171,7 +173,8 @@ class ImapPartSpecifier {
                 ps.write('}');   /* } added to fix vim buggy brace matching code */
                 if (os != null) {
                     os.write(ImapHandler.LINE_SEPARATOR_BYTES);
-                    long written = ByteUtil.copy(is, false, os, false);
+                    FileRegionSink sink = os instanceof FileRegionSink ? (FileRegionSink) os : null;
+                    long written = BlobInputStream.copy(is, false, os, sink);
                     assert written == length;
                 }
             }
@@ -255,7 +258,18 @@ class ImapPartSpecifier {
                     ByteUtil.skip(is, start);
                     start = 0;
                 }
-                is = ByteUtil.SegmentInputStream.create(is, start, start + realLength);
+                if (is instanceof BlobInputStream && start <= ((BlobInputStream) is).getSize()) {
+                    // keep the range a blob stream so that it can still be sent without copying
+                    BlobInputStream blob = (BlobInputStream) is;
+                    InputStream range = blob.newStream(start, Math.min(start + realLength, blob.getSize()));
+                    if (range == null) {
+                        throw new IOException("unable to open range of " + blob);
+                    }
+                    ByteUtil.closeStream(blob);
+                    is = range;
+                } else {
+                    is = ByteUtil.SegmentInputStream.create(is, start, start + realLength);
+                }
             } catch (StartOutOfBoundsException e) {
                 //return empty string {0} when start is out of range
                 ZimbraLog.imap.warn("IMAP part requested start out of range", e);
@@ -0,0 +1,218 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.imap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.mailbox.ZimbraMailItem;
+import com.zimbra.common.util.BEncoding;
+import com.zimbra.common.util.BEncoding.BEncodingException;
+import com.zimbra.common.util.ZimbraLog;
+import com.zimbra.cs.mailbox.Message;
+import com.zimbra.cs.stats.ZimbraPerf;
+import com.zimbra.cs.util.EhcacheManager;
+
+/**
+ * Remembers the IMAP BODY, BODYSTRUCTURE and ENVELOPE of messages, keyed by blob digest, so that FETCH can answer
+ * those items without opening and parsing the blob.  The entry for a message is computed the first time one of
+ * them is fetched.
+ * <p>
+ * A digest always names the same content, so entries never go stale when a message changes; the edited message
+ * simply has a new digest, and entries for digests that are no longer fetched age out of the cache.  Entries
+ * written for another {@link #VERSION} are ignored and overwritten the next time the message is fetched.
+ * When Ehcache is in use the entries are persisted to disk and survive restarts, otherwise they are held in a
+ * size-bounded in-memory cache.
+ */
+final class ImapStructureCache {
+
+    /** Bump whenever {@link ImapMessage#serializeStructure} or {@link ImapMessage#serializeEnvelope} output changes. */
+    static final long VERSION = 1;
+
+    private static final ImapStructureCache SINGLETON = new ImapStructureCache();
+
+    /** Serialized FETCH responses for one message, each exactly as it follows the item name on the wire. */
+    static final class Entry {
+        final String body;
+        final String bodystructure;
+        final String envelope;
+
+        Entry(String body, String bodystructure, String envelope) {
+            this.body = body;
+            this.bodystructure = bodystructure;
+            this.envelope = envelope;
+        }
+
+        String encode() {
+            return BEncoding.encode(Arrays.asList(VERSION, body, bodystructure, envelope));
+        }
+
+        /** @return null if {@code encoded} is unreadable or was written for another {@link #VERSION} */
+        static Entry decode(String encoded) {
+            try {
+                List<?> fields = BEncoding.decode(encoded);
+                if (fields.size() != 4 || ((Number) fields.get(0)).longValue() != VERSION) {
+                    return null;
+                }
+                return new Entry((String) fields.get(1), (String) fields.get(2), (String) fields.get(3));
+            } catch (BEncodingException | ClassCastException e) {
+                return null;
+            }
+        }
+
+        static Entry compute(MimeMessage mm) throws IOException, MessagingException {
+            return new Entry(serialize(mm, ImapHandler.FETCH_BODY), serialize(mm, ImapHandler.FETCH_BODYSTRUCTURE),
+                    serialize(mm, ImapHandler.FETCH_ENVELOPE));
+        }
+
+        private static String serialize(MimeMessage mm, int attribute) throws IOException, MessagingException {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            PrintStream ps = new PrintStream(baos, false, StandardCharsets.UTF_8.name());
+            if (attribute == ImapHandler.FETCH_ENVELOPE) {
+                ImapMessage.serializeEnvelope(ps, mm);
+            } else {
+                ImapMessage.serializeStructure(ps, mm, attribute == ImapHandler.FETCH_BODYSTRUCTURE);
+            }
+            ps.flush();
+            return new String(baos.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Where the encoded entries live. */
+    private interface Store {
+        String get(String digest);
+        void put(String digest, String encoded);
+    }
+
+    private final Store store;
+
+    private ImapStructureCache() {
+        if (!LC.imap_structure_cache_enabled.booleanValue()) {
+            store = null;
+        } else if (LC.imap_use_ehcache.booleanValue()) {
+            store = new EhcacheStore();
+        } else {
+            store = new HeapStore();
+        }
+    }
+
+    static ImapStructureCache getInstance() {
+        return SINGLETON;
+    }
+
+    /**
+     * Returns the cached entry for {@code item}, or null if there is none and the caller has to parse the message
+     * and call {@link #put}.
+     */
+    Entry get(ZimbraMailItem item) {
+        String digest = digestOf(item);
+        if (digest == null) {
+            return null;
+        }
+        String encoded = null;
+        try {
+            encoded = store.get(digest);
+        } catch (RuntimeException e) {
+            ZimbraLog.imap.warn("unable to read IMAP structure cache entry for %s", digest, e);
+        }
+        Entry entry = encoded == null ? null : Entry.decode(encoded);
+        ZimbraPerf.COUNTER_IMAP_STRUCTURE_CACHE.increment(entry != null ? 100 : 0);
+        return entry;
+    }
+
+    /** Computes the entry for {@code item} from its parsed content and remembers it if the item is cacheable. */
+    Entry put(ZimbraMailItem item, MimeMessage mm) throws IOException, MessagingException {
+        Entry entry = Entry.compute(mm);
+        String digest = digestOf(item);
+        if (digest != null) {
+            try {
+                store.put(digest, entry.encode());
+            } catch (RuntimeException e) {
+                ZimbraLog.imap.warn("unable to write IMAP structure cache entry for %s", digest, e);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Only locally stored messages have a digest that is known to identify the content that {@link
+     * ImapMessage#getMimeMessage} parses.
+     */
+    private String digestOf(ZimbraMailItem item) {
+        if (store == null || !(item instanceof Message)) {
+            return null;
+        }
+        return Strings.emptyToNull(((Message) item).getDigest());
+    }
+
+    private static final class EhcacheStore implements Store {
+        private final org.ehcache.Cache<String, String> ehcache;
+
+        EhcacheStore() {
+            // same choice of cache manager as EhcacheImapCache
+            EhcacheManager.Service service = !ImapDaemon.isRunningImapInsideMailboxd()
+                    ? EhcacheManager.Service.IMAP
+                    : EhcacheManager.Service.MAILBOX;
+            ehcache = EhcacheManager.getInstance(service).getImapStructureEhcache();
+        }
+
+        @Override
+        public String get(String digest) {
+            return ehcache.get(digest);
+        }
+
+        @Override
+        public void put(String digest, String encoded) {
+            ehcache.put(digest, encoded);
+        }
+    }
+
+    private static final class HeapStore implements Store {
+        private final Cache<String, String> cache = CacheBuilder.newBuilder()
+                .maximumWeight(LC.imap_structure_cache_heap_size.longValue())
+                .weigher(new Weigher<String, String>() {
+                    @Override
+                    public int weigh(String digest, String encoded) {
+                        return 2 * (digest.length() + encoded.length());
+                    }
+                })
+                .build();
+
+        @Override
+        public String get(String digest) {
+            return cache.getIfPresent(digest);
+        }
+
+        @Override
+        public void put(String digest, String encoded) {
+            cache.put(digest, encoded);
+        }
+    }
+}
@@ -22,6 +22,10 @@ import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
@@ -42,6 +46,8 @@ final class TcpImapHandler extends ProtocolHandler {
     private final ImapConfig config;
     private Socket socket;
     private final HandlerDelegate delegate;
+    private Deflater deflater;
+    private Inflater inflater;
 
     TcpImapHandler(TcpImapServer server) {
         super(server);
@@ -285,6 +291,8 @@ final class TcpImapHandler extends ProtocolHandler {
                     ZimbraLog.imap.debug("TCP:I/O error while closing connection: %s", e);
                 }
             } finally {
+                // the zlib streams hold native memory that is only freed when they are ended
+                endCompression();
                 ZimbraLog.clearContext();
             }
         }
@@ -351,6 +359,29 @@ final class TcpImapHandler extends ProtocolHandler {
             return true;
         }
 
+        @Override
+        protected void startCompression(String tag) throws IOException {
+            sendOK(tag, "DEFLATE active");
+            deflater = new Deflater(config.getCompressionLevel(), true);
+            inflater = new Inflater(true);
+            // the client sends nothing between COMPRESS and our OK, so the current input has nothing buffered
+            input = new TcpServerInputStream(new InflaterInputStream(input, inflater));
+            // buffer above the deflater so that each small write isn't its own call into zlib
+            output = new BufferedOutputStream(new DeflaterOutputStream(output, deflater, true));
+        }
+
+        private void endCompression() {
+            if (deflater == null) {
+                return;
+            }
+            ZimbraLog.imap.info("DEFLATE wrote %d bytes as %d, read %d bytes as %d", deflater.getBytesRead(),
+                    deflater.getBytesWritten(), inflater.getBytesWritten(), inflater.getBytesRead());
+            deflater.end();
+            inflater.end();
+            deflater = null;
+            inflater = null;
+        }
+
         @Override
         protected InetSocketAddress getLocalAddress() {
             return (InetSocketAddress) socket.getLocalSocketAddress();
@@ -83,6 +83,14 @@ public abstract class IndexStore {
      */
     public abstract boolean verify(PrintStream out) throws IOException;
 
+    /**
+     * Returns true if searchers opened by this store are kept up to date with pending index changes in the
+     * background, so that callers don't need to flush deferred items before searching.
+     */
+    public boolean isNearRealTime() {
+        return false;
+    }
+
     public static Factory getFactory() {
         if (factory == null) {
             setFactory(LC.zimbra_class_index_store_factory.value());
@@ -19,10 +19,16 @@ package com.zimbra.cs.index;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -48,6 +54,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.store.NoSuchDirectoryException;
 import org.apache.lucene.util.Version;
 
@@ -57,6 +64,7 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.RemovalListener;
 import com.google.common.cache.RemovalNotification;
 import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
 import com.googlecode.concurrentlinkedhashmap.EvictionListener;
 import com.zimbra.common.localconfig.LC;
@@ -114,6 +122,13 @@ public final class LuceneIndex extends IndexStore {
         })
         .build();
 
+    // NRT mode: indexes whose cached searcher does not yet see the latest changes made through the writer
+    private static final Set<LuceneIndex> STALE_SEARCHERS =
+        Collections.newSetFromMap(new ConcurrentHashMap<LuceneIndex, Boolean>());
+    private static final AtomicBoolean NRT_REFRESHER_STARTED = new AtomicBoolean(false);
+    private static final ScheduledExecutorService NRT_REFRESHER = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("IndexRefresher").setDaemon(true).build());
+
     private final Mailbox mailbox;
     private final LuceneDirectory luceneDirectory;
     private final AtomicBoolean pendingDelete = new AtomicBoolean(false);
@@ -245,6 +260,7 @@ public final class LuceneIndex extends IndexStore {
     @Override
     public void deleteIndex() throws IOException {
         pendingDelete.set(true);
+        evict(); // an NRT searcher holds on to the writer until it's closed
         writerInfo.getHasNoWritersLock().lock();
         try {
             if (writerInfo.getWriterRef() != null) {
@@ -389,7 +405,19 @@ public final class LuceneIndex extends IndexStore {
         READER_THROTTLE.acquireUninterruptibly();
         long start = System.currentTimeMillis();
         try {
-            searcher = new IndexSearcherImpl(openIndexReader(true));
+            if (isNearRealTime()) {
+                // the searcher keeps the writer open, so that it can be refreshed incrementally from the writer
+                IndexWriterRef ref = acquireWriterRef();
+                try {
+                    searcher = new IndexSearcherImpl(IndexReader.open(ref.get(), true), ref);
+                } finally {
+                    if (searcher == null) {
+                        ref.dec();
+                    }
+                }
+            } else {
+                searcher = new IndexSearcherImpl(openIndexReader(true));
+            }
         } catch (IOException e) {
             // Handle the special case of trying to open a not-yet-created index, by opening for write and immediately
             // closing. Index directory should get initialized as a result.
@@ -453,6 +481,16 @@ public final class LuceneIndex extends IndexStore {
 
     @Override
     public synchronized Indexer openIndexer() throws IOException {
+        return new LuceneIndexerImpl(acquireWriterRef());
+    }
+
+    /**
+     * Returns the shared writer reference, opening the writer if necessary. Caller is responsible for calling
+     * {@link IndexWriterRef#dec()}.
+     */
+    private IndexWriterRef acquireWriterRef() throws IOException {
+        assert(Thread.holdsLock(this));
+
         if (writerInfo.getWriterRef() != null) {
             writerInfo.getWriterRef().inc();
         } else {
@@ -465,7 +503,93 @@ public final class LuceneIndex extends IndexStore {
                 }
             }
         }
-        return new LuceneIndexerImpl(writerInfo.getWriterRef());
+        return writerInfo.getWriterRef();
+    }
+
+    @Override
+    public boolean isNearRealTime() {
+        return LC.zimbra_index_nrt_enabled.booleanValue();
+    }
+
+    /**
+     * Reopens the cached searcher, if any, so that it sees the latest changes. Only changed segments are reopened. A
+     * searcher opened in NRT mode is refreshed from its writer, and therefore also sees changes that haven't been
+     * committed yet.
+     */
+    private synchronized void refreshSearcher() throws IOException {
+        IndexSearcherImpl searcher;
+        if (mailbox.isGalSyncMailbox()) {
+            searcher = GAL_SEARCHER_CACHE.get(mailbox.getId());
+        } else {
+            searcher = SEARCHER_CACHE.getIfPresent(mailbox.getId());
+        }
+        if (searcher == null) {
+            return;
+        }
+
+        IndexReader oldReader = ((ZimbraLuceneIndexReader) searcher.getIndexReader()).getLuceneReader();
+        IndexReader newReader;
+        IndexWriterRef ref = searcher.writerRef;
+        try {
+            if (ref != null) {
+                newReader = IndexReader.openIfChanged(oldReader, ref.get(), true);
+            } else {
+                newReader = IndexReader.openIfChanged(oldReader, true);
+            }
+        } catch (AlreadyClosedException e) { // the writer was closed after a failure
+            ZimbraLog.search.debug("Evicting searcher of closed IndexWriter %s", this);
+            evict();
+            return;
+        }
+        if (newReader == null) {
+            return;
+        }
+        if (ref != null) {
+            ref.inc(); // held by the new searcher
+        }
+        if (mailbox.isGalSyncMailbox()) {
+            //make sure that we close the previous value associated with the key
+            IOUtil.closeQuietly(GAL_SEARCHER_CACHE.put(mailbox.getId(), new IndexSearcherImpl(newReader, ref)));
+        } else {
+            // Bug: 69870
+            // No need to close the previous value associated with the key here.
+            // CacheBuilder sends a callback using removalListener onRemoval(..)
+            // which eventually closes IndexSearcher
+            SEARCHER_CACHE.asMap().put(mailbox.getId(), new IndexSearcherImpl(newReader, ref));
+        }
+    }
+
+    /**
+     * NRT mode: schedules the cached searcher to be refreshed within {@link LC#zimbra_index_nrt_refresh_millis}.
+     */
+    private void markSearcherStale() {
+        if (!isNearRealTime()) {
+            return;
+        }
+        STALE_SEARCHERS.add(this);
+        if (NRT_REFRESHER_STARTED.compareAndSet(false, true)) {
+            long interval = Math.max(100L, LC.zimbra_index_nrt_refresh_millis.longValue());
+            NRT_REFRESHER.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    refreshStaleSearchers();
+                }
+            }, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void refreshStaleSearchers() {
+        for (Iterator<LuceneIndex> i = STALE_SEARCHERS.iterator(); i.hasNext();) {
+            LuceneIndex index = i.next();
+            i.remove();
+            try {
+                index.refreshSearcher();
+            } catch (IOException e) {
+                ZimbraLog.search.warn("Failed to refresh IndexSearcher %s", index, e);
+            } catch (RuntimeException e) { // must not escape, or the refresher stops running
+                ZimbraLog.search.error("Failed to refresh IndexSearcher %s", index, e);
+            }
+        }
     }
 
     private IndexWriterRef openWriter() throws IOException {
@@ -679,6 +803,9 @@ public final class LuceneIndex extends IndexStore {
         config.setMergeScheduler(new MergeScheduler());
         config.setMaxBufferedDocs(LC.zimbra_index_lucene_max_buffered_docs.intValue());
         config.setRAMBufferSizeMB(LC.zimbra_index_lucene_ram_buffer_size_kb.intValue() / 1024.0);
+        if (isNearRealTime()) {
+            config.setReaderTermsIndexDivisor(LC.zimbra_index_lucene_term_index_divisor.intValue());
+        }
         if (LC.zimbra_index_lucene_merge_policy.booleanValue()) {
             LogDocMergePolicy policy = new LogDocMergePolicy();
             config.setMergePolicy(policy);
@@ -748,7 +875,7 @@ public final class LuceneIndex extends IndexStore {
 
         ZimbraQueryResults results = zq.execute();
         if (isTaskSort) {
-            results = new ReSortingQueryResults(results, originalSort, null);
+            results = new ReSortingQueryResults(results, originalSort, params);
         }
         if (isLocalizedSort) {
             results = new ReSortingQueryResults(results, originalSort, params);
@@ -778,6 +905,7 @@ public final class LuceneIndex extends IndexStore {
 
         @Override
         public void destroy() {
+            STALE_SEARCHERS.clear();
             SEARCHER_CACHE.asMap().clear();
 
             for (IndexSearcherImpl searcher : GAL_SEARCHER_CACHE.values()) {
@@ -797,6 +925,11 @@ public final class LuceneIndex extends IndexStore {
         @Override
         public void close() throws IOException {
             writer.index.commitWriter();
+            if (writer.index.isNearRealTime()) {
+                STALE_SEARCHERS.remove(writer.index);
+                writer.index.refreshSearcher();
+                return;
+            }
             ZimbraIndexSearcher searcher = null;
             if (writer.getIndex().mailbox.isGalSyncMailbox()) {
                 searcher = GAL_SEARCHER_CACHE.get(writer.getIndex().mailbox.getId());
@@ -882,6 +1015,7 @@ public final class LuceneIndex extends IndexStore {
                     writer.get().addDocument(luceneDoc);
                 }
             }
+            writer.index.markSearcherStale();
         }
 
         /**
@@ -898,6 +1032,7 @@ public final class LuceneIndex extends IndexStore {
                 writer.get().deleteDocuments(term);
                 ZimbraLog.index.debug("Deleted documents id=%d", id);
             }
+            writer.index.markSearcherStale();
         }
     }
 
@@ -943,10 +1078,17 @@ public final class LuceneIndex extends IndexStore {
         private final AtomicInteger count = new AtomicInteger(1);
         private final IndexSearcher luceneSearcher;
         private final ZimbraIndexReader luceneReader;
+        // writer the NRT reader was obtained from, or null
+        private final IndexWriterRef writerRef;
 
         IndexSearcherImpl(IndexReader reader) {
+            this(reader, null);
+        }
+
+        IndexSearcherImpl(IndexReader reader, IndexWriterRef writerRef) {
             luceneSearcher = new IndexSearcher(reader);
             luceneReader = new ZimbraLuceneIndexReader(luceneSearcher.getIndexReader());
+            this.writerRef = writerRef;
         }
 
         void inc() {
@@ -962,6 +1104,16 @@ public final class LuceneIndex extends IndexStore {
                 } finally {
                     IOUtil.closeQuietly(getIndexReader());
                     READER_THROTTLE.release();
+                    if (writerRef != null) {
+                        // IndexWriterRef#dec() locks the index; don't do that while the caller may be holding
+                        // the lock of another index (e.g. when evicted from SEARCHER_CACHE)
+                        NRT_REFRESHER.execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                writerRef.dec();
+                            }
+                        });
+                    }
                 }
             }
         }
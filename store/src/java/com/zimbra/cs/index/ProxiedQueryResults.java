@@ -17,8 +17,11 @@
 
 package com.zimbra.cs.index;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.zimbra.common.account.Key;
+import com.zimbra.common.localconfig.LC;
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.soap.AdminConstants;
 import com.zimbra.common.soap.Element;
@@ -37,6 +40,16 @@ import com.zimbra.soap.ZimbraSoapContext;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents the results of a query made on a remote server. This class takes
@@ -51,7 +64,7 @@ import java.util.List;
  *
  * @since Mar 28, 2005
  */
-public final class ProxiedQueryResults extends ZimbraQueryResultsImpl {
+public class ProxiedQueryResults extends ZimbraQueryResultsImpl {
     /**
      * minimum number of hits to request each time we make a round-trip to the remote server.
      */
@@ -78,6 +91,22 @@ public final class ProxiedQueryResults extends ZimbraQueryResultsImpl {
 
     private List<QueryInfo> queryInfo = new ArrayList<QueryInfo>();
 
+    /**
+     * the page being fetched in the background, starting at prefetchOffset
+     */
+    private Future<Page> prefetched;
+    private int prefetchOffset;
+    private long prefetchStart;
+
+    /**
+     * round-trips to the remote server and their total duration, and the time the search spent waiting for them
+     */
+    private final AtomicInteger fetchCount = new AtomicInteger();
+    private final AtomicLong fetchMillis = new AtomicLong();
+    private long waitMillis;
+
+    private static ExecutorService sFetchExecutor;
+
     /**
      * A search request in the current mailbox on a different server.
      *
@@ -148,8 +177,19 @@ public final class ProxiedQueryResults extends ZimbraQueryResultsImpl {
         return -1;
     }
 
+    /**
+     * Logs how long this target took, and how much of it the search spent waiting.
+     */
     @Override
     public void close() {
+        if (prefetched != null) {
+            prefetched.cancel(true);
+            prefetched = null;
+        }
+        if (fetchCount.get() > 0) {
+            ZimbraLog.search.info("Remote search of %s on %s: requests=%d, remote=%dms, wait=%dms",
+                    targetAcctId, server, fetchCount.get(), fetchMillis.get(), waitMillis);
+        }
     }
 
     @Override
@@ -216,15 +256,36 @@ public final class ProxiedQueryResults extends ZimbraQueryResultsImpl {
     }
 
     /**
-     * Always does a request -- caller is responsible for checking to see if this is necessary or not
+     * Starts fetching the first page of hits in the background, so that the remote servers of all the targets of a
+     * search are queried at the same time.
      */
-    private boolean bufferNextHits() throws ServiceException {
-        if (atEndOfList || searchParams.getHopCount() > ZimbraSoapContext.MAX_HOP_COUNT) {
-            return false;
+    void prefetch() {
+        if (prefetched == null && hitBuffer == null && !atEndOfList &&
+                searchParams.getHopCount() <= ZimbraSoapContext.MAX_HOP_COUNT) {
+            prefetch(iterOffset);
         }
+    }
 
-        bufferStartOffset = iterOffset;
+    private void prefetch(int offset) {
+        ExecutorService executor = getFetchExecutor();
+        if (executor == null) {
+            return;
+        }
+        int chunkSize = getChunkSize();
+        final Element searchElt = buildRequest(offset, chunkSize);
+        prefetchOffset = offset;
+        prefetchStart = System.currentTimeMillis();
+        final int pageOffset = offset;
+        final int pageSize = chunkSize;
+        prefetched = executor.submit(new Callable<Page>() {
+            @Override
+            public Page call() throws ServiceException {
+                return fetch(searchElt, pageOffset, pageSize);
+            }
+        });
+    }
 
+    private int getChunkSize() {
         int chunkSizeToUse;
         if (singleShotRemoteRequest) {
             chunkSizeToUse = searchParams.getLimit();
@@ -237,14 +298,118 @@ public final class ProxiedQueryResults extends ZimbraQueryResultsImpl {
                 chunkSizeToUse = 500;
             }
         }
+        return chunkSizeToUse;
+    }
 
-        bufferEndOffset = bufferStartOffset + chunkSizeToUse;
-        hitBuffer = new ArrayList<ProxiedHit>(chunkSizeToUse);
+    /**
+     * Returns the prefetched page if it starts at the given offset, waiting for it up to the per-target timeout.
+     * Returns <tt>null</tt> if there's no such page, in which case the caller has to fetch it.
+     */
+    private Page getPrefetched(int offset) throws ServiceException {
+        Future<Page> future = prefetched;
+        if (future == null) {
+            return null;
+        }
+        prefetched = null;
+        if (prefetchOffset != offset) {
+            future.cancel(true);
+            return null;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            long timeout = LC.search_remote_query_timeout_ms.longValue();
+            if (timeout > 0) {
+                return future.get(Math.max(prefetchStart + timeout - start, 0), TimeUnit.MILLISECONDS);
+            } else {
+                return future.get();
+            }
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            ZimbraLog.search.warn("Remote search timed out after %dms, returning partial results from %s",
+                    System.currentTimeMillis() - prefetchStart, this);
+            return Page.FAILED;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw ServiceException.INTERRUPTED("remote search of " + targetAcctId);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ServiceException) {
+                throw (ServiceException) cause;
+            }
+            throw ServiceException.FAILURE("remote search of " + targetAcctId + " failed", cause);
+        } finally {
+            waitMillis += System.currentTimeMillis() - start;
+        }
+    }
+
+    /**
+     * Always does a request -- caller is responsible for checking to see if this is necessary or not
+     */
+    private boolean bufferNextHits() throws ServiceException {
+        if (atEndOfList || searchParams.getHopCount() > ZimbraSoapContext.MAX_HOP_COUNT) {
+            return false;
+        }
+
+        bufferStartOffset = iterOffset;
 
+        Page page = getPrefetched(bufferStartOffset);
+        if (page == null) {
+            int chunkSizeToUse = getChunkSize();
+            Element searchElt = buildRequest(bufferStartOffset, chunkSizeToUse);
+            long start = System.currentTimeMillis();
+            try {
+                page = fetch(searchElt, bufferStartOffset, chunkSizeToUse);
+            } finally {
+                waitMillis += System.currentTimeMillis() - start;
+            }
+        }
+        if (page.failed) {
+            atEndOfList = true;
+            bufferEndOffset = iterOffset;
+            return false;
+        }
+
+        bufferEndOffset = bufferStartOffset + page.chunkSize;
+        hitBuffer = page.hits;
+        queryInfo.addAll(page.queryInfo);
+
+        assert(bufferStartOffset == page.hitOffset);
+
+        // are we at the end of the line here?
+        int bufferIdx = hitBuffer.size();
+        int stop = bufferEndOffset - bufferStartOffset;
+        if (bufferIdx < stop || !page.hasMore) {
+            // update the buffer-end-pointer
+            bufferEndOffset = bufferStartOffset + bufferIdx;
+
+            if (page.hasMore) {
+                assert(!page.hasMore); // if bufferIdx < stop then !hasMore should be set...server bug!
+            }
+            atEndOfList = true;
+        } else {
+            assert(bufferEndOffset == bufferStartOffset+bufferIdx);
+        }
+        if (singleShotRemoteRequest) {
+            atEndOfList = true;
+        }
+
+        assert(bufferStartOffset <= iterOffset);
+
+        // fetch the next page while the caller works through this one
+        if (!atEndOfList) {
+            prefetch(bufferEndOffset);
+        }
+
+        // OK, we were successful if we managed to buffer the current hit
+        return (bufferEndOffset > iterOffset);
+    }
+
+    private Element buildRequest(int offset, int chunkSize) {
         Element searchElt = Element.create(responseProto, MailConstants.SEARCH_REQUEST);
 
-        searchParams.setOffset(bufferStartOffset);
-        searchParams.setLimit(chunkSizeToUse);
+        searchParams.setOffset(offset);
+        searchParams.setLimit(chunkSize);
         searchParams.encodeParams(searchElt);
         if (singleShotRemoteRequest && (searchParams.getCursor() != null)) {
             Element cursorElt = searchElt.addElement(MailConstants.E_CURSOR);
@@ -256,7 +421,14 @@ public final class ProxiedQueryResults extends ZimbraQueryResultsImpl {
                 cursorElt.addAttribute(MailConstants.A_ENDSORTVAL, searchParams.getCursor().getEndSortValue());
             }
         }
+        return searchElt;
+    }
 
+    /**
+     * Makes one round-trip to the remote server.  Doesn't touch the buffer, so that it can run in the background.
+     */
+    @VisibleForTesting
+    Page fetch(Element searchElt, int offset, int chunkSize) throws ServiceException {
         // call the remote server now!
         Server targetServer = Provisioning.getInstance().get(Key.ServerBy.name, server);
         String baseurl = null;
@@ -288,72 +460,82 @@ public final class ProxiedQueryResults extends ZimbraQueryResultsImpl {
                     searchElt, proxy, zscProxy, zscInbound);
         } catch (SoapFaultException sfe) {
             ZimbraLog.index.warn("Unable to (" + sfe + ") fetch search results from remote server " + proxy);
-            atEndOfList = true;
-            bufferEndOffset = iterOffset;
-            return false;
+            return Page.FAILED;
         } catch (ServiceException e) {
             if (ServiceException.PROXY_ERROR.equals(e.getCode())) {
                 ZimbraLog.index.warn("Unable to (" + e + ") fetch search results from remote server " + proxy);
-                atEndOfList = true;
-                bufferEndOffset = iterOffset;
-                return false;
+                return Page.FAILED;
             }
             throw e;
         } finally {
             long elapsed = System.currentTimeMillis() - start;
+            fetchMillis.addAndGet(elapsed);
+            fetchCount.incrementAndGet();
             ZimbraLog.index.debug("Remote query took " + elapsed + "ms; URL=" + proxy.toString() + "; QUERY=" + searchElt.toString());
         }
 
-        int hitOffset;
+        Page page = new Page(chunkSize, false);
         if (singleShotRemoteRequest) {
-            hitOffset = (int) searchResp.getAttributeLong(MailConstants.A_QUERY_OFFSET, bufferStartOffset);
+            page.hitOffset = (int) searchResp.getAttributeLong(MailConstants.A_QUERY_OFFSET, offset);
         } else {
-            hitOffset = (int) searchResp.getAttributeLong(MailConstants.A_QUERY_OFFSET);
+            page.hitOffset = (int) searchResp.getAttributeLong(MailConstants.A_QUERY_OFFSET);
         }
-        boolean hasMore = searchResp.getAttributeBool(MailConstants.A_QUERY_MORE);
-
-        assert(bufferStartOffset == hitOffset);
+        page.hasMore = searchResp.getAttributeBool(MailConstants.A_QUERY_MORE);
 
         SortBy sb = getSortBy();
-        // put these hits into our buffer!
-        int bufferIdx = 0;
-        int stop = bufferEndOffset - bufferStartOffset;
-        for (Iterator<Element> iter = searchResp.elementIterator(); iter.hasNext() && bufferIdx < stop; ) {
+        // put these hits into the page
+        for (Iterator<Element> iter = searchResp.elementIterator(); iter.hasNext() && page.hits.size() < chunkSize; ) {
             Element el = iter.next();
             if (el.getName().equalsIgnoreCase(MailConstants.E_INFO)) {
                 for (Element info : el.listElements()) {
-                    queryInfo.add(new ProxiedQueryInfo(info));
+                    page.queryInfo.add(new ProxiedQueryInfo(info));
                 }
             } else {
                 if (sb != null && ((SortBy.NAME_LOCALIZED_ASC.equals(sb)) || (SortBy.NAME_LOCALIZED_DESC.equals(sb)))) {
-                    hitBuffer.add(bufferIdx++,
-                            new ProxiedContactHit(this, el, el.getAttribute(MailConstants.A_FILE_AS_STR)));
+                    page.hits.add(new ProxiedContactHit(this, el, el.getAttribute(MailConstants.A_FILE_AS_STR)));
                 } else {
-                    hitBuffer.add(bufferIdx++, new ProxiedHit(this, el, el.getAttribute(MailConstants.A_SORT_FIELD)));
+                    page.hits.add(new ProxiedHit(this, el, el.getAttribute(MailConstants.A_SORT_FIELD)));
                 }
             }
         }
+        return page;
+    }
 
-        // are we at the end of the line here?
-        if (bufferIdx < stop || !hasMore) {
-            // update the buffer-end-pointer
-            bufferEndOffset = bufferStartOffset + bufferIdx;
+    /**
+     * Hits returned by one round-trip to the remote server.
+     */
+    static final class Page {
+        /** a request that failed, the hits fetched so far are all the remote server contributes */
+        static final Page FAILED = new Page(0, true);
+
+        final boolean failed;
+        final int chunkSize;
+        final ArrayList<ProxiedHit> hits;
+        final List<QueryInfo> queryInfo = new ArrayList<QueryInfo>();
+        int hitOffset;
+        boolean hasMore;
 
-            if (hasMore) {
-                assert(!hasMore); // if bufferIdx < stop then !hasMore should be set...server bug!
-            }
-            atEndOfList = true;
-        } else {
-            assert(bufferEndOffset == bufferStartOffset+bufferIdx);
+        Page(int chunkSize, boolean failed) {
+            this.failed = failed;
+            this.chunkSize = chunkSize;
+            this.hits = new ArrayList<ProxiedHit>(chunkSize);
         }
-        if (singleShotRemoteRequest) {
-            atEndOfList = true;
-        }
-
-        assert(bufferStartOffset <= iterOffset);
+    }
 
-        // OK, we were successful if we managed to buffer the current hit
-        return (bufferEndOffset > iterOffset);
+    private static synchronized ExecutorService getFetchExecutor() {
+        if (sFetchExecutor == null) {
+            int threads = LC.search_remote_query_threads.intValue();
+            if (threads <= 0) {
+                return null;
+            }
+            // Fetch on the request thread itself if the pool is backed up, as if there was no pool.
+            sFetchExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(threads * 4),
+                    new ThreadFactoryBuilder().setNameFormat("RemoteSearch-%d").setDaemon(true).build(),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            ((ThreadPoolExecutor) sFetchExecutor).allowCoreThreadTimeOut(true);
+        }
+        return sFetchExecutor;
     }
 
     @Override
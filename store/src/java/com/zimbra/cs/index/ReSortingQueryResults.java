@@ -16,32 +16,95 @@
  */
 package com.zimbra.cs.index;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.text.Collator;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
 
+import com.google.common.primitives.UnsignedBytes;
 import com.zimbra.common.localconfig.DebugConfig;
+import com.zimbra.common.localconfig.LC;
 import com.zimbra.common.service.ServiceException;
+import com.zimbra.common.util.ByteUtil;
+import com.zimbra.common.util.ZimbraLog;
 
 /**
- * QueryResults wrapper that implements Re-Sorting. It does this by caching **ALL** hits and then sorting them. It is
- * used for the Task sorts as well as specially localized language sorts
+ * QueryResults wrapper that implements Re-Sorting. It is used for the Task sorts, the read flag sorts as well as
+ * specially localized language sorts.
+ * <p>
+ * Every hit is reduced once to a {@link SortKey} (the sort value, or the collation key of the name for localized
+ * sorts) so that the sort never calls back into the hit or the {@link Collator}. When the request only needs the
+ * first {@code offset + limit} hits they are picked with a bounded heap. Otherwise, once there are more than
+ * {@link LC#search_resort_max_buffered_hits} hits, the keys are sorted in runs spilled to a temporary file and each
+ * page of hits is fetched by merging the runs and re-reading the underlying results, so memory use does not grow
+ * with the size of the mailbox.
  */
 public final class ReSortingQueryResults implements ZimbraQueryResults {
-    private static final int MAX_BUFFERED_HITS = 10000;
 
     private final ZimbraQueryResults results;
     private final SortBy sort;
-    private List<ZimbraHit> mHitBuffer = null;
-    private int iterOffset = 0;
     private final SearchParams params;
+    private final int maxBuffered;
+    private final Collator collator;
+    private final boolean ascending;
+    private Comparator<ZimbraHit> cursorComparator;
+    private ZimbraHit cursorFirstHit;
+    private ZimbraHit cursorEndHit;
+
+    /** the sorted hits starting at rank {@link #bufferOffset}, or null until the first access */
+    private List<ZimbraHit> hitBuffer = null;
+    private int bufferOffset = 0;
+    private int numHits = 0;
+    private int iterOffset = 0;
+    /** sorted runs of keys, or null if all the hits fit in memory */
+    private File spillFile;
+    private final List<Run> runs = new ArrayList<Run>();
+    /** true if the hits are paged from {@link #results} rather than kept in {@link #hitBuffer} */
+    private boolean paged = false;
 
     public ReSortingQueryResults(ZimbraQueryResults results, SortBy sort, SearchParams params) {
         this.results = results;
         this.sort = sort;
         this.params = params;
+        this.maxBuffered = Math.max(LC.search_resort_max_buffered_hits.intValue(), 1);
+        if (isLocalizedSort()) {
+            Locale locale = params != null ? params.getLocale() : null;
+            this.collator = SortBy.getNameCollator(locale != null ? locale : Locale.getDefault());
+        } else {
+            this.collator = null;
+        }
+        switch (sort) {
+            case TASK_DUE_ASC:
+            case TASK_DUE_DESC:
+            case TASK_STATUS_ASC:
+            case TASK_STATUS_DESC:
+            case TASK_PERCENT_COMPLETE_ASC:
+            case TASK_PERCENT_COMPLETE_DESC:
+            case READ_ASC:
+            case READ_DESC:
+            case NAME_LOCALIZED_ASC:
+            case NAME_LOCALIZED_DESC:
+                this.ascending = sort.getDirection() == SortBy.Direction.ASC;
+                break;
+            default:
+                this.ascending = true;
+                break;
+        }
     }
 
     @Override
@@ -51,6 +114,7 @@ public final class ReSortingQueryResults implements ZimbraQueryResults {
 
     @Override
     public void close() throws IOException {
+        deleteSpillFile();
         results.close();
     }
 
@@ -77,14 +141,14 @@ public final class ReSortingQueryResults implements ZimbraQueryResults {
 
     @Override
     public boolean hasNext() throws ServiceException {
-        return (iterOffset < getHitBuffer().size());
+        getHitBuffer();
+        return iterOffset < numHits;
     }
 
     @Override
     public ZimbraHit peekNext() throws ServiceException {
-        List<ZimbraHit> buffer = getHitBuffer();
         if (hasNext()) {
-            return buffer.get(iterOffset);
+            return getHit(iterOffset);
         } else {
             return null;
         }
@@ -97,12 +161,8 @@ public final class ReSortingQueryResults implements ZimbraQueryResults {
 
     @Override
     public ZimbraHit skipToHit(int hitNo) throws ServiceException {
-        List<ZimbraHit> buffer = getHitBuffer();
-        if (hitNo >= buffer.size()) {
-            iterOffset = buffer.size();
-        } else {
-            iterOffset = hitNo;
-        }
+        getHitBuffer();
+        iterOffset = Math.min(hitNo, numHits);
         return getNext();
     }
 
@@ -112,10 +172,18 @@ public final class ReSortingQueryResults implements ZimbraQueryResults {
     }
 
     private List<ZimbraHit> getHitBuffer() throws ServiceException {
-        if (mHitBuffer == null) {
+        if (hitBuffer == null) {
             bufferAllHits();
         }
-        return mHitBuffer;
+        return hitBuffer;
+    }
+
+    private ZimbraHit getHit(int rank) throws ServiceException {
+        List<ZimbraHit> buffer = getHitBuffer();
+        if (rank < bufferOffset || rank >= bufferOffset + buffer.size()) {
+            buffer = loadPage(rank);
+        }
+        return buffer.get(rank - bufferOffset);
     }
 
     private boolean isTaskSort() {
@@ -131,7 +199,7 @@ public final class ReSortingQueryResults implements ZimbraQueryResults {
                 return false;
         }
     }
-    
+
     private boolean isReadSort() {
         switch (sort) {
             case READ_ASC:
@@ -142,112 +210,107 @@ public final class ReSortingQueryResults implements ZimbraQueryResults {
         }
     }
 
-    private void bufferAllHits() throws ServiceException {
-        assert(mHitBuffer == null);
-        mHitBuffer = new ArrayList<ZimbraHit>();
-
-        // get the proper comparator
-        Comparator<ZimbraHit> comp;
+    private boolean isLocalizedSort() {
         switch (sort) {
+            case NAME_LOCALIZED_ASC:
+            case NAME_LOCALIZED_DESC:
+                return true;
             default:
-                comp = new Comparator<ZimbraHit>() {
-                    @Override
-                    public int compare(ZimbraHit lhs, ZimbraHit rhs) {
-                        if (lhs  instanceof TaskHit) {
-                            return TaskHit.compareByDueDate(true, lhs, rhs);
-                        } else{
-                            return ZimbraHit.compareByReadFlag(true, lhs, rhs);
-                        } 
-                    }
-                };
-                break;
-            case READ_ASC:
-                comp = new Comparator<ZimbraHit>() {
-                    @Override
-                    public int compare(ZimbraHit lhs, ZimbraHit rhs) {
-                        return ZimbraHit.compareByReadFlag(true, lhs, rhs);
-                    }
-                };
-                break;
-            case READ_DESC:
-                comp = new Comparator<ZimbraHit>() {
-                    @Override
-                    public int compare(ZimbraHit lhs, ZimbraHit rhs) {
-                        return ZimbraHit.compareByReadFlag(false, lhs, rhs);
-                    }
-                };
-                break;
-            case TASK_DUE_ASC:
-                comp = new Comparator<ZimbraHit>() {
-                    @Override
-                    public int compare(ZimbraHit lhs, ZimbraHit rhs) {
-                        return TaskHit.compareByDueDate(true, lhs, rhs);
-                    }
-                };
-                break;
-            case TASK_DUE_DESC:
-                comp = new Comparator<ZimbraHit>() {
-                    @Override
-                    public int compare(ZimbraHit lhs, ZimbraHit rhs) {
-                        return TaskHit.compareByDueDate(false, lhs, rhs);
-                    }
-                };
-                break;
-            case TASK_STATUS_ASC:
-                comp = new Comparator<ZimbraHit>() {
-                    @Override
-                    public int compare(ZimbraHit lhs, ZimbraHit rhs) {
-                        return TaskHit.compareByStatus(true, lhs, rhs);
-                    }
-                };
-                break;
-            case TASK_STATUS_DESC:
-                comp = new Comparator<ZimbraHit>() {
-                    @Override
-                    public int compare(ZimbraHit lhs, ZimbraHit rhs) {
-                        return TaskHit.compareByStatus(false, lhs, rhs);
+                return false;
+        }
+    }
+
+    /**
+     * Returns the number of hits the request can look at, or {@link Integer#MAX_VALUE} if it pages with a cursor
+     * or asks for all of them.
+     */
+    private int getMaxHits() {
+        if (params != null && params.getCursor() == null && params.getLimit() > 0) {
+            // 1 is added so that the 'more' setting will be correct.
+            long max = (long) params.getLimit() + 1 + Math.max(params.getOffset(), 0);
+            return (int) Math.min(max, Integer.MAX_VALUE);
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private void bufferAllHits() throws ServiceException {
+        assert(hitBuffer == null);
+        initCursorFiltering();
+
+        int maxHits = getMaxHits();
+        boolean preSorted = results.isPreSorted();
+        PriorityQueue<SortKey> heap = null;
+        if (!preSorted && maxHits <= maxBuffered) {
+            // reversed, so that the head is the worst of the best maxHits keys seen so far
+            heap = new PriorityQueue<SortKey>(Math.min(maxHits, 1024) + 1, Collections.reverseOrder());
+        }
+        List<SortKey> run = new ArrayList<SortKey>();
+        List<ZimbraHit> firstHits = new ArrayList<ZimbraHit>();
+        int count = 0;
+        ZimbraHit cur;
+        try {
+            // If it turns out that the results were sorted remotely, we can bail out early.
+            while ((!preSorted || count < maxHits) && (cur = nextCandidate()) != null) {
+                int seq = count++;
+                if (preSorted) {
+                    if (firstHits.size() < maxBuffered) {
+                        firstHits.add(cur);
+                    } else {
+                        paged = true;
                     }
-                };
-                break;
-            case TASK_PERCENT_COMPLETE_ASC:
-                comp = new Comparator<ZimbraHit>() {
-                    @Override
-                    public int compare(ZimbraHit lhs, ZimbraHit rhs) {
-                        return TaskHit.compareByCompletionPercent(true, lhs, rhs);
+                } else if (heap != null) {
+                    heap.add(getSortKey(cur, seq));
+                    if (heap.size() > maxHits) {
+                        heap.poll();
                     }
-                };
-                break;
-            case TASK_PERCENT_COMPLETE_DESC:
-                comp = new Comparator<ZimbraHit>() {
-                    @Override
-                    public int compare(ZimbraHit lhs, ZimbraHit rhs) {
-                        return TaskHit.compareByCompletionPercent(false, lhs, rhs);
+                } else {
+                    run.add(getSortKey(cur, seq));
+                    if (run.size() >= maxBuffered) {
+                        spill(run);
+                        run.clear();
                     }
-                };
-                break;
-            case NAME_LOCALIZED_ASC:
-            case NAME_LOCALIZED_DESC:
-                comp = sort.getHitComparator(params.getLocale());
-                break;
+                }
+            }
+            if (spillFile != null && !run.isEmpty()) {
+                spill(run);
+                run.clear();
+            }
+        } catch (IOException e) {
+            deleteSpillFile();
+            throw ServiceException.FAILURE("Failed to spill sort keys to disk", e);
         }
 
-        int maxIfPresorted = MAX_BUFFERED_HITS;
-        if (params != null && params.getCursor() == null) {
-            maxIfPresorted = params.getLimit();
-            if (maxIfPresorted > 0) {
-                // 1 is added so that the 'more' setting will be correct.
-                maxIfPresorted = maxIfPresorted + 1 + params.getOffset();
+        if (heap != null) {
+            run.addAll(heap);
+        }
+        numHits = Math.min(count, maxHits);
+        if (spillFile != null) {
+            paged = true;
+            ZimbraLog.search.debug("Re-sorting %d hits in %d runs from %s", count, runs.size(), spillFile);
+            hitBuffer = Collections.emptyList();
+        } else if (preSorted) {
+            hitBuffer = firstHits;
+        } else {
+            Collections.sort(run);
+            hitBuffer = new ArrayList<ZimbraHit>(run.size());
+            for (SortKey key : run) {
+                hitBuffer.add(key.hit);
             }
         }
+    }
+
+    /**
+     * Returns the next hit of the underlying results that passes the cursor, or null when there are no more.
+     */
+    private ZimbraHit nextCandidate() throws ServiceException {
         ZimbraHit cur;
         while ((cur = results.getNext()) != null) {
-
             if (isTaskSort()) {
                 if (!(cur instanceof TaskHit) && !(cur instanceof ProxiedHit)) {
                     throw ServiceException.FAILURE("Invalid hit type, can only task-sort Tasks", null);
                 }
             }
-            
+
             if (isReadSort()) {
                 if (!(cur instanceof ConversationHit  || cur instanceof ProxiedHit || cur instanceof MessageHit
                    || cur instanceof MessagePartHit)) {
@@ -256,55 +319,296 @@ public final class ReSortingQueryResults implements ZimbraQueryResults {
                 }
             }
 
-            boolean skipHit = false;
+            // handle cursor filtering, fail if cur < first OR cur >= end
+            if (cursorFirstHit != null && cursorComparator.compare(cur, cursorFirstHit) < 0) {
+                continue;
+            }
+            if (cursorEndHit != null && cursorComparator.compare(cur, cursorEndHit) >= 0) {
+                continue;
+            }
+            return cur;
+        }
+        return null;
+    }
 
-            boolean handleCursorFilteringForFirstHit = true;
-            if (DebugConfig.enableContactLocalizedSort) {
-                switch (sort) {
-                    case NAME_LOCALIZED_ASC:
-                    case NAME_LOCALIZED_DESC:
-                        handleCursorFilteringForFirstHit = false;
-                        break;
-                }
+    /**
+     * The cursor is only simulated here for the localized sorts, the other sorts either don't use one or leave it to
+     * {@link ResultsPager}.
+     */
+    private void initCursorFiltering() {
+        if (params == null || params.getCursor() == null || !isLocalizedSort()) {
+            return;
+        }
+        cursorComparator = sort.getHitComparator(params.getLocale());
+        boolean handleCursorFilteringForFirstHit = !DebugConfig.enableContactLocalizedSort;
+        if (handleCursorFilteringForFirstHit && params.getCursor().getSortValue() != null) {
+            cursorFirstHit = new ResultsPager.CursorHit(results, params.getCursor().getSortValue(),
+                    params.getCursor().getItemId().getId());
+        }
+        if (params.getCursor().getEndSortValue() != null) {
+            cursorEndHit = new ResultsPager.CursorHit(results, params.getCursor().getEndSortValue(), 0);
+        }
+    }
+
+    private SortKey getSortKey(ZimbraHit hit, int seq) {
+        long value = 0;
+        try {
+            if (collator != null) {
+                String name = hit.getName();
+                byte[] key = collator.getCollationKey(name != null ? name : "").toByteArray();
+                return new SortKey(hit, seq, key, 0, hit.getItemId(), ascending);
+            }
+            switch (sort) {
+                case TASK_DUE_ASC:
+                case TASK_DUE_DESC:
+                    value = TaskHit.getDueTime(hit);
+                    break;
+                case TASK_STATUS_ASC:
+                case TASK_STATUS_DESC:
+                    value = TaskHit.getStatus(hit).getSortVal();
+                    break;
+                case TASK_PERCENT_COMPLETE_ASC:
+                case TASK_PERCENT_COMPLETE_DESC:
+                    value = TaskHit.getCompletionPercentage(hit);
+                    break;
+                case READ_ASC:
+                case READ_DESC:
+                    value = ZimbraHit.getReadStatus(hit);
+                    break;
+                default:
+                    value = hit instanceof TaskHit ? TaskHit.getDueTime(hit) : ZimbraHit.getReadStatus(hit);
+                    break;
+            }
+        } catch (ServiceException e) {
+            ZimbraLog.index.info("Caught ServiceException trying to get the %s sort key of %s", sort, hit, e);
+            if (collator != null) {
+                return new SortKey(hit, seq, new byte[0], 0, 0, ascending);
             }
+        }
+        return new SortKey(hit, seq, null, value, 0, ascending);
+    }
 
-            // handle cursor filtering
-            if (params != null && params.getCursor() != null && !SearchParams.isSortByReadFlag(params.getSortBy())) {
-                ZimbraHit firstHit = null;
-                if (params.getCursor().getSortValue() != null) {
-                    firstHit = new ResultsPager.CursorHit(results, params.getCursor().getSortValue(),
-                            params.getCursor().getItemId().getId());
-                }
-                ZimbraHit endHit = null;
-                if (params.getCursor().getEndSortValue() != null) {
-                    endHit = new ResultsPager.CursorHit(results, params.getCursor().getEndSortValue(), 0);
+    /**
+     * Sorts {@code run} and appends it to the spill file.
+     */
+    private void spill(List<SortKey> run) throws IOException {
+        Collections.sort(run);
+        if (spillFile == null) {
+            spillFile = File.createTempFile("resort", ".tmp", new File(LC.zimbra_tmp_directory.value()));
+        }
+        long start = spillFile.length();
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spillFile, true)));
+        try {
+            for (SortKey key : run) {
+                key.write(out);
+            }
+        } finally {
+            out.close();
+        }
+        runs.add(new Run(start, run.size()));
+    }
+
+    /**
+     * Replaces the buffer with up to {@link #maxBuffered} hits starting at {@code first}.
+     */
+    private List<ZimbraHit> loadPage(int first) throws ServiceException {
+        assert(paged);
+        int size = Math.min(maxBuffered, numHits - first);
+        ZimbraHit[] page = new ZimbraHit[size];
+        Map<Integer, Integer> seqToIndex = null;
+        if (spillFile != null) {
+            try {
+                seqToIndex = mergeRuns(first, size);
+            } catch (IOException e) {
+                throw ServiceException.FAILURE("Failed to read sort keys from " + spillFile, e);
+            }
+        }
+
+        // walk the underlying results again, the candidates come back with the same sequence numbers
+        results.resetIterator();
+        int found = 0;
+        ZimbraHit cur;
+        for (int seq = 0; found < size && (cur = nextCandidate()) != null; seq++) {
+            Integer index;
+            if (seqToIndex != null) {
+                index = seqToIndex.get(seq);
+            } else {
+                index = seq >= first ? seq - first : null;
+            }
+            if (index != null) {
+                page[index] = cur;
+                found++;
+            }
+        }
+        if (found < size) {
+            throw ServiceException.FAILURE("Search results changed while re-sorting, found " + found + " of " +
+                    size + " hits at offset " + first, null);
+        }
+        hitBuffer = Arrays.asList(page);
+        bufferOffset = first;
+        return hitBuffer;
+    }
+
+    /**
+     * Merges the spilled runs and returns the sequence numbers of the keys ranked {@code first} to
+     * {@code first + size - 1}, mapped to their position in that range.
+     */
+    private Map<Integer, Integer> mergeRuns(int first, int size) throws IOException {
+        Map<Integer, Integer> seqToIndex = new HashMap<Integer, Integer>(size * 2);
+        PriorityQueue<RunReader> queue = new PriorityQueue<RunReader>(runs.size());
+        try {
+            for (Run run : runs) {
+                RunReader reader = new RunReader(spillFile, run, collator != null, ascending);
+                if (reader.advance()) {
+                    queue.add(reader);
+                } else {
+                    reader.close();
                 }
-                // fail if cur < first OR cur >= end
-                if (handleCursorFilteringForFirstHit) {
-                    if (firstHit != null && comp.compare(cur, firstHit) < 0) {
-                        skipHit = true;
-                    }
+            }
+            int rank = 0;
+            while (rank < first + size && !queue.isEmpty()) {
+                RunReader reader = queue.poll();
+                if (rank >= first) {
+                    seqToIndex.put(reader.head.seq, rank - first);
                 }
-                if (endHit != null && comp.compare(cur, endHit) >= 0) {
-                    skipHit = true;
+                rank++;
+                if (reader.advance()) {
+                    queue.add(reader);
+                } else {
+                    reader.close();
                 }
             }
+        } finally {
+            for (RunReader reader : queue) {
+                reader.close();
+            }
+        }
+        return seqToIndex;
+    }
+
+    private void deleteSpillFile() {
+        if (spillFile != null) {
+            spillFile.delete();
+            spillFile = null;
+            runs.clear();
+        }
+    }
+
+    /**
+     * The precomputed sort key of a hit. Keys with equal sort values keep the order the hits arrived in.
+     */
+    static final class SortKey implements Comparable<SortKey> {
+        private static final Comparator<byte[]> BYTES_COMPARATOR = UnsignedBytes.lexicographicalComparator();
 
-            if (!skipHit) {
-                mHitBuffer.add(cur);
+        final ZimbraHit hit;
+        final int seq;
+        final byte[] collationKey;
+        final long value;
+        final int itemId;
+        final boolean ascending;
+
+        SortKey(ZimbraHit hit, int seq, byte[] collationKey, long value, int itemId, boolean ascending) {
+            this.hit = hit;
+            this.seq = seq;
+            this.collationKey = collationKey;
+            this.value = value;
+            this.itemId = itemId;
+            this.ascending = ascending;
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            int result;
+            if (collationKey != null) {
+                result = BYTES_COMPARATOR.compare(collationKey, other.collationKey);
+                if (result == 0) {
+                    result = Integer.compare(itemId, other.itemId);
+                }
+            } else {
+                result = Long.compare(value, other.value);
             }
-            if (mHitBuffer.size() >= MAX_BUFFERED_HITS) {
-                break;
+            if (!ascending) {
+                result = -result;
             }
-            // If it turns out that the results were sorted remotely, we can bail out early.
-            if (results.isPreSorted() && mHitBuffer.size() >= maxIfPresorted) {
-                break;
+            return result != 0 ? result : Integer.compare(seq, other.seq);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(seq);
+            if (collationKey != null) {
+                out.writeInt(itemId);
+                out.writeInt(collationKey.length);
+                out.write(collationKey);
+            } else {
+                out.writeLong(value);
             }
         }
 
-        if (!results.isPreSorted()) {
-            Collections.sort(mHitBuffer, comp);
+        static SortKey read(DataInputStream in, boolean collated, boolean ascending) throws IOException {
+            int seq = in.readInt();
+            if (collated) {
+                int itemId = in.readInt();
+                byte[] key = new byte[in.readInt()];
+                in.readFully(key);
+                return new SortKey(null, seq, key, 0, itemId, ascending);
+            } else {
+                return new SortKey(null, seq, null, in.readLong(), 0, ascending);
+            }
+        }
+    }
+
+    private static final class Run {
+        final long start;
+        final int size;
+
+        Run(long start, int size) {
+            this.start = start;
+            this.size = size;
         }
     }
 
+    private static final class RunReader implements Comparable<RunReader> {
+        private final DataInputStream in;
+        private final boolean collated;
+        private final boolean ascending;
+        private int remaining;
+        SortKey head;
+
+        RunReader(File file, Run run, boolean collated, boolean ascending) throws IOException {
+            FileInputStream fin = new FileInputStream(file);
+            try {
+                fin.getChannel().position(run.start);
+            } catch (IOException e) {
+                fin.close();
+                throw e;
+            }
+            this.in = new DataInputStream(new BufferedInputStream(fin));
+            this.collated = collated;
+            this.ascending = ascending;
+            this.remaining = run.size;
+        }
+
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                head = null;
+                return false;
+            }
+            remaining--;
+            try {
+                head = SortKey.read(in, collated, ascending);
+            } catch (EOFException e) {
+                throw new IOException("Truncated sort run", e);
+            }
+            return true;
+        }
+
+        @Override
+        public int compareTo(RunReader other) {
+            return head.compareTo(other.head);
+        }
+
+        void close() {
+            ByteUtil.closeStream(in);
+        }
+    }
 }
@@ -97,6 +97,8 @@ final class RemoteQueryOperation extends FilterQueryOperation {
 
         results = new ProxiedQueryResults(proto, authToken, queryTarget.toString(),
                 remoteServer.getName(), params, queryString, params.getFetchMode());
+        // query all the targets at once rather than one after the other as the merge reaches them
+        results.prefetch();
     }
 
     @Override
@@ -118,14 +118,14 @@ public final class TaskHit extends CalendarItemHit {
         }
     }
 
-    private static long getDueTime(ZimbraHit zh) throws ServiceException {
+    static long getDueTime(ZimbraHit zh) throws ServiceException {
         if (zh instanceof ProxiedHit)
             return ((ProxiedHit)zh).getElement().getAttributeLong(MailConstants.A_TASK_DUE_DATE);
         else
             return ((TaskHit)zh).getDueTime();
     }
 
-    private static Status getStatus(ZimbraHit zh) throws ServiceException {
+    static Status getStatus(ZimbraHit zh) throws ServiceException {
         if (zh instanceof ProxiedHit) {
             String s = ((ProxiedHit)zh).getElement().getAttribute(MailConstants.A_CAL_STATUS);
             return Status.valueOf(s);
@@ -28,6 +28,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -41,6 +46,8 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.zimbra.common.account.Key.AccountBy;
 import com.zimbra.common.lmtp.LmtpClient;
 import com.zimbra.common.lmtp.LmtpProtocolException;
@@ -76,6 +83,7 @@ import com.zimbra.cs.mailbox.QuotaWarning;
 import com.zimbra.cs.mime.ParsedMessage;
 import com.zimbra.cs.mime.ParsedMessageOptions;
 import com.zimbra.cs.service.util.ItemId;
+import com.zimbra.cs.stats.ZimbraPerf;
 import com.zimbra.cs.store.Blob;
 import com.zimbra.cs.store.BlobInputStream;
 import com.zimbra.cs.store.MailboxBlob;
@@ -87,6 +95,7 @@ public class ZimbraLmtpBackend implements LmtpBackend {
     private static List<LmtpCallback> callbacks = new CopyOnWriteArrayList<LmtpCallback>();
     private static Map<String, Set<Integer>> receivedMessageIDs;
     private static final LoadingCache<Integer, ReentrantLock> mailboxDeliveryLocks = createMailboxDeliveryLocks();
+    private static ThreadPoolExecutor deliveryExecutor;
 
     private final LmtpConfig config;
 
@@ -318,6 +327,7 @@ public class ZimbraLmtpBackend implements LmtpBackend {
         public ParsedMessage pm;
         public boolean esd; // whether endSharedDelivery should be called
         public DeliveryAction action;
+        public boolean attachmentsIndexingEnabled;
 
         public RecipientDetail(Account a, Mailbox m, ParsedMessage p, boolean endSharedDelivery, DeliveryAction da) {
             account = a;
@@ -417,13 +427,12 @@ public class ZimbraLmtpBackend implements LmtpBackend {
         }
     }
 
-    private void deliverMessageToLocalMailboxes(Blob blob, BlobInputStream bis, byte[] data, MimeMessage mm, LmtpEnvelope env)
+    private void deliverMessageToLocalMailboxes(Blob blob, BlobInputStream bis, byte[] data, MimeMessage mm, final LmtpEnvelope env)
         throws ServiceException, IOException {
 
         List<LmtpAddress> recipients = env.getLocalRecipients();
-        String envSender = env.getSender().getEmailAddress();
 
-        boolean shared = recipients.size() > 1;
+        final boolean shared = recipients.size() > 1;
         List<Integer> targetMailboxIds = new ArrayList<Integer>(recipients.size());
 
         Map<LmtpAddress, RecipientDetail> rcptMap = new HashMap<LmtpAddress, RecipientDetail>(recipients.size());
@@ -514,7 +523,9 @@ public class ZimbraLmtpBackend implements LmtpBackend {
                             da = DeliveryAction.defer;
                         }
                     }
-                    rcptMap.put(recipient, new RecipientDetail(account, mbox, pm, endSharedDelivery, da));
+                    RecipientDetail rd = new RecipientDetail(account, mbox, pm, endSharedDelivery, da);
+                    rd.attachmentsIndexingEnabled = attachmentsIndexingEnabled;
+                    rcptMap.put(recipient, rd);
                     if (da == DeliveryAction.deliver) {
                         targetMailboxIds.add(mbox.getId());
                     }
@@ -530,182 +541,71 @@ public class ZimbraLmtpBackend implements LmtpBackend {
                                     msgId == null ? "" : msgId);
             }
 
-            DeliveryContext sharedDeliveryCtxt = new DeliveryContext(shared, targetMailboxIds);
+            final DeliveryContext sharedDeliveryCtxt = new DeliveryContext(shared, targetMailboxIds);
             sharedDeliveryCtxt.setIncomingBlob(blob);
 
             // We now know which addresses are valid and which ParsedMessage
             // version each recipient needs.  Deliver!
-            for (LmtpAddress recipient : recipients) {
-                String rcptEmail = recipient.getEmailAddress();
-                LmtpReply reply = LmtpReply.TEMPORARY_FAILURE;
-                RecipientDetail rd = rcptMap.get(recipient);
-                if (rd == null) {
-                    // Account or mailbox not found.
-                    ZimbraLog.lmtp.info("rejecting message from=%s,to=%s: account or mailbox not found",
-                            envSender, rcptEmail);
-                    recipient.setDeliveryStatus(LmtpReply.PERMANENT_FAILURE);
-                    continue;
-                }
-                if (rd.account != null) {
-                    ZimbraLog.addAccountNameToContext(rd.account.getName());
-                }
-                if (rd.mbox != null) {
-                    ZimbraLog.addMboxToContext(rd.mbox.getId());
-                }
-
-                boolean success = false;
-                try {
-                    switch (rd.action) {
-                    case discard:
-                        ZimbraLog.lmtp.info("accepted and discarded message from=%s,to=%s: local delivery is disabled",
-                                envSender, rcptEmail);
-                        if (rd.account.getPrefMailForwardingAddress() != null) {
-                            // mail forwarding is set up
-                            for (LmtpCallback callback : callbacks) {
-                                ZimbraLog.lmtp.debug("Executing callback %s", callback.getClass().getName());
-                                callback.forwardWithoutDelivery(rd.account, rd.mbox, envSender, rcptEmail, rd.pm);
-                            }
-                        }
-                        reply = LmtpReply.DELIVERY_OK;
-                        break;
-                    case deliver:
-                        Account account = rd.account;
-                        Mailbox mbox = rd.mbox;
-                        ParsedMessage pm = rd.pm;
-                        List<ItemId> addedMessageIds = null;
-                        ReentrantLock lock = mailboxDeliveryLocks.get(mbox.getId());
-                        boolean acquiredLock;
-                        try {
-                            // Wait for the lock, up to the timeout
-                            acquiredLock = lock.tryLock(LC.zimbra_mailbox_lock_timeout.intValue(), TimeUnit.SECONDS);
-                        } catch (InterruptedException e) {
-                            acquiredLock = false;
-                        }
-                        if (!acquiredLock) {
-                            ZimbraLog.lmtp.info("try again for message from=%s,to=%s: another mail delivery in progress.",
-                                    envSender, rcptEmail);
-                            reply = LmtpReply.TEMPORARY_FAILURE;
-                            break;
-                        }
-                        try {
-                            if (dedupe(pm, mbox)) {
-                                // message was already delivered to this mailbox
-                                ZimbraLog.lmtp.info("Not delivering message with duplicate Message-ID %s", pm.getMessageID());
-                            } else if (mbox.dedupeForSelfMsg(pm)) {
-                                ZimbraLog.mailbox.info("not delivering message, because it is a duplicate of sent message %s",
-                                        pm.getMessageID());
-
-                            } else if (recipient.getSkipFilters()) {
-                                msgId = pm.getMessageID();
-                                int folderId = Mailbox.ID_FOLDER_INBOX;
-                                if (recipient.getFolder() != null) {
-                                    try {
-                                        Folder folder = mbox.getFolderByPath(null, recipient.getFolder());
-                                        folderId = folder.getId();
-                                    } catch (ServiceException se) {
-                                        if (se.getCode().equals(MailServiceException.NO_SUCH_FOLDER)) {
-                                            Folder folder = mbox.createFolder(null, recipient.getFolder(),
-                                                    new Folder.FolderOptions().setDefaultView(MailItem.Type.MESSAGE));
-                                            folderId = folder.getId();
-                                        } else {
-                                            throw se;
-                                        }
-                                    }
+            //
+            // In parallel mode, recipients are delivered to one at a time until one
+            // delivery has stored the shared blob (and logged it to the redolog);
+            // the remaining mailboxes then link to that blob concurrently.
+            long fanoutStart = System.currentTimeMillis();
+            int parallelism = shared ? getParallelDeliveryThreads(targetMailboxIds.size()) : 0;
+            List<Future<?>> parallelDeliveries = new ArrayList<Future<?>>();
+            for (final LmtpAddress recipient : recipients) {
+                final RecipientDetail rd = rcptMap.get(recipient);
+                if (parallelism > 0 && rd != null && rd.action == DeliveryAction.deliver &&
+                        !sharedDeliveryCtxt.isFirst()) {
+                    final String rcptMsgId = msgId;
+                    final Blob incomingBlob = blob;
+                    final byte[] incomingData = data;
+                    final Map<String, String> lmtpContext = ZimbraLog.getContext();
+                    parallelDeliveries.add(getDeliveryExecutor(parallelism).submit(new Runnable() {
+                        @Override
+                        public void run() {
+                            // The task may run on the LMTP thread itself when the pool is
+                            // saturated, so put back whatever context the thread had.
+                            Map<String, String> savedContext = ZimbraLog.getContext();
+                            ZimbraLog.setContext(lmtpContext);
+                            try {
+                                // each thread needs its own copy of the ParsedMessage
+                                rd.pm = createParsedMessage(incomingBlob, incomingData,
+                                        rd.attachmentsIndexingEnabled);
+                                deliverToRecipient(recipient, rd, env, incomingBlob, sharedDeliveryCtxt,
+                                        rcptMsgId, shared);
+                            } catch (Throwable t) {
+                                if (t instanceof OutOfMemoryError) {
+                                    Zimbra.halt("out of memory during parallel delivery", t);
                                 }
-                                int flags = Flag.BITMASK_UNREAD;
-                                if (recipient.getFlags() != null) {
-                                    flags = Flag.toBitmask(recipient.getFlags());
-                                }
-                                DeliveryOptions dopt = new DeliveryOptions().setFolderId(folderId);
-                                dopt.setFlags(flags).setTags(recipient.getTags()).setRecipientEmail(rcptEmail);
-                                Message msg = mbox.addMessage(null, pm, dopt, sharedDeliveryCtxt);
-                                addedMessageIds = Lists.newArrayList(new ItemId(msg));
-                            } else if (!DebugConfig.disableIncomingFilter) {
-                                // Get msgid first, to avoid having to reopen and reparse the blob
-                                // file if Mailbox.addMessageInternal() closes it.
-                                pm.getMessageID();
-                                addedMessageIds = RuleManager.applyRulesToIncomingMessage(
-                                        null, mbox, pm, (int) blob.getRawSize(), rcptEmail, env, sharedDeliveryCtxt,
-                                        Mailbox.ID_FOLDER_INBOX, false, true);
-                            } else {
-                                pm.getMessageID();
-                                DeliveryOptions dopt = new DeliveryOptions().setFolderId(Mailbox.ID_FOLDER_INBOX);
-                                dopt.setFlags(Flag.BITMASK_UNREAD).setRecipientEmail(rcptEmail);
-                                Message msg = mbox.addMessage(null, pm, dopt, sharedDeliveryCtxt);
-                                addedMessageIds = Lists.newArrayList(new ItemId(msg));
-                            }
-                            success = true;
-                            if (addedMessageIds != null && addedMessageIds.size() > 0) {
-                                addToDedupeCache(pm, mbox);
-                            }
-                        } finally {
-                            lock.unlock();
-                        }
-
-                        if (addedMessageIds != null && addedMessageIds.size() > 0) {
-                            // Execute callbacks
-                            for (LmtpCallback callback : callbacks) {
-                                for (ItemId id : addedMessageIds) {
-                                    if (id.belongsTo(mbox)) {
-                                        // Message was added to the local mailbox, as opposed to a mountpoint.
-                                        ZimbraLog.lmtp.debug("Executing callback %s", callback.getClass().getName());
-                                        try {
-                                            Message msg = mbox.getMessageById(null, id.getId());
-                                            callback.afterDelivery(account, mbox, envSender, rcptEmail, msg);
-                                        } catch (OutOfMemoryError oome) {
-                                            Zimbra.halt("LMTP callback failed", oome);
-                                        } catch (Throwable t) {
-                                            ZimbraLog.lmtp.warn("LMTP callback threw an exception", t);
-                                        }
-                                    }
+                                ZimbraLog.lmtp.warn("try again for message to=%s", recipient.getEmailAddress(), t);
+                                recipient.setDeliveryStatus(LmtpReply.TEMPORARY_FAILURE);
+                                if (rd.esd) {
+                                    rd.mbox.endSharedDelivery();
+                                    rd.esd = false;
                                 }
+                            } finally {
+                                ZimbraLog.setContext(savedContext);
                             }
                         }
-                        reply = LmtpReply.DELIVERY_OK;
-                        break;
-                    case defer:
-                        // Delivery to mailbox skipped.  Let MTA retry again later.
-                        // This case happens for shared delivery to a mailbox in
-                        // backup mode.
-                        ZimbraLog.lmtp.info("try again for message from=%s,to=%s: mailbox skipped",
-                                envSender, rcptEmail);
-                        reply = LmtpReply.TEMPORARY_FAILURE;
-                        break;
-                    }
-                } catch (DeliveryServiceException e) {
-                    ZimbraLog.lmtp.info("rejecting message from=%s,to=%s: sieve filter rule", envSender, rcptEmail);
-                    reply = LmtpReply.PERMANENT_MESSAGE_REFUSED;
-                } catch (ServiceException e) {
-                    if (e.getCode().equals(MailServiceException.QUOTA_EXCEEDED)) {
-                        ZimbraLog.lmtp.info("rejecting message from=%s,to=%s: overquota", envSender, rcptEmail);
-                        if (config.isPermanentFailureWhenOverQuota()) {
-                            reply = LmtpReply.PERMANENT_FAILURE_OVER_QUOTA;
-                        } else {
-                            reply = LmtpReply.TEMPORARY_FAILURE_OVER_QUOTA;
-                        }
-                    } else if (e.isReceiversFault()) {
-                        ZimbraLog.lmtp.info("try again for message from=%s,to=%s", envSender, rcptEmail, e);
-                        reply = LmtpReply.TEMPORARY_FAILURE;
-                    } else {
-                        ZimbraLog.lmtp.info("rejecting message from=%s,to=%s", envSender, rcptEmail, e);
-                        reply = LmtpReply.PERMANENT_FAILURE;
-                    }
-                } catch (Exception e) {
-                    reply = LmtpReply.TEMPORARY_FAILURE;
-                    ZimbraLog.lmtp.warn("try again for message from=%s,to=%s", envSender, rcptEmail, e);
-                } finally {
-                    if (rd.action == DeliveryAction.deliver && !success) {
-                        // Message was not delivered.  Remove it from the dedupe
-                        // cache so we don't dedupe it on LMTP retry.
-                        removeFromDedupeCache(msgId, rd.mbox);
-                    }
-                    recipient.setDeliveryStatus(reply);
-                    if (shared && rd != null && rd.esd) {
-                        rd.mbox.endSharedDelivery();
-                        rd.esd = false;
-                    }
+                    }));
+                } else {
+                    deliverToRecipient(recipient, rd, env, blob, sharedDeliveryCtxt, msgId, shared);
                 }
             }
+            for (Future<?> delivery : parallelDeliveries) {
+                try {
+                    Uninterruptibles.getUninterruptibly(delivery);
+                } catch (ExecutionException e) {
+                    ZimbraLog.lmtp.warn("unexpected error during parallel delivery", e.getCause());
+                }
+            }
+            if (shared) {
+                long fanoutElapsed = ZimbraPerf.STOPWATCH_LMTP_FANOUT.stop(fanoutStart);
+                ZimbraLog.lmtp.info("Delivered to %d recipients in %dms (%d in parallel)",
+                        recipients.size(), fanoutElapsed, parallelDeliveries.size());
+                ZimbraPerf.COUNTER_LMTP_FANOUT_PARALLEL_RCPT.increment(parallelDeliveries.size());
+            }
 
             // If this message is being streamed from disk, cache it
             ParsedMessage mimeSource = pmAttachIndex != null ? pmAttachIndex : pmNoAttachIndex;
@@ -739,6 +639,237 @@ public class ZimbraLmtpBackend implements LmtpBackend {
         }
     }
 
+    /**
+     * Delivers the message to a single local recipient and records the LMTP reply on
+     * the {@link LmtpAddress}.  May be called concurrently for different recipients of
+     * the same message once the shared blob has been stored.
+     */
+    private void deliverToRecipient(LmtpAddress recipient, RecipientDetail rd, LmtpEnvelope env, Blob blob,
+            DeliveryContext sharedDeliveryCtxt, String msgId, boolean shared) {
+        String envSender = env.getSender().getEmailAddress();
+        String rcptEmail = recipient.getEmailAddress();
+        LmtpReply reply = LmtpReply.TEMPORARY_FAILURE;
+        if (rd == null) {
+            // Account or mailbox not found.
+            ZimbraLog.lmtp.info("rejecting message from=%s,to=%s: account or mailbox not found",
+                    envSender, rcptEmail);
+            recipient.setDeliveryStatus(LmtpReply.PERMANENT_FAILURE);
+            return;
+        }
+        if (rd.account != null) {
+            ZimbraLog.addAccountNameToContext(rd.account.getName());
+        }
+        if (rd.mbox != null) {
+            ZimbraLog.addMboxToContext(rd.mbox.getId());
+        }
+
+        boolean success = false;
+        try {
+            switch (rd.action) {
+            case discard:
+                ZimbraLog.lmtp.info("accepted and discarded message from=%s,to=%s: local delivery is disabled",
+                        envSender, rcptEmail);
+                if (rd.account.getPrefMailForwardingAddress() != null) {
+                    // mail forwarding is set up
+                    for (LmtpCallback callback : callbacks) {
+                        ZimbraLog.lmtp.debug("Executing callback %s", callback.getClass().getName());
+                        callback.forwardWithoutDelivery(rd.account, rd.mbox, envSender, rcptEmail, rd.pm);
+                    }
+                }
+                reply = LmtpReply.DELIVERY_OK;
+                break;
+            case deliver:
+                Account account = rd.account;
+                Mailbox mbox = rd.mbox;
+                ParsedMessage pm = rd.pm;
+                List<ItemId> addedMessageIds = null;
+                ReentrantLock lock = mailboxDeliveryLocks.get(mbox.getId());
+                boolean acquiredLock;
+                try {
+                    // Wait for the lock, up to the timeout
+                    acquiredLock = lock.tryLock(LC.zimbra_mailbox_lock_timeout.intValue(), TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    acquiredLock = false;
+                }
+                if (!acquiredLock) {
+                    ZimbraLog.lmtp.info("try again for message from=%s,to=%s: another mail delivery in progress.",
+                            envSender, rcptEmail);
+                    reply = LmtpReply.TEMPORARY_FAILURE;
+                    break;
+                }
+                try {
+                    if (dedupe(pm, mbox)) {
+                        // message was already delivered to this mailbox
+                        ZimbraLog.lmtp.info("Not delivering message with duplicate Message-ID %s", pm.getMessageID());
+                    } else if (mbox.dedupeForSelfMsg(pm)) {
+                        ZimbraLog.mailbox.info("not delivering message, because it is a duplicate of sent message %s",
+                                pm.getMessageID());
+
+                    } else if (recipient.getSkipFilters()) {
+                        msgId = pm.getMessageID();
+                        int folderId = Mailbox.ID_FOLDER_INBOX;
+                        if (recipient.getFolder() != null) {
+                            try {
+                                Folder folder = mbox.getFolderByPath(null, recipient.getFolder());
+                                folderId = folder.getId();
+                            } catch (ServiceException se) {
+                                if (se.getCode().equals(MailServiceException.NO_SUCH_FOLDER)) {
+                                    Folder folder = mbox.createFolder(null, recipient.getFolder(),
+                                            new Folder.FolderOptions().setDefaultView(MailItem.Type.MESSAGE));
+                                    folderId = folder.getId();
+                                } else {
+                                    throw se;
+                                }
+                            }
+                        }
+                        int flags = Flag.BITMASK_UNREAD;
+                        if (recipient.getFlags() != null) {
+                            flags = Flag.toBitmask(recipient.getFlags());
+                        }
+                        DeliveryOptions dopt = new DeliveryOptions().setFolderId(folderId);
+                        dopt.setFlags(flags).setTags(recipient.getTags()).setRecipientEmail(rcptEmail);
+                        Message msg = mbox.addMessage(null, pm, dopt, sharedDeliveryCtxt);
+                        addedMessageIds = Lists.newArrayList(new ItemId(msg));
+                    } else if (!DebugConfig.disableIncomingFilter) {
+                        // Get msgid first, to avoid having to reopen and reparse the blob
+                        // file if Mailbox.addMessageInternal() closes it.
+                        pm.getMessageID();
+                        addedMessageIds = RuleManager.applyRulesToIncomingMessage(
+                                null, mbox, pm, (int) blob.getRawSize(), rcptEmail, env, sharedDeliveryCtxt,
+                                Mailbox.ID_FOLDER_INBOX, false, true);
+                    } else {
+                        pm.getMessageID();
+                        DeliveryOptions dopt = new DeliveryOptions().setFolderId(Mailbox.ID_FOLDER_INBOX);
+                        dopt.setFlags(Flag.BITMASK_UNREAD).setRecipientEmail(rcptEmail);
+                        Message msg = mbox.addMessage(null, pm, dopt, sharedDeliveryCtxt);
+                        addedMessageIds = Lists.newArrayList(new ItemId(msg));
+                    }
+                    success = true;
+                    if (addedMessageIds != null && addedMessageIds.size() > 0) {
+                        addToDedupeCache(pm, mbox);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+
+                if (addedMessageIds != null && addedMessageIds.size() > 0) {
+                    // Execute callbacks
+                    for (LmtpCallback callback : callbacks) {
+                        for (ItemId id : addedMessageIds) {
+                            if (id.belongsTo(mbox)) {
+                                // Message was added to the local mailbox, as opposed to a mountpoint.
+                                ZimbraLog.lmtp.debug("Executing callback %s", callback.getClass().getName());
+                                try {
+                                    Message msg = mbox.getMessageById(null, id.getId());
+                                    callback.afterDelivery(account, mbox, envSender, rcptEmail, msg);
+                                } catch (OutOfMemoryError oome) {
+                                    Zimbra.halt("LMTP callback failed", oome);
+                                } catch (Throwable t) {
+                                    ZimbraLog.lmtp.warn("LMTP callback threw an exception", t);
+                                }
+                            }
+                        }
+                    }
+                }
+                reply = LmtpReply.DELIVERY_OK;
+                break;
+            case defer:
+                // Delivery to mailbox skipped.  Let MTA retry again later.
+                // This case happens for shared delivery to a mailbox in
+                // backup mode.
+                ZimbraLog.lmtp.info("try again for message from=%s,to=%s: mailbox skipped",
+                        envSender, rcptEmail);
+                reply = LmtpReply.TEMPORARY_FAILURE;
+                break;
+            }
+        } catch (DeliveryServiceException e) {
+            ZimbraLog.lmtp.info("rejecting message from=%s,to=%s: sieve filter rule", envSender, rcptEmail);
+            reply = LmtpReply.PERMANENT_MESSAGE_REFUSED;
+        } catch (ServiceException e) {
+            if (e.getCode().equals(MailServiceException.QUOTA_EXCEEDED)) {
+                ZimbraLog.lmtp.info("rejecting message from=%s,to=%s: overquota", envSender, rcptEmail);
+                if (config.isPermanentFailureWhenOverQuota()) {
+                    reply = LmtpReply.PERMANENT_FAILURE_OVER_QUOTA;
+                } else {
+                    reply = LmtpReply.TEMPORARY_FAILURE_OVER_QUOTA;
+                }
+            } else if (e.isReceiversFault()) {
+                ZimbraLog.lmtp.info("try again for message from=%s,to=%s", envSender, rcptEmail, e);
+                reply = LmtpReply.TEMPORARY_FAILURE;
+            } else {
+                ZimbraLog.lmtp.info("rejecting message from=%s,to=%s", envSender, rcptEmail, e);
+                reply = LmtpReply.PERMANENT_FAILURE;
+            }
+        } catch (Exception e) {
+            reply = LmtpReply.TEMPORARY_FAILURE;
+            ZimbraLog.lmtp.warn("try again for message from=%s,to=%s", envSender, rcptEmail, e);
+        } finally {
+            if (rd.action == DeliveryAction.deliver && !success) {
+                // Message was not delivered.  Remove it from the dedupe
+                // cache so we don't dedupe it on LMTP retry.
+                removeFromDedupeCache(msgId, rd.mbox);
+            }
+            recipient.setDeliveryStatus(reply);
+            if (shared && rd != null && rd.esd) {
+                rd.mbox.endSharedDelivery();
+                rd.esd = false;
+            }
+        }
+    }
+
+    /**
+     * Parses the incoming message from the blob or its in-memory copy, never from the
+     * shared {@code MimeMessage}, which isn't safe to read from several threads.
+     */
+    private static ParsedMessage createParsedMessage(Blob blob, byte[] data, boolean attachmentIndexing)
+    throws ServiceException {
+        try {
+            ParsedMessageOptions pmo = new ParsedMessageOptions(blob, data);
+            return new ParsedMessage(pmo.setAttachmentIndexing(attachmentIndexing));
+        } catch (IOException e) {
+            throw ServiceException.FAILURE("unable to parse message from " + blob.getPath(), e);
+        }
+    }
+
+    /**
+     * Returns the number of threads to use for delivering to {@code targets} local
+     * mailboxes, or {@code 0} if the message should be delivered sequentially.
+     */
+    private static int getParallelDeliveryThreads(int targets) {
+        int threads = LC.zimbra_lmtp_parallel_delivery_threads.intValue();
+        if (threads <= 0 || targets < Math.max(2, LC.zimbra_lmtp_parallel_delivery_min_recipients.intValue())) {
+            return 0;
+        }
+        return threads;
+    }
+
+    /**
+     * Returns the parallel delivery pool, resized to {@code threads} if
+     * {@code zimbra_lmtp_parallel_delivery_threads} changed since the last delivery.
+     * The queue length is fixed when the pool is first created.
+     */
+    private static synchronized ExecutorService getDeliveryExecutor(int threads) {
+        if (deliveryExecutor != null && deliveryExecutor.getMaximumPoolSize() != threads) {
+            ZimbraLog.lmtp.info("Resizing parallel delivery pool from %d to %d threads",
+                    deliveryExecutor.getMaximumPoolSize(), threads);
+            if (threads > deliveryExecutor.getMaximumPoolSize()) {
+                deliveryExecutor.setMaximumPoolSize(threads);
+                deliveryExecutor.setCorePoolSize(threads);
+            } else {
+                deliveryExecutor.setCorePoolSize(threads);
+                deliveryExecutor.setMaximumPoolSize(threads);
+            }
+        } else if (deliveryExecutor == null) {
+            // Run the delivery on the LMTP thread itself if the pool is backed up, so that
+            // a burst of large fan-outs throttles the sessions that are causing it.
+            deliveryExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(threads * 4),
+                    new ThreadFactoryBuilder().setNameFormat("LmtpDelivery-%d").setDaemon(true).build(),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+        return deliveryExecutor;
+    }
+
     private void deliverMessageToRemoteMailboxes(Blob blob, byte[] data, LmtpEnvelope env) {
         Multimap<String, LmtpAddress> serverToRecipientsMap = env.getRemoteServerToRecipientsMap();
         for (String server : serverToRecipientsMap.keySet()) {
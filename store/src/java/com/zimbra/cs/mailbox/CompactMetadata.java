@@ -0,0 +1,444 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.mailbox;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact encoding of {@link Metadata}, used in place of BEncoding when writing item metadata.
+ * <p>
+ * The encoded form is still a string, since it is stored in the {@code metadata} text column and passed around in
+ * caches and redo logs as one, but it avoids the costs of decoding BEncoding:
+ * <ul>
+ *  <li>numbers and lengths are varints written 5 bits to a printable character, so there is no number to text
+ *  conversion;
+ *  <li>keys are references into a fixed dictionary of the well known metadata keys, which decode to the interned
+ *  key constants, and keys missing from it are listed once per map;
+ *  <li>each map carries its encoded length and its own keys, so nested maps are only decoded when they are read
+ *  and are copied as they are when an unread map is encoded again.
+ * </ul>
+ * Values decode to the same types BEncoding gives, {@code Long} for integral numbers and {@code String} for
+ * everything else that isn't a map or a list.
+ */
+final class CompactMetadata {
+
+    static final char PREFIX = '~';
+    static final char VERSION = '1';
+
+    /** never reorder or remove entries, only append - the position of a key is its encoding */
+    private static final String[] KEYS = {
+        "a", "acl", "aclm", "ad", "aid", "ais", "ape", "aps", "att", "c", "cif", "comp", "cr", "ct", "d", "das",
+        "wosd", "de", "dee", "do", "dt", "ast", "en", "f", "fld", "i4d", "i4du", "i4l", "i4r", "id", "idnt", "inv",
+        "l", "ld", "lo", "lst", "lt", "mseq", "nc", "no", "p", "prt", "q", "r", "rd", "rev", "rid", "rl", "rp",
+        "rs", "rt", "ruuid", "s", "sd", "sg", "rem", "sz", "t", "tzm", "u", "ua", "unxt", "url", "v", "mdver",
+        "ver", "vt", "ww", "X", "xd", "tp", "pid", "fid", "pfid", "idx", "imap", "loc", "dgst", "uc", "fg", "tg",
+        "sbj", "nm", "meta", "modm", "modc", "dc", "invChg", "calOwner", "apptRecur", "at", "n", "i", "size", "g",
+        "k", "e", "ie", "ge", "it", "af", "byme", "cat", "cl", "clSetByMe", "completed", "cmt", "contact", "desc",
+        "descH", "dinM", "frag", "dts", "duration", "et", "fb", "geo", "mid", "lastMod", "mthd", "numAt", "numCat",
+        "numCmt", "numContacts", "org", "isOrg", "ptst", "rsvp", "recurrence", "seq", "lfseq", "status", "st", "tr",
+        "prio", "pctcompl", "numAl", "al", "noidxmm", "cn", "sentby", "dir", "lang", "cut", "member", "delto",
+        "delfrom", "ac", "tt", "trd", "ta", "rc", "ds", "su", "attach", "nr", "rexd", "defdur", "dur", "recur",
+        "add", "sub", "invid", "rgtyp", "recurId", "numEx", "ex", "ca", "numX", "x", "tzid", "so", "d2ss", "s2ds",
+        "d2sr", "s2dr", "sn", "dn", "uri", "bin", "lat", "lon", "isrd", "numV", "dte", "m"
+    };
+
+    private static final Map<String, Integer> KEY_INDEX = new HashMap<String, Integer>(KEYS.length * 2);
+    static {
+        for (int i = 0; i < KEYS.length; i++) {
+            KEY_INDEX.put(KEYS[i], i);
+        }
+    }
+
+    private static final char MAP = 'd';
+    private static final char LIST = 'l';
+    private static final char NUMBER = 'i';
+    private static final char STRING = 's';
+
+    /** varint digits are '0' to 'O', digits followed by more digits have 32 added ('P' to 'o') */
+    private static final char DIGIT_BASE = '0';
+    private static final int DIGIT_BITS = 5;
+    private static final int DIGIT_MASK = (1 << DIGIT_BITS) - 1;
+    private static final int DIGIT_MORE = 1 << DIGIT_BITS;
+
+    private CompactMetadata() {
+    }
+
+    static boolean isEncoded(String encoded) {
+        return encoded != null && encoded.length() > 1 && encoded.charAt(0) == PREFIX;
+    }
+
+    static String encode(Map<?, ?> map) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(PREFIX).append(VERSION);
+        appendMap(sb, map);
+        return sb.toString();
+    }
+
+    static Map<String, Object> decode(String encoded) throws MailServiceException {
+        if (!isEncoded(encoded) || encoded.charAt(1) != VERSION) {
+            throw MailServiceException.INVALID_METADATA(encoded, null);
+        }
+        try {
+            Reader reader = new Reader(encoded, 2, encoded.length());
+            if (reader.next() != MAP) {
+                throw new IllegalArgumentException("metadata is not a map");
+            }
+            int length = reader.readLength();
+            if (reader.pos + length != encoded.length()) {
+                throw new IllegalArgumentException("metadata length mismatch");
+            }
+            // nested maps are decoded lazily, by callers that don't expect an error, so check them all now
+            new Reader(encoded, reader.pos, encoded.length()).checkMapContent();
+            return reader.readMapContent();
+        } catch (IllegalArgumentException e) {
+            throw MailServiceException.INVALID_METADATA(encoded, e);
+        } catch (IndexOutOfBoundsException e) {
+            throw MailServiceException.INVALID_METADATA(encoded, e);
+        }
+    }
+
+    private static void appendMap(StringBuilder sb, Map<?, ?> map) {
+        if (map instanceof LazyMap && !((LazyMap) map).isDecoded()) {
+            LazyMap lazy = (LazyMap) map;
+            sb.append(MAP);
+            appendVarint(sb, lazy.end - lazy.start);
+            sb.append(lazy.source, lazy.start, lazy.end);
+            return;
+        }
+
+        Map<String, Integer> localKeys = null;
+        int count = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                count++;
+                String key = entry.getKey().toString();
+                if (!KEY_INDEX.containsKey(key)) {
+                    if (localKeys == null) {
+                        localKeys = new LinkedHashMap<String, Integer>();
+                    }
+                    if (!localKeys.containsKey(key)) {
+                        localKeys.put(key, KEYS.length + localKeys.size());
+                    }
+                }
+            }
+        }
+
+        StringBuilder content = new StringBuilder(64);
+        if (localKeys == null) {
+            appendVarint(content, 0);
+        } else {
+            appendVarint(content, localKeys.size());
+            for (String key : localKeys.keySet()) {
+                appendString(content, key);
+            }
+        }
+        appendVarint(content, count);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                String key = entry.getKey().toString();
+                Integer index = KEY_INDEX.get(key);
+                appendVarint(content, index != null ? index : localKeys.get(key));
+                appendValue(content, entry.getValue());
+            }
+        }
+
+        sb.append(MAP);
+        appendVarint(sb, content.length());
+        sb.append(content);
+    }
+
+    private static void appendValue(StringBuilder sb, Object value) {
+        if (value instanceof Map) {
+            appendMap(sb, (Map<?, ?>) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            int count = 0;
+            for (Object element : list) {
+                if (element != null) {
+                    count++;
+                }
+            }
+            sb.append(LIST);
+            appendVarint(sb, count);
+            for (Object element : list) {
+                if (element != null) {
+                    appendValue(sb, element);
+                }
+            }
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            long number = ((Number) value).longValue();
+            sb.append(NUMBER);
+            appendVarint(sb, (number << 1) ^ (number >> 63));
+        } else {
+            sb.append(STRING);
+            appendString(sb, value.toString());
+        }
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        appendVarint(sb, value.length());
+        sb.append(value);
+    }
+
+    private static void appendVarint(StringBuilder sb, long value) {
+        while ((value & ~DIGIT_MASK) != 0) {
+            sb.append((char) (DIGIT_BASE + DIGIT_MORE + (value & DIGIT_MASK)));
+            value >>>= DIGIT_BITS;
+        }
+        sb.append((char) (DIGIT_BASE + value));
+    }
+
+    private static final class Reader {
+        private final String source;
+        private final int end;
+        private int pos;
+
+        Reader(String source, int start, int end) {
+            this.source = source;
+            this.pos = start;
+            this.end = end;
+        }
+
+        char next() {
+            if (pos >= end) {
+                throw new IllegalArgumentException("truncated metadata");
+            }
+            return source.charAt(pos++);
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+                int digit = next() - DIGIT_BASE;
+                if (digit < 0 || digit >= DIGIT_MORE * 2) {
+                    throw new IllegalArgumentException("invalid varint digit at " + (pos - 1));
+                }
+                value |= (long) (digit & DIGIT_MASK) << shift;
+                if (digit < DIGIT_MORE) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("varint too long at " + pos);
+        }
+
+        int readLength() {
+            long length = readVarint();
+            if (length < 0 || length > end - pos) {
+                throw new IllegalArgumentException("invalid length " + length + " at " + pos);
+            }
+            return (int) length;
+        }
+
+        String readString() {
+            int length = readLength();
+            String value = source.substring(pos, pos + length);
+            pos += length;
+            return value;
+        }
+
+        Map<String, Object> readMapContent() {
+            int numLocalKeys = readLength();
+            String[] localKeys = new String[numLocalKeys];
+            for (int i = 0; i < numLocalKeys; i++) {
+                localKeys[i] = readString();
+            }
+            int count = readLength();
+            Map<String, Object> map = new HashMap<String, Object>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                long index = readVarint();
+                String key;
+                if (index >= 0 && index < KEYS.length) {
+                    key = KEYS[(int) index];
+                } else if (index >= KEYS.length && index < KEYS.length + numLocalKeys) {
+                    key = localKeys[(int) index - KEYS.length];
+                } else {
+                    throw new IllegalArgumentException("invalid key reference " + index + " at " + pos);
+                }
+                map.put(key, readValue());
+            }
+            if (pos != end) {
+                throw new IllegalArgumentException("extra characters in metadata map at " + pos);
+            }
+            return map;
+        }
+
+        /**
+         * Walks the map content the way {@link #readMapContent} reads it, nested maps included, without building
+         * anything.
+         */
+        void checkMapContent() {
+            int numLocalKeys = readLength();
+            for (int i = 0; i < numLocalKeys; i++) {
+                pos += readLength();
+            }
+            int count = readLength();
+            for (int i = 0; i < count; i++) {
+                long index = readVarint();
+                if (index < 0 || index >= KEYS.length + numLocalKeys) {
+                    throw new IllegalArgumentException("invalid key reference " + index + " at " + pos);
+                }
+                checkValue();
+            }
+            if (pos != end) {
+                throw new IllegalArgumentException("extra characters in metadata map at " + pos);
+            }
+        }
+
+        private void checkValue() {
+            char type = next();
+            switch (type) {
+                case MAP:
+                    int length = readLength();
+                    new Reader(source, pos, pos + length).checkMapContent();
+                    pos += length;
+                    break;
+                case LIST:
+                    int count = readLength();
+                    for (int i = 0; i < count; i++) {
+                        checkValue();
+                    }
+                    break;
+                case NUMBER:
+                    readVarint();
+                    break;
+                case STRING:
+                    pos += readLength();
+                    break;
+                default:
+                    throw new IllegalArgumentException("invalid value type '" + type + "' at " + (pos - 1));
+            }
+        }
+
+        Object readValue() {
+            char type = next();
+            switch (type) {
+                case MAP:
+                    int length = readLength();
+                    int start = pos;
+                    pos += length;
+                    return new LazyMap(source, start, pos);
+                case LIST:
+                    int count = readLength();
+                    List<Object> list = new ArrayList<Object>(count);
+                    for (int i = 0; i < count; i++) {
+                        list.add(readValue());
+                    }
+                    return list;
+                case NUMBER:
+                    long value = readVarint();
+                    return Long.valueOf((value >>> 1) ^ -(value & 1));
+                case STRING:
+                    return readString();
+                default:
+                    throw new IllegalArgumentException("invalid value type '" + type + "' at " + (pos - 1));
+            }
+        }
+    }
+
+    /**
+     * A nested map, decoded the first time it is read. Until then, encoding it again copies the encoded form.
+     * {@link CompactMetadata#decode} has already checked the encoded form, so decoding it later doesn't fail.
+     */
+    static final class LazyMap extends AbstractMap<String, Object> {
+        private final String source;
+        private final int start;
+        private final int end;
+        private Map<String, Object> map;
+
+        LazyMap(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        boolean isDecoded() {
+            return map != null;
+        }
+
+        /**
+         * Returns a map with the same entries that shares the encoded form, so it is only decoded if it is read,
+         * but not the decoded one.
+         */
+        LazyMap copy() {
+            LazyMap copy = new LazyMap(source, start, end);
+            if (map != null) {
+                copy.map = new HashMap<String, Object>(map);
+            }
+            return copy;
+        }
+
+        private Map<String, Object> decoded() {
+            if (map == null) {
+                map = new Reader(source, start, end).readMapContent();
+            }
+            return map;
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            return decoded().entrySet();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return decoded().keySet();
+        }
+
+        @Override
+        public Collection<Object> values() {
+            return decoded().values();
+        }
+
+        @Override
+        public int size() {
+            return decoded().size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return decoded().containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return decoded().get(key);
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return decoded().put(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return decoded().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            decoded().clear();
+        }
+    }
+}
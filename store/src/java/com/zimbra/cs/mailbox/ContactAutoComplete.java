@@ -19,9 +19,12 @@ package com.zimbra.cs.mailbox;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -412,25 +415,49 @@ public class ContactAutoComplete {
     public AutoCompleteResult query(String str, Collection<Integer> folders, int limit) throws ServiceException {
         ZimbraLog.gal.debug("AutoComplete querying: %s", str);
         str = str.toLowerCase();
+        Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(getRequestedAcctId());
+        ContactAutoCompleteIndex contactIndex = mbox.getContactAutoCompleteIndex();
         AutoCompleteResult result = new AutoCompleteResult(limit);
-        result.rankings = new ContactRankings(getRequestedAcctId());
+        result.rankings = contactIndex.getRankings();
         if (limit <= 0) {
             return result;
         }
         Pair<List<Folder>, Map<ItemId, Mountpoint>> pFolders = getLocalRemoteContactFolders(folders);
         List<Folder> listFolders = pFolders.getFirst();
         Map<ItemId, Mountpoint> mountpoints = pFolders.getSecond();
-        final String searchContactFolderQuery = generateFolderQuery(listFolders);
 
         long t0 = System.currentTimeMillis();
-        //Search in ranking table first.
-        addExistingContactsFromRankingTable(str, searchContactFolderQuery, mountpoints, limit, result);
+        List<ContactAutoCompleteIndex.Entry> indexed = null;
+        List<Folder> remoteFolders = new ArrayList<Folder>();
+        if (!returnFullContactData) {
+            // local contacts come from the in-memory index, only shared address books need an index search
+            Set<Integer> localFolderIds = new HashSet<Integer>();
+            for (Folder folder : listFolders) {
+                if (folder instanceof Mountpoint) {
+                    remoteFolders.add(folder);
+                } else {
+                    localFolderIds.add(folder.getId());
+                }
+            }
+            indexed = contactIndex.search(tokenize(str), localFolderIds);
+        }
+        if (indexed != null) {
+            addIndexedContacts(str, indexed, result);
+        } else {
+            remoteFolders = listFolders;
+        }
         long t1 = System.currentTimeMillis();
 
-        // search other folders
-        if (result.entries.size() < limit) {
-            String query = searchContactFolderQuery + generateQuery(str);
-            queryFolders(str, query, mountpoints, limit, result);
+        if (!remoteFolders.isEmpty() && result.entries.size() < limit) {
+            final String searchContactFolderQuery = generateFolderQuery(remoteFolders);
+            //Search in ranking table first.
+            addExistingContactsFromRankingTable(str, searchContactFolderQuery, mountpoints, limit, result);
+
+            // search other folders
+            if (result.entries.size() < limit) {
+                String query = searchContactFolderQuery + generateQuery(str);
+                queryFolders(str, query, mountpoints, limit, result);
+            }
         }
         long t2 = System.currentTimeMillis();
 
@@ -440,11 +467,52 @@ public class ContactAutoComplete {
 
         long t3 = System.currentTimeMillis();
 
-        ZimbraLog.gal.info("autocomplete: overall=%dms, ranking=%dms, folder=%dms, gal=%dms",
+        ZimbraLog.gal.info("autocomplete: overall=%dms, index=%dms, folder=%dms, gal=%dms",
                 t3 - t0, t1 - t0, t2 - t1, t3 - t2);
         return result;
     }
 
+    /**
+     * Adds the contacts found in the in-memory index, ranked contacts first like the ranking table lookup does
+     * for index searches.
+     */
+    private void addIndexedContacts(String str, List<ContactAutoCompleteIndex.Entry> indexed,
+            final AutoCompleteResult result) {
+        final Map<ContactAutoCompleteIndex.Entry, Integer> rankings = new HashMap<ContactAutoCompleteIndex.Entry, Integer>();
+        for (ContactAutoCompleteIndex.Entry entry : indexed) {
+            int ranking = 0;
+            for (String emailKey : mEmailKeys) {
+                String email = entry.getFields().get(emailKey);
+                if (email != null) {
+                    ranking = Math.max(ranking, result.rankings.query(email));
+                }
+            }
+            rankings.put(entry, ranking);
+        }
+        List<ContactAutoCompleteIndex.Entry> sorted = new ArrayList<ContactAutoCompleteIndex.Entry>(indexed);
+        Collections.sort(sorted, new Comparator<ContactAutoCompleteIndex.Entry>() {
+            @Override
+            public int compare(ContactAutoCompleteIndex.Entry e1, ContactAutoCompleteIndex.Entry e2) {
+                return rankings.get(e2) - rankings.get(e1);
+            }
+        });
+        for (ContactAutoCompleteIndex.Entry entry : sorted) {
+            addMatchedContacts(str, entry.getFields(), entry.getFolderId(),
+                    new ItemId(getRequestedAcctId(), entry.getId()), result);
+            if (!result.canBeCached) {
+                return;
+            }
+        }
+    }
+
+    private static List<String> tokenize(String query) {
+        List<String> tokens = Lists.newArrayListWithExpectedSize(1);
+        for (String token : TOKEN_SPLITTER.split(query)) {
+            tokens.add(token.toLowerCase());
+        }
+        return tokens;
+    }
+
     /**
      * ranking table and local contact matches don't have group indicator persisted on them,
      * cross-ref GAL to check if the address is a group.
@@ -674,10 +742,7 @@ public class ContactAutoComplete {
             return;
         }
 
-        List<String> tokens = Lists.newArrayListWithExpectedSize(1);
-        for (String token : TOKEN_SPLITTER.split(query)) {
-            tokens.add(token.toLowerCase());
-        }
+        List<String> tokens = tokenize(query);
 
         if (!Contact.isGroup(attrs) || folderId == FOLDER_ID_GAL) {
             // 
@@ -0,0 +1,390 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.mailbox;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.mailbox.BaseItemInfo;
+import com.zimbra.common.mailbox.ContactConstants;
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.common.util.ZimbraLog;
+import com.zimbra.cs.mailbox.MailboxListener.ChangeNotification;
+import com.zimbra.cs.session.PendingModifications.Change;
+import com.zimbra.cs.session.PendingModifications.ModificationKey;
+
+/**
+ * In-memory prefix index over the names and email addresses of the contacts in a mailbox.
+ * <p>
+ * {@link ContactAutoComplete} uses it to find the local contacts matching a query without an index search. The
+ * index is loaded on first use and then kept up to date by {@link Listener}. It lives as long as its
+ * {@link Mailbox}, and is not used for mailboxes with more than {@code contact_autocomplete_index_max_contacts}
+ * contacts, in which case auto-complete falls back to index searches.
+ * <p>
+ * The cached {@link ContactRankings} of the mailbox are kept here as well, so that a keystroke doesn't have to
+ * read them from the database.
+ */
+public final class ContactAutoCompleteIndex {
+
+    private static final Splitter TOKEN_SPLITTER = Splitter.on(CharMatcher.whitespace()).omitEmptyStrings();
+
+    /** fields {@link ContactAutoComplete} matches query tokens against */
+    private static final Set<String> NAME_FIELDS = ImmutableSet.of(
+            ContactConstants.A_firstName, ContactConstants.A_middleName, ContactConstants.A_lastName,
+            ContactConstants.A_fullName, ContactConstants.A_nickname,
+            ContactConstants.A_phoneticFirstName, ContactConstants.A_phoneticLastName);
+
+    /** other fields {@link ContactAutoComplete} needs to build its result */
+    private static final Set<String> OTHER_FIELDS = ImmutableSet.of(
+            ContactConstants.A_type, ContactConstants.A_company, ContactConstants.A_fileAs);
+
+    private final Mailbox mailbox;
+    private final int maxContacts = LC.contact_autocomplete_index_max_contacts.intValue();
+
+    // all guarded by this
+    private Map<Integer, Entry> entries;
+    private final TreeMap<String, Set<Integer>> prefixes = new TreeMap<String, Set<Integer>>();
+    private int loadedChangeId;
+    private boolean loading;
+    private boolean disabled;
+    private List<ChangeNotification> pending;
+    private ContactRankings rankings;
+    private int rankingsVersion;
+
+    ContactAutoCompleteIndex(Mailbox mbox) {
+        mailbox = mbox;
+        disabled = maxContacts <= 0;
+    }
+
+    /**
+     * A contact as seen by auto-complete: its id, folder, and the fields used for matching.
+     */
+    public static final class Entry {
+        private final int id;
+        private final int folderId;
+        private final int modSequence;
+        private final Map<String, String> fields;
+
+        Entry(Contact contact) {
+            id = contact.getId();
+            folderId = contact.getFolderId();
+            modSequence = contact.getModifiedSequence();
+            Map<String, String> all = contact.getFields();
+            Map<String, String> kept = new HashMap<String, String>();
+            for (Map.Entry<String, String> field : all.entrySet()) {
+                String name = field.getKey();
+                String value = field.getValue();
+                if (value != null && (NAME_FIELDS.contains(name) || OTHER_FIELDS.contains(name) || isEmail(value))) {
+                    kept.put(name, value);
+                }
+            }
+            fields = Collections.unmodifiableMap(kept);
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public int getFolderId() {
+            return folderId;
+        }
+
+        public Map<String, String> getFields() {
+            return fields;
+        }
+
+        /** Returns the lower-cased strings a query token must be a prefix of for this contact to match. */
+        Set<String> getKeys() {
+            Set<String> keys = new HashSet<String>();
+            for (Map.Entry<String, String> field : fields.entrySet()) {
+                String value = field.getValue().toLowerCase();
+                if (NAME_FIELDS.contains(field.getKey())) {
+                    keys.add(value);
+                    for (String token : TOKEN_SPLITTER.split(value)) {
+                        keys.add(token);
+                    }
+                } else if (isEmail(value)) {
+                    keys.add(value);
+                }
+            }
+            return keys;
+        }
+
+        private static boolean isEmail(String value) {
+            return value.indexOf('@') >= 0;
+        }
+    }
+
+    /**
+     * Returns the contacts in the given folders that have a name or email address starting with each of the
+     * tokens, or <tt>null</tt> if the index is not available and the caller must search the mailbox index.
+     * The result is a superset of the actual matches; it's up to the caller to apply the matching rules.
+     *
+     * @param tokens lower-cased query tokens
+     */
+    public List<Entry> search(List<String> tokens, Collection<Integer> folderIds) {
+        if (tokens.isEmpty() || !load()) {
+            return null;
+        }
+        List<Entry> result = new ArrayList<Entry>();
+        synchronized (this) {
+            if (entries == null) {
+                return null;
+            }
+            Set<Integer> ids = null;
+            for (String token : tokens) {
+                Set<Integer> matches = new HashSet<Integer>();
+                for (Set<Integer> keyIds : prefixes.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                    matches.addAll(keyIds);
+                }
+                if (ids == null) {
+                    ids = matches;
+                } else {
+                    ids.retainAll(matches);
+                }
+                if (ids.isEmpty()) {
+                    break;
+                }
+            }
+            for (int id : ids) {
+                Entry entry = entries.get(id);
+                if (folderIds.contains(entry.folderId)) {
+                    result.add(entry);
+                }
+            }
+        }
+        Collections.sort(result, new Comparator<Entry>() {
+            @Override
+            public int compare(Entry e1, Entry e2) {
+                return e1.id - e2.id;
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the contact rankings of the mailbox, reading them from the database only after they changed.
+     */
+    public ContactRankings getRankings() throws ServiceException {
+        int version;
+        synchronized (this) {
+            if (rankings != null) {
+                return rankings;
+            }
+            version = rankingsVersion;
+        }
+        ContactRankings loaded = new ContactRankings(mailbox.getAccountId());
+        synchronized (this) {
+            if (version == rankingsVersion) {
+                rankings = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the cached contact rankings.  Called whenever the rankings are written to the database.
+     */
+    synchronized void rankingsChanged() {
+        rankings = null;
+        rankingsVersion++;
+    }
+
+    /**
+     * Loads the index unless it's already loaded.  The contacts are read under the mailbox lock, and notifications
+     * arriving in the meantime are applied afterwards.
+     *
+     * @return <tt>true</tt> if the index is loaded
+     */
+    private boolean load() {
+        synchronized (this) {
+            if (entries != null || disabled) {
+                return entries != null;
+            } else if (loading) {
+                return false;
+            }
+            loading = true;
+            pending = new ArrayList<ChangeNotification>();
+        }
+
+        long start = System.currentTimeMillis();
+        Map<Integer, Entry> loaded = null;
+        int changeId = 0;
+        boolean tooMany = false;
+        try {
+            mailbox.lock.lock(false);
+            try {
+                if (mailbox.getContactCount() > maxContacts) {
+                    tooMany = true;
+                } else {
+                    changeId = mailbox.getLastChangeID();
+                    loaded = new HashMap<Integer, Entry>();
+                    for (MailItem item : mailbox.getItemList(null, MailItem.Type.CONTACT)) {
+                        loaded.put(item.getId(), new Entry((Contact) item));
+                    }
+                }
+            } finally {
+                mailbox.lock.release();
+            }
+        } catch (ServiceException e) {
+            ZimbraLog.gal.warn("unable to load contact auto-complete index", e);
+        }
+
+        synchronized (this) {
+            List<ChangeNotification> notifications = pending;
+            pending = null;
+            loading = false;
+            if (loaded == null) {
+                if (tooMany) {
+                    ZimbraLog.gal.info("not indexing contacts for auto-complete, more than %d contacts", maxContacts);
+                    disabled = true;
+                }
+                return false;
+            }
+            entries = new HashMap<Integer, Entry>();
+            loadedChangeId = changeId;
+            for (Entry entry : loaded.values()) {
+                add(entry);
+            }
+            for (ChangeNotification notification : notifications) {
+                apply(notification);
+            }
+            ZimbraLog.gal.debug("loaded contact auto-complete index with %d contacts, %d keys in %dms",
+                    entries.size(), prefixes.size(), System.currentTimeMillis() - start);
+            return entries != null;
+        }
+    }
+
+    synchronized void notify(ChangeNotification notification) {
+        if (entries != null) {
+            apply(notification);
+        } else if (loading) {
+            pending.add(notification);
+        }
+    }
+
+    private void apply(ChangeNotification notification) {
+        if (notification.lastChangeId <= loadedChangeId) {
+            return; // already loaded
+        }
+        if (notification.mods.created != null) {
+            for (BaseItemInfo item : notification.mods.created.values()) {
+                if (item instanceof Contact) {
+                    update((Contact) item);
+                }
+            }
+        }
+        if (notification.mods.modified != null) {
+            for (Change change : notification.mods.modified.values()) {
+                if (change.what instanceof Contact) {
+                    update((Contact) change.what);
+                }
+            }
+        }
+        if (notification.mods.deleted != null) {
+            for (Map.Entry<ModificationKey, Change> deleted : notification.mods.deleted.entrySet()) {
+                if (deleted.getValue().what == MailItem.Type.CONTACT) {
+                    remove(deleted.getKey().getItemId());
+                }
+            }
+        }
+        if (entries.size() > maxContacts) {
+            ZimbraLog.gal.info("dropping contact auto-complete index, more than %d contacts", maxContacts);
+            entries = null;
+            prefixes.clear();
+            disabled = true;
+        }
+    }
+
+    private void update(Contact contact) {
+        Entry old = entries.get(contact.getId());
+        if (old != null) {
+            if (old.modSequence > contact.getModifiedSequence()) {
+                return; // out of order notification
+            }
+            remove(contact.getId());
+        }
+        add(new Entry(contact));
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.id, entry);
+        for (String key : entry.getKeys()) {
+            Set<Integer> ids = prefixes.get(key);
+            if (ids == null) {
+                ids = new HashSet<Integer>(2);
+                prefixes.put(key, ids);
+            }
+            ids.add(entry.id);
+        }
+    }
+
+    private void remove(int id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String key : entry.getKeys()) {
+            Set<Integer> ids = prefixes.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    prefixes.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps the contact auto-complete index of cached mailboxes up to date.
+     */
+    public static class Listener extends MailboxListener {
+
+        private static final Set<MailItem.Type> TYPES = Collections.singleton(MailItem.Type.CONTACT);
+
+        @Override
+        public Set<MailItem.Type> registerForItemTypes() {
+            return TYPES;
+        }
+
+        @Override
+        public void notify(ChangeNotification notification) {
+            try {
+                Mailbox mbox = MailboxManager.getInstance().getMailboxByAccountId(
+                        notification.mailboxAccount.getId(), MailboxManager.FetchMode.ONLY_IF_CACHED, true);
+                if (mbox != null) {
+                    mbox.getContactAutoCompleteIndex().notify(notification);
+                }
+            } catch (Exception e) {
+                ZimbraLog.gal.warn("unable to update contact auto-complete index", e);
+            }
+        }
+    }
+}
@@ -184,6 +184,7 @@ public class ContactRankings {
             config.put(entry.mEmail, m);
         }
         mbox.setConfig(null, CONFIG_KEY_CONTACT_RANKINGS, config);
+        mbox.getContactAutoCompleteIndex().rankingsChanged();
         dump("writing");
     }
     private synchronized TreeSet<ContactEntry> get(String str) {
@@ -308,10 +308,12 @@ public class Conversation extends MailItem {
 
     void open(String hash) throws ServiceException {
         DbMailItem.openConversation(hash, this);
+        mMailbox.getThreadHashIndex().add(hash);
     }
 
     void close(String hash) throws ServiceException {
         DbMailItem.closeConversation(hash, this);
+        mMailbox.getThreadHashIndex().remove(hash);
     }
 
     @Override
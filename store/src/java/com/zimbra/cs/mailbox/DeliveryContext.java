@@ -21,6 +21,7 @@
 package com.zimbra.cs.mailbox;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,14 +36,17 @@ import com.zimbra.cs.store.MailboxBlob;
  * 
  * This class is used to carry information across multiple calls to
  * Mailbox.addMessage() for a single message being delivered.
+ *
+ * Once the first delivery has stored the shared blob, the remaining
+ * mailboxes may be delivered to concurrently using the same context.
  */
 public class DeliveryContext {
 
     private boolean mShared;
-    private Blob mIncomingBlob;
-    private MailboxBlob mMailboxBlob;
+    private volatile Blob mIncomingBlob;
+    private volatile MailboxBlob mMailboxBlob;
     private List<Integer> mMailboxIdList;
-    private boolean mIsFirst = true;
+    private volatile boolean mIsFirst = true;
     private Map <Integer,Blob> mailBoxBlobMap;
 
     /**
@@ -64,7 +68,7 @@ public class DeliveryContext {
         mMailboxBlob = null;
         mMailboxIdList = mboxIdList;
         if (mShared) {
-            mailBoxBlobMap =  new HashMap<Integer,Blob>();
+            mailBoxBlobMap = Collections.synchronizedMap(new HashMap<Integer,Blob>());
         }
     }
 
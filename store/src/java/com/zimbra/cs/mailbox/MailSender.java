@@ -84,6 +84,7 @@ import com.zimbra.cs.util.AccountUtil;
 import com.zimbra.cs.util.AccountUtil.AccountAddressMatcher;
 import com.zimbra.cs.util.BuildInfo;
 import com.zimbra.cs.util.JMSession;
+import com.zimbra.cs.util.SmtpTransportPool;
 
 public class MailSender {
 
@@ -1277,6 +1278,17 @@ public class MailSender {
         }
         ZimbraLog.smtp.debug("Sending message %s to SMTP host %s with properties: %s",
                              mm.getMessageID(), hostname, mSession.getProperties());
+        if (SmtpTransportPool.isEnabled() && !mSession.getDebug()) {
+            SmtpTransportPool.PooledTransport transport = SmtpTransportPool.getInstance().borrow(mSession, hostname);
+            boolean reusable = false;
+            try {
+                transport.sendMessage(mm, rcptAddresses, mSession.getProperty("mail.smtp.from"));
+                reusable = true;
+            } finally {
+                transport.release(reusable);
+            }
+            return;
+        }
         Transport transport = mSession.getTransport("smtp");
         try {
             transport.connect();
@@ -42,6 +42,7 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
@@ -752,6 +753,9 @@ public class Mailbox implements MailboxStore {
     private final Map<String, Integer> mSentMessageIDs = new ConcurrentLinkedHashMap.Builder<String, Integer>()
                     .maximumWeightedCapacity(MAX_MSGID_CACHE).build();
 
+    private final ContactAutoCompleteIndex contactAutoCompleteIndex = new ContactAutoCompleteIndex(this);
+    private final ThreadHashIndex threadHashIndex = new ThreadHashIndex(this);
+
     private MailboxMaintenance maintenance;
     private volatile boolean open = false;
     private boolean galSyncMailbox = false;
@@ -774,6 +778,14 @@ public class Mailbox implements MailboxStore {
         return galSyncMailbox;
     }
 
+    ContactAutoCompleteIndex getContactAutoCompleteIndex() {
+        return contactAutoCompleteIndex;
+    }
+
+    ThreadHashIndex getThreadHashIndex() {
+        return threadHashIndex;
+    }
+
     boolean isOpen() {
         return open;
     }
@@ -2431,6 +2443,35 @@ public class Mailbox implements MailboxStore {
         }
     }
 
+    /**
+     * Points the items and revisions whose blobs have been copied to another volume at
+     * <tt>locator</tt>, in one transaction.  Only the database is changed; the caller copies the
+     * blobs beforehand, without holding the mailbox lock, and deletes the old ones afterwards.
+     *
+     * @return the blobs that were relocated.  A blob whose item was changed or deleted after it
+     *         was copied is left out, and its copy should be deleted.
+     */
+    public List<MailboxBlob.MailboxBlobInfo> relocateBlobs(List<MailboxBlob.MailboxBlobInfo> blobs, String locator)
+    throws ServiceException {
+        List<MailboxBlob.MailboxBlobInfo> relocated = new ArrayList<MailboxBlob.MailboxBlobInfo>(blobs.size());
+        boolean success = false;
+        try {
+            beginTransaction("relocateBlobs", null);
+            DbConnection conn = getOperationConnection();
+            for (MailboxBlob.MailboxBlobInfo info : blobs) {
+                if (DbMailItem.updateLocator(conn, this, info.itemId, info.revision, info.locator, locator) > 0) {
+                    // cached items still point at the old volume
+                    uncacheItem(info.itemId);
+                    relocated.add(info);
+                }
+            }
+            success = true;
+        } finally {
+            endTransaction(success);
+        }
+        return relocated;
+    }
+
     public void deleteMailbox() throws ServiceException {
         deleteMailbox(DeleteBlobs.ALWAYS);
     }
@@ -4673,8 +4714,13 @@ public class Mailbox implements MailboxStore {
             return conv;
         }
 
+        if (!threadHashIndex.mightContain(hash)) {
+            return null;
+        }
+
         // XXX: why not just do a "getConversationById()" if convId != null?
         MailItem.UnderlyingData data = DbMailItem.getByHash(this, hash);
+        threadHashIndex.recordLookup(data != null);
         if (data == null || data.type == MailItem.Type.CONVERSATION.toByte()) {
             return getConversation(data);
         }
@@ -9003,6 +9049,14 @@ public class Mailbox implements MailboxStore {
      * messages to purge in any folder exceeded {@code maxItemsPerFolder}.
      */
     public boolean purgeMessages(OperationContext octxt) throws ServiceException {
+        return purgeMessages(octxt, null);
+    }
+
+    /**
+     * Same as {@link #purgeMessages(OperationContext)}, and also adds the number of purged items to
+     * {@code numPurgedTotal} if it's not {@code null}.
+     */
+    public boolean purgeMessages(OperationContext octxt, AtomicInteger numPurgedTotal) throws ServiceException {
         Account acct = getAccount();
         int maxItemsPerFolder = Provisioning.getInstance().getLocalServer().getMailPurgeBatchSize();
         if (ZimbraLog.purge.isDebugEnabled()) {
@@ -9072,47 +9126,56 @@ public class Mailbox implements MailboxStore {
             Folder inbox = getFolderById(ID_FOLDER_INBOX);
 
             boolean purgedAll = true;
+            int purged = 0;
 
             if (globalTimeout > 0) {
                 int numPurged = Folder.purgeMessages(this, null, getOperationTimestampMillis() - globalTimeout, null, false, false, maxItemsPerFolder);
                 ZimbraLog.purge.debug("Purged %d messages from All Folders", numPurged);
+                purged += numPurged;
                 purgedAll = updatePurgedAll(purgedAll, numPurged, maxItemsPerFolder);
             }
             if (trashTimeout > 0) {
                 boolean useChangeDate = acct.getBooleanAttr(Provisioning.A_zimbraMailPurgeUseChangeDateForTrash, true);
                 int numPurged = Folder.purgeMessages(this, trash, getOperationTimestampMillis() - trashTimeout, null, useChangeDate, true, maxItemsPerFolder);
                 ZimbraLog.purge.debug("Purged %d messages from Trash", numPurged);
+                purged += numPurged;
                 purgedAll = updatePurgedAll(purgedAll, numPurged, maxItemsPerFolder);
             }
             if (spamTimeout > 0) {
                 boolean useChangeDate = acct.isMailPurgeUseChangeDateForSpam();
                 int numPurged = Folder.purgeMessages(this, spam, getOperationTimestampMillis() - spamTimeout, null, useChangeDate, false, maxItemsPerFolder);
+                purged += numPurged;
                 purgedAll = updatePurgedAll(purgedAll, numPurged, maxItemsPerFolder);
                 ZimbraLog.purge.debug("Purged %d messages from Spam", numPurged);
             }
             if (userInboxReadTimeout > 0) {
                 int numPurged = Folder.purgeMessages(this, inbox, getOperationTimestampMillis() - userInboxReadTimeout, false, false, false, maxItemsPerFolder);
+                purged += numPurged;
                 purgedAll = updatePurgedAll(purgedAll, numPurged, maxItemsPerFolder);
                 ZimbraLog.purge.debug("Purged %d read messages from Inbox", numPurged);
             }
             if (userInboxUnreadTimeout > 0) {
                 int numPurged = Folder.purgeMessages(this, inbox, getOperationTimestampMillis() - userInboxUnreadTimeout, true, false, false, maxItemsPerFolder);
+                purged += numPurged;
                 purgedAll = updatePurgedAll(purgedAll, numPurged, maxItemsPerFolder);
                 ZimbraLog.purge.debug("Purged %d unread messages from Inbox", numPurged);
             }
             if (userSentTimeout > 0) {
                 int numPurged = Folder.purgeMessages(this, sent, getOperationTimestampMillis() - userSentTimeout, null, false, false, maxItemsPerFolder);
+                purged += numPurged;
                 purgedAll = updatePurgedAll(purgedAll, numPurged, maxItemsPerFolder);
                 ZimbraLog.purge.debug("Purged %d messages from Sent", numPurged);
             }
             if (systemDumpsterTimeoutMillis > 0) {
                 int numPurged = purgeDumpster(getOperationTimestampMillis() - systemDumpsterTimeoutMillis, maxItemsPerFolder);
                 ZimbraLog.purge.debug("Purged %d messages from Dumpster", numPurged);
+                purged += numPurged;
                 purgedAll = updatePurgedAll(purgedAll, numPurged, maxItemsPerFolder);
             }
 
             if (userFileVersioningEnabled && userFileVersionLifeTime > 0) {
                 int numPurged = MailItem.purgeRevisions(this, getOperationTimestampMillis() - userFileVersionLifeTime);
+                purged += numPurged;
                 ZimbraLog.purge.debug("Purged %d revisions", numPurged);
             }
             // Process any folders that have retention policy set.
@@ -9130,6 +9193,7 @@ public class Mailbox implements MailboxStore {
 
                     long folderTimeout = getOperationTimestampMillis() - folderLifetime;
                     int numPurged = Folder.purgeMessages(this, folder, folderTimeout, null, false, false, maxItemsPerFolder);
+                    purged += numPurged;
                     purgedAll = updatePurgedAll(purgedAll, numPurged, maxItemsPerFolder);
                 }
             }
@@ -9151,6 +9215,7 @@ public class Mailbox implements MailboxStore {
                     MailItem.delete(this, info, null, false, false);
                     List<Integer> ids = info.itemIds.getIds(MailItem.Type.MESSAGE);
                     int numPurged = (ids == null ? 0 : ids.size());
+                    purged += numPurged;
                     purgedAll = updatePurgedAll(purgedAll, numPurged, maxItemsPerFolder);
                 }
             }
@@ -9181,6 +9246,9 @@ public class Mailbox implements MailboxStore {
             }
 
             success = true;
+            if (numPurgedTotal != null) {
+                numPurgedTotal.addAndGet(purged);
+            }
             ZimbraLog.purge.debug("purgedAll=%b", purgedAll);
             return purgedAll;
         } finally {
@@ -9995,6 +10063,7 @@ public class Mailbox implements MailboxStore {
         if (change == null) {
             return;
         }
+        threadHashIndex.commit();
         ChangeNotification notification = null;
 
         // save for notifications (below)
@@ -10116,6 +10185,8 @@ public class Mailbox implements MailboxStore {
                 }
             }
 
+            threadHashIndex.rollback();
+
             // roll back any changes to external items
             List<Object> deletes = new ArrayList<Object>(change.otherDirtyStuff.size());
             for (Object obj : change.otherDirtyStuff) {
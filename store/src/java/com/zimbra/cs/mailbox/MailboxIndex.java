@@ -166,12 +166,7 @@ public final class MailboxIndex {
         Set<MailItem.Type> types = toIndexTypes(params.getTypes());
         // no need to index if the search doesn't involve Lucene
         if (!params.isQuick() && query.hasTextOperation() && getDeferredCount(types) > 0) {
-            try {
-                // don't wait if an indexing is in progress by other thread
-                indexDeferredItems(types, new BatchStatus(), false);
-            } catch (ServiceException e) {
-                ZimbraLog.index.error("Failed to index deferred items", e);
-            }
+            flushDeferredItems(types);
         }
         return search(query);
     }
@@ -254,7 +249,7 @@ public final class MailboxIndex {
 
         ZimbraQueryResults results = zq.execute();
         if (isTaskSort || isReadSort) {
-            results = new ReSortingQueryResults(results, originalSort, null);
+            results = new ReSortingQueryResults(results, originalSort, params);
         }
         if (isLocalizedSort) {
             results = new ReSortingQueryResults(results, originalSort, params);
@@ -268,11 +263,7 @@ public final class MailboxIndex {
     public boolean existsInContacts(Collection<InternetAddress> addrs) throws IOException {
         Set<MailItem.Type> types = EnumSet.of(MailItem.Type.CONTACT);
         if (getDeferredCount(types) > 0) {
-            try {
-                indexDeferredItems(types, new BatchStatus(), false);
-            } catch (ServiceException e) {
-                ZimbraLog.index.error("Failed to index deferred items", e);
-            }
+            flushDeferredItems(types);
         }
 
         try (ZimbraIndexSearcher searcher = indexStore.openSearcher()) {
@@ -383,6 +374,27 @@ public final class MailboxIndex {
                 getDeferredCount(EnumSet.noneOf(MailItem.Type.class)));
     }
 
+    /**
+     * Makes deferred items searchable before a search. If the index store keeps its searchers up to date in the
+     * background (NRT), the items are handed to an index thread instead of being indexed by the searching thread.
+     * Either way, an indexing already in progress by another thread isn't waited for.
+     */
+    private void flushDeferredItems(Set<MailItem.Type> types) {
+        if (indexStore.isNearRealTime()) {
+            try {
+                INDEX_EXECUTOR.submit(new BatchIndexTask());
+                return;
+            } catch (RejectedExecutionException e) {
+                ZimbraLog.index.debug("All index threads are busy, indexing deferred items in foreground");
+            }
+        }
+        try {
+            indexDeferredItems(types, new BatchStatus(), false);
+        } catch (ServiceException e) {
+            ZimbraLog.index.error("Failed to index deferred items", e);
+        }
+    }
+
     /**
      * Index deferred items.
      *
@@ -96,6 +96,7 @@ public abstract class MailboxListener {
         register(new FreeBusyProvider.Listener());
         register(new DataSourceFolderListener());
         register(new ShareStartStopListener());
+        register(new ContactAutoCompleteIndex.Listener());
         if (application.supports(AclPushListener.class)) {
             register(new AclPushListener());
         }
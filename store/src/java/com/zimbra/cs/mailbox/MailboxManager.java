@@ -19,17 +19,21 @@ package com.zimbra.cs.mailbox;
 import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.zimbra.common.account.Key.AccountBy;
 import com.zimbra.common.localconfig.DebugConfig;
 import com.zimbra.common.localconfig.LC;
@@ -143,7 +147,7 @@ public class MailboxManager {
 
     /** Maps account IDs (<code>String</code>s) to mailbox IDs
      *  (<code>Integer</code>s).  <i>Every</i> mailbox in existence on the
-     *  server appears in this mapping. */
+     *  server appears in this mapping.  Reads don't take the manager lock. */
     private Map<String, Integer> mailboxIds;
 
     /**
@@ -156,15 +160,21 @@ public class MailboxManager {
      * Mailboxes are faulted into memory as needed, but may drop from memory when the SoftReference expires due to
      * memory pressure combined with a lack of outstanding references to the {@link Mailbox}.  Only one {@link Mailbox}
      * per user is cached, and only that {@link Mailbox} can process user requests.
+     * <p>
+     * Lookups are lock-free; changes to an entry are still made while holding the manager lock so that the
+     * maintenance transitions and the post-load re-check stay atomic with respect to each other.
      */
     private MailboxMap cache;
 
+    /** Mailbox loads in progress, so that concurrent cache misses on one mailbox share a single database fetch. */
+    private final ConcurrentMap<Integer, MailboxLoad> loading = new ConcurrentHashMap<Integer, MailboxLoad>();
+
     public MailboxManager() throws ServiceException {
         DbConnection conn = null;
         synchronized (this) {
             try {
                 conn = DbPool.getConnection();
-                mailboxIds = DbMailbox.listMailboxes(conn, this);
+                mailboxIds = new ConcurrentHashMap<String, Integer>(DbMailbox.listMailboxes(conn, this));
                 cache = createCache();
             } finally {
                 DbPool.quietClose(conn);
@@ -356,10 +366,7 @@ public class MailboxManager {
         if (accountId == null)
             throw new IllegalArgumentException();
 
-        Integer mailboxKey;
-        synchronized (this) {
-            mailboxKey = mailboxIds.get(accountId.toLowerCase());
-        }
+        Integer mailboxKey = mailboxIds.get(accountId.toLowerCase());
         if (mailboxKey != null) {
             if (DebugConfig.mockMultiserverInstall)
                 lookupAccountWithHostCheck(accountId, skipMailHostCheck);
@@ -370,9 +377,7 @@ public class MailboxManager {
 
         // auto-create the mailbox if this is the right host...
         Account account = lookupAccountWithHostCheck(accountId, skipMailHostCheck);
-        synchronized (this) {
-            mailboxKey = mailboxIds.get(accountId.toLowerCase());
-        }
+        mailboxKey = mailboxIds.get(accountId.toLowerCase());
         if (mailboxKey != null)
             return getMailboxById(mailboxKey, fetchMode, skipMailHostCheck);
         else
@@ -451,13 +456,11 @@ public class MailboxManager {
         long startTime = ZimbraPerf.STOPWATCH_MBOX_GET.start();
 
         Mailbox mbox = null;
-        synchronized (this) {
-            // check to see if the mailbox has already been cached
-            Object cached = retrieveFromCache(mailboxId, true);
-            if (cached instanceof Mailbox) {
-                ZimbraPerf.COUNTER_MBOX_CACHE.increment(100);
-                mbox = (Mailbox) cached;
-            }
+        // check to see if the mailbox has already been cached
+        Object cached = retrieveFromCache(mailboxId, true);
+        if (cached instanceof Mailbox) {
+            ZimbraPerf.COUNTER_MBOX_CACHE.increment(100);
+            mbox = (Mailbox) cached;
         }
 
         if (fetchMode == FetchMode.ONLY_IF_CACHED && (mbox == null || !mbox.isOpen())) {
@@ -467,22 +470,8 @@ public class MailboxManager {
 
         if (mbox == null) { // not found in cache
             ZimbraPerf.COUNTER_MBOX_CACHE.increment(0);
-            MailboxData data;
-            DbConnection conn = DbPool.getConnection();
-            try {
-                // fetch the Mailbox data from the database
-                data = DbMailbox.getMailboxStats(conn, mailboxId);
-                if (data == null) {
-                    throw MailServiceException.NO_SUCH_MBOX(mailboxId);
-                }
-            } finally {
-                conn.closeQuietly();
-            }
-
-            mbox = instantiateMailbox(data);
+            mbox = loadMailbox(mailboxId);
             Account account = mbox.getAccount();
-            boolean isGalSyncAccount = AccountUtil.isGalSyncAccount(account);
-            mbox.setGalSyncMailbox(isGalSyncAccount);
 
             if (!skipMailHostCheck) {
                 // The host check here makes sure that sessions that were
@@ -497,7 +486,7 @@ public class MailboxManager {
 
             synchronized (this) {
                 // avoid the race condition by re-checking the cache and using that data (if any)
-                Object cached = retrieveFromCache(mailboxId, false);
+                cached = retrieveFromCache(mailboxId, false);
                 if (cached instanceof Mailbox) {
                     mbox = (Mailbox) cached;
                 } else {
@@ -540,10 +529,89 @@ public class MailboxManager {
         return mbox;
     }
 
+    /**
+     * Loads the mailbox from the database, or waits for the load another thread already started for the same mailbox.
+     * The returned {@link Mailbox} is not cached yet; callers re-check the cache before caching it.
+     */
+    private Mailbox loadMailbox(final int mailboxId) throws ServiceException {
+        MailboxLoad load = new MailboxLoad(new Callable<Mailbox>() {
+            @Override
+            public Mailbox call() throws ServiceException {
+                return fetchMailbox(mailboxId);
+            }
+        });
+        MailboxLoad pending = loading.putIfAbsent(mailboxId, load);
+        if (pending == null) {
+            long startTime = ZimbraPerf.STOPWATCH_MBOX_LOAD.start();
+            try {
+                load.run();
+            } finally {
+                loading.remove(mailboxId, load);
+                ZimbraPerf.STOPWATCH_MBOX_LOAD.stop(startTime);
+            }
+            return load.getMailbox();
+        } else if (pending.loader == Thread.currentThread()) {
+            // re-entered while instantiating this very mailbox; waiting on ourselves would never return
+            return fetchMailbox(mailboxId);
+        } else {
+            long startTime = ZimbraPerf.STOPWATCH_MBOX_LOAD_WAIT.start();
+            try {
+                return pending.getMailbox();
+            } finally {
+                ZimbraPerf.STOPWATCH_MBOX_LOAD_WAIT.stop(startTime);
+            }
+        }
+    }
+
+    private Mailbox fetchMailbox(int mailboxId) throws ServiceException {
+        MailboxData data;
+        DbConnection conn = DbPool.getConnection();
+        try {
+            // fetch the Mailbox data from the database
+            data = DbMailbox.getMailboxStats(conn, mailboxId);
+            if (data == null) {
+                throw MailServiceException.NO_SUCH_MBOX(mailboxId);
+            }
+        } finally {
+            conn.closeQuietly();
+        }
+
+        Mailbox mbox = instantiateMailbox(data);
+        mbox.setGalSyncMailbox(AccountUtil.isGalSyncAccount(mbox.getAccount()));
+        return mbox;
+    }
+
+    private static final class MailboxLoad extends FutureTask<Mailbox> {
+        final Thread loader = Thread.currentThread();
+
+        MailboxLoad(Callable<Mailbox> fetch) {
+            super(fetch);
+        }
+
+        Mailbox getMailbox() throws ServiceException {
+            try {
+                return get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ServiceException.INTERRUPTED("interrupted while waiting for mailbox to load");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof ServiceException) {
+                    throw (ServiceException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw ServiceException.FAILURE("error loading mailbox", cause);
+            }
+        }
+    }
+
     /** @return A list of *hard references* to all currently-loaded mailboxes which are not
      *     .   in MAINTENANCE mode.  Caller must be careful to not hang onto this list for
      *         very long or else mailboxes will not be purged. */
-    public synchronized List<Mailbox> getAllLoadedMailboxes() {
+    public List<Mailbox> getAllLoadedMailboxes() {
         List<Mailbox> mboxes = new ArrayList<Mailbox>(cache.size());
         for (Object o : cache.values()) {
             if (o instanceof Mailbox) {
@@ -561,7 +629,7 @@ public class MailboxManager {
     /**
      * Returns the number of hard references to currently-loaded mailboxes, either in MAINTENANCE mode or not.
      */
-    public synchronized int getCacheSize() {
+    public int getCacheSize() {
         int count = 0;
         for (Object o : cache.values()) {
             if (o instanceof Mailbox || o instanceof MailboxMaintenance) {
@@ -576,7 +644,7 @@ public class MailboxManager {
      * that one of the {@link Listener} APIs be called for this mailbox at some point in the future, if this mailbox is
      * ever accessed.
      */
-    public synchronized boolean isMailboxLoadedAndAvailable(int mailboxId) {
+    public boolean isMailboxLoadedAndAvailable(int mailboxId) {
         Object cached = cache.get(mailboxId);
         if (cached == null) {
             return false;
@@ -589,24 +657,22 @@ public class MailboxManager {
     }
 
     private Object retrieveFromCache(int mailboxId, boolean trackGC) throws MailServiceException {
-        synchronized (this) {
-            Object cached = cache.get(mailboxId, trackGC);
-            if (cached instanceof MailboxMaintenance) {
-                MailboxMaintenance maintenance = (MailboxMaintenance) cached;
-                if (!maintenance.canAccess()) {
-                    if (isMailboxLockedOut(maintenance.getAccountId())) {
-                        throw MailServiceException.MAINTENANCE(mailboxId, "mailbox locked out for maintenance");
-                    } else {
-                        throw MailServiceException.MAINTENANCE(mailboxId);
-                    }
-                }
-                if (maintenance.getMailbox() != null) {
-                    return maintenance.getMailbox();
+        Object cached = cache.get(mailboxId, trackGC);
+        if (cached instanceof MailboxMaintenance) {
+            MailboxMaintenance maintenance = (MailboxMaintenance) cached;
+            if (!maintenance.canAccess()) {
+                if (isMailboxLockedOut(maintenance.getAccountId())) {
+                    throw MailServiceException.MAINTENANCE(mailboxId, "mailbox locked out for maintenance");
+                } else {
+                    throw MailServiceException.MAINTENANCE(mailboxId);
                 }
             }
-            // if we've retrieved NULL or a Mailbox or an accessible lock, return it
-            return cached;
+            if (maintenance.getMailbox() != null) {
+                return maintenance.getMailbox();
+            }
         }
+        // if we've retrieved NULL or a Mailbox or an accessible lock, return it
+        return cached;
     }
 
     /**
@@ -620,7 +686,7 @@ public class MailboxManager {
         return new ExternalVirtualMailbox(data);
     }
 
-    protected synchronized void cacheAccount(String accountId, int mailboxId) {
+    protected void cacheAccount(String accountId, int mailboxId) {
         mailboxIds.put(accountId.toLowerCase(), Integer.valueOf(mailboxId));
     }
 
@@ -667,18 +733,20 @@ public class MailboxManager {
                 ZimbraLog.mailbox.debug("maintenance ended with wrong object. passed %s; expected %s", maintenance, obj);
                 throw MailServiceException.MAINTENANCE(maintenance.getMailboxId(), "attempting to end maintenance with wrong object");
             }
-            // start by removing the lock from the Mailbox object cache
-            cache.remove(maintenance.getMailboxId());
-
+            // the lock is replaced in place below rather than removed first: lookups don't take the manager lock,
+            // and a missing entry would let them load a second Mailbox for the same account
             Mailbox mbox = maintenance.getMailbox();
             if (success) {
                 // XXX: don't recall the rationale for re-setting this...
                 cacheAccount(maintenance.getAccountId(), maintenance.getMailboxId());
 
-                if (mbox != null) {
+                if (mbox == null) {
+                    cache.remove(maintenance.getMailboxId());
+                } else {
                     assert(maintenance == mbox.getMaintenance() || mbox.getMaintenance() == null); // restore case
 
                     if (removeFromCache) {
+                        cache.remove(maintenance.getMailboxId());
                         mbox.purge(MailItem.Type.UNKNOWN);
                         // We're going to let the Mailbox drop out of the cache and eventually get GC'd.
                         // Some immediate cleanup is necessary though.
@@ -699,6 +767,7 @@ public class MailboxManager {
                     availableMailbox = mbox;
                 }
             } else {
+                cache.remove(maintenance.getMailboxId());
                 // on failed maintenance, mark the Mailbox object as off-limits to everyone
                 if (mbox != null) {
                     mbox.endMaintenance(success);
@@ -717,9 +786,7 @@ public class MailboxManager {
      * @return
      */
     public int getMailboxCount() {
-        synchronized (this) {
-            return mailboxIds.size();
-        }
+        return mailboxIds.size();
     }
 
 
@@ -728,14 +795,13 @@ public class MailboxManager {
      *  not the same as the set of mailboxes for accounts whose
      *  <code>zimbraMailHost</code> LDAP attribute points to this server. */
     public int[] getMailboxIds() {
+        // copy first; the map may change while we iterate it
+        List<Integer> col = new ArrayList<Integer>(mailboxIds.values());
+        int[] ids = new int[col.size()];
         int i = 0;
-        synchronized (this) {
-            Collection<Integer> col = mailboxIds.values();
-            int[] mailboxIds = new int[col.size()];
-            for (int id : col)
-                mailboxIds[i++] = id;
-            return mailboxIds;
-        }
+        for (int id : col)
+            ids[i++] = id;
+        return ids;
     }
 
     public Set<Integer> getPurgePendingMailboxes(long time) throws ServiceException {
@@ -749,19 +815,25 @@ public class MailboxManager {
 
     }
 
+    /**
+     * Returns the date (in seconds) of the oldest item in Trash or Junk for every mailbox that has one.
+     */
+    public Map<Integer, Integer> getOldestTrashAndJunkDates() throws ServiceException {
+        DbConnection conn = null;
+        try {
+            conn = DbPool.getConnection();
+            return DbMailbox.getOldestTrashAndJunkDates(conn);
+        } finally {
+            DbPool.quietClose(conn);
+        }
+    }
+
     /** Returns an array of the account IDs of all the mailboxes on this host.
      *  Note that <code>Mailbox</code>es are lazily created, so this is not
      *  the same as the set of accounts whose <code>zimbraMailHost</code> LDAP
      *  attribute points to this server.*/
     public String[] getAccountIds() {
-        int i = 0;
-        synchronized (this) {
-            Set<String> set = mailboxIds.keySet();
-            String[] accountIds = new String[set.size()];
-            for (String o : set)
-                accountIds[i++] = o;
-            return accountIds;
-        }
+        return mailboxIds.keySet().toArray(new String[0]);
     }
 
 
@@ -771,10 +843,7 @@ public class MailboxManager {
      * @return
      */
     public int lookupMailboxId(String accountId) {
-        Integer v;
-        synchronized (this) {
-            v = mailboxIds.get(accountId);
-        }
+        Integer v = accountId != null ? mailboxIds.get(accountId) : null;
         return v != null ? v.intValue() : -1;
     }
 
@@ -789,16 +858,14 @@ public class MailboxManager {
      *        the database; a SQLException is encapsulated</ul> */
     public Map<String, Long> getMailboxSizes(List<NamedEntry> accounts) throws ServiceException {
         List<Integer> requested;
-        synchronized (this) {
-            if (accounts == null) {
-                requested = new ArrayList<Integer>(mailboxIds.values());
-            } else {
-                requested = new ArrayList<Integer>(accounts.size());
-                for (NamedEntry account : accounts) {
-                    Integer mailboxId = mailboxIds.get(account.getId());
-                    if (mailboxId != null)
-                        requested.add(mailboxId);
-                }
+        if (accounts == null) {
+            requested = new ArrayList<Integer>(mailboxIds.values());
+        } else {
+            requested = new ArrayList<Integer>(accounts.size());
+            for (NamedEntry account : accounts) {
+                Integer mailboxId = mailboxIds.get(account.getId());
+                if (mailboxId != null)
+                    requested.add(mailboxId);
             }
         }
 
@@ -962,12 +1029,10 @@ public class MailboxManager {
         StringBuilder sb = new StringBuilder();
         sb.append("MAILBOX CACHE DUMPS\n");
         sb.append("----------------------------------------------------------------------\n");
-        synchronized (this) {
-            for (Map.Entry<String, Integer> entry : mailboxIds.entrySet())
-                sb.append("1) key=" + entry.getKey() + " (hash=" + entry.getKey().hashCode() + "); val=" + entry.getValue() + "\n");
-            for (Map.Entry<Integer, Object> entry : cache.entrySet())
-                sb.append("2) key=" + entry.getKey() + "; val=" + entry.getValue() + "(class= " + entry.getValue().getClass().getName() + ",hash=" + entry.getValue().hashCode() + ")");
-        }
+        for (Map.Entry<String, Integer> entry : mailboxIds.entrySet())
+            sb.append("1) key=" + entry.getKey() + " (hash=" + entry.getKey().hashCode() + "); val=" + entry.getValue() + "\n");
+        for (Map.Entry<Integer, Object> entry : cache.entrySet())
+            sb.append("2) key=" + entry.getKey() + "; val=" + entry.getValue() + "(class= " + entry.getValue().getClass().getName() + ",hash=" + entry.getValue().hashCode() + ")");
         sb.append("----------------------------------------------------------------------\n");
         ZimbraLog.mailbox.debug(sb.toString());
     }
@@ -1020,54 +1085,60 @@ public class MailboxManager {
         }
     }
 
+    /**
+     * Every entry lives in a concurrent map, with a loaded {@link Mailbox} held through a {@link SoftReference}.  The
+     * most recently used mailboxes are additionally pinned by a bounded, concurrent LRU of hard references, so an
+     * entry never leaves the map just because it aged out of the hard tier.
+     */
     protected static class MailboxMap implements Map<Integer, Object> {
         final int mHardSize;
-        final LinkedHashMap<Integer, Object> mHardMap;
-        final HashMap<Integer, Object> mSoftMap;
+        final Cache<Integer, Mailbox> mHardRefs;
+        final ConcurrentMap<Integer, Object> mEntries;
 
-        @SuppressWarnings("serial") MailboxMap(int hardSize) {
+        MailboxMap(int hardSize) {
             hardSize = Math.max(hardSize, 0);
             mHardSize = hardSize;
-            mSoftMap = new HashMap<Integer, Object>();
-            mHardMap = new LinkedHashMap<Integer, Object>(mHardSize / 4, (float) .75, true) {
-                @Override protected boolean removeEldestEntry(Entry<Integer, Object> eldest) {
-                    if (size() <= mHardSize)
-                        return false;
-
-                    Object obj = eldest.getValue();
-                    if (obj instanceof Mailbox)
-                        obj = new SoftReference<Mailbox>((Mailbox) obj);
-                    mSoftMap.put(eldest.getKey(), obj);
-                    return true;
-                }
-            };
+            mEntries = new ConcurrentHashMap<Integer, Object>();
+            mHardRefs = hardSize > 0 ? CacheBuilder.newBuilder().maximumSize(hardSize).<Integer, Mailbox>build() : null;
         }
 
         protected MailboxMap() {
             mHardSize = 0;
-            mHardMap = null;
-            mSoftMap = null;
+            mHardRefs = null;
+            mEntries = null;
+        }
+
+        private static Object deref(Object obj) {
+            return obj instanceof SoftReference ? ((SoftReference<?>) obj).get() : obj;
+        }
+
+        private void pin(Integer key, Object value) {
+            if (mHardRefs == null) {
+                return;
+            }
+            if (value instanceof Mailbox) {
+                mHardRefs.put(key, (Mailbox) value);
+            } else {
+                mHardRefs.invalidate(key);
+            }
         }
 
         @Override public void clear() {
-            mHardMap.clear();
-            mSoftMap.clear();
+            mEntries.clear();
+            if (mHardRefs != null)
+                mHardRefs.invalidateAll();
         }
 
         @Override public boolean containsKey(Object key) {
-            return mHardMap.containsKey(key) || mSoftMap.containsKey(key);
+            return mEntries.containsKey(key);
         }
 
         @Override public boolean containsValue(Object value) {
-            return mHardMap.containsValue(value) || mSoftMap.containsValue(value);
+            return values().contains(value);
         }
 
         @Override public Set<Entry<Integer, Object>> entrySet() {
-            Set<Entry<Integer, Object>> entries = new HashSet<Entry<Integer, Object>>(size());
-            if (mHardSize > 0)
-                entries.addAll(mHardMap.entrySet());
-            entries.addAll(mSoftMap.entrySet());
-            return entries;
+            return new HashSet<Entry<Integer, Object>>(mEntries.entrySet());
         }
 
         @Override public Object get(Object key) {
@@ -1075,44 +1146,33 @@ public class MailboxManager {
         }
 
         public Object get(Object key, boolean trackGC) {
-            Object obj = mHardSize > 0 ? mHardMap.get(key) : null;
-            if (obj == null) {
-                obj = mSoftMap.get(key);
-                if (obj instanceof SoftReference) {
-                    obj = ((SoftReference<?>) obj).get();
-                    if (trackGC && obj == null)
-                        ZimbraLog.mailbox.debug("mailbox " + key + " has been GCed; reloading");
-                }
+            Object stored = mEntries.get(key);
+            if (!(stored instanceof SoftReference)) {
+                return stored;
+            }
+            Object mbox = ((SoftReference<?>) stored).get();
+            if (mbox == null) {
+                if (trackGC)
+                    ZimbraLog.mailbox.debug("mailbox " + key + " has been GCed; reloading");
+            } else if (mHardRefs != null) {
+                // only records the access for the LRU; a mailbox that already left the hard tier stays soft
+                mHardRefs.getIfPresent(key);
             }
-            return obj;
+            return mbox;
         }
 
         @Override public boolean isEmpty() {
-            return mHardMap.isEmpty() && mSoftMap.isEmpty();
+            return mEntries.isEmpty();
         }
 
         @Override public Set<Integer> keySet() {
-            Set<Integer> keys = new HashSet<Integer>(size());
-            if (mHardSize > 0)
-                keys.addAll(mHardMap.keySet());
-            keys.addAll(mSoftMap.keySet());
-            return keys;
+            return new HashSet<Integer>(mEntries.keySet());
         }
 
         @Override public Object put(Integer key, Object value) {
-            Object removed;
-            if (mHardSize > 0) {
-                removed = mHardMap.put(key, value);
-                if (removed == null)
-                    removed = mSoftMap.remove(key);
-            } else {
-                if (value instanceof Mailbox)
-                    value = new SoftReference<Object>(value);
-                removed = mSoftMap.put(key, value);
-            }
-            if (removed instanceof SoftReference)
-                removed = ((SoftReference<?>) removed).get();
-            return removed;
+            Object removed = mEntries.put(key, value instanceof Mailbox ? new SoftReference<Object>(value) : value);
+            pin(key, value);
+            return deref(removed);
         }
 
         @Override public void putAll(Map<? extends Integer, ? extends Object> t) {
@@ -1121,33 +1181,26 @@ public class MailboxManager {
         }
 
         @Override public Object remove(Object key) {
-            Object removed = mHardSize > 0 ? mHardMap.remove(key) : null;
-            if (removed == null) {
-                removed = mSoftMap.remove(key);
-                if (removed instanceof SoftReference)
-                    removed = ((SoftReference<?>) removed).get();
-            }
-            return removed;
+            Object removed = mEntries.remove(key);
+            if (mHardRefs != null)
+                mHardRefs.invalidate(key);
+            return deref(removed);
         }
 
         @Override public int size() {
-            return mHardMap.size() + mSoftMap.size();
+            return mEntries.size();
         }
 
         @Override public Collection<Object> values() {
-            List<Object> values = new ArrayList<Object>(size());
-            if (mHardSize > 0)
-                values.addAll(mHardMap.values());
-            for (Object o : mSoftMap.values()) {
-                if (o instanceof SoftReference)
-                    o = ((SoftReference<?>) o).get();
-                values.add(o);
+            List<Object> values = new ArrayList<Object>(mEntries.size());
+            for (Object o : mEntries.values()) {
+                values.add(deref(o));
             }
             return values;
         }
 
         @Override public String toString() {
-            return "<" + mHardMap.toString() + ", " + mSoftMap.toString() + ">";
+            return "<" + (mHardRefs != null ? mHardRefs.asMap().keySet() : "[]") + ", " + mEntries + ">";
         }
     }
 
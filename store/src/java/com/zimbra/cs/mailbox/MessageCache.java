@@ -18,14 +18,19 @@ package com.zimbra.cs.mailbox;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
 
+import com.zimbra.common.localconfig.LC;
 import com.zimbra.common.mime.MimeConstants;
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.util.ByteUtil;
@@ -42,6 +47,18 @@ import com.zimbra.cs.store.MailboxBlob;
 import com.zimbra.cs.store.StoreManager;
 import com.zimbra.cs.util.JMSession;
 
+/**
+ * Process-wide cache of parsed {@link MimeMessage}s, keyed by blob digest.
+ * <p>
+ * The cache is split into a fixed number of independently locked segments so
+ * that concurrent readers of different messages never contend on the same
+ * monitor.  Each segment is an access-ordered {@link LinkedHashMap}; when the
+ * cache as a whole exceeds either its entry limit or its byte budget, the
+ * least recently used entry across all segments is evicted.  The byte budget
+ * is charged with the heap actually retained by each entry: the raw message
+ * (its full size when held in memory, only its headers when it is streamed
+ * from disk) and the expanded or decrypted copy are accounted separately.
+ */
 public class MessageCache {
 
     private static final Log sLog = LogFactory.getLog(MessageCache.class);
@@ -50,19 +67,79 @@ public class MessageCache {
         CacheNode()  { }
         MimeMessage message;
         MimeMessage expanded;
-        Map<Integer, String> smimeAccessInfo = new HashMap<Integer, String>();
-        long size = 0;
+        Map<Integer, String> smimeAccessInfo = Collections.synchronizedMap(new HashMap<Integer, String>());
+        /** Guards loading and expanding the message; held while reading from the store. */
+        final Object loadLock = new Object();
+        /** Heap retained by {@link #message}. */
+        long rawSize = 0;
+        /** Heap retained by {@link #expanded} when it is a distinct copy of the message. */
+        long expandedSize = 0;
+        /** Time of the most recent access, used to pick the global eviction victim. */
+        volatile long lastAccess = System.nanoTime();
+        /** Whether this node's size is currently charged to {@link #sDataSize}. */
+        private boolean cached = false;
+
+        synchronized long getSize() {
+            return rawSize + expandedSize;
+        }
+
+        synchronized void setSizes(long raw, long expandedCopy) {
+            long delta = (raw + expandedCopy) - (rawSize + expandedSize);
+            rawSize = raw;
+            expandedSize = expandedCopy;
+            if (cached && delta != 0) {
+                sDataSize.addAndGet(delta);
+            }
+        }
+
+        synchronized void attach() {
+            if (!cached) {
+                cached = true;
+                sDataSize.addAndGet(rawSize + expandedSize);
+            }
+        }
+
+        synchronized void detach() {
+            if (cached) {
+                cached = false;
+                sDataSize.addAndGet(-(rawSize + expandedSize));
+            }
+        }
+    }
+
+    /** One independently locked, access-ordered slice of the cache. */
+    @SuppressWarnings("serial")
+    private static final class Segment extends LinkedHashMap<String, CacheNode> {
+        Segment() {
+            super(16, 0.75f, true);
+        }
+
+        /** Returns the least recently used entry, or {@code null} if the segment is empty.
+         *  Caller must hold the segment's monitor. */
+        Map.Entry<String, CacheNode> eldest() {
+            Iterator<Map.Entry<String, CacheNode>> it = entrySet().iterator();
+            return it.hasNext() ? it.next() : null;
+        }
     }
 
-    /** Cache mapping message digest to the corresponding message structure. */
-    private static Map<String, CacheNode> sCache = new LinkedHashMap<String, CacheNode>(150, (float) 0.75, true);
-    /** Maximum number of items in {@link #sCache}. */
-    private static int sMaxCacheSize;
-    /** Number of bytes of message data stored in the cache.  This value includes only
-     * messages that are read into memory, not streamed from disk. */
-    private volatile static long sDataSize = 0;
+    /** Number of segments; a power of two so that the segment index is a simple mask. */
+    private static final int SEGMENT_COUNT = 16;
+    /** Segments mapping message digest to the corresponding message structure. */
+    private static final Segment[] sSegments = new Segment[SEGMENT_COUNT];
+    /** Total number of entries across all segments. */
+    private static final AtomicInteger sCount = new AtomicInteger();
+    /** Maximum number of items in the cache. */
+    private static volatile int sMaxCacheSize;
+    /** Maximum number of bytes of message data retained by the cache. */
+    private static volatile long sMaxDataSize;
+    /** Number of bytes of message data retained by the cache.  Messages that are
+     *  streamed from disk are charged only for their headers. */
+    private static final AtomicLong sDataSize = new AtomicLong();
 
     static {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            sSegments[i] = new Segment();
+        }
         try {
             loadSettings();
         } catch (ServiceException e) {
@@ -72,24 +149,42 @@ public class MessageCache {
 
     public static void loadSettings() throws ServiceException {
         sMaxCacheSize = Provisioning.getInstance().getLocalServer().getMessageCacheSize();
-        ZimbraLog.cache.info("setting message cache size to " + sMaxCacheSize);
+        long maxBytes = LC.zimbra_message_cache_max_bytes.longValue();
+        if (maxBytes <= 0) {
+            maxBytes = Runtime.getRuntime().maxMemory() / 20;
+        }
+        sMaxDataSize = maxBytes;
+        ZimbraLog.cache.info("setting message cache size to %d entries, %d bytes", sMaxCacheSize, sMaxDataSize);
+        trim();
+    }
+
+    private static Segment segmentFor(String digest) {
+        int h = digest == null ? 0 : digest.hashCode();
+        h ^= (h >>> 16);
+        return sSegments[h & (SEGMENT_COUNT - 1)];
     }
 
     /** Returns the number of messages in the cache. */
     public static int getSize() {
-        synchronized (sCache) {
-            return sCache.size();
-        }
+        return sCount.get();
     }
 
     public static boolean contains(String digest) {
-        synchronized (sCache) {
-            return sCache.containsKey(digest);
+        if (digest == null) {
+            return false;
+        }
+        Segment segment = segmentFor(digest);
+        synchronized (segment) {
+            return segment.containsKey(digest);
         }
     }
 
     public static long getDataSize() {
-        return sDataSize;
+        return sDataSize.get();
+    }
+
+    public static long getMaxDataSize() {
+        return sMaxDataSize;
     }
 
     /** Uncaches any data associated with the given item.  This must be done
@@ -124,16 +219,26 @@ public class MessageCache {
      *  stale data. */
     public static void purge(String digest) {
         if (digest != null) {
-            synchronized (sCache) {
-                CacheNode node = sCache.remove(digest);
-                if (node != null) {
+            Segment segment = segmentFor(digest);
+            synchronized (segment) {
+                if (removeNode(segment, digest) != null) {
                     sLog.debug("Purged digest %s from the message cache.", digest);
-                    sDataSize -= node.size;
                 }
             }
         }
     }
 
+    /** Removes the entry for <tt>digest</tt> from <tt>segment</tt> and releases its
+     *  share of the cache's byte budget.  Caller must hold the segment's monitor. */
+    private static CacheNode removeNode(Segment segment, String digest) {
+        CacheNode node = segment.remove(digest);
+        if (node != null) {
+            sCount.decrementAndGet();
+            node.detach();
+        }
+        return node;
+    }
+
     /** Returns a JavaMail {@link javax.mail.internet.MimeMessage}
      *  encapsulating the message content.  If possible, TNEF and uuencoded
      *  attachments are expanded and their components are presented as
@@ -153,99 +258,124 @@ public class MessageCache {
         CacheNode cnode = null;
         boolean cacheHit = true;
         boolean newNode = false;
-        InputStream in = null;
         int mboxId = item.getMailboxId();
         boolean isEncrypted = false;
+        MimeMessage result;
 
-        synchronized (sCache) {
-            cnode = sCache.get(digest);
-            if (cnode == null) {
-                newNode = true;
-                cnode = new CacheNode();
-            }
+        Segment segment = segmentFor(digest);
+        synchronized (segment) {
+            cnode = segment.get(digest);
         }
+        if (cnode == null) {
+            newNode = true;
+            cnode = new CacheNode();
+        }
+        cnode.lastAccess = System.nanoTime();
 
-        try {
-            if (cnode.message == null) {
-                sLog.debug("Loading MimeMessage for item %d.", item.getId());
-                cacheHit = false;
-                try {
-                    in = fetchFromStore(item);
-                    cnode.message = new Mime.FixedMimeMessage(JMSession.getSession(), in);
-                    if (item.getSize() < MESSAGE_CACHE_DISK_STREAMING_THRESHOLD) {
-                        cnode.size = item.getSize();
-                        // Not the best place to increment the data size, but cacheItem()
-                        // won't get called if we're expanding a message for an existing
-                        // node.
-                        sDataSize += cnode.size;
+        // Only readers of this particular message wait on the node while it is
+        // loaded or expanded; other messages are served concurrently.
+        synchronized (cnode.loadLock) {
+            InputStream in = null;
+            try {
+                if (cnode.message == null) {
+                    sLog.debug("Loading MimeMessage for item %d.", item.getId());
+                    cacheHit = false;
+                    try {
+                        in = fetchFromStore(item);
+                        cnode.message = new Mime.FixedMimeMessage(JMSession.getSession(), in);
+                        cnode.setSizes(getRetainedSize(cnode.message, item.getSize()), cnode.expandedSize);
+                    } finally {
+                        ByteUtil.closeStream(in);
                     }
-                } finally {
-                    ByteUtil.closeStream(in);
                 }
-            }
 
-            if (expand) {
-                sLog.debug("Expanding MimeMessage for item %d.", item.getId());
-                try {
-                    MimeMessage decryptedMimeMessage = null;
-                    if (item instanceof Message) {
-                        // if the mime is encrypted; decrypt it first
-                        if (cnode.message != null) {
-                            isEncrypted = Mime.isEncrypted(cnode.message.getContentType());
-                        }
-                        if (isEncrypted) {
-                            if (isSmimeFeatureToggled(item.getMailbox(), cnode)) {
-                                sLog.debug(
-                                    "Smime feature is toggled. So remove old entry from smimeAccessInfo for mailboxId=%d and itemDigest=%s",
-                                    mboxId, item.getDigest());
-                                cnode.smimeAccessInfo.remove(mboxId);
+                if (expand) {
+                    sLog.debug("Expanding MimeMessage for item %d.", item.getId());
+                    try {
+                        MimeMessage decryptedMimeMessage = null;
+                        if (item instanceof Message) {
+                            // if the mime is encrypted; decrypt it first
+                            if (cnode.message != null) {
+                                isEncrypted = Mime.isEncrypted(cnode.message.getContentType());
                             }
-                            if (cnode.expanded == null || !cnode.smimeAccessInfo.containsKey(mboxId)) {
-                                cacheHit = false;
-                                decryptedMimeMessage = doDecryption(item, cnode, mboxId);
+                            if (isEncrypted) {
+                                if (isSmimeFeatureToggled(item.getMailbox(), cnode)) {
+                                    sLog.debug(
+                                        "Smime feature is toggled. So remove old entry from smimeAccessInfo for mailboxId=%d and itemDigest=%s",
+                                        mboxId, item.getDigest());
+                                    cnode.smimeAccessInfo.remove(mboxId);
+                                }
+                                if (cnode.expanded == null || !cnode.smimeAccessInfo.containsKey(mboxId)) {
+                                    cacheHit = false;
+                                    decryptedMimeMessage = doDecryption(item, cnode, mboxId);
+                                }
                             }
                         }
+                        //expand if the message has not yet been expanded or if the message is decrypted successfully
+                        if (cnode.expanded == null || (decryptedMimeMessage != null && cnode.expanded != decryptedMimeMessage)) {
+                            cacheHit = false;
+                            expandMessage(item, cnode, decryptedMimeMessage);
+                        }
+                    } catch (Exception e) {
+                        // if the conversion bombs for any reason, revert to the original
+                        sLog.warn("MIME converter failed for message %d.  Reverting to original.", item.getId(), e);
+                        cnode.expanded = cnode.message;
+                        cnode.setSizes(cnode.rawSize, 0);
                     }
-                    //expand if the message has not yet been expanded or if the message is decrypted successfully
-                    if (cnode.expanded == null || (decryptedMimeMessage != null && cnode.expanded != decryptedMimeMessage)) {
-                        cacheHit = false;
-                        expandMessage(item, cnode, decryptedMimeMessage);
-                    }
-                } catch (Exception e) {
-                    // if the conversion bombs for any reason, revert to the original
-                    sLog.warn("MIME converter failed for message %d.  Reverting to original.", item.getId(), e);
-                    cnode.expanded = cnode.message;
                 }
+            } catch (IOException e) {
+                throw ServiceException.FAILURE("IOException while retrieving content for item " + item.getId(), e);
+            } catch (MessagingException e) {
+                throw ServiceException.FAILURE("MessagingException while creating MimeMessage for item " + item.getId(), e);
+            } finally {
+                ByteUtil.closeStream(in);
             }
 
-            if (newNode) {
-                cacheItem(digest, cnode);
+            if (expand) {
+                if (isEncrypted && (!cnode.smimeAccessInfo.containsKey(mboxId)
+                    || cnode.smimeAccessInfo.get(mboxId) != null)) {
+                    result = cnode.message;
+                } else {
+                    result = cnode.expanded;
+                }
+            } else {
+                result = cnode.message;
             }
-        } catch (IOException e) {
-            throw ServiceException.FAILURE("IOException while retrieving content for item " + item.getId(), e);
-        } catch (MessagingException e) {
-            throw ServiceException.FAILURE("MessagingException while creating MimeMessage for item " + item.getId(), e);
-        } finally {
-            ByteUtil.closeStream(in);
+        }
+
+        if (newNode) {
+            cacheItem(digest, cnode);
         }
 
         if (cacheHit) {
             sLog.debug("Cache hit for item %d: digest=%s, expand=%b.", item.getId(), item.getDigest(), expand);
             ZimbraPerf.COUNTER_MBOX_MSG_CACHE.increment(100);
+            ZimbraPerf.COUNTER_MSG_CACHE_HITS.increment();
         } else {
             sLog.debug("Cache miss for item %d: digest=%s, expand=%b.", item.getId(), item.getDigest(), expand);
             ZimbraPerf.COUNTER_MBOX_MSG_CACHE.increment(0);
+            ZimbraPerf.COUNTER_MSG_CACHE_MISSES.increment();
         }
+        return result;
+    }
 
-        if (expand) {
-            if (isEncrypted && (!cnode.smimeAccessInfo.containsKey(mboxId)
-                || cnode.smimeAccessInfo.get(mboxId) != null)) {
-                return cnode.message;
+    /** Returns the number of bytes of heap retained by a parsed message of
+     *  <tt>size</tt> bytes.  Small messages are buffered in memory in their
+     *  entirety; larger ones are backed by the blob file and keep only their
+     *  headers on the heap. */
+    private static long getRetainedSize(MimeMessage mm, long size) {
+        if (size >= 0 && size < MESSAGE_CACHE_DISK_STREAMING_THRESHOLD) {
+            return size;
+        }
+        long headerSize = 0;
+        try {
+            for (Enumeration<?> lines = mm.getAllHeaderLines(); lines.hasMoreElements(); ) {
+                headerSize += ((String) lines.nextElement()).length() + 2;
             }
-            return cnode.expanded;
-        } else {
-            return cnode.message;
+        } catch (MessagingException e) {
+            sLog.debug("unable to read headers while sizing cached message", e);
         }
+        return headerSize;
     }
 
     private static boolean isSmimeFeatureToggled(Mailbox mailbox, CacheNode cnode) {
@@ -285,10 +415,8 @@ public class MessageCache {
             decodedMimeMessage != null ? decodedMimeMessage : mimeToExpand);
         expander.expand();
         cnode.expanded = expander.getExpanded();
-        if (cnode.expanded != cnode.message) {
-            sDataSize += cnode.size;
-            cnode.size *= 2;
-        }
+        // the expanded (or decrypted) copy is always held in memory, independently of the raw message
+        cnode.setSizes(cnode.rawSize, cnode.expanded != cnode.message ? item.getSize() : 0);
     }
 
     private static MimeMessage doDecryption(MailItem item, CacheNode cnode, int mboxId) {
@@ -357,43 +485,101 @@ public class MessageCache {
         CacheNode cnode = new CacheNode();
         cnode.message = original;
         cnode.expanded = expanded;
+        long rawSize = 0;
+        long expandedSize = 0;
+        try {
+            if (original != null) {
+                rawSize = getRetainedSize(original, original.getSize());
+            }
+            if (expanded != null && expanded != original) {
+                expandedSize = Math.max(expanded.getSize(), 0);
+            }
+        } catch (MessagingException e) {
+            sLog.debug("unable to determine size of message %s", digest, e);
+        }
+        cnode.setSizes(rawSize, expandedSize);
         cacheItem(digest, cnode);
     }
 
     private static void cacheItem(String digest, CacheNode cnode) {
         sLog.debug("Caching MimeMessage for digest %s.", digest);
-        synchronized (sCache) {
-            sCache.put(digest, cnode);
-            // Cache data size was incremented in getMimeMessage().
-
-            // trim the cache if needed
-            if (sCache.size() > sMaxCacheSize) {
-                Iterator<Map.Entry<String, CacheNode>> it = sCache.entrySet().iterator();
-                while (sCache.size() > sMaxCacheSize && it.hasNext()) {
-                    Map.Entry<String, CacheNode> entry = it.next();
-                    sLog.debug("Pruning digest %s from the cache.", entry.getKey());
-                    it.remove();
-                    sDataSize -= entry.getValue().size;
+        Segment segment = segmentFor(digest);
+        synchronized (segment) {
+            CacheNode displaced = segment.put(digest, cnode);
+            cnode.attach();
+            if (displaced == null) {
+                sCount.incrementAndGet();
+            } else if (displaced != cnode) {
+                displaced.detach();
+            }
+        }
+        trim();
+    }
+
+    /** Evicts least recently used entries until the cache is within both its
+     *  entry limit and its byte budget. */
+    private static void trim() {
+        while (sCount.get() > sMaxCacheSize || sDataSize.get() > sMaxDataSize) {
+            if (!evictOldest()) {
+                break;
+            }
+        }
+    }
+
+    /** Evicts the least recently used entry across all segments.  Segments are
+     *  locked one at a time, so eviction never blocks readers of other segments
+     *  for longer than a single map operation.
+     * @return <tt>false</tt> if the cache is empty */
+    private static boolean evictOldest() {
+        Segment victimSegment = null;
+        String victimDigest = null;
+        CacheNode victim = null;
+        for (Segment segment : sSegments) {
+            synchronized (segment) {
+                Map.Entry<String, CacheNode> eldest = segment.eldest();
+                if (eldest != null && (victim == null || eldest.getValue().lastAccess - victim.lastAccess < 0)) {
+                    victimSegment = segment;
+                    victimDigest = eldest.getKey();
+                    victim = eldest.getValue();
                 }
             }
         }
+        if (victim == null) {
+            return false;
+        }
+        synchronized (victimSegment) {
+            CacheNode current = victimSegment.remove(victimDigest);
+            if (current == null) {
+                // somebody else got there first
+                return true;
+            } else if (current != victim) {
+                // replaced since we looked; it is no longer the eldest
+                victimSegment.put(victimDigest, current);
+                return true;
+            }
+            sCount.decrementAndGet();
+            victim.detach();
+        }
+        sLog.debug("Pruning digest %s from the cache.", victimDigest);
+        ZimbraPerf.COUNTER_MSG_CACHE_EVICTIONS.increment();
+        return true;
     }
 
     public static void removeDecryptedMessages(int mboxId) {
         sLog.debug("Start removing decrypted messages for mboxId=%d", mboxId);
-        synchronized (sCache) {
-            Iterator<Map.Entry<String, CacheNode>> it = sCache.entrySet().iterator();
-            while (it.hasNext()) {
-                Map.Entry<String, CacheNode> entry = it.next();
-                CacheNode cacheNode = entry.getValue();
-                try {
-                    if (Mime.isEncrypted(cacheNode.message.getContentType())
-                        && cacheNode.smimeAccessInfo.containsKey(mboxId)) {
-                        cacheNode.smimeAccessInfo.remove(mboxId);
+        for (Segment segment : sSegments) {
+            synchronized (segment) {
+                for (Map.Entry<String, CacheNode> entry : segment.entrySet()) {
+                    CacheNode cacheNode = entry.getValue();
+                    try {
+                        if (cacheNode.message != null && Mime.isEncrypted(cacheNode.message.getContentType())
+                            && cacheNode.smimeAccessInfo.containsKey(mboxId)) {
+                            cacheNode.smimeAccessInfo.remove(mboxId);
+                        }
+                    } catch (MessagingException e) {
+                        sLog.warn("MessagingException while checking content type for cache node with digest = %s",
+                            entry.getKey(), e);
                     }
-                } catch (MessagingException e) {
-                    sLog.warn("MessagingException while checking content type for cache node with digest = %s",
-                        entry.getKey(), e);
                 }
             }
         }
@@ -402,11 +588,13 @@ public class MessageCache {
 
     public static String getDecryptionError(int id, String digest) {
         if (digest != null) {
-            synchronized (sCache) {
-                CacheNode node = sCache.get(digest);
-                if (node != null) {
-                    return node.smimeAccessInfo.get(id);
-                }
+            Segment segment = segmentFor(digest);
+            CacheNode node;
+            synchronized (segment) {
+                node = segment.get(digest);
+            }
+            if (node != null) {
+                return node.smimeAccessInfo.get(id);
             }
         }
         return null;
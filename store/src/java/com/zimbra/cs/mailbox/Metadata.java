@@ -26,6 +26,7 @@ import java.util.TreeMap;
 import org.apache.commons.codec.Charsets;
 
 import com.google.common.base.Strings;
+import com.zimbra.common.localconfig.LC;
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.soap.Element;
 import com.zimbra.common.util.BEncoding;
@@ -137,6 +138,15 @@ public final class Metadata {
         this.map = new TreeMap<Object, Object>(map);
     }
 
+    /**
+     * Wraps a nested map of compact metadata without decoding it.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    Metadata(CompactMetadata.LazyMap map) {
+        associatedItemId = null;
+        this.map = (Map) map;
+    }
+
     public Metadata(String encoded) throws MailServiceException {
         this(encoded, (Integer) null);
     }
@@ -148,6 +158,10 @@ public final class Metadata {
             return;
         }
         try {
+            if (CompactMetadata.isEncoded(encoded)) {
+                map = (Map) CompactMetadata.decode(encoded);
+                return;
+            }
             try {
                 map = (Map) BEncoding.decode(encoded);
                 return;
@@ -339,6 +353,9 @@ public final class Metadata {
         if (nullable && value == null) {
             return null;
         }
+        if (value instanceof CompactMetadata.LazyMap) {
+            return new Metadata(((CompactMetadata.LazyMap) value).copy());
+        }
         if (value instanceof Map) {
             @SuppressWarnings("unchecked")
             Map<String, Object> cast = (Map<String, Object>) value;
@@ -347,8 +364,29 @@ public final class Metadata {
         throw ServiceException.INVALID_REQUEST("invalid/missing value for attribute: " + key, null);
     }
 
+    /**
+     * Returns the encoded form of {@code encoded} that servers and tools predating {@link CompactMetadata} can read,
+     * for data that leaves this server such as exports.
+     */
+    public static String toLegacyEncoding(String encoded) throws MailServiceException {
+        if (!CompactMetadata.isEncoded(encoded)) {
+            return encoded;
+        }
+        return new Metadata(encoded).toLegacyString();
+    }
+
     @Override
     public String toString() {
+        if (LC.metadata_compact_encoding.booleanValue()) {
+            return CompactMetadata.encode(map);
+        }
+        return toLegacyString();
+    }
+
+    /**
+     * Returns the metadata BEncoded, the format used before {@link CompactMetadata}.
+     */
+    public String toLegacyString() {
         put(FN_MD_VERSION, LEGACY_METADATA_VERSION);
         String result = BEncoding.encode(map);
         map.remove(FN_MD_VERSION);
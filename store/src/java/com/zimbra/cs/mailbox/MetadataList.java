@@ -162,6 +162,9 @@ public class MetadataList {
 
     public Metadata getMap(int index) throws ServiceException {
         Object value = list.get(index);
+        if (value instanceof CompactMetadata.LazyMap) {
+            return new Metadata(((CompactMetadata.LazyMap) value).copy());
+        }
         if (value instanceof Map) {
             @SuppressWarnings("unchecked")
             Map<String, ?> cast = (Map<String, ?>) value;
@@ -18,10 +18,24 @@ package com.zimbra.cs.mailbox;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.zimbra.common.localconfig.DebugConfig;
 import com.zimbra.common.localconfig.LC;
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.util.ZimbraLog;
@@ -32,9 +46,17 @@ import com.zimbra.cs.util.Config;
 import com.zimbra.cs.util.Zimbra;
 
 /**
- * Iterates all the mailboxes in the system, purges them one at a time
- * and sleeps between purges for a time interval specified by
- * {@link Provisioning#A_zimbraMailPurgeSleepInterval}.
+ * Iterates all the mailboxes in the system and purges them.  Up to
+ * {@code purge_threads} mailboxes are purged at the same time, and each purge
+ * thread sleeps between purges for a time interval specified by
+ * {@link Provisioning#A_zimbraMailPurgeSleepInterval}.  When
+ * {@code purge_max_items_per_second} is set, all purge threads also share a
+ * budget of purged items per second.
+ * <p>
+ * Each cycle purges the mailboxes with the oldest items in Trash or Junk
+ * first.  The start time of the current cycle is kept in
+ * {@link Config#KEY_PURGE_CYCLE_START}, so that after a restart the cycle
+ * resumes with the mailboxes that haven't been purged since.
  *
  * @author bburtin
  */
@@ -43,7 +65,11 @@ extends Thread {
 
     private static volatile PurgeThread sPurgeThread = null;
     private static Object THREAD_CONTROL_LOCK = new Object();
-    private boolean mShutdownRequested = false;
+    private volatile boolean mShutdownRequested = false;
+    private ExecutorService mWorkers;
+    private Budget mBudget;
+    private Map<Integer, Integer> mOldestTrashAndJunkDates;
+    private long mOldestTrashAndJunkDatesTime;
 
     private PurgeThread() {
         setName("MailboxPurge");
@@ -104,8 +130,7 @@ extends Thread {
     }
 
     /**
-     * Iterates all mailboxes, purging one at a time and sleeping
-     * between purges.
+     * Iterates all mailboxes, purging them with a pool of purge threads.
      */
     @Override public void run() {
         // Sleep before doing work, to give the server time to warm up.  Also limits the amount
@@ -121,79 +146,169 @@ extends Thread {
             return;
         }
 
-        Set<Integer> purgePendingMailboxes = new HashSet<Integer>();
-        while (true) {
-            List<Integer> mailboxIds = getMailboxIds();
-            boolean slept = false;
+        int numThreads = Math.max(LC.purge_threads.intValue(), 1);
+        mWorkers = Executors.newFixedThreadPool(numThreads,
+                new ThreadFactoryBuilder().setNameFormat("MailboxPurge-%d").setDaemon(true).build());
+        int itemsPerSecond = LC.purge_max_items_per_second.intValue();
+        mBudget = itemsPerSecond > 0 ? new Budget(itemsPerSecond) : null;
+        ZimbraLog.purge.info("Purging with %d threads, limit %d items/sec (0 = unlimited).",
+            numThreads, Math.max(itemsPerSecond, 0));
 
-            for (int i = 0; i < mailboxIds.size(); i++) {
-                int mailboxId = mailboxIds.get(i);
+        try {
+            Set<Integer> purgePendingMailboxes = new HashSet<Integer>();
+            while (!mShutdownRequested) {
+                long cycleStart = startCycle();
+                Queue<Integer> mailboxIds = new ConcurrentLinkedQueue<Integer>(getMailboxIds(cycleStart));
+                boolean slept = runCycle(mailboxIds, purgePendingMailboxes, numThreads);
                 if (mShutdownRequested) {
-                    ZimbraLog.purge.info("Shutting down purge thread.");
-                    sPurgeThread = null;
-                    return;
+                    break;
+                }
+                endCycle();
+
+                // If nothing's getting purged, sleep to avoid a tight loop
+                if (!slept) {
+                    sleep();
                 }
-                ZimbraLog.addMboxToContext(mailboxId);
 
-                // Purge the next mailbox
-                boolean attemptedPurge = false;
                 try {
-                    MailboxManager mm = MailboxManager.getInstance();
-                    if (mm.isMailboxLoadedAndAvailable(mailboxId) || purgePendingMailboxes.contains(mailboxId)) {
-                        attemptedPurge = true;
-                        Mailbox mbox = mm.getMailboxById(mailboxId);
-                        Account account = mbox.getAccount();
-                        Provisioning prov = Provisioning.getInstance();
-                        if (!Provisioning.ACCOUNT_STATUS_MAINTENANCE.equals(account.getAccountStatus(prov)) &&
-                                !account.isIsExternalVirtualAccount()) {
-                            ZimbraLog.addAccountNameToContext(account.getName());
-                            boolean purgedAll = mbox.purgeMessages(null);
-                            if (!purgedAll) {
-                                ZimbraLog.purge.info("Not all messages were purged.  Scheduling mailbox to be purged again.");
-                                mailboxIds.add(mailboxId);
-                            }
-                            Config.setInt(Config.KEY_PURGE_LAST_MAILBOX_ID, mbox.getId());
-                        } else {
-                            ZimbraLog.purge.debug("Skipping mailbox %d because the account is in maintenance status or is an external virtual account.", mailboxId);
+                    long lastPurgeMaxDuration = Provisioning.getInstance().getLocalServer().getLastPurgeMaxDuration();
+                    purgePendingMailboxes = MailboxManager.getInstance().getPurgePendingMailboxes(System.currentTimeMillis() - lastPurgeMaxDuration);
+                } catch (ServiceException e) {
+                    ZimbraLog.purge.warn("Unable to get purge pending mailboxes ", e);
+                }
+            }
+        } finally {
+            mWorkers.shutdownNow();
+        }
+        ZimbraLog.purge.info("Shutting down purge thread.");
+        sPurgeThread = null;
+    }
+
+    /**
+     * Purges the given mailboxes with {@code numThreads} purge threads.  Mailboxes that couldn't be purged
+     * completely are put back at the end of the queue.
+     *
+     * @return <tt>true</tt> if any purge thread attempted a purge, and therefore slept
+     */
+    private boolean runCycle(final Queue<Integer> mailboxIds, final Set<Integer> purgePendingMailboxes,
+            int numThreads) {
+        final AtomicBoolean attempted = new AtomicBoolean(false);
+        List<Future<?>> futures = new ArrayList<Future<?>>(numThreads);
+        for (int i = 0; i < numThreads; i++) {
+            futures.add(mWorkers.submit(new Runnable() {
+                @Override
+                public void run() {
+                    Integer mailboxId;
+                    while (!mShutdownRequested && (mailboxId = mailboxIds.poll()) != null) {
+                        if (mBudget != null) {
+                            sleep(mBudget.getWaitMillis());
                         }
-                    } else {
-                        ZimbraLog.purge.debug("Skipping mailbox %d because it is not loaded into memory.", mailboxId);
-                    }
-                } catch (ServiceException se) {
-                    if (ServiceException.WRONG_HOST.equals(se.getCode())) {
-                        if (ZimbraLog.purge.isDebugEnabled()) {
-                            ZimbraLog.purge.debug("not purging mailbox moved to other host ", se);
-                        } else {
-                            ZimbraLog.purge.info("not purging mailbox %d; account moved to another host", mailboxId);
+                        AtomicInteger numPurged = new AtomicInteger();
+                        Boolean purgedAll = purge(mailboxId, purgePendingMailboxes, numPurged);
+                        if (purgedAll == null) {
+                            continue;
                         }
-                    } else {
-                        ZimbraLog.purge.warn("Unable to purge mailbox %d", mailboxId, se);
+                        if (!purgedAll) {
+                            ZimbraLog.purge.info("Not all messages were purged from mailbox %d.  Scheduling mailbox to be purged again.",
+                                mailboxId);
+                            mailboxIds.add(mailboxId);
+                        }
+                        if (mBudget != null) {
+                            mBudget.charge(numPurged.get());
+                        }
+                        // Sleep after every purge attempt.
+                        attempted.set(true);
+                        sleep();
                     }
-                } catch (OutOfMemoryError oome) {
-                    Zimbra.halt("Ran out of memory while purging mailboxes", oome);
-                } catch (Throwable t) {
-                    ZimbraLog.purge.warn("Unable to purge mailbox %d", mailboxId, t);
                 }
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                ZimbraLog.purge.debug("Purge thread was interrupted.");
+                mShutdownRequested = true;
+                mWorkers.shutdownNow();
+                break;
+            } catch (ExecutionException e) {
+                ZimbraLog.purge.warn("Purge thread failed", e.getCause());
+            }
+        }
+        return attempted.get();
+    }
 
-                ZimbraLog.clearContext();
-                if (attemptedPurge) {
-                    // Sleep after every purge attempt.
-                    sleep();
-                    slept = true;
+    /**
+     * Purges one mailbox.
+     *
+     * @return <tt>null</tt> if no purge was attempted, otherwise whether all messages were purged
+     */
+    private Boolean purge(int mailboxId, Set<Integer> purgePendingMailboxes, AtomicInteger numPurged) {
+        ZimbraLog.addMboxToContext(mailboxId);
+        boolean attemptedPurge = false;
+        boolean purgedAll = true;
+        try {
+            MailboxManager mm = MailboxManager.getInstance();
+            if (mm.isMailboxLoadedAndAvailable(mailboxId) || purgePendingMailboxes.contains(mailboxId)) {
+                attemptedPurge = true;
+                Mailbox mbox = mm.getMailboxById(mailboxId);
+                Account account = mbox.getAccount();
+                Provisioning prov = Provisioning.getInstance();
+                if (!Provisioning.ACCOUNT_STATUS_MAINTENANCE.equals(account.getAccountStatus(prov)) &&
+                        !account.isIsExternalVirtualAccount()) {
+                    ZimbraLog.addAccountNameToContext(account.getName());
+                    purgedAll = mbox.purgeMessages(null, numPurged);
+                    Config.setInt(Config.KEY_PURGE_LAST_MAILBOX_ID, mbox.getId());
+                } else {
+                    ZimbraLog.purge.debug("Skipping mailbox %d because the account is in maintenance status or is an external virtual account.", mailboxId);
                 }
-           }
-
-            // If nothing's getting purged, sleep to avoid a tight loop
-            if (!slept) {
-                sleep();
+            } else {
+                ZimbraLog.purge.debug("Skipping mailbox %d because it is not loaded into memory.", mailboxId);
             }
-
-            try {
-                long lastPurgeMaxDuration = Provisioning.getInstance().getLocalServer().getLastPurgeMaxDuration();
-                purgePendingMailboxes = MailboxManager.getInstance().getPurgePendingMailboxes(System.currentTimeMillis() - lastPurgeMaxDuration);
-            } catch (ServiceException e) {
-                ZimbraLog.purge.warn("Unable to get purge pending mailboxes ", e);
+        } catch (ServiceException se) {
+            if (ServiceException.WRONG_HOST.equals(se.getCode())) {
+                if (ZimbraLog.purge.isDebugEnabled()) {
+                    ZimbraLog.purge.debug("not purging mailbox moved to other host ", se);
+                } else {
+                    ZimbraLog.purge.info("not purging mailbox %d; account moved to another host", mailboxId);
+                }
+            } else {
+                ZimbraLog.purge.warn("Unable to purge mailbox %d", mailboxId, se);
             }
+        } catch (OutOfMemoryError oome) {
+            Zimbra.halt("Ran out of memory while purging mailboxes", oome);
+        } catch (Throwable t) {
+            ZimbraLog.purge.warn("Unable to purge mailbox %d", mailboxId, t);
+        } finally {
+            ZimbraLog.clearContext();
+        }
+        return attemptedPurge ? purgedAll : null;
+    }
+
+    /**
+     * Returns the start time of the current purge cycle, which is either the
+     * cycle that was interrupted by the last shutdown or a new one.
+     */
+    private static long startCycle() {
+        long cycleStart = Config.getLong(Config.KEY_PURGE_CYCLE_START, 0);
+        if (cycleStart > 0) {
+            ZimbraLog.purge.info("Resuming purge cycle started at %s.", new Date(cycleStart));
+            return cycleStart;
+        }
+        cycleStart = System.currentTimeMillis();
+        try {
+            Config.setLong(Config.KEY_PURGE_CYCLE_START, cycleStart);
+        } catch (ServiceException e) {
+            ZimbraLog.purge.warn("Unable to save purge cycle start time", e);
+        }
+        return cycleStart;
+    }
+
+    private static void endCycle() {
+        try {
+            Config.setLong(Config.KEY_PURGE_CYCLE_START, 0);
+        } catch (ServiceException e) {
+            ZimbraLog.purge.warn("Unable to reset purge cycle start time", e);
         }
     }
 
@@ -206,17 +321,24 @@ extends Thread {
         ZimbraLog.purge.debug("Sleeping for %d milliseconds.", interval);
 
         if (interval > 0) {
-            try {
-                Thread.sleep(interval);
-            } catch (InterruptedException e) {
-                ZimbraLog.purge.debug("Purge thread was interrupted.");
-                mShutdownRequested = true;
-            }
+            sleep(interval);
         } else {
             mShutdownRequested = true;
         }
     }
 
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            ZimbraLog.purge.debug("Purge thread was interrupted.");
+            mShutdownRequested = true;
+        }
+    }
+
     private void requestShutdown() {
         mShutdownRequested = true;
     }
@@ -237,10 +359,9 @@ extends Thread {
     }
 
     /**
-     * Returns all the mailbox id's in purge order, starting with the one
-     * after {@link Config#KEY_PURGE_LAST_MAILBOX_ID}.
+     * Returns the mailbox id's that haven't been purged since <tt>cycleStart</tt>, in purge order.
      */
-    private List<Integer> getMailboxIds() {
+    private List<Integer> getMailboxIds(long cycleStart) {
         List<Integer> mailboxIds = new ArrayList<Integer>();
 
         try {
@@ -254,11 +375,80 @@ extends Thread {
                 }
             }
 
+            MailboxManager mm = MailboxManager.getInstance();
+            // last_purge_at isn't available with an external mailbox directory
+            Set<Integer> pending = DebugConfig.externalMailboxDirectory ? null : mm.getPurgePendingMailboxes(cycleStart);
+            retainPending(mailboxIds, pending);
+            prioritize(mailboxIds, getOldestTrashAndJunkDates());
         } catch (ServiceException e) {
             ZimbraLog.purge.warn("Unable to get mailbox id's", e);
             return Collections.emptyList();
         }
 
+        ZimbraLog.purge.info("%d mailboxes left to purge in this cycle.", mailboxIds.size());
         return mailboxIds;
     }
+
+    /**
+     * Removes the mailboxes that aren't in <tt>pending</tt>.  A <tt>null</tt> set means the pending mailboxes
+     * are unknown, and keeps them all.
+     */
+    static void retainPending(List<Integer> mailboxIds, Set<Integer> pending) {
+        if (pending != null) {
+            mailboxIds.retainAll(pending);
+        }
+    }
+
+    /**
+     * Returns the oldest Trash and Junk dates, queried again only once they're older than
+     * {@link LC#purge_priority_refresh_ms}, since the query scans the item tables.
+     */
+    private Map<Integer, Integer> getOldestTrashAndJunkDates() throws ServiceException {
+        long now = System.currentTimeMillis();
+        if (mOldestTrashAndJunkDates == null ||
+                now - mOldestTrashAndJunkDatesTime >= LC.purge_priority_refresh_ms.longValue()) {
+            mOldestTrashAndJunkDates = MailboxManager.getInstance().getOldestTrashAndJunkDates();
+            mOldestTrashAndJunkDatesTime = now;
+        }
+        return mOldestTrashAndJunkDates;
+    }
+
+    /**
+     * Moves mailboxes with items in Trash or Junk to the front, oldest item first.  The other mailboxes keep
+     * their relative order.
+     */
+    static void prioritize(List<Integer> mailboxIds, final Map<Integer, Integer> oldestTrashAndJunkDates) {
+        Collections.sort(mailboxIds, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer id1, Integer id2) {
+                Integer date1 = oldestTrashAndJunkDates.get(id1);
+                Integer date2 = oldestTrashAndJunkDates.get(id2);
+                if (date1 == null || date2 == null) {
+                    return date1 != null ? -1 : date2 != null ? 1 : 0;
+                }
+                return date1.compareTo(date2);
+            }
+        });
+    }
+
+    /**
+     * Limit on purged items per second, shared by all purge threads.  Each purge is charged after the fact, and
+     * the next purge by any thread waits until the budget has caught up.
+     */
+    static final class Budget {
+        private final double nanosPerItem;
+        private long nextFree = System.nanoTime();
+
+        Budget(int itemsPerSecond) {
+            nanosPerItem = (double) TimeUnit.SECONDS.toNanos(1) / itemsPerSecond;
+        }
+
+        synchronized void charge(int items) {
+            nextFree = Math.max(nextFree, System.nanoTime()) + (long) (items * nanosPerItem);
+        }
+
+        synchronized long getWaitMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(nextFree - System.nanoTime());
+        }
+    }
 }
@@ -0,0 +1,219 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.mailbox;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.common.util.ZimbraLog;
+import com.zimbra.cs.db.DbMailItem;
+import com.zimbra.cs.stats.ZimbraPerf;
+import com.zimbra.cs.util.Zimbra;
+
+/**
+ * In-memory Bloom filter over the hashes in the {@code open_conversation} table of a mailbox.
+ * <p>
+ * Most of the reference and subject hashes {@link Threader} looks up for a new message match nothing, and each of
+ * those lookups is a database query made with the mailbox lock held. The filter answers the definite misses
+ * without a query. It is loaded from the table on first use, and {@link Conversation#open} adds the hashes written
+ * after that. Hashes removed from the table can't be taken out of a Bloom filter, so they stay behind as false
+ * positives. The filter is dropped, and loaded again on next use, once it has seen as many changes as it has spare
+ * room, or once more than a quarter of its lookups turn out to be false positives. A filter loaded in a transaction
+ * that rolls back is dropped as well, since it may be missing hashes the transaction deleted.
+ * <p>
+ * The filter is not used in always-on clusters, where other servers write to the table as well.
+ */
+final class ThreadHashIndex {
+
+    /** false positive rate the filter is sized for */
+    private static final double FPP = 0.03;
+    private static final int MIN_CAPACITY = 1024;
+    /** lookups since the load before the false positive rate is checked */
+    private static final int MIN_LOOKUPS = 64;
+
+    private final Mailbox mailbox;
+
+    // all guarded by this; read transactions share the mailbox lock
+    private boolean enabled;
+    private BloomFilter<CharSequence> filter;
+    private long capacity;
+    private long changes;
+    private long lookups;
+    private long stale;
+    private long hits;
+    private long misses;
+    private long falsePositives;
+    /** the filter was loaded in a transaction that hasn't ended yet, and may have read its uncommitted changes */
+    private boolean uncommitted;
+
+    ThreadHashIndex(Mailbox mbox) {
+        this(mbox, LC.conversation_hash_filter_enabled.booleanValue());
+    }
+
+    ThreadHashIndex(Mailbox mbox, boolean enabled) {
+        this.mailbox = mbox;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the {@code hashes} that may be in the {@code open_conversation} table, in order. If the result is
+     * empty, none of them are and the caller can skip the query. Otherwise the caller reports what the query found
+     * through {@link #recordLookup(boolean)}. Must be called in a mailbox transaction, as the first call loads the
+     * filter from the database.
+     */
+    synchronized List<String> filter(List<String> hashes) throws ServiceException {
+        if (!ensureLoaded()) {
+            return hashes;
+        }
+        lookups++;
+        List<String> candidates = new ArrayList<String>(hashes.size());
+        for (String hash : hashes) {
+            if (filter.mightContain(hash)) {
+                candidates.add(hash);
+            }
+        }
+        if (candidates.isEmpty()) {
+            misses++;
+            ZimbraPerf.COUNTER_THREAD_HASH_MISSES.increment();
+        }
+        return candidates;
+    }
+
+    /** @see #filter(List) */
+    boolean mightContain(String hash) throws ServiceException {
+        return !filter(Collections.singletonList(hash)).isEmpty();
+    }
+
+    /** Records whether the query for the hashes that passed {@link #filter(List)} matched an open conversation. */
+    synchronized void recordLookup(boolean found) {
+        if (filter == null) {
+            return;
+        }
+        if (found) {
+            hits++;
+            ZimbraPerf.COUNTER_THREAD_HASH_HITS.increment();
+        } else {
+            falsePositives++;
+            stale++;
+            ZimbraPerf.COUNTER_THREAD_HASH_FALSE_POSITIVES.increment();
+            if (lookups >= MIN_LOOKUPS && stale * 4 > lookups) {
+                drop("%d false positives in %d lookups", stale, lookups);
+            }
+        }
+    }
+
+    /** Called when {@code hash} is written to the {@code open_conversation} table. */
+    synchronized void add(String hash) {
+        if (filter == null) {
+            return;
+        }
+        filter.put(hash);
+        if (++changes > capacity) {
+            drop("%d hashes opened or closed", changes);
+        }
+    }
+
+    /** Called when {@code hash} is deleted from the {@code open_conversation} table. */
+    synchronized void remove(String hash) {
+        if (filter == null) {
+            return;
+        }
+        if (++changes > capacity) {
+            drop("%d hashes opened or closed", changes);
+        }
+    }
+
+    /** Called when a mailbox transaction commits. */
+    synchronized void commit() {
+        uncommitted = false;
+    }
+
+    /**
+     * Called when a mailbox transaction rolls back. A filter loaded after {@link Conversation#close} deleted a hash in
+     * that transaction doesn't have the hash, which the rollback has just put back in the table.
+     */
+    synchronized void rollback() {
+        if (uncommitted) {
+            drop("the transaction it was loaded in rolled back");
+        }
+    }
+
+    @VisibleForTesting
+    synchronized void unload() {
+        if (filter != null) {
+            drop("unloading it");
+        }
+    }
+
+    synchronized boolean isLoaded() {
+        return filter != null;
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    synchronized long getFalsePositives() {
+        return falsePositives;
+    }
+
+    private boolean ensureLoaded() throws ServiceException {
+        if (filter != null) {
+            return true;
+        }
+        if (!enabled) {
+            return false;
+        }
+        if (Zimbra.isAlwaysOn()) {
+            enabled = false;
+            return false;
+        }
+        int count = DbMailItem.countOpenConversationHashes(mailbox);
+        final BloomFilter<CharSequence> loaded = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                Math.max(MIN_CAPACITY, 2L * count), FPP);
+        DbMailItem.visitOpenConversationHashes(mailbox, hash -> loaded.put(hash));
+        filter = loaded;
+        uncommitted = true;
+        // room for as many new hashes as were loaded
+        capacity = Math.max(MIN_CAPACITY, 2L * count) - count;
+        changes = 0;
+        lookups = 0;
+        stale = 0;
+        ZimbraLog.mailbox.debug("loaded %d open conversation hashes into the threading filter", count);
+        return true;
+    }
+
+    private void drop(String reason, Object... args) {
+        filter = null;
+        uncommitted = false;
+        if (ZimbraLog.mailbox.isDebugEnabled()) {
+            ZimbraLog.mailbox.debug("dropping the threading filter after " + String.format(reason, args));
+        }
+    }
+}
@@ -337,7 +337,8 @@ public final class Threader {
      *  (which also correlates mailing list duplicates), and {@code
      *  Resent-Message-ID}.  If the user's threading algorithm is not
      *  {@link MailThreadingAlgorithm#strict}, we also thread on {@code
-     *  Thread-Index}.
+     *  Thread-Index}.  Hashes the mailbox's {@link ThreadHashIndex} rules
+     *  out are not queried.
      * @return a list of matching {@code Conversation}s
      */
     private List<Conversation> lookupByReference() throws ServiceException {
@@ -345,7 +346,14 @@ public final class Threader {
             return Collections.emptyList();
         }
         ZimbraLog.mailbox.debug("  lookup by references (%s): %s", mode, refHashes);
-        List<MailItem.UnderlyingData> dlist = DbMailItem.getByHashes(mbox, refHashes);
+        ThreadHashIndex index = mbox.getThreadHashIndex();
+        List<String> candidates = index.filter(refHashes);
+        if (candidates.isEmpty()) {
+            ZimbraLog.mailbox.debug("  no reference matches possible");
+            return Collections.emptyList();
+        }
+        List<MailItem.UnderlyingData> dlist = DbMailItem.getByHashes(mbox, candidates);
+        index.recordLookup(dlist != null && !dlist.isEmpty());
         if (dlist == null || dlist.isEmpty()) {
             ZimbraLog.mailbox.debug("  no reference matches found");
             return Collections.emptyList();
@@ -101,11 +101,13 @@ public class VirtualConversation extends Conversation {
     @Override
     void open(String hash) throws ServiceException {
         DbMailItem.openConversation(hash, getMessage());
+        mMailbox.getThreadHashIndex().add(hash);
     }
 
     @Override
     void close(String hash) throws ServiceException {
         DbMailItem.closeConversation(hash, getMessage());
+        mMailbox.getThreadHashIndex().remove(hash);
     }
 
     @Override
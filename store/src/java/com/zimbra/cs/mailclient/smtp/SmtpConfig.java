@@ -31,6 +31,7 @@ public final class SmtpConfig extends MailConfig {
     private String domain;
     private boolean allowPartialSend;
     private String dsn;
+    private boolean keepAlive;
 
     public SmtpConfig(String host, int port, String domain) {
         super(ZimbraLog.smtp, host);
@@ -76,12 +77,25 @@ public final class SmtpConfig extends MailConfig {
         return dsn;
     }
 
+    /**
+     * If true, the connection is left open after a message has been sent
+     * successfully so that it can be used to send another one.
+     */
+    public void setKeepAlive(boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
     @Override
     public MoreObjects.ToStringHelper addToStringInfo(MoreObjects.ToStringHelper helper) {
         helper = super.addToStringInfo(helper);
         helper
             .add("domain", domain)
-            .add("allowPartialSend", allowPartialSend);
+            .add("allowPartialSend", allowPartialSend)
+            .add("keepAlive", keepAlive);
         if (null != dsn) {
             helper.add("dsn", dsn);
         }
@@ -486,7 +486,8 @@ public final class SmtpConnection extends MailConnection {
     /**
      * Sends the message.
      * <p>
-     * Implicitly connects to the MTA, if necessary, and disconnects.
+     * Implicitly connects to the MTA, if necessary, and disconnects unless
+     * {@link SmtpConfig#isKeepAlive()} is set and the message was sent.
      *
      * @param sender envelope from
      * @param rcpts envelope recipients
@@ -496,10 +497,14 @@ public final class SmtpConnection extends MailConnection {
      */
     public void sendMessage(String sender, String[] rcpts, MimeMessage msg) throws IOException, MessagingException {
         connect();
+        boolean success = false;
         try {
             sendInternal(sender, rcpts, msg, null);
+            success = true;
         } finally {
-            quit();
+            if (!success || !getSmtpConfig().isKeepAlive()) {
+                quit();
+            }
         }
     }
 
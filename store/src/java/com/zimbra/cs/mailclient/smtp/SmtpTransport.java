@@ -101,6 +101,11 @@ import com.zimbra.cs.util.JMSession;
  *   <td>Socket I/O timeout value in milliseconds.
  *   Default is infinite timeout.</td>
  *  </tr>
+ *  <tr>
+ *   <td>mail.smtp[s].keepalive</td><td>boolean</td>
+ *   <td>If true, the connection stays open after a message has been sent so that
+ *   the transport can be reused for another message. Defaults to false.</td>
+ *  </tr>
  * </table>
  *
  * @author ysasaki
@@ -174,6 +179,8 @@ public class SmtpTransport extends Transport {
         config.setReadTimeout(PropUtil.getIntSessionProperty(session,
                 "mail." + protocol + ".timeout", 0) / 1000); // msec to sec
         config.setDsn(session.getProperty("mail." + protocol + ".dsn.notify"));
+        config.setKeepAlive(PropUtil.getBooleanSessionProperty(session,
+                "mail." + protocol + ".keepalive", false));
 
         Properties props = session.getProperties();
         Object socketFactory = props.get("mail." + protocol + ".socketFactory");
@@ -215,9 +222,9 @@ public class SmtpTransport extends Transport {
     }
 
     /**
-     * Sends the message to the recipients. This implementation immediately
-     * closes the SMTP connection after sending a message, which might be
-     * incompatible with JavaMail.
+     * Sends the message to the recipients. Unless {@code mail.smtp[s].keepalive}
+     * is set, this implementation immediately closes the SMTP connection after
+     * sending a message, which might be incompatible with JavaMail.
      *
      * @param msg message to send
      * @param rcpts recipients, may be different from ones in the MIME header
@@ -250,12 +257,17 @@ public class SmtpTransport extends Transport {
         notify(null, msg, rcpts);
     }
 
+    @Override
+    public boolean isConnected() {
+        return super.isConnected() && connection != null && !connection.isClosed();
+    }
+
     @Override
     public void close() throws MessagingException {
         if (connection != null) {
             connection.close();
         }
-        if (isConnected()) {
+        if (super.isConnected()) {
             super.close();
         }
     }
@@ -33,7 +33,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.zip.GZIPInputStream;
 
 import javax.mail.Address;
 import javax.mail.Header;
@@ -64,7 +63,6 @@ import com.zimbra.common.mime.shim.JavaMailInternetAddress;
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.util.ByteUtil;
 import com.zimbra.common.util.EmailUtil;
-import com.zimbra.common.util.FileUtil;
 import com.zimbra.common.util.L10nUtil;
 import com.zimbra.common.util.Log;
 import com.zimbra.common.util.LogFactory;
@@ -87,6 +85,7 @@ import com.zimbra.cs.mailbox.Mailbox;
 import com.zimbra.cs.mailbox.Threader;
 import com.zimbra.cs.object.ObjectHandlerException;
 import com.zimbra.cs.store.Blob;
+import com.zimbra.cs.store.BlobCodec;
 import com.zimbra.cs.store.BlobInputStream;
 import com.zimbra.cs.store.StoreManager;
 import com.zimbra.cs.util.JMSession;
@@ -227,10 +226,11 @@ public final class ParsedMessage {
         }
 
         long size;
-        if (FileUtil.isGzipped(file)) {
-            size = ByteUtil.getDataLength(new GZIPInputStream(new FileInputStream(file)));
-        } else {
+        BlobCodec codec = BlobCodec.detect(file);
+        if (codec == BlobCodec.NONE) {
             size = file.length();
+        } else if ((size = codec.getRawSize(file)) < 0) {
+            size = ByteUtil.getDataLength(codec.newInputStream(new FileInputStream(file)));
         }
         sharedStream = new BlobInputStream(file, size);
         initialize(receivedDate, indexAttachments);
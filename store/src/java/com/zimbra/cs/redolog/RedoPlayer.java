@@ -29,6 +29,8 @@ import java.util.Set;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.util.ZimbraLog;
@@ -421,6 +423,9 @@ public class RedoPlayer {
         synchronized (mOpsMapGuard) {
             Set entrySet = mOpsMap.entrySet();
             ZimbraLog.redolog.info("Redoing " + numOps + " uncommitted transactions");
+            mRecoveryTotal = numOps;
+            mRecoveryStart = System.currentTimeMillis();
+            mLastRecoveryReport.set(mRecoveryStart);
             for (Iterator it = entrySet.iterator(); it.hasNext(); ) {
                 Map.Entry entry = (Entry) it.next();
                 RedoableOp op = (RedoableOp) entry.getValue();
@@ -433,33 +438,73 @@ public class RedoPlayer {
                     continue;
                 }
 
-                if (ZimbraLog.redolog.isInfoEnabled())
-                    ZimbraLog.redolog.info("REDOING: " + op);
-
-                boolean success = false;
-                try {
-                    op.redo();
-                    success = true;
-                } catch (Exception e) {
-                    ZimbraLog.redolog.error("Redo failed for [" + op + "]." +
-                            "  Backend state of affected item is indeterminate." +
-                            "  Marking operation as aborted and moving on.", e);
-                } finally {
-                    if (success) {
-                        CommitTxn commit = new CommitTxn(op);
-                        redoLogMgr.logOnly(commit, true);
-                    } else {
-                        AbortTxn abort = new AbortTxn(op);
-                        redoLogMgr.logOnly(abort, true);
-                    }
-                }
+                submitRecoveryOp(redoLogMgr, op);
             }
+            awaitRecovery();
+            ZimbraLog.redolog.info("Redid %d uncommitted transactions in %dms",
+                    mRecoveredOps.get(), System.currentTimeMillis() - mRecoveryStart);
             mOpsMap.clear();
         }
 
         return numOps;
     }
 
+    /**
+     * Hands an uncommitted op to crash recovery.  Ops are submitted in log order.  This implementation redoes the op
+     * right away in the calling thread.
+     */
+    protected void submitRecoveryOp(RedoLogManager redoLogMgr, RedoableOp op) throws Exception {
+        recoverOp(redoLogMgr, op);
+    }
+
+    /**
+     * Waits until every op submitted to crash recovery has been redone.
+     */
+    protected void awaitRecovery() throws Exception {
+    }
+
+    /**
+     * Redoes an uncommitted op during crash recovery, then logs a commit for it, or an abort if the redo failed.
+     */
+    protected final void recoverOp(RedoLogManager redoLogMgr, RedoableOp op) {
+        if (ZimbraLog.redolog.isInfoEnabled())
+            ZimbraLog.redolog.info("REDOING: " + op);
+
+        boolean success = false;
+        try {
+            op.redo();
+            success = true;
+        } catch (Exception e) {
+            ZimbraLog.redolog.error("Redo failed for [" + op + "]." +
+                    "  Backend state of affected item is indeterminate." +
+                    "  Marking operation as aborted and moving on.", e);
+        } finally {
+            if (success) {
+                CommitTxn commit = new CommitTxn(op);
+                redoLogMgr.logOnly(commit, true);
+            } else {
+                AbortTxn abort = new AbortTxn(op);
+                redoLogMgr.logOnly(abort, true);
+            }
+            reportRecoveryProgress();
+        }
+    }
+
+    private static final long RECOVERY_PROGRESS_INTERVAL_MS = 10 * 1000;
+    private final AtomicInteger mRecoveredOps = new AtomicInteger();
+    private final AtomicLong mLastRecoveryReport = new AtomicLong();
+    private volatile int mRecoveryTotal;
+    private long mRecoveryStart;
+
+    private void reportRecoveryProgress() {
+        int done = mRecoveredOps.incrementAndGet();
+        long last = mLastRecoveryReport.get();
+        long now = System.currentTimeMillis();
+        if (now - last >= RECOVERY_PROGRESS_INTERVAL_MS && mLastRecoveryReport.compareAndSet(last, now)) {
+            ZimbraLog.redolog.info("Crash recovery progress: %d of %d transactions redone", done, mRecoveryTotal);
+        }
+    }
+
     /**
      * Returns a copy of the pending ops map.
      * @return
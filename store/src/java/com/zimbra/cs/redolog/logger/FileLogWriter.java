@@ -24,6 +24,7 @@
 package com.zimbra.cs.redolog.logger;
 
 import com.zimbra.common.localconfig.DebugConfig;
+import com.zimbra.common.localconfig.LC;
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.util.Constants;
 import com.zimbra.common.util.ZimbraLog;
@@ -35,16 +36,25 @@ import com.zimbra.cs.redolog.RedoLogManager;
 import com.zimbra.cs.redolog.RolloverManager;
 import com.zimbra.cs.redolog.op.CommitTxn;
 import com.zimbra.cs.redolog.op.RedoableOp;
+import com.zimbra.cs.stats.ZimbraPerf;
 import com.zimbra.cs.util.Zimbra;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author jhahm
@@ -72,6 +82,10 @@ public class FileLogWriter implements LogWriter {
     // wait/notify between logger threads and fsync thread
     private final Object mFsyncCond = new Object();
 
+    // Serializes fsyncs in group commit mode, where the fsync itself runs without
+    // holding mLock.  Always acquired before mLock, never after.
+    private final Object mForceLock = new Object();
+
     private FileHeader mHeader;
     private long mFirstOpTstamp;
     private long mLastOpTstamp;
@@ -87,8 +101,16 @@ public class FileLogWriter implements LogWriter {
 
     private FsyncThread mFsyncer;   // fsync thread
 
+    // Group commit mode: log() appends to mGroupBuffer and a dedicated flusher thread
+    // writes and fsyncs the accumulated batch as soon as the previous fsync completes.
+    private final boolean mGroupCommit;
+    private GroupBuffer mGroupBuffer;       // data logged but not yet written to mRAF
+    private List<Notif> mGroupNotifs;       // commit callbacks waiting on the next fsync
+    private volatile GroupCommitThread mGroupFlusher;
+    private ExecutorService mCallbackExecutor;  // makes commit callbacks off the logging threads
+
     private int mLogSeq;            // last item logged
-    private int mFsyncSeq;          // last item fsynced
+    private volatile int mFsyncSeq; // last item fsynced
 
     // for gathering some stats; nonessential for functionality
     private int mLogCount;          // how many times log was called
@@ -112,6 +134,18 @@ public class FileLogWriter implements LogWriter {
         mFsyncCount = mLogCount = 0;
 
         mCommitNotifyQueue = new CommitNotifyQueue(100);
+
+        // Group commit only replaces the periodic fsync thread; writers that fsync
+        // inline (e.g. the temporary logger used during rollover) are unaffected.
+        mGroupCommit = fsyncIntervalMS > 0 && LC.redolog_group_commit_enabled.booleanValue();
+        if (mGroupCommit) {
+            mGroupBuffer = new GroupBuffer();
+            mGroupNotifs = new ArrayList<Notif>();
+        }
+    }
+
+    public boolean isGroupCommit() {
+        return mGroupCommit;
     }
 
     @Override public long getSequence() {
@@ -226,20 +260,32 @@ public class FileLogWriter implements LogWriter {
     @Override public synchronized void close() throws IOException {
         stopFsyncThread();
 
-        synchronized (mLock) {
-            if (mRAF != null) {
-                if (mLastOpTstamp != 0)
-                	mHeader.setLastOpTstamp(mLastOpTstamp);
-                mHeader.setOpen(false);
-                mHeader.setFileSize(mRAF.length());
-                mHeader.write(mRAF);
-
-                mRAF.getChannel().force(true);
-                mRAF.close();
-                mRAF = null;
-            } else
-                return;
+        List<Notif> notifs = null;
+        synchronized (mForceLock) {
+            synchronized (mLock) {
+                if (mRAF != null) {
+                    if (mGroupCommit) {
+                        // anything logged after the flusher's final fsync
+                        mGroupBuffer.writeTo(mRAF);
+                        notifs = mGroupNotifs;
+                        mGroupNotifs = new ArrayList<Notif>();
+                        mFsyncSeq = mLogSeq;
+                    }
+                    if (mLastOpTstamp != 0)
+                    	mHeader.setLastOpTstamp(mLastOpTstamp);
+                    mHeader.setOpen(false);
+                    mHeader.setFileSize(mRAF.length());
+                    mHeader.write(mRAF);
+
+                    mRAF.getChannel().force(true);
+                    mRAF.close();
+                    mRAF = null;
+                } else
+                    return;
+            }
         }
+        if (notifs != null)
+            notifyCommits(notifs);
 
         // Write some stats, so we can see how many times we were able to avoid calling fsync.
         if (!mNoStat && mLogCount > 0 && ZimbraLog.redolog.isDebugEnabled())
@@ -268,6 +314,14 @@ public class FileLogWriter implements LogWriter {
      * Fsync is required, but the sleep interval for fsync thread is 0.  We
      * special case this condition to mean fsync should be done by the calling
      * thread.
+     *
+     * In group commit mode (fsyncInterval > 0 and redolog_group_commit_enabled),
+     * the data is appended to an in-memory buffer instead of the file.  The
+     * group commit thread writes out everything buffered so far and fsyncs it
+     * as soon as the previous fsync has completed, so the batch size adapts to
+     * the speed of the disk rather than to a fixed sleep interval.  Synchronous
+     * callers wait until their entry is covered by a completed fsync.  Commit
+     * callbacks are made on a separate thread after the fsync.
      */
     @Override public void log(RedoableOp op, InputStream data, boolean synchronous) throws IOException {
         int seq;
@@ -295,7 +349,10 @@ public class FileLogWriter implements LogWriter {
             int numRead;
             byte[] buf = new byte[1024];
             while ((numRead = data.read(buf)) >= 0) {
-                mRAF.write(buf, 0, numRead);
+                if (mGroupCommit)
+                    mGroupBuffer.write(buf, 0, numRead);
+                else
+                    mRAF.write(buf, 0, numRead);
                 mFileSize += numRead;
             }
             data.close();
@@ -311,7 +368,10 @@ public class FileLogWriter implements LogWriter {
                     Notif notif = new Notif(cb, cid);
                     // We queue it instead making the callback right away.
                     // Call it only after the commit record has been fsynced.
-                    mCommitNotifyQueue.push(notif);
+                    if (mGroupCommit)
+                        mGroupNotifs.add(notif);
+                    else
+                        mCommitNotifyQueue.push(notif);
                 }
             }
 
@@ -319,13 +379,18 @@ public class FileLogWriter implements LogWriter {
 
             sameMboxAsLastOp = mLastOpMboxId == op.getMailboxId();
             mLastOpMboxId = op.getMailboxId();
+
+            if (mGroupCommit)
+                mLock.notifyAll();  // wake up the group commit thread
         }
 
         // cases 1 above
         if (!synchronous)
             return;
 
-        if (mFsyncIntervalMS > 0) {
+        if (mGroupCommit) {
+            waitForGroupFsync(seq);
+        } else if (mFsyncIntervalMS > 0) {
             if (!sameMboxAsLastOp) {
                 // case 2
                 try {
@@ -356,6 +421,29 @@ public class FileLogWriter implements LogWriter {
 
     private int mLastOpMboxId;
 
+    // Blocks until the group commit thread has fsynced the entry with sequence
+    // seq.  Falls back to fsyncing in the calling thread if the group commit
+    // thread isn't running.
+    private void waitForGroupFsync(int seq) throws IOException {
+        synchronized (mFsyncCond) {
+            while (mFsyncSeq < seq && isGroupFlusherRunning()) {
+                try {
+                    mFsyncCond.wait(1000);
+                } catch (InterruptedException e) {
+                    ZimbraLog.redolog.info("Thread interrupted during fsync");
+                    break;
+                }
+            }
+        }
+        if (mFsyncSeq < seq)
+            fsync();
+    }
+
+    private boolean isGroupFlusherRunning() {
+        GroupCommitThread flusher = mGroupFlusher;
+        return flusher != null && flusher.isAlive();
+    }
+
     @Override public void flush() throws IOException {
         fsync();
     }
@@ -436,7 +524,13 @@ public class FileLogWriter implements LogWriter {
     }
 
     private synchronized void startFsyncThread() {
-        if (mFsyncer == null && mFsyncIntervalMS > 0) {
+        if (mGroupCommit) {
+            if (mGroupFlusher == null) {
+                mCallbackExecutor = Executors.newSingleThreadExecutor(new CallbackThreadFactory());
+                mGroupFlusher = new GroupCommitThread();
+                mGroupFlusher.start();
+            }
+        } else if (mFsyncer == null && mFsyncIntervalMS > 0) {
             mFsyncer = new FsyncThread(mFsyncIntervalMS);
             mFsyncer.start();
         }
@@ -447,10 +541,27 @@ public class FileLogWriter implements LogWriter {
             mFsyncer.stopThread();
             mFsyncer = null;
         }
+        if (mGroupFlusher != null) {
+            mGroupFlusher.stopThread();
+            mGroupFlusher = null;
+            // let the callbacks for everything fsynced so far run to completion
+            mCallbackExecutor.shutdown();
+            try {
+                if (!mCallbackExecutor.awaitTermination(1, TimeUnit.MINUTES))
+                    ZimbraLog.redolog.warn("timed out waiting for redolog commit callbacks to finish");
+            } catch (InterruptedException e) {
+                ZimbraLog.redolog.warn("InterruptedException while waiting for redolog commit callbacks", e);
+            }
+            mCallbackExecutor = null;
+        }
     }
 
     // do fsync if there are items logged since last fsync
     private void fsync() throws IOException {
+        if (mGroupCommit) {
+            groupFsync();
+            return;
+        }
         boolean fsyncNeeded = false;
         int seq = 0;
         synchronized (mLock) {
@@ -485,6 +596,148 @@ public class FileLogWriter implements LogWriter {
     }
 
 
+    // Writes out the group commit buffer and fsyncs it.  Only the write happens with
+    // mLock held, so other threads can keep logging while the fsync is in progress.
+    private void groupFsync() throws IOException {
+        synchronized (mForceLock) {
+            int seq;
+            int batchSize;
+            List<Notif> notifs;
+            synchronized (mLock) {
+                if (mFsyncSeq >= mLogSeq)
+                    return;
+                if (mRAF == null)
+                    throw new IOException("Redolog file closed");
+                mGroupBuffer.writeTo(mRAF);
+                seq = mLogSeq;
+                batchSize = seq - mFsyncSeq;
+                notifs = mGroupNotifs;
+                mGroupNotifs = new ArrayList<Notif>();
+                if (!mFsyncDisabled)
+                    mFsyncCount++;
+            }
+            if (!mFsyncDisabled) {
+                long start = System.nanoTime();
+                // mRAF can't be closed while we hold mForceLock
+                mRAF.getChannel().force(false);
+                ZimbraPerf.HISTOGRAM_REDO_FSYNC_MICROS.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            }
+            ZimbraPerf.HISTOGRAM_REDO_BATCH_SIZE.add(batchSize);
+            mFsyncSeq = seq;
+            synchronized (mFsyncCond) {
+                mFsyncCond.notifyAll();
+            }
+            if (!notifs.isEmpty()) {
+                ExecutorService executor = mCallbackExecutor;
+                if (executor == null || !submitCallbacks(executor, notifs))
+                    notifyCommits(notifs);
+            }
+        }
+    }
+
+    private static boolean submitCallbacks(ExecutorService executor, final List<Notif> notifs) {
+        try {
+            executor.execute(new Runnable() {
+                @Override public void run() {
+                    notifyCommits(notifs);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;  // shutting down; caller makes the callbacks inline
+        }
+    }
+
+    private static void notifyCommits(List<Notif> notifs) {
+        for (Notif notif : notifs) {
+            RedoCommitCallback cb = notif.getCallback();
+            assert(cb != null);
+            try {
+                cb.callback(notif.getCommitId());
+            } catch (OutOfMemoryError e) {
+                Zimbra.halt("out of memory", e);
+            } catch (Throwable t) {
+                ZimbraLog.misc.error("Error while making commit callback", t);
+            }
+        }
+    }
+
+    // Group commit thread.  Fsyncs whatever has been logged as soon as the
+    // previous fsync finishes, and sleeps only while there is nothing to fsync.
+    // Under load every fsync covers all the entries logged while the previous
+    // one was in progress.
+    private class GroupCommitThread extends Thread {
+        private boolean mRunning = true;  // protected by mLock
+
+        public GroupCommitThread() {
+            super("FileLogWriter.GroupCommitThread-" + System.currentTimeMillis());
+        }
+
+        @Override public void run() {
+            ZimbraLog.redolog.info("Starting group commit thread");
+            while (true) {
+                synchronized (mLock) {
+                    while (mRunning && mFsyncSeq >= mLogSeq) {
+                        try {
+                            mLock.wait();
+                        } catch (InterruptedException e) {
+                            ZimbraLog.redolog.warn("Group commit thread interrupted", e);
+                        }
+                    }
+                    if (!mRunning && mFsyncSeq >= mLogSeq)
+                        break;
+                }
+                try {
+                    fsync();
+                } catch (IOException e) {
+                    String message = "Error while fsyncing " + mFile.getAbsolutePath() + "; Aborting.";
+                    Zimbra.halt(message, e);
+                }
+            }
+            ZimbraLog.redolog.info("group commit thread exiting");
+        }
+
+        // Stop the thread after it has fsynced everything logged so far.
+        public void stopThread() {
+            synchronized (mLock) {
+                mRunning = false;
+                mLock.notifyAll();
+            }
+            try {
+                while (isAlive()) {
+                    ZimbraLog.redolog.info("waiting for %s to finish.", getName());
+                    join(Constants.MILLIS_PER_MINUTE);
+                }
+                ZimbraLog.redolog.info("%s finished", getName());
+            } catch (InterruptedException e) {
+                ZimbraLog.redolog.warn("InterruptedException while stopping GroupCommitThread", e);
+            }
+        }
+    }
+
+    private static class CallbackThreadFactory implements ThreadFactory {
+        @Override public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "FileLogWriter.CommitCallback-" + System.currentTimeMillis());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+
+    // Accumulates logged data in group commit mode until the next fsync.
+    private static class GroupBuffer extends ByteArrayOutputStream {
+        GroupBuffer() {
+            super(64 * 1024);
+        }
+
+        // Appends the buffered data to the file and empties the buffer.
+        void writeTo(RandomAccessFile raf) throws IOException {
+            if (count > 0) {
+                raf.write(buf, 0, count);
+                reset();
+            }
+        }
+    }
+
     // Thread that calls fsync() periodically.  Threads that call log()
     // will write the log entry and wait for this thread to signal them
     // after sync to disk has occurred.  This way, there are fewer fsyncs
@@ -27,7 +27,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.zip.GZIPInputStream;
 
 import javax.activation.DataSource;
 
@@ -52,6 +51,7 @@ import com.zimbra.cs.redolog.RedoException;
 import com.zimbra.cs.redolog.RedoLogInput;
 import com.zimbra.cs.redolog.RedoLogOutput;
 import com.zimbra.cs.store.Blob;
+import com.zimbra.cs.store.BlobCodec;
 import com.zimbra.cs.store.StoreManager;
 
 public class CreateMessage extends RedoableOp
@@ -524,7 +524,7 @@ implements CreateCalendarItemPlayer, CreateCalendarItemRecorder {
             try {
                 in = mData.getInputStream();
                 if (mData.getLength() != mMsgSize) {
-                    in = new GZIPInputStream(in);
+                    in = BlobCodec.decode(in);
                 }
                 mbox.addMessage(octxt, in, mMsgSize, mReceivedDate, getDeliveryOptions(), dctxt);
             } catch (MailServiceException e) {
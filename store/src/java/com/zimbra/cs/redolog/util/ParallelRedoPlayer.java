@@ -18,10 +18,12 @@
 package com.zimbra.cs.redolog.util;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.util.ZimbraLog;
+import com.zimbra.cs.redolog.RedoLogManager;
 import com.zimbra.cs.redolog.RedoPlayer;
 import com.zimbra.cs.redolog.op.RedoableOp;
 import com.zimbra.cs.util.Zimbra;
@@ -83,6 +85,32 @@ public class ParallelRedoPlayer extends RedoPlayer {
         }
     }
 
+    /**
+     * Crash recovery uses the same partitioning as playback: ops for a mailbox are redone in log order by that
+     * mailbox's player thread.  A multi-mailbox op waits for all earlier ops to finish and is then redone by the
+     * main thread, so that later ops see its result.
+     */
+    @Override protected void submitRecoveryOp(RedoLogManager redoLogMgr, RedoableOp op) throws Exception {
+        checkError();
+        int mboxId = op.getMailboxId();
+        if (mboxId == RedoableOp.MAILBOX_ID_ALL || mboxId == RedoableOp.UNKNOWN_ID) {
+            awaitRecovery();
+            recoverOp(redoLogMgr, op);
+        } else {
+            PlayerThread player = mPlayerThreads[Math.abs(mboxId % mPlayerThreads.length)];
+            player.enqueue(new RecoveryTask(redoLogMgr, op));
+        }
+    }
+
+    @Override protected void awaitRecovery() throws Exception {
+        BarrierTask barrier = new BarrierTask(mPlayerThreads.length);
+        for (PlayerThread player : mPlayerThreads) {
+            player.enqueue(barrier);
+        }
+        barrier.await();
+        checkError();
+    }
+
     private Throwable mError = null;
     private final Object mErrorLock = new Object();
 
@@ -113,6 +141,28 @@ public class ParallelRedoPlayer extends RedoPlayer {
         public boolean isShutdownTask() { return false; }
     }
 
+    private class RecoveryTask extends RedoTask {
+        private final RedoLogManager mRedoLogMgr;
+        public RecoveryTask(RedoLogManager redoLogMgr, RedoableOp op) {
+            super(op);
+            mRedoLogMgr = redoLogMgr;
+        }
+        public void recover()           { recoverOp(mRedoLogMgr, getOp()); }
+    }
+
+    /**
+     * Task that every player thread passes once it has executed everything queued before it.
+     */
+    private static class BarrierTask extends RedoTask {
+        private final CountDownLatch mLatch;
+        public BarrierTask(int numThreads) {
+            super(null);
+            mLatch = new CountDownLatch(numThreads);
+        }
+        public void pass()              { mLatch.countDown(); }
+        public void await() throws InterruptedException { mLatch.await(); }
+    }
+
     /**
      * Special task to tell the queue drain thread to go away.
      */
@@ -156,6 +206,10 @@ public class ParallelRedoPlayer extends RedoPlayer {
                 }
                 if (task.isShutdownTask())
                     break;
+                if (task instanceof BarrierTask) {
+                    ((BarrierTask) task).pass();
+                    continue;
+                }
 
                 if (hadError()) {
                     // If there was an error, keep consuming from the queue without executing anything.
@@ -170,7 +224,9 @@ public class ParallelRedoPlayer extends RedoPlayer {
                     if (ZimbraLog.redolog.isDebugEnabled()) {
                         ZimbraLog.redolog.info("Executing: " + op.toString());
                     }
-                    if (handleMailboxConflict) {
+                    if (task instanceof RecoveryTask) {
+                        ((RecoveryTask) task).recover();
+                    } else if (handleMailboxConflict) {
                         redoOpWithMboxConflict(op);
                     } else {
                         op.redo();
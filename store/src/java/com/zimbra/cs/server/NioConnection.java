@@ -85,6 +85,17 @@ public final class NioConnection {
         session.setAttribute(SaslFilter.DISABLE_ENCRYPTION_ONCE, true);
     }
 
+    /**
+     * Starts RFC 4978 DEFLATE compression in both directions. The next write, i.e. the response to the COMPRESS
+     * command, is still sent uncompressed.
+     */
+    public void startDeflate(int level) {
+        NioDeflateFilter filter = new NioDeflateFilter(server.getLog(), server.deflateStats, level);
+        // below any SSL/SASL filter, so that data is compressed before it's encrypted
+        session.getFilterChain().addBefore("executer", "deflate", filter);
+        session.setAttribute(NioDeflateFilter.DISABLE_COMPRESSION_ONCE, true);
+    }
+
     public void send(Object obj) {
         session.write(obj);
     }
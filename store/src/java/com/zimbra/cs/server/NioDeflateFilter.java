@@ -0,0 +1,200 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.server;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.mina.core.buffer.IoBuffer;
+import org.apache.mina.core.filterchain.IoFilterAdapter;
+import org.apache.mina.core.session.IoSession;
+import org.apache.mina.core.write.DefaultWriteRequest;
+import org.apache.mina.core.write.WriteRequest;
+import org.apache.mina.filter.codec.ProtocolDecoderException;
+
+import com.zimbra.common.util.Log;
+
+/**
+ * MINA filter for the DEFLATE compression layer of RFC 4978 (IMAP COMPRESS). Both directions are raw DEFLATE streams
+ * without a zlib header or trailer. Every write is sync-flushed so that the client can decode each response as soon as
+ * it arrives.
+ * <p>
+ * The filter must sit below the SSL and SASL filters in the chain, so that data is compressed before it's encrypted.
+ */
+final class NioDeflateFilter extends IoFilterAdapter {
+    /** When set, compression is disabled for the first write, i.e. the tagged OK response to COMPRESS */
+    static final String DISABLE_COMPRESSION_ONCE = NioDeflateFilter.class.getName() + ".DisableCompressionOnce";
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final Log log;
+    private final Stats stats;
+    private final Deflater deflater;
+    private final Inflater inflater = new Inflater(true);
+    private final byte[] deflateBuffer = new byte[BUFFER_SIZE];
+    private final byte[] inflateBuffer = new byte[BUFFER_SIZE];
+    private long deflateNanos;
+    private long inflateNanos;
+    private boolean ended;
+
+    NioDeflateFilter(Log log, Stats stats, int level) {
+        this.log = log;
+        this.stats = stats;
+        deflater = new Deflater(level, true);
+        stats.sessions.increment();
+    }
+
+    @Override
+    public void messageReceived(NextFilter nextFilter, IoSession session, Object message) throws Exception {
+        if (!(message instanceof IoBuffer)) {
+            nextFilter.messageReceived(session, message);
+            return;
+        }
+        IoBuffer buf = (IoBuffer) message;
+        IoBuffer out;
+        synchronized (inflater) {
+            long start = System.nanoTime();
+            int size = buf.remaining();
+            out = IoBuffer.allocate(Math.max(size * 4, 256)).setAutoExpand(true);
+            setInput(buf);
+            try {
+                while (true) {
+                    int len = inflater.inflate(inflateBuffer);
+                    if (len > 0) {
+                        out.put(inflateBuffer, 0, len);
+                    } else if (inflater.needsInput() || inflater.finished() || inflater.needsDictionary()) {
+                        break;
+                    }
+                }
+            } catch (DataFormatException e) {
+                throw new ProtocolDecoderException("invalid DEFLATE data", e);
+            }
+            long elapsed = System.nanoTime() - start;
+            inflateNanos += elapsed;
+            stats.readCompressed.add(size);
+            stats.readUncompressed.add(out.position());
+            stats.nanos.add(elapsed);
+        }
+        out.flip();
+        if (out.hasRemaining()) {
+            nextFilter.messageReceived(session, out);
+        }
+    }
+
+    private void setInput(IoBuffer buf) {
+        if (buf.hasArray()) {
+            inflater.setInput(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+            buf.position(buf.limit());
+        } else {
+            byte[] b = new byte[buf.remaining()];
+            buf.get(b);
+            inflater.setInput(b);
+        }
+    }
+
+    @Override
+    public void filterWrite(NextFilter nextFilter, IoSession session, WriteRequest writeRequest) throws Exception {
+        if (!(writeRequest.getMessage() instanceof IoBuffer)) {
+            nextFilter.filterWrite(session, writeRequest);
+            return;
+        }
+        IoBuffer buf = (IoBuffer) writeRequest.getMessage();
+        // Allows us to send the COMPRESS OK response before compression starts.
+        if (session.removeAttribute(DISABLE_COMPRESSION_ONCE) != null || !buf.hasRemaining()) {
+            nextFilter.filterWrite(session, writeRequest);
+            return;
+        }
+
+        // The DEFLATE stream is stateful, so compressing and passing on must not interleave between writers.
+        synchronized (deflater) {
+            long start = System.nanoTime();
+            int size = buf.remaining();
+            byte[] b;
+            int off;
+            if (buf.hasArray()) {
+                b = buf.array();
+                off = buf.arrayOffset() + buf.position();
+            } else {
+                b = new byte[size];
+                buf.get(b);
+                buf.rewind();
+                off = 0;
+            }
+            deflater.setInput(b, off, size);
+            IoBuffer out = IoBuffer.allocate(size / 2 + 64).setAutoExpand(true);
+            int len;
+            do {
+                len = deflater.deflate(deflateBuffer, 0, deflateBuffer.length, Deflater.SYNC_FLUSH);
+                out.put(deflateBuffer, 0, len);
+            } while (len == deflateBuffer.length);
+            out.flip();
+            long elapsed = System.nanoTime() - start;
+            deflateNanos += elapsed;
+            stats.writtenUncompressed.add(size);
+            stats.writtenCompressed.add(out.remaining());
+            stats.nanos.add(elapsed);
+            buf.position(buf.limit());
+            nextFilter.filterWrite(session, new DefaultWriteRequest(out, writeRequest.getFuture()));
+        }
+    }
+
+    @Override
+    public void sessionClosed(NextFilter nextFilter, IoSession session) throws Exception {
+        try {
+            end();
+        } finally {
+            nextFilter.sessionClosed(session);
+        }
+    }
+
+    private void end() {
+        synchronized (deflater) {
+            synchronized (inflater) {
+                if (ended) {
+                    return;
+                }
+                ended = true;
+                long written = deflater.getBytesRead();
+                long sent = deflater.getBytesWritten();
+                log.info("DEFLATE wrote %d bytes as %d (ratio %.2f), read %d bytes as %d, compression time %dms",
+                        written, sent, ratio(written, sent), inflater.getBytesWritten(), inflater.getBytesRead(),
+                        (deflateNanos + inflateNanos) / 1000000L);
+                deflater.end();
+                inflater.end();
+            }
+        }
+    }
+
+    static double ratio(long uncompressed, long compressed) {
+        return compressed == 0 ? 0.0 : (double) uncompressed / compressed;
+    }
+
+    /**
+     * Totals over all compressed sessions of a server, reported by {@link NioServerStats}.
+     */
+    static final class Stats {
+        final LongAdder sessions = new LongAdder();
+        final LongAdder writtenUncompressed = new LongAdder();
+        final LongAdder writtenCompressed = new LongAdder();
+        final LongAdder readCompressed = new LongAdder();
+        final LongAdder readUncompressed = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+    }
+}
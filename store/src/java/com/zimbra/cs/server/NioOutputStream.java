@@ -19,15 +19,19 @@ package com.zimbra.cs.server;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 
 import org.apache.mina.core.buffer.IoBuffer;
+import org.apache.mina.core.file.DefaultFileRegion;
+import org.apache.mina.core.filterchain.IoFilterChain;
 import org.apache.mina.core.future.WriteFuture;
 import org.apache.mina.core.session.IoSession;
 
 import com.google.common.base.Charsets;
 import com.zimbra.common.util.ZimbraLog;
+import com.zimbra.cs.store.FileRegionSink;
 
-public final class NioOutputStream extends OutputStream {
+public final class NioOutputStream extends OutputStream implements FileRegionSink {
     private final IoSession session;
     private IoBuffer buf;
     private int maxScheduledBytes;
@@ -88,6 +92,40 @@ public final class NioOutputStream extends OutputStream {
         }
     }
 
+    /**
+     * File regions bypass the filters' byte handling, so they can only be sent on
+     * sessions that don't encrypt or compress their output.
+     */
+    @Override
+    public boolean acceptsFileRegions() {
+        IoFilterChain chain = session.getFilterChain();
+        return !chain.contains("ssl") && !chain.contains("sasl") && !chain.contains("deflate");
+    }
+
+    /**
+     * Sends a region of a blob file with {@link FileChannel#transferTo}.  The channel
+     * belongs to the file descriptor cache, so this waits until MINA has written the
+     * whole region rather than only throttling on the write queue.
+     */
+    @Override
+    public synchronized long write(FileChannel file, long position, long count) throws IOException {
+        flush();
+        WriteFuture future = session.write(new DefaultFileRegion(file, position, count));
+        if (maxWritePause > 0) {
+            if (!future.awaitUninterruptibly(maxWritePause)) {
+                // the region is still queued and would go on reading the channel after the caller has released it
+                session.close(true);
+                throw new IOException("Write stalled, client may have gone away");
+            }
+        } else {
+            future.awaitUninterruptibly();
+        }
+        if (!future.isWritten()) {
+            throw new IOException("Unable to write file region", future.getException());
+        }
+        return count;
+    }
+
     private synchronized void writeToSession(Object output) throws IOException {
         long writeBytes = session.getScheduledWriteBytes();
         WriteFuture future = session.write(output);
@@ -77,6 +77,7 @@ public abstract class NioServer implements Server {
     protected final ExecutorFilter executorFilter;
     protected final ZimbraSocketAcceptor acceptor;
     protected final ServerConfig config;
+    final NioDeflateFilter.Stats deflateStats = new NioDeflateFilter.Stats();
 
     private static SSLContext sslContext;
     private static String[] mSslEnabledCipherSuites;
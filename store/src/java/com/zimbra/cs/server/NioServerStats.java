@@ -27,10 +27,12 @@ import org.apache.mina.core.service.IoServiceStatistics;
 final class NioServerStats implements NioServerStatsMBean {
     private final IoAcceptor acceptor;
     private final IoServiceStatistics stats;
+    private final NioDeflateFilter.Stats deflateStats;
 
     NioServerStats(NioServer server) {
         acceptor = server.acceptor;
         stats = acceptor.getStatistics();
+        deflateStats = server.deflateStats;
     }
 
     @Override
@@ -72,4 +74,45 @@ final class NioServerStats implements NioServerStatsMBean {
     public long getScheduledWriteMessages() {
         return stats.getScheduledWriteMessages();
     }
+
+    @Override
+    public long getCompressedSessions() {
+        return deflateStats.sessions.sum();
+    }
+
+    @Override
+    public long getCompressionWrittenBytes() {
+        return deflateStats.writtenUncompressed.sum();
+    }
+
+    @Override
+    public long getCompressionWrittenCompressedBytes() {
+        return deflateStats.writtenCompressed.sum();
+    }
+
+    @Override
+    public long getCompressionReadBytes() {
+        return deflateStats.readUncompressed.sum();
+    }
+
+    @Override
+    public long getCompressionReadCompressedBytes() {
+        return deflateStats.readCompressed.sum();
+    }
+
+    @Override
+    public double getCompressionRatio() {
+        return NioDeflateFilter.ratio(deflateStats.writtenUncompressed.sum(), deflateStats.writtenCompressed.sum());
+    }
+
+    @Override
+    public long getCompressionTimeMillis() {
+        return deflateStats.nanos.sum() / 1000000L;
+    }
+
+    @Override
+    public long getCompressionTimeMillisPerSession() {
+        long sessions = deflateStats.sessions.sum();
+        return sessions == 0 ? 0 : deflateStats.nanos.sum() / 1000000L / sessions;
+    }
 }
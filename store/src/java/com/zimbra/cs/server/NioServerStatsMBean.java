@@ -25,4 +25,12 @@ public interface NioServerStatsMBean {
     long getWrittenMessages();
     long getScheduledWriteBytes();
     long getScheduledWriteMessages();
+    long getCompressedSessions();
+    long getCompressionWrittenBytes();
+    long getCompressionWrittenCompressedBytes();
+    long getCompressionReadBytes();
+    long getCompressionReadCompressedBytes();
+    double getCompressionRatio();
+    long getCompressionTimeMillis();
+    long getCompressionTimeMillisPerSession();
 }
@@ -64,6 +64,7 @@ import com.zimbra.cs.mime.Mime;
 import com.zimbra.cs.service.FileUploadServlet.Upload;
 import com.zimbra.cs.service.util.ItemId;
 import com.zimbra.cs.servlet.ZimbraServlet;
+import com.zimbra.cs.servlet.util.JettyUtil;
 import com.zimbra.cs.util.AccountUtil;
 
 /**
@@ -175,7 +176,7 @@ public class ContentServlet extends ZimbraServlet {
 
                         resp.setContentType(MimeConstants.CT_TEXT_PLAIN);
                         InputStream is = msg.getContentStream();
-                        ByteUtil.copy(is, true, resp.getOutputStream(), false);
+                        JettyUtil.copy(is, true, resp.getOutputStream());
                     } else if (item instanceof CalendarItem) {
                         CalendarItem calItem = (CalendarItem) item;
                         if (sync) {
@@ -199,7 +200,7 @@ public class ContentServlet extends ZimbraServlet {
                         } else {
                             InputStream is = calItem.getRawMessage();
                             if (is != null)
-                                ByteUtil.copy(is, true, resp.getOutputStream(), false);
+                                JettyUtil.copy(is, true, resp.getOutputStream());
                         }
                     }
                     return;
@@ -336,7 +337,7 @@ public class ContentServlet extends ZimbraServlet {
     public static void sendbackOriginalDoc(InputStream is, String contentType, HttpServletResponse resp)
     throws IOException {
         resp.setContentType(contentType);
-        ByteUtil.copy(is, true, resp.getOutputStream(), false);
+        JettyUtil.copy(is, true, resp.getOutputStream());
     }
 
     static void sendbackDefangedHtml(MimePart mp, String contentType, HttpServletResponse resp, String fmt)
@@ -25,6 +25,7 @@ import com.zimbra.common.soap.Element;
 import com.zimbra.cs.account.Provisioning;
 import com.zimbra.cs.account.accesscontrol.AdminRight;
 import com.zimbra.cs.account.accesscontrol.Rights.Admin;
+import com.zimbra.cs.store.BlobCodec;
 import com.zimbra.cs.volume.Volume;
 import com.zimbra.cs.volume.VolumeManager;
 import com.zimbra.cs.volume.VolumeServiceException;
@@ -51,9 +52,13 @@ public final class CreateVolume extends AdminDocumentHandler {
     }
 
     private Volume toVolume(VolumeInfo vol) throws ServiceException {
-        return Volume.builder().setType(vol.getType()).setName(vol.getName()).setPath(vol.getRootPath(), true)
-                .setCompressBlobs(vol.isCompressBlobs()).setCompressionThreshold(vol.getCompressionThreshold())
-                .build();
+        Volume.Builder builder = Volume.builder().setType(vol.getType()).setName(vol.getName())
+                .setPath(vol.getRootPath(), true)
+                .setCompressBlobs(vol.isCompressBlobs()).setCompressionThreshold(vol.getCompressionThreshold());
+        if (vol.getBlobCodec() != null) {
+            builder.setBlobCodec(BlobCodec.forName(vol.getBlobCodec()));
+        }
+        return builder.build();
     }
 
     @Override
@@ -0,0 +1,75 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.service.admin;
+
+import java.util.List;
+import java.util.Map;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.common.soap.Element;
+import com.zimbra.common.util.DateUtil;
+import com.zimbra.cs.account.accesscontrol.AdminRight;
+import com.zimbra.cs.store.file.BlobMigrator;
+import com.zimbra.cs.volume.Volume;
+import com.zimbra.soap.ZimbraSoapContext;
+import com.zimbra.soap.admin.message.MigrateBlobsRequest;
+import com.zimbra.soap.admin.message.MigrateBlobsResponse;
+import com.zimbra.soap.admin.message.MigrateBlobsResponse.MigrateStatus;
+import com.zimbra.soap.admin.type.VolumeIdAndProgress;
+
+public final class MigrateBlobs extends AdminDocumentHandler {
+
+    @Override
+    public Element handle(Element request, Map<String, Object> context) throws ServiceException {
+        ZimbraSoapContext zsc = getZimbraSoapContext(context);
+        checkRight(zsc, context, null, AdminRight.PR_SYSTEM_ADMIN_ONLY);
+        MigrateBlobsRequest req = zsc.elementToJaxb(request);
+        BlobMigrator migrator = BlobMigrator.getInstance();
+        if (req.getAction() == MigrateBlobsRequest.MigrateAction.start) {
+            if (req.getSourceVolumeId() == null || req.getDestVolumeId() == null) {
+                throw ServiceException.INVALID_REQUEST("source and destination volumes are required", null);
+            }
+            long minAge = DateUtil.getTimeInterval(req.getMinAge() == null ?
+                    LC.zimbra_blob_migrate_min_age.value() : req.getMinAge());
+            int numThreads = req.getNumThreads() == null ?
+                    LC.zimbra_blob_migrate_threads.intValue() : req.getNumThreads();
+            long bandwidth = req.getBandwidth() == null ?
+                    LC.zimbra_blob_migrate_bandwidth_kb.longValue() : req.getBandwidth();
+            migrator.process(req.getSourceVolumeId(), req.getDestVolumeId(), minAge, numThreads, bandwidth * 1024);
+        } else if (req.getAction() == MigrateBlobsRequest.MigrateAction.stop) {
+            migrator.stopProcessing();
+        }
+        // return the stats for all actions.
+        MigrateBlobsResponse resp = new MigrateBlobsResponse();
+        resp.setStatus(migrator.isRunning() ? MigrateStatus.running : MigrateStatus.stopped);
+        resp.setTotalCount(migrator.getMovedCount());
+        resp.setTotalSize(migrator.getMovedSize());
+        resp.setSkippedCount(migrator.getSkippedCount());
+        short volumeId = migrator.getSourceVolumeId();
+        String progress = migrator.getProgress();
+        if (volumeId != Volume.ID_NONE && progress != null) {
+            resp.setProgress(new VolumeIdAndProgress(String.valueOf(volumeId), progress));
+        }
+        return zsc.jaxbToElement(resp);
+    }
+
+    @Override
+    public void docRights(List<AdminRight> relatedRights, List<String> notes) {
+        notes.add(AdminRightCheckPoint.Notes.SYSTEM_ADMINS_ONLY);
+    }
+}
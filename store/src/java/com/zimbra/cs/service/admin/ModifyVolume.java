@@ -25,6 +25,7 @@ import com.zimbra.common.soap.Element;
 import com.zimbra.cs.account.Provisioning;
 import com.zimbra.cs.account.accesscontrol.AdminRight;
 import com.zimbra.cs.account.accesscontrol.Rights.Admin;
+import com.zimbra.cs.store.BlobCodec;
 import com.zimbra.cs.store.StoreManager;
 import com.zimbra.cs.volume.Volume;
 import com.zimbra.cs.volume.VolumeManager;
@@ -71,6 +72,9 @@ public final class ModifyVolume extends AdminDocumentHandler {
         if (vol.getCompressionThreshold() > 0) {
             builder.setCompressionThreshold(vol.getCompressionThreshold());
         }
+        if (vol.getBlobCodec() != null) {
+            builder.setBlobCodec(BlobCodec.forName(vol.getBlobCodec()));
+        }
         mgr.update(builder.build());
         return new ModifyVolumeResponse();
 
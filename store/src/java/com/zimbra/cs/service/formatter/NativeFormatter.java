@@ -83,6 +83,7 @@ import com.zimbra.cs.service.UserServletException;
 import com.zimbra.cs.service.formatter.FormatterFactory.FormatType;
 import com.zimbra.cs.service.mail.UploadScanner;
 import com.zimbra.cs.servlet.ETagHeaderFilter;
+import com.zimbra.cs.servlet.util.JettyUtil;
 import com.zimbra.cs.store.Blob;
 import com.zimbra.cs.store.StoreManager;
 
@@ -169,7 +170,7 @@ public final class NativeFormatter extends Formatter {
             if (size > 0)
                 context.resp.setContentLength((int)size);
             InputStream is = msg.getContentStream();
-            ByteUtil.copy(is, true, context.resp.getOutputStream(), false);
+            JettyUtil.copy(is, true, context.resp.getOutputStream());
         }
     }
 
@@ -187,7 +188,7 @@ public final class NativeFormatter extends Formatter {
             context.resp.setContentType(MimeConstants.CT_TEXT_PLAIN);
             InputStream is = calItem.getRawMessage();
             if (is != null)
-                ByteUtil.copy(is, true, context.resp.getOutputStream(), false);
+                JettyUtil.copy(is, true, context.resp.getOutputStream());
         }
     }
 
@@ -614,7 +615,6 @@ public final class NativeFormatter extends Formatter {
             String disp = req.getParameter(UserServlet.QP_DISP);
             disposition = (disp == null || disp.toLowerCase().startsWith("i") ) ? Part.INLINE : Part.ATTACHMENT;
         }
-        PushbackInputStream pis = new PushbackInputStream(in, READ_AHEAD_BUFFER_SIZE);
         boolean isSafe = false;
         HttpUtil.Browser browser = HttpUtil.guessBrowser(req);
         if (browser != HttpUtil.Browser.IE) {
@@ -627,6 +627,8 @@ public final class NativeFormatter extends Formatter {
         }
 
         if (!isSafe) {
+            PushbackInputStream pis = new PushbackInputStream(in, READ_AHEAD_BUFFER_SIZE);
+            in = pis;
             byte[] buf = new byte[READ_AHEAD_BUFFER_SIZE];
             int bytesRead = pis.read(buf, 0, READ_AHEAD_BUFFER_SIZE);
             boolean hasScript;
@@ -656,7 +658,7 @@ public final class NativeFormatter extends Formatter {
         }
         if (size > 0)
             resp.setContentLength((int)size);
-        ByteUtil.copy(pis, true, resp.getOutputStream(), false);
+        JettyUtil.copy(in, true, resp.getOutputStream());
     }
     /**
      * Determines whether or not the contentType passed might contain script or other unsavory tags.
@@ -41,6 +41,7 @@ import com.zimbra.cs.account.Account;
 import com.zimbra.cs.account.AuthToken;
 import com.zimbra.cs.account.Provisioning;
 import com.zimbra.cs.account.Server;
+import com.zimbra.cs.index.ConversationHit;
 import com.zimbra.cs.index.MessageHit;
 import com.zimbra.cs.index.QueryInfo;
 import com.zimbra.cs.index.ResultsPager;
@@ -64,6 +65,8 @@ import com.zimbra.cs.mailbox.calendar.cache.CalendarItemData;
 import com.zimbra.cs.service.util.ItemId;
 import com.zimbra.cs.service.util.ItemIdFormatter;
 import com.zimbra.cs.util.AccountUtil;
+import com.zimbra.cs.util.IOUtil;
+import com.zimbra.soap.SoapServlet;
 import com.zimbra.soap.ZimbraSoapContext;
 import com.zimbra.soap.mail.message.SearchRequest;
 
@@ -109,14 +112,19 @@ public class Search extends MailDocumentHandler  {
 
         // create the XML response Element
         Element response = zsc.createElement(MailConstants.SEARCH_RESPONSE);
-        try (ZimbraQueryResults results = mbox.index.search(zsc.getResponseProtocol(), octxt,
-            params)) {
+        ZimbraQueryResults results = mbox.index.search(zsc.getResponseProtocol(), octxt, params);
+        try {
             // must use results.getSortBy() because the results might have ignored our sortBy
             // request and used something else...
             response.addAttribute(MailConstants.A_SORTBY, results.getSortBy().toString());
-            putHits(zsc, octxt, response, results, params, memberOfMap);
-        } catch (IOException e) {
-        } 
+            boolean streaming = Boolean.TRUE.equals(context.get(SoapServlet.STREAMING_RESPONSE));
+            if (putHits(zsc, octxt, response, results, params, memberOfMap, streaming)) {
+                // the results are now owned by the streaming element, which closes them once the hits are written
+                results = null;
+            }
+        } finally {
+            IOUtil.closeQuietly(results);
+        }
         return response;
     }
 
@@ -130,8 +138,13 @@ public class Search extends MailDocumentHandler  {
         }
     }
 
-    private void putHits(ZimbraSoapContext zsc, OperationContext octxt, Element el, ZimbraQueryResults results,
-            SearchParams params, Map<String,Set<String>> memberOfMap) throws ServiceException {
+    /**
+     * @param streaming if true, a large enough set of hits may be added as an {@link Element.StreamingElement} that
+     *        encodes each hit as the response is being written
+     * @return true if the hits were added as a streaming element, which then takes ownership of {@code results}
+     */
+    private boolean putHits(ZimbraSoapContext zsc, OperationContext octxt, Element el, ZimbraQueryResults results,
+            SearchParams params, Map<String,Set<String>> memberOfMap, boolean streaming) throws ServiceException {
 
         if (params.getInlineRule() == ExpandResults.HITS ||
             params.getInlineRule() == ExpandResults.FIRST_MSG ||
@@ -156,6 +169,10 @@ public class Search extends MailDocumentHandler  {
             el.addAttribute(MailConstants.A_QUERY_OFFSET, params.getOffset());
         }
 
+        if (streaming) {
+            return putHitsStreaming(zsc, octxt, el, results, params, memberOfMap, pager);
+        }
+
         SearchResponse resp = new SearchResponse(zsc, octxt, el, params, memberOfMap);
         resp.setIncludeMailbox(false);
         resp.setSortOrder(pager.getSortOrder());
@@ -189,6 +206,139 @@ public class Search extends MailDocumentHandler  {
         }
         resp.addHasMore(pager.hasNext());
         resp.add(results.getResultInfo());
+        return false;
+    }
+
+    /**
+     * Collects the page of hits and, if there are enough of them and they all encode to the same element, adds them
+     * as a {@link Element.StreamingElement} so that each hit's element is only built while the response is written.
+     * Otherwise the hits are encoded inline, as in the non-streaming case.
+     */
+    private boolean putHitsStreaming(ZimbraSoapContext zsc, OperationContext octxt, Element el,
+            ZimbraQueryResults results, SearchParams params, Map<String,Set<String>> memberOfMap, ResultsPager pager)
+            throws ServiceException {
+        List<ZimbraHit> hits = new ArrayList<ZimbraHit>();
+        List<Boolean> expands = new ArrayList<Boolean>();
+        ExpandResults expandValue = params.getInlineRule();
+        int hitNum = 0;
+        while (pager.hasNext() && hits.size() < params.getLimit()) {
+            hitNum ++;
+            ZimbraHit hit = pager.getNextHit();
+            Boolean expand = null;
+            if (hit instanceof MessageHit) {
+                if (expandValue == ExpandResults.NONE) {
+                    expand = false;
+                } else if (expandValue == ExpandResults.ALL) {
+                    expand = true;
+                } else if (expandValue == ExpandResults.FIRST) {
+                    expand = params.getOffset() > 0 ? false : hitNum == 1;
+                } else {
+                    expand = expandValue.matches(hit.getParsedItemID());
+                }
+            }
+            hits.add(hit);
+            expands.add(expand);
+        }
+
+        HitProducer producer = new HitProducer(zsc, octxt, params, memberOfMap, pager.getSortOrder(), results,
+                hits, expands);
+        String name = hits.size() < LC.soap_response_streaming_min_hits.intValue() ? null : getHitElementName(params, hits);
+        if (name == null) {
+            // not worth streaming; encode the hits right away
+            SearchResponse resp = producer.newResponse(el);
+            producer.addHits(resp);
+            resp.addHasMore(pager.hasNext());
+            resp.add(results.getResultInfo());
+            return false;
+        }
+        el.addNonUniqueElement(new Element.StreamingElement(el.getFactory(), name, producer));
+        SearchResponse resp = producer.newResponse(el);
+        resp.addHasMore(pager.hasNext());
+        resp.add(results.getResultInfo());
+        return true;
+    }
+
+    /** Returns the name of the element every hit will be encoded as, or null if they won't all be encoded alike. */
+    private static String getHitElementName(SearchParams params, List<ZimbraHit> hits) {
+        if (params.getFetchMode() == SearchParams.Fetch.IDS) {
+            return MailConstants.E_HIT;
+        }
+        Class<?> hitClass = hits.get(0).getClass();
+        String name;
+        if (hitClass == MessageHit.class) {
+            name = MailConstants.E_MSG;
+        } else if (hitClass == ConversationHit.class) {
+            name = MailConstants.E_CONV;
+        } else {
+            return null;
+        }
+        for (ZimbraHit hit : hits) {
+            if (hit.getClass() != hitClass) {
+                return null;
+            }
+        }
+        return name;
+    }
+
+    private static final class HitProducer implements Element.StreamingElement.Producer {
+        private final ZimbraSoapContext zsc;
+        private final OperationContext octxt;
+        private final SearchParams params;
+        private final Map<String,Set<String>> memberOfMap;
+        private final SortBy sortOrder;
+        private final ZimbraQueryResults results;
+        private final List<ZimbraHit> hits;
+        private final List<Boolean> expands;
+
+        HitProducer(ZimbraSoapContext zsc, OperationContext octxt, SearchParams params,
+                Map<String,Set<String>> memberOfMap, SortBy sortOrder, ZimbraQueryResults results,
+                List<ZimbraHit> hits, List<Boolean> expands) {
+            this.zsc = zsc;
+            this.octxt = octxt;
+            this.params = params;
+            this.memberOfMap = memberOfMap;
+            this.sortOrder = sortOrder;
+            this.results = results;
+            this.hits = hits;
+            this.expands = expands;
+        }
+
+        SearchResponse newResponse(Element el) {
+            SearchResponse resp = new SearchResponse(zsc, octxt, el, params, memberOfMap);
+            resp.setIncludeMailbox(false);
+            resp.setSortOrder(sortOrder);
+            return resp;
+        }
+
+        void addHits(SearchResponse resp) throws ServiceException {
+            for (int i = 0; i < hits.size(); i++) {
+                addHit(resp, i);
+            }
+        }
+
+        private void addHit(SearchResponse resp, int i) throws ServiceException {
+            Boolean expand = expands.get(i);
+            if (expand == null) {
+                resp.add(hits.get(i));
+            } else {
+                resp.add(hits.get(i), expand);
+            }
+        }
+
+        @Override
+        public void produce(Element.StreamingElement.Sink sink) throws IOException, ServiceException {
+            SearchResponse resp = newResponse(sink.getParent());
+            for (int i = 0; i < hits.size(); i++) {
+                addHit(resp, i);
+                hits.set(i, null);
+                sink.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            results.close();
+        }
     }
     // Calendar summary cache stuff
 
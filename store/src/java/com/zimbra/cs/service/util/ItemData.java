@@ -127,7 +127,7 @@ public class ItemData {
 //                put(Keys.tags.toString(), ud.getTags()).
                 putOpt(Keys.subject.toString(), ud.getSubject()).
                 putOpt(Keys.name.toString(), ud.name).
-                putOpt(Keys.metadata.toString(), ud.metadata).
+                putOpt(Keys.metadata.toString(), Metadata.toLegacyEncoding(ud.metadata)).
                 put(Keys.mod_metadata.toString(), ud.modMetadata).
                 put(Keys.change_date.toString(), ud.dateChanged).
                 put(Keys.mod_content.toString(), ud.modContent).
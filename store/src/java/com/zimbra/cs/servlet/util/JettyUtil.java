@@ -17,15 +17,70 @@
 
 package com.zimbra.cs.servlet.util;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+
+import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
 
 import org.eclipse.jetty.io.EndPoint;
 import org.eclipse.jetty.server.HttpConnection;
+import org.eclipse.jetty.server.HttpOutput;
 
+import com.zimbra.common.localconfig.LC;
 import com.zimbra.common.util.ZimbraLog;
+import com.zimbra.cs.store.BlobInputStream;
+import com.zimbra.cs.store.FileRegionSink;
 
 public class JettyUtil {
 
+    private static final long MAP_CHUNK_SIZE = Math.max(LC.zimbra_nio_file_copy_chunk_size_kb.longValue(), 1) * 1024;
+
+    /**
+     * Returns a sink that writes read-only mapped views of blob files to Jetty's
+     * response output, so that the content reaches the socket without passing
+     * through a heap buffer.  Returns <tt>null</tt> if <tt>out</tt> isn't Jetty's
+     * own stream, e.g. because a filter wrapped the response to rewrite the body.
+     */
+    public static FileRegionSink getFileRegionSink(ServletOutputStream out) {
+        return out instanceof HttpOutput ? new MappedRegionSink((HttpOutput) out) : null;
+    }
+
+    /**
+     * Copies <tt>in</tt> to a response stream, sending blob content without a heap
+     * copy where possible.
+     * @see BlobInputStream#copy(InputStream, boolean, java.io.OutputStream, FileRegionSink)
+     */
+    public static long copy(InputStream in, boolean closeIn, ServletOutputStream out) throws IOException {
+        return BlobInputStream.copy(in, closeIn, out, getFileRegionSink(out));
+    }
+
+    private static final class MappedRegionSink implements FileRegionSink {
+        private final HttpOutput out;
+
+        MappedRegionSink(HttpOutput out) {
+            this.out = out;
+        }
+
+        @Override
+        public boolean acceptsFileRegions() {
+            return !out.isClosed();
+        }
+
+        @Override
+        public long write(FileChannel file, long position, long count) throws IOException {
+            long written = 0;
+            while (written < count) {
+                long len = Math.min(count - written, MAP_CHUNK_SIZE);
+                // blocking write: the mapping has been consumed when this returns
+                out.write(file.map(FileChannel.MapMode.READ_ONLY, position + written, len));
+                written += len;
+            }
+            return written;
+        }
+    }
+
     public static void setIdleTimeout(long timeout, HttpServletRequest request) {
         if (request != null) {
             Object attr = request.getAttribute("org.eclipse.jetty.server.HttpConnection");
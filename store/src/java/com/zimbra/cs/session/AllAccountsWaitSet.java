@@ -20,12 +20,17 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.zimbra.common.localconfig.LC;
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.util.Pair;
 import com.zimbra.common.util.ZimbraLog;
@@ -40,6 +45,11 @@ import com.zimbra.soap.admin.type.WaitSetInfo;
 
 /**
  * An implementation of IWaitSet that listens across all accounts on the server
+ * <p>
+ * Committing threads only publish to the waitset's {@link CommitRing} and, if no drain is pending yet, hand one to
+ * a pool thread; they never take the waitset's monitor, so a slow consumer can't hold up commits. If the ring
+ * overflows, the waitset catches up from the redo log, the same way a new waitset catches up to a client's
+ * {@code lastKnownSeqNo}.
  * @deprecated this API is not being used by any known clients
  */
 @Deprecated
@@ -48,8 +58,20 @@ public final class AllAccountsWaitSet extends WaitSetBase {
     private static Map<AllAccountsWaitSet, String> sAllAccountsWaitSets = new ConcurrentHashMap<AllAccountsWaitSet, String>();
     private static volatile Set<MailItem.Type> interestTypes = EnumSet.noneOf(MailItem.Type.class);
 
-    /** If non-null, then we're buffering the commits during creation */
-    private List<Pair<String/*AccountId*/, String/*CommitId*/>> mBufferedCommits;
+    /** runs the drains, outside the committing threads */
+    private static final ExecutorService sDrainExecutor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("AllAccountsWaitSet-%d").setDaemon(true).build());
+
+    /** commits not drained yet, (accountId, commitId) */
+    private final CommitRing mCommits = new CommitRing(LC.zimbra_waitset_all_accounts_commit_buffer.intValue());
+    private final AtomicBoolean mDrainScheduled = new AtomicBoolean();
+    /** If true, then we're buffering the commits during creation */
+    private volatile boolean mBuffering;
+    // guarded by this
+    private boolean mOverflowed; // commits were lost since the last catch up
+    private String mCatchUpSeqNo; // commit id drained before the first lost commit, if any
+    private boolean mDrainedSinceOverflow;
+    private long mOverflowedCommits;
 
     private String mCbSeqNo; // seqno returned by the most recent callback
     private String mCurrentSeqNo;
@@ -105,11 +127,7 @@ public final class AllAccountsWaitSet extends WaitSetBase {
         super(ownerAccountId, id, defaultInterest);
         mCurrentSeqNo = "0";
         mCbSeqNo = "0";
-        if (bufferCommitsAtCreate) {
-            mBufferedCommits = new LinkedList<Pair<String,String>>();
-        } else {
-            mBufferedCommits = null;
-        }
+        mBuffering = bufferCommitsAtCreate;
 
         // add us to the global set of AllAccounts waitsets, update the global interest mask
         synchronized(sAllAccountsWaitSets) {
@@ -143,83 +161,174 @@ public final class AllAccountsWaitSet extends WaitSetBase {
         // figure out if there is already data here
         mCb = cb;
         mCbSeqNo = lastKnownSeqNo;
+        if (!mBuffering) {
+            drainCommits();
+            if (mOverflowed) {
+                // the catch up reads the redo log, leave it to a drain thread
+                scheduleDrain();
+            }
+        }
         trySendData();
 
         return new ArrayList<WaitSetError>();
     }
 
-    private synchronized void onMailboxChangeCommitted(String commitIdStr, String accountId,
-            Set<MailItem.Type> changedTypes) {
+    void onMailboxChangeCommitted(String commitIdStr, String accountId, Set<MailItem.Type> changedTypes) {
         if (!Collections.disjoint(changedTypes, defaultInterest)) {
-            if (mBufferedCommits != null) {
-                mBufferedCommits.add(new Pair<String/*acctId*/, String/*commitId*/>(accountId, commitIdStr));
-            } else {
-                mNextSeqNo = commitIdStr;
-                mCurrentSignalledAccounts.add(accountId);
+            mCommits.publish(accountId, commitIdStr);
+            // read after the publish: either we see the end of the buffering, or the thread ending it sees our commit
+            if (!mBuffering) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private void scheduleDrain() {
+        if (mDrainScheduled.compareAndSet(false, true)) {
+            sDrainExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    drain();
+                }
+            });
+        }
+    }
+
+    /** Runs on a drain thread: moves the published commits into the signalled accounts and notifies the waiter. */
+    private void drain() {
+        // cleared before draining, so that a commit published from here on schedules another drain
+        mDrainScheduled.set(false);
+        boolean overflowed;
+        String catchUpSeqNo;
+        long lost;
+        synchronized (this) {
+            drainCommits();
+            overflowed = mOverflowed;
+            catchUpSeqNo = mCatchUpSeqNo;
+            lost = mOverflowedCommits;
+            mOverflowed = false;
+            mCatchUpSeqNo = null;
+            if (!overflowed && mCurrentSignalledAccounts.size() > 0) {
                 trySendData();
             }
         }
+        if (overflowed) {
+            ZimbraLog.session.warn("AllAccountsWaitSet %s has lost %d commits to overflow, catching up since %s",
+                    mWaitSetId, lost, catchUpSeqNo);
+            catchUp(catchUpSeqNo);
+        }
+    }
+
+    /** Moves the published commits into the signalled accounts. */
+    private synchronized void drainCommits() {
+        mCommits.drain(new CommitRing.Sink() {
+            @Override
+            public void commit(String accountId, String commitId) {
+                mCurrentSignalledAccounts.add(accountId);
+                mNextSeqNo = commitId;
+                mDrainedSinceOverflow = true;
+            }
+
+            @Override
+            public void overflow(long lost) {
+                if (!mOverflowed) {
+                    mOverflowed = true;
+                    mCatchUpSeqNo = mNextSeqNo;
+                }
+                mOverflowedCommits += lost;
+                mDrainedSinceOverflow = false;
+            }
+        });
     }
 
     /**
-     * Given a CommitId, bring this waitset into sync using the RedoLog system
-     *
-     * @param commitIdStr
-     * @throws ServiceException
-     * @throws IOException
+     * Signals the accounts whose commits were lost to overflow, from the redo log. If that isn't possible, the
+     * waiter gets a {@link WaitSetError.Type#COMMIT_BUFFER_OVERFLOW} error and has to resync on its own.
      */
-    private void syncToCommitId(String commitIdStr) throws ServiceException, IOException {
-        assert(mBufferedCommits != null);
-        assert(!Thread.holdsLock(this));
+    private void catchUp(String commitIdStr) {
+        Pair<Set<String>, CommitId> changes = null;
+        if (commitIdStr != null) {
+            try {
+                changes = getChangedAccountsSince(commitIdStr);
+            } catch (IOException | ServiceException e) {
+                ZimbraLog.session.warn("AllAccountsWaitSet %s unable to catch up from the redo log", mWaitSetId, e);
+            }
+        }
+        synchronized (this) {
+            if (changes == null) {
+                signalError(new WaitSetError(mOwnerAccountId, WaitSetError.Type.COMMIT_BUFFER_OVERFLOW));
+                return;
+            }
+            mCurrentSignalledAccounts.addAll(changes.getFirst());
+            if (!mDrainedSinceOverflow) {
+                // nothing was drained after the lost commits
+                mNextSeqNo = changes.getSecond().encodeToString();
+            }
+            if (mCurrentSignalledAccounts.size() > 0) {
+                trySendData();
+            }
+        }
+    }
 
-        //
-        // Step one, go through the redo logs and get the redo logs set of mailboxes
-        //
+    /**
+     * Returns the accounts whose mailboxes changed since the given commit id, according to the redo log, and the
+     * latest commit id in it.
+     */
+    private static Pair<Set<String>, CommitId> getChangedAccountsSince(String commitIdStr)
+            throws ServiceException, IOException {
         RedoLogManager rmgr = RedoLogProvider.getInstance().getRedoLogManager();
-
         CommitId cid = CommitId.decodeFromString(commitIdStr);
-
         Pair<Set<Integer>, CommitId> changes = rmgr.getChangedMailboxesSince(cid);
         if (changes == null) {
             throw ServiceException.FAILURE("Unable to sync to commit id "+commitIdStr, null);
         }
 
-        Set<Integer> mailboxes = changes.getFirst();
-
-        for (Integer id : mailboxes) {
+        Set<String> accountIds = new HashSet<String>();
+        for (Integer id : changes.getFirst()) {
             try {
                 Mailbox mbox = MailboxManager.getInstance().getMailboxById(id);
                 if (mbox != null) {
-                    String accountId = mbox.getAccountId();
-                    synchronized(this) {
-                        mCurrentSignalledAccounts.add(accountId);
-                    }
+                    accountIds.add(mbox.getAccountId());
                 }
             } catch (ServiceException e) {
                 ZimbraLog.session.warn("AllAccountsWaitSet skipping notification of mailbox id %d because we could not fetch it",
                     id, e);
             }
         }
+        return new Pair<Set<String>, CommitId>(accountIds, changes.getSecond());
+    }
 
-        mNextSeqNo = changes.getSecond().encodeToString();
+    /**
+     * Given a CommitId, bring this waitset into sync using the RedoLog system
+     *
+     * @param commitIdStr
+     * @throws ServiceException
+     * @throws IOException
+     */
+    private void syncToCommitId(String commitIdStr) throws ServiceException, IOException {
+        assert(mBuffering);
+        assert(!Thread.holdsLock(this));
 
+        //
+        // Step one, go through the redo logs and get the redo logs set of mailboxes
+        //
+        Pair<Set<String>, CommitId> changes = getChangedAccountsSince(commitIdStr);
 
         //
         // Step two, process any buffered changes that have happened since we were created
         //
         synchronized(this) {
-            for (Pair<String/*acctid*/,String/*commitId*/> p : mBufferedCommits) {
-                mCurrentSignalledAccounts.add(p.getFirst());
-                mNextSeqNo = p.getSecond();
-            }
+            mCurrentSignalledAccounts.addAll(changes.getFirst());
+            mNextSeqNo = changes.getSecond().encodeToString();
 
             // no more buffering!
-            mBufferedCommits = null;
-
-            if (mCurrentSignalledAccounts.size() > 0) {
-                trySendData();
-            }
+            mBuffering = false;
         }
+        drain();
+    }
+
+    synchronized long getOverflowedCommits() {
+        return mOverflowedCommits;
     }
 
     @Override
@@ -270,8 +379,8 @@ public final class AllAccountsWaitSet extends WaitSetBase {
         info.setCurrentSeqNo(mCurrentSeqNo);
         info.setNextSeqNo(mNextSeqNo);
 
-        if (mBufferedCommits != null) {
-            for (Pair<String, String> p : mBufferedCommits) {
+        if (mBuffering) {
+            for (Pair<String, String> p : mCommits.pending()) {
                 info.addBufferedCommit(new BufferedCommitInfo(p.getFirst(), p.getSecond()));
             }
         }
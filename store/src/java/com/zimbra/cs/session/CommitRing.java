@@ -0,0 +1,124 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.zimbra.common.util.Pair;
+
+/**
+ * Bounded buffer of mailbox commits, (account id, commit id) pairs, between the threads committing changes and the
+ * one consumer draining them.
+ * <p>
+ * Publishing never blocks and never waits for the consumer: each commit claims the next sequence number and
+ * writes its slot. When the consumer falls more than a full ring behind, the oldest commits are overwritten, and
+ * {@link #drain(Sink)} reports how many were lost so the consumer can catch up some other way. The consumer side
+ * is not thread safe; callers serialize {@link #drain(Sink)} and {@link #pending()} themselves.
+ */
+final class CommitRing {
+
+    interface Sink {
+        /** Called for each commit, in sequence order. */
+        void commit(String accountId, String commitId);
+
+        /** Called in place of {@code lost} commits that were overwritten before they could be drained. */
+        void overflow(long lost);
+    }
+
+    private static final class Commit {
+        final long seq;
+        final String accountId;
+        final String commitId;
+
+        Commit(long seq, String accountId, String commitId) {
+            this.seq = seq;
+            this.accountId = accountId;
+            this.commitId = commitId;
+        }
+    }
+
+    private final AtomicReferenceArray<Commit> slots;
+    private final int mask;
+    /** sequence number of the next commit to publish */
+    private final AtomicLong tail = new AtomicLong();
+    /** sequence number of the next commit to drain */
+    private long head;
+
+    /** @param capacity rounded up to a power of two */
+    CommitRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        slots = new AtomicReferenceArray<Commit>(size);
+        mask = size - 1;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    void publish(String accountId, String commitId) {
+        long seq = tail.getAndIncrement();
+        slots.set((int) (seq & mask), new Commit(seq, accountId, commitId));
+    }
+
+    /**
+     * Hands every commit published since the last drain to {@code sink}. Stops early at a commit whose sequence
+     * number has been claimed but whose slot isn't written yet; its publisher is expected to trigger another drain.
+     *
+     * @return the number of commits lost to overflow
+     */
+    long drain(Sink sink) {
+        long lost = 0;
+        long end = tail.get();
+        if (end - head > slots.length()) {
+            lost = end - slots.length() - head;
+            head = end - slots.length();
+            sink.overflow(lost);
+        }
+        while (head < end) {
+            Commit commit = slots.get((int) (head & mask));
+            if (commit == null || commit.seq < head) {
+                break;
+            } else if (commit.seq > head) {
+                // a publisher lapped us after we read the tail
+                lost++;
+                sink.overflow(1);
+            } else {
+                sink.commit(commit.accountId, commit.commitId);
+            }
+            head++;
+        }
+        return lost;
+    }
+
+    /** Returns the commits a {@link #drain(Sink)} would hand out now, without draining them. */
+    List<Pair<String, String>> pending() {
+        List<Pair<String, String>> result = new ArrayList<Pair<String, String>>();
+        long end = tail.get();
+        for (long seq = Math.max(head, end - slots.length()); seq < end; seq++) {
+            Commit commit = slots.get((int) (seq & mask));
+            if (commit == null || commit.seq != seq) {
+                break;
+            }
+            result.add(new Pair<String, String>(commit.accountId, commit.commitId));
+        }
+        return result;
+    }
+}
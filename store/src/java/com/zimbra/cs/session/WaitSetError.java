@@ -29,6 +29,8 @@ public class WaitSetError {
         NOT_IN_SET_DURING_REMOVE,
         NOT_IN_SET_DURING_UPDATE,
         MAILBOX_DELETED,
+        /** the waitset lost commits it couldn't recover, the client has to resync */
+        COMMIT_BUFFER_OVERFLOW,
         ;
     }
 
@@ -40,6 +40,7 @@ import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.stats.Accumulator;
 import com.zimbra.common.stats.Counter;
 import com.zimbra.common.stats.DeltaCalculator;
+import com.zimbra.common.stats.Histogram;
 import com.zimbra.common.stats.RealtimeStats;
 import com.zimbra.common.stats.RealtimeStatsCallback;
 import com.zimbra.common.stats.StatsDumper;
@@ -112,6 +113,9 @@ public class ZimbraPerf {
     @Description("Number of message structures cached in memory")
     public static final String RTS_MSG_CACHE_SIZE = "msg_cache_size";
 
+    @Description("Number of bytes of heap retained by the message cache")
+    public static final String RTS_MSG_CACHE_BYTES = "msg_cache_bytes";
+
     @Description("Number of open file descriptors that reference message content")
     public static final String RTS_FD_CACHE_SIZE = "fd_cache_size";
 
@@ -177,15 +181,29 @@ public class ZimbraPerf {
     public static final Counter COUNTER_LMTP_RCVD_RCPT = new Counter();
     public static final Counter COUNTER_LMTP_DLVD_MSGS = new Counter();
     public static final Counter COUNTER_LMTP_DLVD_BYTES = new Counter();
+    public static final StopWatch STOPWATCH_LMTP_FANOUT = new StopWatch();
+    public static final Counter COUNTER_LMTP_FANOUT_PARALLEL_RCPT = new Counter();
+    public static final StopWatch STOPWATCH_SMTP_POOL_BORROW = new StopWatch();
+    public static final Counter COUNTER_SMTP_POOL_CONNECT = new Counter();
+    public static final Counter COUNTER_SMTP_POOL_REUSE = new Counter();
     public static final StopWatch STOPWATCH_DB_CONN = new StopWatch();
     public static final StopWatch STOPWATCH_LDAP_DC = new StopWatch();
     public static final StopWatch STOPWATCH_MBOX_ADD_MSG = new StopWatch();
     public static final StopWatch STOPWATCH_MBOX_GET = new StopWatch();         // Mailbox accessor response time
     public static final Counter COUNTER_MBOX_CACHE = new Counter();           // Mailbox cache hit rate
+    public static final StopWatch STOPWATCH_MBOX_LOAD = new StopWatch();        // Mailbox load from DB on cache miss
+    public static final StopWatch STOPWATCH_MBOX_LOAD_WAIT = new StopWatch();   // Wait on another thread's load
     public static final Counter COUNTER_MBOX_MSG_CACHE = new Counter();
+    public static final Counter COUNTER_MSG_CACHE_HITS = new Counter();
+    public static final Counter COUNTER_MSG_CACHE_MISSES = new Counter();
+    public static final Counter COUNTER_MSG_CACHE_EVICTIONS = new Counter();
     public static final Counter COUNTER_MBOX_ITEM_CACHE = new Counter();
+    public static final Counter COUNTER_THREAD_HASH_HITS = new Counter();
+    public static final Counter COUNTER_THREAD_HASH_MISSES = new Counter();
+    public static final Counter COUNTER_THREAD_HASH_FALSE_POSITIVES = new Counter();
     public static final StopWatch STOPWATCH_SOAP = new StopWatch();
     public static final StopWatch STOPWATCH_IMAP = new StopWatch();
+    public static final Counter COUNTER_IMAP_STRUCTURE_CACHE = new Counter();  // IMAP structure cache hit rate
     public static final StopWatch STOPWATCH_POP = new StopWatch();
     public static final Counter COUNTER_IDX_WRT = new Counter();
     public static final Counter COUNTER_IDX_WRT_OPENED = new Counter();
@@ -197,7 +215,14 @@ public class ZimbraPerf {
     public static final Counter COUNTER_IDX_BYTES_READ = new Counter();
     public static final Counter COUNTER_BLOB_INPUT_STREAM_READ = new Counter();
     public static final Counter COUNTER_BLOB_INPUT_STREAM_SEEK_RATE = new Counter();
+    public static final Counter COUNTER_BLOB_ZERO_COPY_BYTES = new Counter();
     public static final StopWatch STOPWATCH_EWS = new StopWatch();
+    // Number of redo log entries covered by each group commit fsync
+    public static final Histogram HISTOGRAM_REDO_BATCH_SIZE =
+            new Histogram("redo_batch_size", 1, 2, 4, 8, 16, 32, 64, 128, 256);
+    // Latency of each group commit fsync, in microseconds
+    public static final Histogram HISTOGRAM_REDO_FSYNC_MICROS =
+            new Histogram("redo_fsync_us", 100, 250, 500, 1000, 2500, 5000, 10000, 25000, 50000, 100000);
 
     public static final ActivityTracker SOAP_TRACKER = new ActivityTracker("soap.csv");
     public static final ActivityTracker IMAP_TRACKER = new ActivityTracker("imap.csv");
@@ -219,7 +244,7 @@ public class ZimbraPerf {
             RTS_POP_CONN, RTS_POP_THREADS, RTS_POP_SSL_CONN, RTS_POP_SSL_THREADS,
             RTS_IMAP_CONN, RTS_IMAP_THREADS, RTS_IMAP_SSL_CONN, RTS_IMAP_SSL_THREADS,
             RTS_HTTP_IDLE_THREADS, RTS_HTTP_THREADS, RTS_SOAP_SESSIONS,
-            RTS_MBOX_CACHE_SIZE, RTS_MSG_CACHE_SIZE,
+            RTS_MBOX_CACHE_SIZE, RTS_MSG_CACHE_SIZE, RTS_MSG_CACHE_BYTES,
             RTS_FD_CACHE_SIZE, RTS_FD_CACHE_HIT_RATE,
             RTS_ACL_CACHE_HIT_RATE,
             RTS_ACCOUNT_CACHE_SIZE, RTS_ACCOUNT_CACHE_HIT_RATE,
@@ -252,6 +277,27 @@ public class ZimbraPerf {
     @Description("Number of bytes of data delivered to mailboxes as a result of LMTP delivery")
     private static final String DC_LMTP_DLVD_BYTES = "lmtp_dlvd_bytes";
 
+    @Description("Number of LMTP messages delivered to more than one local mailbox")
+    private static final String DC_LMTP_FANOUT_COUNT = "lmtp_fanout_count";
+
+    @Description("Average latency (ms) of delivering an LMTP message to all of its local mailboxes")
+    private static final String DC_LMTP_FANOUT_MS_AVG = "lmtp_fanout_ms_avg";
+
+    @Description("Number of local LMTP recipients that were delivered to in parallel")
+    private static final String DC_LMTP_FANOUT_PARALLEL_RCPT = "lmtp_fanout_parallel_rcpt";
+
+    @Description("Number of times that an SMTP transport was requested from the pool")
+    private static final String DC_SMTP_POOL_BORROW_COUNT = "smtp_pool_borrow_count";
+
+    @Description("Average time (ms) spent waiting for a pooled SMTP transport")
+    private static final String DC_SMTP_POOL_BORROW_MS_AVG = "smtp_pool_borrow_ms_avg";
+
+    @Description("Number of new connections made to an SMTP server")
+    private static final String DC_SMTP_POOL_CONNECT = "smtp_pool_connect";
+
+    @Description("Number of times that a pooled SMTP connection was reused")
+    private static final String DC_SMTP_POOL_REUSE = "smtp_pool_reuse";
+
     @Description("Number of times that the server got a database connection from the pool")
     private static final String DC_DB_CONN_COUNT = "db_conn_count";
 
@@ -279,12 +325,42 @@ public class ZimbraPerf {
     @Description("Mailbox cache hit rate")
     private static final String DC_MBOX_CACHE = "mbox_cache";
 
+    @Description("Number of times that the server loaded a mailbox from the database")
+    private static final String DC_MBOX_LOAD_COUNT = "mbox_load_count";
+
+    @Description("Average latency (ms) of loading a mailbox from the database")
+    private static final String DC_MBOX_LOAD_MS_AVG = "mbox_load_ms_avg";
+
+    @Description("Number of times that a thread waited for another thread to load the same mailbox")
+    private static final String DC_MBOX_LOAD_WAIT_COUNT = "mbox_load_wait_count";
+
+    @Description("Average time (ms) spent waiting for another thread to load the same mailbox")
+    private static final String DC_MBOX_LOAD_WAIT_MS_AVG = "mbox_load_wait_ms_avg";
+
     @Description("Message cache hit rate")
     private static final String DC_MBOX_MSG_CACHE = "mbox_msg_cache";
 
+    @Description("Number of message cache hits")
+    private static final String DC_MSG_CACHE_HITS = "msg_cache_hits";
+
+    @Description("Number of message cache misses")
+    private static final String DC_MSG_CACHE_MISSES = "msg_cache_misses";
+
+    @Description("Number of messages evicted from the message cache")
+    private static final String DC_MSG_CACHE_EVICTIONS = "msg_cache_evictions";
+
     @Description("Item cache hit rate")
     private static final String DC_MBOX_ITEM_CACHE = "mbox_item_cache";
 
+    @Description("Number of threading lookups whose hashes were found in the open conversation table")
+    private static final String DC_THREAD_HASH_HITS = "thread_hash_hits";
+
+    @Description("Number of threading lookups the open conversation hash filter answered without a database query")
+    private static final String DC_THREAD_HASH_MISSES = "thread_hash_misses";
+
+    @Description("Number of threading lookups the open conversation hash filter passed but the database did not match")
+    private static final String DC_THREAD_HASH_FALSE_POSITIVES = "thread_hash_false_positives";
+
     @Description("Number of SOAP requests received")
     private static final String DC_SOAP_COUNT = "soap_count";
 
@@ -297,6 +373,9 @@ public class ZimbraPerf {
     @Description("Average processing time (ms) of IMAP requests")
     private static final String DC_IMAP_MS_AVG = "imap_ms_avg";
 
+    @Description("IMAP BODY/BODYSTRUCTURE/ENVELOPE cache hit rate")
+    private static final String DC_IMAP_STRUCTURE_CACHE = "imap_structure_cache";
+
     @Description("Number of POP3 requests received")
     private static final String DC_POP_COUNT = "pop_count";
 
@@ -309,6 +388,9 @@ public class ZimbraPerf {
     @Description("Percentage of file descriptor cache disk reads that required a seek")
     private static final String DC_BIS_SEEK_RATE = "bis_seek_rate";
 
+    @Description("Number of blob bytes sent straight from the file descriptor cache without a heap copy")
+    private static final String DC_BIS_ZERO_COPY_BYTES = "bis_zero_copy_bytes";
+
     @Description("Average number of concurrent index writers")
     private static final String DC_IDX_WRT_AVG = "idx_wrt_avg";
 
@@ -469,6 +551,14 @@ public class ZimbraPerf {
                             new DeltaCalculator(COUNTER_LMTP_RCVD_RCPT).setTotalName(DC_LMTP_RCVD_RCPT),
                             new DeltaCalculator(COUNTER_LMTP_DLVD_MSGS).setTotalName(DC_LMTP_DLVD_MSGS),
                             new DeltaCalculator(COUNTER_LMTP_DLVD_BYTES).setTotalName(DC_LMTP_DLVD_BYTES),
+                            new DeltaCalculator(STOPWATCH_LMTP_FANOUT).setCountName(DC_LMTP_FANOUT_COUNT)
+                                    .setAverageName(DC_LMTP_FANOUT_MS_AVG),
+                            new DeltaCalculator(COUNTER_LMTP_FANOUT_PARALLEL_RCPT)
+                                    .setTotalName(DC_LMTP_FANOUT_PARALLEL_RCPT),
+                            new DeltaCalculator(STOPWATCH_SMTP_POOL_BORROW).setCountName(DC_SMTP_POOL_BORROW_COUNT)
+                                    .setAverageName(DC_SMTP_POOL_BORROW_MS_AVG),
+                            new DeltaCalculator(COUNTER_SMTP_POOL_CONNECT).setTotalName(DC_SMTP_POOL_CONNECT),
+                            new DeltaCalculator(COUNTER_SMTP_POOL_REUSE).setTotalName(DC_SMTP_POOL_REUSE),
                             new DeltaCalculator(STOPWATCH_DB_CONN).setCountName(DC_DB_CONN_COUNT)
                                     .setAverageName(DC_DB_CONN_MS_AVG),
                             new DeltaCalculator(STOPWATCH_LDAP_DC).setCountName(DC_LDAP_DC_COUNT)
@@ -478,12 +568,24 @@ public class ZimbraPerf {
                             new DeltaCalculator(STOPWATCH_MBOX_GET).setCountName(DC_MBOX_GET_COUNT)
                                     .setAverageName(DC_MBOX_GET_MS_AVG),
                             new DeltaCalculator(COUNTER_MBOX_CACHE).setAverageName(DC_MBOX_CACHE),
+                            new DeltaCalculator(STOPWATCH_MBOX_LOAD).setCountName(DC_MBOX_LOAD_COUNT)
+                                    .setAverageName(DC_MBOX_LOAD_MS_AVG),
+                            new DeltaCalculator(STOPWATCH_MBOX_LOAD_WAIT).setCountName(DC_MBOX_LOAD_WAIT_COUNT)
+                                    .setAverageName(DC_MBOX_LOAD_WAIT_MS_AVG),
                             new DeltaCalculator(COUNTER_MBOX_MSG_CACHE).setAverageName(DC_MBOX_MSG_CACHE),
+                            new DeltaCalculator(COUNTER_MSG_CACHE_HITS).setTotalName(DC_MSG_CACHE_HITS),
+                            new DeltaCalculator(COUNTER_MSG_CACHE_MISSES).setTotalName(DC_MSG_CACHE_MISSES),
+                            new DeltaCalculator(COUNTER_MSG_CACHE_EVICTIONS).setTotalName(DC_MSG_CACHE_EVICTIONS),
                             new DeltaCalculator(COUNTER_MBOX_ITEM_CACHE).setAverageName(DC_MBOX_ITEM_CACHE),
+                            new DeltaCalculator(COUNTER_THREAD_HASH_HITS).setTotalName(DC_THREAD_HASH_HITS),
+                            new DeltaCalculator(COUNTER_THREAD_HASH_MISSES).setTotalName(DC_THREAD_HASH_MISSES),
+                            new DeltaCalculator(COUNTER_THREAD_HASH_FALSE_POSITIVES)
+                                    .setTotalName(DC_THREAD_HASH_FALSE_POSITIVES),
                             new DeltaCalculator(STOPWATCH_SOAP).setCountName(DC_SOAP_COUNT)
                                     .setAverageName(DC_SOAP_MS_AVG),
                             new DeltaCalculator(STOPWATCH_IMAP).setCountName(DC_IMAP_COUNT)
                                     .setAverageName(DC_IMAP_MS_AVG),
+                            new DeltaCalculator(COUNTER_IMAP_STRUCTURE_CACHE).setAverageName(DC_IMAP_STRUCTURE_CACHE),
                             new DeltaCalculator(STOPWATCH_POP).setCountName(DC_POP_COUNT)
                                     .setAverageName(DC_POP_MS_AVG),
                             new DeltaCalculator(COUNTER_IDX_WRT).setAverageName(DC_IDX_WRT_AVG),
@@ -503,6 +605,9 @@ public class ZimbraPerf {
                             new DeltaCalculator(COUNTER_BLOB_INPUT_STREAM_READ).setTotalName(DC_BIS_READ),
                             new DeltaCalculator(COUNTER_BLOB_INPUT_STREAM_SEEK_RATE)
                                     .setAverageName(DC_BIS_SEEK_RATE),
+                            new DeltaCalculator(COUNTER_BLOB_ZERO_COPY_BYTES).setTotalName(DC_BIS_ZERO_COPY_BYTES),
+                            HISTOGRAM_REDO_BATCH_SIZE,
+                            HISTOGRAM_REDO_FSYNC_MICROS,
                             realtimeStats
                     }
                 );
@@ -513,6 +618,7 @@ public class ZimbraPerf {
                     new Accumulator[] {
                             new DeltaCalculator(STOPWATCH_IMAP)
                                     .setCountName(DC_IMAP_COUNT).setAverageName(DC_IMAP_MS_AVG),
+                            new DeltaCalculator(COUNTER_IMAP_STRUCTURE_CACHE).setAverageName(DC_IMAP_STRUCTURE_CACHE),
                             realtimeStats
                     }
                 );
@@ -25,13 +25,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.zip.GZIPInputStream;
 
 import org.apache.commons.io.FileUtils;
 
 import com.google.common.base.MoreObjects;
 import com.zimbra.common.util.ByteUtil;
-import com.zimbra.common.util.FileUtil;
 import com.zimbra.common.zmime.ZSharedFileInputStream;
 
 /**
@@ -45,6 +43,7 @@ public class Blob {
     private File file;
     private String path;
     private Boolean compressed = null;
+    private BlobCodec codec;
     private String digest;
     private Long rawSize;
 
@@ -66,7 +65,7 @@ public class Blob {
     public void copy(Blob blob) throws IOException {
         setFile(blob.getFile());
         setPath(blob.getPath());
-        setCompressed(blob.isCompressed());
+        setCodec(blob.getCodec());
         setDigest(blob.getDigest());
         setRawSize(blob.getRawSize());
     }
@@ -80,11 +79,7 @@ public class Blob {
     }
 
     public InputStream getInputStream() throws IOException {
-        InputStream in = new ZSharedFileInputStream(file);
-        if (isCompressed()) {
-            in = new GZIPInputStream(in);
-        }
-        return in;
+        return getCodec().newInputStream(new ZSharedFileInputStream(file));
     }
 
     public boolean isCompressed() throws IOException {
@@ -92,12 +87,21 @@ public class Blob {
             if (rawSize != null && rawSize.longValue() == file.length()) {
                 this.compressed = Boolean.FALSE;
             } else {
-                this.compressed = FileUtil.isGzipped(file);
+                this.codec = BlobCodec.detect(file);
+                this.compressed = codec != BlobCodec.NONE;
             }
         }
         return compressed;
     }
 
+    /** Returns the codec this blob's file is written with. */
+    public BlobCodec getCodec() throws IOException {
+        if (codec == null) {
+            this.codec = isCompressed() ? BlobCodec.detect(file) : BlobCodec.NONE;
+        }
+        return codec;
+    }
+
     /** Returns the SHA-256 digest of this blob's uncompressed data,
      *  encoded in base64. */
     public String getDigest() throws IOException {
@@ -114,7 +118,12 @@ public class Blob {
             if (!isCompressed()) {
                 this.rawSize = file.length();
             } else {
-                initializeSizeAndDigest();
+                long size = getCodec().getRawSize(file);
+                if (size >= 0) {
+                    this.rawSize = size;
+                } else {
+                    initializeSizeAndDigest();
+                }
             }
         }
         return rawSize;
@@ -145,8 +154,19 @@ public class Blob {
         }
     }
 
+    /**
+     * Marks the blob as compressed or not.  The codec of a compressed blob is detected from
+     * its file when it's first needed.
+     */
     public Blob setCompressed(final boolean isCompressed) {
         this.compressed = isCompressed;
+        this.codec = isCompressed ? null : BlobCodec.NONE;
+        return this;
+    }
+
+    public Blob setCodec(final BlobCodec codec) {
+        this.codec = codec;
+        this.compressed = codec != BlobCodec.NONE;
         return this;
     }
 
@@ -173,6 +193,7 @@ public class Blob {
     public Blob copyCachedDataFrom(final Blob other) {
         if (compressed == null && other.compressed != null) {
             this.compressed = other.compressed;
+            this.codec = other.codec;
         }
         if (digest == null && other.digest != null) {
             this.digest = other.digest;
@@ -196,6 +217,7 @@ public class Blob {
         return MoreObjects.toStringHelper(this)
             .add("path", path)
             .add("size", rawSize)
-            .add("compressed", compressed).toString();
+            .add("compressed", compressed)
+            .add("codec", codec).toString();
     }
 }
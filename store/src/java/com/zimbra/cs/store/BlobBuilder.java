@@ -27,8 +27,6 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 import org.apache.commons.io.IOUtils;
 
 import com.zimbra.common.localconfig.DebugConfig;
@@ -50,6 +48,7 @@ public class BlobBuilder {
     private byte[] buf;
     private int bufLen = 0;
     private boolean compressionThresholdExceeded = false;
+    private BlobCodec codec;
 
     protected BlobBuilder(Blob targetBlob) {
         this.blob = targetBlob;
@@ -82,6 +81,13 @@ public class BlobBuilder {
         return 0;
     }
 
+    /**
+     * Returns the codec that blobs above the compression threshold are written with.
+     */
+    protected BlobCodec getCodec() throws IOException {
+        return BlobCodec.GZIP;
+    }
+
     public BlobBuilder disableDigest(boolean disable) {
         this.disableDigest = disable;
         return this;
@@ -125,7 +131,6 @@ public class BlobBuilder {
         return ((FileOutputStream)out).getChannel();
     }
 
-    @SuppressWarnings("unused")
     protected boolean useCompression() throws IOException {
         return false;
     }
@@ -162,9 +167,10 @@ public class BlobBuilder {
 
             // This call exceeded compression threshold.  Compress the stream and
             // write everything that we've read so far.
-            out = new GZIPOutputStream(out);
+            codec = getCodec();
+            out = codec.newOutputStream(out);
             writeToFile(buf, 0, bufLen);
-            blob.setCompressed(true);
+            blob.setCodec(codec);
             compressionThresholdExceeded = true;
         }
 
@@ -206,7 +212,6 @@ public class BlobBuilder {
         }
     }
 
-    @SuppressWarnings("unused")
     public Blob finish() throws IOException, ServiceException {
         if (finished)
             return blob;
@@ -221,6 +226,9 @@ public class BlobBuilder {
         }
 
         try {
+            if (compressionThresholdExceeded) {
+                codec.finish(out);
+            }
             if (!DebugConfig.disableMessageStoreFsync) {
                 out.flush();
                 if (fc != null) {
@@ -240,13 +248,15 @@ public class BlobBuilder {
             blob.setRawSize(totalBytes);
             File file = blob.getFile();
             File uncompresedFile = null;
-            if (blob.isCompressed() && totalBytes == file.length())
+            // GZIP and framed output of incompressible data is larger than the
+            // input, so it almost never matches the raw size exactly
+            if (blob.isCompressed() && totalBytes <= file.length())
             {
               ZimbraLog.store.info("Blob compression is useless avoid it");
-              GZIPInputStream in = null;
+              InputStream in = null;
               try {
                 uncompresedFile = File.createTempFile("blob","",file.getParentFile());
-                in = new GZIPInputStream(new FileInputStream(file));
+                in = blob.getCodec().newInputStream(new FileInputStream(file));
                 out = createOutputStream(uncompresedFile);
                 IOUtils.copy(in,out);
                 blob.setCompressed(false);
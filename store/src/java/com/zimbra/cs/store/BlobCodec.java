@@ -0,0 +1,241 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.store;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.IOUtils;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.common.util.ByteUtil;
+
+/**
+ * Compression format of a blob file.  A volume's codec only decides how new blobs are written.
+ * Existing blobs are read with the codec detected from their first bytes, so a volume can switch
+ * codecs without rewriting the blobs it already has, and GZIP blobs written before codecs existed
+ * keep working.
+ */
+public abstract class BlobCodec {
+
+    static final int BUFLEN = Math.max(LC.zimbra_store_copy_buffer_size_kb.intValue(), 1) * 1024;
+
+    /** Blob is stored as is. */
+    public static final BlobCodec NONE = new BlobCodec("none") {
+        @Override
+        public OutputStream newOutputStream(OutputStream out) {
+            return out;
+        }
+
+        @Override
+        public InputStream newInputStream(InputStream in) {
+            return in;
+        }
+    };
+
+    /** GZIP at the default level, the format of all compressed blobs written before codecs existed. */
+    public static final BlobCodec GZIP = new DeflateCodec("gzip", Deflater.DEFAULT_COMPRESSION);
+
+    /** Independently deflated frames with a frame index, see {@link FramedBlobCodec}. */
+    public static final BlobCodec FRAME = new FramedBlobCodec();
+
+    private static final String DEFLATE_PREFIX = "deflate-";
+    private static final BlobCodec[] DEFLATE = new BlobCodec[Deflater.BEST_COMPRESSION + 1];
+    static {
+        for (int level = Deflater.BEST_SPEED; level <= Deflater.BEST_COMPRESSION; level++) {
+            DEFLATE[level] = new DeflateCodec(DEFLATE_PREFIX + level, level);
+        }
+    }
+
+    private final String name;
+
+    protected BlobCodec(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a stream that encodes everything written to it onto <tt>out</tt>.  Closing the
+     * returned stream closes <tt>out</tt>.
+     */
+    public abstract OutputStream newOutputStream(OutputStream out) throws IOException;
+
+    /**
+     * Returns a stream of the uncompressed content of <tt>in</tt>.
+     */
+    public abstract InputStream newInputStream(InputStream in) throws IOException;
+
+    /**
+     * Writes any data that {@link #newOutputStream} is still holding, so that the underlying
+     * file can be synced before the stream is closed.
+     */
+    public void finish(OutputStream encoded) throws IOException {
+    }
+
+    /**
+     * Returns <tt>true</tt> if a range of the uncompressed content can be read without decoding
+     * everything before it.  Blobs written with a seekable codec don't go through the uncompressed
+     * file cache.
+     */
+    public boolean isSeekable() {
+        return false;
+    }
+
+    /**
+     * Returns the uncompressed size recorded in the file, or <tt>-1</tt> if the content has to be
+     * decoded to find out.
+     */
+    public long getRawSize(File file) throws IOException {
+        return -1;
+    }
+
+    /**
+     * Compresses file <tt>src</tt> into file <tt>dest</tt>.
+     * @param sync <tt>true</tt> to fsync writes
+     */
+    public void encode(File src, File dest, boolean sync) throws IOException {
+        InputStream in = null;
+        OutputStream out = null;
+        boolean isComplete = false;
+        try {
+            in = new FileInputStream(src);
+            FileOutputStream fos = new FileOutputStream(dest);
+            out = newOutputStream(fos);
+            IOUtils.copyLarge(in, out, new byte[BUFLEN]);
+            finish(out);
+            out.flush();
+            if (sync) {
+                fos.getChannel().force(true);
+            }
+            isComplete = true;
+        } finally {
+            ByteUtil.closeStream(in);
+            ByteUtil.closeStream(out);
+            if (!isComplete) {
+                dest.delete();
+            }
+        }
+    }
+
+    /**
+     * Returns the codec with the given name: <tt>none</tt>, <tt>gzip</tt>, <tt>deflate-1</tt>
+     * through <tt>deflate-9</tt>, or <tt>frame</tt>.
+     */
+    public static BlobCodec forName(String name) throws ServiceException {
+        if (name != null) {
+            String lower = name.trim().toLowerCase();
+            if (lower.equals(NONE.getName())) {
+                return NONE;
+            } else if (lower.equals(GZIP.getName())) {
+                return GZIP;
+            } else if (lower.equals(FRAME.getName())) {
+                return FRAME;
+            } else if (lower.startsWith(DEFLATE_PREFIX)) {
+                try {
+                    int level = Integer.parseInt(lower.substring(DEFLATE_PREFIX.length()));
+                    if (level >= Deflater.BEST_SPEED && level <= Deflater.BEST_COMPRESSION) {
+                        return DEFLATE[level];
+                    }
+                } catch (NumberFormatException e) {
+                }
+            }
+        }
+        throw ServiceException.INVALID_REQUEST("unknown blob codec: " + name, null);
+    }
+
+    /**
+     * Detects the codec a blob file was written with from its first bytes.  GZIP files are
+     * reported as {@link #GZIP} whatever level they were written at.
+     */
+    public static BlobCodec detect(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] header = new byte[FramedBlobCodec.MAGIC.length];
+            return detect(header, IOUtils.read(in, header));
+        } finally {
+            ByteUtil.closeStream(in);
+        }
+    }
+
+    static BlobCodec detect(byte[] header, int len) {
+        if (len >= 2 && (header[0] & 0xff) == 0x1f && (header[1] & 0xff) == 0x8b) {
+            return GZIP;
+        } else if (FramedBlobCodec.isFramed(header, len)) {
+            return FRAME;
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the uncompressed content of a stream holding the raw bytes of a blob file, such
+     * as the blob data logged in the redolog.
+     */
+    public static InputStream decode(InputStream in) throws IOException {
+        InputStream buffered = new BufferedInputStream(in, BUFLEN);
+        byte[] header = new byte[FramedBlobCodec.MAGIC.length];
+        buffered.mark(header.length);
+        int len = IOUtils.read(buffered, header);
+        buffered.reset();
+        return detect(header, len).newInputStream(buffered);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static final class DeflateCodec extends BlobCodec {
+        private final int level;
+
+        DeflateCodec(String name, int level) {
+            super(name);
+            this.level = level;
+        }
+
+        @Override
+        public OutputStream newOutputStream(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFLEN) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+
+        @Override
+        public InputStream newInputStream(InputStream in) throws IOException {
+            return new GZIPInputStream(in, BUFLEN);
+        }
+
+        @Override
+        public void finish(OutputStream encoded) throws IOException {
+            ((DeflaterOutputStream) encoded).finish();
+        }
+    }
+}
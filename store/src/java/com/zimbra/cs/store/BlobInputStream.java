@@ -20,12 +20,14 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import javax.mail.internet.SharedInputStream;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.zimbra.common.localconfig.LC;
 import com.zimbra.common.mime.MimePart.InputStreamSource;
+import com.zimbra.common.util.ByteUtil;
 import com.zimbra.common.util.Log;
 import com.zimbra.common.util.LogFactory;
 
@@ -77,6 +79,8 @@ implements SharedInputStream, InputStreamSource {
 
     private static int BUFFER_SIZE = Math.max(LC.zimbra_blob_input_stream_buffer_size_kb.intValue(), 1) * 1024;
 
+    private static final long ZERO_COPY_MIN_SIZE = Math.max(LC.zimbra_blob_zero_copy_min_size_kb.longValue(), 0) * 1024;
+
     /**
      * Read buffer.
      */
@@ -231,6 +235,54 @@ implements SharedInputStream, InputStreamSource {
         mRoot.mFile = newFile;
     }
 
+    /**
+     * Writes the rest of this stream to <tt>sink</tt> straight from the blob file,
+     * bypassing the read buffer, and leaves the stream positioned at its end.  Blobs
+     * written with a seekable codec can't be transferred this way.
+     *
+     * @return the number of bytes transferred
+     */
+    public long transferTo(FileRegionSink sink) throws IOException {
+        long total = 0;
+        while (mPos < mEnd) {
+            long numWritten = getFileDescriptorCache().transferTo(getRootFile().getPath(), mRawSize, mPos, mEnd - mPos, sink);
+            if (numWritten <= 0) {
+                throw new IOException(String.format("Unexpected end of blob '%s' at position %d (expected %d bytes)",
+                        getRootFilePath(), mPos, mEnd));
+            }
+            mPos += numWritten;
+            total += numWritten;
+        }
+        return total;
+    }
+
+    /**
+     * Copies <tt>in</tt> to <tt>out</tt>.  If <tt>in</tt> is a <tt>BlobInputStream</tt>
+     * with enough content left in a file that can be transferred, and <tt>sink</tt>
+     * currently accepts file regions, the bytes go through {@link #transferTo(FileRegionSink)};
+     * otherwise they are copied with {@link ByteUtil#copy}.
+     *
+     * @param sink the zero-copy view of <tt>out</tt>, or <tt>null</tt> if it has none
+     * @return the number of bytes copied
+     */
+    public static long copy(InputStream in, boolean closeIn, OutputStream out, FileRegionSink sink)
+    throws IOException {
+        if (sink != null && in instanceof BlobInputStream && LC.zimbra_blob_zero_copy_enabled.booleanValue()) {
+            BlobInputStream bis = (BlobInputStream) in;
+            if (bis.mEnd - bis.mPos >= ZERO_COPY_MIN_SIZE && sink.acceptsFileRegions()
+                    && getFileDescriptorCache().supportsTransfer(bis.getRootFile().getPath(), bis.mRawSize)) {
+                try {
+                    return bis.transferTo(sink);
+                } finally {
+                    if (closeIn) {
+                        ByteUtil.closeStream(in);
+                    }
+                }
+            }
+        }
+        return ByteUtil.copy(in, closeIn, out, false);
+    }
+
     ////////////// InputStream methods //////////////
 
     @Override
@@ -27,12 +27,10 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.zip.GZIPInputStream;
 
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.stats.Counter;
 import com.zimbra.common.util.FileCache;
-import com.zimbra.common.util.FileUtil;
 import com.zimbra.common.util.Log;
 import com.zimbra.common.util.LogFactory;
 import com.zimbra.common.util.ZimbraLog;
@@ -40,8 +38,9 @@ import com.zimbra.cs.account.Provisioning;
 import com.zimbra.cs.account.Server;
 
 /**
- * Caches file descriptors to blobs in the mail store.  If the blob is compressed,
- * uses a {@link FileCache} to access the uncompressed data.  Cache entries
+ * Caches file descriptors to blobs in the mail store.  If the blob is compressed
+ * with a seekable codec, reads decode the frames they need; other compressed blobs
+ * use a {@link FileCache} to access the uncompressed data.  Cache entries
  * that reference uncompressed blobs keep the file descriptor open until {@link #remove}
  * is called or the cache entry is aged out.
  */
@@ -135,6 +134,44 @@ public class FileDescriptorCache
         return numRead;
     }
 
+    /**
+     * Hands a region of the specified file to <tt>sink</tt> without copying it
+     * through a heap buffer.  The file descriptor stays open until the sink returns.
+     * @return the number of bytes the sink wrote
+     */
+    public long transferTo(String path, long rawSize, long fileOffset, long count, FileRegionSink sink)
+    throws IOException {
+        sLog.debug("Transferring %s.  rawSize=%d, fileOffset=%d, count=%d.", path, rawSize, fileOffset, count);
+        SharedFile file = null;
+
+        try {
+            file = getSharedFile(path, rawSize);
+            return file.transferTo(fileOffset, count, sink);
+        } finally {
+            if (file != null) {
+               file.doneReading();
+            }
+        }
+    }
+
+    /**
+     * Returns <tt>true</tt> if regions of the specified file can be handed to a
+     * {@link FileRegionSink}, which is not the case for blobs decoded frame by frame.
+     */
+    public boolean supportsTransfer(String path, long rawSize)
+    throws IOException {
+        SharedFile file = null;
+
+        try {
+            file = getSharedFile(path, rawSize);
+            return file.supportsTransfer();
+        } finally {
+            if (file != null) {
+               file.doneReading();
+            }
+        }
+    }
+
     boolean contains(String path) {
         synchronized (this) {
             return mCache.containsKey(path);
@@ -162,12 +199,16 @@ public class FileDescriptorCache
         mHitRate.increment(0);
         File file = new File(path);
 
-        if (file.length() != rawSize && FileUtil.isGzipped(file)) {
+        BlobCodec codec = file.length() != rawSize ? BlobCodec.detect(file) : BlobCodec.NONE;
+        if (codec.isSeekable()) {
+            sLog.debug("Opening new file descriptor for %s, decoding %s frames on read.", path, codec);
+            sharedFile = new FramedSharedFile(file);
+        } else if (codec != BlobCodec.NONE) {
             sLog.debug("Adding file descriptor cache entry for %s from the uncompressed file cache.", path);
             FileCache.Item uncompressed = mUncompressedFileCache.get(path);
             if (uncompressed == null) {
                 InputStream in = null;
-                in = new GZIPInputStream(new FileInputStream(file));
+                in = codec.newInputStream(new FileInputStream(file));
                 mUncompressedFileCache.put(path, in);
                 uncompressed = mUncompressedFileCache.get(path);
                 if (uncompressed == null) {
@@ -0,0 +1,48 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.store;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * Destination that can consume a region of a blob file without the bytes being
+ * copied through a heap buffer, either by {@link FileChannel#transferTo} or by
+ * writing a mapped view of the file.
+ *
+ * @see BlobInputStream#transferTo(FileRegionSink)
+ */
+public interface FileRegionSink {
+
+    /**
+     * Returns <tt>false</tt> if the destination currently transforms what is
+     * written to it (TLS, SASL, compression), in which case the caller has to
+     * copy the content through a buffer instead.
+     */
+    boolean acceptsFileRegions();
+
+    /**
+     * Writes <tt>count</tt> bytes of <tt>file</tt> starting at <tt>position</tt>,
+     * after anything already written to the destination.  The channel is shared
+     * with other readers of the same blob, so implementations must use positional
+     * I/O and must not return until they no longer need the channel.
+     *
+     * @return the number of bytes written
+     */
+    long write(FileChannel file, long position, long count) throws IOException;
+}
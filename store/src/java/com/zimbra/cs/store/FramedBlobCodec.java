@@ -0,0 +1,454 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.store;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.zimbra.common.localconfig.LC;
+
+/**
+ * Block-based blob codec.  The content is cut into fixed size frames that are deflated
+ * independently at the fastest level and followed by an index of frame offsets, so a range of the
+ * content can be read by inflating only the frames that cover it.  Frames that don't get smaller
+ * are stored as is.
+ *
+ * <pre>
+ * header  "ZBF1", int frame size
+ * frame   byte type (stored or deflated), int stored length, int raw length, stored data
+ * index   byte end marker, int frame count, long offset of each frame, long raw size
+ * footer  long offset of the index, "ZBFI"
+ * </pre>
+ *
+ * Every frame but the last holds exactly one frame size of content.
+ */
+public final class FramedBlobCodec extends BlobCodec {
+
+    static final byte[] MAGIC = { 'Z', 'B', 'F', '1' };
+    private static final byte[] INDEX_MAGIC = { 'Z', 'B', 'F', 'I' };
+
+    private static final byte TYPE_STORED = 0;
+    private static final byte TYPE_DEFLATED = 1;
+    private static final byte TYPE_END = (byte) 0xff;
+
+    private static final int HEADER_SIZE = MAGIC.length + 4;
+    private static final int FOOTER_SIZE = 8 + INDEX_MAGIC.length;
+    private static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    FramedBlobCodec() {
+        super("frame");
+    }
+
+    static boolean isFramed(byte[] header, int len) {
+        if (len < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getFrameSize() {
+        int kb = LC.zimbra_blob_frame_size_kb.intValue();
+        return Math.min(Math.max(kb, 1) * 1024, MAX_FRAME_SIZE);
+    }
+
+    @Override
+    public OutputStream newOutputStream(OutputStream out) throws IOException {
+        return new FrameOutputStream(out, getFrameSize());
+    }
+
+    @Override
+    public InputStream newInputStream(InputStream in) throws IOException {
+        return new FrameInputStream(in);
+    }
+
+    @Override
+    public void finish(OutputStream encoded) throws IOException {
+        ((FrameOutputStream) encoded).finish();
+    }
+
+    @Override
+    public boolean isSeekable() {
+        return true;
+    }
+
+    @Override
+    public long getRawSize(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            return readIndex(raf).rawSize;
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Frame layout of a framed blob file.
+     */
+    static final class Index {
+        final int frameSize;
+        final long[] offsets;
+        final long rawSize;
+
+        Index(int frameSize, long[] offsets, long rawSize) {
+            this.frameSize = frameSize;
+            this.offsets = offsets;
+            this.rawSize = rawSize;
+        }
+
+        int getFrameCount() {
+            return offsets.length;
+        }
+    }
+
+    static Index readIndex(RandomAccessFile raf) throws IOException {
+        long length = raf.length();
+        if (length < HEADER_SIZE + 1 + 4 + 8 + FOOTER_SIZE) {
+            throw new IOException("framed blob is truncated: " + length + " bytes");
+        }
+        raf.seek(0);
+        byte[] magic = new byte[MAGIC.length];
+        raf.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("not a framed blob");
+        }
+        int frameSize = readFrameSize(raf.readInt());
+
+        raf.seek(length - FOOTER_SIZE);
+        long indexOffset = raf.readLong();
+        raf.readFully(magic);
+        if (!Arrays.equals(magic, INDEX_MAGIC) || indexOffset < HEADER_SIZE || indexOffset >= length - FOOTER_SIZE) {
+            throw new IOException("framed blob has no valid frame index");
+        }
+        raf.seek(indexOffset);
+        if (raf.readByte() != TYPE_END) {
+            throw new IOException("framed blob has no valid frame index");
+        }
+        int frameCount = raf.readInt();
+        if (frameCount < 0 || indexOffset + 1 + 4 + 8L * frameCount + 8 + FOOTER_SIZE != length) {
+            throw new IOException("framed blob has an invalid frame count: " + frameCount);
+        }
+        long[] offsets = new long[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            offsets[i] = raf.readLong();
+        }
+        long rawSize = raf.readLong();
+        if (rawSize < 0 || (rawSize + frameSize - 1) / frameSize != frameCount) {
+            throw new IOException("framed blob has an invalid size: " + rawSize);
+        }
+        return new Index(frameSize, offsets, rawSize);
+    }
+
+    /**
+     * Reads and decodes one frame into <tt>dest</tt>.
+     * @param stored scratch buffer at least one frame size long
+     * @return the number of content bytes in the frame
+     */
+    static int readFrame(RandomAccessFile raf, Index index, int frameNum, byte[] dest, byte[] stored, Inflater inflater)
+    throws IOException {
+        raf.seek(index.offsets[frameNum]);
+        byte type = raf.readByte();
+        int storedLength = raf.readInt();
+        int rawLength = raf.readInt();
+        long expected = Math.min(index.frameSize, index.rawSize - (long) frameNum * index.frameSize);
+        if (rawLength != expected) {
+            throw new IOException("frame " + frameNum + " has length " + rawLength + ", expected " + expected);
+        }
+        checkStoredLength(storedLength, index.frameSize);
+        raf.readFully(stored, 0, storedLength);
+        decodeFrame(type, stored, storedLength, dest, rawLength, inflater);
+        return rawLength;
+    }
+
+    private static int readFrameSize(int frameSize) throws IOException {
+        if (frameSize <= 0 || frameSize > MAX_FRAME_SIZE) {
+            throw new IOException("framed blob has an invalid frame size: " + frameSize);
+        }
+        return frameSize;
+    }
+
+    private static void checkStoredLength(int storedLength, int frameSize) throws IOException {
+        if (storedLength < 0 || storedLength > frameSize) {
+            throw new IOException("framed blob has an invalid frame length: " + storedLength);
+        }
+    }
+
+    private static void decodeFrame(byte type, byte[] stored, int storedLength, byte[] dest, int rawLength,
+            Inflater inflater) throws IOException {
+        if (type == TYPE_STORED) {
+            if (storedLength != rawLength) {
+                throw new IOException("stored frame has length " + storedLength + ", expected " + rawLength);
+            }
+            System.arraycopy(stored, 0, dest, 0, rawLength);
+        } else if (type == TYPE_DEFLATED) {
+            inflater.reset();
+            inflater.setInput(stored, 0, storedLength);
+            int total = 0;
+            try {
+                while (total < rawLength && !inflater.finished()) {
+                    int n = inflater.inflate(dest, total, rawLength - total);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    total += n;
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("corrupt frame", e);
+            }
+            if (total != rawLength) {
+                throw new IOException("frame inflated to " + total + " bytes, expected " + rawLength);
+            }
+        } else {
+            throw new IOException("unknown frame type: " + type);
+        }
+    }
+
+    static final class FrameOutputStream extends OutputStream {
+        private final OutputStream out;
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        private final byte[] frame;
+        private final byte[] deflated;
+        private final byte[] header = new byte[9];
+        private int frameLength;
+        private long[] offsets = new long[16];
+        private int frameCount;
+        private long position;
+        private long rawSize;
+        private boolean finished;
+
+        FrameOutputStream(OutputStream out, int frameSize) throws IOException {
+            this.out = out;
+            frame = new byte[frameSize];
+            deflated = new byte[frameSize];
+            out.write(MAGIC);
+            position = MAGIC.length;
+            writeInt(frameSize);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (finished) {
+                throw new IOException("stream is finished");
+            }
+            frame[frameLength++] = (byte) b;
+            if (frameLength == frame.length) {
+                writeFrame();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (finished) {
+                throw new IOException("stream is finished");
+            }
+            while (len > 0) {
+                int n = Math.min(len, frame.length - frameLength);
+                System.arraycopy(b, off, frame, frameLength, n);
+                frameLength += n;
+                off += n;
+                len -= n;
+                if (frameLength == frame.length) {
+                    writeFrame();
+                }
+            }
+        }
+
+        private void writeFrame() throws IOException {
+            if (frameLength == 0) {
+                return;
+            }
+            deflater.reset();
+            deflater.setInput(frame, 0, frameLength);
+            deflater.finish();
+            int storedLength = 0;
+            while (!deflater.finished() && storedLength < deflated.length) {
+                storedLength += deflater.deflate(deflated, storedLength, deflated.length - storedLength);
+            }
+            boolean compressed = deflater.finished() && storedLength < frameLength;
+
+            if (frameCount == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[frameCount++] = position;
+            header[0] = compressed ? TYPE_DEFLATED : TYPE_STORED;
+            putInt(header, 1, compressed ? storedLength : frameLength);
+            putInt(header, 5, frameLength);
+            out.write(header, 0, header.length);
+            if (compressed) {
+                out.write(deflated, 0, storedLength);
+            } else {
+                out.write(frame, 0, frameLength);
+            }
+            position += header.length + (compressed ? storedLength : frameLength);
+            rawSize += frameLength;
+            frameLength = 0;
+        }
+
+        /**
+         * Writes the last frame and the frame index.  Nothing can be written afterwards.
+         */
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            writeFrame();
+            long indexOffset = position;
+            out.write(TYPE_END);
+            writeInt(frameCount);
+            for (int i = 0; i < frameCount; i++) {
+                writeLong(offsets[i]);
+            }
+            writeLong(rawSize);
+            writeLong(indexOffset);
+            out.write(INDEX_MAGIC);
+            finished = true;
+            deflater.end();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // frames have a fixed size, so a partial frame is only written by finish()
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                finish();
+            } finally {
+                deflater.end();
+                out.close();
+            }
+        }
+
+        private void writeInt(int v) throws IOException {
+            putInt(header, 0, v);
+            out.write(header, 0, 4);
+            position += 4;
+        }
+
+        private void writeLong(long v) throws IOException {
+            writeInt((int) (v >>> 32));
+            writeInt((int) v);
+        }
+
+        private static void putInt(byte[] b, int off, int v) {
+            b[off] = (byte) (v >>> 24);
+            b[off + 1] = (byte) (v >>> 16);
+            b[off + 2] = (byte) (v >>> 8);
+            b[off + 3] = (byte) v;
+        }
+    }
+
+    /**
+     * Decodes a framed blob front to back, without looking at the frame index.
+     */
+    static final class FrameInputStream extends InputStream {
+        private final DataInputStream in;
+        private final Inflater inflater = new Inflater(true);
+        private final byte[] frame;
+        private final byte[] stored;
+        private int frameLength;
+        private int framePos;
+        private boolean eof;
+
+        FrameInputStream(InputStream in) throws IOException {
+            this.in = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in, BUFLEN));
+            byte[] magic = new byte[MAGIC.length];
+            this.in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("not a framed blob");
+            }
+            int frameSize = readFrameSize(this.in.readInt());
+            frame = new byte[frameSize];
+            stored = new byte[frameSize];
+        }
+
+        private boolean nextFrame() throws IOException {
+            if (eof) {
+                return false;
+            }
+            byte type = in.readByte();
+            if (type == TYPE_END) {
+                eof = true;
+                return false;
+            }
+            int storedLength = in.readInt();
+            int rawLength = in.readInt();
+            checkStoredLength(storedLength, frame.length);
+            if (rawLength <= 0 || rawLength > frame.length) {
+                throw new IOException("framed blob has an invalid frame length: " + rawLength);
+            }
+            in.readFully(stored, 0, storedLength);
+            decodeFrame(type, stored, storedLength, frame, rawLength, inflater);
+            frameLength = rawLength;
+            framePos = 0;
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (framePos >= frameLength && !nextFrame()) {
+                return -1;
+            }
+            return frame[framePos++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            try {
+                if (framePos >= frameLength && !nextFrame()) {
+                    return -1;
+                }
+            } catch (EOFException e) {
+                throw new IOException("framed blob is truncated", e);
+            }
+            int n = Math.min(len, frameLength - framePos);
+            System.arraycopy(frame, framePos, b, off, n);
+            framePos += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return frameLength - framePos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.end();
+            in.close();
+        }
+    }
+}
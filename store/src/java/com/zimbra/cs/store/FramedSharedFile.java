@@ -0,0 +1,111 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+package com.zimbra.cs.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.zip.Inflater;
+
+import com.zimbra.cs.stats.ZimbraPerf;
+
+/**
+ * <tt>SharedFile</tt> over a blob written with {@link FramedBlobCodec}.  Offsets are offsets in the
+ * uncompressed content.  A read inflates only the frames it covers, and the last inflated frame is
+ * kept for the sequential reads that usually follow.  The frame buffers are allocated by the first read
+ * and released when the {@link FileDescriptorCache} closes the descriptor.
+ */
+class FramedSharedFile extends SharedFile {
+
+    private final FramedBlobCodec.Index mIndex;
+    private byte[] mFrame;
+    private byte[] mStored;
+    private Inflater mInflater;
+    private int mFrameNum = -1;
+    private int mFrameLength;
+
+    FramedSharedFile(File file)
+    throws IOException {
+        super(file);
+        synchronized (this) {
+            mIndex = FramedBlobCodec.readIndex(getRandomAccessFile());
+        }
+    }
+
+    @Override
+    synchronized long getLength() {
+        return mIndex.rawSize;
+    }
+
+    @Override
+    synchronized int read(long fileOffset, byte[] b, int off, int len)
+    throws IOException {
+        if (fileOffset >= mIndex.rawSize) {
+            return -1;
+        }
+        int numRead = 0;
+        while (numRead < len && fileOffset < mIndex.rawSize) {
+            int frameNum = (int) (fileOffset / mIndex.frameSize);
+            if (frameNum != mFrameNum) {
+                if (mInflater == null) {
+                    mInflater = new Inflater(true);
+                    mFrame = new byte[mIndex.frameSize];
+                    mStored = new byte[mIndex.frameSize];
+                }
+                mFrameNum = -1;
+                mFrameLength = FramedBlobCodec.readFrame(getRandomAccessFile(), mIndex, frameNum, mFrame, mStored, mInflater);
+                mFrameNum = frameNum;
+                ZimbraPerf.COUNTER_BLOB_INPUT_STREAM_SEEK_RATE.increment(100);
+            } else {
+                ZimbraPerf.COUNTER_BLOB_INPUT_STREAM_SEEK_RATE.increment(0);
+            }
+            int frameOffset = (int) (fileOffset - (long) frameNum * mIndex.frameSize);
+            int n = Math.min(len - numRead, mFrameLength - frameOffset);
+            System.arraycopy(mFrame, frameOffset, b, off + numRead, n);
+            numRead += n;
+            fileOffset += n;
+        }
+        ZimbraPerf.COUNTER_BLOB_INPUT_STREAM_READ.increment();
+        return numRead;
+    }
+
+    @Override
+    boolean supportsTransfer() {
+        return false;
+    }
+
+    @Override
+    synchronized void close()
+    throws IOException {
+        super.close();
+        releaseBuffers();
+    }
+
+    private void releaseBuffers() {
+        if (mInflater != null) {
+            mInflater.end();
+            mInflater = null;
+        }
+        mFrame = null;
+        mStored = null;
+        mFrameNum = -1;
+    }
+
+    /** Returns <tt>true</tt> if the frame buffers are allocated. */
+    synchronized boolean hasBuffers() {
+        return mFrame != null;
+    }
+}
@@ -22,6 +22,7 @@ package com.zimbra.cs.store;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 
 import com.zimbra.cs.stats.ZimbraPerf;
 
@@ -92,6 +93,36 @@ public class SharedFile {
         return numRead;
     }
     
+    /**
+     * Hands <tt>count</tt> bytes starting at <tt>fileOffset</tt> to the given sink.
+     * Only the channel lookup holds the lock; the transfer itself uses positional
+     * I/O, so concurrent transfers and reads of the same file don't serialize.
+     * The caller must have called {@link #aboutToRead} so that the descriptor
+     * isn't closed underneath the sink.
+     */
+    long transferTo(long fileOffset, long count, FileRegionSink sink)
+    throws IOException {
+        if (!supportsTransfer()) {
+            throw new IOException(mFile.getPath() + " cannot be transferred as a file region.");
+        }
+        FileChannel channel;
+        synchronized (this) {
+            openIfNecessary();
+            channel = mRAF.getChannel();
+        }
+        long numWritten = sink.write(channel, fileOffset, count);
+        ZimbraPerf.COUNTER_BLOB_ZERO_COPY_BYTES.increment(Math.max(numWritten, 0));
+        return numWritten;
+    }
+
+    /**
+     * Returns <tt>true</tt> if offsets passed to {@link #read} are offsets in the file on disk,
+     * so that {@link #transferTo} can hand out regions of it.
+     */
+    boolean supportsTransfer() {
+        return true;
+    }
+
     synchronized void aboutToRead() {
         mNumReaders++;
     }
@@ -106,6 +137,15 @@ public class SharedFile {
         return mNumReaders;
     }
     
+    /**
+     * Returns the open file, reopening it if it was closed.
+     */
+    synchronized RandomAccessFile getRandomAccessFile()
+    throws IOException {
+        openIfNecessary();
+        return mRAF;
+    }
+
     private synchronized void openIfNecessary()
     throws IOException {
         if (mRAF == null) {
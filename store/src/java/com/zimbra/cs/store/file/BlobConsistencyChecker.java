@@ -27,7 +27,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.GZIPInputStream;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
@@ -37,7 +36,6 @@ import com.zimbra.common.soap.AdminConstants;
 import com.zimbra.common.soap.Element;
 import com.zimbra.common.soap.MailConstants;
 import com.zimbra.common.util.ByteUtil;
-import com.zimbra.common.util.FileUtil;
 import com.zimbra.common.util.Log;
 import com.zimbra.common.util.ZimbraLog;
 import com.zimbra.cs.db.DbBlobConsistency;
@@ -45,6 +43,7 @@ import com.zimbra.cs.db.DbPool;
 import com.zimbra.cs.db.DbPool.DbConnection;
 import com.zimbra.cs.mailbox.Mailbox;
 import com.zimbra.cs.mailbox.MailboxManager;
+import com.zimbra.cs.store.BlobCodec;
 import com.zimbra.cs.store.StoreManager;
 import com.zimbra.cs.volume.Volume;
 import com.zimbra.cs.volume.VolumeManager;
@@ -395,11 +394,12 @@ public class BlobConsistencyChecker {
     protected long getDataSize(File file, long expected)
     throws IOException {
         long fileLen = file.length();
-        if (fileLen != expected && FileUtil.isGzipped(file)) {
-            return ByteUtil.getDataLength(new GZIPInputStream(new FileInputStream(file)));
-        } else {
+        BlobCodec codec = fileLen != expected ? BlobCodec.detect(file) : BlobCodec.NONE;
+        if (codec == BlobCodec.NONE) {
             return fileLen;
         }
+        long rawSize = codec.getRawSize(file);
+        return rawSize >= 0 ? rawSize : ByteUtil.getDataLength(codec.newInputStream(new FileInputStream(file)));
     }
 
 }
@@ -0,0 +1,439 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2026 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.store.file;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.service.ServiceException;
+import com.zimbra.common.util.ZimbraLog;
+import com.zimbra.cs.db.DbMailItem;
+import com.zimbra.cs.db.DbMailbox;
+import com.zimbra.cs.db.DbPool;
+import com.zimbra.cs.db.DbPool.DbConnection;
+import com.zimbra.cs.mailbox.MailServiceException;
+import com.zimbra.cs.mailbox.Mailbox;
+import com.zimbra.cs.mailbox.MailboxManager;
+import com.zimbra.cs.store.MailboxBlob;
+import com.zimbra.cs.store.MailboxBlob.MailboxBlobInfo;
+import com.zimbra.cs.store.StoreManager;
+import com.zimbra.cs.util.SpoolingCache;
+import com.zimbra.cs.volume.Volume;
+import com.zimbra.cs.volume.Volume.VolumeMetadata;
+import com.zimbra.cs.volume.VolumeManager;
+
+/**
+ * Moves the blobs of items older than a cutoff date from one volume to another in the background.
+ * <p>
+ * Blobs are listed a mailbox group at a time with {@link DbMailItem#getAllBlobs}.  A pool of threads
+ * copies them in per-mailbox batches with {@link FileBlobStore#copy}, without holding the mailbox lock
+ * and within a bandwidth limit.  Each batch is then switched to the new volume in one mailbox
+ * transaction by {@link Mailbox#relocateBlobs}, and the old files are deleted.  The last finished group
+ * is saved in the source volume's metadata, so a migration that was stopped or interrupted resumes from
+ * there when it's started again with the same volumes.
+ */
+public final class BlobMigrator {
+
+    private boolean inProgress = false;
+    private boolean stopProcessing = false;
+    private int totalMoved = 0;
+    private long totalSizeMoved = 0;
+    private int totalSkipped = 0;
+    private short sourceVolumeId = Volume.ID_NONE;
+    private String progress;
+
+    private final static BlobMigrator SINGLETON = new BlobMigrator();
+
+    private BlobMigrator() {
+    }
+
+    public static BlobMigrator getInstance() {
+        return SINGLETON;
+    }
+
+    /**
+     * Starts moving the blobs of items older than <tt>minAge</tt> from volume <tt>srcVolumeId</tt>
+     * to volume <tt>destVolumeId</tt>.  Resumes an unfinished migration between the same volumes,
+     * with the cutoff date it was started with.
+     *
+     * @param minAge minimum age of the items in milliseconds, which must be positive so that items
+     *        still being written aren't moved
+     * @param numThreads number of blobs copied at the same time
+     * @param bytesPerSecond maximum rate of copying, or 0 for unlimited
+     */
+    public void process(short srcVolumeId, short destVolumeId, long minAge, int numThreads, long bytesPerSecond)
+    throws ServiceException {
+        StoreManager sm = StoreManager.getInstance();
+        if (!(sm instanceof FileBlobStore)) {
+            throw ServiceException.INVALID_REQUEST(sm.getClass().getName() + " is not supported", null);
+        }
+        VolumeManager mgr = VolumeManager.getInstance();
+        for (short volumeId : new short[] { srcVolumeId, destVolumeId }) {
+            if (mgr.getVolume(volumeId).getType() == Volume.TYPE_INDEX) {
+                throw ServiceException.INVALID_REQUEST("Index volume " + volumeId + " is not supported", null);
+            }
+        }
+        if (srcVolumeId == destVolumeId) {
+            throw ServiceException.INVALID_REQUEST("source and destination volumes are the same", null);
+        }
+        if (minAge <= 0) {
+            throw ServiceException.INVALID_REQUEST("minimum age must be positive", null);
+        }
+        if (numThreads < 1 || bytesPerSecond < 0) {
+            throw ServiceException.INVALID_REQUEST("invalid thread count or bandwidth", null);
+        }
+        synchronized (this) {
+            if (inProgress) {
+                throw MailServiceException.TRY_AGAIN("Blob migration is already in progress. Only one request can be run at a time.");
+            }
+            inProgress = true;
+            totalMoved = 0;
+            totalSizeMoved = 0;
+            totalSkipped = 0;
+            sourceVolumeId = srcVolumeId;
+            progress = null;
+        }
+        Thread thread = new BlobMigratorThread((FileBlobStore) sm, srcVolumeId, destVolumeId, minAge, numThreads,
+                bytesPerSecond);
+        thread.setName("BlobMigrator");
+        thread.start();
+    }
+
+    public synchronized void stopProcessing() {
+        if (inProgress) {
+            ZimbraLog.store.info("Setting stopProcessing flag.");
+            stopProcessing = true;
+        }
+    }
+
+    private synchronized boolean isStopProcessing() {
+        return stopProcessing;
+    }
+
+    public synchronized boolean isRunning() {
+        return inProgress;
+    }
+
+    private synchronized void resetProgress() {
+        inProgress = false;
+        stopProcessing = false;
+    }
+
+    private synchronized void incrementCounts(int moved, long size, int skipped) {
+        totalMoved += moved;
+        totalSizeMoved += size;
+        totalSkipped += skipped;
+    }
+
+    public synchronized int getMovedCount() {
+        return totalMoved;
+    }
+
+    public synchronized long getMovedSize() {
+        return totalSizeMoved;
+    }
+
+    public synchronized int getSkippedCount() {
+        return totalSkipped;
+    }
+
+    /** Returns the source volume of the current or last migration, or {@link Volume#ID_NONE}. */
+    public synchronized short getSourceVolumeId() {
+        return sourceVolumeId;
+    }
+
+    /** Returns the mailbox groups done out of the total, or <tt>null</tt> before the first is done. */
+    public synchronized String getProgress() {
+        return progress;
+    }
+
+    private synchronized void setProgress(String str) {
+        progress = str;
+    }
+
+    /** A blob that was copied to the destination volume, before its item is pointed at the copy. */
+    static final class CopiedBlob {
+        final MailboxBlobInfo info;
+        final MailboxBlob src;
+        final MailboxBlob dest;
+
+        CopiedBlob(MailboxBlobInfo info, MailboxBlob src, MailboxBlob dest) {
+            this.info = info;
+            this.src = src;
+            this.dest = dest;
+        }
+    }
+
+    /**
+     * Copies a batch of blobs of one mailbox to volume <tt>destVolumeId</tt>, without holding the
+     * mailbox lock.  Blobs whose items are gone or that can't be read are counted as skipped.
+     *
+     * @param rateLimiter limits the bytes copied per second, or <tt>null</tt>
+     */
+    List<CopiedBlob> copyBatch(FileBlobStore store, Mailbox mbox, List<MailboxBlobInfo> batch, short destVolumeId,
+            RateLimiter rateLimiter) throws ServiceException {
+        List<CopiedBlob> copied = new ArrayList<CopiedBlob>(batch.size());
+        int skipped = 0;
+        for (MailboxBlobInfo info : batch) {
+            if (isStopProcessing()) {
+                break;
+            }
+            try {
+                MailboxBlob src = store.getMailboxBlob(mbox, info.itemId, info.revision, info.locator, true);
+                if (src == null) {
+                    // item was deleted after the blobs were listed
+                    skipped++;
+                    continue;
+                }
+                if (rateLimiter != null) {
+                    long size = src.getLocalBlob().getFile().length();
+                    rateLimiter.acquire((int) Math.max(Math.min(size, Integer.MAX_VALUE), 1));
+                }
+                MailboxBlob dest = store.copy(src.getLocalBlob(), mbox, info.itemId, info.revision, destVolumeId);
+                copied.add(new CopiedBlob(info, src, dest));
+            } catch (IOException e) {
+                ZimbraLog.store.warn("unable to copy blob %d-%d of mailbox %d", info.itemId, info.revision,
+                        mbox.getId(), e);
+                skipped++;
+            }
+        }
+        incrementCounts(0, 0, skipped);
+        return copied;
+    }
+
+    /**
+     * Points the items at the copies with {@link Mailbox#relocateBlobs}, then deletes the originals of
+     * the blobs that were relocated.  The copies of blobs whose items were changed or deleted since they
+     * were copied are deleted instead, as are all the copies if the transaction fails.
+     */
+    void relocateBatch(FileBlobStore store, Mailbox mbox, List<CopiedBlob> copied, String destLocator)
+    throws ServiceException {
+        if (copied.isEmpty()) {
+            return;
+        }
+        List<MailboxBlobInfo> infos = new ArrayList<MailboxBlobInfo>(copied.size());
+        for (CopiedBlob blob : copied) {
+            infos.add(blob.info);
+        }
+        Set<MailboxBlobInfo> relocated = Collections.emptySet();
+        try {
+            relocated = new HashSet<MailboxBlobInfo>(mbox.relocateBlobs(infos, destLocator));
+        } finally {
+            int moved = 0;
+            long size = 0;
+            int skipped = 0;
+            for (CopiedBlob blob : copied) {
+                if (relocated.contains(blob.info)) {
+                    size += blob.src.getLocalBlob().getFile().length();
+                    store.quietDelete(blob.src);
+                    moved++;
+                } else {
+                    // item was changed or deleted while its blob was being copied
+                    store.quietDelete(blob.dest);
+                    skipped++;
+                }
+            }
+            incrementCounts(moved, size, skipped);
+        }
+    }
+
+    private final class BlobMigratorThread extends Thread {
+        private final FileBlobStore store;
+        private final short srcVolumeId;
+        private final short destVolumeId;
+        private final String destLocator;
+        private final long minAge;
+        private final int numThreads;
+        private final RateLimiter rateLimiter;
+        private final int batchSize = Math.max(LC.zimbra_blob_migrate_batch_size.intValue(), 1);
+
+        BlobMigratorThread(FileBlobStore store, short srcVolumeId, short destVolumeId, long minAge, int numThreads,
+                long bytesPerSecond) throws ServiceException {
+            this.store = store;
+            this.srcVolumeId = srcVolumeId;
+            this.destVolumeId = destVolumeId;
+            this.destLocator = VolumeManager.getInstance().getVolume(destVolumeId).getLocator();
+            this.minAge = minAge;
+            this.numThreads = numThreads;
+            this.rateLimiter = bytesPerSecond > 0 ? RateLimiter.create(bytesPerSecond) : null;
+        }
+
+        @Override
+        public void run() {
+            ExecutorService pool = Executors.newFixedThreadPool(numThreads,
+                    new ThreadFactoryBuilder().setNameFormat("BlobMigrator-%d").setDaemon(true).build());
+            try {
+                migrate(pool);
+            } catch (Throwable t) {
+                ZimbraLog.store.error("error while migrating blobs from volume %d", srcVolumeId, t);
+            } finally {
+                pool.shutdownNow();
+                resetProgress();
+            }
+            ZimbraLog.store.info("Blob migration from volume %d to volume %d done. Moved %d blobs (%d bytes), skipped %d.",
+                    srcVolumeId, destVolumeId, getMovedCount(), getMovedSize(), getSkippedCount());
+        }
+
+        private void migrate(ExecutorService pool) throws ServiceException, InterruptedException {
+            VolumeMetadata metadata = VolumeManager.getInstance().getVolume(srcVolumeId).getMetadata();
+            boolean resumed = metadata.getMoveCutoffDate() != 0 && metadata.getMoveDestVolumeId() == destVolumeId;
+            int cutoffDate;
+            if (resumed) {
+                cutoffDate = metadata.getMoveCutoffDate();
+                ZimbraLog.store.info("Resuming blob migration from volume %d to volume %d after mailbox group %d",
+                        srcVolumeId, destVolumeId, metadata.getMoveGroupId());
+            } else {
+                cutoffDate = (int) ((System.currentTimeMillis() - minAge) / 1000);
+                metadata.setMove(destVolumeId, cutoffDate, 0);
+                updateMetadata(metadata);
+                ZimbraLog.store.info("Migrating blobs older than %d from volume %d to volume %d",
+                        cutoffDate, srcVolumeId, destVolumeId);
+            }
+
+            List<Integer> groupIds = getSortedGroupIds();
+            for (int i = 0; i < groupIds.size(); i++) {
+                int groupId = groupIds.get(i);
+                if (resumed && groupId <= metadata.getMoveGroupId()) {
+                    continue;
+                }
+                migrateGroup(pool, groupId, cutoffDate);
+                if (isStopProcessing()) {
+                    ZimbraLog.store.info("Received the stop signal. Stopping the blob migration.");
+                    return;
+                }
+                metadata.setMove(destVolumeId, cutoffDate, groupId);
+                updateMetadata(metadata);
+                setProgress(i + 1 + "/" + groupIds.size());
+                ZimbraLog.store.info("Migrated blobs of mailbox group %d (%d/%d), %d moved so far",
+                        groupId, i + 1, groupIds.size(), getMovedCount());
+            }
+            metadata.setMove(Volume.ID_NONE, 0, 0);
+            updateMetadata(metadata);
+        }
+
+        private void migrateGroup(ExecutorService pool, int groupId, int cutoffDate)
+        throws ServiceException, InterruptedException {
+            SpoolingCache<MailboxBlobInfo> blobs;
+            DbConnection conn = null;
+            try {
+                conn = DbPool.getConnection();
+                blobs = DbMailItem.getAllBlobs(conn, groupId, srcVolumeId, 0, cutoffDate);
+            } finally {
+                DbPool.quietClose(conn);
+            }
+            // bounds the batches waiting for a thread, since each one holds its blob list
+            Semaphore queued = new Semaphore(numThreads * 2);
+            List<Future<?>> tasks = new ArrayList<Future<?>>();
+            try {
+                Map<Integer, List<MailboxBlobInfo>> batches = new HashMap<Integer, List<MailboxBlobInfo>>();
+                for (MailboxBlobInfo info : blobs) {
+                    if (isStopProcessing()) {
+                        break;
+                    }
+                    List<MailboxBlobInfo> batch = batches.get(info.mailboxId);
+                    if (batch == null) {
+                        batch = new ArrayList<MailboxBlobInfo>(batchSize);
+                        batches.put(info.mailboxId, batch);
+                    }
+                    batch.add(info);
+                    if (batch.size() >= batchSize) {
+                        batches.remove(info.mailboxId);
+                        tasks.add(submit(pool, queued, info.mailboxId, batch));
+                    }
+                }
+                for (Map.Entry<Integer, List<MailboxBlobInfo>> entry : batches.entrySet()) {
+                    if (isStopProcessing()) {
+                        break;
+                    }
+                    tasks.add(submit(pool, queued, entry.getKey(), entry.getValue()));
+                }
+                for (Future<?> task : tasks) {
+                    try {
+                        task.get();
+                    } catch (ExecutionException e) {
+                        ZimbraLog.store.warn("error while migrating blobs in mailbox group %d", groupId, e.getCause());
+                    }
+                }
+            } finally {
+                blobs.cleanup();
+            }
+        }
+
+        private Future<?> submit(ExecutorService pool, final Semaphore queued, final int mailboxId,
+                final List<MailboxBlobInfo> batch) throws InterruptedException {
+            queued.acquire();
+            return pool.submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        migrateBatch(mailboxId, batch);
+                    } catch (ServiceException e) {
+                        ZimbraLog.store.warn("unable to migrate blobs of mailbox %d", mailboxId, e);
+                    } finally {
+                        queued.release();
+                    }
+                }
+            });
+        }
+
+        private void migrateBatch(int mailboxId, List<MailboxBlobInfo> batch) throws ServiceException {
+            if (isStopProcessing()) {
+                return;
+            }
+            Mailbox mbox;
+            try {
+                mbox = MailboxManager.getInstance().getMailboxById(mailboxId);
+            } catch (ServiceException e) {
+                incrementCounts(0, 0, batch.size());
+                throw e;
+            }
+            relocateBatch(store, mbox, copyBatch(store, mbox, batch, destVolumeId, rateLimiter), destLocator);
+        }
+
+        private List<Integer> getSortedGroupIds() throws ServiceException {
+            DbConnection conn = null;
+            try {
+                conn = DbPool.getConnection();
+                List<Integer> groupList = new ArrayList<Integer>(DbMailbox.getMboxGroupIds(conn));
+                Collections.sort(groupList);
+                return groupList;
+            } finally {
+                DbPool.quietClose(conn);
+            }
+        }
+
+        private void updateMetadata(VolumeMetadata metadata) throws ServiceException {
+            VolumeManager mgr = VolumeManager.getInstance();
+            mgr.update(Volume.builder(mgr.getVolume(srcVolumeId)).setMetadata(metadata).build());
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.zimbra.cs.store.file;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -30,6 +31,7 @@ import com.zimbra.common.util.ZimbraLog;
 import com.zimbra.cs.mailbox.Mailbox;
 import com.zimbra.cs.store.Blob;
 import com.zimbra.cs.store.BlobBuilder;
+import com.zimbra.cs.store.BlobCodec;
 import com.zimbra.cs.store.BlobInputStream;
 import com.zimbra.cs.store.FileDescriptorCache;
 import com.zimbra.cs.store.IncomingDirectory;
@@ -170,25 +172,26 @@ public final class FileBlobStore extends StoreManager {
 
         ensureParentDirExists(dest);
 
-        boolean destCompressed;
+        boolean sync = !DebugConfig.disableMessageStoreFsync;
+        BlobCodec destCodec;
         if (destVolume.isCompressBlobs()) {
             if (src.isCompressed() || srcFile.length() <= destVolume.getCompressionThreshold()) {
-                FileUtil.copy(srcFile, dest, !DebugConfig.disableMessageStoreFsync);
-                destCompressed = src.isCompressed();
+                FileUtil.copy(srcFile, dest, sync);
+                destCodec = src.getCodec();
             } else {
-                FileUtil.compress(srcFile, dest, !DebugConfig.disableMessageStoreFsync);
-                destCompressed = true;
+                destCodec = destVolume.getBlobCodec();
+                destCodec.encode(srcFile, dest, sync);
             }
         } else {
             if (src.isCompressed()) {
-                FileUtil.uncompress(srcFile, dest, !DebugConfig.disableMessageStoreFsync);
+                FileUtil.uncompress(src.getCodec().newInputStream(new FileInputStream(srcFile)), dest, sync);
             } else {
-                FileUtil.copy(srcFile, dest, !DebugConfig.disableMessageStoreFsync);
+                FileUtil.copy(srcFile, dest, sync);
             }
-            destCompressed = false;
+            destCodec = BlobCodec.NONE;
         }
 
-        VolumeBlob newBlob = (VolumeBlob) new VolumeBlob(dest, destVolume.getId()).copyCachedDataFrom(src).setCompressed(destCompressed);
+        VolumeBlob newBlob = (VolumeBlob) new VolumeBlob(dest, destVolume.getId()).copyCachedDataFrom(src).setCodec(destCodec);
         return new VolumeMailboxBlob(destMbox, destItemId, destRevision, destVolume.getLocator(), newBlob);
     }
 
@@ -22,6 +22,7 @@ import com.zimbra.common.service.ServiceException;
 import com.zimbra.common.util.ZimbraLog;
 import com.zimbra.cs.store.Blob;
 import com.zimbra.cs.store.BlobBuilder;
+import com.zimbra.cs.store.BlobCodec;
 import com.zimbra.cs.volume.VolumeManager;
 
 public final class VolumeBlobBuilder extends BlobBuilder {
@@ -46,6 +47,14 @@ public final class VolumeBlobBuilder extends BlobBuilder {
         }
     }
 
+    @Override
+    protected BlobCodec getCodec() throws IOException {
+        try {
+            return VolumeManager.getInstance().getVolume(getVolumeId()).getBlobCodec();
+        } catch (ServiceException e) {
+            throw new IOException("Unable to determine volume blob codec", e);
+        }
+    }
 
     @Override
     protected int getCompressionThreshold() {
@@ -53,11 +53,13 @@ public final class EhcacheManager {
     public static final String IMAP_ACTIVE_SESSION_CACHE = "imap-active-session-cache";
     public static final String IMAP_INACTIVE_SESSION_CACHE = "imap-inactive-session-cache";
     public static final String SYNC_STATE_ITEM_CACHE = "sync-state-item-cache";
+    public static final String IMAP_STRUCTURE_CACHE = "imap-structure-cache";
 
     private EhcacheManager(Service service) {
         cacheManager = CacheManagerBuilder.newCacheManagerBuilder()
                 .with(CacheManagerBuilder.persistence(LC.zimbra_home.value() + File.separator + "data" + File.separator + service.val))
                 .withCache(IMAP_ACTIVE_SESSION_CACHE, createImapActiveSessionCache())
+                .withCache(IMAP_STRUCTURE_CACHE, createImapStructureCache())
                 .build(true);
 
         if (MemcachedConnector.isConnected()) {
@@ -123,6 +125,15 @@ public final class EhcacheManager {
                 .build();
     }
 
+    private CacheConfiguration<String, String> createImapStructureCache() {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(String.class,
+                String.class,
+                ResourcePoolsBuilder.newResourcePoolsBuilder()
+                .heap(LC.imap_structure_cache_heap_size.longValue(), MemoryUnit.B)
+                .disk(LC.imap_structure_cache_max_disk_size.longValue(), MemoryUnit.B, true)) // disk backed persistent store
+                .build();
+    }
+
     private CacheConfiguration<String, String> createActiveSyncStateItemCache() {
         long heapSize;
         long timeout;
@@ -163,6 +174,10 @@ public final class EhcacheManager {
         return cacheManager.getCache(SYNC_STATE_ITEM_CACHE, String.class, String.class);
     }
 
+    public Cache<String, String> getImapStructureEhcache() {
+        return cacheManager.getCache(IMAP_STRUCTURE_CACHE, String.class, String.class);
+    }
+
     public void shutdown() {
         cacheManager.close();
     }
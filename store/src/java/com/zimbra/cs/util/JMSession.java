@@ -452,6 +452,7 @@ public final class JMSession {
         ZimbraLog.smtp.info(
             "Disallowing connections to %s for %d milliseconds.", hostName, LC.smtp_host_retry_millis.intValue());
         sBadSmtpHosts.put(hostName.toLowerCase(), null);
+        SmtpTransportPool.getInstance().evict(hostName);
     }
 
     private static final String[] NO_HOSTS = new String[0];
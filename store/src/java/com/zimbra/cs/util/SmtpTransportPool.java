@@ -0,0 +1,378 @@
+/*
+ * ***** BEGIN LICENSE BLOCK *****
+ * Zimbra Collaboration Suite Server
+ * Copyright (C) 2021 Synacor, Inc.
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software Foundation,
+ * version 2 of the License.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.
+ * If not, see <https://www.gnu.org/licenses/>.
+ * ***** END LICENSE BLOCK *****
+ */
+
+package com.zimbra.cs.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TimerTask;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+import com.zimbra.common.localconfig.LC;
+import com.zimbra.common.util.ZimbraLog;
+import com.zimbra.cs.mailclient.smtp.SmtpTransport;
+import com.zimbra.cs.stats.ZimbraPerf;
+
+/**
+ * Keeps connected SMTP {@link Transport}s around so that consecutive sends to
+ * the same MTA don't each pay for a TCP connect, EHLO and STARTTLS.
+ * <p>
+ * Transports are pooled per MTA host and per set of JavaMail session settings,
+ * since most of those settings (port, TLS, timeouts, partial send, DSN) are fixed
+ * when the connection is made.  The envelope sender is the only setting that is
+ * applied per message.  Each pooled transport owns a private copy of the session
+ * for that reason.
+ * <p>
+ * Sessions that authenticate to the MTA are never pooled: their credentials
+ * live in the session's {@link javax.mail.Authenticator}, which can't be carried
+ * over to a copy of the session, and a connection authenticated as one user
+ * must not be handed to another.
+ * <p>
+ * A transport is checked with {@code RSET} (or {@code NOOP} for the JavaMail
+ * transport) before it is handed out again, and transports that have been idle
+ * for longer than {@link LC#smtp_transport_pool_idle_timeout_millis} are closed.
+ */
+public final class SmtpTransportPool {
+
+    private static final String SMTP_FROM_PROPERTY = "mail.smtp.from";
+    private static final String SMTP_HOST_PROPERTY = "mail.smtp.host";
+    private static final String SMTP_KEEPALIVE_PROPERTY = "mail.smtp.keepalive";
+
+    private static final SmtpTransportPool INSTANCE = new SmtpTransportPool();
+
+    private final ConcurrentMap<String, HostPool> pools = new ConcurrentHashMap<String, HostPool>();
+    private final AtomicBoolean sweeperScheduled = new AtomicBoolean(false);
+
+    public static SmtpTransportPool getInstance() {
+        return INSTANCE;
+    }
+
+    public static boolean isEnabled() {
+        return LC.smtp_transport_pool_enabled.booleanValue();
+    }
+
+    /**
+     * Returns a connected transport for sending to the given MTA with the settings
+     * of the given session.  The caller must hand the transport back with
+     * {@link PooledTransport#release(boolean)}.
+     * <p>
+     * If all pooled connections to the host are busy for longer than
+     * {@link LC#smtp_transport_pool_borrow_timeout_millis}, a connection that
+     * will not be pooled is returned instead.
+     */
+    public PooledTransport borrow(Session session, String hostname) throws MessagingException {
+        if (isAuthenticated(session)) {
+            return PooledTransport.connect(session, hostname);
+        }
+        String key = getKey(session, hostname);
+        HostPool pool = pools.get(key);
+        if (pool == null) {
+            HostPool newPool = new HostPool(hostname);
+            pool = pools.putIfAbsent(key, newPool);
+            if (pool == null) {
+                pool = newPool;
+            }
+        }
+        scheduleSweeper();
+        return pool.borrow(session);
+    }
+
+    /**
+     * Closes all idle transports to the given host, e.g. after the host was
+     * found to be unreachable.
+     */
+    public void evict(String hostname) {
+        for (HostPool pool : pools.values()) {
+            if (pool.hostname.equalsIgnoreCase(hostname)) {
+                pool.closeIdle(0);
+            }
+        }
+    }
+
+    /**
+     * Closes idle transports that exceeded the idle timeout.
+     */
+    void sweep() {
+        long maxIdle = LC.smtp_transport_pool_idle_timeout_millis.longValue();
+        for (HostPool pool : pools.values()) {
+            pool.closeIdle(maxIdle);
+        }
+    }
+
+    private void scheduleSweeper() {
+        if (!sweeperScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        long interval = Math.max(1000L, LC.smtp_transport_pool_idle_timeout_millis.longValue());
+        try {
+            Zimbra.sTimer.schedule(new TimerTask() {
+                @Override
+                public void run() {
+                    try {
+                        sweep();
+                    } catch (Throwable t) {
+                        ZimbraLog.smtp.warn("Unable to close idle SMTP connections", t);
+                    }
+                }
+            }, interval, interval);
+        } catch (IllegalStateException e) {
+            // timer was cancelled during shutdown; idle transports are still closed on borrow
+            ZimbraLog.smtp.debug("Unable to schedule SMTP transport pool sweeper", e);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the session logs in to the MTA, either because SMTP AUTH
+     * is turned on or because it has an {@link javax.mail.Authenticator}.
+     */
+    static boolean isAuthenticated(Session session) {
+        if (Boolean.parseBoolean(session.getProperty("mail.smtp.auth")) ||
+                Boolean.parseBoolean(session.getProperty("mail.smtps.auth"))) {
+            return true;
+        }
+        return session.requestPasswordAuthentication(null, 0, "smtp", null, null) != null;
+    }
+
+    /**
+     * Returns the pool key for the host and the session settings, minus the
+     * per-message envelope sender.
+     */
+    private static String getKey(Session session, String hostname) {
+        Properties props = session.getProperties();
+        Map<String, String> settings = new TreeMap<String, String>();
+        for (String name : props.stringPropertyNames()) {
+            if (!SMTP_FROM_PROPERTY.equals(name) && !SMTP_HOST_PROPERTY.equals(name)) {
+                settings.put(name, props.getProperty(name));
+            }
+        }
+        return hostname.toLowerCase() + settings;
+    }
+
+    private static final class HostPool {
+        final String hostname;
+        private final Semaphore permits = new Semaphore(Math.max(1, LC.smtp_transport_pool_max_per_host.intValue()));
+        private final Deque<PooledTransport> idle = new ArrayDeque<PooledTransport>();
+
+        HostPool(String hostname) {
+            this.hostname = hostname;
+        }
+
+        PooledTransport borrow(Session session) throws MessagingException {
+            long start = ZimbraPerf.STOPWATCH_SMTP_POOL_BORROW.start();
+            boolean pooled;
+            try {
+                pooled = permits.tryAcquire(LC.smtp_transport_pool_borrow_timeout_millis.longValue(),
+                        TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pooled = false;
+            } finally {
+                ZimbraPerf.STOPWATCH_SMTP_POOL_BORROW.stop(start);
+            }
+            if (!pooled) {
+                ZimbraLog.smtp.debug("All pooled SMTP connections to %s are busy, opening an unpooled connection",
+                        hostname);
+                return PooledTransport.connect(this, session, false);
+            }
+
+            boolean success = false;
+            try {
+                PooledTransport transport;
+                while ((transport = pollIdle()) != null) {
+                    if (transport.isUsable()) {
+                        ZimbraPerf.COUNTER_SMTP_POOL_REUSE.increment();
+                        success = true;
+                        return transport;
+                    }
+                    transport.closeQuietly();
+                }
+                transport = PooledTransport.connect(this, session, true);
+                success = true;
+                return transport;
+            } finally {
+                if (!success) {
+                    permits.release();
+                }
+            }
+        }
+
+        void release(PooledTransport transport, boolean reusable) {
+            if (!transport.pooled) {
+                transport.closeQuietly();
+                return;
+            }
+            try {
+                if (reusable && transport.transport.isConnected()) {
+                    transport.lastUsed = System.currentTimeMillis();
+                    synchronized (this) {
+                        // most recently used first, so that surplus connections age out
+                        idle.addFirst(transport);
+                    }
+                } else {
+                    transport.closeQuietly();
+                }
+            } finally {
+                permits.release();
+            }
+        }
+
+        private synchronized PooledTransport pollIdle() {
+            return idle.pollFirst();
+        }
+
+        void closeIdle(long maxIdleMillis) {
+            long cutoff = System.currentTimeMillis() - maxIdleMillis;
+            List<PooledTransport> expired = new ArrayList<PooledTransport>();
+            synchronized (this) {
+                for (Iterator<PooledTransport> it = idle.iterator(); it.hasNext(); ) {
+                    PooledTransport transport = it.next();
+                    if (transport.lastUsed <= cutoff) {
+                        it.remove();
+                        expired.add(transport);
+                    }
+                }
+            }
+            for (PooledTransport transport : expired) {
+                transport.closeQuietly();
+            }
+        }
+    }
+
+    /**
+     * A connected SMTP transport borrowed from the pool.
+     */
+    public static final class PooledTransport {
+        private final HostPool pool;
+        private final Session session;
+        private final Transport transport;
+        private final boolean pooled;
+        private volatile long lastUsed;
+
+        private PooledTransport(HostPool pool, Session session, Transport transport, boolean pooled) {
+            this.pool = pool;
+            this.session = session;
+            this.transport = transport;
+            this.pooled = pooled;
+        }
+
+        /**
+         * Connects with the caller's own session, keeping its authenticator, for a
+         * transport that is closed when it is released.
+         */
+        static PooledTransport connect(Session session, String hostname) throws MessagingException {
+            Transport transport = session.getTransport("smtp");
+            transport.connect();
+            ZimbraLog.smtp.debug("Opened unpooled authenticated SMTP connection to %s", hostname);
+            return new PooledTransport(null, session, transport, false);
+        }
+
+        static PooledTransport connect(HostPool pool, Session template, boolean pooled) throws MessagingException {
+            Properties props = new Properties();
+            Properties source = template.getProperties();
+            for (String name : source.stringPropertyNames()) {
+                props.setProperty(name, source.getProperty(name));
+            }
+            props.remove(SMTP_FROM_PROPERTY);
+            props.setProperty(SMTP_HOST_PROPERTY, pool.hostname);
+            props.setProperty(SMTP_KEEPALIVE_PROPERTY, Boolean.toString(pooled));
+            Session session = Session.getInstance(props);
+            JMSession.setProviders(session);
+
+            Transport transport = session.getTransport("smtp");
+            transport.connect();
+            ZimbraPerf.COUNTER_SMTP_POOL_CONNECT.increment();
+            ZimbraLog.smtp.debug("Opened %s SMTP connection to %s", pooled ? "pooled" : "unpooled", pool.hostname);
+            return new PooledTransport(pool, session, transport, pooled);
+        }
+
+        /**
+         * Sends the message.
+         *
+         * @param envelopeFrom the envelope sender, or {@code null} to use the
+         *  sender from the message headers
+         */
+        public void sendMessage(MimeMessage mm, Address[] rcpts, String envelopeFrom) throws MessagingException {
+            if (envelopeFrom != null) {
+                session.getProperties().setProperty(SMTP_FROM_PROPERTY, envelopeFrom);
+            } else {
+                session.getProperties().remove(SMTP_FROM_PROPERTY);
+            }
+            transport.sendMessage(mm, rcpts);
+        }
+
+        /**
+         * Hands the transport back to the pool.
+         *
+         * @param reusable {@code false} if the last send failed and the connection
+         *  should not be used again
+         */
+        public void release(boolean reusable) {
+            if (pool == null) {
+                closeQuietly();
+            } else {
+                pool.release(this, reusable);
+            }
+        }
+
+        /**
+         * Returns {@code true} if the connection has not timed out and the MTA
+         * still responds on it.
+         */
+        boolean isUsable() {
+            if (System.currentTimeMillis() - lastUsed > LC.smtp_transport_pool_idle_timeout_millis.longValue()) {
+                return false;
+            }
+            try {
+                // JavaMail's SMTPTransport issues a NOOP to check the connection
+                if (!transport.isConnected()) {
+                    return false;
+                }
+                if (transport instanceof SmtpTransport) {
+                    ((SmtpTransport) transport).rset();
+                }
+                return true;
+            } catch (MessagingException e) {
+                ZimbraLog.smtp.debug("Discarding pooled SMTP connection to %s", pool.hostname, e);
+                return false;
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                ZimbraLog.smtp.debug("Error closing SMTP connection to %s", transport.getURLName(), e);
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.zimbra.common.localconfig.LC;
 import com.zimbra.common.service.ServiceException;
 import com.zimbra.cs.account.Provisioning;
 import com.zimbra.cs.mailbox.Metadata;
+import com.zimbra.cs.store.BlobCodec;
 import com.zimbra.cs.store.IncomingDirectory;
 import com.zimbra.cs.util.Zimbra;
 import com.zimbra.soap.admin.type.VolumeInfo;
@@ -50,6 +51,8 @@ public final class Volume {
 
     private static final String INCOMING_DIR = "incoming";
 
+    private static final String FN_BLOB_CODEC = "bc";
+
     private short id = Volume.ID_AUTO_INCREMENT;
     private short type;
     private String name;
@@ -64,22 +67,35 @@ public final class Volume {
     private int fileGroupBitmask;
     private boolean compressBlobs;
     private long compressionThreshold;
+    private BlobCodec blobCodec = BlobCodec.GZIP;
     private Metadata metadata;
     
     public static class VolumeMetadata {
         private int lastSyncDate;
         private int currentSyncDate;
         private int groupId;
+        // state of an unfinished move of blobs off this volume
+        private short moveDestVolumeId = ID_NONE;
+        private int moveCutoffDate;
+        private int moveGroupId;
 
         private static final String FN_DATE_LASTSYNC = "lsd";
         private static final String FN_DATE_CURRENTSYNC = "csd";
         private static final String FN_LAST_GROUP_ID = "gid";
+        private static final String FN_MOVE_DEST_ID = "mvd";
+        private static final String FN_MOVE_CUTOFF_DATE = "mvc";
+        private static final String FN_MOVE_GROUP_ID = "mvg";
 
         Metadata serialize() {
             Metadata meta = new Metadata();
             meta.put(FN_DATE_LASTSYNC, lastSyncDate);
             meta.put(FN_DATE_CURRENTSYNC, currentSyncDate);
             meta.put(FN_LAST_GROUP_ID, groupId);
+            if (moveCutoffDate != 0) {
+                meta.put(FN_MOVE_DEST_ID, moveDestVolumeId);
+                meta.put(FN_MOVE_CUTOFF_DATE, moveCutoffDate);
+                meta.put(FN_MOVE_GROUP_ID, moveGroupId);
+            }
             return meta;
         }
 
@@ -87,6 +103,9 @@ public final class Volume {
             this.lastSyncDate = meta.getInt(FN_DATE_LASTSYNC, 0);
             this.currentSyncDate = meta.getInt(FN_DATE_CURRENTSYNC, 0);
             this.groupId = meta.getInt(FN_LAST_GROUP_ID, 0);
+            this.moveDestVolumeId = meta.getShort(FN_MOVE_DEST_ID, ID_NONE);
+            this.moveCutoffDate = meta.getInt(FN_MOVE_CUTOFF_DATE, 0);
+            this.moveGroupId = meta.getInt(FN_MOVE_GROUP_ID, 0);
         }
         
         public VolumeMetadata(int lastSyncDate, int currentSyncDate, int groupId) {
@@ -118,6 +137,35 @@ public final class Volume {
         public void setGroupId(int id) {
             this.groupId = id;
         }
+
+        /**
+         * Returns the volume that an unfinished move of blobs off this volume is moving them to,
+         * or {@link Volume#ID_NONE}.
+         */
+        public short getMoveDestVolumeId() {
+            return moveDestVolumeId;
+        }
+
+        /**
+         * Returns the date in seconds that an unfinished move moves blobs older than, or 0 if no
+         * move is in progress.
+         */
+        public int getMoveCutoffDate() {
+            return moveCutoffDate;
+        }
+
+        /**
+         * Returns the last mailbox group that an unfinished move has finished.
+         */
+        public int getMoveGroupId() {
+            return moveGroupId;
+        }
+
+        public void setMove(short destVolumeId, int cutoffDate, int groupId) {
+            this.moveDestVolumeId = destVolumeId;
+            this.moveCutoffDate = cutoffDate;
+            this.moveGroupId = groupId;
+        }
         
         public String toString() {
             return serialize().toString();
@@ -152,6 +200,7 @@ public final class Volume {
             volume.fileBits = copy.fileBits;
             volume.compressBlobs = copy.compressBlobs;
             volume.compressionThreshold = copy.compressionThreshold;
+            volume.blobCodec = copy.blobCodec;
             volume.metadata = copy.metadata;
             
         }
@@ -211,6 +260,21 @@ public final class Volume {
             return this;
         }
         
+        public Builder setBlobCodec(BlobCodec value) {
+            volume.blobCodec = value;
+            return this;
+        }
+
+        /**
+         * Sets the blob codec saved in the <tt>metadata</tt> column by {@link Volume#encodeMetadata}.
+         * Volumes saved before blob codecs existed use GZIP.
+         */
+        public Builder setBlobCodec(Metadata meta) throws ServiceException {
+            String name = meta.get(FN_BLOB_CODEC, null);
+            volume.blobCodec = name != null ? BlobCodec.forName(name) : BlobCodec.GZIP;
+            return this;
+        }
+
         public Builder setMetadata(VolumeMetadata metadata) {
             volume.metadata = metadata.serialize();
             return this;
@@ -246,6 +310,9 @@ public final class Volume {
             if (volume.compressionThreshold < 0) {
                 throw VolumeServiceException.INVALID_REQUEST("compressionThreshold cannot be a negative number");
             }
+            if (volume.blobCodec == null) {
+                throw VolumeServiceException.INVALID_REQUEST("Missing blob codec");
+            }
 
             volume.incomingMsgDir = volume.rootPath + File.separator + INCOMING_DIR;
             switch (volume.type) {
@@ -314,11 +381,30 @@ public final class Volume {
     public long getCompressionThreshold() {
         return compressionThreshold;
     }
+
+    /**
+     * Returns the codec that new blobs are compressed with when {@link #isCompressBlobs} is set.
+     */
+    public BlobCodec getBlobCodec() {
+        return blobCodec;
+    }
     
     public VolumeMetadata getMetadata() throws ServiceException {
         return new VolumeMetadata(metadata);
     }
 
+    /**
+     * Returns the value stored in the <tt>metadata</tt> column: the {@link VolumeMetadata}
+     * and the blob codec.
+     */
+    public String encodeMetadata() throws ServiceException {
+        Metadata meta = getMetadata().serialize();
+        if (blobCodec != BlobCodec.GZIP) {
+            meta.put(FN_BLOB_CODEC, blobCodec.getName());
+        }
+        return meta.toString();
+    }
+
     public static String getAbsolutePath(String path) throws ServiceException {
         //return LC.zimbra_relative_volume_path.booleanValue() ? LC.zimbra_home.value() + File.separator + getConfiguredRootPath(path) : path;
     	return LC.zimbra_relative_volume_path.booleanValue() ? LC.zimbra_home.value() + File.separator + path : path;
@@ -464,6 +550,7 @@ public final class Volume {
                 .add("mboxGroupBits", mboxGroupBits).add("mboxBits", mboxBits)
                 .add("fileGroupBits", fileGroupBits).add("fileBits", fileBits)
                 .add("compressBlobs", compressBlobs).add("compressionThreshold",compressionThreshold)
+                .add("blobCodec", blobCodec)
                 .toString();
     }
 
@@ -479,6 +566,7 @@ public final class Volume {
         jaxb.setFbits(fileBits);
         jaxb.setCompressBlobs(compressBlobs);
         jaxb.setCompressionThreshold(compressionThreshold);
+        jaxb.setBlobCodec(blobCodec.getName());
         jaxb.setCurrent(VolumeManager.getInstance().isCurrent(this));
         return jaxb;
     }
@@ -60,6 +60,7 @@ public final class VolumeCLI extends SoapCLI {
     private static final String O_P = "p";
     private static final String O_C = "c";
     private static final String O_CT = "ct";
+    private static final String O_CC = "cc";
 
     private VolumeCLI() throws ServiceException {
         super();
@@ -73,6 +74,7 @@ public final class VolumeCLI extends SoapCLI {
     private String path;
     private String compress;
     private String compressThreshold;
+    private String codec;
 
     private void setArgs(CommandLine cl) throws ServiceException, ParseException, IOException {
         auth = getZAuthToken(cl);
@@ -82,6 +84,7 @@ public final class VolumeCLI extends SoapCLI {
         path = cl.getOptionValue(O_P);
         compress = cl.getOptionValue(O_C);
         compressThreshold = cl.getOptionValue(O_CT);
+        codec = cl.getOptionValue(O_CC);
     }
 
     public static void main(String[] args) {
@@ -186,7 +189,8 @@ public final class VolumeCLI extends SoapCLI {
         System.out.println("        path: " + vol.getRootPath());
         System.out.print("  compressed: " + vol.isCompressBlobs());
         if (vol.isCompressBlobs()) {
-            System.out.println("\t         threshold: " + vol.getCompressionThreshold() + " bytes");
+            System.out.println("\t         threshold: " + vol.getCompressionThreshold() + " bytes" +
+                    "\t codec: " + (vol.getBlobCodec() != null ? vol.getBlobCodec() : "gzip"));
         } else {
             System.out.println();
         }
@@ -226,6 +230,9 @@ public final class VolumeCLI extends SoapCLI {
         if (!Strings.isNullOrEmpty(compressThreshold)) {
             vol.setCompressionThreshold(Long.parseLong(compressThreshold));
         }
+        if (!Strings.isNullOrEmpty(codec)) {
+            vol.setBlobCodec(codec);
+        }
         ModifyVolumeRequest req = new ModifyVolumeRequest(Short.parseShort(id), vol);
         auth(auth);
         getTransport().invokeWithoutSession(JaxbUtil.jaxbToElement(req));
@@ -252,6 +259,9 @@ public final class VolumeCLI extends SoapCLI {
         vol.setRootPath(path);
         vol.setCompressBlobs(compress != null ? Boolean.parseBoolean(compress) : false);
         vol.setCompressionThreshold(compressThreshold != null ? Long.parseLong(compressThreshold) : 4096L);
+        if (!Strings.isNullOrEmpty(codec)) {
+            vol.setBlobCodec(codec);
+        }
         CreateVolumeRequest req = new CreateVolumeRequest(vol);
         auth();
         CreateVolumeResponse resp = JaxbUtil.elementToJaxb(getTransport().invokeWithoutSession(
@@ -284,6 +294,8 @@ public final class VolumeCLI extends SoapCLI {
         options.addOption(O_P, "path", true, "Root path");
         options.addOption(O_C, "compress", true, "Compress blobs; \"true\" or \"false\"");
         options.addOption(O_CT, "compressionThreshold", true, "Compression threshold; default 4KB");
+        options.addOption(O_CC, "compressionCodec", true,
+                "Compression codec; \"gzip\" (default), \"deflate-1\" to \"deflate-9\", \"frame\" or \"none\"");
         options.addOption(SoapCLI.OPT_AUTHTOKEN);
         options.addOption(SoapCLI.OPT_AUTHTOKENFILE);
     }
@@ -301,6 +313,7 @@ public final class VolumeCLI extends SoapCLI {
         printOpt(O_P, 2);
         printOpt(O_C, 2);
         printOpt(O_CT, 2);
+        printOpt(O_CC, 2);
         printOpt(O_E, 0);
         printOpt(O_ID, 2);
         System.err.println("  any of the options listed under -a can also be specified " );
@@ -19,9 +19,11 @@ package com.zimbra.soap;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletException;
 import javax.servlet.UnavailableException;
@@ -77,6 +79,11 @@ public class SoapServlet extends ZimbraServlet {
     public static final String IS_ADMIN_REQUEST = "zimbra.isadminreq";
     /** Flag for requests that want to force invalidation of client cookies */
     public static final String INVALIDATE_COOKIES = "zimbra.invalidateCookies";
+    /** Set if the response will be written with chunked transfer encoding, so handlers
+     *  may return {@link Element.StreamingElement} children that are encoded while being sent */
+    public static final String STREAMING_RESPONSE = "zimbra.streamingResponse";
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
 
     /**
      * Keeps track of extra services added by extensions.
@@ -303,6 +310,9 @@ public class SoapServlet extends ZimbraServlet {
         //checkAuthToken(req.getCookies(), context);
         context.put(SoapEngine.REQUEST_PORT, req.getServerPort());
         context.put(SoapEngine.ORIG_REQUEST_USER_AGENT, req.getHeader(HeaderConstants.HTTP_HEADER_ORIG_USER_AGENT));
+        if (LC.soap_response_streaming_enabled.booleanValue() && isChunkingEnabled(req)) {
+            context.put(STREAMING_RESPONSE, Boolean.TRUE);
+        }
         Element envelope = null;
         try {
             envelope = mEngine.dispatch(req.getRequestURI(), buffer, context);
@@ -341,25 +351,33 @@ public class SoapServlet extends ZimbraServlet {
             return LC.soap_response_buffer_size.intValue();
     }
 
+    private boolean isChunkingEnabled(HttpServletRequest req) {
+        if (!LC.soap_response_chunked_transfer_encoding_enabled.booleanValue()) {
+            return false;
+        }
+        // disable chunking if proto < HTTP 1.1
+        String proto = req.getProtocol();
+        try {
+            ProtocolVersion httpVer = BasicLineParser.parseProtocolVersion(proto, new BasicLineParser());
+            return !httpVer.lessEquals(HttpVersion.HTTP_1_0);
+        } catch (ParseException e) {
+            ZimbraLog.soap.warn("cannot parse http version in request: %s, http chunked transfer encoding disabled",
+                    proto, e);
+            return false;
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest req) {
+        String accept = req.getHeader("Accept-Encoding");
+        return accept != null && accept.toLowerCase().contains("gzip");
+    }
+
     private void sendResponse(HttpServletRequest req, HttpServletResponse resp, Element envelope) throws IOException {
         SoapProtocol soapProto = SoapProtocol.determineProtocol(envelope);
         int statusCode = soapProto.hasFault(envelope) ?
                 HttpServletResponse.SC_INTERNAL_SERVER_ERROR : HttpServletResponse.SC_OK;
 
-        boolean chunkingEnabled = LC.soap_response_chunked_transfer_encoding_enabled.booleanValue();
-
-        if (chunkingEnabled) {
-            // disable chunking if proto < HTTP 1.1
-            String proto = req.getProtocol();
-            try {
-                ProtocolVersion httpVer = BasicLineParser.parseProtocolVersion(proto, new BasicLineParser());
-                chunkingEnabled = !httpVer.lessEquals(HttpVersion.HTTP_1_0);
-            } catch (ParseException e) {
-                ZimbraLog.soap.warn("cannot parse http version in request: %s, http chunked transfer encoding disabled",
-                        proto, e);
-                chunkingEnabled = false;
-            }
-        }
+        boolean chunkingEnabled = isChunkingEnabled(req);
 
         // use jetty default if the LC key is not set
         int responseBufferSize = soapResponseBufferSize();
@@ -370,18 +388,32 @@ public class SoapServlet extends ZimbraServlet {
         resp.setStatus(statusCode);
         resp.setHeader("Cache-Control", "no-store, no-cache");
 
-        if (chunkingEnabled) {
-            // Let jetty chunk the response if applicable.
-            ZimbraServletOutputStream out = new ZimbraServletOutputStream(resp.getOutputStream());
-            envelope.output(out);
-            out.flush();
-        } else {
-            // serialize the envelope to a byte array and send the response with Content-Length header.
-            byte[] soapBytes = envelope.toUTF8();
-            resp.setContentLength(soapBytes.length);
-            resp.getOutputStream().write(soapBytes);
-            resp.getOutputStream().flush();
+        try {
+            if (chunkingEnabled) {
+                // Let jetty chunk the response if applicable.
+                OutputStream os = resp.getOutputStream();
+                GZIPOutputStream gzip = null;
+                if (LC.soap_response_gzip_enabled.booleanValue() && acceptsGzip(req)) {
+                    resp.setHeader("Content-Encoding", "gzip");
+                    resp.addHeader("Vary", "Accept-Encoding");
+                    os = gzip = new GZIPOutputStream(os, GZIP_BUFFER_SIZE);
+                }
+                ZimbraServletOutputStream out = new ZimbraServletOutputStream(os);
+                envelope.output(out);
+                out.flush();
+                if (gzip != null) {
+                    gzip.finish();
+                }
+            } else {
+                // serialize the envelope to a byte array and send the response with Content-Length header.
+                byte[] soapBytes = envelope.toUTF8();
+                resp.setContentLength(soapBytes.length);
+                resp.getOutputStream().write(soapBytes);
+                resp.getOutputStream().flush();
+            }
+        } finally {
+            // also releases the producers of any streaming elements that were not written
+            envelope.destroy();
         }
-        envelope.destroy();
     }
 }